@@ -157,6 +157,7 @@ public final class AlluxioBlockStore {
       List<TieredIdentity> locations = blockInfo.getLocations().stream()
           .map(location -> location.getWorkerAddress().getTieredIdentity())
           .collect(Collectors.toList());
+      // Spread the reads of a replicated block over its equally near replicas
       Collections.shuffle(locations);
       Optional<TieredIdentity> nearest = mTieredIdentity.nearest(locations);
       if (nearest.isPresent()) {
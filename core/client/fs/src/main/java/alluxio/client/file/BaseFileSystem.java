@@ -41,6 +41,7 @@ import alluxio.exception.status.InvalidArgumentException;
 import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.UnavailableException;
 import alluxio.wire.CommonOptions;
+import alluxio.wire.LoadInfo;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.MountPointInfo;
 
@@ -82,6 +83,31 @@ public class BaseFileSystem implements FileSystem {
     mFileSystemContext = context;
   }
 
+  @Override
+  public void applyBatch(FileSystemBatch batch) throws FileAlreadyExistsException,
+      FileDoesNotExistException, InvalidPathException, IOException, AlluxioException {
+    if (batch.isEmpty()) {
+      return;
+    }
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      masterClient.applyBatch(batch);
+      LOG.debug("Applied batch of {} operations", batch.size());
+    } catch (AlreadyExistsException e) {
+      throw new FileAlreadyExistsException(e.getMessage());
+    } catch (NotFoundException e) {
+      throw new FileDoesNotExistException(e.getMessage());
+    } catch (InvalidArgumentException e) {
+      throw new InvalidPathException(e.getMessage());
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public void createDirectory(AlluxioURI path)
       throws FileAlreadyExistsException, InvalidPathException, IOException, AlluxioException {
@@ -223,6 +249,20 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public LoadInfo getLoadStatus(long loadId) throws IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      return masterClient.getLoadStatus(loadId);
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   @Override
   public URIStatus getStatus(AlluxioURI path)
       throws FileDoesNotExistException, IOException, AlluxioException {
@@ -270,6 +310,25 @@ public class BaseFileSystem implements FileSystem {
     }
   }
 
+  @Override
+  public long load(AlluxioURI path)
+      throws FileDoesNotExistException, IOException, AlluxioException {
+    FileSystemMasterClient masterClient = mFileSystemContext.acquireMasterClient();
+    try {
+      long loadId = masterClient.load(path);
+      LOG.debug("Started load {} of {}", loadId, path.getPath());
+      return loadId;
+    } catch (NotFoundException e) {
+      throw new FileDoesNotExistException(e.getMessage());
+    } catch (UnavailableException e) {
+      throw e;
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    } finally {
+      mFileSystemContext.releaseMasterClient(masterClient);
+    }
+  }
+
   /**
    * {@inheritDoc}
    *
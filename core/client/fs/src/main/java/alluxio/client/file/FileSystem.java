@@ -35,6 +35,7 @@ import alluxio.exception.DirectoryNotEmptyException;
 import alluxio.exception.FileAlreadyExistsException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
+import alluxio.wire.LoadInfo;
 import alluxio.wire.MountPointInfo;
 
 import java.io.IOException;
@@ -72,6 +73,22 @@ public interface FileSystem {
     }
   }
 
+  /**
+   * Applies a batch of metadata operations with a single round trip to the master. The operations
+   * are applied in order, and the batch stops at the first failing operation; the operations
+   * before it remain applied. The master rejects batches with more operations than
+   * alluxio.master.file.batch.max.operations. If the connection to the master fails after the
+   * batch was sent, it is not resent and an {@link alluxio.exception.status.UnavailableException}
+   * is thrown, since the batch may or may not have been applied.
+   *
+   * @param batch the operations to apply
+   * @throws FileAlreadyExistsException if a file to create already exists
+   * @throws FileDoesNotExistException if a path to complete, delete or update does not exist
+   * @throws InvalidPathException if a path is invalid
+   */
+  void applyBatch(FileSystemBatch batch) throws FileAlreadyExistsException,
+      FileDoesNotExistException, InvalidPathException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #createDirectory(AlluxioURI, CreateDirectoryOptions)} with
    * default options.
@@ -177,6 +194,14 @@ public interface FileSystem {
   void free(AlluxioURI path, FreeOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Gets the progress of a distributed load started by {@link #load(AlluxioURI)}.
+   *
+   * @param loadId the id of the distributed load
+   * @return the {@link LoadInfo} of the load
+   */
+  LoadInfo getLoadStatus(long loadId) throws IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #getStatus(AlluxioURI, GetStatusOptions)} with default options.
    *
@@ -222,6 +247,17 @@ public interface FileSystem {
   List<URIStatus> listStatus(AlluxioURI path, ListStatusOptions options)
       throws FileDoesNotExistException, IOException, AlluxioException;
 
+  /**
+   * Starts loading the data of all files under a path from the under storage into Alluxio. The
+   * blocks are loaded by the workers in the background, use {@link #getLoadStatus(long)} to follow
+   * the progress of the load.
+   *
+   * @param path the path to load
+   * @return the id of the distributed load
+   * @throws FileDoesNotExistException if the given path does not exist
+   */
+  long load(AlluxioURI path) throws FileDoesNotExistException, IOException, AlluxioException;
+
   /**
    * Convenience method for {@link #loadMetadata(AlluxioURI, LoadMetadataOptions)} with default
    * options.
@@ -0,0 +1,181 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.file;
+
+import alluxio.AlluxioURI;
+import alluxio.annotation.PublicApi;
+import alluxio.client.file.options.CompleteFileOptions;
+import alluxio.client.file.options.CreateFileOptions;
+import alluxio.client.file.options.DeleteOptions;
+import alluxio.client.file.options.SetAttributeOptions;
+import alluxio.thrift.BatchOperation;
+import alluxio.thrift.BatchOperationTType;
+
+import com.google.common.base.Objects;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A batch of metadata operations to be applied by the file system master in a single RPC, see
+ * {@link FileSystem#applyBatch(FileSystemBatch)}. Operations are applied in the order they are
+ * added to the batch.
+ *
+ * Unlike {@link FileSystem#createFile(AlluxioURI, CreateFileOptions)}, creating a file as part of
+ * a batch only creates its metadata and does not open an output stream.
+ */
+@PublicApi
+@NotThreadSafe
+public final class FileSystemBatch {
+  private final List<BatchOperation> mOperations = new ArrayList<>();
+
+  /**
+   * Creates a new empty batch.
+   */
+  public FileSystemBatch() {}
+
+  /**
+   * Adds a file creation with default options to the batch.
+   *
+   * @param path the path of the file to create
+   * @return the updated batch
+   */
+  public FileSystemBatch createFile(AlluxioURI path) {
+    return createFile(path, CreateFileOptions.defaults());
+  }
+
+  /**
+   * Adds a file creation to the batch.
+   *
+   * @param path the path of the file to create
+   * @param options the method options
+   * @return the updated batch
+   */
+  public FileSystemBatch createFile(AlluxioURI path, CreateFileOptions options) {
+    mOperations.add(newOperation(BatchOperationTType.CreateFile, path)
+        .setCreateFileOptions(options.toThrift()));
+    return this;
+  }
+
+  /**
+   * Adds a file completion with default options to the batch.
+   *
+   * @param path the path of the file to complete
+   * @return the updated batch
+   */
+  public FileSystemBatch completeFile(AlluxioURI path) {
+    return completeFile(path, CompleteFileOptions.defaults());
+  }
+
+  /**
+   * Adds a file completion to the batch.
+   *
+   * @param path the path of the file to complete
+   * @param options the method options
+   * @return the updated batch
+   */
+  public FileSystemBatch completeFile(AlluxioURI path, CompleteFileOptions options) {
+    mOperations.add(newOperation(BatchOperationTType.CompleteFile, path)
+        .setCompleteFileOptions(options.toThrift()));
+    return this;
+  }
+
+  /**
+   * Adds a deletion with default options to the batch.
+   *
+   * @param path the path to delete
+   * @return the updated batch
+   */
+  public FileSystemBatch delete(AlluxioURI path) {
+    return delete(path, DeleteOptions.defaults());
+  }
+
+  /**
+   * Adds a deletion to the batch.
+   *
+   * @param path the path to delete
+   * @param options the method options
+   * @return the updated batch
+   */
+  public FileSystemBatch delete(AlluxioURI path, DeleteOptions options) {
+    mOperations.add(newOperation(BatchOperationTType.Delete, path)
+        .setDeleteOptions(options.toThrift()));
+    return this;
+  }
+
+  /**
+   * Adds a change of attributes to the batch.
+   *
+   * @param path the path to set attributes for
+   * @param options the attributes to set
+   * @return the updated batch
+   */
+  public FileSystemBatch setAttribute(AlluxioURI path, SetAttributeOptions options) {
+    mOperations.add(newOperation(BatchOperationTType.SetAttribute, path)
+        .setSetAttributeOptions(options.toThrift()));
+    return this;
+  }
+
+  /**
+   * @return the number of operations in the batch
+   */
+  public int size() {
+    return mOperations.size();
+  }
+
+  /**
+   * @return whether the batch contains no operations
+   */
+  public boolean isEmpty() {
+    return mOperations.isEmpty();
+  }
+
+  private static BatchOperation newOperation(BatchOperationTType type, AlluxioURI path) {
+    BatchOperation operation = new BatchOperation();
+    operation.setType(type);
+    operation.setPath(path.getPath());
+    return operation;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof FileSystemBatch)) {
+      return false;
+    }
+    FileSystemBatch that = (FileSystemBatch) o;
+    return Objects.equal(mOperations, that.mOperations);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mOperations);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+        .add("operations", mOperations)
+        .toString();
+  }
+
+  /**
+   * @return Thrift representation of the batch
+   */
+  public List<BatchOperation> toThrift() {
+    return new ArrayList<>(mOperations);
+  }
+}
@@ -29,6 +29,8 @@ import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.AlreadyExistsException;
 import alluxio.exception.status.NotFoundException;
 import alluxio.master.MasterClientConfig;
+import alluxio.wire.HotFileInfo;
+import alluxio.wire.LoadInfo;
 import alluxio.wire.MountPointInfo;
 
 import java.util.List;
@@ -57,6 +59,15 @@ public interface FileSystemMasterClient extends Client {
     }
   }
 
+  /**
+   * Applies a batch of metadata operations in a single RPC. The batch stops at the first failing
+   * operation; the operations before it remain applied. The batch is not resent if the connection
+   * fails after it was sent, since it may already have been applied.
+   *
+   * @param batch the operations to apply
+   */
+  void applyBatch(FileSystemBatch batch) throws AlluxioStatusException;
+
   /**
    * Checks the consistency of Alluxio metadata against the under storage for all files and
    * directories in a given subtree.
@@ -120,6 +131,20 @@ public interface FileSystemMasterClient extends Client {
    */
   URIStatus getStatus(AlluxioURI path, GetStatusOptions options) throws AlluxioStatusException;
 
+  /**
+   * @param limit the maximum number of files to return
+   * @return the files whose blocks were recently read the most, ordered by decreasing access
+   *         count
+   */
+  List<HotFileInfo> getHotFiles(int limit) throws AlluxioStatusException;
+
+  /**
+   * @param loadId the id of the distributed load
+   * @return the progress of the distributed load
+   * @throws NotFoundException if the load does not exist
+   */
+  LoadInfo getLoadStatus(long loadId) throws AlluxioStatusException;
+
   /**
    * @param path the file path
    * @return the next blockId for the file
@@ -135,6 +160,15 @@ public interface FileSystemMasterClient extends Client {
   List<URIStatus> listStatus(AlluxioURI path, ListStatusOptions options)
       throws AlluxioStatusException;
 
+  /**
+   * Starts loading the blocks of all files under the given path into Alluxio.
+   *
+   * @param path the path to load
+   * @return the id of the distributed load
+   * @throws NotFoundException if the path does not exist
+   */
+  long load(AlluxioURI path) throws AlluxioStatusException;
+
   /**
    * Loads the metadata of a file from the under file system.
    *
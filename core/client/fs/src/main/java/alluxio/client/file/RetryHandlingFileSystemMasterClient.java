@@ -29,12 +29,18 @@ import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.master.MasterClientConfig;
 import alluxio.thrift.AlluxioService;
+import alluxio.thrift.ApplyBatchTOptions;
 import alluxio.thrift.FileSystemMasterClientService;
+import alluxio.thrift.GetHotFilesTOptions;
+import alluxio.thrift.GetLoadStatusTOptions;
 import alluxio.thrift.GetMountTableTResponse;
 import alluxio.thrift.GetNewBlockIdForFileTOptions;
 import alluxio.thrift.LoadMetadataTOptions;
+import alluxio.thrift.LoadTOptions;
 import alluxio.thrift.ScheduleAsyncPersistenceTOptions;
 import alluxio.thrift.UnmountTOptions;
+import alluxio.wire.HotFileInfo;
+import alluxio.wire.LoadInfo;
 import alluxio.wire.ThriftUtils;
 
 import org.apache.thrift.TException;
@@ -86,6 +92,16 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     mClient = new FileSystemMasterClientService.Client(mProtocol);
   }
 
+  @Override
+  public synchronized void applyBatch(final FileSystemBatch batch)
+      throws AlluxioStatusException {
+    // Operations such as creating a file fail when applied twice, so the batch is not resent
+    retryNonIdempotentRPC(() -> {
+      mClient.applyBatch(batch.toThrift(), new ApplyBatchTOptions());
+      return null;
+    });
+  }
+
   @Override
   public synchronized List<AlluxioURI> checkConsistency(final AlluxioURI path,
       final CheckConsistencyOptions options) throws AlluxioStatusException {
@@ -155,6 +171,25 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
             .fromThrift(mClient.getStatus(path.getPath(), options.toThrift()).getFileInfo())));
   }
 
+  @Override
+  public synchronized List<HotFileInfo> getHotFiles(final int limit)
+      throws AlluxioStatusException {
+    return retryRPC(() -> {
+      List<HotFileInfo> result = new ArrayList<>();
+      for (alluxio.thrift.HotFileInfo hotFile : mClient
+          .getHotFiles(new GetHotFilesTOptions().setLimit(limit)).getHotFiles()) {
+        result.add(ThriftUtils.fromThrift(hotFile));
+      }
+      return result;
+    });
+  }
+
+  @Override
+  public synchronized LoadInfo getLoadStatus(final long loadId) throws AlluxioStatusException {
+    return retryRPC(() -> ThriftUtils
+        .fromThrift(mClient.getLoadStatus(loadId, new GetLoadStatusTOptions()).getLoadInfo()));
+  }
+
   @Override
   public synchronized long getNewBlockIdForFile(final AlluxioURI path)
       throws AlluxioStatusException {
@@ -193,6 +228,11 @@ public final class RetryHandlingFileSystemMasterClient extends AbstractMasterCli
     });
   }
 
+  @Override
+  public synchronized long load(final AlluxioURI path) throws AlluxioStatusException {
+    return retryRPC(() -> mClient.load(path.getPath(), new LoadTOptions()).getLoadId());
+  }
+
   @Override
   public synchronized void loadMetadata(final AlluxioURI path,
       final LoadMetadataOptions options) throws AlluxioStatusException {
@@ -42,6 +42,8 @@ public final class SetAttributeOptions {
   private String mGroup;
   private Mode mMode;
   private boolean mRecursive;
+  private Integer mReplicationMin;
+  private Integer mReplicationMax;
 
   /**
    * @return the default {@link SetAttributeOptions}
@@ -60,6 +62,8 @@ public final class SetAttributeOptions {
     mGroup = null;
     mMode = null;
     mRecursive = false;
+    mReplicationMin = null;
+    mReplicationMax = null;
   }
 
   /**
@@ -130,6 +134,20 @@ public final class SetAttributeOptions {
     return mRecursive;
   }
 
+  /**
+   * @return the minimum number of replicas of each block to keep in Alluxio
+   */
+  public Integer getReplicationMin() {
+    return mReplicationMin;
+  }
+
+  /**
+   * @return the maximum number of replicas of each block to keep in Alluxio
+   */
+  public Integer getReplicationMax() {
+    return mReplicationMax;
+  }
+
   /**
    * @param options the common options
    * @return the updated options object
@@ -228,6 +246,26 @@ public final class SetAttributeOptions {
     return this;
   }
 
+  /**
+   * @param replicationMin the minimum number of replicas of each block to keep in Alluxio; the
+   *        master copies blocks between workers until this many replicas exist
+   * @return the updated options object
+   */
+  public SetAttributeOptions setReplicationMin(int replicationMin) {
+    mReplicationMin = replicationMin;
+    return this;
+  }
+
+  /**
+   * @param replicationMax the maximum number of replicas of each block to keep in Alluxio, or
+   *        {@link alluxio.Constants#REPLICATION_MAX_INFINITY} for no limit
+   * @return the updated options object
+   */
+  public SetAttributeOptions setReplicationMax(int replicationMax) {
+    mReplicationMax = replicationMax;
+    return this;
+  }
+
   /**
    * @return Thrift representation of the options
    */
@@ -253,6 +291,12 @@ public final class SetAttributeOptions {
     if (mMode != null) {
       options.setMode(mMode.toShort());
     }
+    if (mReplicationMin != null) {
+      options.setReplicationMin(mReplicationMin);
+    }
+    if (mReplicationMax != null) {
+      options.setReplicationMax(mReplicationMax);
+    }
     options.setRecursive(mRecursive);
     options.setCommonOptions(mCommonOptions.toThrift());
     return options;
@@ -275,13 +319,15 @@ public final class SetAttributeOptions {
         && Objects.equal(mOwner, that.mOwner)
         && Objects.equal(mGroup, that.mGroup)
         && Objects.equal(mMode, that.mMode)
-        && Objects.equal(mRecursive, that.mRecursive);
+        && Objects.equal(mRecursive, that.mRecursive)
+        && Objects.equal(mReplicationMin, that.mReplicationMin)
+        && Objects.equal(mReplicationMax, that.mReplicationMax);
   }
 
   @Override
   public int hashCode() {
     return Objects.hashCode(mPinned, mTtl, mTtlAction, mPersisted, mOwner,
-        mGroup, mMode, mRecursive, mCommonOptions);
+        mGroup, mMode, mRecursive, mCommonOptions, mReplicationMin, mReplicationMax);
   }
 
   @Override
@@ -296,6 +342,8 @@ public final class SetAttributeOptions {
         .add("group", mGroup)
         .add("mode", mMode)
         .add("recursive", mRecursive)
+        .add("replicationMin", mReplicationMin)
+        .add("replicationMax", mReplicationMax)
         .toString();
   }
 }
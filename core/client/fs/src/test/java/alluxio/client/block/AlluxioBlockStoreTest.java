@@ -266,4 +266,31 @@ public final class AlluxioBlockStoreTest {
     }
     assertEquals(Sets.newHashSet(remote1, remote2), results);
   }
+
+  /**
+   * Tests that the reads of a replicated block are spread over the replicas which are equally near
+   * to the client, and never go to a farther replica.
+   */
+  @Test
+  public void getInStreamSpreadsOverNearestReplicas() throws Exception {
+    AlluxioBlockStore blockStore = new AlluxioBlockStore(mContext,
+        TieredIdentityFactory.fromString("node=" + WORKER_HOSTNAME_LOCAL + ",rack=rack1"));
+    WorkerNetAddress sameRack1 = new WorkerNetAddress().setHost("remote1")
+        .setTieredIdentity(TieredIdentityFactory.fromString("node=remote1,rack=rack1"));
+    WorkerNetAddress sameRack2 = new WorkerNetAddress().setHost("remote2")
+        .setTieredIdentity(TieredIdentityFactory.fromString("node=remote2,rack=rack1"));
+    WorkerNetAddress otherRack = new WorkerNetAddress().setHost("remote3")
+        .setTieredIdentity(TieredIdentityFactory.fromString("node=remote3,rack=rack2"));
+
+    when(mMasterClient.getBlockInfo(BLOCK_ID)).thenReturn(new BlockInfo().setLocations(
+        Arrays.asList(new BlockLocation().setWorkerAddress(otherRack),
+            new BlockLocation().setWorkerAddress(sameRack1),
+            new BlockLocation().setWorkerAddress(sameRack2))));
+    Set<WorkerNetAddress> results = new HashSet<>();
+    for (int i = 0; i < 40; i++) {
+      results.add(blockStore.getInStream(BLOCK_ID, OpenUfsBlockOptions.getDefaultInstance(),
+          InStreamOptions.defaults()).getAddress());
+    }
+    assertEquals(Sets.newHashSet(sameRack1, sameRack2), results);
+  }
 }
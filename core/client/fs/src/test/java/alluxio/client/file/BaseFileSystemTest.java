@@ -25,6 +25,7 @@ import alluxio.client.file.options.RenameOptions;
 import alluxio.client.file.options.SetAttributeOptions;
 import alluxio.client.file.options.UnmountOptions;
 import alluxio.wire.FileInfo;
+import alluxio.wire.LoadInfo;
 import alluxio.wire.LoadMetadataType;
 
 import org.junit.After;
@@ -81,6 +82,33 @@ public final class BaseFileSystemTest {
     Mockito.verify(mFileContext).releaseMasterClient(mFileSystemMasterClient);
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#applyBatch(FileSystemBatch)} method.
+   */
+  @Test
+  public void applyBatch() throws Exception {
+    FileSystemBatch batch = new FileSystemBatch()
+        .createFile(new AlluxioURI("/file"))
+        .delete(new AlluxioURI("/dir"), DeleteOptions.defaults().setRecursive(true));
+    mFileSystem.applyBatch(batch);
+    Mockito.verify(mFileSystemMasterClient).applyBatch(batch);
+  }
+
+  /**
+   * Ensures that an exception is propagated correctly when applying a batch.
+   */
+  @Test
+  public void applyBatchException() throws Exception {
+    FileSystemBatch batch = new FileSystemBatch().createFile(new AlluxioURI("/file"));
+    Mockito.doThrow(EXCEPTION).when(mFileSystemMasterClient).applyBatch(batch);
+    try {
+      mFileSystem.applyBatch(batch);
+      Assert.fail(SHOULD_HAVE_PROPAGATED_MESSAGE);
+    } catch (Exception e) {
+      Assert.assertSame(EXCEPTION, e);
+    }
+  }
+
   /**
    * Tests the creation of a file via the
    * {@link BaseFileSystem#createFile(AlluxioURI, CreateFileOptions)} method.
@@ -170,6 +198,27 @@ public final class BaseFileSystemTest {
     }
   }
 
+  /**
+   * Tests for the {@link BaseFileSystem#load(AlluxioURI)} method.
+   */
+  @Test
+  public void load() throws Exception {
+    AlluxioURI dir = new AlluxioURI("/dir");
+    Mockito.when(mFileSystemMasterClient.load(dir)).thenReturn(5L);
+    Assert.assertEquals(5L, mFileSystem.load(dir));
+    Mockito.verify(mFileSystemMasterClient).load(dir);
+  }
+
+  /**
+   * Tests for the {@link BaseFileSystem#getLoadStatus(long)} method.
+   */
+  @Test
+  public void getLoadStatus() throws Exception {
+    LoadInfo info = new LoadInfo().setLoadId(5L).setPath("/dir").setTotalBlocks(2);
+    Mockito.when(mFileSystemMasterClient.getLoadStatus(5L)).thenReturn(info);
+    Assert.assertEquals(info, mFileSystem.getLoadStatus(5L));
+  }
+
   /**
    * Tests for the {@link BaseFileSystem#getStatus(AlluxioURI, GetStatusOptions)} method.
    */
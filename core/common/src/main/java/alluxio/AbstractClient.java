@@ -20,6 +20,7 @@ import alluxio.exception.status.UnavailableException;
 import alluxio.exception.status.UnimplementedException;
 import alluxio.retry.ExponentialBackoffRetry;
 import alluxio.retry.RetryPolicy;
+import alluxio.security.authentication.ClientTransportProvider;
 import alluxio.security.authentication.TransportProvider;
 import alluxio.thrift.AlluxioService;
 import alluxio.thrift.AlluxioTException;
@@ -80,7 +81,7 @@ public abstract class AbstractClient implements Client {
   protected long mServiceVersion;
 
   /** Handler to the transport provider according to the authentication type. */
-  protected final TransportProvider mTransportProvider;
+  protected final ClientTransportProvider mTransportProvider;
 
   private final Subject mParentSubject;
 
@@ -91,9 +92,21 @@ public abstract class AbstractClient implements Client {
    * @param address the address
    */
   public AbstractClient(Subject subject, InetSocketAddress address) {
+    this(subject, address, TransportProvider.Factory.create());
+  }
+
+  /**
+   * Creates a new client base using the given transport provider.
+   *
+   * @param subject the parent subject, set to null if not present
+   * @param address the address
+   * @param transportProvider the provider of the transports to connect with
+   */
+  protected AbstractClient(Subject subject, InetSocketAddress address,
+      ClientTransportProvider transportProvider) {
     mAddress = address;
     mServiceVersion = Constants.UNKNOWN_SERVICE_VERSION;
-    mTransportProvider = TransportProvider.Factory.create();
+    mTransportProvider = transportProvider;
     mParentSubject = subject;
   }
 
@@ -274,7 +287,9 @@ public abstract class AbstractClient implements Client {
    * Tries to execute an RPC defined as a {@link RpcCallable}.
    *
    * If a {@link UnavailableException} occurs, a reconnection will be tried through
-   * {@link #connect()} and the action will be re-executed.
+   * {@link #connect()} and the action will be re-executed. If the server rejects the RPC with
+   * RESOURCE_EXHAUSTED because it is overloaded, the action is re-executed after a backoff on the
+   * same connection.
    *
    * @param rpc the RPC call to be executed
    * @param <V> type of return value of the RPC call
@@ -285,6 +300,7 @@ public abstract class AbstractClient implements Client {
         new ExponentialBackoffRetry(BASE_SLEEP_MS, MAX_SLEEP_MS, RPC_MAX_NUM_RETRY);
     while (!mClosed) {
       Exception ex;
+      boolean reconnect = true;
       connect();
       try {
         return rpc.call();
@@ -292,13 +308,19 @@ public abstract class AbstractClient implements Client {
         AlluxioStatusException se = AlluxioStatusException.fromThrift(e);
         if (se.getStatus() == Status.UNAVAILABLE) {
           ex = se;
+        } else if (se.getStatus() == Status.RESOURCE_EXHAUSTED) {
+          // The server is overloaded and asked us to back off; the connection is still usable.
+          ex = se;
+          reconnect = false;
         } else {
           throw se;
         }
       } catch (TException e) {
         ex = e;
       }
-      disconnect();
+      if (reconnect) {
+        disconnect();
+      }
       if (retryPolicy.attemptRetry()) {
         LOG.warn("RPC failed with {}. Retrying.", ex.toString());
       } else {
@@ -308,4 +330,44 @@ public abstract class AbstractClient implements Client {
     }
     throw new FailedPreconditionException("Client is closed");
   }
+
+  /**
+   * Tries to execute an RPC which must not be applied twice, defined as a {@link RpcCallable}.
+   *
+   * Unlike {@link #retryRPC(RpcCallable)}, the action is not re-executed once the request may have
+   * reached the server, since a failure to read the response does not tell whether the server
+   * applied it. Only connecting to the server and rejections with RESOURCE_EXHAUSTED, which the
+   * server returns before running the RPC, are retried.
+   *
+   * @param rpc the RPC call to be executed
+   * @param <V> type of return value of the RPC call
+   * @return the return value of the RPC call
+   */
+  protected synchronized <V> V retryNonIdempotentRPC(RpcCallable<V> rpc)
+      throws AlluxioStatusException {
+    RetryPolicy retryPolicy =
+        new ExponentialBackoffRetry(BASE_SLEEP_MS, MAX_SLEEP_MS, RPC_MAX_NUM_RETRY);
+    while (!mClosed) {
+      connect();
+      try {
+        return rpc.call();
+      } catch (AlluxioTException e) {
+        AlluxioStatusException se = AlluxioStatusException.fromThrift(e);
+        if (se.getStatus() != Status.RESOURCE_EXHAUSTED) {
+          throw se;
+        }
+        if (retryPolicy.attemptRetry()) {
+          LOG.warn("RPC failed with {}. Retrying.", se.toString());
+        } else {
+          throw new UnavailableException(
+              "Failed after " + retryPolicy.getRetryCount() + " retries: " + se.toString(), se);
+        }
+      } catch (TException e) {
+        disconnect();
+        throw new UnavailableException(
+            "RPC failed and may or may not have been applied: " + e.toString(), e);
+      }
+    }
+    throw new FailedPreconditionException("Client is closed");
+  }
 }
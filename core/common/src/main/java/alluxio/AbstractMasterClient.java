@@ -14,6 +14,9 @@ package alluxio;
 import alluxio.exception.status.UnavailableException;
 import alluxio.master.MasterClientConfig;
 import alluxio.master.MasterInquireClient;
+import alluxio.network.thrift.MultiplexedTransportProvider;
+import alluxio.security.authentication.ClientTransportProvider;
+import alluxio.security.authentication.TransportProvider;
 
 import java.net.InetSocketAddress;
 
@@ -33,10 +36,22 @@ public abstract class AbstractMasterClient extends AbstractClient {
    * @param conf master client configuration
    */
   public AbstractMasterClient(MasterClientConfig conf) {
-    super(conf.getSubject(), null);
+    super(conf.getSubject(), null, createTransportProvider());
     mMasterInquireClient = conf.getMasterInquireClient();
   }
 
+  /**
+   * @return the transport provider for master clients, which shares a few multiplexed
+   *         connections between all clients of the process when
+   *         {@link PropertyKey#USER_MASTER_CLIENT_MULTIPLEXED_ENABLED} is set
+   */
+  private static ClientTransportProvider createTransportProvider() {
+    if (Configuration.getBoolean(PropertyKey.USER_MASTER_CLIENT_MULTIPLEXED_ENABLED)) {
+      return new MultiplexedTransportProvider();
+    }
+    return TransportProvider.Factory.create();
+  }
+
   @Override
   public synchronized InetSocketAddress getAddress() throws UnavailableException {
     return mMasterInquireClient.getPrimaryRpcAddress();
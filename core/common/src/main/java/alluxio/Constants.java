@@ -138,6 +138,12 @@ public final class Constants {
   // Time-to-live
   public static final long NO_TTL = -1;
 
+  // Replication
+  public static final int REPLICATION_MAX_INFINITY = -1;
+
+  // Access tracking
+  public static final int DEFAULT_HOT_FILES_LIMIT = 20;
+
   // Security
   public static final int DEFAULT_FILE_SYSTEM_UMASK = 0022;
   public static final short DEFAULT_FILE_SYSTEM_MODE = (short) 0777;
@@ -138,11 +138,32 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue("/opt/alluxio")
           .setDescription("Alluxio installation directory.")
           .build();
+  public static final PropertyKey KEY_VALUE_COMPACTION_THREADS =
+      new Builder(Name.KEY_VALUE_COMPACTION_THREADS)
+          .setDefaultValue(4)
+          .setDescription("Number of key ranges compacted in parallel by the client when "
+              + "compacting a key-value store.")
+          .build();
   public static final PropertyKey KEY_VALUE_ENABLED =
       new Builder(Name.KEY_VALUE_ENABLED)
           .setDefaultValue(false)
           .setDescription("Whether the key-value service is enabled.")
           .build();
+  public static final PropertyKey KEY_VALUE_PARTITION_BLOOM_FILTER_BITS_PER_KEY =
+      new Builder(Name.KEY_VALUE_PARTITION_BLOOM_FILTER_BITS_PER_KEY)
+          .setDefaultValue(0)
+          .setDescription("Number of bits per key of the Bloom filter written in each key-value "
+              + "partition, 0 to write no filter. About 10 bits per key give a false positive "
+              + "rate of 1%. Readers with a positive value load the filters of the partitions, "
+              + "so that the lookups of absent keys do not reach the workers.")
+          .build();
+  public static final PropertyKey KEY_VALUE_PARTITION_INDEX_TYPE =
+      new Builder(Name.KEY_VALUE_PARTITION_INDEX_TYPE)
+          .setDefaultValue("LINEAR_PROBING")
+          .setDescription("The type of the index written in each key-value partition. Valid "
+              + "options are LINEAR_PROBING, a fixed-size hash table, and CUCKOO, a cuckoo hash "
+              + "table sized to the number of keys.")
+          .build();
   public static final PropertyKey KEY_VALUE_PARTITION_SIZE_BYTES_MAX =
       new Builder(Name.KEY_VALUE_PARTITION_SIZE_BYTES_MAX)
           .setDefaultValue("512MB")
@@ -337,6 +358,14 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "mounted point with all Alluxio users. Note that this configuration has no "
               + "effect on HDFS nor local UFS.")
           .build();
+  public static final PropertyKey UNDERFS_OBJECT_STORE_LIST_PARALLEL_ENABLED =
+      new Builder(Name.UNDERFS_OBJECT_STORE_LIST_PARALLEL_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether recursive listings of object stores are split by the "
+              + "pseudo-directories of the listed path and fetched concurrently by the threads "
+              + "of alluxio.underfs.object.store.service.threads, instead of paging through "
+              + "all the keys under the path one request at a time.")
+          .build();
   public static final PropertyKey UNDERFS_OBJECT_STORE_READ_RETRY_BASE_SLEEP_MS =
       new Builder(Name.UNDERFS_OBJECT_STORE_READ_RETRY_BASE_SLEEP_MS).setDefaultValue("50ms")
           .setDescription("Block reads from an object store automatically retry for transient "
@@ -355,6 +384,34 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "errors with an exponential backoff. This property determines the maximum wait time"
               + " in the backoff.")
           .build();
+  public static final PropertyKey UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_ENABLED =
+      new Builder(Name.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to stream the files written to object stores supporting "
+              + "multipart uploads (S3 and OSS). If enabled, a file is uploaded in parts from "
+              + "memory buffers while it is being written, instead of being staged on the local "
+              + "disk and uploaded when it is closed.")
+          .build();
+  public static final PropertyKey UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_BUFFER_OFF_HEAP =
+      new Builder(Name.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_BUFFER_OFF_HEAP)
+          .setDefaultValue(false)
+          .setDescription("Whether to allocate the buffers of streaming uploads off heap.")
+          .build();
+  public static final PropertyKey UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_MEMORY_MAX =
+      new Builder(Name.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_MEMORY_MAX)
+          .setDefaultValue("512MB")
+          .setDescription("The maximum memory used by the buffers of the streaming uploads to "
+              + "an under storage. A file opened while all the buffers are in use is staged "
+              + "on the local disk instead, and writers of open streaming uploads block until "
+              + "a part is uploaded.")
+          .build();
+  public static final PropertyKey UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_PART_SIZE =
+      new Builder(Name.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_PART_SIZE)
+          .setDefaultValue("64MB")
+          .setDescription("The size of the parts of streaming uploads. A file smaller than a "
+              + "part is uploaded with a single request. Object stores usually require parts "
+              + "of at least 5MB.")
+          .build();
   public static final PropertyKey UNDERFS_OSS_CONNECT_MAX =
       new Builder(Name.UNDERFS_OSS_CONNECT_MAX)
           .setDefaultValue(1024)
@@ -574,11 +631,46 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDescription("Set to true to enable file system master audit.")
           .setIgnoredSiteProperty(true)
           .build();
+  public static final PropertyKey MASTER_AUDIT_LOGGING_FILE =
+      new Builder(Name.MASTER_AUDIT_LOGGING_FILE)
+          .setDefaultValue(String.format("${%s}/master_audit_batch.log", Name.LOGS_DIR))
+          .setDescription("The file audit log entries are written to when "
+              + "alluxio.master.audit.logging.output is FILE.")
+          .build();
+  public static final PropertyKey MASTER_AUDIT_LOGGING_FILE_COMPRESSED =
+      new Builder(Name.MASTER_AUDIT_LOGGING_FILE_COMPRESSED)
+          .setDefaultValue(false)
+          .setDescription("Whether to gzip the audit log file written when "
+              + "alluxio.master.audit.logging.output is FILE. Every batch is flushed as a "
+              + "complete gzip block, so the file can be read with zcat while it is written.")
+          .build();
+  public static final PropertyKey MASTER_AUDIT_LOGGING_FILE_MAX_SIZE =
+      new Builder(Name.MASTER_AUDIT_LOGGING_FILE_MAX_SIZE)
+          .setDefaultValue("256MB")
+          .setDescription("The size after which the audit log file written when "
+              + "alluxio.master.audit.logging.output is FILE is rolled over. The rolled file is "
+              + "renamed by appending the time of the roll over to its name.")
+          .build();
+  public static final PropertyKey MASTER_AUDIT_LOGGING_OUTPUT =
+      new Builder(Name.MASTER_AUDIT_LOGGING_OUTPUT)
+          .setDefaultValue("LOG4J")
+          .setDescription("Where audit log entries are written. LOG4J sends every entry to the "
+              + "AUDIT_LOG logger configured in log4j.properties. FILE writes the entries in "
+              + "batches directly to alluxio.master.audit.logging.file, which sustains a much "
+              + "higher rate of operations.")
+          .build();
   public static final PropertyKey MASTER_AUDIT_LOGGING_QUEUE_CAPACITY =
       new Builder(Name.MASTER_AUDIT_LOGGING_QUEUE_CAPACITY)
           .setDefaultValue(10000)
           .setDescription("Capacity of the queue used by audit logging.")
           .build();
+  public static final PropertyKey MASTER_AUDIT_LOGGING_QUEUE_FULL_POLICY =
+      new Builder(Name.MASTER_AUDIT_LOGGING_QUEUE_FULL_POLICY)
+          .setDefaultValue("BLOCK")
+          .setDescription("What to do with an audit log entry when the audit logging queue is "
+              + "full. BLOCK makes the operation wait until there is room in the queue. DROP "
+              + "discards the entry and counts it in the AuditLogEntriesDropped metric.")
+          .build();
   public static final PropertyKey MASTER_BIND_HOST =
       new Builder(Name.MASTER_BIND_HOST)
           .setDefaultValue("0.0.0.0")
@@ -597,6 +689,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue("alluxio.master.file.async.DefaultAsyncPersistHandler")
           .setDescription("The handler for processing the async persistence requests.")
           .build();
+  public static final PropertyKey MASTER_FILE_BATCH_MAX_OPERATIONS =
+      new Builder(Name.MASTER_FILE_BATCH_MAX_OPERATIONS)
+          .setDefaultValue(1000)
+          .setDescription("The maximum number of operations in a batch of metadata operations "
+              + "applied with a single RPC. Larger batches are rejected.")
+          .build();
   public static final PropertyKey MASTER_FORMAT_FILE_PREFIX =
       new Builder(Name.MASTER_FORMAT_FILE_PREFIX)
           .setDefaultValue("_format_")
@@ -613,6 +711,18 @@ public final class PropertyKey implements Comparable<PropertyKey> {
   public static final PropertyKey MASTER_HOSTNAME = new Builder(Name.MASTER_HOSTNAME)
       .setDescription("The hostname of Alluxio master.")
       .build();
+  public static final PropertyKey MASTER_HOT_FILE_DECAY_INTERVAL_MS =
+      new Builder(Name.MASTER_HOT_FILE_DECAY_INTERVAL_MS)
+          .setDefaultValue("10min")
+          .setDescription("The interval after which the access counts reported by the workers "
+              + "are halved, so that the hot file list favors recent reads.")
+          .build();
+  public static final PropertyKey MASTER_HOT_FILE_TRACKING_CAPACITY =
+      new Builder(Name.MASTER_HOT_FILE_TRACKING_CAPACITY)
+          .setDefaultValue(10000)
+          .setDescription("The maximum number of files whose access counts are tracked by the "
+              + "master. When exceeded, the least accessed file is replaced.")
+          .build();
   public static final PropertyKey MASTER_JOURNAL_FLUSH_BATCH_TIME_MS =
       new Builder(Name.MASTER_JOURNAL_FLUSH_BATCH_TIME_MS)
           .setAlias(new String[]{"alluxio.master.journal.flush.batch.time.ms"})
@@ -697,10 +807,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .build();
   public static final PropertyKey MASTER_LINEAGE_CHECKPOINT_CLASS =
       new Builder(Name.MASTER_LINEAGE_CHECKPOINT_CLASS)
-          .setDefaultValue("alluxio.master.lineage.checkpoint.CheckpointLatestPlanner")
+          .setDefaultValue("alluxio.master.lineage.checkpoint.CheckpointReadyPlanner")
           .setDescription("The class name of the checkpoint strategy for lineage output "
-              + "files. The default strategy is to checkpoint the latest completed lineage, "
-              + "i.e. the lineage whose output files are completed.")
+              + "files. The default strategy is to checkpoint all the completed lineages, "
+              + "i.e. the lineages whose output files are completed, in topological order and "
+              + "with at most alluxio.master.lineage.checkpoint.max.concurrent lineages being "
+              + "checkpointed at a time.")
           .build();
   public static final PropertyKey MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS =
       new Builder(Name.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS)
@@ -708,6 +820,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue("5min")
           .setDescription("The interval between Alluxio's checkpoint scheduling.")
           .build();
+  public static final PropertyKey MASTER_LINEAGE_CHECKPOINT_MAX_CONCURRENT =
+      new Builder(Name.MASTER_LINEAGE_CHECKPOINT_MAX_CONCURRENT)
+          .setDefaultValue(8)
+          .setDescription("The maximum number of lineages being checkpointed at the same time "
+              + "with the default checkpoint strategy.")
+          .build();
   public static final PropertyKey MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS =
       new Builder(Name.MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS)
           .setAlias(new String[]{"alluxio.master.lineage.recompute.interval.ms"})
@@ -716,15 +834,68 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "execution. The executor scans the all the lost files tracked by lineage, and "
               + "re-executes the corresponding jobs.")
           .build();
+  public static final PropertyKey MASTER_LINEAGE_RECOMPUTE_POOL_SIZE =
+      new Builder(Name.MASTER_LINEAGE_RECOMPUTE_POOL_SIZE)
+          .setDefaultValue(10)
+          .setDescription("The maximum number of recompute jobs the master runs at the same "
+              + "time. Independent lineages are recomputed in parallel.")
+          .build();
   public static final PropertyKey MASTER_LINEAGE_RECOMPUTE_LOG_PATH =
       new Builder(Name.MASTER_LINEAGE_RECOMPUTE_LOG_PATH)
           .setDefaultValue(String.format("${%s}/recompute.log", Name.LOGS_DIR))
           .setDescription("The path to the log that the recompute executor redirects the "
               + "job's stdout into.")
           .build();
+  public static final PropertyKey MASTER_LOAD_BLOCK_TIMEOUT =
+      new Builder(Name.MASTER_LOAD_BLOCK_TIMEOUT)
+          .setDefaultValue("10min")
+          .setDescription("The time a worker has to report a block of a distributed load after "
+              + "the block is handed to it, and to take the block from its queue after the "
+              + "block is assigned to it. Blocks which are not reported or taken in time are "
+              + "assigned to another worker.")
+          .build();
+  public static final PropertyKey MASTER_LOAD_BLOCKS_PER_HEARTBEAT =
+      new Builder(Name.MASTER_LOAD_BLOCKS_PER_HEARTBEAT)
+          .setDefaultValue(256)
+          .setDescription("The maximum number of blocks of distributed loads assigned to a "
+              + "worker in each file system heartbeat.")
+          .build();
+  public static final PropertyKey MASTER_LOAD_LOCATION_POLICY =
+      new Builder(Name.MASTER_LOAD_LOCATION_POLICY)
+          .setDefaultValue("alluxio.client.block.policy.DeterministicHashPolicy")
+          .setDescription("The policy the master follows to choose the worker which loads a "
+              + "block in a distributed load.")
+          .build();
   public static final PropertyKey MASTER_PRINCIPAL = new Builder(Name.MASTER_PRINCIPAL)
       .setDescription("Kerberos principal for Alluxio master.")
       .build();
+  public static final PropertyKey MASTER_REPLICATION_CHECK_INTERVAL_MS =
+      new Builder(Name.MASTER_REPLICATION_CHECK_INTERVAL_MS)
+          .setDefaultValue("1min")
+          .setDescription("How often the master checks whether blocks have the number of "
+              + "replicas required by their file's replication limits and access frequency, and "
+              + "schedules copies or removals on workers accordingly.")
+          .build();
+  public static final PropertyKey MASTER_REPLICATION_COPY_TIMEOUT =
+      new Builder(Name.MASTER_REPLICATION_COPY_TIMEOUT)
+          .setDefaultValue("5min")
+          .setDescription("How long the master waits for a worker to copy a block after asking "
+              + "it to. Copies which have not completed by then are considered failed, and the "
+              + "worker is not chosen again for the block until the same time has passed.")
+          .build();
+  public static final PropertyKey MASTER_REPLICATION_HOT_BLOCK_ACCESS_THRESHOLD =
+      new Builder(Name.MASTER_REPLICATION_HOT_BLOCK_ACCESS_THRESHOLD)
+          .setDefaultValue(0)
+          .setDescription("The number of reads of a block within one replication check interval "
+              + "above which the block is considered hot and copied to more workers. A value of "
+              + "0 disables replication of hot blocks.")
+          .build();
+  public static final PropertyKey MASTER_REPLICATION_HOT_BLOCK_REPLICAS =
+      new Builder(Name.MASTER_REPLICATION_HOT_BLOCK_REPLICAS)
+          .setDefaultValue(3)
+          .setDescription("The number of replicas to keep of a hot block, subject to the "
+              + "maximum replication of its file.")
+          .build();
   /**
    * @deprecated since version 1.4 and will be removed in version 2.0.
    */
@@ -737,11 +908,83 @@ public final class PropertyKey implements Comparable<PropertyKey> {
                   + "this property is deprecated, use `%s` instead).",
               Name.USER_RPC_RETRY_MAX_NUM_RETRY))
           .build();
+  public static final PropertyKey MASTER_RPC_MULTIPLEXED_ENABLED =
+      new Builder(Name.MASTER_RPC_MULTIPLEXED_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether the master also serves its RPC services on "
+              + "alluxio.master.rpc.multiplexed.port, where a client connection carries many "
+              + "outstanding requests at once, matched to their responses by request id.")
+          .build();
+  public static final PropertyKey MASTER_RPC_MULTIPLEXED_PORT =
+      new Builder(Name.MASTER_RPC_MULTIPLEXED_PORT)
+          .setDefaultValue(19997)
+          .setDescription("The port the master serves multiplexed RPC connections on when "
+              + "alluxio.master.rpc.multiplexed.enabled is true.")
+          .build();
   public static final PropertyKey MASTER_RPC_PORT =
       new Builder(Name.MASTER_RPC_PORT)
           .setDefaultValue(19998)
           .setDescription("The port that Alluxio master node runs on.")
           .build();
+  public static final PropertyKey MASTER_RPC_SCHEDULER_CONCURRENCY =
+      new Builder(Name.MASTER_RPC_SCHEDULER_CONCURRENCY)
+          .setDefaultValue(64)
+          .setDescription("The total cost of file system client RPCs the master runs at the same "
+              + "time when alluxio.master.rpc.scheduler.enabled is true. A light RPC costs 1 and "
+              + "a heavy RPC costs alluxio.master.rpc.scheduler.heavy.cost.")
+          .build();
+  public static final PropertyKey MASTER_RPC_SCHEDULER_ENABLED =
+      new Builder(Name.MASTER_RPC_SCHEDULER_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to queue file system client RPCs per user and admit them in "
+              + "a fair order, so that a single user issuing many or expensive RPCs cannot starve "
+              + "the other users of the master.")
+          .build();
+  public static final PropertyKey MASTER_RPC_SCHEDULER_HEAVY_COST =
+      new Builder(Name.MASTER_RPC_SCHEDULER_HEAVY_COST)
+          .setDefaultValue(8)
+          .setDescription("The cost charged by the RPC scheduler for a heavy file system RPC, "
+              + "such as listing a directory, loading metadata, renaming, deleting, freeing or "
+              + "mounting. Light RPCs such as getting a status cost 1.")
+          .build();
+  public static final PropertyKey MASTER_RPC_SCHEDULER_QUEUE_SIZE =
+      new Builder(Name.MASTER_RPC_SCHEDULER_QUEUE_SIZE)
+          .setDefaultValue(1000)
+          .setDescription("The maximum number of RPCs of a single user waiting to be admitted by "
+              + "the RPC scheduler. RPCs beyond this limit are rejected with RESOURCE_EXHAUSTED "
+              + "and retried by the client after a backoff.")
+          .build();
+  public static final PropertyKey MASTER_RPC_SCHEDULER_QUEUE_TIMEOUT =
+      new Builder(Name.MASTER_RPC_SCHEDULER_QUEUE_TIMEOUT)
+          .setDefaultValue("10sec")
+          .setDescription("The maximum time an RPC waits in the RPC scheduler queue before it is "
+              + "rejected with RESOURCE_EXHAUSTED.")
+          .build();
+  public static final PropertyKey MASTER_RPC_SERVER_QUEUE_SIZE =
+      new Builder(Name.MASTER_RPC_SERVER_QUEUE_SIZE)
+          .setDefaultValue(1024)
+          .setDescription("The maximum number of requests waiting for a handler thread when "
+              + "alluxio.master.rpc.server.type is THREADED_SELECTOR. The connection of a request "
+              + "arriving when the queue is full is closed, and the client retries.")
+          .build();
+  public static final PropertyKey MASTER_RPC_SERVER_SELECTOR_THREADS =
+      new Builder(Name.MASTER_RPC_SERVER_SELECTOR_THREADS)
+          .setDefaultValue(4)
+          .setDescription("The number of threads reading and writing client connections when "
+              + "alluxio.master.rpc.server.type is THREADED_SELECTOR.")
+          .build();
+  public static final PropertyKey MASTER_RPC_SERVER_TYPE =
+      new Builder(Name.MASTER_RPC_SERVER_TYPE)
+          .setDefaultValue("THREAD_POOL")
+          .setDescription("The type of the master RPC server. THREAD_POOL serves each client "
+              + "connection with a dedicated thread, up to alluxio.master.worker.threads.max "
+              + "connections. THREADED_SELECTOR multiplexes all the connections over "
+              + "alluxio.master.rpc.server.selector.threads selector threads and hands requests "
+              + "to up to alluxio.master.worker.threads.max handler threads, so the number of "
+              + "connections is not bounded by the number of threads. THREADED_SELECTOR "
+              + "requires alluxio.security.authentication.type to be NOSASL, and the client IP "
+              + "addresses are not available to the audit log in this mode.")
+          .build();
   public static final PropertyKey MASTER_STARTUP_CONSISTENCY_CHECK_ENABLED =
       new Builder(Name.MASTER_STARTUP_CONSISTENCY_CHECK_ENABLED)
           .setDefaultValue(true)
@@ -807,6 +1050,21 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "is set to 0, the cache will be disabled, and "
               + "`alluxio.user.file.metadata.load.type=Once` will behave like `Always`.")
           .build();
+  public static final PropertyKey MASTER_UFS_STATUS_CACHE_CAPACITY =
+      new Builder(Name.MASTER_UFS_STATUS_CACHE_CAPACITY)
+          .setDefaultValue(0)
+          .setDescription("The capacity of the UFS status cache. This cache keeps the statuses "
+              + "of UFS paths, including the paths found not to exist, and the listings of UFS "
+              + "directories, so that loading metadata and checking consistency do not "
+              + "repeatedly ask the UFS about the same paths. Paths written through Alluxio are "
+              + "invalidated, but changes made directly to the UFS are only seen once the "
+              + "entries expire. If this is set to 0, the cache will be disabled.")
+          .build();
+  public static final PropertyKey MASTER_UFS_STATUS_CACHE_TTL =
+      new Builder(Name.MASTER_UFS_STATUS_CACHE_TTL)
+          .setDefaultValue("10sec")
+          .setDescription("The time after which an entry of the UFS status cache expires.")
+          .build();
   public static final PropertyKey MASTER_WEB_BIND_HOST =
       new Builder(Name.MASTER_WEB_BIND_HOST)
           .setDefaultValue("0.0.0.0")
@@ -875,6 +1133,13 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDescription("The hostname Alluxio's worker node binds to. See <a "
               + "href=\"#configure-multihomed-networks\">multi-homed networks</a>.")
           .build();
+  public static final PropertyKey WORKER_BLOCK_ACCESS_TRACKING_CAPACITY =
+      new Builder(Name.WORKER_BLOCK_ACCESS_TRACKING_CAPACITY)
+          .setDefaultValue(1000)
+          .setDescription("The maximum number of blocks whose reads are counted by a worker "
+              + "within one block heartbeat. When exceeded, only the most read blocks are "
+              + "reported to the master.")
+          .build();
   public static final PropertyKey WORKER_BLOCK_HEARTBEAT_INTERVAL_MS =
       new Builder(Name.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS)
           .setAlias(new String[]{"alluxio.worker.block.heartbeat.interval.ms"})
@@ -887,6 +1152,25 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue("5min")
           .setDescription("The timeout value of block workers' heartbeats.")
           .build();
+  public static final PropertyKey WORKER_BLOCK_IO_ASYNC_ENABLED =
+      new Builder(Name.WORKER_BLOCK_IO_ASYNC_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether the worker reads and writes block files through the "
+              + "asynchronous I/O queue of their storage directory instead of on the data "
+              + "server threads.")
+          .build();
+  public static final PropertyKey WORKER_BLOCK_IO_ASYNC_THREADS =
+      new Builder(Name.WORKER_BLOCK_IO_ASYNC_THREADS)
+          .setDefaultValue(4)
+          .setDescription("The number of threads performing the asynchronous block I/O of each "
+              + "storage directory.")
+          .build();
+  public static final PropertyKey WORKER_BLOCK_REPLICATION_THREADS =
+      new Builder(Name.WORKER_BLOCK_REPLICATION_THREADS)
+          .setDefaultValue(4)
+          .setDescription("The number of threads the worker uses to copy blocks from other "
+              + "workers when asked to by the master.")
+          .build();
   public static final PropertyKey WORKER_BLOCK_THREADS_MAX =
       new Builder(Name.WORKER_BLOCK_THREADS_MAX)
           .setDefaultValue(2048)
@@ -971,6 +1255,17 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDescription("A factor in [0, 1] to control the behavior of LRFU: smaller value "
               + "makes LRFU more similar to LFU; and larger value makes LRFU closer to LRU.")
           .build();
+  public static final PropertyKey WORKER_FILE_LOAD_POOL_SIZE =
+      new Builder(Name.WORKER_FILE_LOAD_POOL_SIZE)
+          .setDefaultValue(16)
+          .setDescription("The size of the thread pool per worker, in which the thread "
+              + "loads a block of a distributed load from under storage.")
+          .build();
+  public static final PropertyKey WORKER_FILE_LOAD_RATE_LIMIT =
+      new Builder(Name.WORKER_FILE_LOAD_RATE_LIMIT)
+          .setDefaultValue("2GB")
+          .setDescription("The rate limit of distributed loads from under storage per second.")
+          .build();
   public static final PropertyKey WORKER_FILE_PERSIST_POOL_SIZE =
       new Builder(Name.WORKER_FILE_PERSIST_POOL_SIZE)
           .setDefaultValue(64)
@@ -1011,6 +1306,13 @@ public final class PropertyKey implements Comparable<PropertyKey> {
   public static final PropertyKey WORKER_KEYTAB_FILE = new Builder(Name.WORKER_KEYTAB_FILE)
       .setDescription("Kerberos keytab file for Alluxio worker.")
       .build();
+  public static final PropertyKey WORKER_KEY_VALUE_READER_CACHE_CAPACITY =
+      new Builder(Name.WORKER_KEY_VALUE_READER_CACHE_CAPACITY)
+          .setDefaultValue(1000)
+          .setDescription("The maximum number of key-value partitions whose memory-mapped "
+              + "readers are kept open by each worker, so that lookups do not need to map the "
+              + "partition again.")
+          .build();
   public static final PropertyKey WORKER_MEMORY_SIZE =
       new Builder(Name.WORKER_MEMORY_SIZE)
           .setDefaultValue("1GB")
@@ -1131,6 +1433,25 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue(29998)
           .setDescription("The port Alluxio's worker node runs on.")
           .build();
+  public static final PropertyKey WORKER_RPC_SERVER_QUEUE_SIZE =
+      new Builder(Name.WORKER_RPC_SERVER_QUEUE_SIZE)
+          .setDefaultValue(1024)
+          .setDescription("The maximum number of requests waiting for a handler thread when "
+              + "alluxio.worker.rpc.server.type is THREADED_SELECTOR.")
+          .build();
+  public static final PropertyKey WORKER_RPC_SERVER_SELECTOR_THREADS =
+      new Builder(Name.WORKER_RPC_SERVER_SELECTOR_THREADS)
+          .setDefaultValue(4)
+          .setDescription("The number of threads reading and writing client connections when "
+              + "alluxio.worker.rpc.server.type is THREADED_SELECTOR.")
+          .build();
+  public static final PropertyKey WORKER_RPC_SERVER_TYPE =
+      new Builder(Name.WORKER_RPC_SERVER_TYPE)
+          .setDefaultValue("THREAD_POOL")
+          .setDescription("The type of the worker RPC server, see alluxio.master.rpc.server.type. "
+              + "With THREADED_SELECTOR, alluxio.worker.block.threads.max bounds the number of "
+              + "handler threads rather than the number of connections.")
+          .build();
   public static final PropertyKey WORKER_SESSION_TIMEOUT_MS =
       new Builder(Name.WORKER_SESSION_TIMEOUT_MS)
           .setAlias(new String[]{"alluxio.worker.session.timeout.ms"})
@@ -1169,6 +1490,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue("${alluxio.worker.memory.size}")
           .setDescription("The capacity of the top storage tier.")
           .build();
+  public static final PropertyKey WORKER_TIERED_STORE_LEVEL0_DIRS_IO_QUEUE_DEPTH =
+      new Builder(Template.WORKER_TIERED_STORE_LEVEL_DIRS_IO_QUEUE_DEPTH, 0)
+          .setDefaultValue(64)
+          .setDescription("The maximum number of asynchronous block reads and writes in flight "
+              + "on each storage directory of the top storage tier.")
+          .build();
   /**
    * @deprecated It will be removed in 2.0.0.
    */
@@ -1202,6 +1529,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
       new Builder(Template.WORKER_TIERED_STORE_LEVEL_DIRS_QUOTA, 1)
           .setDescription("The capacity of the second storage tier.")
           .build();
+  public static final PropertyKey WORKER_TIERED_STORE_LEVEL1_DIRS_IO_QUEUE_DEPTH =
+      new Builder(Template.WORKER_TIERED_STORE_LEVEL_DIRS_IO_QUEUE_DEPTH, 1)
+          .setDefaultValue(32)
+          .setDescription("The maximum number of asynchronous block reads and writes in flight "
+              + "on each storage directory of the second storage tier.")
+          .build();
   /**
    * @deprecated It will be removed in 2.0.0.
    */
@@ -1235,6 +1568,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
       new Builder(Template.WORKER_TIERED_STORE_LEVEL_DIRS_QUOTA, 2)
           .setDescription("The capacity of the third storage tier.")
           .build();
+  public static final PropertyKey WORKER_TIERED_STORE_LEVEL2_DIRS_IO_QUEUE_DEPTH =
+      new Builder(Template.WORKER_TIERED_STORE_LEVEL_DIRS_IO_QUEUE_DEPTH, 2)
+          .setDefaultValue(16)
+          .setDescription("The maximum number of asynchronous block reads and writes in flight "
+              + "on each storage directory of the third storage tier.")
+          .build();
   /**
    * @deprecated It will be removed in 2.0.0.
    */
@@ -1261,6 +1600,43 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue(1)
           .setDescription("The number of storage tiers on the worker.")
           .build();
+  public static final PropertyKey WORKER_TIERED_STORE_MANAGER_DECAY_INTERVAL_MS =
+      new Builder(Name.WORKER_TIERED_STORE_MANAGER_DECAY_INTERVAL_MS)
+          .setDefaultValue("5min")
+          .setDescription("The interval after which the block access counts kept by the tiered "
+              + "store manager are halved, so that recent reads weigh more than old ones.")
+          .build();
+  public static final PropertyKey WORKER_TIERED_STORE_MANAGER_ENABLED =
+      new Builder(Name.WORKER_TIERED_STORE_MANAGER_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether to enable the tiered store manager, which periodically "
+              + "promotes frequently read blocks to the top tier and demotes cold blocks from "
+              + "the top tier to make room for them.")
+          .build();
+  public static final PropertyKey WORKER_TIERED_STORE_MANAGER_INTERVAL_MS =
+      new Builder(Name.WORKER_TIERED_STORE_MANAGER_INTERVAL_MS)
+          .setDefaultValue("10sec")
+          .setDescription("The time period of the tiered store manager.")
+          .build();
+  public static final PropertyKey WORKER_TIERED_STORE_MANAGER_PROMOTE_ACCESS_THRESHOLD =
+      new Builder(Name.WORKER_TIERED_STORE_MANAGER_PROMOTE_ACCESS_THRESHOLD)
+          .setDefaultValue(3)
+          .setDescription("The number of recent reads at which a block is considered hot and "
+              + "promoted to the top tier. Blocks with fewer recent reads are considered cold "
+              + "and may be demoted to make room for hot blocks.")
+          .build();
+  public static final PropertyKey WORKER_TIERED_STORE_MANAGER_RATE_LIMIT =
+      new Builder(Name.WORKER_TIERED_STORE_MANAGER_RATE_LIMIT)
+          .setDefaultValue("64MB")
+          .setDescription("The maximum number of bytes per second the tiered store manager "
+              + "moves between tiers, to limit the impact on client reads and writes.")
+          .build();
+  public static final PropertyKey WORKER_TIERED_STORE_MANAGER_TRACKING_CAPACITY =
+      new Builder(Name.WORKER_TIERED_STORE_MANAGER_TRACKING_CAPACITY)
+          .setDefaultValue(10000)
+          .setDescription("The maximum number of blocks whose reads are counted by the tiered "
+              + "store manager. When exceeded, the least read block is replaced.")
+          .build();
   public static final PropertyKey WORKER_TIERED_STORE_RESERVER_ENABLED =
       new Builder(Name.WORKER_TIERED_STORE_RESERVER_ENABLED)
           .setDefaultValue(false)
@@ -1299,6 +1675,23 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue("5min")
           .setDescription("Timeout to open a block from UFS.")
           .build();
+  public static final PropertyKey WORKER_UFS_INSTREAM_CACHE_ENABLED =
+      new Builder(Name.WORKER_UFS_INSTREAM_CACHE_ENABLED)
+          .setDefaultValue(true)
+          .setDescription("Whether to keep the UFS input streams of the block readers open "
+              + "once they are closed, so that a later read of the same file at the position "
+              + "where a stream stopped reuses it instead of opening a new one.")
+          .build();
+  public static final PropertyKey WORKER_UFS_INSTREAM_CACHE_EXPIRATION_TIME =
+      new Builder(Name.WORKER_UFS_INSTREAM_CACHE_EXPIRATION_TIME)
+          .setDefaultValue("5min")
+          .setDescription("The time after which an idle cached UFS input stream is closed.")
+          .build();
+  public static final PropertyKey WORKER_UFS_INSTREAM_CACHE_MAX_SIZE =
+      new Builder(Name.WORKER_UFS_INSTREAM_CACHE_MAX_SIZE)
+          .setDefaultValue(5000)
+          .setDescription("The maximum number of idle UFS input streams kept open.")
+          .build();
 
   //
   // Proxy related properties
@@ -1632,6 +2025,21 @@ public final class PropertyKey implements Comparable<PropertyKey> {
           .setDefaultValue("64KB")
           .setDescription("When a client writes to a local worker, the maximum data packet size.")
           .build();
+  public static final PropertyKey USER_MASTER_CLIENT_MULTIPLEXED_CONNECTIONS =
+      new Builder(Name.USER_MASTER_CLIENT_MULTIPLEXED_CONNECTIONS)
+          .setDefaultValue(2)
+          .setDescription("The number of multiplexed connections a client process opens to "
+              + "each master for each user when alluxio.user.master.client.multiplexed.enabled "
+              + "is true. Master clients share these connections in a round robin fashion.")
+          .build();
+  public static final PropertyKey USER_MASTER_CLIENT_MULTIPLEXED_ENABLED =
+      new Builder(Name.USER_MASTER_CLIENT_MULTIPLEXED_ENABLED)
+          .setDefaultValue(false)
+          .setDescription("Whether master clients send their RPCs over a few shared multiplexed "
+              + "connections to alluxio.master.rpc.multiplexed.port instead of opening a "
+              + "connection each. The master must have alluxio.master.rpc.multiplexed.enabled "
+              + "set to true.")
+          .build();
   public static final PropertyKey USER_NETWORK_NETTY_CHANNEL =
       new Builder(Name.USER_NETWORK_NETTY_CHANNEL)
           .setDescription("Type of netty channels.")
@@ -1793,16 +2201,36 @@ public final class PropertyKey implements Comparable<PropertyKey> {
   //
   // FUSE integration related properties
   //
+  public static final PropertyKey FUSE_ATTR_CACHE_TTL =
+      new Builder(Name.FUSE_ATTR_CACHE_TTL)
+          .setDefaultValue("1sec")
+          .setDescription("How long FUSE caches the attributes of a file. This is also "
+              + "reported to the kernel as the attribute timeout. Set to 0 to disable "
+              + "attribute caching.")
+          .build();
   public static final PropertyKey FUSE_CACHED_PATHS_MAX =
       new Builder(Name.FUSE_CACHED_PATHS_MAX)
           .setDefaultValue(500)
           .setDescription("Maximum number of Alluxio paths to cache for FUSE conversion.")
           .build();
+  public static final PropertyKey FUSE_CACHED_STATUS_MAX =
+      new Builder(Name.FUSE_CACHED_STATUS_MAX)
+          .setDefaultValue(10000)
+          .setDescription("Maximum number of file attributes, and separately of directory "
+              + "listings, to cache in FUSE.")
+          .build();
   public static final PropertyKey FUSE_DEBUG_ENABLED =
       new Builder(Name.FUSE_DEBUG_ENABLED)
           .setDefaultValue(false)
           .setDescription("Run FUSE in debug mode, and have the fuse process log every FS request.")
           .build();
+  public static final PropertyKey FUSE_ENTRY_CACHE_TTL =
+      new Builder(Name.FUSE_ENTRY_CACHE_TTL)
+          .setDefaultValue("1sec")
+          .setDescription("How long FUSE caches the entries of a directory. This is also "
+              + "reported to the kernel as the entry timeout. Set to 0 to disable directory "
+              + "entry caching.")
+          .build();
   public static final PropertyKey FUSE_FS_NAME =
       new Builder(Name.FUSE_FS_NAME)
           .setDefaultValue("alluxio-fuse")
@@ -1839,6 +2267,14 @@ public final class PropertyKey implements Comparable<PropertyKey> {
               + "NOSASL, SIMPLE, CUSTOM. The default value SIMPLE indicates that a simple "
               + "authentication is enabled. Server trusts whoever the client claims to be.")
           .build();
+  public static final PropertyKey SECURITY_AUTHORIZATION_PERMISSION_CACHE_SIZE =
+      new Builder(Name.SECURITY_AUTHORIZATION_PERMISSION_CACHE_SIZE)
+          .setDefaultValue(100000)
+          .setDescription("The maximum number of (user, directory) pairs for which the master "
+              + "remembers that the user may traverse every directory from the root down to the "
+              + "directory. Entries are invalidated when the mode, owner or group of any "
+              + "directory changes or a directory is renamed. Set to 0 to disable the cache.")
+          .build();
   public static final PropertyKey SECURITY_AUTHORIZATION_PERMISSION_ENABLED =
       new Builder(Name.SECURITY_AUTHORIZATION_PERMISSION_ENABLED)
           .setDefaultValue(true)
@@ -2026,7 +2462,13 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.integration.worker.resource.mem";
     public static final String INTEGRATION_YARN_WORKERS_PER_HOST_MAX =
         "alluxio.integration.yarn.workers.per.host.max";
+    public static final String KEY_VALUE_COMPACTION_THREADS =
+        "alluxio.keyvalue.compaction.threads";
     public static final String KEY_VALUE_ENABLED = "alluxio.keyvalue.enabled";
+    public static final String KEY_VALUE_PARTITION_BLOOM_FILTER_BITS_PER_KEY =
+        "alluxio.keyvalue.partition.bloom.filter.bits.per.key";
+    public static final String KEY_VALUE_PARTITION_INDEX_TYPE =
+        "alluxio.keyvalue.partition.index.type";
     public static final String KEY_VALUE_PARTITION_SIZE_BYTES_MAX =
         "alluxio.keyvalue.partition.size.bytes.max";
     public static final String LOGGER_TYPE = "alluxio.logger.type";
@@ -2071,12 +2513,22 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.underfs.object.store.service.threads";
     public static final String UNDERFS_OBJECT_STORE_MOUNT_SHARED_PUBLICLY =
         "alluxio.underfs.object.store.mount.shared.publicly";
+    public static final String UNDERFS_OBJECT_STORE_LIST_PARALLEL_ENABLED =
+        "alluxio.underfs.object.store.list.parallel.enabled";
     public static final String UNDERFS_OBJECT_STORE_READ_RETRY_BASE_SLEEP_MS =
         "alluxio.underfs.object.store.read.retry.base.sleep";
     public static final String UNDERFS_OBJECT_STORE_READ_RETRY_MAX_NUM =
         "alluxio.underfs.object.store.read.retry.max.num";
     public static final String UNDERFS_OBJECT_STORE_READ_RETRY_MAX_SLEEP_MS =
         "alluxio.underfs.object.store.read.retry.max.sleep";
+    public static final String UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_ENABLED =
+        "alluxio.underfs.object.store.streaming.upload.enabled";
+    public static final String UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_BUFFER_OFF_HEAP =
+        "alluxio.underfs.object.store.streaming.upload.buffer.off.heap";
+    public static final String UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_MEMORY_MAX =
+        "alluxio.underfs.object.store.streaming.upload.memory.max";
+    public static final String UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_PART_SIZE =
+        "alluxio.underfs.object.store.streaming.upload.part.size";
     public static final String UNDERFS_OSS_CONNECT_MAX = "alluxio.underfs.oss.connection.max";
     public static final String UNDERFS_OSS_CONNECT_TIMEOUT =
         "alluxio.underfs.oss.connection.timeout";
@@ -2137,17 +2589,32 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     //
     public static final String MASTER_AUDIT_LOGGING_ENABLED =
         "alluxio.master.audit.logging.enabled";
+    public static final String MASTER_AUDIT_LOGGING_FILE = "alluxio.master.audit.logging.file";
+    public static final String MASTER_AUDIT_LOGGING_FILE_COMPRESSED =
+        "alluxio.master.audit.logging.file.compressed";
+    public static final String MASTER_AUDIT_LOGGING_FILE_MAX_SIZE =
+        "alluxio.master.audit.logging.file.max.size";
+    public static final String MASTER_AUDIT_LOGGING_OUTPUT =
+        "alluxio.master.audit.logging.output";
     public static final String MASTER_AUDIT_LOGGING_QUEUE_CAPACITY =
         "alluxio.master.audit.logging.queue.capacity";
+    public static final String MASTER_AUDIT_LOGGING_QUEUE_FULL_POLICY =
+        "alluxio.master.audit.logging.queue.full.policy";
     public static final String MASTER_BIND_HOST = "alluxio.master.bind.host";
     public static final String MASTER_CONNECTION_TIMEOUT_MS =
         "alluxio.master.connection.timeout";
     public static final String MASTER_FILE_ASYNC_PERSIST_HANDLER =
         "alluxio.master.file.async.persist.handler";
+    public static final String MASTER_FILE_BATCH_MAX_OPERATIONS =
+        "alluxio.master.file.batch.max.operations";
     public static final String MASTER_FORMAT_FILE_PREFIX = "alluxio.master.format.file_prefix";
     public static final String MASTER_HEARTBEAT_INTERVAL_MS =
         "alluxio.master.heartbeat.interval";
     public static final String MASTER_HOSTNAME = "alluxio.master.hostname";
+    public static final String MASTER_HOT_FILE_DECAY_INTERVAL_MS =
+        "alluxio.master.hot.file.decay.interval";
+    public static final String MASTER_HOT_FILE_TRACKING_CAPACITY =
+        "alluxio.master.hot.file.tracking.capacity";
     public static final String MASTER_JOURNAL_FLUSH_BATCH_TIME_MS =
         "alluxio.master.journal.flush.batch.time";
     public static final String MASTER_JOURNAL_FLUSH_TIMEOUT_MS =
@@ -2167,13 +2634,49 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.lineage.checkpoint.class";
     public static final String MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS =
         "alluxio.master.lineage.checkpoint.interval";
+    public static final String MASTER_LINEAGE_CHECKPOINT_MAX_CONCURRENT =
+        "alluxio.master.lineage.checkpoint.max.concurrent";
     public static final String MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS =
         "alluxio.master.lineage.recompute.interval";
+    public static final String MASTER_LINEAGE_RECOMPUTE_POOL_SIZE =
+        "alluxio.master.lineage.recompute.pool.size";
     public static final String MASTER_LINEAGE_RECOMPUTE_LOG_PATH =
         "alluxio.master.lineage.recompute.log.path";
+    public static final String MASTER_LOAD_BLOCK_TIMEOUT = "alluxio.master.load.block.timeout";
+    public static final String MASTER_LOAD_BLOCKS_PER_HEARTBEAT =
+        "alluxio.master.load.blocks.per.heartbeat";
+    public static final String MASTER_LOAD_LOCATION_POLICY =
+        "alluxio.master.load.location.policy";
     public static final String MASTER_PRINCIPAL = "alluxio.master.principal";
+    public static final String MASTER_REPLICATION_CHECK_INTERVAL_MS =
+        "alluxio.master.replication.check.interval";
+    public static final String MASTER_REPLICATION_COPY_TIMEOUT =
+        "alluxio.master.replication.copy.timeout";
+    public static final String MASTER_REPLICATION_HOT_BLOCK_ACCESS_THRESHOLD =
+        "alluxio.master.replication.hot.block.access.threshold";
+    public static final String MASTER_REPLICATION_HOT_BLOCK_REPLICAS =
+        "alluxio.master.replication.hot.block.replicas";
     public static final String MASTER_RETRY = "alluxio.master.retry";
+    public static final String MASTER_RPC_MULTIPLEXED_ENABLED =
+        "alluxio.master.rpc.multiplexed.enabled";
+    public static final String MASTER_RPC_MULTIPLEXED_PORT =
+        "alluxio.master.rpc.multiplexed.port";
     public static final String MASTER_RPC_PORT = "alluxio.master.port";
+    public static final String MASTER_RPC_SCHEDULER_CONCURRENCY =
+        "alluxio.master.rpc.scheduler.concurrency";
+    public static final String MASTER_RPC_SCHEDULER_ENABLED =
+        "alluxio.master.rpc.scheduler.enabled";
+    public static final String MASTER_RPC_SCHEDULER_HEAVY_COST =
+        "alluxio.master.rpc.scheduler.heavy.cost";
+    public static final String MASTER_RPC_SCHEDULER_QUEUE_SIZE =
+        "alluxio.master.rpc.scheduler.queue.size";
+    public static final String MASTER_RPC_SCHEDULER_QUEUE_TIMEOUT =
+        "alluxio.master.rpc.scheduler.queue.timeout";
+    public static final String MASTER_RPC_SERVER_QUEUE_SIZE =
+        "alluxio.master.rpc.server.queue.size";
+    public static final String MASTER_RPC_SERVER_SELECTOR_THREADS =
+        "alluxio.master.rpc.server.selector.threads";
+    public static final String MASTER_RPC_SERVER_TYPE = "alluxio.master.rpc.server.type";
     public static final String MASTER_STARTUP_CONSISTENCY_CHECK_ENABLED =
         "alluxio.master.startup.consistency.check.enabled";
     public static final String MASTER_THRIFT_SHUTDOWN_TIMEOUT =
@@ -2194,6 +2697,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.master.ufs.path.cache.capacity";
     public static final String MASTER_UFS_PATH_CACHE_THREADS =
         "alluxio.master.ufs.path.cache.threads";
+    public static final String MASTER_UFS_STATUS_CACHE_CAPACITY =
+        "alluxio.master.ufs.status.cache.capacity";
+    public static final String MASTER_UFS_STATUS_CACHE_TTL =
+        "alluxio.master.ufs.status.cache.ttl";
     public static final String MASTER_WEB_BIND_HOST = "alluxio.master.web.bind.host";
     public static final String MASTER_WEB_HOSTNAME = "alluxio.master.web.hostname";
     public static final String MASTER_WEB_PORT = "alluxio.master.web.port";
@@ -2216,10 +2723,18 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     //
     public static final String WORKER_ALLOCATOR_CLASS = "alluxio.worker.allocator.class";
     public static final String WORKER_BIND_HOST = "alluxio.worker.bind.host";
+    public static final String WORKER_BLOCK_ACCESS_TRACKING_CAPACITY =
+        "alluxio.worker.block.access.tracking.capacity";
     public static final String WORKER_BLOCK_HEARTBEAT_INTERVAL_MS =
         "alluxio.worker.block.heartbeat.interval";
     public static final String WORKER_BLOCK_HEARTBEAT_TIMEOUT_MS =
         "alluxio.worker.block.heartbeat.timeout";
+    public static final String WORKER_BLOCK_IO_ASYNC_ENABLED =
+        "alluxio.worker.block.io.async.enabled";
+    public static final String WORKER_BLOCK_IO_ASYNC_THREADS =
+        "alluxio.worker.block.io.async.threads";
+    public static final String WORKER_BLOCK_REPLICATION_THREADS =
+        "alluxio.worker.block.replication.threads";
     public static final String WORKER_BLOCK_THREADS_MAX = "alluxio.worker.block.threads.max";
     public static final String WORKER_BLOCK_THREADS_MIN = "alluxio.worker.block.threads.min";
     public static final String WORKER_DATA_BIND_HOST = "alluxio.worker.data.bind.host";
@@ -2238,6 +2753,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.worker.evictor.lrfu.step.factor";
     public static final String WORKER_FILESYSTEM_HEARTBEAT_INTERVAL_MS =
         "alluxio.worker.filesystem.heartbeat.interval";
+    public static final String WORKER_FILE_LOAD_POOL_SIZE =
+        "alluxio.worker.file.load.pool.size";
+    public static final String WORKER_FILE_LOAD_RATE_LIMIT =
+        "alluxio.worker.file.load.rate.limit";
     public static final String WORKER_FILE_PERSIST_POOL_SIZE =
         "alluxio.worker.file.persist.pool.size";
     public static final String WORKER_FILE_PERSIST_RATE_LIMIT =
@@ -2248,6 +2767,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String WORKER_FREE_SPACE_TIMEOUT = "alluxio.worker.free.space.timeout";
     public static final String WORKER_HOSTNAME = "alluxio.worker.hostname";
     public static final String WORKER_KEYTAB_FILE = "alluxio.worker.keytab.file";
+    public static final String WORKER_KEY_VALUE_READER_CACHE_CAPACITY =
+        "alluxio.worker.keyvalue.reader.cache.capacity";
     public static final String WORKER_MEMORY_SIZE = "alluxio.worker.memory.size";
     public static final String WORKER_NETWORK_NETTY_BACKLOG =
         "alluxio.worker.network.netty.backlog";
@@ -2289,12 +2810,29 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.worker.block.master.client.pool.size";
     public static final String WORKER_PRINCIPAL = "alluxio.worker.principal";
     public static final String WORKER_RPC_PORT = "alluxio.worker.port";
+    public static final String WORKER_RPC_SERVER_QUEUE_SIZE =
+        "alluxio.worker.rpc.server.queue.size";
+    public static final String WORKER_RPC_SERVER_SELECTOR_THREADS =
+        "alluxio.worker.rpc.server.selector.threads";
+    public static final String WORKER_RPC_SERVER_TYPE = "alluxio.worker.rpc.server.type";
     public static final String WORKER_SESSION_TIMEOUT_MS = "alluxio.worker.session.timeout";
     public static final String WORKER_TIERED_STORE_BLOCK_LOCK_READERS =
         "alluxio.worker.tieredstore.block.lock.readers";
     public static final String WORKER_TIERED_STORE_BLOCK_LOCKS =
         "alluxio.worker.tieredstore.block.locks";
     public static final String WORKER_TIERED_STORE_LEVELS = "alluxio.worker.tieredstore.levels";
+    public static final String WORKER_TIERED_STORE_MANAGER_DECAY_INTERVAL_MS =
+        "alluxio.worker.tieredstore.manager.decay.interval";
+    public static final String WORKER_TIERED_STORE_MANAGER_ENABLED =
+        "alluxio.worker.tieredstore.manager.enabled";
+    public static final String WORKER_TIERED_STORE_MANAGER_INTERVAL_MS =
+        "alluxio.worker.tieredstore.manager.interval";
+    public static final String WORKER_TIERED_STORE_MANAGER_PROMOTE_ACCESS_THRESHOLD =
+        "alluxio.worker.tieredstore.manager.promote.access.threshold";
+    public static final String WORKER_TIERED_STORE_MANAGER_RATE_LIMIT =
+        "alluxio.worker.tieredstore.manager.rate.limit";
+    public static final String WORKER_TIERED_STORE_MANAGER_TRACKING_CAPACITY =
+        "alluxio.worker.tieredstore.manager.tracking.capacity";
     public static final String WORKER_TIERED_STORE_RESERVER_ENABLED =
         "alluxio.worker.tieredstore.reserver.enabled";
     public static final String WORKER_TIERED_STORE_RESERVER_INTERVAL_MS =
@@ -2305,6 +2843,12 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     public static final String WORKER_WEB_PORT = "alluxio.worker.web.port";
     public static final String WORKER_UFS_BLOCK_OPEN_TIMEOUT_MS =
         "alluxio.worker.ufs.block.open.timeout";
+    public static final String WORKER_UFS_INSTREAM_CACHE_ENABLED =
+        "alluxio.worker.ufs.instream.cache.enabled";
+    public static final String WORKER_UFS_INSTREAM_CACHE_EXPIRATION_TIME =
+        "alluxio.worker.ufs.instream.cache.expiration.time";
+    public static final String WORKER_UFS_INSTREAM_CACHE_MAX_SIZE =
+        "alluxio.worker.ufs.instream.cache.max.size";
 
     //
     // Proxy related properties
@@ -2393,6 +2937,10 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.user.local.reader.packet.size.bytes";
     public static final String USER_LOCAL_WRITER_PACKET_SIZE_BYTES =
         "alluxio.user.local.writer.packet.size.bytes";
+    public static final String USER_MASTER_CLIENT_MULTIPLEXED_CONNECTIONS =
+        "alluxio.user.master.client.multiplexed.connections";
+    public static final String USER_MASTER_CLIENT_MULTIPLEXED_ENABLED =
+        "alluxio.user.master.client.multiplexed.enabled";
     public static final String USER_NETWORK_NETTY_CHANNEL = "alluxio.user.network.netty.channel";
     public static final String USER_NETWORK_NETTY_TIMEOUT_MS =
         "alluxio.user.network.netty.timeout";
@@ -2439,8 +2987,11 @@ public final class PropertyKey implements Comparable<PropertyKey> {
     //
     // FUSE integration related properties
     //
+    public static final String FUSE_ATTR_CACHE_TTL = "alluxio.fuse.attr.cache.ttl";
     public static final String FUSE_CACHED_PATHS_MAX = "alluxio.fuse.cached.paths.max";
+    public static final String FUSE_CACHED_STATUS_MAX = "alluxio.fuse.cached.status.max";
     public static final String FUSE_DEBUG_ENABLED = "alluxio.fuse.debug.enabled";
+    public static final String FUSE_ENTRY_CACHE_TTL = "alluxio.fuse.entry.cache.ttl";
     public static final String FUSE_FS_NAME = "alluxio.fuse.fs.name";
     public static final String FUSE_MAXWRITE_BYTES = "alluxio.fuse.maxwrite.bytes";
 
@@ -2453,6 +3004,8 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio.security.authentication.socket.timeout";
     public static final String SECURITY_AUTHENTICATION_TYPE =
         "alluxio.security.authentication.type";
+    public static final String SECURITY_AUTHORIZATION_PERMISSION_CACHE_SIZE =
+        "alluxio.security.authorization.permission.cache.size";
     public static final String SECURITY_AUTHORIZATION_PERMISSION_ENABLED =
         "alluxio.security.authorization.permission.enabled";
     public static final String SECURITY_AUTHORIZATION_PERMISSION_SUPERGROUP =
@@ -2514,6 +3067,9 @@ public final class PropertyKey implements Comparable<PropertyKey> {
         "alluxio\\.worker\\.tieredstore\\.level(\\d+)\\.alias"),
     WORKER_TIERED_STORE_LEVEL_DIRS_PATH("alluxio.worker.tieredstore.level%d.dirs.path",
         "alluxio\\.worker\\.tieredstore\\.level(\\d+)\\.dirs\\.path"),
+    WORKER_TIERED_STORE_LEVEL_DIRS_IO_QUEUE_DEPTH(
+        "alluxio.worker.tieredstore.level%d.dirs.io.queue.depth",
+        "alluxio\\.worker\\.tieredstore\\.level(\\d+)\\.dirs\\.io\\.queue\\.depth", 16),
     WORKER_TIERED_STORE_LEVEL_DIRS_QUOTA("alluxio.worker.tieredstore.level%d.dirs.quota",
         "alluxio\\.worker\\.tieredstore\\.level(\\d+)\\.dirs\\.quota"),
     WORKER_TIERED_STORE_LEVEL_RESERVED_RATIO("alluxio.worker.tieredstore.level%d.reserved.ratio",
@@ -2528,6 +3084,7 @@ public final class PropertyKey implements Comparable<PropertyKey> {
 
     private final String mFormat;
     private final Pattern mPattern;
+    private final Object mDefaultValue;
 
     /**
      * Constructs a property key format.
@@ -2536,8 +3093,28 @@ public final class PropertyKey implements Comparable<PropertyKey> {
      * @param re String of this property as regexp
      */
     Template(String format, String re) {
+      this(format, re, null);
+    }
+
+    /**
+     * Constructs a property key format with a default value for the keys it formats.
+     *
+     * @param format String of this property as formatted string
+     * @param re String of this property as regexp
+     * @param defaultValue default value of the formatted properties, or null if there is none
+     */
+    Template(String format, String re, Object defaultValue) {
       mFormat = format;
       mPattern = Pattern.compile(re);
+      mDefaultValue = defaultValue;
+    }
+
+    /**
+     * @return the default value of the properties formatted from this template, or null if there
+     *         is none
+     */
+    public String getDefaultValue() {
+      return mDefaultValue != null ? mDefaultValue.toString() : null;
     }
 
     @Override
@@ -234,6 +234,21 @@ public class URIStatus {
     return mInfo.getUfsFingerprint();
   }
 
+  /**
+   * @return the minimum number of block replicas to keep in Alluxio
+   */
+  public int getReplicationMin() {
+    return mInfo.getReplicationMin();
+  }
+
+  /**
+   * @return the maximum number of block replicas to keep in Alluxio, or
+   *         {@link alluxio.Constants#REPLICATION_MAX_INFINITY} for no limit
+   */
+  public int getReplicationMax() {
+    return mInfo.getReplicationMax();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
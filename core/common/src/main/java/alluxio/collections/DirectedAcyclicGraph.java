@@ -192,6 +192,52 @@ public class DirectedAcyclicGraph<T> {
     return result;
   }
 
+  /**
+   * Groups a given set of payloads into batches based on the DAG, so that each payload only
+   * depends, directly or through payloads outside of the set, on payloads of earlier batches.
+   * Payloads of the same batch are independent of each other. This method requires all the
+   * payloads to be in the DAG.
+   *
+   * @param payloads the set of input payloads
+   * @return the batches of payloads, in topological order
+   */
+  public List<List<T>> sortTopologicallyInBatches(Set<T> payloads) {
+    Preconditions.checkState(mIndex.keySet().containsAll(payloads),
+        "Not all the given payloads are in the DAG: ", payloads);
+    List<List<T>> batches = new ArrayList<>();
+    // The batch of each node is the number of input payloads on the longest path leading to it,
+    // and a node is only visited once all its parents have been.
+    Map<DirectedAcyclicGraphNode<T>, Integer> batchIndex = new HashMap<>();
+    Map<DirectedAcyclicGraphNode<T>, Integer> unvisitedParents = new HashMap<>();
+    Deque<DirectedAcyclicGraphNode<T>> toVisit = new ArrayDeque<>(mRoots);
+    while (!toVisit.isEmpty()) {
+      DirectedAcyclicGraphNode<T> visit = toVisit.removeFirst();
+      Integer batch = batchIndex.remove(visit);
+      int childBatch = batch == null ? 0 : batch;
+      if (payloads.contains(visit.getPayload())) {
+        if (batches.size() <= childBatch) {
+          batches.add(new ArrayList<T>());
+        }
+        batches.get(childBatch).add(visit.getPayload());
+        childBatch++;
+      }
+      for (DirectedAcyclicGraphNode<T> child : visit.getChildren()) {
+        Integer currentBatch = batchIndex.get(child);
+        if (currentBatch == null || currentBatch < childBatch) {
+          batchIndex.put(child, childBatch);
+        }
+        Integer remaining = unvisitedParents.remove(child);
+        remaining = (remaining == null ? child.getParents().size() : remaining) - 1;
+        if (remaining == 0) {
+          toVisit.addLast(child);
+        } else {
+          unvisitedParents.put(child, remaining);
+        }
+      }
+    }
+    return batches;
+  }
+
   /**
    * Gets all payloads of the DAG in the topological order.
    *
@@ -0,0 +1,191 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A bounded counter which tracks the most frequent keys of a stream with the Space-Saving
+ * algorithm. At most {@code capacity} keys are tracked; when a new key arrives and the counter is
+ * full, the key with the smallest count is evicted and the new key inherits its count. The count
+ * of a tracked key therefore never underestimates its true count, and overestimates it by at most
+ * the count of the evicted key, which is kept as the error of the key.
+ *
+ * @param <T> the type of the keys
+ */
+@NotThreadSafe
+public final class TopKCounter<T> {
+  private final int mCapacity;
+  /** Map from key to its counter. */
+  private final Map<T, Counter<T>> mCounters;
+  /** The counters ordered by increasing count, then by increasing insertion order. */
+  private final TreeSet<Counter<T>> mOrderedCounters;
+  /** The sequence number of the next counter, used to break ties between equal counts. */
+  private long mNextSequence;
+
+  /**
+   * Creates a new instance of {@link TopKCounter}.
+   *
+   * @param capacity the maximum number of keys to track
+   */
+  public TopKCounter(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+    mCapacity = capacity;
+    mCounters = new HashMap<>();
+    mOrderedCounters = new TreeSet<>((a, b) -> {
+      int cmp = Long.compare(a.mCount, b.mCount);
+      return cmp != 0 ? cmp : Long.compare(a.mSequence, b.mSequence);
+    });
+  }
+
+  /**
+   * Adds occurrences of a key.
+   *
+   * @param key the key
+   * @param count the number of occurrences, must be positive
+   */
+  public void add(T key, long count) {
+    Preconditions.checkArgument(count > 0, "count must be positive");
+    Counter<T> counter = mCounters.get(key);
+    if (counter != null) {
+      mOrderedCounters.remove(counter);
+      counter.mCount += count;
+      mOrderedCounters.add(counter);
+      return;
+    }
+    long error = 0;
+    if (mCounters.size() >= mCapacity) {
+      Counter<T> evicted = mOrderedCounters.pollFirst();
+      mCounters.remove(evicted.mKey);
+      error = evicted.mCount;
+    }
+    counter = new Counter<>(key, error + count, error, mNextSequence++);
+    mCounters.put(key, counter);
+    mOrderedCounters.add(counter);
+  }
+
+  /**
+   * @param key the key
+   * @return the estimated count of the key, or 0 if the key is not tracked
+   */
+  public long getCount(T key) {
+    Counter<T> counter = mCounters.get(key);
+    return counter == null ? 0 : counter.mCount;
+  }
+
+  /**
+   * @param key the key
+   * @return the maximum overestimation of the count of the key, or 0 if the key is not tracked
+   */
+  public long getError(T key) {
+    Counter<T> counter = mCounters.get(key);
+    return counter == null ? 0 : counter.mError;
+  }
+
+  /**
+   * @param key the key
+   * @return the number of occurrences of the key which were counted since it was last tracked,
+   *         a lower bound of its true count, or 0 if the key is not tracked
+   */
+  public long getGuaranteedCount(T key) {
+    Counter<T> counter = mCounters.get(key);
+    return counter == null ? 0 : counter.mCount - counter.mError;
+  }
+
+  /**
+   * @param k the maximum number of keys to return
+   * @return a map from the (at most) k keys with the highest counts to their estimated counts,
+   *         iterating in decreasing order of count
+   */
+  public Map<T, Long> getTopK(int k) {
+    Map<T, Long> result = new LinkedHashMap<>();
+    Iterator<Counter<T>> iterator = mOrderedCounters.descendingIterator();
+    while (iterator.hasNext() && result.size() < k) {
+      Counter<T> counter = iterator.next();
+      result.put(counter.mKey, counter.mCount);
+    }
+    return result;
+  }
+
+  /**
+   * Scales down all counts by the given factor, so that old occurrences weigh less than recent
+   * ones. Keys whose count drops to zero are no longer tracked.
+   *
+   * @param factor the factor to multiply the counts with, between 0 and 1
+   */
+  public void decay(double factor) {
+    Preconditions.checkArgument(factor >= 0 && factor <= 1, "factor must be between 0 and 1");
+    // The relative order of the counters is preserved, iterating in order keeps ties stable.
+    List<Counter<T>> counters = new ArrayList<>(mOrderedCounters);
+    mOrderedCounters.clear();
+    for (Counter<T> counter : counters) {
+      counter.mCount = (long) (counter.mCount * factor);
+      counter.mError = (long) (counter.mError * factor);
+      if (counter.mCount == 0) {
+        mCounters.remove(counter.mKey);
+      } else {
+        mOrderedCounters.add(counter);
+      }
+    }
+  }
+
+  /**
+   * @return the number of tracked keys
+   */
+  public int size() {
+    return mCounters.size();
+  }
+
+  /**
+   * @return the maximum number of tracked keys
+   */
+  public int getCapacity() {
+    return mCapacity;
+  }
+
+  /**
+   * Stops tracking all keys.
+   */
+  public void clear() {
+    mCounters.clear();
+    mOrderedCounters.clear();
+  }
+
+  /**
+   * The count of a tracked key.
+   *
+   * @param <T> the type of the key
+   */
+  private static final class Counter<T> {
+    private final T mKey;
+    private final long mSequence;
+    private long mCount;
+    private long mError;
+
+    private Counter(T key, long count, long error, long sequence) {
+      mKey = key;
+      mCount = count;
+      mError = error;
+      mSequence = sequence;
+    }
+  }
+}
@@ -57,6 +57,9 @@ public enum PreconditionMessage {
       "Inconsistent Zookeeper configuration; %s should be set if and only if %s is true"),
   INODE_TREE_UNINITIALIZED_IS_ROOT_ID("Cannot call isRootId() before initializeRoot()"),
   INVALID_PROPERTY("Invalid property: %s"),
+  INVALID_REPLICATION_MAX_VALUE(
+      "Maximum replication must be no less than minimum replication, or -1 for no limit"),
+  INVALID_REPLICATION_MIN_VALUE("Minimum replication cannot be negative"),
   INVALID_USER_FILE_BUFFER_BYTES("Invalid value of %s: %d"),
   NOT_ENOUGH_BYTES_READ(
       "Not enough bytes have been read [bytesRead: %d, bytesToRead: %d] from the UFS file: %s."),
@@ -0,0 +1,244 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics;
+
+import com.codahale.metrics.Reservoir;
+import com.codahale.metrics.Snapshot;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link Reservoir} which records every value into a fixed set of log-linear buckets, in the
+ * spirit of HdrHistogram. Values below {@link #SUB_BUCKET_COUNT} are recorded exactly; every
+ * larger power of two range is split into {@link #SUB_BUCKET_COUNT} equally sized buckets, which
+ * bounds the relative error of any reported quantile to about 1.6%.
+ *
+ * Unlike the default exponentially decaying reservoir, recording a value is a single atomic
+ * increment without locking or sampling, and the histogram is cumulative so that it can be
+ * exported as a summary with monotonically increasing counts.
+ */
+@ThreadSafe
+public final class HistogramReservoir implements Reservoir {
+  /** Number of bits used to index the buckets within a power of two range. */
+  private static final int SUB_BUCKET_BITS = 5;
+  /** Number of buckets within a power of two range. */
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  /** Total number of buckets, enough to cover all non-negative long values. */
+  static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray mCounts = new AtomicLongArray(BUCKET_COUNT);
+
+  /**
+   * Creates a new instance of {@link HistogramReservoir}.
+   */
+  public HistogramReservoir() {}
+
+  @Override
+  public int size() {
+    long count = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      count += mCounts.get(i);
+    }
+    return (int) Math.min(count, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public void update(long value) {
+    mCounts.incrementAndGet(bucketIndex(value));
+  }
+
+  @Override
+  public Snapshot getSnapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = mCounts.get(i);
+    }
+    return new HistogramSnapshot(counts);
+  }
+
+  /**
+   * @param value the value to record, negative values are recorded as 0
+   * @return the index of the bucket the value falls into
+   */
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return value < 0 ? 0 : (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKET_COUNT + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+  }
+
+  /**
+   * @param index the bucket index
+   * @return the smallest value recorded into the bucket
+   */
+  static long lowerBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    return ((long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT)) << shift;
+  }
+
+  /**
+   * @param index the bucket index
+   * @return the largest value recorded into the bucket
+   */
+  static long upperBound(int index) {
+    if (index == BUCKET_COUNT - 1) {
+      return Long.MAX_VALUE;
+    }
+    return lowerBound(index + 1) - 1;
+  }
+
+  /**
+   * @param index the bucket index
+   * @return the value reported for all the values recorded into the bucket
+   */
+  private static long representative(int index) {
+    long lower = lowerBound(index);
+    return lower + (upperBound(index) - lower) / 2;
+  }
+
+  /**
+   * A point in time view of the buckets of a {@link HistogramReservoir}.
+   */
+  private static final class HistogramSnapshot extends Snapshot {
+    private final long[] mCounts;
+    private final long mTotal;
+    private final int mMinIndex;
+    private final int mMaxIndex;
+
+    /**
+     * @param counts the count of values in each bucket
+     */
+    HistogramSnapshot(long[] counts) {
+      mCounts = counts;
+      long total = 0;
+      int minIndex = -1;
+      int maxIndex = -1;
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] > 0) {
+          total += counts[i];
+          if (minIndex < 0) {
+            minIndex = i;
+          }
+          maxIndex = i;
+        }
+      }
+      mTotal = total;
+      mMinIndex = minIndex;
+      mMaxIndex = maxIndex;
+    }
+
+    @Override
+    public double getValue(double quantile) {
+      if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+        throw new IllegalArgumentException(quantile + " is not in [0..1]");
+      }
+      if (mTotal == 0) {
+        return 0.0;
+      }
+      long rank = Math.max(1, (long) Math.ceil(quantile * mTotal));
+      long seen = 0;
+      for (int i = mMinIndex; i <= mMaxIndex; i++) {
+        seen += mCounts[i];
+        if (seen >= rank) {
+          return representative(i);
+        }
+      }
+      return representative(mMaxIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Since the individual values are not retained, this returns the representative value of
+     * each non-empty bucket in ascending order.
+     */
+    @Override
+    public long[] getValues() {
+      if (mTotal == 0) {
+        return new long[0];
+      }
+      long[] values = new long[mMaxIndex - mMinIndex + 1];
+      int n = 0;
+      for (int i = mMinIndex; i <= mMaxIndex; i++) {
+        if (mCounts[i] > 0) {
+          values[n++] = representative(i);
+        }
+      }
+      return Arrays.copyOf(values, n);
+    }
+
+    @Override
+    public int size() {
+      return (int) Math.min(mTotal, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getMax() {
+      return mTotal == 0 ? 0 : representative(mMaxIndex);
+    }
+
+    @Override
+    public double getMean() {
+      if (mTotal == 0) {
+        return 0.0;
+      }
+      double sum = 0;
+      for (int i = mMinIndex; i <= mMaxIndex; i++) {
+        sum += (double) representative(i) * mCounts[i];
+      }
+      return sum / mTotal;
+    }
+
+    @Override
+    public long getMin() {
+      return mTotal == 0 ? 0 : representative(mMinIndex);
+    }
+
+    @Override
+    public double getStdDev() {
+      if (mTotal <= 1) {
+        return 0.0;
+      }
+      double mean = getMean();
+      double variance = 0;
+      for (int i = mMinIndex; i <= mMaxIndex; i++) {
+        double diff = representative(i) - mean;
+        variance += diff * diff * mCounts[i];
+      }
+      return Math.sqrt(variance / (mTotal - 1));
+    }
+
+    @Override
+    public void dump(OutputStream output) {
+      try (PrintWriter out =
+          new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+        for (int i = mMinIndex; mTotal > 0 && i <= mMaxIndex; i++) {
+          if (mCounts[i] > 0) {
+            out.printf("%d %d%n", representative(i), mCounts[i]);
+          }
+        }
+      }
+    }
+  }
+}
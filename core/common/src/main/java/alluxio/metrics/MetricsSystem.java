@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.concurrent.GuardedBy;
@@ -64,6 +65,9 @@ public final class MetricsSystem {
   @GuardedBy("MetricsSystem")
   private static List<Sink> sSinks;
 
+  /** Cache of the timers created by {@link #getOrCreateHistogramTimer(String)}. */
+  private static final ConcurrentHashMap<String, Timer> TIMERS = new ConcurrentHashMap<>();
+
   public static final String SINK_REGEX = "^sink\\.(.+)\\.(.+)";
   private static final TimeUnit MINIMAL_POLL_UNIT = TimeUnit.SECONDS;
   private static final int MINIMAL_POLL_PERIOD = 1;
@@ -237,6 +241,14 @@ public final class MetricsSystem {
   public static Timer masterTimer(String name) {
     return METRIC_REGISTRY.timer(getMasterMetricName(name));
   }
+
+  /**
+   * @param name the metric name
+   * @return the timer, backed by a {@link HistogramReservoir}
+   */
+  public static Timer masterHistogramTimer(String name) {
+    return getOrCreateHistogramTimer(getMasterMetricName(name));
+  }
   /**
    * @param name the metric name
    * @return the counter
@@ -252,6 +264,14 @@ public final class MetricsSystem {
   public static Timer workerTimer(String name) {
     return METRIC_REGISTRY.timer(getWorkerMetricName(name));
   }
+
+  /**
+   * @param name the metric name
+   * @return the timer, backed by a {@link HistogramReservoir}
+   */
+  public static Timer workerHistogramTimer(String name) {
+    return getOrCreateHistogramTimer(getWorkerMetricName(name));
+  }
   /**
    * @param name the metric name
    * @return the counter
@@ -275,6 +295,33 @@ public final class MetricsSystem {
     return METRIC_REGISTRY.counter(getClientMetricName(name));
   }
 
+  /**
+   * Gets the timer registered with the given name, creating and registering it if absent. Timers
+   * created this way are backed by a {@link HistogramReservoir}, so recording a duration does not
+   * take any lock and the latency distribution is kept since the start of the process. This is
+   * meant for request latencies; other timers use the default reservoir of the registry.
+   *
+   * @param name the full metric name
+   * @return the timer
+   */
+  public static Timer getOrCreateHistogramTimer(String name) {
+    Timer timer = TIMERS.get(name);
+    if (timer != null) {
+      return timer;
+    }
+    synchronized (TIMERS) {
+      timer = TIMERS.get(name);
+      if (timer == null) {
+        timer = METRIC_REGISTRY.getTimers().get(name);
+        if (timer == null) {
+          timer = METRIC_REGISTRY.register(name, new Timer(new HistogramReservoir()));
+        }
+        TIMERS.put(name, timer);
+      }
+      return timer;
+    }
+  }
+
   /**
    * Registers a gauge if it has not been registered.
    *
@@ -0,0 +1,32 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The type of Thrift server used to serve RPCs.
+ */
+@ThreadSafe
+public enum ThriftServerType {
+  /**
+   * Serves each client connection with a dedicated thread from a bounded pool.
+   */
+  THREAD_POOL,
+  /**
+   * Multiplexes the client connections over a few selector threads and runs the requests on a
+   * pool of handler threads, so that idle connections do not hold a thread. Requires framed
+   * transport, so only works without SASL authentication.
+   */
+  THREADED_SELECTOR,
+  ;
+}
@@ -0,0 +1,187 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import alluxio.exception.status.UnauthenticatedException;
+import alluxio.exception.status.UnavailableException;
+import alluxio.util.ThreadFactoryUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A connection to a master carrying the requests of many clients at once. Requests are written
+ * as they are issued, and a reader thread hands each response to the request with the same id.
+ * See {@link MultiplexedFrames} for the wire format.
+ */
+@ThreadSafe
+public final class MultiplexedConnection implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(MultiplexedConnection.class);
+
+  private final InetSocketAddress mAddress;
+  private final Socket mSocket;
+  private final DataOutputStream mOutputStream;
+  private final DataInputStream mInputStream;
+  private final int mMaxFrameSize;
+  private final AtomicInteger mNextRequestId = new AtomicInteger();
+  private final Map<Integer, CompletableFuture<byte[]>> mPendingCalls = new ConcurrentHashMap<>();
+  private final Thread mReaderThread;
+  private volatile IOException mFailure;
+
+  /**
+   * Connects to a master and authenticates the given user.
+   *
+   * @param address the address of the master's multiplexed RPC port
+   * @param user the user to authenticate as
+   * @param password the password of the user
+   * @param timeoutMs the timeout for connecting and for the handshake
+   */
+  public MultiplexedConnection(InetSocketAddress address, String user, String password,
+      int timeoutMs) throws IOException {
+    mAddress = address;
+    mMaxFrameSize = MultiplexedFrames.getMaxFrameSize();
+    mSocket = new Socket();
+    try {
+      mSocket.setTcpNoDelay(true);
+      mSocket.setSoTimeout(timeoutMs);
+      mSocket.connect(address, timeoutMs);
+      mOutputStream = new DataOutputStream(new BufferedOutputStream(mSocket.getOutputStream()));
+      mInputStream = new DataInputStream(new BufferedInputStream(mSocket.getInputStream()));
+      mOutputStream.writeInt(MultiplexedFrames.MAGIC);
+      mOutputStream.writeUTF(user);
+      mOutputStream.writeUTF(password);
+      mOutputStream.flush();
+      byte status = mInputStream.readByte();
+      String message = mInputStream.readUTF();
+      if (status != MultiplexedFrames.STATUS_OK) {
+        throw new UnauthenticatedException(message);
+      }
+      // Responses may legitimately take long, calls time out individually instead.
+      mSocket.setSoTimeout(0);
+    } catch (UnauthenticatedException e) {
+      mSocket.close();
+      throw e;
+    } catch (IOException e) {
+      mSocket.close();
+      throw new UnavailableException(
+          String.format("Failed to connect to %s: %s", address, e.getMessage()), e);
+    }
+    mReaderThread = ThreadFactoryUtils.build("multiplexed-connection-reader-" + address + "-%d",
+        true).newThread(this::readResponses);
+    mReaderThread.start();
+  }
+
+  /**
+   * Sends a request. The returned future is completed with the response payload, or
+   * exceptionally if the connection fails first. Cancelling it discards the response.
+   *
+   * @param request the buffer holding the request payload
+   * @param length the length of the payload
+   * @return a future for the response payload
+   */
+  public CompletableFuture<byte[]> call(byte[] request, int length) throws IOException {
+    int requestId = mNextRequestId.incrementAndGet();
+    CompletableFuture<byte[]> future = new CompletableFuture<>();
+    mPendingCalls.put(requestId, future);
+    future.whenComplete((response, throwable) -> mPendingCalls.remove(requestId));
+    // Checked after registering the call, so that either this check or fail() sees it.
+    if (mFailure != null) {
+      mPendingCalls.remove(requestId);
+      throw new UnavailableException(mFailure.getMessage(), mFailure);
+    }
+    try {
+      synchronized (mOutputStream) {
+        MultiplexedFrames.writeFrame(mOutputStream, requestId, request, length);
+      }
+    } catch (IOException e) {
+      fail(e);
+      throw new UnavailableException(
+          String.format("Failed to send a request to %s: %s", mAddress, e.getMessage()), e);
+    }
+    return future;
+  }
+
+  /**
+   * @return whether the connection can still be used
+   */
+  public boolean isOpen() {
+    return mFailure == null;
+  }
+
+  /**
+   * @return the number of requests waiting for a response
+   */
+  public int getPendingCalls() {
+    return mPendingCalls.size();
+  }
+
+  @Override
+  public void close() {
+    fail(new IOException("Connection to " + mAddress + " is closed"));
+  }
+
+  private void readResponses() {
+    try {
+      while (true) {
+        int requestId = mInputStream.readInt();
+        byte[] payload = MultiplexedFrames.readPayload(mInputStream, mMaxFrameSize);
+        CompletableFuture<byte[]> future = mPendingCalls.remove(requestId);
+        if (future != null) {
+          future.complete(payload);
+        }
+      }
+    } catch (EOFException e) {
+      if (isOpen()) {
+        LOG.info("Multiplexed connection to {} was closed by the master", mAddress);
+      }
+      fail(e);
+    } catch (IOException e) {
+      if (isOpen()) {
+        LOG.warn("Multiplexed connection to {} failed: {}", mAddress, e.toString());
+      }
+      fail(e);
+    }
+  }
+
+  private void fail(IOException e) {
+    synchronized (this) {
+      if (mFailure != null) {
+        return;
+      }
+      mFailure = e;
+    }
+    try {
+      mSocket.close();
+    } catch (IOException ce) {
+      LOG.debug("Failed to close socket to {}", mAddress, ce);
+    }
+    for (CompletableFuture<byte[]> future : mPendingCalls.values()) {
+      future.completeExceptionally(e);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+
+import com.google.common.base.Objects;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Keeps a fixed number of {@link MultiplexedConnection}s for each master address and user, and
+ * hands them out in a round robin fashion. Broken connections are replaced when they are next
+ * handed out.
+ */
+@ThreadSafe
+public final class MultiplexedConnectionPool implements Closeable {
+  @GuardedBy("this")
+  private final Map<Key, Slots> mSlots = new HashMap<>();
+
+  /**
+   * Creates a new connection pool.
+   */
+  public MultiplexedConnectionPool() {}
+
+  /**
+   * Returns an open connection to the given address for the given user, connecting if needed.
+   * Connections stay shared with other callers, so they must not be closed by the caller.
+   *
+   * @param address the address of the master's multiplexed RPC port
+   * @param user the user
+   * @param password the password of the user
+   * @param timeoutMs the timeout for connecting
+   * @return a connection
+   */
+  public synchronized MultiplexedConnection acquire(InetSocketAddress address, String user,
+      String password, int timeoutMs) throws IOException {
+    Key key = new Key(address, user);
+    Slots slots = mSlots.get(key);
+    if (slots == null) {
+      int connections =
+          Configuration.getInt(PropertyKey.USER_MASTER_CLIENT_MULTIPLEXED_CONNECTIONS);
+      slots = new Slots(Math.max(1, connections));
+      mSlots.put(key, slots);
+    }
+    int index = slots.mNext;
+    slots.mNext = (index + 1) % slots.mConnections.length;
+    MultiplexedConnection connection = slots.mConnections[index];
+    if (connection == null || !connection.isOpen()) {
+      if (connection != null) {
+        connection.close();
+      }
+      connection = new MultiplexedConnection(address, user, password, timeoutMs);
+      slots.mConnections[index] = connection;
+    }
+    return connection;
+  }
+
+  /**
+   * Closes all connections. Requests in flight fail.
+   */
+  @Override
+  public synchronized void close() {
+    for (Slots slots : mSlots.values()) {
+      for (MultiplexedConnection connection : slots.mConnections) {
+        if (connection != null) {
+          connection.close();
+        }
+      }
+    }
+    mSlots.clear();
+  }
+
+  private static final class Slots {
+    private final MultiplexedConnection[] mConnections;
+    private int mNext;
+
+    private Slots(int size) {
+      mConnections = new MultiplexedConnection[size];
+    }
+  }
+
+  private static final class Key {
+    private final InetSocketAddress mAddress;
+    private final String mUser;
+
+    private Key(InetSocketAddress address, String user) {
+      mAddress = address;
+      mUser = user;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return mAddress.equals(that.mAddress) && mUser.equals(that.mUser);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(mAddress, mUser);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Wire format of multiplexed master RPC connections, shared by the client and the server.
+ *
+ * A connection starts with a handshake: the client sends {@link #MAGIC}, the user name and the
+ * password, and the server answers with a status byte and a message. After that, both sides
+ * exchange frames made of a request id, a payload length and the payload, which is a Thrift
+ * message encoded with the binary protocol. Responses carry the id of their request, so any
+ * number of requests can be outstanding on a connection and be answered in any order.
+ */
+@ThreadSafe
+public final class MultiplexedFrames {
+  /** The first four bytes sent by a client, "ALX1". */
+  public static final int MAGIC = 0x414C5831;
+  /** Handshake status returned when the connection is accepted. */
+  public static final byte STATUS_OK = 0;
+  /** Handshake status returned when the client could not be authenticated. */
+  public static final byte STATUS_UNAUTHENTICATED = 1;
+
+  /**
+   * @return the maximum payload size of a frame
+   */
+  public static int getMaxFrameSize() {
+    return (int) Configuration.getBytes(PropertyKey.NETWORK_THRIFT_FRAME_SIZE_BYTES_MAX);
+  }
+
+  /**
+   * Writes and flushes a frame. Callers writing from several threads must synchronize on the
+   * stream.
+   *
+   * @param out the stream to write to
+   * @param requestId the request id
+   * @param payload the buffer holding the payload
+   * @param length the length of the payload
+   */
+  public static void writeFrame(DataOutputStream out, int requestId, byte[] payload, int length)
+      throws IOException {
+    out.writeInt(requestId);
+    out.writeInt(length);
+    out.write(payload, 0, length);
+    out.flush();
+  }
+
+  /**
+   * Reads the payload of a frame whose request id has already been read.
+   *
+   * @param in the stream to read from
+   * @param maxFrameSize the maximum payload size
+   * @return the payload
+   */
+  public static byte[] readPayload(DataInputStream in, int maxFrameSize) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > maxFrameSize) {
+      throw new IOException(String.format("Invalid frame size %d, the maximum is %d (%s)",
+          length, maxFrameSize, PropertyKey.Name.NETWORK_THRIFT_FRAME_SIZE_BYTES_MAX));
+    }
+    byte[] payload = new byte[length];
+    in.readFully(payload);
+    return payload;
+  }
+
+  private MultiplexedFrames() {} // prevent instantiation
+}
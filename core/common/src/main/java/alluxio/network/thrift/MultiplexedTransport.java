@@ -0,0 +1,158 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import org.apache.thrift.TByteArrayOutputStream;
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A Thrift transport sending each message over a shared {@link MultiplexedConnection}. A message
+ * is sent when the transport is flushed, and reading waits for the response to the last message.
+ * Opening and closing the transport does not open or close the shared connection.
+ */
+@NotThreadSafe
+public final class MultiplexedTransport extends TTransport {
+  private final MultiplexedConnectionPool mPool;
+  private final InetSocketAddress mAddress;
+  private final String mUser;
+  private final String mPassword;
+  private final int mTimeoutMs;
+  private final TByteArrayOutputStream mRequest = new TByteArrayOutputStream(1024);
+  private final TMemoryInputTransport mResponse = new TMemoryInputTransport();
+  private MultiplexedConnection mConnection;
+  private CompletableFuture<byte[]> mPendingResponse;
+
+  /**
+   * @param pool the pool to take the connection from
+   * @param address the address of the master's multiplexed RPC port
+   * @param user the user
+   * @param password the password of the user
+   * @param timeoutMs the timeout for connecting and for waiting for a response
+   */
+  public MultiplexedTransport(MultiplexedConnectionPool pool, InetSocketAddress address,
+      String user, String password, int timeoutMs) {
+    mPool = pool;
+    mAddress = address;
+    mUser = user;
+    mPassword = password;
+    mTimeoutMs = timeoutMs;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return mConnection != null && mConnection.isOpen();
+  }
+
+  @Override
+  public void open() throws TTransportException {
+    try {
+      mConnection = mPool.acquire(mAddress, mUser, mPassword, mTimeoutMs);
+    } catch (IOException e) {
+      throw new TTransportException(TTransportException.NOT_OPEN, e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (mPendingResponse != null) {
+      mPendingResponse.cancel(false);
+      mPendingResponse = null;
+    }
+    mConnection = null;
+    mRequest.reset();
+    mResponse.clear();
+  }
+
+  @Override
+  public void write(byte[] buf, int off, int len) {
+    mRequest.write(buf, off, len);
+  }
+
+  @Override
+  public void flush() throws TTransportException {
+    if (mConnection == null) {
+      throw new TTransportException(TTransportException.NOT_OPEN, "Transport is not open");
+    }
+    try {
+      mPendingResponse = mConnection.call(mRequest.get(), mRequest.len());
+    } catch (IOException e) {
+      throw new TTransportException(TTransportException.NOT_OPEN, e.getMessage(), e);
+    } finally {
+      mRequest.reset();
+    }
+  }
+
+  @Override
+  public int read(byte[] buf, int off, int len) throws TTransportException {
+    if (mResponse.getBytesRemainingInBuffer() <= 0) {
+      mResponse.reset(awaitResponse());
+    }
+    return mResponse.read(buf, off, len);
+  }
+
+  @Override
+  public byte[] getBuffer() {
+    return mResponse.getBuffer();
+  }
+
+  @Override
+  public int getBufferPosition() {
+    return mResponse.getBufferPosition();
+  }
+
+  @Override
+  public int getBytesRemainingInBuffer() {
+    return mResponse.getBytesRemainingInBuffer();
+  }
+
+  @Override
+  public void consumeBuffer(int len) {
+    mResponse.consumeBuffer(len);
+  }
+
+  private byte[] awaitResponse() throws TTransportException {
+    if (mPendingResponse == null) {
+      throw new TTransportException(TTransportException.END_OF_FILE,
+          "No response is expected from " + mAddress);
+    }
+    CompletableFuture<byte[]> pending = mPendingResponse;
+    mPendingResponse = null;
+    try {
+      return pending.get(mTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      pending.cancel(false);
+      throw new TTransportException(TTransportException.TIMED_OUT,
+          String.format("Timed out after %dms waiting for a response from %s", mTimeoutMs,
+              mAddress), e);
+    } catch (InterruptedException e) {
+      pending.cancel(false);
+      Thread.currentThread().interrupt();
+      throw new TTransportException(TTransportException.UNKNOWN,
+          "Interrupted while waiting for a response from " + mAddress, e);
+    } catch (ExecutionException e) {
+      throw new TTransportException(TTransportException.END_OF_FILE,
+          String.format("Connection to %s failed: %s", mAddress, e.getCause().getMessage()),
+          e.getCause());
+    }
+  }
+}
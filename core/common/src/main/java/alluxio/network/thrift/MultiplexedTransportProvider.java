@@ -0,0 +1,79 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.exception.status.UnauthenticatedException;
+import alluxio.security.LoginUser;
+import alluxio.security.User;
+import alluxio.security.authentication.AuthType;
+import alluxio.security.authentication.ClientTransportProvider;
+
+import org.apache.thrift.transport.TTransport;
+
+import java.net.InetSocketAddress;
+import java.util.Set;
+
+import javax.annotation.concurrent.ThreadSafe;
+import javax.security.auth.Subject;
+
+/**
+ * Provides client transports multiplexed over a few connections to each master, see
+ * {@link MultiplexedTransport}. The given addresses are those of the masters' regular RPC port,
+ * the transports connect to {@link PropertyKey#MASTER_RPC_MULTIPLEXED_PORT} on the same host
+ * instead. The connections are served by {@code MultiplexedThriftServer} on the masters.
+ */
+@ThreadSafe
+public final class MultiplexedTransportProvider implements ClientTransportProvider {
+  /** Connections shared by all master clients of this process. */
+  private static final MultiplexedConnectionPool POOL = new MultiplexedConnectionPool();
+
+  private final int mSocketTimeoutMs;
+
+  /**
+   * Constructor for a transport provider with multiplexed connections.
+   */
+  public MultiplexedTransportProvider() {
+    mSocketTimeoutMs =
+        (int) Configuration.getMs(PropertyKey.SECURITY_AUTHENTICATION_SOCKET_TIMEOUT_MS);
+  }
+
+  @Override
+  public TTransport getClientTransport(InetSocketAddress serverAddress)
+      throws UnauthenticatedException {
+    return getClientTransport(null, serverAddress);
+  }
+
+  @Override
+  public TTransport getClientTransport(Subject subject, InetSocketAddress serverAddress)
+      throws UnauthenticatedException {
+    // Without SASL the master does not look at the user, and there is no login user either.
+    String username = "";
+    if (Configuration.getEnum(PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.class)
+        != AuthType.NOSASL) {
+      username = null;
+      if (subject != null) {
+        Set<User> user = subject.getPrincipals(User.class);
+        if (user != null && !user.isEmpty()) {
+          username = user.iterator().next().getName();
+        }
+      }
+      if (username == null || username.isEmpty()) {
+        username = LoginUser.get().getName();
+      }
+    }
+    InetSocketAddress address = new InetSocketAddress(serverAddress.getHostName(),
+        Configuration.getInt(PropertyKey.MASTER_RPC_MULTIPLEXED_PORT));
+    return new MultiplexedTransport(POOL, address, username, "noPassword", mSocketTimeoutMs);
+  }
+}
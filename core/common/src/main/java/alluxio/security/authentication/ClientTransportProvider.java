@@ -0,0 +1,45 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.security.authentication;
+
+import alluxio.exception.status.UnauthenticatedException;
+
+import org.apache.thrift.transport.TTransport;
+
+import java.net.InetSocketAddress;
+
+import javax.security.auth.Subject;
+
+/**
+ * Interface to provide thrift transports for thrift clients. It is the client half of
+ * {@link TransportProvider}, for providers which are not used to build servers.
+ */
+public interface ClientTransportProvider {
+  /**
+   * Creates a transport connecting to the given server.
+   *
+   * @param serverAddress the server address which clients will connect to
+   * @return a TTransport for client
+   */
+  TTransport getClientTransport(InetSocketAddress serverAddress) throws UnauthenticatedException;
+
+  /**
+   * Similar as {@link ClientTransportProvider#getClientTransport(InetSocketAddress)} but it also
+   * specifies the {@link Subject} explicitly.
+   *
+   * @param subject the subject, set to null if not present
+   * @param serverAddress the server address which clients will connect to
+   * @return a TTransport for client
+   */
+  TTransport getClientTransport(Subject subject, InetSocketAddress serverAddress)
+      throws UnauthenticatedException;
+}
@@ -27,7 +27,7 @@ import javax.security.sasl.SaslException;
  * Interface to provide thrift transport service for thrift client and server, based on the type
  * of authentication.
  */
-public interface TransportProvider {
+public interface TransportProvider extends ClientTransportProvider {
   /**
    * Factory for {@code TransportProvider}.
    */
@@ -74,16 +74,10 @@ public interface TransportProvider {
    * @param serverAddress the server address which clients will connect to
    * @return a TTransport for client
    */
+  @Override
   TTransport getClientTransport(InetSocketAddress serverAddress) throws UnauthenticatedException;
 
-  /**
-   * Similar as {@link TransportProvider#getClientTransport(InetSocketAddress)} but it also
-   * specifies the {@link Subject} explicitly.
-   *
-   * @param subject the subject, set to null if not present
-   * @param serverAddress the server address which clients will connect to
-   * @return a TTransport for client
-   */
+  @Override
   TTransport getClientTransport(Subject subject, InetSocketAddress serverAddress)
       throws UnauthenticatedException;
 
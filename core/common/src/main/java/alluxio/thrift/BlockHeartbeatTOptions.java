@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
 public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHeartbeatTOptions, BlockHeartbeatTOptions._Fields>, java.io.Serializable, Cloneable, Comparable<BlockHeartbeatTOptions> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("BlockHeartbeatTOptions");
 
+  private static final org.apache.thrift.protocol.TField BLOCK_ACCESS_COUNTS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockAccessCounts", org.apache.thrift.protocol.TType.MAP, (short)1);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -45,10 +46,11 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     schemes.put(TupleScheme.class, new BlockHeartbeatTOptionsTupleSchemeFactory());
   }
 
+  private Map<Long,Integer> blockAccessCounts; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+    BLOCK_ACCESS_COUNTS((short)1, "blockAccessCounts");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -63,6 +65,8 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
      */
     public static _Fields findByThriftId(int fieldId) {
       switch(fieldId) {
+        case 1: // BLOCK_ACCESS_COUNTS
+          return BLOCK_ACCESS_COUNTS;
         default:
           return null;
       }
@@ -101,9 +105,16 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
       return _fieldName;
     }
   }
+
+  // isset id assignments
+  private static final _Fields optionals[] = {_Fields.BLOCK_ACCESS_COUNTS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+    tmpMap.put(_Fields.BLOCK_ACCESS_COUNTS, new org.apache.thrift.meta_data.FieldMetaData("blockAccessCounts", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32))));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(BlockHeartbeatTOptions.class, metaDataMap);
   }
@@ -115,6 +126,10 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
    * Performs a deep copy on <i>other</i>.
    */
   public BlockHeartbeatTOptions(BlockHeartbeatTOptions other) {
+    if (other.isSetBlockAccessCounts()) {
+      Map<Long,Integer> __this__blockAccessCounts = new HashMap<Long,Integer>(other.blockAccessCounts);
+      this.blockAccessCounts = __this__blockAccessCounts;
+    }
   }
 
   public BlockHeartbeatTOptions deepCopy() {
@@ -123,15 +138,62 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
 
   @Override
   public void clear() {
+    this.blockAccessCounts = null;
+  }
+
+  public int getBlockAccessCountsSize() {
+    return (this.blockAccessCounts == null) ? 0 : this.blockAccessCounts.size();
+  }
+
+  public void putToBlockAccessCounts(long key, int val) {
+    if (this.blockAccessCounts == null) {
+      this.blockAccessCounts = new HashMap<Long,Integer>();
+    }
+    this.blockAccessCounts.put(key, val);
+  }
+
+  public Map<Long,Integer> getBlockAccessCounts() {
+    return this.blockAccessCounts;
+  }
+
+  public BlockHeartbeatTOptions setBlockAccessCounts(Map<Long,Integer> blockAccessCounts) {
+    this.blockAccessCounts = blockAccessCounts;
+    return this;
+  }
+
+  public void unsetBlockAccessCounts() {
+    this.blockAccessCounts = null;
+  }
+
+  /** Returns true if field blockAccessCounts is set (has been assigned a value) and false otherwise */
+  public boolean isSetBlockAccessCounts() {
+    return this.blockAccessCounts != null;
+  }
+
+  public void setBlockAccessCountsIsSet(boolean value) {
+    if (!value) {
+      this.blockAccessCounts = null;
+    }
   }
 
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
+    case BLOCK_ACCESS_COUNTS:
+      if (value == null) {
+        unsetBlockAccessCounts();
+      } else {
+        setBlockAccessCounts((Map<Long,Integer>)value);
+      }
+      break;
+
     }
   }
 
   public Object getFieldValue(_Fields field) {
     switch (field) {
+    case BLOCK_ACCESS_COUNTS:
+      return getBlockAccessCounts();
+
     }
     throw new IllegalStateException();
   }
@@ -143,6 +205,8 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     }
 
     switch (field) {
+    case BLOCK_ACCESS_COUNTS:
+      return isSetBlockAccessCounts();
     }
     throw new IllegalStateException();
   }
@@ -160,6 +224,15 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     if (that == null)
       return false;
 
+    boolean this_present_blockAccessCounts = true && this.isSetBlockAccessCounts();
+    boolean that_present_blockAccessCounts = true && that.isSetBlockAccessCounts();
+    if (this_present_blockAccessCounts || that_present_blockAccessCounts) {
+      if (!(this_present_blockAccessCounts && that_present_blockAccessCounts))
+        return false;
+      if (!this.blockAccessCounts.equals(that.blockAccessCounts))
+        return false;
+    }
+
     return true;
   }
 
@@ -167,6 +240,11 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
   public int hashCode() {
     List<Object> list = new ArrayList<Object>();
 
+    boolean present_blockAccessCounts = true && (isSetBlockAccessCounts());
+    list.add(present_blockAccessCounts);
+    if (present_blockAccessCounts)
+      list.add(blockAccessCounts);
+
     return list.hashCode();
   }
 
@@ -178,6 +256,16 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
 
     int lastComparison = 0;
 
+    lastComparison = Boolean.valueOf(isSetBlockAccessCounts()).compareTo(other.isSetBlockAccessCounts());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetBlockAccessCounts()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockAccessCounts, other.blockAccessCounts);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -198,6 +286,15 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     StringBuilder sb = new StringBuilder("BlockHeartbeatTOptions(");
     boolean first = true;
 
+    if (isSetBlockAccessCounts()) {
+      sb.append("blockAccessCounts:");
+      if (this.blockAccessCounts == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockAccessCounts);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -241,6 +338,26 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
           break;
         }
         switch (schemeField.id) {
+          case 1: // BLOCK_ACCESS_COUNTS
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map8 = iprot.readMapBegin();
+                struct.blockAccessCounts = new HashMap<Long,Integer>(2*_map8.size);
+                long _key9;
+                int _val10;
+                for (int _i11 = 0; _i11 < _map8.size; ++_i11)
+                {
+                  _key9 = iprot.readI64();
+                  _val10 = iprot.readI32();
+                  struct.blockAccessCounts.put(_key9, _val10);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setBlockAccessCountsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -256,6 +373,21 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
       struct.validate();
 
       oprot.writeStructBegin(STRUCT_DESC);
+      if (struct.blockAccessCounts != null) {
+        if (struct.isSetBlockAccessCounts()) {
+          oprot.writeFieldBegin(BLOCK_ACCESS_COUNTS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.I32, struct.blockAccessCounts.size()));
+            for (Map.Entry<Long, Integer> _iter12 : struct.blockAccessCounts.entrySet())
+            {
+              oprot.writeI64(_iter12.getKey());
+              oprot.writeI32(_iter12.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -273,11 +405,42 @@ public class BlockHeartbeatTOptions implements org.apache.thrift.TBase<BlockHear
     @Override
     public void write(org.apache.thrift.protocol.TProtocol prot, BlockHeartbeatTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol oprot = (TTupleProtocol) prot;
+      BitSet optionals = new BitSet();
+      if (struct.isSetBlockAccessCounts()) {
+        optionals.set(0);
+      }
+      oprot.writeBitSet(optionals, 1);
+      if (struct.isSetBlockAccessCounts()) {
+        {
+          oprot.writeI32(struct.blockAccessCounts.size());
+          for (Map.Entry<Long, Integer> _iter13 : struct.blockAccessCounts.entrySet())
+          {
+            oprot.writeI64(_iter13.getKey());
+            oprot.writeI32(_iter13.getValue());
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, BlockHeartbeatTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
+      BitSet incoming = iprot.readBitSet(1);
+      if (incoming.get(0)) {
+        {
+          org.apache.thrift.protocol.TMap _map14 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.I32, iprot.readI32());
+          struct.blockAccessCounts = new HashMap<Long,Integer>(2*_map14.size);
+          long _key15;
+          int _val16;
+          for (int _i17 = 0; _i17 < _map14.size; ++_i17)
+          {
+            _key15 = iprot.readI64();
+            _val16 = iprot.readI32();
+            struct.blockAccessCounts.put(_key15, _val16);
+          }
+        }
+        struct.setBlockAccessCountsIsSet(true);
+      }
     }
   }
 
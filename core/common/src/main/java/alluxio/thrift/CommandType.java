@@ -17,7 +17,9 @@ public enum CommandType implements org.apache.thrift.TEnum {
   Register(2),
   Free(3),
   Delete(4),
-  Persist(5);
+  Persist(5),
+  Load(6),
+  Replicate(7);
 
   private final int value;
 
@@ -50,6 +52,10 @@ public enum CommandType implements org.apache.thrift.TEnum {
         return Delete;
       case 5:
         return Persist;
+      case 6:
+        return Load;
+      case 7:
+        return Replicate;
       default:
         return null;
     }
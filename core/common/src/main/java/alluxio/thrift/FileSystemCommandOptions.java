@@ -37,10 +37,12 @@ import org.slf4j.LoggerFactory;
 public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSystemCommandOptions, FileSystemCommandOptions._Fields> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("FileSystemCommandOptions");
   private static final org.apache.thrift.protocol.TField PERSIST_OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("persistOptions", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+  private static final org.apache.thrift.protocol.TField LOAD_OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("loadOptions", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-    PERSIST_OPTIONS((short)1, "persistOptions");
+    PERSIST_OPTIONS((short)1, "persistOptions"),
+    LOAD_OPTIONS((short)2, "loadOptions");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -57,6 +59,8 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
       switch(fieldId) {
         case 1: // PERSIST_OPTIONS
           return PERSIST_OPTIONS;
+        case 2: // LOAD_OPTIONS
+          return LOAD_OPTIONS;
         default:
           return null;
       }
@@ -101,6 +105,8 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
     tmpMap.put(_Fields.PERSIST_OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("persistOptions", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT        , "PersistCommandOptions")));
+    tmpMap.put(_Fields.LOAD_OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("loadOptions", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT        , "LoadCommandOptions")));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(FileSystemCommandOptions.class, metaDataMap);
   }
@@ -126,6 +132,12 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
     return x;
   }
 
+  public static FileSystemCommandOptions loadOptions(LoadCommandOptions value) {
+    FileSystemCommandOptions x = new FileSystemCommandOptions();
+    x.setLoadOptions(value);
+    return x;
+  }
+
 
   @Override
   protected void checkType(_Fields setField, Object value) throws ClassCastException {
@@ -135,6 +147,11 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
           break;
         }
         throw new ClassCastException("Was expecting value of type PersistCommandOptions for field 'persistOptions', but got " + value.getClass().getSimpleName());
+      case LOAD_OPTIONS:
+        if (value instanceof LoadCommandOptions) {
+          break;
+        }
+        throw new ClassCastException("Was expecting value of type LoadCommandOptions for field 'loadOptions', but got " + value.getClass().getSimpleName());
       default:
         throw new IllegalArgumentException("Unknown field id " + setField);
     }
@@ -155,6 +172,16 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, field.type);
             return null;
           }
+        case LOAD_OPTIONS:
+          if (field.type == LOAD_OPTIONS_FIELD_DESC.type) {
+            LoadCommandOptions loadOptions;
+            loadOptions = new LoadCommandOptions();
+            loadOptions.read(iprot);
+            return loadOptions;
+          } else {
+            org.apache.thrift.protocol.TProtocolUtil.skip(iprot, field.type);
+            return null;
+          }
         default:
           throw new IllegalStateException("setField wasn't null, but didn't match any of the case statements!");
       }
@@ -171,6 +198,10 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
         PersistCommandOptions persistOptions = (PersistCommandOptions)value_;
         persistOptions.write(oprot);
         return;
+      case LOAD_OPTIONS:
+        LoadCommandOptions loadOptions = (LoadCommandOptions)value_;
+        loadOptions.write(oprot);
+        return;
       default:
         throw new IllegalStateException("Cannot write union with unknown field " + setField_);
     }
@@ -186,6 +217,11 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
           persistOptions = new PersistCommandOptions();
           persistOptions.read(iprot);
           return persistOptions;
+        case LOAD_OPTIONS:
+          LoadCommandOptions loadOptions;
+          loadOptions = new LoadCommandOptions();
+          loadOptions.read(iprot);
+          return loadOptions;
         default:
           throw new IllegalStateException("setField wasn't null, but didn't match any of the case statements!");
       }
@@ -201,6 +237,10 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
         PersistCommandOptions persistOptions = (PersistCommandOptions)value_;
         persistOptions.write(oprot);
         return;
+      case LOAD_OPTIONS:
+        LoadCommandOptions loadOptions = (LoadCommandOptions)value_;
+        loadOptions.write(oprot);
+        return;
       default:
         throw new IllegalStateException("Cannot write union with unknown field " + setField_);
     }
@@ -211,6 +251,8 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
     switch (setField) {
       case PERSIST_OPTIONS:
         return PERSIST_OPTIONS_FIELD_DESC;
+      case LOAD_OPTIONS:
+        return LOAD_OPTIONS_FIELD_DESC;
       default:
         throw new IllegalArgumentException("Unknown field id " + setField);
     }
@@ -245,11 +287,30 @@ public class FileSystemCommandOptions extends org.apache.thrift.TUnion<FileSyste
     value_ = value;
   }
 
+  public LoadCommandOptions getLoadOptions() {
+    if (getSetField() == _Fields.LOAD_OPTIONS) {
+      return (LoadCommandOptions)getFieldValue();
+    } else {
+      throw new RuntimeException("Cannot get field 'loadOptions' because union is currently set to " + getFieldDesc(getSetField()).name);
+    }
+  }
+
+  public void setLoadOptions(LoadCommandOptions value) {
+    if (value == null) throw new NullPointerException();
+    setField_ = _Fields.LOAD_OPTIONS;
+    value_ = value;
+  }
+
   public boolean isSetPersistOptions() {
     return setField_ == _Fields.PERSIST_OPTIONS;
   }
 
 
+  public boolean isSetLoadOptions() {
+    return setField_ == _Fields.LOAD_OPTIONS;
+  }
+
+
   public boolean equals(Object other) {
     if (other instanceof FileSystemCommandOptions) {
       return equals((FileSystemCommandOptions)other);
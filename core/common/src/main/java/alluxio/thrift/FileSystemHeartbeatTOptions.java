@@ -39,6 +39,8 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("FileSystemHeartbeatTOptions");
 
   private static final org.apache.thrift.protocol.TField PERSISTED_FILE_FINGERPRINTS_FIELD_DESC = new org.apache.thrift.protocol.TField("persistedFileFingerprints", org.apache.thrift.protocol.TType.LIST, (short)1);
+  private static final org.apache.thrift.protocol.TField LOADED_BLOCKS_FIELD_DESC = new org.apache.thrift.protocol.TField("loadedBlocks", org.apache.thrift.protocol.TType.LIST, (short)2);
+  private static final org.apache.thrift.protocol.TField LOAD_FAILED_BLOCKS_FIELD_DESC = new org.apache.thrift.protocol.TField("loadFailedBlocks", org.apache.thrift.protocol.TType.LIST, (short)3);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -47,10 +49,14 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
   }
 
   private List<String> persistedFileFingerprints; // optional
+  private List<Long> loadedBlocks; // optional
+  private List<Long> loadFailedBlocks; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-    PERSISTED_FILE_FINGERPRINTS((short)1, "persistedFileFingerprints");
+    PERSISTED_FILE_FINGERPRINTS((short)1, "persistedFileFingerprints"),
+    LOADED_BLOCKS((short)2, "loadedBlocks"),
+    LOAD_FAILED_BLOCKS((short)3, "loadFailedBlocks");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -67,6 +73,10 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
       switch(fieldId) {
         case 1: // PERSISTED_FILE_FINGERPRINTS
           return PERSISTED_FILE_FINGERPRINTS;
+        case 2: // LOADED_BLOCKS
+          return LOADED_BLOCKS;
+        case 3: // LOAD_FAILED_BLOCKS
+          return LOAD_FAILED_BLOCKS;
         default:
           return null;
       }
@@ -107,13 +117,19 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
   }
 
   // isset id assignments
-  private static final _Fields optionals[] = {_Fields.PERSISTED_FILE_FINGERPRINTS};
+  private static final _Fields optionals[] = {_Fields.PERSISTED_FILE_FINGERPRINTS,_Fields.LOADED_BLOCKS,_Fields.LOAD_FAILED_BLOCKS};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
     tmpMap.put(_Fields.PERSISTED_FILE_FINGERPRINTS, new org.apache.thrift.meta_data.FieldMetaData("persistedFileFingerprints", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.LOADED_BLOCKS, new org.apache.thrift.meta_data.FieldMetaData("loadedBlocks", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+    tmpMap.put(_Fields.LOAD_FAILED_BLOCKS, new org.apache.thrift.meta_data.FieldMetaData("loadFailedBlocks", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(FileSystemHeartbeatTOptions.class, metaDataMap);
   }
@@ -129,6 +145,14 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
       List<String> __this__persistedFileFingerprints = new ArrayList<String>(other.persistedFileFingerprints);
       this.persistedFileFingerprints = __this__persistedFileFingerprints;
     }
+    if (other.isSetLoadedBlocks()) {
+      List<Long> __this__loadedBlocks = new ArrayList<Long>(other.loadedBlocks);
+      this.loadedBlocks = __this__loadedBlocks;
+    }
+    if (other.isSetLoadFailedBlocks()) {
+      List<Long> __this__loadFailedBlocks = new ArrayList<Long>(other.loadFailedBlocks);
+      this.loadFailedBlocks = __this__loadFailedBlocks;
+    }
   }
 
   public FileSystemHeartbeatTOptions deepCopy() {
@@ -138,6 +162,8 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
   @Override
   public void clear() {
     this.persistedFileFingerprints = null;
+    this.loadedBlocks = null;
+    this.loadFailedBlocks = null;
   }
 
   public int getPersistedFileFingerprintsSize() {
@@ -179,6 +205,84 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     }
   }
 
+  public int getLoadedBlocksSize() {
+    return (this.loadedBlocks == null) ? 0 : this.loadedBlocks.size();
+  }
+
+  public java.util.Iterator<Long> getLoadedBlocksIterator() {
+    return (this.loadedBlocks == null) ? null : this.loadedBlocks.iterator();
+  }
+
+  public void addToLoadedBlocks(long elem) {
+    if (this.loadedBlocks == null) {
+      this.loadedBlocks = new ArrayList<Long>();
+    }
+    this.loadedBlocks.add(elem);
+  }
+
+  public List<Long> getLoadedBlocks() {
+    return this.loadedBlocks;
+  }
+
+  public FileSystemHeartbeatTOptions setLoadedBlocks(List<Long> loadedBlocks) {
+    this.loadedBlocks = loadedBlocks;
+    return this;
+  }
+
+  public void unsetLoadedBlocks() {
+    this.loadedBlocks = null;
+  }
+
+  /** Returns true if field loadedBlocks is set (has been assigned a value) and false otherwise */
+  public boolean isSetLoadedBlocks() {
+    return this.loadedBlocks != null;
+  }
+
+  public void setLoadedBlocksIsSet(boolean value) {
+    if (!value) {
+      this.loadedBlocks = null;
+    }
+  }
+
+  public int getLoadFailedBlocksSize() {
+    return (this.loadFailedBlocks == null) ? 0 : this.loadFailedBlocks.size();
+  }
+
+  public java.util.Iterator<Long> getLoadFailedBlocksIterator() {
+    return (this.loadFailedBlocks == null) ? null : this.loadFailedBlocks.iterator();
+  }
+
+  public void addToLoadFailedBlocks(long elem) {
+    if (this.loadFailedBlocks == null) {
+      this.loadFailedBlocks = new ArrayList<Long>();
+    }
+    this.loadFailedBlocks.add(elem);
+  }
+
+  public List<Long> getLoadFailedBlocks() {
+    return this.loadFailedBlocks;
+  }
+
+  public FileSystemHeartbeatTOptions setLoadFailedBlocks(List<Long> loadFailedBlocks) {
+    this.loadFailedBlocks = loadFailedBlocks;
+    return this;
+  }
+
+  public void unsetLoadFailedBlocks() {
+    this.loadFailedBlocks = null;
+  }
+
+  /** Returns true if field loadFailedBlocks is set (has been assigned a value) and false otherwise */
+  public boolean isSetLoadFailedBlocks() {
+    return this.loadFailedBlocks != null;
+  }
+
+  public void setLoadFailedBlocksIsSet(boolean value) {
+    if (!value) {
+      this.loadFailedBlocks = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case PERSISTED_FILE_FINGERPRINTS:
@@ -189,6 +293,22 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
       }
       break;
 
+    case LOADED_BLOCKS:
+      if (value == null) {
+        unsetLoadedBlocks();
+      } else {
+        setLoadedBlocks((List<Long>)value);
+      }
+      break;
+
+    case LOAD_FAILED_BLOCKS:
+      if (value == null) {
+        unsetLoadFailedBlocks();
+      } else {
+        setLoadFailedBlocks((List<Long>)value);
+      }
+      break;
+
     }
   }
 
@@ -197,6 +317,12 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     case PERSISTED_FILE_FINGERPRINTS:
       return getPersistedFileFingerprints();
 
+    case LOADED_BLOCKS:
+      return getLoadedBlocks();
+
+    case LOAD_FAILED_BLOCKS:
+      return getLoadFailedBlocks();
+
     }
     throw new IllegalStateException();
   }
@@ -210,6 +336,10 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     switch (field) {
     case PERSISTED_FILE_FINGERPRINTS:
       return isSetPersistedFileFingerprints();
+    case LOADED_BLOCKS:
+      return isSetLoadedBlocks();
+    case LOAD_FAILED_BLOCKS:
+      return isSetLoadFailedBlocks();
     }
     throw new IllegalStateException();
   }
@@ -236,6 +366,24 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
         return false;
     }
 
+    boolean this_present_loadedBlocks = true && this.isSetLoadedBlocks();
+    boolean that_present_loadedBlocks = true && that.isSetLoadedBlocks();
+    if (this_present_loadedBlocks || that_present_loadedBlocks) {
+      if (!(this_present_loadedBlocks && that_present_loadedBlocks))
+        return false;
+      if (!this.loadedBlocks.equals(that.loadedBlocks))
+        return false;
+    }
+
+    boolean this_present_loadFailedBlocks = true && this.isSetLoadFailedBlocks();
+    boolean that_present_loadFailedBlocks = true && that.isSetLoadFailedBlocks();
+    if (this_present_loadFailedBlocks || that_present_loadFailedBlocks) {
+      if (!(this_present_loadFailedBlocks && that_present_loadFailedBlocks))
+        return false;
+      if (!this.loadFailedBlocks.equals(that.loadFailedBlocks))
+        return false;
+    }
+
     return true;
   }
 
@@ -248,6 +396,16 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     if (present_persistedFileFingerprints)
       list.add(persistedFileFingerprints);
 
+    boolean present_loadedBlocks = true && (isSetLoadedBlocks());
+    list.add(present_loadedBlocks);
+    if (present_loadedBlocks)
+      list.add(loadedBlocks);
+
+    boolean present_loadFailedBlocks = true && (isSetLoadFailedBlocks());
+    list.add(present_loadFailedBlocks);
+    if (present_loadFailedBlocks)
+      list.add(loadFailedBlocks);
+
     return list.hashCode();
   }
 
@@ -269,6 +427,26 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetLoadedBlocks()).compareTo(other.isSetLoadedBlocks());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetLoadedBlocks()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.loadedBlocks, other.loadedBlocks);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetLoadFailedBlocks()).compareTo(other.isSetLoadFailedBlocks());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetLoadFailedBlocks()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.loadFailedBlocks, other.loadFailedBlocks);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -298,6 +476,26 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
       }
       first = false;
     }
+    if (isSetLoadedBlocks()) {
+      if (!first) sb.append(", ");
+      sb.append("loadedBlocks:");
+      if (this.loadedBlocks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.loadedBlocks);
+      }
+      first = false;
+    }
+    if (isSetLoadFailedBlocks()) {
+      if (!first) sb.append(", ");
+      sb.append("loadFailedBlocks:");
+      if (this.loadFailedBlocks == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.loadFailedBlocks);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -344,13 +542,13 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
           case 1: // PERSISTED_FILE_FINGERPRINTS
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list94 = iprot.readListBegin();
-                struct.persistedFileFingerprints = new ArrayList<String>(_list94.size);
-                String _elem95;
-                for (int _i96 = 0; _i96 < _list94.size; ++_i96)
+                org.apache.thrift.protocol.TList _list110 = iprot.readListBegin();
+                struct.persistedFileFingerprints = new ArrayList<String>(_list110.size);
+                String _elem111;
+                for (int _i112 = 0; _i112 < _list110.size; ++_i112)
                 {
-                  _elem95 = iprot.readString();
-                  struct.persistedFileFingerprints.add(_elem95);
+                  _elem111 = iprot.readString();
+                  struct.persistedFileFingerprints.add(_elem111);
                 }
                 iprot.readListEnd();
               }
@@ -359,6 +557,42 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 2: // LOADED_BLOCKS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list113 = iprot.readListBegin();
+                struct.loadedBlocks = new ArrayList<Long>(_list113.size);
+                long _elem114;
+                for (int _i115 = 0; _i115 < _list113.size; ++_i115)
+                {
+                  _elem114 = iprot.readI64();
+                  struct.loadedBlocks.add(_elem114);
+                }
+                iprot.readListEnd();
+              }
+              struct.setLoadedBlocksIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 3: // LOAD_FAILED_BLOCKS
+            if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+              {
+                org.apache.thrift.protocol.TList _list116 = iprot.readListBegin();
+                struct.loadFailedBlocks = new ArrayList<Long>(_list116.size);
+                long _elem117;
+                for (int _i118 = 0; _i118 < _list116.size; ++_i118)
+                {
+                  _elem117 = iprot.readI64();
+                  struct.loadFailedBlocks.add(_elem117);
+                }
+                iprot.readListEnd();
+              }
+              struct.setLoadFailedBlocksIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -379,9 +613,37 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
           oprot.writeFieldBegin(PERSISTED_FILE_FINGERPRINTS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.persistedFileFingerprints.size()));
-            for (String _iter97 : struct.persistedFileFingerprints)
+            for (String _iter119 : struct.persistedFileFingerprints)
+            {
+              oprot.writeString(_iter119);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.loadedBlocks != null) {
+        if (struct.isSetLoadedBlocks()) {
+          oprot.writeFieldBegin(LOADED_BLOCKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.loadedBlocks.size()));
+            for (long _iter120 : struct.loadedBlocks)
             {
-              oprot.writeString(_iter97);
+              oprot.writeI64(_iter120);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.loadFailedBlocks != null) {
+        if (struct.isSetLoadFailedBlocks()) {
+          oprot.writeFieldBegin(LOAD_FAILED_BLOCKS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.loadFailedBlocks.size()));
+            for (long _iter121 : struct.loadFailedBlocks)
+            {
+              oprot.writeI64(_iter121);
             }
             oprot.writeListEnd();
           }
@@ -409,13 +671,37 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
       if (struct.isSetPersistedFileFingerprints()) {
         optionals.set(0);
       }
-      oprot.writeBitSet(optionals, 1);
+      if (struct.isSetLoadedBlocks()) {
+        optionals.set(1);
+      }
+      if (struct.isSetLoadFailedBlocks()) {
+        optionals.set(2);
+      }
+      oprot.writeBitSet(optionals, 3);
       if (struct.isSetPersistedFileFingerprints()) {
         {
           oprot.writeI32(struct.persistedFileFingerprints.size());
-          for (String _iter98 : struct.persistedFileFingerprints)
+          for (String _iter122 : struct.persistedFileFingerprints)
           {
-            oprot.writeString(_iter98);
+            oprot.writeString(_iter122);
+          }
+        }
+      }
+      if (struct.isSetLoadedBlocks()) {
+        {
+          oprot.writeI32(struct.loadedBlocks.size());
+          for (long _iter123 : struct.loadedBlocks)
+          {
+            oprot.writeI64(_iter123);
+          }
+        }
+      }
+      if (struct.isSetLoadFailedBlocks()) {
+        {
+          oprot.writeI32(struct.loadFailedBlocks.size());
+          for (long _iter124 : struct.loadFailedBlocks)
+          {
+            oprot.writeI64(_iter124);
           }
         }
       }
@@ -424,20 +710,46 @@ public class FileSystemHeartbeatTOptions implements org.apache.thrift.TBase<File
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, FileSystemHeartbeatTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(1);
+      BitSet incoming = iprot.readBitSet(3);
       if (incoming.get(0)) {
         {
-          org.apache.thrift.protocol.TList _list99 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.persistedFileFingerprints = new ArrayList<String>(_list99.size);
-          String _elem100;
-          for (int _i101 = 0; _i101 < _list99.size; ++_i101)
+          org.apache.thrift.protocol.TList _list125 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.persistedFileFingerprints = new ArrayList<String>(_list125.size);
+          String _elem126;
+          for (int _i127 = 0; _i127 < _list125.size; ++_i127)
           {
-            _elem100 = iprot.readString();
-            struct.persistedFileFingerprints.add(_elem100);
+            _elem126 = iprot.readString();
+            struct.persistedFileFingerprints.add(_elem126);
           }
         }
         struct.setPersistedFileFingerprintsIsSet(true);
       }
+      if (incoming.get(1)) {
+        {
+          org.apache.thrift.protocol.TList _list128 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.loadedBlocks = new ArrayList<Long>(_list128.size);
+          long _elem129;
+          for (int _i130 = 0; _i130 < _list128.size; ++_i130)
+          {
+            _elem129 = iprot.readI64();
+            struct.loadedBlocks.add(_elem129);
+          }
+        }
+        struct.setLoadedBlocksIsSet(true);
+      }
+      if (incoming.get(2)) {
+        {
+          org.apache.thrift.protocol.TList _list131 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.loadFailedBlocks = new ArrayList<Long>(_list131.size);
+          long _elem132;
+          for (int _i133 = 0; _i133 < _list131.size; ++_i133)
+          {
+            _elem132 = iprot.readI64();
+            struct.loadFailedBlocks.add(_elem132);
+          }
+        }
+        struct.setLoadFailedBlocksIsSet(true);
+      }
     }
   }
 
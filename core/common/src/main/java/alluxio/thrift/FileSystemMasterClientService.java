@@ -42,6 +42,16 @@ public class FileSystemMasterClientService {
    */
   public interface Iface extends alluxio.thrift.AlluxioService.Iface {
 
+    /**
+     * Applies the given metadata operations in order, sharing a single journal flush. The batch
+     * stops at the first failing operation; operations before it remain applied.
+     * 
+     * @param operations the operations to apply
+     * 
+     * @param options the method options
+     */
+    public ApplyBatchTResponse applyBatch(List<BatchOperation> operations, ApplyBatchTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Checks the consistency of the files and directores with the path as the root of the subtree
      * 
@@ -89,6 +99,22 @@ public class FileSystemMasterClientService {
      */
     public FreeTResponse free(String path, boolean recursive, FreeTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Returns the most frequently read files, ordered by their recent access counts.
+     * 
+     * @param options the method options
+     */
+    public GetHotFilesTResponse getHotFiles(GetHotFilesTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
+    /**
+     * Returns the progress of a distributed load.
+     * 
+     * @param loadId the id of the load
+     * 
+     * @param options the method options
+     */
+    public GetLoadStatusTResponse getLoadStatus(long loadId, GetLoadStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Returns the status of the file or directory.
      * 
@@ -118,6 +144,16 @@ public class FileSystemMasterClientService {
      */
     public ListStatusTResponse listStatus(String path, ListStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
 
+    /**
+     * Starts a distributed load of the file or directory, in which the workers read the blocks
+     * which are not in Alluxio directly from the under storage. Returns the id of the load.
+     * 
+     * @param path the path of the file or directory
+     * 
+     * @param options the method options
+     */
+    public LoadTResponse load(String path, LoadTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException;
+
     /**
      * Loads metadata for the object identified by the given Alluxio path from UFS into Alluxio.
      * 
@@ -204,6 +240,8 @@ public class FileSystemMasterClientService {
 
   public interface AsyncIface extends alluxio.thrift.AlluxioService .AsyncIface {
 
+    public void applyBatch(List<BatchOperation> operations, ApplyBatchTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void checkConsistency(String path, CheckConsistencyTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void completeFile(String path, CompleteFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -214,12 +252,18 @@ public class FileSystemMasterClientService {
 
     public void free(String path, boolean recursive, FreeTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getHotFiles(GetHotFilesTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void getLoadStatus(long loadId, GetLoadStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getStatus(String path, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void getNewBlockIdForFile(String path, GetNewBlockIdForFileTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void listStatus(String path, ListStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void load(String path, LoadTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void loadMetadata(String ufsPath, boolean recursive, LoadMetadataTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void mount(String alluxioPath, String ufsPath, MountTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -258,6 +302,33 @@ public class FileSystemMasterClientService {
       super(iprot, oprot);
     }
 
+    public ApplyBatchTResponse applyBatch(List<BatchOperation> operations, ApplyBatchTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_applyBatch(operations, options);
+      return recv_applyBatch();
+    }
+
+    public void send_applyBatch(List<BatchOperation> operations, ApplyBatchTOptions options) throws org.apache.thrift.TException
+    {
+      applyBatch_args args = new applyBatch_args();
+      args.setOperations(operations);
+      args.setOptions(options);
+      sendBase("applyBatch", args);
+    }
+
+    public ApplyBatchTResponse recv_applyBatch() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      applyBatch_result result = new applyBatch_result();
+      receiveBase(result, "applyBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "applyBatch failed: unknown result");
+    }
+
     public CheckConsistencyTResponse checkConsistency(String path, CheckConsistencyTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_checkConsistency(path, options);
@@ -394,6 +465,59 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "free failed: unknown result");
     }
 
+    public GetHotFilesTResponse getHotFiles(GetHotFilesTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getHotFiles(options);
+      return recv_getHotFiles();
+    }
+
+    public void send_getHotFiles(GetHotFilesTOptions options) throws org.apache.thrift.TException
+    {
+      getHotFiles_args args = new getHotFiles_args();
+      args.setOptions(options);
+      sendBase("getHotFiles", args);
+    }
+
+    public GetHotFilesTResponse recv_getHotFiles() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getHotFiles_result result = new getHotFiles_result();
+      receiveBase(result, "getHotFiles");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getHotFiles failed: unknown result");
+    }
+
+    public GetLoadStatusTResponse getLoadStatus(long loadId, GetLoadStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_getLoadStatus(loadId, options);
+      return recv_getLoadStatus();
+    }
+
+    public void send_getLoadStatus(long loadId, GetLoadStatusTOptions options) throws org.apache.thrift.TException
+    {
+      getLoadStatus_args args = new getLoadStatus_args();
+      args.setLoadId(loadId);
+      args.setOptions(options);
+      sendBase("getLoadStatus", args);
+    }
+
+    public GetLoadStatusTResponse recv_getLoadStatus() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      getLoadStatus_result result = new getLoadStatus_result();
+      receiveBase(result, "getLoadStatus");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getLoadStatus failed: unknown result");
+    }
+
     public GetStatusTResponse getStatus(String path, GetStatusTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_getStatus(path, options);
@@ -475,6 +599,33 @@ public class FileSystemMasterClientService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "listStatus failed: unknown result");
     }
 
+    public LoadTResponse load(String path, LoadTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      send_load(path, options);
+      return recv_load();
+    }
+
+    public void send_load(String path, LoadTOptions options) throws org.apache.thrift.TException
+    {
+      load_args args = new load_args();
+      args.setPath(path);
+      args.setOptions(options);
+      sendBase("load", args);
+    }
+
+    public LoadTResponse recv_load() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
+    {
+      load_result result = new load_result();
+      receiveBase(result, "load");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "load failed: unknown result");
+    }
+
     public LoadMetadataTResponse loadMetadata(String ufsPath, boolean recursive, LoadMetadataTOptions options) throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException
     {
       send_loadMetadata(ufsPath, recursive, options);
@@ -711,6 +862,41 @@ public class FileSystemMasterClientService {
       super(protocolFactory, clientManager, transport);
     }
 
+    public void applyBatch(List<BatchOperation> operations, ApplyBatchTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      applyBatch_call method_call = new applyBatch_call(operations, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class applyBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<BatchOperation> operations;
+      private ApplyBatchTOptions options;
+      public applyBatch_call(List<BatchOperation> operations, ApplyBatchTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.operations = operations;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("applyBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        applyBatch_args args = new applyBatch_args();
+        args.setOperations(operations);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ApplyBatchTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_applyBatch();
+      }
+    }
+
     public void checkConsistency(String path, CheckConsistencyTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       checkConsistency_call method_call = new checkConsistency_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -889,6 +1075,73 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void getHotFiles(GetHotFilesTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getHotFiles_call method_call = new getHotFiles_call(options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getHotFiles_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private GetHotFilesTOptions options;
+      public getHotFiles_call(GetHotFilesTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getHotFiles", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getHotFiles_args args = new getHotFiles_args();
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public GetHotFilesTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getHotFiles();
+      }
+    }
+
+    public void getLoadStatus(long loadId, GetLoadStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getLoadStatus_call method_call = new getLoadStatus_call(loadId, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getLoadStatus_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long loadId;
+      private GetLoadStatusTOptions options;
+      public getLoadStatus_call(long loadId, GetLoadStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.loadId = loadId;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getLoadStatus", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getLoadStatus_args args = new getLoadStatus_args();
+        args.setLoadId(loadId);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public GetLoadStatusTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getLoadStatus();
+      }
+    }
+
     public void getStatus(String path, GetStatusTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getStatus_call method_call = new getStatus_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -994,6 +1247,41 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public void load(String path, LoadTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      load_call method_call = new load_call(path, options, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class load_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String path;
+      private LoadTOptions options;
+      public load_call(String path, LoadTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.path = path;
+        this.options = options;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("load", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        load_args args = new load_args();
+        args.setPath(path);
+        args.setOptions(options);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public LoadTResponse getResult() throws alluxio.thrift.AlluxioTException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_load();
+      }
+    }
+
     public void loadMetadata(String ufsPath, boolean recursive, LoadMetadataTOptions options, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       loadMetadata_call method_call = new loadMetadata_call(ufsPath, recursive, options, resultHandler, this, ___protocolFactory, ___transport);
@@ -1293,14 +1581,18 @@ public class FileSystemMasterClientService {
     }
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
+      processMap.put("applyBatch", new applyBatch());
       processMap.put("checkConsistency", new checkConsistency());
       processMap.put("completeFile", new completeFile());
       processMap.put("createDirectory", new createDirectory());
       processMap.put("createFile", new createFile());
       processMap.put("free", new free());
+      processMap.put("getHotFiles", new getHotFiles());
+      processMap.put("getLoadStatus", new getLoadStatus());
       processMap.put("getStatus", new getStatus());
       processMap.put("getNewBlockIdForFile", new getNewBlockIdForFile());
       processMap.put("listStatus", new listStatus());
+      processMap.put("load", new load());
       processMap.put("loadMetadata", new loadMetadata());
       processMap.put("mount", new mount());
       processMap.put("getMountTable", new getMountTable());
@@ -1312,6 +1604,30 @@ public class FileSystemMasterClientService {
       return processMap;
     }
 
+    public static class applyBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, applyBatch_args> {
+      public applyBatch() {
+        super("applyBatch");
+      }
+
+      public applyBatch_args getEmptyArgsInstance() {
+        return new applyBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public applyBatch_result getResult(I iface, applyBatch_args args) throws org.apache.thrift.TException {
+        applyBatch_result result = new applyBatch_result();
+        try {
+          result.success = iface.applyBatch(args.operations, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class checkConsistency<I extends Iface> extends org.apache.thrift.ProcessFunction<I, checkConsistency_args> {
       public checkConsistency() {
         super("checkConsistency");
@@ -1432,6 +1748,54 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getHotFiles<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getHotFiles_args> {
+      public getHotFiles() {
+        super("getHotFiles");
+      }
+
+      public getHotFiles_args getEmptyArgsInstance() {
+        return new getHotFiles_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getHotFiles_result getResult(I iface, getHotFiles_args args) throws org.apache.thrift.TException {
+        getHotFiles_result result = new getHotFiles_result();
+        try {
+          result.success = iface.getHotFiles(args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
+    public static class getLoadStatus<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getLoadStatus_args> {
+      public getLoadStatus() {
+        super("getLoadStatus");
+      }
+
+      public getLoadStatus_args getEmptyArgsInstance() {
+        return new getLoadStatus_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getLoadStatus_result getResult(I iface, getLoadStatus_args args) throws org.apache.thrift.TException {
+        getLoadStatus_result result = new getLoadStatus_result();
+        try {
+          result.success = iface.getLoadStatus(args.loadId, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class getStatus<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getStatus_args> {
       public getStatus() {
         super("getStatus");
@@ -1504,6 +1868,30 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class load<I extends Iface> extends org.apache.thrift.ProcessFunction<I, load_args> {
+      public load() {
+        super("load");
+      }
+
+      public load_args getEmptyArgsInstance() {
+        return new load_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public load_result getResult(I iface, load_args args) throws org.apache.thrift.TException {
+        load_result result = new load_result();
+        try {
+          result.success = iface.load(args.path, args.options);
+        } catch (alluxio.thrift.AlluxioTException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class loadMetadata<I extends Iface> extends org.apache.thrift.ProcessFunction<I, loadMetadata_args> {
       public loadMetadata() {
         super("loadMetadata");
@@ -1709,14 +2097,18 @@ public class FileSystemMasterClientService {
     }
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("applyBatch", new applyBatch());
       processMap.put("checkConsistency", new checkConsistency());
       processMap.put("completeFile", new completeFile());
       processMap.put("createDirectory", new createDirectory());
       processMap.put("createFile", new createFile());
       processMap.put("free", new free());
+      processMap.put("getHotFiles", new getHotFiles());
+      processMap.put("getLoadStatus", new getLoadStatus());
       processMap.put("getStatus", new getStatus());
       processMap.put("getNewBlockIdForFile", new getNewBlockIdForFile());
       processMap.put("listStatus", new listStatus());
+      processMap.put("load", new load());
       processMap.put("loadMetadata", new loadMetadata());
       processMap.put("mount", new mount());
       processMap.put("getMountTable", new getMountTable());
@@ -1728,12 +2120,69 @@ public class FileSystemMasterClientService {
       return processMap;
     }
 
-    public static class checkConsistency<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, checkConsistency_args, CheckConsistencyTResponse> {
-      public checkConsistency() {
-        super("checkConsistency");
+    public static class applyBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, applyBatch_args, ApplyBatchTResponse> {
+      public applyBatch() {
+        super("applyBatch");
       }
 
-      public checkConsistency_args getEmptyArgsInstance() {
+      public applyBatch_args getEmptyArgsInstance() {
+        return new applyBatch_args();
+      }
+
+      public AsyncMethodCallback<ApplyBatchTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ApplyBatchTResponse>() { 
+          public void onComplete(ApplyBatchTResponse o) {
+            applyBatch_result result = new applyBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            applyBatch_result result = new applyBatch_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, applyBatch_args args, org.apache.thrift.async.AsyncMethodCallback<ApplyBatchTResponse> resultHandler) throws TException {
+        iface.applyBatch(args.operations, args.options,resultHandler);
+      }
+    }
+
+    public static class checkConsistency<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, checkConsistency_args, CheckConsistencyTResponse> {
+      public checkConsistency() {
+        super("checkConsistency");
+      }
+
+      public checkConsistency_args getEmptyArgsInstance() {
         return new checkConsistency_args();
       }
 
@@ -2013,6 +2462,120 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class getHotFiles<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getHotFiles_args, GetHotFilesTResponse> {
+      public getHotFiles() {
+        super("getHotFiles");
+      }
+
+      public getHotFiles_args getEmptyArgsInstance() {
+        return new getHotFiles_args();
+      }
+
+      public AsyncMethodCallback<GetHotFilesTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<GetHotFilesTResponse>() { 
+          public void onComplete(GetHotFilesTResponse o) {
+            getHotFiles_result result = new getHotFiles_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getHotFiles_result result = new getHotFiles_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getHotFiles_args args, org.apache.thrift.async.AsyncMethodCallback<GetHotFilesTResponse> resultHandler) throws TException {
+        iface.getHotFiles(args.options,resultHandler);
+      }
+    }
+
+    public static class getLoadStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getLoadStatus_args, GetLoadStatusTResponse> {
+      public getLoadStatus() {
+        super("getLoadStatus");
+      }
+
+      public getLoadStatus_args getEmptyArgsInstance() {
+        return new getLoadStatus_args();
+      }
+
+      public AsyncMethodCallback<GetLoadStatusTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<GetLoadStatusTResponse>() { 
+          public void onComplete(GetLoadStatusTResponse o) {
+            getLoadStatus_result result = new getLoadStatus_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getLoadStatus_result result = new getLoadStatus_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getLoadStatus_args args, org.apache.thrift.async.AsyncMethodCallback<GetLoadStatusTResponse> resultHandler) throws TException {
+        iface.getLoadStatus(args.loadId, args.options,resultHandler);
+      }
+    }
+
     public static class getStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getStatus_args, GetStatusTResponse> {
       public getStatus() {
         super("getStatus");
@@ -2184,6 +2747,63 @@ public class FileSystemMasterClientService {
       }
     }
 
+    public static class load<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, load_args, LoadTResponse> {
+      public load() {
+        super("load");
+      }
+
+      public load_args getEmptyArgsInstance() {
+        return new load_args();
+      }
+
+      public AsyncMethodCallback<LoadTResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<LoadTResponse>() { 
+          public void onComplete(LoadTResponse o) {
+            load_result result = new load_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            load_result result = new load_result();
+            if (e instanceof alluxio.thrift.AlluxioTException) {
+                        result.e = (alluxio.thrift.AlluxioTException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, load_args args, org.apache.thrift.async.AsyncMethodCallback<LoadTResponse> resultHandler) throws TException {
+        iface.load(args.path, args.options,resultHandler);
+      }
+    }
+
     public static class loadMetadata<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, loadMetadata_args, LoadMetadataTResponse> {
       public loadMetadata() {
         super("loadMetadata");
@@ -2642,27 +3262,27 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class checkConsistency_args implements org.apache.thrift.TBase<checkConsistency_args, checkConsistency_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkConsistency_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkConsistency_args");
+  public static class applyBatch_args implements org.apache.thrift.TBase<applyBatch_args, applyBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<applyBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("applyBatch_args");
 
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPERATIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("operations", org.apache.thrift.protocol.TType.LIST, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new checkConsistency_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new checkConsistency_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new applyBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new applyBatch_argsTupleSchemeFactory());
     }
 
-    private String path; // required
-    private CheckConsistencyTOptions options; // required
+    private List<BatchOperation> operations; // required
+    private ApplyBatchTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the root of the subtree to check
+       * the operations to apply
        */
-      PATH((short)1, "path"),
+      OPERATIONS((short)1, "operations"),
       /**
        * the method options
        */
@@ -2681,8 +3301,8 @@ public class FileSystemMasterClientService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // PATH
-            return PATH;
+          case 1: // OPERATIONS
+            return OPERATIONS;
           case 2: // OPTIONS
             return OPTIONS;
           default:
@@ -2728,89 +3348,109 @@ public class FileSystemMasterClientService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPERATIONS, new org.apache.thrift.meta_data.FieldMetaData("operations", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, BatchOperation.class))));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckConsistencyTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ApplyBatchTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkConsistency_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(applyBatch_args.class, metaDataMap);
     }
 
-    public checkConsistency_args() {
+    public applyBatch_args() {
     }
 
-    public checkConsistency_args(
-      String path,
-      CheckConsistencyTOptions options)
+    public applyBatch_args(
+      List<BatchOperation> operations,
+      ApplyBatchTOptions options)
     {
       this();
-      this.path = path;
+      this.operations = operations;
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public checkConsistency_args(checkConsistency_args other) {
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public applyBatch_args(applyBatch_args other) {
+      if (other.isSetOperations()) {
+        List<BatchOperation> __this__operations = new ArrayList<BatchOperation>(other.operations.size());
+        for (BatchOperation other_element : other.operations) {
+          __this__operations.add(new BatchOperation(other_element));
+        }
+        this.operations = __this__operations;
       }
       if (other.isSetOptions()) {
-        this.options = new CheckConsistencyTOptions(other.options);
+        this.options = new ApplyBatchTOptions(other.options);
       }
     }
 
-    public checkConsistency_args deepCopy() {
-      return new checkConsistency_args(this);
+    public applyBatch_args deepCopy() {
+      return new applyBatch_args(this);
     }
 
     @Override
     public void clear() {
-      this.path = null;
+      this.operations = null;
       this.options = null;
     }
 
+    public int getOperationsSize() {
+      return (this.operations == null) ? 0 : this.operations.size();
+    }
+
+    public java.util.Iterator<BatchOperation> getOperationsIterator() {
+      return (this.operations == null) ? null : this.operations.iterator();
+    }
+
+    public void addToOperations(BatchOperation elem) {
+      if (this.operations == null) {
+        this.operations = new ArrayList<BatchOperation>();
+      }
+      this.operations.add(elem);
+    }
+
     /**
-     * the root of the subtree to check
+     * the operations to apply
      */
-    public String getPath() {
-      return this.path;
+    public List<BatchOperation> getOperations() {
+      return this.operations;
     }
 
     /**
-     * the root of the subtree to check
+     * the operations to apply
      */
-    public checkConsistency_args setPath(String path) {
-      this.path = path;
+    public applyBatch_args setOperations(List<BatchOperation> operations) {
+      this.operations = operations;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetOperations() {
+      this.operations = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field operations is set (has been assigned a value) and false otherwise */
+    public boolean isSetOperations() {
+      return this.operations != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setOperationsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.operations = null;
       }
     }
 
     /**
      * the method options
      */
-    public CheckConsistencyTOptions getOptions() {
+    public ApplyBatchTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public checkConsistency_args setOptions(CheckConsistencyTOptions options) {
+    public applyBatch_args setOptions(ApplyBatchTOptions options) {
       this.options = options;
       return this;
     }
@@ -2832,11 +3472,11 @@ public class FileSystemMasterClientService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case PATH:
+      case OPERATIONS:
         if (value == null) {
-          unsetPath();
+          unsetOperations();
         } else {
-          setPath((String)value);
+          setOperations((List<BatchOperation>)value);
         }
         break;
 
@@ -2844,7 +3484,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CheckConsistencyTOptions)value);
+          setOptions((ApplyBatchTOptions)value);
         }
         break;
 
@@ -2853,8 +3493,8 @@ public class FileSystemMasterClientService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case PATH:
-        return getPath();
+      case OPERATIONS:
+        return getOperations();
 
       case OPTIONS:
         return getOptions();
@@ -2870,8 +3510,8 @@ public class FileSystemMasterClientService {
       }
 
       switch (field) {
-      case PATH:
-        return isSetPath();
+      case OPERATIONS:
+        return isSetOperations();
       case OPTIONS:
         return isSetOptions();
       }
@@ -2882,21 +3522,21 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof checkConsistency_args)
-        return this.equals((checkConsistency_args)that);
+      if (that instanceof applyBatch_args)
+        return this.equals((applyBatch_args)that);
       return false;
     }
 
-    public boolean equals(checkConsistency_args that) {
+    public boolean equals(applyBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_operations = true && this.isSetOperations();
+      boolean that_present_operations = true && that.isSetOperations();
+      if (this_present_operations || that_present_operations) {
+        if (!(this_present_operations && that_present_operations))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.operations.equals(that.operations))
           return false;
       }
 
@@ -2916,10 +3556,10 @@ public class FileSystemMasterClientService {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_path = true && (isSetPath());
-      list.add(present_path);
-      if (present_path)
-        list.add(path);
+      boolean present_operations = true && (isSetOperations());
+      list.add(present_operations);
+      if (present_operations)
+        list.add(operations);
 
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
@@ -2930,19 +3570,19 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(checkConsistency_args other) {
+    public int compareTo(applyBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetOperations()).compareTo(other.isSetOperations());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetOperations()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.operations, other.operations);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2974,14 +3614,14 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("checkConsistency_args(");
+      StringBuilder sb = new StringBuilder("applyBatch_args(");
       boolean first = true;
 
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("operations:");
+      if (this.operations == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.operations);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -3020,15 +3660,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class checkConsistency_argsStandardSchemeFactory implements SchemeFactory {
-      public checkConsistency_argsStandardScheme getScheme() {
-        return new checkConsistency_argsStandardScheme();
+    private static class applyBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public applyBatch_argsStandardScheme getScheme() {
+        return new applyBatch_argsStandardScheme();
       }
     }
 
-    private static class checkConsistency_argsStandardScheme extends StandardScheme<checkConsistency_args> {
+    private static class applyBatch_argsStandardScheme extends StandardScheme<applyBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, checkConsistency_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, applyBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3038,17 +3678,28 @@ public class FileSystemMasterClientService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // OPERATIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list142 = iprot.readListBegin();
+                  struct.operations = new ArrayList<BatchOperation>(_list142.size);
+                  BatchOperation _elem143;
+                  for (int _i144 = 0; _i144 < _list142.size; ++_i144)
+                  {
+                    _elem143 = new BatchOperation();
+                    _elem143.read(iprot);
+                    struct.operations.add(_elem143);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setOperationsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CheckConsistencyTOptions();
+                struct.options = new ApplyBatchTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -3066,13 +3717,20 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, checkConsistency_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, applyBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.operations != null) {
+          oprot.writeFieldBegin(OPERATIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.operations.size()));
+            for (BatchOperation _iter145 : struct.operations)
+            {
+              _iter145.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.options != null) {
@@ -3086,27 +3744,33 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class checkConsistency_argsTupleSchemeFactory implements SchemeFactory {
-      public checkConsistency_argsTupleScheme getScheme() {
-        return new checkConsistency_argsTupleScheme();
+    private static class applyBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public applyBatch_argsTupleScheme getScheme() {
+        return new applyBatch_argsTupleScheme();
       }
     }
 
-    private static class checkConsistency_argsTupleScheme extends TupleScheme<checkConsistency_args> {
+    private static class applyBatch_argsTupleScheme extends TupleScheme<applyBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, checkConsistency_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, applyBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetPath()) {
+        if (struct.isSetOperations()) {
           optionals.set(0);
         }
         if (struct.isSetOptions()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        if (struct.isSetOperations()) {
+          {
+            oprot.writeI32(struct.operations.size());
+            for (BatchOperation _iter146 : struct.operations)
+            {
+              _iter146.write(oprot);
+            }
+          }
         }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
@@ -3114,15 +3778,25 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, checkConsistency_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, applyBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list147 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.operations = new ArrayList<BatchOperation>(_list147.size);
+            BatchOperation _elem148;
+            for (int _i149 = 0; _i149 < _list147.size; ++_i149)
+            {
+              _elem148 = new BatchOperation();
+              _elem148.read(iprot);
+              struct.operations.add(_elem148);
+            }
+          }
+          struct.setOperationsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CheckConsistencyTOptions();
+          struct.options = new ApplyBatchTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -3131,19 +3805,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class checkConsistency_result implements org.apache.thrift.TBase<checkConsistency_result, checkConsistency_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkConsistency_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkConsistency_result");
+  public static class applyBatch_result implements org.apache.thrift.TBase<applyBatch_result, applyBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<applyBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("applyBatch_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new checkConsistency_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new checkConsistency_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new applyBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new applyBatch_resultTupleSchemeFactory());
     }
 
-    private CheckConsistencyTResponse success; // required
+    private ApplyBatchTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -3212,18 +3886,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckConsistencyTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ApplyBatchTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkConsistency_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(applyBatch_result.class, metaDataMap);
     }
 
-    public checkConsistency_result() {
+    public applyBatch_result() {
     }
 
-    public checkConsistency_result(
-      CheckConsistencyTResponse success,
+    public applyBatch_result(
+      ApplyBatchTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -3234,17 +3908,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public checkConsistency_result(checkConsistency_result other) {
+    public applyBatch_result(applyBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CheckConsistencyTResponse(other.success);
+        this.success = new ApplyBatchTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public checkConsistency_result deepCopy() {
-      return new checkConsistency_result(this);
+    public applyBatch_result deepCopy() {
+      return new applyBatch_result(this);
     }
 
     @Override
@@ -3253,11 +3927,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public CheckConsistencyTResponse getSuccess() {
+    public ApplyBatchTResponse getSuccess() {
       return this.success;
     }
 
-    public checkConsistency_result setSuccess(CheckConsistencyTResponse success) {
+    public applyBatch_result setSuccess(ApplyBatchTResponse success) {
       this.success = success;
       return this;
     }
@@ -3281,7 +3955,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public checkConsistency_result setE(alluxio.thrift.AlluxioTException e) {
+    public applyBatch_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -3307,7 +3981,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CheckConsistencyTResponse)value);
+          setSuccess((ApplyBatchTResponse)value);
         }
         break;
 
@@ -3353,12 +4027,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof checkConsistency_result)
-        return this.equals((checkConsistency_result)that);
+      if (that instanceof applyBatch_result)
+        return this.equals((applyBatch_result)that);
       return false;
     }
 
-    public boolean equals(checkConsistency_result that) {
+    public boolean equals(applyBatch_result that) {
       if (that == null)
         return false;
 
@@ -3401,7 +4075,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(checkConsistency_result other) {
+    public int compareTo(applyBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3445,7 +4119,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("checkConsistency_result(");
+      StringBuilder sb = new StringBuilder("applyBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -3491,15 +4165,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class checkConsistency_resultStandardSchemeFactory implements SchemeFactory {
-      public checkConsistency_resultStandardScheme getScheme() {
-        return new checkConsistency_resultStandardScheme();
+    private static class applyBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public applyBatch_resultStandardScheme getScheme() {
+        return new applyBatch_resultStandardScheme();
       }
     }
 
-    private static class checkConsistency_resultStandardScheme extends StandardScheme<checkConsistency_result> {
+    private static class applyBatch_resultStandardScheme extends StandardScheme<applyBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, checkConsistency_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, applyBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3511,7 +4185,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CheckConsistencyTResponse();
+                struct.success = new ApplyBatchTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -3538,7 +4212,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, checkConsistency_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, applyBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3558,16 +4232,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class checkConsistency_resultTupleSchemeFactory implements SchemeFactory {
-      public checkConsistency_resultTupleScheme getScheme() {
-        return new checkConsistency_resultTupleScheme();
+    private static class applyBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public applyBatch_resultTupleScheme getScheme() {
+        return new applyBatch_resultTupleScheme();
       }
     }
 
-    private static class checkConsistency_resultTupleScheme extends TupleScheme<checkConsistency_result> {
+    private static class applyBatch_resultTupleScheme extends TupleScheme<applyBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, checkConsistency_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, applyBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -3586,11 +4260,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, checkConsistency_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, applyBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CheckConsistencyTResponse();
+          struct.success = new ApplyBatchTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -3604,25 +4278,25 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class completeFile_args implements org.apache.thrift.TBase<completeFile_args, completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_args");
+  public static class checkConsistency_args implements org.apache.thrift.TBase<checkConsistency_args, checkConsistency_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkConsistency_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkConsistency_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completeFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completeFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new checkConsistency_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new checkConsistency_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private CompleteFileTOptions options; // required
+    private CheckConsistencyTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the root of the subtree to check
        */
       PATH((short)1, "path"),
       /**
@@ -3693,17 +4367,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckConsistencyTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkConsistency_args.class, metaDataMap);
     }
 
-    public completeFile_args() {
+    public checkConsistency_args() {
     }
 
-    public completeFile_args(
+    public checkConsistency_args(
       String path,
-      CompleteFileTOptions options)
+      CheckConsistencyTOptions options)
     {
       this();
       this.path = path;
@@ -3713,17 +4387,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completeFile_args(completeFile_args other) {
+    public checkConsistency_args(checkConsistency_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new CompleteFileTOptions(other.options);
+        this.options = new CheckConsistencyTOptions(other.options);
       }
     }
 
-    public completeFile_args deepCopy() {
-      return new completeFile_args(this);
+    public checkConsistency_args deepCopy() {
+      return new checkConsistency_args(this);
     }
 
     @Override
@@ -3733,16 +4407,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the path of the file
+     * the root of the subtree to check
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the path of the file
+     * the root of the subtree to check
      */
-    public completeFile_args setPath(String path) {
+    public checkConsistency_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -3765,14 +4439,14 @@ public class FileSystemMasterClientService {
     /**
      * the method options
      */
-    public CompleteFileTOptions getOptions() {
+    public CheckConsistencyTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public completeFile_args setOptions(CompleteFileTOptions options) {
+    public checkConsistency_args setOptions(CheckConsistencyTOptions options) {
       this.options = options;
       return this;
     }
@@ -3806,7 +4480,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CompleteFileTOptions)value);
+          setOptions((CheckConsistencyTOptions)value);
         }
         break;
 
@@ -3844,12 +4518,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completeFile_args)
-        return this.equals((completeFile_args)that);
+      if (that instanceof checkConsistency_args)
+        return this.equals((checkConsistency_args)that);
       return false;
     }
 
-    public boolean equals(completeFile_args that) {
+    public boolean equals(checkConsistency_args that) {
       if (that == null)
         return false;
 
@@ -3892,7 +4566,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(completeFile_args other) {
+    public int compareTo(checkConsistency_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3936,7 +4610,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completeFile_args(");
+      StringBuilder sb = new StringBuilder("checkConsistency_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -3982,15 +4656,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class completeFile_argsStandardSchemeFactory implements SchemeFactory {
-      public completeFile_argsStandardScheme getScheme() {
-        return new completeFile_argsStandardScheme();
+    private static class checkConsistency_argsStandardSchemeFactory implements SchemeFactory {
+      public checkConsistency_argsStandardScheme getScheme() {
+        return new checkConsistency_argsStandardScheme();
       }
     }
 
-    private static class completeFile_argsStandardScheme extends StandardScheme<completeFile_args> {
+    private static class checkConsistency_argsStandardScheme extends StandardScheme<checkConsistency_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkConsistency_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4010,7 +4684,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CompleteFileTOptions();
+                struct.options = new CheckConsistencyTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -4028,7 +4702,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkConsistency_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4048,16 +4722,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class completeFile_argsTupleSchemeFactory implements SchemeFactory {
-      public completeFile_argsTupleScheme getScheme() {
-        return new completeFile_argsTupleScheme();
+    private static class checkConsistency_argsTupleSchemeFactory implements SchemeFactory {
+      public checkConsistency_argsTupleScheme getScheme() {
+        return new checkConsistency_argsTupleScheme();
       }
     }
 
-    private static class completeFile_argsTupleScheme extends TupleScheme<completeFile_args> {
+    private static class checkConsistency_argsTupleScheme extends TupleScheme<checkConsistency_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkConsistency_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -4076,7 +4750,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkConsistency_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -4084,7 +4758,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CompleteFileTOptions();
+          struct.options = new CheckConsistencyTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -4093,19 +4767,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class completeFile_result implements org.apache.thrift.TBase<completeFile_result, completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_result");
+  public static class checkConsistency_result implements org.apache.thrift.TBase<checkConsistency_result, checkConsistency_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkConsistency_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkConsistency_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new completeFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new completeFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new checkConsistency_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new checkConsistency_resultTupleSchemeFactory());
     }
 
-    private CompleteFileTResponse success; // required
+    private CheckConsistencyTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -4174,18 +4848,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CheckConsistencyTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkConsistency_result.class, metaDataMap);
     }
 
-    public completeFile_result() {
+    public checkConsistency_result() {
     }
 
-    public completeFile_result(
-      CompleteFileTResponse success,
+    public checkConsistency_result(
+      CheckConsistencyTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -4196,17 +4870,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public completeFile_result(completeFile_result other) {
+    public checkConsistency_result(checkConsistency_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CompleteFileTResponse(other.success);
+        this.success = new CheckConsistencyTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public completeFile_result deepCopy() {
-      return new completeFile_result(this);
+    public checkConsistency_result deepCopy() {
+      return new checkConsistency_result(this);
     }
 
     @Override
@@ -4215,11 +4889,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public CompleteFileTResponse getSuccess() {
+    public CheckConsistencyTResponse getSuccess() {
       return this.success;
     }
 
-    public completeFile_result setSuccess(CompleteFileTResponse success) {
+    public checkConsistency_result setSuccess(CheckConsistencyTResponse success) {
       this.success = success;
       return this;
     }
@@ -4243,7 +4917,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public completeFile_result setE(alluxio.thrift.AlluxioTException e) {
+    public checkConsistency_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -4269,7 +4943,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CompleteFileTResponse)value);
+          setSuccess((CheckConsistencyTResponse)value);
         }
         break;
 
@@ -4315,12 +4989,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof completeFile_result)
-        return this.equals((completeFile_result)that);
+      if (that instanceof checkConsistency_result)
+        return this.equals((checkConsistency_result)that);
       return false;
     }
 
-    public boolean equals(completeFile_result that) {
+    public boolean equals(checkConsistency_result that) {
       if (that == null)
         return false;
 
@@ -4363,7 +5037,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(completeFile_result other) {
+    public int compareTo(checkConsistency_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4407,7 +5081,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("completeFile_result(");
+      StringBuilder sb = new StringBuilder("checkConsistency_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -4453,15 +5127,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class completeFile_resultStandardSchemeFactory implements SchemeFactory {
-      public completeFile_resultStandardScheme getScheme() {
-        return new completeFile_resultStandardScheme();
+    private static class checkConsistency_resultStandardSchemeFactory implements SchemeFactory {
+      public checkConsistency_resultStandardScheme getScheme() {
+        return new checkConsistency_resultStandardScheme();
       }
     }
 
-    private static class completeFile_resultStandardScheme extends StandardScheme<completeFile_result> {
+    private static class checkConsistency_resultStandardScheme extends StandardScheme<checkConsistency_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkConsistency_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4473,7 +5147,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CompleteFileTResponse();
+                struct.success = new CheckConsistencyTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -4500,7 +5174,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkConsistency_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4520,16 +5194,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class completeFile_resultTupleSchemeFactory implements SchemeFactory {
-      public completeFile_resultTupleScheme getScheme() {
-        return new completeFile_resultTupleScheme();
+    private static class checkConsistency_resultTupleSchemeFactory implements SchemeFactory {
+      public checkConsistency_resultTupleScheme getScheme() {
+        return new checkConsistency_resultTupleScheme();
       }
     }
 
-    private static class completeFile_resultTupleScheme extends TupleScheme<completeFile_result> {
+    private static class checkConsistency_resultTupleScheme extends TupleScheme<checkConsistency_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkConsistency_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -4548,11 +5222,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkConsistency_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CompleteFileTResponse();
+          struct.success = new CheckConsistencyTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -4566,25 +5240,25 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createDirectory_args implements org.apache.thrift.TBase<createDirectory_args, createDirectory_args._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_args");
+  public static class completeFile_args implements org.apache.thrift.TBase<completeFile_args, completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createDirectory_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createDirectory_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completeFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFile_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private CreateDirectoryTOptions options; // required
+    private CompleteFileTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the directory
+       * the path of the file
        */
       PATH((short)1, "path"),
       /**
@@ -4655,17 +5329,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_args.class, metaDataMap);
     }
 
-    public createDirectory_args() {
+    public completeFile_args() {
     }
 
-    public createDirectory_args(
+    public completeFile_args(
       String path,
-      CreateDirectoryTOptions options)
+      CompleteFileTOptions options)
     {
       this();
       this.path = path;
@@ -4675,17 +5349,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createDirectory_args(createDirectory_args other) {
+    public completeFile_args(completeFile_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new CreateDirectoryTOptions(other.options);
+        this.options = new CompleteFileTOptions(other.options);
       }
     }
 
-    public createDirectory_args deepCopy() {
-      return new createDirectory_args(this);
+    public completeFile_args deepCopy() {
+      return new completeFile_args(this);
     }
 
     @Override
@@ -4695,16 +5369,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the path of the directory
+     * the path of the file
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the path of the directory
+     * the path of the file
      */
-    public createDirectory_args setPath(String path) {
+    public completeFile_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -4727,14 +5401,14 @@ public class FileSystemMasterClientService {
     /**
      * the method options
      */
-    public CreateDirectoryTOptions getOptions() {
+    public CompleteFileTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public createDirectory_args setOptions(CreateDirectoryTOptions options) {
+    public completeFile_args setOptions(CompleteFileTOptions options) {
       this.options = options;
       return this;
     }
@@ -4768,7 +5442,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CreateDirectoryTOptions)value);
+          setOptions((CompleteFileTOptions)value);
         }
         break;
 
@@ -4806,12 +5480,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createDirectory_args)
-        return this.equals((createDirectory_args)that);
+      if (that instanceof completeFile_args)
+        return this.equals((completeFile_args)that);
       return false;
     }
 
-    public boolean equals(createDirectory_args that) {
+    public boolean equals(completeFile_args that) {
       if (that == null)
         return false;
 
@@ -4854,7 +5528,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(createDirectory_args other) {
+    public int compareTo(completeFile_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4898,7 +5572,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createDirectory_args(");
+      StringBuilder sb = new StringBuilder("completeFile_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -4944,15 +5618,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createDirectory_argsStandardSchemeFactory implements SchemeFactory {
-      public createDirectory_argsStandardScheme getScheme() {
-        return new createDirectory_argsStandardScheme();
+    private static class completeFile_argsStandardSchemeFactory implements SchemeFactory {
+      public completeFile_argsStandardScheme getScheme() {
+        return new completeFile_argsStandardScheme();
       }
     }
 
-    private static class createDirectory_argsStandardScheme extends StandardScheme<createDirectory_args> {
+    private static class completeFile_argsStandardScheme extends StandardScheme<completeFile_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4972,7 +5646,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CreateDirectoryTOptions();
+                struct.options = new CompleteFileTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -4990,7 +5664,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5010,16 +5684,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class createDirectory_argsTupleSchemeFactory implements SchemeFactory {
-      public createDirectory_argsTupleScheme getScheme() {
-        return new createDirectory_argsTupleScheme();
+    private static class completeFile_argsTupleSchemeFactory implements SchemeFactory {
+      public completeFile_argsTupleScheme getScheme() {
+        return new completeFile_argsTupleScheme();
       }
     }
 
-    private static class createDirectory_argsTupleScheme extends TupleScheme<createDirectory_args> {
+    private static class completeFile_argsTupleScheme extends TupleScheme<completeFile_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -5038,7 +5712,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -5046,7 +5720,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CreateDirectoryTOptions();
+          struct.options = new CompleteFileTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -5055,19 +5729,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createDirectory_result implements org.apache.thrift.TBase<createDirectory_result, createDirectory_result._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_result");
+  public static class completeFile_result implements org.apache.thrift.TBase<completeFile_result, completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<completeFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("completeFile_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createDirectory_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createDirectory_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new completeFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new completeFile_resultTupleSchemeFactory());
     }
 
-    private CreateDirectoryTResponse success; // required
+    private CompleteFileTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -5136,18 +5810,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CompleteFileTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(completeFile_result.class, metaDataMap);
     }
 
-    public createDirectory_result() {
+    public completeFile_result() {
     }
 
-    public createDirectory_result(
-      CreateDirectoryTResponse success,
+    public completeFile_result(
+      CompleteFileTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -5158,17 +5832,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createDirectory_result(createDirectory_result other) {
+    public completeFile_result(completeFile_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CreateDirectoryTResponse(other.success);
+        this.success = new CompleteFileTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public createDirectory_result deepCopy() {
-      return new createDirectory_result(this);
+    public completeFile_result deepCopy() {
+      return new completeFile_result(this);
     }
 
     @Override
@@ -5177,11 +5851,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public CreateDirectoryTResponse getSuccess() {
+    public CompleteFileTResponse getSuccess() {
       return this.success;
     }
 
-    public createDirectory_result setSuccess(CreateDirectoryTResponse success) {
+    public completeFile_result setSuccess(CompleteFileTResponse success) {
       this.success = success;
       return this;
     }
@@ -5205,7 +5879,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public createDirectory_result setE(alluxio.thrift.AlluxioTException e) {
+    public completeFile_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -5231,7 +5905,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CreateDirectoryTResponse)value);
+          setSuccess((CompleteFileTResponse)value);
         }
         break;
 
@@ -5277,12 +5951,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createDirectory_result)
-        return this.equals((createDirectory_result)that);
+      if (that instanceof completeFile_result)
+        return this.equals((completeFile_result)that);
       return false;
     }
 
-    public boolean equals(createDirectory_result that) {
+    public boolean equals(completeFile_result that) {
       if (that == null)
         return false;
 
@@ -5325,7 +5999,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(createDirectory_result other) {
+    public int compareTo(completeFile_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5369,7 +6043,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createDirectory_result(");
+      StringBuilder sb = new StringBuilder("completeFile_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -5415,15 +6089,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createDirectory_resultStandardSchemeFactory implements SchemeFactory {
-      public createDirectory_resultStandardScheme getScheme() {
-        return new createDirectory_resultStandardScheme();
+    private static class completeFile_resultStandardSchemeFactory implements SchemeFactory {
+      public completeFile_resultStandardScheme getScheme() {
+        return new completeFile_resultStandardScheme();
       }
     }
 
-    private static class createDirectory_resultStandardScheme extends StandardScheme<createDirectory_result> {
+    private static class completeFile_resultStandardScheme extends StandardScheme<completeFile_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, completeFile_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5435,7 +6109,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CreateDirectoryTResponse();
+                struct.success = new CompleteFileTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -5462,7 +6136,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, completeFile_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5482,16 +6156,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class createDirectory_resultTupleSchemeFactory implements SchemeFactory {
-      public createDirectory_resultTupleScheme getScheme() {
-        return new createDirectory_resultTupleScheme();
+    private static class completeFile_resultTupleSchemeFactory implements SchemeFactory {
+      public completeFile_resultTupleScheme getScheme() {
+        return new completeFile_resultTupleScheme();
       }
     }
 
-    private static class createDirectory_resultTupleScheme extends TupleScheme<createDirectory_result> {
+    private static class completeFile_resultTupleScheme extends TupleScheme<completeFile_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -5510,11 +6184,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, completeFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CreateDirectoryTResponse();
+          struct.success = new CompleteFileTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -5528,29 +6202,29 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createFile_args implements org.apache.thrift.TBase<createFile_args, createFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_args");
+  public static class createDirectory_args implements org.apache.thrift.TBase<createDirectory_args, createDirectory_args._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createDirectory_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createDirectory_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private CreateFileTOptions options; // required
+    private CreateDirectoryTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the path of the directory
        */
       PATH((short)1, "path"),
       /**
-       * the options for creating the file
+       * the method options
        */
       OPTIONS((short)2, "options");
 
@@ -5617,17 +6291,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_args.class, metaDataMap);
     }
 
-    public createFile_args() {
+    public createDirectory_args() {
     }
 
-    public createFile_args(
+    public createDirectory_args(
       String path,
-      CreateFileTOptions options)
+      CreateDirectoryTOptions options)
     {
       this();
       this.path = path;
@@ -5637,17 +6311,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createFile_args(createFile_args other) {
+    public createDirectory_args(createDirectory_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new CreateFileTOptions(other.options);
+        this.options = new CreateDirectoryTOptions(other.options);
       }
     }
 
-    public createFile_args deepCopy() {
-      return new createFile_args(this);
+    public createDirectory_args deepCopy() {
+      return new createDirectory_args(this);
     }
 
     @Override
@@ -5657,16 +6331,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the path of the file
+     * the path of the directory
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the path of the file
+     * the path of the directory
      */
-    public createFile_args setPath(String path) {
+    public createDirectory_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -5687,16 +6361,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the options for creating the file
+     * the method options
      */
-    public CreateFileTOptions getOptions() {
+    public CreateDirectoryTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * the options for creating the file
+     * the method options
      */
-    public createFile_args setOptions(CreateFileTOptions options) {
+    public createDirectory_args setOptions(CreateDirectoryTOptions options) {
       this.options = options;
       return this;
     }
@@ -5730,7 +6404,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((CreateFileTOptions)value);
+          setOptions((CreateDirectoryTOptions)value);
         }
         break;
 
@@ -5768,12 +6442,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createFile_args)
-        return this.equals((createFile_args)that);
+      if (that instanceof createDirectory_args)
+        return this.equals((createDirectory_args)that);
       return false;
     }
 
-    public boolean equals(createFile_args that) {
+    public boolean equals(createDirectory_args that) {
       if (that == null)
         return false;
 
@@ -5816,7 +6490,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(createFile_args other) {
+    public int compareTo(createDirectory_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5860,7 +6534,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createFile_args(");
+      StringBuilder sb = new StringBuilder("createDirectory_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -5906,15 +6580,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createFile_argsStandardSchemeFactory implements SchemeFactory {
-      public createFile_argsStandardScheme getScheme() {
-        return new createFile_argsStandardScheme();
+    private static class createDirectory_argsStandardSchemeFactory implements SchemeFactory {
+      public createDirectory_argsStandardScheme getScheme() {
+        return new createDirectory_argsStandardScheme();
       }
     }
 
-    private static class createFile_argsStandardScheme extends StandardScheme<createFile_args> {
+    private static class createDirectory_argsStandardScheme extends StandardScheme<createDirectory_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5934,7 +6608,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new CreateFileTOptions();
+                struct.options = new CreateDirectoryTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -5952,7 +6626,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5972,16 +6646,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class createFile_argsTupleSchemeFactory implements SchemeFactory {
-      public createFile_argsTupleScheme getScheme() {
-        return new createFile_argsTupleScheme();
+    private static class createDirectory_argsTupleSchemeFactory implements SchemeFactory {
+      public createDirectory_argsTupleScheme getScheme() {
+        return new createDirectory_argsTupleScheme();
       }
     }
 
-    private static class createFile_argsTupleScheme extends TupleScheme<createFile_args> {
+    private static class createDirectory_argsTupleScheme extends TupleScheme<createDirectory_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -6000,7 +6674,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -6008,7 +6682,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new CreateFileTOptions();
+          struct.options = new CreateDirectoryTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -6017,19 +6691,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class createFile_result implements org.apache.thrift.TBase<createFile_result, createFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_result");
+  public static class createDirectory_result implements org.apache.thrift.TBase<createDirectory_result, createDirectory_result._Fields>, java.io.Serializable, Cloneable, Comparable<createDirectory_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createDirectory_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new createFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new createFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createDirectory_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createDirectory_resultTupleSchemeFactory());
     }
 
-    private CreateFileTResponse success; // required
+    private CreateDirectoryTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -6098,18 +6772,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateDirectoryTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createDirectory_result.class, metaDataMap);
     }
 
-    public createFile_result() {
+    public createDirectory_result() {
     }
 
-    public createFile_result(
-      CreateFileTResponse success,
+    public createDirectory_result(
+      CreateDirectoryTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -6120,17 +6794,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public createFile_result(createFile_result other) {
+    public createDirectory_result(createDirectory_result other) {
       if (other.isSetSuccess()) {
-        this.success = new CreateFileTResponse(other.success);
+        this.success = new CreateDirectoryTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public createFile_result deepCopy() {
-      return new createFile_result(this);
+    public createDirectory_result deepCopy() {
+      return new createDirectory_result(this);
     }
 
     @Override
@@ -6139,11 +6813,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public CreateFileTResponse getSuccess() {
+    public CreateDirectoryTResponse getSuccess() {
       return this.success;
     }
 
-    public createFile_result setSuccess(CreateFileTResponse success) {
+    public createDirectory_result setSuccess(CreateDirectoryTResponse success) {
       this.success = success;
       return this;
     }
@@ -6167,7 +6841,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public createFile_result setE(alluxio.thrift.AlluxioTException e) {
+    public createDirectory_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -6193,7 +6867,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((CreateFileTResponse)value);
+          setSuccess((CreateDirectoryTResponse)value);
         }
         break;
 
@@ -6239,12 +6913,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof createFile_result)
-        return this.equals((createFile_result)that);
+      if (that instanceof createDirectory_result)
+        return this.equals((createDirectory_result)that);
       return false;
     }
 
-    public boolean equals(createFile_result that) {
+    public boolean equals(createDirectory_result that) {
       if (that == null)
         return false;
 
@@ -6287,7 +6961,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(createFile_result other) {
+    public int compareTo(createDirectory_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6331,7 +7005,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("createFile_result(");
+      StringBuilder sb = new StringBuilder("createDirectory_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6377,15 +7051,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class createFile_resultStandardSchemeFactory implements SchemeFactory {
-      public createFile_resultStandardScheme getScheme() {
-        return new createFile_resultStandardScheme();
+    private static class createDirectory_resultStandardSchemeFactory implements SchemeFactory {
+      public createDirectory_resultStandardScheme getScheme() {
+        return new createDirectory_resultStandardScheme();
       }
     }
 
-    private static class createFile_resultStandardScheme extends StandardScheme<createFile_result> {
+    private static class createDirectory_resultStandardScheme extends StandardScheme<createDirectory_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createDirectory_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6397,7 +7071,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new CreateFileTResponse();
+                struct.success = new CreateDirectoryTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -6424,7 +7098,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createDirectory_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6444,16 +7118,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class createFile_resultTupleSchemeFactory implements SchemeFactory {
-      public createFile_resultTupleScheme getScheme() {
-        return new createFile_resultTupleScheme();
+    private static class createDirectory_resultTupleSchemeFactory implements SchemeFactory {
+      public createDirectory_resultTupleScheme getScheme() {
+        return new createDirectory_resultTupleScheme();
       }
     }
 
-    private static class createFile_resultTupleScheme extends TupleScheme<createFile_result> {
+    private static class createDirectory_resultTupleScheme extends TupleScheme<createDirectory_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6472,11 +7146,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, createDirectory_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new CreateFileTResponse();
+          struct.success = new CreateDirectoryTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -6490,37 +7164,31 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class free_args implements org.apache.thrift.TBase<free_args, free_args._Fields>, java.io.Serializable, Cloneable, Comparable<free_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_args");
+  public static class createFile_args implements org.apache.thrift.TBase<createFile_args, createFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
-    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new free_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new free_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new createFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFile_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private boolean recursive; // required
-    private FreeTOptions options; // required
+    private CreateFileTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file or directory
+       * the path of the file
        */
       PATH((short)1, "path"),
       /**
-       * whether to free recursively
-       */
-      RECURSIVE((short)2, "recursive"),
-      /**
-       * the options for freeing a path
+       * the options for creating the file
        */
-      OPTIONS((short)3, "options");
+      OPTIONS((short)2, "options");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6537,9 +7205,7 @@ public class FileSystemMasterClientService {
         switch(fieldId) {
           case 1: // PATH
             return PATH;
-          case 2: // RECURSIVE
-            return RECURSIVE;
-          case 3: // OPTIONS
+          case 2: // OPTIONS
             return OPTIONS;
           default:
             return null;
@@ -6581,73 +7247,62 @@ public class FileSystemMasterClientService {
     }
 
     // isset id assignments
-    private static final int __RECURSIVE_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FreeTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_args.class, metaDataMap);
     }
 
-    public free_args() {
+    public createFile_args() {
     }
 
-    public free_args(
+    public createFile_args(
       String path,
-      boolean recursive,
-      FreeTOptions options)
+      CreateFileTOptions options)
     {
       this();
       this.path = path;
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
       this.options = options;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public free_args(free_args other) {
-      __isset_bitfield = other.__isset_bitfield;
+    public createFile_args(createFile_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
-      this.recursive = other.recursive;
       if (other.isSetOptions()) {
-        this.options = new FreeTOptions(other.options);
+        this.options = new CreateFileTOptions(other.options);
       }
     }
 
-    public free_args deepCopy() {
-      return new free_args(this);
+    public createFile_args deepCopy() {
+      return new createFile_args(this);
     }
 
     @Override
     public void clear() {
       this.path = null;
-      setRecursiveIsSet(false);
-      this.recursive = false;
       this.options = null;
     }
 
     /**
-     * the path of the file or directory
+     * the path of the file
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the path of the file or directory
+     * the path of the file
      */
-    public free_args setPath(String path) {
+    public createFile_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -6668,45 +7323,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * whether to free recursively
-     */
-    public boolean isRecursive() {
-      return this.recursive;
-    }
-
-    /**
-     * whether to free recursively
-     */
-    public free_args setRecursive(boolean recursive) {
-      this.recursive = recursive;
-      setRecursiveIsSet(true);
-      return this;
-    }
-
-    public void unsetRecursive() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
-    }
-
-    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
-    public boolean isSetRecursive() {
-      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
-    }
-
-    public void setRecursiveIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
-    }
-
-    /**
-     * the options for freeing a path
+     * the options for creating the file
      */
-    public FreeTOptions getOptions() {
+    public CreateFileTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * the options for freeing a path
+     * the options for creating the file
      */
-    public free_args setOptions(FreeTOptions options) {
+    public createFile_args setOptions(CreateFileTOptions options) {
       this.options = options;
       return this;
     }
@@ -6736,19 +7362,11 @@ public class FileSystemMasterClientService {
         }
         break;
 
-      case RECURSIVE:
-        if (value == null) {
-          unsetRecursive();
-        } else {
-          setRecursive((Boolean)value);
-        }
-        break;
-
       case OPTIONS:
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((FreeTOptions)value);
+          setOptions((CreateFileTOptions)value);
         }
         break;
 
@@ -6760,9 +7378,6 @@ public class FileSystemMasterClientService {
       case PATH:
         return getPath();
 
-      case RECURSIVE:
-        return isRecursive();
-
       case OPTIONS:
         return getOptions();
 
@@ -6779,8 +7394,6 @@ public class FileSystemMasterClientService {
       switch (field) {
       case PATH:
         return isSetPath();
-      case RECURSIVE:
-        return isSetRecursive();
       case OPTIONS:
         return isSetOptions();
       }
@@ -6791,12 +7404,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof free_args)
-        return this.equals((free_args)that);
+      if (that instanceof createFile_args)
+        return this.equals((createFile_args)that);
       return false;
     }
 
-    public boolean equals(free_args that) {
+    public boolean equals(createFile_args that) {
       if (that == null)
         return false;
 
@@ -6809,15 +7422,6 @@ public class FileSystemMasterClientService {
           return false;
       }
 
-      boolean this_present_recursive = true;
-      boolean that_present_recursive = true;
-      if (this_present_recursive || that_present_recursive) {
-        if (!(this_present_recursive && that_present_recursive))
-          return false;
-        if (this.recursive != that.recursive)
-          return false;
-      }
-
       boolean this_present_options = true && this.isSetOptions();
       boolean that_present_options = true && that.isSetOptions();
       if (this_present_options || that_present_options) {
@@ -6839,11 +7443,6 @@ public class FileSystemMasterClientService {
       if (present_path)
         list.add(path);
 
-      boolean present_recursive = true;
-      list.add(present_recursive);
-      if (present_recursive)
-        list.add(recursive);
-
       boolean present_options = true && (isSetOptions());
       list.add(present_options);
       if (present_options)
@@ -6853,7 +7452,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(free_args other) {
+    public int compareTo(createFile_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6870,16 +7469,6 @@ public class FileSystemMasterClientService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetRecursive()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
       if (lastComparison != 0) {
         return lastComparison;
@@ -6907,7 +7496,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("free_args(");
+      StringBuilder sb = new StringBuilder("createFile_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -6918,10 +7507,6 @@ public class FileSystemMasterClientService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("recursive:");
-      sb.append(this.recursive);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("options:");
       if (this.options == null) {
         sb.append("null");
@@ -6951,23 +7536,21 @@ public class FileSystemMasterClientService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class free_argsStandardSchemeFactory implements SchemeFactory {
-      public free_argsStandardScheme getScheme() {
-        return new free_argsStandardScheme();
+    private static class createFile_argsStandardSchemeFactory implements SchemeFactory {
+      public createFile_argsStandardScheme getScheme() {
+        return new createFile_argsStandardScheme();
       }
     }
 
-    private static class free_argsStandardScheme extends StandardScheme<free_args> {
+    private static class createFile_argsStandardScheme extends StandardScheme<createFile_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, free_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6985,17 +7568,3853 @@ public class FileSystemMasterClientService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // RECURSIVE
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.recursive = iprot.readBool();
-                struct.setRecursiveIsSet(true);
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new CreateFileTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFile_argsTupleSchemeFactory implements SchemeFactory {
+      public createFile_argsTupleScheme getScheme() {
+        return new createFile_argsTupleScheme();
+      }
+    }
+
+    private static class createFile_argsTupleScheme extends TupleScheme<createFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new CreateFileTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class createFile_result implements org.apache.thrift.TBase<createFile_result, createFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<createFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new createFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new createFile_resultTupleSchemeFactory());
+    }
+
+    private CreateFileTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, CreateFileTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(createFile_result.class, metaDataMap);
+    }
+
+    public createFile_result() {
+    }
+
+    public createFile_result(
+      CreateFileTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public createFile_result(createFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new CreateFileTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public createFile_result deepCopy() {
+      return new createFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public CreateFileTResponse getSuccess() {
+      return this.success;
+    }
+
+    public createFile_result setSuccess(CreateFileTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public createFile_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((CreateFileTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof createFile_result)
+        return this.equals((createFile_result)that);
+      return false;
+    }
+
+    public boolean equals(createFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(createFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("createFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createFile_resultStandardSchemeFactory implements SchemeFactory {
+      public createFile_resultStandardScheme getScheme() {
+        return new createFile_resultStandardScheme();
+      }
+    }
+
+    private static class createFile_resultStandardScheme extends StandardScheme<createFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new CreateFileTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createFile_resultTupleSchemeFactory implements SchemeFactory {
+      public createFile_resultTupleScheme getScheme() {
+        return new createFile_resultTupleScheme();
+      }
+    }
+
+    private static class createFile_resultTupleScheme extends TupleScheme<createFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new CreateFileTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class free_args implements org.apache.thrift.TBase<free_args, free_args._Fields>, java.io.Serializable, Cloneable, Comparable<free_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new free_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new free_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private boolean recursive; // required
+    private FreeTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file or directory
+       */
+      PATH((short)1, "path"),
+      /**
+       * whether to free recursively
+       */
+      RECURSIVE((short)2, "recursive"),
+      /**
+       * the options for freeing a path
+       */
+      OPTIONS((short)3, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // RECURSIVE
+            return RECURSIVE;
+          case 3: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __RECURSIVE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FreeTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_args.class, metaDataMap);
+    }
+
+    public free_args() {
+    }
+
+    public free_args(
+      String path,
+      boolean recursive,
+      FreeTOptions options)
+    {
+      this();
+      this.path = path;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public free_args(free_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      this.recursive = other.recursive;
+      if (other.isSetOptions()) {
+        this.options = new FreeTOptions(other.options);
+      }
+    }
+
+    public free_args deepCopy() {
+      return new free_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public free_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * whether to free recursively
+     */
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    /**
+     * whether to free recursively
+     */
+    public free_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
+    /**
+     * the options for freeing a path
+     */
+    public FreeTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the options for freeing a path
+     */
+    public free_args setOptions(FreeTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((FreeTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case RECURSIVE:
+        return isRecursive();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case RECURSIVE:
+        return isSetRecursive();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof free_args)
+        return this.equals((free_args)that);
+      return false;
+    }
+
+    public boolean equals(free_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_recursive = true;
+      list.add(present_recursive);
+      if (present_recursive)
+        list.add(recursive);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(free_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("free_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class free_argsStandardSchemeFactory implements SchemeFactory {
+      public free_argsStandardScheme getScheme() {
+        return new free_argsStandardScheme();
+      }
+    }
+
+    private static class free_argsStandardScheme extends StandardScheme<free_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, free_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new FreeTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, free_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class free_argsTupleSchemeFactory implements SchemeFactory {
+      public free_argsTupleScheme getScheme() {
+        return new free_argsTupleScheme();
+      }
+    }
+
+    private static class free_argsTupleScheme extends TupleScheme<free_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPath()) {
+          optionals.set(0);
+        }
+        if (struct.isSetRecursive()) {
+          optionals.set(1);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.options = new FreeTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class free_result implements org.apache.thrift.TBase<free_result, free_result._Fields>, java.io.Serializable, Cloneable, Comparable<free_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new free_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new free_resultTupleSchemeFactory());
+    }
+
+    private FreeTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FreeTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_result.class, metaDataMap);
+    }
+
+    public free_result() {
+    }
+
+    public free_result(
+      FreeTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public free_result(free_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new FreeTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public free_result deepCopy() {
+      return new free_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public FreeTResponse getSuccess() {
+      return this.success;
+    }
+
+    public free_result setSuccess(FreeTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public free_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((FreeTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof free_result)
+        return this.equals((free_result)that);
+      return false;
+    }
+
+    public boolean equals(free_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(free_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("free_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class free_resultStandardSchemeFactory implements SchemeFactory {
+      public free_resultStandardScheme getScheme() {
+        return new free_resultStandardScheme();
+      }
+    }
+
+    private static class free_resultStandardScheme extends StandardScheme<free_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, free_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new FreeTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, free_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class free_resultTupleSchemeFactory implements SchemeFactory {
+      public free_resultTupleScheme getScheme() {
+        return new free_resultTupleScheme();
+      }
+    }
+
+    private static class free_resultTupleScheme extends TupleScheme<free_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new FreeTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getHotFiles_args implements org.apache.thrift.TBase<getHotFiles_args, getHotFiles_args._Fields>, java.io.Serializable, Cloneable, Comparable<getHotFiles_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getHotFiles_args");
+
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getHotFiles_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getHotFiles_argsTupleSchemeFactory());
+    }
+
+    private GetHotFilesTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the method options
+       */
+      OPTIONS((short)1, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetHotFilesTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getHotFiles_args.class, metaDataMap);
+    }
+
+    public getHotFiles_args() {
+    }
+
+    public getHotFiles_args(
+      GetHotFilesTOptions options)
+    {
+      this();
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getHotFiles_args(getHotFiles_args other) {
+      if (other.isSetOptions()) {
+        this.options = new GetHotFilesTOptions(other.options);
+      }
+    }
+
+    public getHotFiles_args deepCopy() {
+      return new getHotFiles_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.options = null;
+    }
+
+    /**
+     * the method options
+     */
+    public GetHotFilesTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public getHotFiles_args setOptions(GetHotFilesTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((GetHotFilesTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getHotFiles_args)
+        return this.equals((getHotFiles_args)that);
+      return false;
+    }
+
+    public boolean equals(getHotFiles_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getHotFiles_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getHotFiles_args(");
+      boolean first = true;
+
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getHotFiles_argsStandardSchemeFactory implements SchemeFactory {
+      public getHotFiles_argsStandardScheme getScheme() {
+        return new getHotFiles_argsStandardScheme();
+      }
+    }
+
+    private static class getHotFiles_argsStandardScheme extends StandardScheme<getHotFiles_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getHotFiles_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new GetHotFilesTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getHotFiles_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getHotFiles_argsTupleSchemeFactory implements SchemeFactory {
+      public getHotFiles_argsTupleScheme getScheme() {
+        return new getHotFiles_argsTupleScheme();
+      }
+    }
+
+    private static class getHotFiles_argsTupleScheme extends TupleScheme<getHotFiles_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getHotFiles_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetOptions()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getHotFiles_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.options = new GetHotFilesTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getHotFiles_result implements org.apache.thrift.TBase<getHotFiles_result, getHotFiles_result._Fields>, java.io.Serializable, Cloneable, Comparable<getHotFiles_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getHotFiles_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getHotFiles_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getHotFiles_resultTupleSchemeFactory());
+    }
+
+    private GetHotFilesTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetHotFilesTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getHotFiles_result.class, metaDataMap);
+    }
+
+    public getHotFiles_result() {
+    }
+
+    public getHotFiles_result(
+      GetHotFilesTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getHotFiles_result(getHotFiles_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new GetHotFilesTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public getHotFiles_result deepCopy() {
+      return new getHotFiles_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public GetHotFilesTResponse getSuccess() {
+      return this.success;
+    }
+
+    public getHotFiles_result setSuccess(GetHotFilesTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public getHotFiles_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((GetHotFilesTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getHotFiles_result)
+        return this.equals((getHotFiles_result)that);
+      return false;
+    }
+
+    public boolean equals(getHotFiles_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getHotFiles_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getHotFiles_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getHotFiles_resultStandardSchemeFactory implements SchemeFactory {
+      public getHotFiles_resultStandardScheme getScheme() {
+        return new getHotFiles_resultStandardScheme();
+      }
+    }
+
+    private static class getHotFiles_resultStandardScheme extends StandardScheme<getHotFiles_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getHotFiles_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GetHotFilesTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getHotFiles_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getHotFiles_resultTupleSchemeFactory implements SchemeFactory {
+      public getHotFiles_resultTupleScheme getScheme() {
+        return new getHotFiles_resultTupleScheme();
+      }
+    }
+
+    private static class getHotFiles_resultTupleScheme extends TupleScheme<getHotFiles_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getHotFiles_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getHotFiles_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new GetHotFilesTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getLoadStatus_args implements org.apache.thrift.TBase<getLoadStatus_args, getLoadStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getLoadStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoadStatus_args");
+
+    private static final org.apache.thrift.protocol.TField LOAD_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("loadId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getLoadStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoadStatus_argsTupleSchemeFactory());
+    }
+
+    private long loadId; // required
+    private GetLoadStatusTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the id of the load
+       */
+      LOAD_ID((short)1, "loadId"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // LOAD_ID
+            return LOAD_ID;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __LOADID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.LOAD_ID, new org.apache.thrift.meta_data.FieldMetaData("loadId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetLoadStatusTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoadStatus_args.class, metaDataMap);
+    }
+
+    public getLoadStatus_args() {
+    }
+
+    public getLoadStatus_args(
+      long loadId,
+      GetLoadStatusTOptions options)
+    {
+      this();
+      this.loadId = loadId;
+      setLoadIdIsSet(true);
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLoadStatus_args(getLoadStatus_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.loadId = other.loadId;
+      if (other.isSetOptions()) {
+        this.options = new GetLoadStatusTOptions(other.options);
+      }
+    }
+
+    public getLoadStatus_args deepCopy() {
+      return new getLoadStatus_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setLoadIdIsSet(false);
+      this.loadId = 0;
+      this.options = null;
+    }
+
+    /**
+     * the id of the load
+     */
+    public long getLoadId() {
+      return this.loadId;
+    }
+
+    /**
+     * the id of the load
+     */
+    public getLoadStatus_args setLoadId(long loadId) {
+      this.loadId = loadId;
+      setLoadIdIsSet(true);
+      return this;
+    }
+
+    public void unsetLoadId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LOADID_ISSET_ID);
+    }
+
+    /** Returns true if field loadId is set (has been assigned a value) and false otherwise */
+    public boolean isSetLoadId() {
+      return EncodingUtils.testBit(__isset_bitfield, __LOADID_ISSET_ID);
+    }
+
+    public void setLoadIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LOADID_ISSET_ID, value);
+    }
+
+    /**
+     * the method options
+     */
+    public GetLoadStatusTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public getLoadStatus_args setOptions(GetLoadStatusTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case LOAD_ID:
+        if (value == null) {
+          unsetLoadId();
+        } else {
+          setLoadId((Long)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((GetLoadStatusTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case LOAD_ID:
+        return getLoadId();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case LOAD_ID:
+        return isSetLoadId();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLoadStatus_args)
+        return this.equals((getLoadStatus_args)that);
+      return false;
+    }
+
+    public boolean equals(getLoadStatus_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_loadId = true;
+      boolean that_present_loadId = true;
+      if (this_present_loadId || that_present_loadId) {
+        if (!(this_present_loadId && that_present_loadId))
+          return false;
+        if (this.loadId != that.loadId)
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_loadId = true;
+      list.add(present_loadId);
+      if (present_loadId)
+        list.add(loadId);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getLoadStatus_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetLoadId()).compareTo(other.isSetLoadId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLoadId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.loadId, other.loadId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getLoadStatus_args(");
+      boolean first = true;
+
+      sb.append("loadId:");
+      sb.append(this.loadId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getLoadStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getLoadStatus_argsStandardScheme getScheme() {
+        return new getLoadStatus_argsStandardScheme();
+      }
+    }
+
+    private static class getLoadStatus_argsStandardScheme extends StandardScheme<getLoadStatus_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoadStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // LOAD_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.loadId = iprot.readI64();
+                struct.setLoadIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OPTIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.options = new GetLoadStatusTOptions();
+                struct.options.read(iprot);
+                struct.setOptionsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoadStatus_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(LOAD_ID_FIELD_DESC);
+        oprot.writeI64(struct.loadId);
+        oprot.writeFieldEnd();
+        if (struct.options != null) {
+          oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
+          struct.options.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getLoadStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getLoadStatus_argsTupleScheme getScheme() {
+        return new getLoadStatus_argsTupleScheme();
+      }
+    }
+
+    private static class getLoadStatus_argsTupleScheme extends TupleScheme<getLoadStatus_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoadStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetLoadId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOptions()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetLoadId()) {
+          oprot.writeI64(struct.loadId);
+        }
+        if (struct.isSetOptions()) {
+          struct.options.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoadStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.loadId = iprot.readI64();
+          struct.setLoadIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.options = new GetLoadStatusTOptions();
+          struct.options.read(iprot);
+          struct.setOptionsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getLoadStatus_result implements org.apache.thrift.TBase<getLoadStatus_result, getLoadStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getLoadStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLoadStatus_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getLoadStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getLoadStatus_resultTupleSchemeFactory());
+    }
+
+    private GetLoadStatusTResponse success; // required
+    private alluxio.thrift.AlluxioTException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetLoadStatusTResponse.class)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLoadStatus_result.class, metaDataMap);
+    }
+
+    public getLoadStatus_result() {
+    }
+
+    public getLoadStatus_result(
+      GetLoadStatusTResponse success,
+      alluxio.thrift.AlluxioTException e)
+    {
+      this();
+      this.success = success;
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLoadStatus_result(getLoadStatus_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new GetLoadStatusTResponse(other.success);
+      }
+      if (other.isSetE()) {
+        this.e = new alluxio.thrift.AlluxioTException(other.e);
+      }
+    }
+
+    public getLoadStatus_result deepCopy() {
+      return new getLoadStatus_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public GetLoadStatusTResponse getSuccess() {
+      return this.success;
+    }
+
+    public getLoadStatus_result setSuccess(GetLoadStatusTResponse success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public alluxio.thrift.AlluxioTException getE() {
+      return this.e;
+    }
+
+    public getLoadStatus_result setE(alluxio.thrift.AlluxioTException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((GetLoadStatusTResponse)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((alluxio.thrift.AlluxioTException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLoadStatus_result)
+        return this.equals((getLoadStatus_result)that);
+      return false;
+    }
+
+    public boolean equals(getLoadStatus_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_e = true && (isSetE());
+      list.add(present_e);
+      if (present_e)
+        list.add(e);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getLoadStatus_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getLoadStatus_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getLoadStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getLoadStatus_resultStandardScheme getScheme() {
+        return new getLoadStatus_resultStandardScheme();
+      }
+    }
+
+    private static class getLoadStatus_resultStandardScheme extends StandardScheme<getLoadStatus_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLoadStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new GetLoadStatusTResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new alluxio.thrift.AlluxioTException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLoadStatus_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getLoadStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getLoadStatus_resultTupleScheme getScheme() {
+        return new getLoadStatus_resultTupleScheme();
+      }
+    }
+
+    private static class getLoadStatus_resultTupleScheme extends TupleScheme<getLoadStatus_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLoadStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLoadStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new GetLoadStatusTResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new alluxio.thrift.AlluxioTException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+    }
+
+    private String path; // required
+    private GetStatusTOptions options; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      /**
+       * the path of the file or directory
+       */
+      PATH((short)1, "path"),
+      /**
+       * the method options
+       */
+      OPTIONS((short)2, "options");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // PATH
+            return PATH;
+          case 2: // OPTIONS
+            return OPTIONS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTOptions.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
+    }
+
+    public getStatus_args() {
+    }
+
+    public getStatus_args(
+      String path,
+      GetStatusTOptions options)
+    {
+      this();
+      this.path = path;
+      this.options = options;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getStatus_args(getStatus_args other) {
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
+      if (other.isSetOptions()) {
+        this.options = new GetStatusTOptions(other.options);
+      }
+    }
+
+    public getStatus_args deepCopy() {
+      return new getStatus_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.path = null;
+      this.options = null;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public String getPath() {
+      return this.path;
+    }
+
+    /**
+     * the path of the file or directory
+     */
+    public getStatus_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
+    }
+
+    /**
+     * the method options
+     */
+    public GetStatusTOptions getOptions() {
+      return this.options;
+    }
+
+    /**
+     * the method options
+     */
+    public getStatus_args setOptions(GetStatusTOptions options) {
+      this.options = options;
+      return this;
+    }
+
+    public void unsetOptions() {
+      this.options = null;
+    }
+
+    /** Returns true if field options is set (has been assigned a value) and false otherwise */
+    public boolean isSetOptions() {
+      return this.options != null;
+    }
+
+    public void setOptionsIsSet(boolean value) {
+      if (!value) {
+        this.options = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
+      case OPTIONS:
+        if (value == null) {
+          unsetOptions();
+        } else {
+          setOptions((GetStatusTOptions)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATH:
+        return getPath();
+
+      case OPTIONS:
+        return getOptions();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATH:
+        return isSetPath();
+      case OPTIONS:
+        return isSetOptions();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getStatus_args)
+        return this.equals((getStatus_args)that);
+      return false;
+    }
+
+    public boolean equals(getStatus_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
+      boolean this_present_options = true && this.isSetOptions();
+      boolean that_present_options = true && that.isSetOptions();
+      if (this_present_options || that_present_options) {
+        if (!(this_present_options && that_present_options))
+          return false;
+        if (!this.options.equals(that.options))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_path = true && (isSetPath());
+      list.add(present_path);
+      if (present_path)
+        list.add(path);
+
+      boolean present_options = true && (isSetOptions());
+      list.add(present_options);
+      if (present_options)
+        list.add(options);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getStatus_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOptions()).compareTo(other.isSetOptions());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOptions()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.options, other.options);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getStatus_args(");
+      boolean first = true;
+
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("options:");
+      if (this.options == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.options);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (options != null) {
+        options.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getStatus_argsStandardScheme getScheme() {
+        return new getStatus_argsStandardScheme();
+      }
+    }
+
+    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // OPTIONS
+            case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new FreeTOptions();
+                struct.options = new GetStatusTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -7013,7 +11432,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, free_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7022,9 +11441,6 @@ public class FileSystemMasterClientService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
-        oprot.writeBool(struct.recursive);
-        oprot.writeFieldEnd();
         if (struct.options != null) {
           oprot.writeFieldBegin(OPTIONS_FIELD_DESC);
           struct.options.write(oprot);
@@ -7036,53 +11452,43 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class free_argsTupleSchemeFactory implements SchemeFactory {
-      public free_argsTupleScheme getScheme() {
-        return new free_argsTupleScheme();
+    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getStatus_argsTupleScheme getScheme() {
+        return new getStatus_argsTupleScheme();
       }
     }
 
-    private static class free_argsTupleScheme extends TupleScheme<free_args> {
+    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
           optionals.set(0);
         }
-        if (struct.isSetRecursive()) {
-          optionals.set(1);
-        }
         if (struct.isSetOptions()) {
-          optionals.set(2);
+          optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
-        if (struct.isSetRecursive()) {
-          oprot.writeBool(struct.recursive);
-        }
         if (struct.isSetOptions()) {
           struct.options.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, free_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.path = iprot.readString();
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.recursive = iprot.readBool();
-          struct.setRecursiveIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.options = new FreeTOptions();
+          struct.options = new GetStatusTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -7091,19 +11497,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class free_result implements org.apache.thrift.TBase<free_result, free_result._Fields>, java.io.Serializable, Cloneable, Comparable<free_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("free_result");
+  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new free_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new free_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
     }
 
-    private FreeTResponse success; // required
+    private GetStatusTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7172,18 +11578,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FreeTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(free_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
     }
 
-    public free_result() {
+    public getStatus_result() {
     }
 
-    public free_result(
-      FreeTResponse success,
+    public getStatus_result(
+      GetStatusTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -7194,17 +11600,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public free_result(free_result other) {
+    public getStatus_result(getStatus_result other) {
       if (other.isSetSuccess()) {
-        this.success = new FreeTResponse(other.success);
+        this.success = new GetStatusTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public free_result deepCopy() {
-      return new free_result(this);
+    public getStatus_result deepCopy() {
+      return new getStatus_result(this);
     }
 
     @Override
@@ -7213,11 +11619,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public FreeTResponse getSuccess() {
+    public GetStatusTResponse getSuccess() {
       return this.success;
     }
 
-    public free_result setSuccess(FreeTResponse success) {
+    public getStatus_result setSuccess(GetStatusTResponse success) {
       this.success = success;
       return this;
     }
@@ -7241,7 +11647,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public free_result setE(alluxio.thrift.AlluxioTException e) {
+    public getStatus_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -7267,7 +11673,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((FreeTResponse)value);
+          setSuccess((GetStatusTResponse)value);
         }
         break;
 
@@ -7313,12 +11719,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof free_result)
-        return this.equals((free_result)that);
+      if (that instanceof getStatus_result)
+        return this.equals((getStatus_result)that);
       return false;
     }
 
-    public boolean equals(free_result that) {
+    public boolean equals(getStatus_result that) {
       if (that == null)
         return false;
 
@@ -7361,7 +11767,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(free_result other) {
+    public int compareTo(getStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7405,7 +11811,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("free_result(");
+      StringBuilder sb = new StringBuilder("getStatus_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -7451,15 +11857,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class free_resultStandardSchemeFactory implements SchemeFactory {
-      public free_resultStandardScheme getScheme() {
-        return new free_resultStandardScheme();
+    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getStatus_resultStandardScheme getScheme() {
+        return new getStatus_resultStandardScheme();
       }
     }
 
-    private static class free_resultStandardScheme extends StandardScheme<free_result> {
+    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, free_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7471,7 +11877,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new FreeTResponse();
+                struct.success = new GetStatusTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -7498,7 +11904,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, free_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7518,16 +11924,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class free_resultTupleSchemeFactory implements SchemeFactory {
-      public free_resultTupleScheme getScheme() {
-        return new free_resultTupleScheme();
+    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getStatus_resultTupleScheme getScheme() {
+        return new getStatus_resultTupleScheme();
       }
     }
 
-    private static class free_resultTupleScheme extends TupleScheme<free_result> {
+    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -7546,11 +11952,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, free_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new FreeTResponse();
+          struct.success = new GetStatusTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -7564,25 +11970,25 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getStatus_args implements org.apache.thrift.TBase<getStatus_args, getStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_args");
+  public static class getNewBlockIdForFile_args implements org.apache.thrift.TBase<getNewBlockIdForFile_args, getNewBlockIdForFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getNewBlockIdForFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNewBlockIdForFile_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private GetStatusTOptions options; // required
+    private GetNewBlockIdForFileTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file or directory
+       * the path of the file
        */
       PATH((short)1, "path"),
       /**
@@ -7653,17 +12059,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetNewBlockIdForFileTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_args.class, metaDataMap);
     }
 
-    public getStatus_args() {
+    public getNewBlockIdForFile_args() {
     }
 
-    public getStatus_args(
+    public getNewBlockIdForFile_args(
       String path,
-      GetStatusTOptions options)
+      GetNewBlockIdForFileTOptions options)
     {
       this();
       this.path = path;
@@ -7673,17 +12079,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_args(getStatus_args other) {
+    public getNewBlockIdForFile_args(getNewBlockIdForFile_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new GetStatusTOptions(other.options);
+        this.options = new GetNewBlockIdForFileTOptions(other.options);
       }
     }
 
-    public getStatus_args deepCopy() {
-      return new getStatus_args(this);
+    public getNewBlockIdForFile_args deepCopy() {
+      return new getNewBlockIdForFile_args(this);
     }
 
     @Override
@@ -7693,16 +12099,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the path of the file or directory
+     * the path of the file
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the path of the file or directory
+     * the path of the file
      */
-    public getStatus_args setPath(String path) {
+    public getNewBlockIdForFile_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -7725,14 +12131,14 @@ public class FileSystemMasterClientService {
     /**
      * the method options
      */
-    public GetStatusTOptions getOptions() {
+    public GetNewBlockIdForFileTOptions getOptions() {
       return this.options;
     }
 
     /**
      * the method options
      */
-    public getStatus_args setOptions(GetStatusTOptions options) {
+    public getNewBlockIdForFile_args setOptions(GetNewBlockIdForFileTOptions options) {
       this.options = options;
       return this;
     }
@@ -7766,7 +12172,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((GetStatusTOptions)value);
+          setOptions((GetNewBlockIdForFileTOptions)value);
         }
         break;
 
@@ -7804,12 +12210,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_args)
-        return this.equals((getStatus_args)that);
+      if (that instanceof getNewBlockIdForFile_args)
+        return this.equals((getNewBlockIdForFile_args)that);
       return false;
     }
 
-    public boolean equals(getStatus_args that) {
+    public boolean equals(getNewBlockIdForFile_args that) {
       if (that == null)
         return false;
 
@@ -7852,7 +12258,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getStatus_args other) {
+    public int compareTo(getNewBlockIdForFile_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7896,7 +12302,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_args(");
+      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -7942,15 +12348,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public getStatus_argsStandardScheme getScheme() {
-        return new getStatus_argsStandardScheme();
+    private static class getNewBlockIdForFile_argsStandardSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_argsStandardScheme getScheme() {
+        return new getNewBlockIdForFile_argsStandardScheme();
       }
     }
 
-    private static class getStatus_argsStandardScheme extends StandardScheme<getStatus_args> {
+    private static class getNewBlockIdForFile_argsStandardScheme extends StandardScheme<getNewBlockIdForFile_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7970,7 +12376,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new GetStatusTOptions();
+                struct.options = new GetNewBlockIdForFileTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -7988,7 +12394,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8008,16 +12414,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public getStatus_argsTupleScheme getScheme() {
-        return new getStatus_argsTupleScheme();
+    private static class getNewBlockIdForFile_argsTupleSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_argsTupleScheme getScheme() {
+        return new getNewBlockIdForFile_argsTupleScheme();
       }
     }
 
-    private static class getStatus_argsTupleScheme extends TupleScheme<getStatus_args> {
+    private static class getNewBlockIdForFile_argsTupleScheme extends TupleScheme<getNewBlockIdForFile_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -8036,7 +12442,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -8044,7 +12450,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new GetStatusTOptions();
+          struct.options = new GetNewBlockIdForFileTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -8053,19 +12459,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getStatus_result implements org.apache.thrift.TBase<getStatus_result, getStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStatus_result");
+  public static class getNewBlockIdForFile_result implements org.apache.thrift.TBase<getNewBlockIdForFile_result, getNewBlockIdForFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getNewBlockIdForFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getNewBlockIdForFile_resultTupleSchemeFactory());
     }
 
-    private GetStatusTResponse success; // required
+    private GetNewBlockIdForFileTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -8134,18 +12540,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetStatusTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetNewBlockIdForFileTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_result.class, metaDataMap);
     }
 
-    public getStatus_result() {
+    public getNewBlockIdForFile_result() {
     }
 
-    public getStatus_result(
-      GetStatusTResponse success,
+    public getNewBlockIdForFile_result(
+      GetNewBlockIdForFileTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -8156,17 +12562,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStatus_result(getStatus_result other) {
+    public getNewBlockIdForFile_result(getNewBlockIdForFile_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GetStatusTResponse(other.success);
+        this.success = new GetNewBlockIdForFileTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public getStatus_result deepCopy() {
-      return new getStatus_result(this);
+    public getNewBlockIdForFile_result deepCopy() {
+      return new getNewBlockIdForFile_result(this);
     }
 
     @Override
@@ -8175,11 +12581,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public GetStatusTResponse getSuccess() {
+    public GetNewBlockIdForFileTResponse getSuccess() {
       return this.success;
     }
 
-    public getStatus_result setSuccess(GetStatusTResponse success) {
+    public getNewBlockIdForFile_result setSuccess(GetNewBlockIdForFileTResponse success) {
       this.success = success;
       return this;
     }
@@ -8203,7 +12609,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public getStatus_result setE(alluxio.thrift.AlluxioTException e) {
+    public getNewBlockIdForFile_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -8229,7 +12635,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GetStatusTResponse)value);
+          setSuccess((GetNewBlockIdForFileTResponse)value);
         }
         break;
 
@@ -8275,12 +12681,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStatus_result)
-        return this.equals((getStatus_result)that);
+      if (that instanceof getNewBlockIdForFile_result)
+        return this.equals((getNewBlockIdForFile_result)that);
       return false;
     }
 
-    public boolean equals(getStatus_result that) {
+    public boolean equals(getNewBlockIdForFile_result that) {
       if (that == null)
         return false;
 
@@ -8323,7 +12729,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getStatus_result other) {
+    public int compareTo(getNewBlockIdForFile_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8367,7 +12773,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getStatus_result(");
+      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -8413,15 +12819,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public getStatus_resultStandardScheme getScheme() {
-        return new getStatus_resultStandardScheme();
+    private static class getNewBlockIdForFile_resultStandardSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_resultStandardScheme getScheme() {
+        return new getNewBlockIdForFile_resultStandardScheme();
       }
     }
 
-    private static class getStatus_resultStandardScheme extends StandardScheme<getStatus_result> {
+    private static class getNewBlockIdForFile_resultStandardScheme extends StandardScheme<getNewBlockIdForFile_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8433,7 +12839,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GetStatusTResponse();
+                struct.success = new GetNewBlockIdForFileTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -8460,7 +12866,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8480,16 +12886,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public getStatus_resultTupleScheme getScheme() {
-        return new getStatus_resultTupleScheme();
+    private static class getNewBlockIdForFile_resultTupleSchemeFactory implements SchemeFactory {
+      public getNewBlockIdForFile_resultTupleScheme getScheme() {
+        return new getNewBlockIdForFile_resultTupleScheme();
       }
     }
 
-    private static class getStatus_resultTupleScheme extends TupleScheme<getStatus_result> {
+    private static class getNewBlockIdForFile_resultTupleScheme extends TupleScheme<getNewBlockIdForFile_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8508,11 +12914,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new GetStatusTResponse();
+          struct.success = new GetNewBlockIdForFileTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -8526,29 +12932,29 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getNewBlockIdForFile_args implements org.apache.thrift.TBase<getNewBlockIdForFile_args, getNewBlockIdForFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_args");
+  public static class listStatus_args implements org.apache.thrift.TBase<listStatus_args, listStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNewBlockIdForFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNewBlockIdForFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new listStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listStatus_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private GetNewBlockIdForFileTOptions options; // required
+    private ListStatusTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       /**
-       * the path of the file
+       * the path of the file or directory
        */
       PATH((short)1, "path"),
       /**
-       * the method options
+       * listStatus options
        */
       OPTIONS((short)2, "options");
 
@@ -8615,17 +13021,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetNewBlockIdForFileTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_args.class, metaDataMap);
     }
 
-    public getNewBlockIdForFile_args() {
+    public listStatus_args() {
     }
 
-    public getNewBlockIdForFile_args(
+    public listStatus_args(
       String path,
-      GetNewBlockIdForFileTOptions options)
+      ListStatusTOptions options)
     {
       this();
       this.path = path;
@@ -8635,17 +13041,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNewBlockIdForFile_args(getNewBlockIdForFile_args other) {
+    public listStatus_args(listStatus_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new GetNewBlockIdForFileTOptions(other.options);
+        this.options = new ListStatusTOptions(other.options);
       }
     }
 
-    public getNewBlockIdForFile_args deepCopy() {
-      return new getNewBlockIdForFile_args(this);
+    public listStatus_args deepCopy() {
+      return new listStatus_args(this);
     }
 
     @Override
@@ -8655,16 +13061,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the path of the file
+     * the path of the file or directory
      */
     public String getPath() {
       return this.path;
     }
 
     /**
-     * the path of the file
+     * the path of the file or directory
      */
-    public getNewBlockIdForFile_args setPath(String path) {
+    public listStatus_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -8685,16 +13091,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * the method options
+     * listStatus options
      */
-    public GetNewBlockIdForFileTOptions getOptions() {
+    public ListStatusTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * the method options
+     * listStatus options
      */
-    public getNewBlockIdForFile_args setOptions(GetNewBlockIdForFileTOptions options) {
+    public listStatus_args setOptions(ListStatusTOptions options) {
       this.options = options;
       return this;
     }
@@ -8728,7 +13134,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((GetNewBlockIdForFileTOptions)value);
+          setOptions((ListStatusTOptions)value);
         }
         break;
 
@@ -8766,12 +13172,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNewBlockIdForFile_args)
-        return this.equals((getNewBlockIdForFile_args)that);
+      if (that instanceof listStatus_args)
+        return this.equals((listStatus_args)that);
       return false;
     }
 
-    public boolean equals(getNewBlockIdForFile_args that) {
+    public boolean equals(listStatus_args that) {
       if (that == null)
         return false;
 
@@ -8814,7 +13220,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getNewBlockIdForFile_args other) {
+    public int compareTo(listStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8858,7 +13264,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_args(");
+      StringBuilder sb = new StringBuilder("listStatus_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -8904,15 +13310,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getNewBlockIdForFile_argsStandardSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_argsStandardScheme getScheme() {
-        return new getNewBlockIdForFile_argsStandardScheme();
+    private static class listStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public listStatus_argsStandardScheme getScheme() {
+        return new listStatus_argsStandardScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_argsStandardScheme extends StandardScheme<getNewBlockIdForFile_args> {
+    private static class listStatus_argsStandardScheme extends StandardScheme<listStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8932,7 +13338,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new GetNewBlockIdForFileTOptions();
+                struct.options = new ListStatusTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -8950,7 +13356,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8970,16 +13376,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getNewBlockIdForFile_argsTupleSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_argsTupleScheme getScheme() {
-        return new getNewBlockIdForFile_argsTupleScheme();
+    private static class listStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public listStatus_argsTupleScheme getScheme() {
+        return new listStatus_argsTupleScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_argsTupleScheme extends TupleScheme<getNewBlockIdForFile_args> {
+    private static class listStatus_argsTupleScheme extends TupleScheme<listStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -8998,7 +13404,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -9006,7 +13412,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new GetNewBlockIdForFileTOptions();
+          struct.options = new ListStatusTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -9015,19 +13421,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class getNewBlockIdForFile_result implements org.apache.thrift.TBase<getNewBlockIdForFile_result, getNewBlockIdForFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNewBlockIdForFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNewBlockIdForFile_result");
+  public static class listStatus_result implements org.apache.thrift.TBase<listStatus_result, listStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getNewBlockIdForFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getNewBlockIdForFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new listStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new listStatus_resultTupleSchemeFactory());
     }
 
-    private GetNewBlockIdForFileTResponse success; // required
+    private ListStatusTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -9096,18 +13502,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, GetNewBlockIdForFileTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNewBlockIdForFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_result.class, metaDataMap);
     }
 
-    public getNewBlockIdForFile_result() {
+    public listStatus_result() {
     }
 
-    public getNewBlockIdForFile_result(
-      GetNewBlockIdForFileTResponse success,
+    public listStatus_result(
+      ListStatusTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -9118,17 +13524,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNewBlockIdForFile_result(getNewBlockIdForFile_result other) {
+    public listStatus_result(listStatus_result other) {
       if (other.isSetSuccess()) {
-        this.success = new GetNewBlockIdForFileTResponse(other.success);
+        this.success = new ListStatusTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public getNewBlockIdForFile_result deepCopy() {
-      return new getNewBlockIdForFile_result(this);
+    public listStatus_result deepCopy() {
+      return new listStatus_result(this);
     }
 
     @Override
@@ -9137,11 +13543,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public GetNewBlockIdForFileTResponse getSuccess() {
+    public ListStatusTResponse getSuccess() {
       return this.success;
     }
 
-    public getNewBlockIdForFile_result setSuccess(GetNewBlockIdForFileTResponse success) {
+    public listStatus_result setSuccess(ListStatusTResponse success) {
       this.success = success;
       return this;
     }
@@ -9165,7 +13571,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public getNewBlockIdForFile_result setE(alluxio.thrift.AlluxioTException e) {
+    public listStatus_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -9191,7 +13597,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((GetNewBlockIdForFileTResponse)value);
+          setSuccess((ListStatusTResponse)value);
         }
         break;
 
@@ -9237,12 +13643,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNewBlockIdForFile_result)
-        return this.equals((getNewBlockIdForFile_result)that);
+      if (that instanceof listStatus_result)
+        return this.equals((listStatus_result)that);
       return false;
     }
 
-    public boolean equals(getNewBlockIdForFile_result that) {
+    public boolean equals(listStatus_result that) {
       if (that == null)
         return false;
 
@@ -9285,7 +13691,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(getNewBlockIdForFile_result other) {
+    public int compareTo(listStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9329,7 +13735,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getNewBlockIdForFile_result(");
+      StringBuilder sb = new StringBuilder("listStatus_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -9375,15 +13781,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class getNewBlockIdForFile_resultStandardSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_resultStandardScheme getScheme() {
-        return new getNewBlockIdForFile_resultStandardScheme();
+    private static class listStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public listStatus_resultStandardScheme getScheme() {
+        return new listStatus_resultStandardScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_resultStandardScheme extends StandardScheme<getNewBlockIdForFile_result> {
+    private static class listStatus_resultStandardScheme extends StandardScheme<listStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9395,7 +13801,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new GetNewBlockIdForFileTResponse();
+                struct.success = new ListStatusTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -9422,7 +13828,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9442,16 +13848,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class getNewBlockIdForFile_resultTupleSchemeFactory implements SchemeFactory {
-      public getNewBlockIdForFile_resultTupleScheme getScheme() {
-        return new getNewBlockIdForFile_resultTupleScheme();
+    private static class listStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public listStatus_resultTupleScheme getScheme() {
+        return new listStatus_resultTupleScheme();
       }
     }
 
-    private static class getNewBlockIdForFile_resultTupleScheme extends TupleScheme<getNewBlockIdForFile_result> {
+    private static class listStatus_resultTupleScheme extends TupleScheme<listStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9470,11 +13876,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNewBlockIdForFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new GetNewBlockIdForFileTResponse();
+          struct.success = new ListStatusTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -9488,20 +13894,20 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class listStatus_args implements org.apache.thrift.TBase<listStatus_args, listStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_args");
+  public static class load_args implements org.apache.thrift.TBase<load_args, load_args._Fields>, java.io.Serializable, Cloneable, Comparable<load_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("load_args");
 
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)1);
     private static final org.apache.thrift.protocol.TField OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("options", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new listStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new listStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new load_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new load_argsTupleSchemeFactory());
     }
 
     private String path; // required
-    private ListStatusTOptions options; // required
+    private LoadTOptions options; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -9510,7 +13916,7 @@ public class FileSystemMasterClientService {
        */
       PATH((short)1, "path"),
       /**
-       * listStatus options
+       * the method options
        */
       OPTIONS((short)2, "options");
 
@@ -9577,17 +13983,17 @@ public class FileSystemMasterClientService {
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("options", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTOptions.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadTOptions.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(load_args.class, metaDataMap);
     }
 
-    public listStatus_args() {
+    public load_args() {
     }
 
-    public listStatus_args(
+    public load_args(
       String path,
-      ListStatusTOptions options)
+      LoadTOptions options)
     {
       this();
       this.path = path;
@@ -9597,17 +14003,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public listStatus_args(listStatus_args other) {
+    public load_args(load_args other) {
       if (other.isSetPath()) {
         this.path = other.path;
       }
       if (other.isSetOptions()) {
-        this.options = new ListStatusTOptions(other.options);
+        this.options = new LoadTOptions(other.options);
       }
     }
 
-    public listStatus_args deepCopy() {
-      return new listStatus_args(this);
+    public load_args deepCopy() {
+      return new load_args(this);
     }
 
     @Override
@@ -9626,7 +14032,7 @@ public class FileSystemMasterClientService {
     /**
      * the path of the file or directory
      */
-    public listStatus_args setPath(String path) {
+    public load_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -9647,16 +14053,16 @@ public class FileSystemMasterClientService {
     }
 
     /**
-     * listStatus options
+     * the method options
      */
-    public ListStatusTOptions getOptions() {
+    public LoadTOptions getOptions() {
       return this.options;
     }
 
     /**
-     * listStatus options
+     * the method options
      */
-    public listStatus_args setOptions(ListStatusTOptions options) {
+    public load_args setOptions(LoadTOptions options) {
       this.options = options;
       return this;
     }
@@ -9690,7 +14096,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetOptions();
         } else {
-          setOptions((ListStatusTOptions)value);
+          setOptions((LoadTOptions)value);
         }
         break;
 
@@ -9728,12 +14134,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof listStatus_args)
-        return this.equals((listStatus_args)that);
+      if (that instanceof load_args)
+        return this.equals((load_args)that);
       return false;
     }
 
-    public boolean equals(listStatus_args that) {
+    public boolean equals(load_args that) {
       if (that == null)
         return false;
 
@@ -9776,7 +14182,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(listStatus_args other) {
+    public int compareTo(load_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9820,7 +14226,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("listStatus_args(");
+      StringBuilder sb = new StringBuilder("load_args(");
       boolean first = true;
 
       sb.append("path:");
@@ -9866,15 +14272,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class listStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public listStatus_argsStandardScheme getScheme() {
-        return new listStatus_argsStandardScheme();
+    private static class load_argsStandardSchemeFactory implements SchemeFactory {
+      public load_argsStandardScheme getScheme() {
+        return new load_argsStandardScheme();
       }
     }
 
-    private static class listStatus_argsStandardScheme extends StandardScheme<listStatus_args> {
+    private static class load_argsStandardScheme extends StandardScheme<load_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, load_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9894,7 +14300,7 @@ public class FileSystemMasterClientService {
               break;
             case 2: // OPTIONS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.options = new ListStatusTOptions();
+                struct.options = new LoadTOptions();
                 struct.options.read(iprot);
                 struct.setOptionsIsSet(true);
               } else { 
@@ -9912,7 +14318,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, load_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9932,16 +14338,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class listStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public listStatus_argsTupleScheme getScheme() {
-        return new listStatus_argsTupleScheme();
+    private static class load_argsTupleSchemeFactory implements SchemeFactory {
+      public load_argsTupleScheme getScheme() {
+        return new load_argsTupleScheme();
       }
     }
 
-    private static class listStatus_argsTupleScheme extends TupleScheme<listStatus_args> {
+    private static class load_argsTupleScheme extends TupleScheme<load_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, load_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetPath()) {
@@ -9960,7 +14366,7 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, load_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -9968,7 +14374,7 @@ public class FileSystemMasterClientService {
           struct.setPathIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.options = new ListStatusTOptions();
+          struct.options = new LoadTOptions();
           struct.options.read(iprot);
           struct.setOptionsIsSet(true);
         }
@@ -9977,19 +14383,19 @@ public class FileSystemMasterClientService {
 
   }
 
-  public static class listStatus_result implements org.apache.thrift.TBase<listStatus_result, listStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<listStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("listStatus_result");
+  public static class load_result implements org.apache.thrift.TBase<load_result, load_result._Fields>, java.io.Serializable, Cloneable, Comparable<load_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("load_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new listStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new listStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new load_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new load_resultTupleSchemeFactory());
     }
 
-    private ListStatusTResponse success; // required
+    private LoadTResponse success; // required
     private alluxio.thrift.AlluxioTException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -10058,18 +14464,18 @@ public class FileSystemMasterClientService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ListStatusTResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, LoadTResponse.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(listStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(load_result.class, metaDataMap);
     }
 
-    public listStatus_result() {
+    public load_result() {
     }
 
-    public listStatus_result(
-      ListStatusTResponse success,
+    public load_result(
+      LoadTResponse success,
       alluxio.thrift.AlluxioTException e)
     {
       this();
@@ -10080,17 +14486,17 @@ public class FileSystemMasterClientService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public listStatus_result(listStatus_result other) {
+    public load_result(load_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ListStatusTResponse(other.success);
+        this.success = new LoadTResponse(other.success);
       }
       if (other.isSetE()) {
         this.e = new alluxio.thrift.AlluxioTException(other.e);
       }
     }
 
-    public listStatus_result deepCopy() {
-      return new listStatus_result(this);
+    public load_result deepCopy() {
+      return new load_result(this);
     }
 
     @Override
@@ -10099,11 +14505,11 @@ public class FileSystemMasterClientService {
       this.e = null;
     }
 
-    public ListStatusTResponse getSuccess() {
+    public LoadTResponse getSuccess() {
       return this.success;
     }
 
-    public listStatus_result setSuccess(ListStatusTResponse success) {
+    public load_result setSuccess(LoadTResponse success) {
       this.success = success;
       return this;
     }
@@ -10127,7 +14533,7 @@ public class FileSystemMasterClientService {
       return this.e;
     }
 
-    public listStatus_result setE(alluxio.thrift.AlluxioTException e) {
+    public load_result setE(alluxio.thrift.AlluxioTException e) {
       this.e = e;
       return this;
     }
@@ -10153,7 +14559,7 @@ public class FileSystemMasterClientService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ListStatusTResponse)value);
+          setSuccess((LoadTResponse)value);
         }
         break;
 
@@ -10199,12 +14605,12 @@ public class FileSystemMasterClientService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof listStatus_result)
-        return this.equals((listStatus_result)that);
+      if (that instanceof load_result)
+        return this.equals((load_result)that);
       return false;
     }
 
-    public boolean equals(listStatus_result that) {
+    public boolean equals(load_result that) {
       if (that == null)
         return false;
 
@@ -10247,7 +14653,7 @@ public class FileSystemMasterClientService {
     }
 
     @Override
-    public int compareTo(listStatus_result other) {
+    public int compareTo(load_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10291,7 +14697,7 @@ public class FileSystemMasterClientService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("listStatus_result(");
+      StringBuilder sb = new StringBuilder("load_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -10337,15 +14743,15 @@ public class FileSystemMasterClientService {
       }
     }
 
-    private static class listStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public listStatus_resultStandardScheme getScheme() {
-        return new listStatus_resultStandardScheme();
+    private static class load_resultStandardSchemeFactory implements SchemeFactory {
+      public load_resultStandardScheme getScheme() {
+        return new load_resultStandardScheme();
       }
     }
 
-    private static class listStatus_resultStandardScheme extends StandardScheme<listStatus_result> {
+    private static class load_resultStandardScheme extends StandardScheme<load_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, load_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10357,7 +14763,7 @@ public class FileSystemMasterClientService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ListStatusTResponse();
+                struct.success = new LoadTResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -10384,7 +14790,7 @@ public class FileSystemMasterClientService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, load_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10404,16 +14810,16 @@ public class FileSystemMasterClientService {
 
     }
 
-    private static class listStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public listStatus_resultTupleScheme getScheme() {
-        return new listStatus_resultTupleScheme();
+    private static class load_resultTupleSchemeFactory implements SchemeFactory {
+      public load_resultTupleScheme getScheme() {
+        return new load_resultTupleScheme();
       }
     }
 
-    private static class listStatus_resultTupleScheme extends TupleScheme<listStatus_result> {
+    private static class load_resultTupleScheme extends TupleScheme<load_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, load_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -10432,11 +14838,11 @@ public class FileSystemMasterClientService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, listStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, load_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = new ListStatusTResponse();
+          struct.success = new LoadTResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -356,16 +356,16 @@ public class GetMountTableTResponse implements org.apache.thrift.TBase<GetMountT
           case 1: // MOUNT_TABLE
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map58 = iprot.readMapBegin();
-                struct.mountTable = new HashMap<String,MountPointInfo>(2*_map58.size);
-                String _key59;
-                MountPointInfo _val60;
-                for (int _i61 = 0; _i61 < _map58.size; ++_i61)
+                org.apache.thrift.protocol.TMap _map66 = iprot.readMapBegin();
+                struct.mountTable = new HashMap<String,MountPointInfo>(2*_map66.size);
+                String _key67;
+                MountPointInfo _val68;
+                for (int _i69 = 0; _i69 < _map66.size; ++_i69)
                 {
-                  _key59 = iprot.readString();
-                  _val60 = new MountPointInfo();
-                  _val60.read(iprot);
-                  struct.mountTable.put(_key59, _val60);
+                  _key67 = iprot.readString();
+                  _val68 = new MountPointInfo();
+                  _val68.read(iprot);
+                  struct.mountTable.put(_key67, _val68);
                 }
                 iprot.readMapEnd();
               }
@@ -393,10 +393,10 @@ public class GetMountTableTResponse implements org.apache.thrift.TBase<GetMountT
         oprot.writeFieldBegin(MOUNT_TABLE_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, struct.mountTable.size()));
-          for (Map.Entry<String, MountPointInfo> _iter62 : struct.mountTable.entrySet())
+          for (Map.Entry<String, MountPointInfo> _iter70 : struct.mountTable.entrySet())
           {
-            oprot.writeString(_iter62.getKey());
-            _iter62.getValue().write(oprot);
+            oprot.writeString(_iter70.getKey());
+            _iter70.getValue().write(oprot);
           }
           oprot.writeMapEnd();
         }
@@ -427,10 +427,10 @@ public class GetMountTableTResponse implements org.apache.thrift.TBase<GetMountT
       if (struct.isSetMountTable()) {
         {
           oprot.writeI32(struct.mountTable.size());
-          for (Map.Entry<String, MountPointInfo> _iter63 : struct.mountTable.entrySet())
+          for (Map.Entry<String, MountPointInfo> _iter71 : struct.mountTable.entrySet())
           {
-            oprot.writeString(_iter63.getKey());
-            _iter63.getValue().write(oprot);
+            oprot.writeString(_iter71.getKey());
+            _iter71.getValue().write(oprot);
           }
         }
       }
@@ -442,16 +442,16 @@ public class GetMountTableTResponse implements org.apache.thrift.TBase<GetMountT
       BitSet incoming = iprot.readBitSet(1);
       if (incoming.get(0)) {
         {
-          org.apache.thrift.protocol.TMap _map64 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-          struct.mountTable = new HashMap<String,MountPointInfo>(2*_map64.size);
-          String _key65;
-          MountPointInfo _val66;
-          for (int _i67 = 0; _i67 < _map64.size; ++_i67)
+          org.apache.thrift.protocol.TMap _map72 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+          struct.mountTable = new HashMap<String,MountPointInfo>(2*_map72.size);
+          String _key73;
+          MountPointInfo _val74;
+          for (int _i75 = 0; _i75 < _map72.size; ++_i75)
           {
-            _key65 = iprot.readString();
-            _val66 = new MountPointInfo();
-            _val66.read(iprot);
-            struct.mountTable.put(_key65, _val66);
+            _key73 = iprot.readString();
+            _val74 = new MountPointInfo();
+            _val74.read(iprot);
+            struct.mountTable.put(_key73, _val74);
           }
         }
         struct.setMountTableIsSet(true);
@@ -869,15 +869,15 @@ public class MountPointInfo implements org.apache.thrift.TBase<MountPointInfo, M
           case 6: // PROPERTIES
             if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
               {
-                org.apache.thrift.protocol.TMap _map68 = iprot.readMapBegin();
-                struct.properties = new HashMap<String,String>(2*_map68.size);
-                String _key69;
-                String _val70;
-                for (int _i71 = 0; _i71 < _map68.size; ++_i71)
+                org.apache.thrift.protocol.TMap _map76 = iprot.readMapBegin();
+                struct.properties = new HashMap<String,String>(2*_map76.size);
+                String _key77;
+                String _val78;
+                for (int _i79 = 0; _i79 < _map76.size; ++_i79)
                 {
-                  _key69 = iprot.readString();
-                  _val70 = iprot.readString();
-                  struct.properties.put(_key69, _val70);
+                  _key77 = iprot.readString();
+                  _val78 = iprot.readString();
+                  struct.properties.put(_key77, _val78);
                 }
                 iprot.readMapEnd();
               }
@@ -932,10 +932,10 @@ public class MountPointInfo implements org.apache.thrift.TBase<MountPointInfo, M
         oprot.writeFieldBegin(PROPERTIES_FIELD_DESC);
         {
           oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, struct.properties.size()));
-          for (Map.Entry<String, String> _iter72 : struct.properties.entrySet())
+          for (Map.Entry<String, String> _iter80 : struct.properties.entrySet())
           {
-            oprot.writeString(_iter72.getKey());
-            oprot.writeString(_iter72.getValue());
+            oprot.writeString(_iter80.getKey());
+            oprot.writeString(_iter80.getValue());
           }
           oprot.writeMapEnd();
         }
@@ -1002,10 +1002,10 @@ public class MountPointInfo implements org.apache.thrift.TBase<MountPointInfo, M
       if (struct.isSetProperties()) {
         {
           oprot.writeI32(struct.properties.size());
-          for (Map.Entry<String, String> _iter73 : struct.properties.entrySet())
+          for (Map.Entry<String, String> _iter81 : struct.properties.entrySet())
           {
-            oprot.writeString(_iter73.getKey());
-            oprot.writeString(_iter73.getValue());
+            oprot.writeString(_iter81.getKey());
+            oprot.writeString(_iter81.getValue());
           }
         }
       }
@@ -1040,15 +1040,15 @@ public class MountPointInfo implements org.apache.thrift.TBase<MountPointInfo, M
       }
       if (incoming.get(5)) {
         {
-          org.apache.thrift.protocol.TMap _map74 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-          struct.properties = new HashMap<String,String>(2*_map74.size);
-          String _key75;
-          String _val76;
-          for (int _i77 = 0; _i77 < _map74.size; ++_i77)
+          org.apache.thrift.protocol.TMap _map82 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+          struct.properties = new HashMap<String,String>(2*_map82.size);
+          String _key83;
+          String _val84;
+          for (int _i85 = 0; _i85 < _map82.size; ++_i85)
           {
-            _key75 = iprot.readString();
-            _val76 = iprot.readString();
-            struct.properties.put(_key75, _val76);
+            _key83 = iprot.readString();
+            _val84 = iprot.readString();
+            struct.properties.put(_key83, _val84);
           }
         }
         struct.setPropertiesIsSet(true);
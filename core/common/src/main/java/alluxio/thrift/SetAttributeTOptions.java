@@ -47,6 +47,8 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
   private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)7);
   private static final org.apache.thrift.protocol.TField TTL_ACTION_FIELD_DESC = new org.apache.thrift.protocol.TField("ttlAction", org.apache.thrift.protocol.TType.I32, (short)8);
   private static final org.apache.thrift.protocol.TField COMMON_OPTIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("commonOptions", org.apache.thrift.protocol.TType.STRUCT, (short)9);
+  private static final org.apache.thrift.protocol.TField REPLICATION_MIN_FIELD_DESC = new org.apache.thrift.protocol.TField("replicationMin", org.apache.thrift.protocol.TType.I32, (short)10);
+  private static final org.apache.thrift.protocol.TField REPLICATION_MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("replicationMax", org.apache.thrift.protocol.TType.I32, (short)11);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -63,6 +65,8 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
   private boolean recursive; // optional
   private alluxio.thrift.TTtlAction ttlAction; // optional
   private FileSystemMasterCommonTOptions commonOptions; // optional
+  private int replicationMin; // optional
+  private int replicationMax; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -78,7 +82,9 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
      * @see alluxio.thrift.TTtlAction
      */
     TTL_ACTION((short)8, "ttlAction"),
-    COMMON_OPTIONS((short)9, "commonOptions");
+    COMMON_OPTIONS((short)9, "commonOptions"),
+    REPLICATION_MIN((short)10, "replicationMin"),
+    REPLICATION_MAX((short)11, "replicationMax");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -111,6 +117,10 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
           return TTL_ACTION;
         case 9: // COMMON_OPTIONS
           return COMMON_OPTIONS;
+        case 10: // REPLICATION_MIN
+          return REPLICATION_MIN;
+        case 11: // REPLICATION_MAX
+          return REPLICATION_MAX;
         default:
           return null;
       }
@@ -156,8 +166,10 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
   private static final int __PERSISTED_ISSET_ID = 2;
   private static final int __MODE_ISSET_ID = 3;
   private static final int __RECURSIVE_ISSET_ID = 4;
+  private static final int __REPLICATIONMIN_ISSET_ID = 5;
+  private static final int __REPLICATIONMAX_ISSET_ID = 6;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.PINNED,_Fields.TTL,_Fields.PERSISTED,_Fields.OWNER,_Fields.GROUP,_Fields.MODE,_Fields.RECURSIVE,_Fields.TTL_ACTION,_Fields.COMMON_OPTIONS};
+  private static final _Fields optionals[] = {_Fields.PINNED,_Fields.TTL,_Fields.PERSISTED,_Fields.OWNER,_Fields.GROUP,_Fields.MODE,_Fields.RECURSIVE,_Fields.TTL_ACTION,_Fields.COMMON_OPTIONS,_Fields.REPLICATION_MIN,_Fields.REPLICATION_MAX};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -179,6 +191,10 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
         new org.apache.thrift.meta_data.EnumMetaData(org.apache.thrift.protocol.TType.ENUM, alluxio.thrift.TTtlAction.class)));
     tmpMap.put(_Fields.COMMON_OPTIONS, new org.apache.thrift.meta_data.FieldMetaData("commonOptions", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileSystemMasterCommonTOptions.class)));
+    tmpMap.put(_Fields.REPLICATION_MIN, new org.apache.thrift.meta_data.FieldMetaData("replicationMin", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+    tmpMap.put(_Fields.REPLICATION_MAX, new org.apache.thrift.meta_data.FieldMetaData("replicationMax", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(SetAttributeTOptions.class, metaDataMap);
   }
@@ -208,6 +224,8 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
     if (other.isSetCommonOptions()) {
       this.commonOptions = new FileSystemMasterCommonTOptions(other.commonOptions);
     }
+    this.replicationMin = other.replicationMin;
+    this.replicationMax = other.replicationMax;
   }
 
   public SetAttributeTOptions deepCopy() {
@@ -230,6 +248,10 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
     this.recursive = false;
     this.ttlAction = null;
     this.commonOptions = null;
+    setReplicationMinIsSet(false);
+    this.replicationMin = 0;
+    setReplicationMaxIsSet(false);
+    this.replicationMax = 0;
   }
 
   public boolean isPinned() {
@@ -451,6 +473,52 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
     }
   }
 
+  public int getReplicationMin() {
+    return this.replicationMin;
+  }
+
+  public SetAttributeTOptions setReplicationMin(int replicationMin) {
+    this.replicationMin = replicationMin;
+    setReplicationMinIsSet(true);
+    return this;
+  }
+
+  public void unsetReplicationMin() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REPLICATIONMIN_ISSET_ID);
+  }
+
+  /** Returns true if field replicationMin is set (has been assigned a value) and false otherwise */
+  public boolean isSetReplicationMin() {
+    return EncodingUtils.testBit(__isset_bitfield, __REPLICATIONMIN_ISSET_ID);
+  }
+
+  public void setReplicationMinIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REPLICATIONMIN_ISSET_ID, value);
+  }
+
+  public int getReplicationMax() {
+    return this.replicationMax;
+  }
+
+  public SetAttributeTOptions setReplicationMax(int replicationMax) {
+    this.replicationMax = replicationMax;
+    setReplicationMaxIsSet(true);
+    return this;
+  }
+
+  public void unsetReplicationMax() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REPLICATIONMAX_ISSET_ID);
+  }
+
+  /** Returns true if field replicationMax is set (has been assigned a value) and false otherwise */
+  public boolean isSetReplicationMax() {
+    return EncodingUtils.testBit(__isset_bitfield, __REPLICATIONMAX_ISSET_ID);
+  }
+
+  public void setReplicationMaxIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REPLICATIONMAX_ISSET_ID, value);
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case PINNED:
@@ -525,6 +593,22 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
       }
       break;
 
+    case REPLICATION_MIN:
+      if (value == null) {
+        unsetReplicationMin();
+      } else {
+        setReplicationMin((Integer)value);
+      }
+      break;
+
+    case REPLICATION_MAX:
+      if (value == null) {
+        unsetReplicationMax();
+      } else {
+        setReplicationMax((Integer)value);
+      }
+      break;
+
     }
   }
 
@@ -557,6 +641,12 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
     case COMMON_OPTIONS:
       return getCommonOptions();
 
+    case REPLICATION_MIN:
+      return getReplicationMin();
+
+    case REPLICATION_MAX:
+      return getReplicationMax();
+
     }
     throw new IllegalStateException();
   }
@@ -586,6 +676,10 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
       return isSetTtlAction();
     case COMMON_OPTIONS:
       return isSetCommonOptions();
+    case REPLICATION_MIN:
+      return isSetReplicationMin();
+    case REPLICATION_MAX:
+      return isSetReplicationMax();
     }
     throw new IllegalStateException();
   }
@@ -684,6 +778,24 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
         return false;
     }
 
+    boolean this_present_replicationMin = true && this.isSetReplicationMin();
+    boolean that_present_replicationMin = true && that.isSetReplicationMin();
+    if (this_present_replicationMin || that_present_replicationMin) {
+      if (!(this_present_replicationMin && that_present_replicationMin))
+        return false;
+      if (this.replicationMin != that.replicationMin)
+        return false;
+    }
+
+    boolean this_present_replicationMax = true && this.isSetReplicationMax();
+    boolean that_present_replicationMax = true && that.isSetReplicationMax();
+    if (this_present_replicationMax || that_present_replicationMax) {
+      if (!(this_present_replicationMax && that_present_replicationMax))
+        return false;
+      if (this.replicationMax != that.replicationMax)
+        return false;
+    }
+
     return true;
   }
 
@@ -736,6 +848,16 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
     if (present_commonOptions)
       list.add(commonOptions);
 
+    boolean present_replicationMin = true && (isSetReplicationMin());
+    list.add(present_replicationMin);
+    if (present_replicationMin)
+      list.add(replicationMin);
+
+    boolean present_replicationMax = true && (isSetReplicationMax());
+    list.add(present_replicationMax);
+    if (present_replicationMax)
+      list.add(replicationMax);
+
     return list.hashCode();
   }
 
@@ -837,6 +959,26 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetReplicationMin()).compareTo(other.isSetReplicationMin());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetReplicationMin()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.replicationMin, other.replicationMin);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetReplicationMax()).compareTo(other.isSetReplicationMax());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetReplicationMax()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.replicationMax, other.replicationMax);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -926,6 +1068,18 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
       }
       first = false;
     }
+    if (isSetReplicationMin()) {
+      if (!first) sb.append(", ");
+      sb.append("replicationMin:");
+      sb.append(this.replicationMin);
+      first = false;
+    }
+    if (isSetReplicationMax()) {
+      if (!first) sb.append(", ");
+      sb.append("replicationMax:");
+      sb.append(this.replicationMax);
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -1047,6 +1201,22 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 10: // REPLICATION_MIN
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.replicationMin = iprot.readI32();
+              struct.setReplicationMinIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 11: // REPLICATION_MAX
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.replicationMax = iprot.readI32();
+              struct.setReplicationMaxIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1115,6 +1285,16 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
           oprot.writeFieldEnd();
         }
       }
+      if (struct.isSetReplicationMin()) {
+        oprot.writeFieldBegin(REPLICATION_MIN_FIELD_DESC);
+        oprot.writeI32(struct.replicationMin);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetReplicationMax()) {
+        oprot.writeFieldBegin(REPLICATION_MAX_FIELD_DESC);
+        oprot.writeI32(struct.replicationMax);
+        oprot.writeFieldEnd();
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1160,7 +1340,13 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
       if (struct.isSetCommonOptions()) {
         optionals.set(8);
       }
-      oprot.writeBitSet(optionals, 9);
+      if (struct.isSetReplicationMin()) {
+        optionals.set(9);
+      }
+      if (struct.isSetReplicationMax()) {
+        optionals.set(10);
+      }
+      oprot.writeBitSet(optionals, 11);
       if (struct.isSetPinned()) {
         oprot.writeBool(struct.pinned);
       }
@@ -1188,12 +1374,18 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
       if (struct.isSetCommonOptions()) {
         struct.commonOptions.write(oprot);
       }
+      if (struct.isSetReplicationMin()) {
+        oprot.writeI32(struct.replicationMin);
+      }
+      if (struct.isSetReplicationMax()) {
+        oprot.writeI32(struct.replicationMax);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, SetAttributeTOptions struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(9);
+      BitSet incoming = iprot.readBitSet(11);
       if (incoming.get(0)) {
         struct.pinned = iprot.readBool();
         struct.setPinnedIsSet(true);
@@ -1231,6 +1423,14 @@ public class SetAttributeTOptions implements org.apache.thrift.TBase<SetAttribut
         struct.commonOptions.read(iprot);
         struct.setCommonOptionsIsSet(true);
       }
+      if (incoming.get(9)) {
+        struct.replicationMin = iprot.readI32();
+        struct.setReplicationMinIsSet(true);
+      }
+      if (incoming.get(10)) {
+        struct.replicationMax = iprot.readI32();
+        struct.setReplicationMaxIsSet(true);
+      }
     }
   }
 
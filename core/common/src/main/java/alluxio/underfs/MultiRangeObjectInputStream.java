@@ -20,7 +20,9 @@ import java.io.InputStream;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
- * A stream for reading data using range queries.
+ * A stream for reading data using range queries. When the number of bytes the caller expects to
+ * read is known, the first range only covers them, so that a positioned read does not request
+ * the rest of the block. Further ranges are aligned to the block size.
  */
 @NotThreadSafe
 public abstract class MultiRangeObjectInputStream extends InputStream {
@@ -33,6 +35,11 @@ public abstract class MultiRangeObjectInputStream extends InputStream {
   protected long mPos;
   /** Position the current stream was open till (exclusive). */
   protected long mEndPos;
+  /**
+   * Position the caller expects to read up to (exclusive), used to size the ranges opened below
+   * it, or -1 if unknown.
+   */
+  protected long mReadEndPos = -1;
 
   @Override
   public void close() throws IOException {
@@ -114,6 +121,15 @@ public abstract class MultiRangeObjectInputStream extends InputStream {
    */
   protected abstract InputStream createStream(long startPos, long endPos) throws IOException;
 
+  /**
+   * Sets the number of bytes the caller expects to read from the current position.
+   *
+   * @param length the number of bytes, {@link Long#MAX_VALUE} if unknown
+   */
+  protected void setReadLength(long length) {
+    mReadEndPos = length == Long.MAX_VALUE ? -1 : mPos + length;
+  }
+
   /**
    * Block size for reading an object in chunks.
    *
@@ -133,8 +149,13 @@ public abstract class MultiRangeObjectInputStream extends InputStream {
     if (mStream != null) { // stream is already open
       return;
     }
-    final long blockSize = getBlockSize();
-    final long endPos = mPos + blockSize - (mPos % blockSize);
+    final long endPos;
+    if (mPos < mReadEndPos) {
+      endPos = mReadEndPos;
+    } else {
+      final long blockSize = getBlockSize();
+      endPos = mPos + blockSize - (mPos % blockSize);
+    }
     mEndPos = endPos;
     mStream = createStream(mPos, endPos);
   }
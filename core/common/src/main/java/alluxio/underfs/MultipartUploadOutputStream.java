@@ -0,0 +1,256 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A stream for writing an object with a multipart upload, without staging it on the local disk.
+ * The data is written into buffers taken from an {@link UploadBufferPool}, and each buffer is
+ * uploaded as a part by an executor as soon as it is full, so that the parts are uploaded in
+ * parallel while the object is being written. The upload is completed when the stream is
+ * closed. An object smaller than a part is uploaded with a single request instead.
+ *
+ * The buffer of the first part is taken when the stream is created, so that the creator can
+ * fall back to another kind of stream when the pool is exhausted rather than wait for a buffer.
+ *
+ * Subclasses implement the requests of the multipart upload with the client of their object
+ * store. The parts may be uploaded concurrently.
+ */
+@NotThreadSafe
+public abstract class MultipartUploadOutputStream extends OutputStream {
+  private static final Logger LOG = LoggerFactory.getLogger(MultipartUploadOutputStream.class);
+
+  /** Key of the object to upload. */
+  protected final String mKey;
+  private final UploadBufferPool mBufferPool;
+  private final ExecutorService mExecutor;
+  /** The uploads of the parts, in part number order. */
+  private final List<Future<Void>> mPartUploads = new ArrayList<>();
+
+  /** The buffer of the part being written, or null if no data was written since the last part. */
+  private ByteBuffer mBuffer;
+  /** Flag to indicate this stream has been closed, to ensure close is only done once. */
+  private boolean mClosed = false;
+
+  /**
+   * @param key the key of the object
+   * @param bufferPool the pool to take the buffers of the parts from
+   * @param buffer the buffer of the first part, already taken from the pool
+   * @param executor the executor to upload the parts with
+   */
+  protected MultipartUploadOutputStream(String key, UploadBufferPool bufferPool,
+      ByteBuffer buffer, ExecutorService executor) {
+    Preconditions.checkArgument(key != null && !key.isEmpty(), "Key must not be null or empty.");
+    mKey = key;
+    mBufferPool = Preconditions.checkNotNull(bufferPool, "bufferPool");
+    mBuffer = Preconditions.checkNotNull(buffer, "buffer");
+    mExecutor = Preconditions.checkNotNull(executor, "executor");
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureBuffer();
+    mBuffer.put((byte) b);
+    if (!mBuffer.hasRemaining()) {
+      submitPart();
+    }
+  }
+
+  @Override
+  public void write(byte[] b) throws IOException {
+    write(b, 0, b.length);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    Preconditions.checkArgument(off >= 0 && len >= 0 && off + len <= b.length,
+        "Invalid offset %s and length %s for a buffer of length %s", off, len, b.length);
+    while (len > 0) {
+      ensureBuffer();
+      int n = Math.min(len, mBuffer.remaining());
+      mBuffer.put(b, off, n);
+      off += n;
+      len -= n;
+      if (!mBuffer.hasRemaining()) {
+        submitPart();
+      }
+    }
+  }
+
+  /**
+   * Does nothing, the data is only persisted when the stream is closed since the parts of a
+   * multipart upload need to be larger than a minimum size.
+   */
+  @Override
+  public void flush() throws IOException {}
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    try {
+      if (mPartUploads.isEmpty()) {
+        // The object fits in a single part, so a multipart upload is not needed
+        ByteBuffer data = mBuffer == null ? ByteBuffer.allocate(0) : mBuffer;
+        data.flip();
+        putObject(data);
+        return;
+      }
+      if (mBuffer != null) {
+        submitPart();
+      }
+      for (Future<Void> partUpload : mPartUploads) {
+        getPartUpload(partUpload);
+      }
+      completeMultipartUpload();
+    } catch (IOException | RuntimeException e) {
+      if (!mPartUploads.isEmpty()) {
+        abort();
+      }
+      LOG.error("Failed to upload {}: {}", mKey, e.toString());
+      throw e;
+    } finally {
+      if (mBuffer != null) {
+        mBufferPool.release(mBuffer);
+        mBuffer = null;
+      }
+    }
+  }
+
+  /**
+   * Makes sure there is a buffer with free space to write to.
+   */
+  private void ensureBuffer() throws IOException {
+    Preconditions.checkState(!mClosed, "Stream is closed");
+    if (mBuffer != null) {
+      return;
+    }
+    try {
+      mBuffer = mBufferPool.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for an upload buffer");
+    }
+  }
+
+  /**
+   * Uploads the current buffer as the next part, in the background. The buffer is returned to the
+   * pool once the part is uploaded.
+   */
+  private void submitPart() throws IOException {
+    // Fail fast if an earlier part failed, rather than buffering the rest of the object
+    for (Future<Void> partUpload : mPartUploads) {
+      if (partUpload.isDone()) {
+        getPartUpload(partUpload);
+      }
+    }
+    if (mPartUploads.isEmpty()) {
+      initMultipartUpload();
+    }
+    final int partNumber = mPartUploads.size() + 1;
+    final ByteBuffer data = mBuffer;
+    mBuffer = null;
+    data.flip();
+    mPartUploads.add(mExecutor.submit(new Callable<Void>() {
+      @Override
+      public Void call() throws IOException {
+        try {
+          uploadPart(data, partNumber);
+          return null;
+        } finally {
+          mBufferPool.release(data);
+        }
+      }
+    }));
+  }
+
+  private void getPartUpload(Future<Void> partUpload) throws IOException {
+    try {
+      partUpload.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while uploading " + mKey);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /**
+   * Aborts the multipart upload once the parts in flight are done, which also returns their
+   * buffers to the pool.
+   */
+  private void abort() {
+    for (Future<Void> partUpload : mPartUploads) {
+      try {
+        getPartUpload(partUpload);
+      } catch (IOException e) {
+        // The failure is reported by close
+      }
+    }
+    try {
+      abortMultipartUpload();
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to abort the multipart upload of {}: {}", mKey, e.toString());
+    }
+  }
+
+  /**
+   * Starts the multipart upload, before the first part is uploaded.
+   */
+  protected abstract void initMultipartUpload() throws IOException;
+
+  /**
+   * Uploads a part of the multipart upload. This may be called concurrently for different parts.
+   *
+   * @param data the data of the part, between its position and limit
+   * @param partNumber the number of the part, starting from 1
+   */
+  protected abstract void uploadPart(ByteBuffer data, int partNumber) throws IOException;
+
+  /**
+   * Completes the multipart upload, once all the parts are uploaded.
+   */
+  protected abstract void completeMultipartUpload() throws IOException;
+
+  /**
+   * Aborts the multipart upload, so that the object store discards the uploaded parts.
+   */
+  protected abstract void abortMultipartUpload() throws IOException;
+
+  /**
+   * Uploads the whole object with a single request, used when it is smaller than a part.
+   *
+   * @param data the data of the object, between its position and limit
+   */
+  protected abstract void putObject(ByteBuffer data) throws IOException;
+}
@@ -24,6 +24,7 @@ import alluxio.underfs.options.ListOptions;
 import alluxio.underfs.options.MkdirsOptions;
 import alluxio.underfs.options.OpenOptions;
 import alluxio.util.CommonUtils;
+import alluxio.util.FormatUtils;
 import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.util.io.PathUtils;
 
@@ -34,16 +35,22 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -60,6 +67,11 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
   /** Default maximum length for a single listing query. */
   private static final int DEFAULT_MAX_LISTING_CHUNK_LENGTH = 1000;
 
+  /** Retry policy parameters of the copies of a directory rename. */
+  private static final int COPY_RETRY_BASE_SLEEP_MS = 100;
+  private static final int COPY_RETRY_MAX_SLEEP_MS = 5000;
+  private static final int COPY_RETRY_MAX_NUM = 3;
+
   /** Value used to indicate nested structure. */
   protected static final char PATH_SEPARATOR_CHAR = '/';
 
@@ -72,6 +84,12 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
   /** Executor service used for parallel UFS operations such as bulk deletes. */
   protected ExecutorService mExecutorService;
 
+  /** Number of threads of {@link #mExecutorService}. */
+  private final int mNumServiceThreads;
+
+  /** Pool of the buffers of streaming uploads, or null if streaming uploads are disabled. */
+  protected final UploadBufferPool mUploadBufferPool;
+
   /**
    * Constructs an {@link ObjectUnderFileSystem}.
    *
@@ -81,9 +99,22 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
   protected ObjectUnderFileSystem(AlluxioURI uri, UnderFileSystemConfiguration ufsConf) {
     super(uri, ufsConf);
 
-    int numThreads = Configuration.getInt(PropertyKey.UNDERFS_OBJECT_STORE_SERVICE_THREADS);
+    mNumServiceThreads = Configuration.getInt(PropertyKey.UNDERFS_OBJECT_STORE_SERVICE_THREADS);
     mExecutorService = ExecutorServiceFactories.fixedThreadPoolExecutorServiceFactory(
-        "alluxio-underfs-object-service-worker", numThreads).create();
+        "alluxio-underfs-object-service-worker", mNumServiceThreads).create();
+
+    if (Boolean.parseBoolean(
+        ufsConf.getValue(PropertyKey.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_ENABLED))) {
+      mUploadBufferPool = new UploadBufferPool(
+          (int) FormatUtils.parseSpaceSize(
+              ufsConf.getValue(PropertyKey.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_PART_SIZE)),
+          FormatUtils.parseSpaceSize(
+              ufsConf.getValue(PropertyKey.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_MEMORY_MAX)),
+          Boolean.parseBoolean(ufsConf
+              .getValue(PropertyKey.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_BUFFER_OFF_HEAP)));
+    } else {
+      mUploadBufferPool = null;
+    }
   }
 
   /**
@@ -263,13 +294,24 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
     }
 
     // Delete children
-    DeleteBuffer deleteBuffer = new DeleteBuffer();
     UfsStatus[] pathsToDelete = listInternal(path, ListOptions.defaults().setRecursive(true));
     if (pathsToDelete == null) {
       LOG.warn("Unable to delete {} because listInternal returns null", path);
       return false;
     }
-    for (UfsStatus pathToDelete : pathsToDelete) {
+    return deleteDescendants(path, pathsToDelete);
+  }
+
+  /**
+   * Deletes a directory and its descendants in batches.
+   *
+   * @param path the path of the directory
+   * @param descendants the descendants of the directory, from a recursive listing
+   * @return true if all the objects were deleted, false otherwise
+   */
+  private boolean deleteDescendants(String path, UfsStatus[] descendants) throws IOException {
+    DeleteBuffer deleteBuffer = new DeleteBuffer();
+    for (UfsStatus pathToDelete : descendants) {
       String pathKey = stripPrefixIfPresent(PathUtils.concatPath(path, pathToDelete.getName()));
       if (pathToDelete.isDirectory()) {
         deleteBuffer.add(convertToFolderName(pathKey));
@@ -543,22 +585,22 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
         (int) Configuration.getMs(PropertyKey.UNDERFS_OBJECT_STORE_READ_RETRY_BASE_SLEEP_MS),
         (int) Configuration.getMs(PropertyKey.UNDERFS_OBJECT_STORE_READ_RETRY_MAX_SLEEP_MS),
         Configuration.getInt(PropertyKey.UNDERFS_OBJECT_STORE_READ_RETRY_MAX_NUM));
-    while (retryPolicy.attemptRetry()) {
+    do {
       try {
         return openObject(stripPrefixIfPresent(path), options);
       } catch (IOException e) {
-        LOG.warn("{} attempt to open {} failed with exception : {}", retryPolicy.getRetryCount(),
-            path, e.getMessage());
+        LOG.warn("{} attempt to open {} failed with exception : {}",
+            retryPolicy.getRetryCount() + 1, path, e.getMessage());
         thrownException = e;
       }
-    }
+    } while (retryPolicy.attemptRetry());
     throw thrownException;
   }
 
   @Override
   public boolean renameDirectory(String src, String dst) throws IOException {
-    UfsStatus[] children = listInternal(src, ListOptions.defaults());
-    if (children == null) {
+    UfsStatus[] descendants = listInternal(src, ListOptions.defaults().setRecursive(true));
+    if (descendants == null) {
       LOG.error("Failed to list directory {}, aborting rename.", src);
       return false;
     }
@@ -567,29 +609,79 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
       return false;
     }
     // Source exists and is a directory, and destination does not exist
-    // Rename the source folder first
-    if (!copyObject(stripPrefixIfPresent(convertToFolderName(src)),
-        stripPrefixIfPresent(convertToFolderName(dst)))) {
+    // Create the destination folder first
+    if (!createEmptyObject(stripPrefixIfPresent(convertToFolderName(dst)))) {
       return false;
     }
-    // Rename each child in the src folder to destination/child
-    for (UfsStatus child : children) {
-      String childSrcPath = PathUtils.concatPath(src, child);
-      String childDstPath = PathUtils.concatPath(dst, child);
-      boolean success;
-      if (child.isDirectory()) {
-        // Recursive call
-        success = renameDirectory(childSrcPath, childDstPath);
-      } else {
-        success = renameFile(childSrcPath, childDstPath);
+    // Copy each descendant of src to the same path under dst. The copies run on the executor
+    // service, with at most as many copies in flight as there are service threads.
+    CompletionService<Boolean> copies = new ExecutorCompletionService<>(mExecutorService);
+    int inFlight = 0;
+    boolean success = true;
+    for (UfsStatus descendant : descendants) {
+      if (inFlight == mNumServiceThreads) {
+        inFlight--;
+        if (!waitForCopy(copies)) {
+          success = false;
+          break;
+        }
       }
-      if (!success) {
-        LOG.error("Failed to rename path {}, aborting rename.", child);
-        return false;
+      String srcKey = stripPrefixIfPresent(PathUtils.concatPath(src, descendant.getName()));
+      String dstKey = stripPrefixIfPresent(PathUtils.concatPath(dst, descendant.getName()));
+      if (descendant.isDirectory()) {
+        // A directory may have no breadcrumb in the source, so it is created rather than copied
+        copies.submit(() -> createEmptyObject(convertToFolderName(dstKey)));
+      } else {
+        copies.submit(() -> copyObjectWithRetry(srcKey, dstKey));
       }
+      inFlight++;
+    }
+    for (; inFlight > 0; inFlight--) {
+      success &= waitForCopy(copies);
+    }
+    if (!success) {
+      LOG.error("Failed to copy the contents of {} to {}, aborting rename.", src, dst);
+      return false;
     }
     // Delete src and everything under src
-    return deleteDirectory(src, DeleteOptions.defaults().setRecursive(true));
+    return deleteDescendants(src, descendants);
+  }
+
+  /**
+   * Waits for the next copy of a directory rename to complete.
+   *
+   * @param copies the copies in flight
+   * @return whether the copy succeeded
+   */
+  private boolean waitForCopy(CompletionService<Boolean> copies) throws IOException {
+    try {
+      return copies.take().get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while renaming a directory", e);
+    } catch (ExecutionException e) {
+      LOG.error("A copy of a directory rename failed", e.getCause());
+      return false;
+    }
+  }
+
+  /**
+   * Copies an object, retrying with an exponential backoff if the copy fails.
+   *
+   * @param src the source key to copy
+   * @param dst the destination key to copy to
+   * @return true if the copy succeeded, false if all the attempts failed
+   */
+  private boolean copyObjectWithRetry(String src, String dst) throws IOException {
+    RetryPolicy retryPolicy = new ExponentialBackoffRetry(COPY_RETRY_BASE_SLEEP_MS,
+        COPY_RETRY_MAX_SLEEP_MS, COPY_RETRY_MAX_NUM);
+    do {
+      if (copyObject(src, dst)) {
+        return true;
+      }
+      LOG.warn("{} attempt to copy {} to {} failed", retryPolicy.getRetryCount() + 1, src, dst);
+    } while (retryPolicy.attemptRetry());
+    return false;
   }
 
   @Override
@@ -818,7 +910,12 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
    */
   @Nullable
   protected UfsStatus[] listInternal(String path, ListOptions options) throws IOException {
-    ObjectListingChunk chunk = getObjectListingChunkForPath(path, options.isRecursive());
+    boolean parallel = options.isRecursive() && Boolean.parseBoolean(
+        mUfsConf.getValue(PropertyKey.UNDERFS_OBJECT_STORE_LIST_PARALLEL_ENABLED));
+    // A parallel listing starts from the immediate children and descends into the
+    // pseudo-directories concurrently
+    ObjectListingChunk chunk =
+        getObjectListingChunkForPath(path, options.isRecursive() && !parallel);
     if (chunk == null) {
       String keyAsFolder = convertToFolderName(stripPrefixIfPresent(path));
       if (getObjectStatus(keyAsFolder) != null) {
@@ -830,91 +927,222 @@ public abstract class ObjectUnderFileSystem extends BaseUnderFileSystem {
     String keyPrefix = PathUtils.normalizePath(stripPrefixIfPresent(path), PATH_SEPARATOR);
     keyPrefix = keyPrefix.equals(PATH_SEPARATOR) ? "" : keyPrefix;
     Map<String, UfsStatus> children = new HashMap<>();
-    while (chunk != null) {
-      // Directories in UFS can be possibly encoded in two different ways:
-      // (1) as file objects with FOLDER_SUFFIX for directories created through Alluxio or
-      // (2) as "common prefixes" of other files objects for directories not created through
-      // Alluxio
-      //
-      // Case (1) (and file objects) is accounted for by iterating over chunk.getObjects() while
-      // case (2) is accounted for by iterating over chunk.getCommonPrefixes().
-      //
-      // An example, with prefix="ufs" and delimiter="/" and LISTING_LENGTH=5
-      // - objects.key = ufs/, child =
-      // - objects.key = ufs/dir1<FOLDER_SUFFIX>, child = dir1
-      // - objects.key = ufs/file, child = file
-      // - commonPrefix = ufs/dir1/, child = dir1
-      // - commonPrefix = ufs/dir2/, child = dir2
-
-      // Handle case (1)
-      for (ObjectStatus status : chunk.getObjectStatuses()) {
-        // Remove parent portion of the key
-        String child = getChildName(status.getName(), keyPrefix);
-        if (child.isEmpty() || child.equals(getFolderSuffix())) {
-          // Removes results equal to the path
-          continue;
+    if (parallel) {
+      listInParallel(chunk, keyPrefix, children);
+    } else {
+      while (chunk != null) {
+        addChildren(chunk, keyPrefix, options.isRecursive(), children);
+        chunk = chunk.getNextChunk();
+      }
+    }
+    UfsStatus[] ret = new UfsStatus[children.size()];
+    int pos = 0;
+    for (UfsStatus status : children.values()) {
+      ret[pos++] = status;
+    }
+    return ret;
+  }
+
+  /**
+   * Adds the children found in a chunk of listing results.
+   *
+   * @param chunk the chunk of listing results
+   * @param keyPrefix the key of the listed pseudo-directory, children are named relative to it
+   * @param inferPrefixes whether to infer pseudo-directories from the object keys, for listings
+   *        without delimiter which do not return common prefixes
+   * @param children the children found so far, by name
+   */
+  private void addChildren(ObjectListingChunk chunk, String keyPrefix, boolean inferPrefixes,
+      Map<String, UfsStatus> children) throws IOException {
+    // Directories in UFS can be possibly encoded in two different ways:
+    // (1) as file objects with FOLDER_SUFFIX for directories created through Alluxio or
+    // (2) as "common prefixes" of other files objects for directories not created through
+    // Alluxio
+    //
+    // Case (1) (and file objects) is accounted for by iterating over chunk.getObjects() while
+    // case (2) is accounted for by iterating over chunk.getCommonPrefixes().
+    //
+    // An example, with prefix="ufs" and delimiter="/" and LISTING_LENGTH=5
+    // - objects.key = ufs/, child =
+    // - objects.key = ufs/dir1<FOLDER_SUFFIX>, child = dir1
+    // - objects.key = ufs/file, child = file
+    // - commonPrefix = ufs/dir1/, child = dir1
+    // - commonPrefix = ufs/dir2/, child = dir2
+
+    // Handle case (1)
+    for (ObjectStatus status : chunk.getObjectStatuses()) {
+      // Remove parent portion of the key
+      String child = getChildName(status.getName(), keyPrefix);
+      if (child.isEmpty() || child.equals(getFolderSuffix())) {
+        // Removes results equal to the path
+        continue;
+      }
+      ObjectPermissions permissions = getPermissions();
+      if (child.endsWith(getFolderSuffix())) {
+        // Child is a directory
+        child = CommonUtils.stripSuffixIfPresent(child, getFolderSuffix());
+        children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
+            permissions.getGroup(), permissions.getMode()));
+      } else {
+        // Child is a file
+        children.put(child,
+            new UfsFileStatus(child, status.getContentHash(), status.getContentLength(),
+                status.getLastModifiedTimeMs(), permissions.getOwner(), permissions.getGroup(),
+                permissions.getMode()));
+      }
+    }
+    // Handle case (2)
+    String[] commonPrefixes;
+    if (inferPrefixes) {
+      // In case of a recursive listing infer pseudo-directories as the commonPrefixes returned
+      // from the object store is empty for an empty delimiter.
+      HashSet<String> prefixes = new HashSet<>();
+      for (ObjectStatus objectStatus : chunk.getObjectStatuses()) {
+        String objectName = objectStatus.getName();
+        while (objectName.startsWith(keyPrefix)) {
+          objectName = objectName.substring(0, objectName.lastIndexOf(PATH_SEPARATOR));
+          if (!objectName.isEmpty()) {
+            prefixes.add(objectName);
+          }
         }
-        ObjectPermissions permissions = getPermissions();
-        if (child.endsWith(getFolderSuffix())) {
-          // Child is a directory
-          child = CommonUtils.stripSuffixIfPresent(child, getFolderSuffix());
+      }
+      commonPrefixes = prefixes.toArray(new String[prefixes.size()]);
+    } else {
+      commonPrefixes = chunk.getCommonPrefixes();
+    }
+    for (String commonPrefix : commonPrefixes) {
+      if (commonPrefix.startsWith(keyPrefix)) {
+        // Remove parent portion of the key
+        String child = getChildName(commonPrefix, keyPrefix);
+        // Remove any portion after the last path delimiter
+        int childNameIndex = child.lastIndexOf(PATH_SEPARATOR);
+        child = childNameIndex != -1 ? child.substring(0, childNameIndex) : child;
+        if (!child.isEmpty() && !children.containsKey(child)) {
+          // This directory has not been created through Alluxio.
+          if (!mUfsConf.isReadOnly()) {
+            mkdirsInternal(commonPrefix);
+          }
+          // If both a file and a directory existed with the same name, the path will be
+          // treated as a directory
+          ObjectPermissions permissions = getPermissions();
           children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
               permissions.getGroup(), permissions.getMode()));
-        } else {
-          // Child is a file
-          children.put(child,
-              new UfsFileStatus(child, status.getContentHash(), status.getContentLength(),
-                  status.getLastModifiedTimeMs(), permissions.getOwner(), permissions.getGroup(),
-                  permissions.getMode()));
         }
       }
-      // Handle case (2)
-      String[] commonPrefixes;
-      if (options.isRecursive()) {
-        // In case of a recursive listing infer pseudo-directories as the commonPrefixes returned
-        // from the object store is empty for an empty delimiter.
-        HashSet<String> prefixes = new HashSet<>();
-        for (ObjectStatus objectStatus : chunk.getObjectStatuses()) {
-          String objectName = objectStatus.getName();
-          while (objectName.startsWith(keyPrefix)) {
-            objectName = objectName.substring(0, objectName.lastIndexOf(PATH_SEPARATOR));
-            if (!objectName.isEmpty()) {
-              prefixes.add(objectName);
-            }
-          }
+    }
+  }
+
+  /**
+   * Lists all the descendants of a pseudo-directory. The pseudo-directories found are listed with
+   * delimiter on {@link #mExecutorService}, so that the key space is split further at each level
+   * and many listing requests are in flight at once. The chunks are processed by the calling
+   * thread as they arrive, in no particular order.
+   *
+   * @param firstChunk the first chunk of the listing with delimiter of the pseudo-directory
+   * @param keyPrefix the key of the listed pseudo-directory
+   * @param children the map to add the descendants to, by name relative to the pseudo-directory
+   */
+  private void listInParallel(ObjectListingChunk firstChunk, String keyPrefix,
+      Map<String, UfsStatus> children) throws IOException {
+    BlockingQueue<ListingResult> results = new LinkedBlockingQueue<>();
+    Deque<String> pendingPrefixes = new ArrayDeque<>();
+    for (ObjectListingChunk chunk = firstChunk; chunk != null; chunk = chunk.getNextChunk()) {
+      addChildren(chunk, keyPrefix, false, children);
+      addSubPrefixes(chunk, keyPrefix, pendingPrefixes);
+    }
+    int inFlight = 0;
+    try {
+      while (!pendingPrefixes.isEmpty() || inFlight > 0) {
+        // Bounds the queued listings, the service threads are shared with other operations
+        while (!pendingPrefixes.isEmpty() && inFlight < mNumServiceThreads) {
+          mExecutorService.submit(new ListingThread(pendingPrefixes.poll(), results));
+          inFlight++;
         }
-        commonPrefixes = prefixes.toArray(new String[prefixes.size()]);
-      } else {
-        commonPrefixes = chunk.getCommonPrefixes();
-      }
-      for (String commonPrefix : commonPrefixes) {
-        if (commonPrefix.startsWith(keyPrefix)) {
-          // Remove parent portion of the key
-          String child = getChildName(commonPrefix, keyPrefix);
-          // Remove any portion after the last path delimiter
-          int childNameIndex = child.lastIndexOf(PATH_SEPARATOR);
-          child = childNameIndex != -1 ? child.substring(0, childNameIndex) : child;
-          if (!child.isEmpty() && !children.containsKey(child)) {
-            // This directory has not been created through Alluxio.
-            if (!mUfsConf.isReadOnly()) {
-              mkdirsInternal(commonPrefix);
-            }
-            // If both a file and a directory existed with the same name, the path will be
-            // treated as a directory
-            ObjectPermissions permissions = getPermissions();
-            children.put(child, new UfsDirectoryStatus(child, permissions.getOwner(),
-                permissions.getGroup(), permissions.getMode()));
-          }
+        ListingResult result = results.take();
+        if (result.mError != null) {
+          throw new IOException("Failed to list " + result.mPrefix, result.mError);
+        }
+        if (result.mChunk == null) {
+          inFlight--;
+          continue;
         }
+        addChildren(result.mChunk, keyPrefix, false, children);
+        addSubPrefixes(result.mChunk, keyPrefix, pendingPrefixes);
       }
-      chunk = chunk.getNextChunk();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while listing " + keyPrefix, e);
     }
-    UfsStatus[] ret = new UfsStatus[children.size()];
-    int pos = 0;
-    for (UfsStatus status : children.values()) {
-      ret[pos++] = status;
+  }
+
+  /**
+   * Adds the common prefixes of a chunk of a listing with delimiter to the prefixes to list.
+   *
+   * @param chunk the chunk of listing results
+   * @param keyPrefix the key of the pseudo-directory listed in parallel
+   * @param pendingPrefixes the prefixes to list
+   */
+  private void addSubPrefixes(ObjectListingChunk chunk, String keyPrefix,
+      Deque<String> pendingPrefixes) {
+    String[] commonPrefixes = chunk.getCommonPrefixes();
+    if (commonPrefixes == null) {
+      return;
+    }
+    for (String commonPrefix : commonPrefixes) {
+      if (commonPrefix.startsWith(keyPrefix) && !commonPrefix.equals(keyPrefix)) {
+        pendingPrefixes.add(commonPrefix);
+      }
+    }
+  }
+
+  /**
+   * A chunk of the listing of a prefix, the end of the listing if both the chunk and the error are
+   * null, or the failure of the listing.
+   */
+  private static final class ListingResult {
+    private final String mPrefix;
+    @Nullable
+    private final ObjectListingChunk mChunk;
+    @Nullable
+    private final Exception mError;
+
+    ListingResult(String prefix, @Nullable ObjectListingChunk chunk, @Nullable Exception error) {
+      mPrefix = prefix;
+      mChunk = chunk;
+      mError = error;
+    }
+  }
+
+  /**
+   * Thread class to list a prefix with delimiter, passing the chunks to the lister as they arrive.
+   */
+  @NotThreadSafe
+  private final class ListingThread implements Runnable {
+    private final String mPrefix;
+    private final BlockingQueue<ListingResult> mResults;
+
+    /**
+     * @param prefix the prefix to list
+     * @param results the queue to pass the chunks to
+     */
+    ListingThread(String prefix, BlockingQueue<ListingResult> results) {
+      mPrefix = prefix;
+      mResults = results;
+    }
+
+    @Override
+    public void run() {
+      try {
+        ObjectListingChunk chunk = getObjectListingChunk(mPrefix, false);
+        while (chunk != null) {
+          mResults.add(new ListingResult(mPrefix, chunk, null));
+          chunk = chunk.getNextChunk();
+        }
+        mResults.add(new ListingResult(mPrefix, null, null));
+      } catch (IOException | RuntimeException e) {
+        mResults.add(new ListingResult(mPrefix, null, e));
+      }
     }
-    return ret;
   }
 
   /**
@@ -0,0 +1,103 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import com.google.common.base.Preconditions;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded pool of fixed size buffers to stage the parts of multipart uploads in memory. The
+ * buffers are allocated on demand and reused, and {@link #acquire()} blocks when all of them are
+ * in use, which bounds the memory used by the uploads sharing the pool. {@link #tryAcquire()}
+ * lets a new upload find out that the pool is exhausted without waiting.
+ */
+@ThreadSafe
+public final class UploadBufferPool {
+  private final int mBufferSize;
+  private final boolean mDirect;
+  /** One permit for each buffer which can still be handed out. */
+  private final Semaphore mPermits;
+  /** Buffers allocated earlier and released since. */
+  private final ConcurrentLinkedQueue<ByteBuffer> mFreeBuffers = new ConcurrentLinkedQueue<>();
+
+  /**
+   * @param bufferSize the size of each buffer in bytes
+   * @param capacityBytes the maximum number of bytes of the buffers, at least one buffer is
+   *        allowed regardless
+   * @param direct whether to allocate the buffers off heap
+   */
+  public UploadBufferPool(int bufferSize, long capacityBytes, boolean direct) {
+    Preconditions.checkArgument(bufferSize > 0, "bufferSize must be positive");
+    mBufferSize = bufferSize;
+    mDirect = direct;
+    mPermits = new Semaphore((int) Math.max(1, Math.min(Integer.MAX_VALUE,
+        capacityBytes / bufferSize)));
+  }
+
+  /**
+   * Takes an empty buffer from the pool, waiting for a buffer to be released if all of them are
+   * in use.
+   *
+   * @return a buffer with its position set to zero and its limit to its capacity
+   */
+  public ByteBuffer acquire() throws InterruptedException {
+    mPermits.acquire();
+    return take();
+  }
+
+  /**
+   * Takes an empty buffer from the pool if one is available, without waiting.
+   *
+   * @return a buffer with its position set to zero and its limit to its capacity, or null if all
+   *         the buffers are in use
+   */
+  public ByteBuffer tryAcquire() {
+    if (!mPermits.tryAcquire()) {
+      return null;
+    }
+    return take();
+  }
+
+  /**
+   * Returns a buffer taken by {@link #acquire()} or {@link #tryAcquire()} to the pool.
+   *
+   * @param buffer the buffer to return
+   */
+  public void release(ByteBuffer buffer) {
+    mFreeBuffers.offer(buffer);
+    mPermits.release();
+  }
+
+  /**
+   * @return the size of each buffer in bytes
+   */
+  public int getBufferSize() {
+    return mBufferSize;
+  }
+
+  /**
+   * Takes a free buffer or allocates a new one, once a permit is held.
+   */
+  private ByteBuffer take() {
+    ByteBuffer buffer = mFreeBuffers.poll();
+    if (buffer == null) {
+      buffer = mDirect ? ByteBuffer.allocateDirect(mBufferSize) : ByteBuffer.allocate(mBufferSize);
+    }
+    buffer.clear();
+    return buffer;
+  }
+}
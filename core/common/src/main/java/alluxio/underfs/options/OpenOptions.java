@@ -51,7 +51,8 @@ public final class OpenOptions {
   }
 
   /**
-   * @return the maximum length of a file
+   * @return the number of bytes expected to be read from the offset, {@link Long#MAX_VALUE} if
+   *         unknown
    */
   public long getLength() {
     return mLength;
@@ -69,7 +70,10 @@ public final class OpenOptions {
   }
 
   /**
-   * @param length the maximum length of the file
+   * Sets the number of bytes expected to be read from the offset. This is a hint which object
+   * stores use to size their ranged reads, reading past it is still allowed.
+   *
+   * @param length the number of bytes expected to be read
    * @return the updated option object
    */
   public OpenOptions setLength(long length) {
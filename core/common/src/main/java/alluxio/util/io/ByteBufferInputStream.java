@@ -0,0 +1,71 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.util.io;
+
+import com.google.common.base.Preconditions;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An {@link InputStream} reading the remaining bytes of a {@link ByteBuffer}, which may be
+ * direct. Reading advances the position of the buffer.
+ */
+@NotThreadSafe
+public final class ByteBufferInputStream extends InputStream {
+  private final ByteBuffer mBuffer;
+
+  /**
+   * @param buffer the buffer to read from
+   */
+  public ByteBufferInputStream(ByteBuffer buffer) {
+    mBuffer = Preconditions.checkNotNull(buffer, "buffer");
+  }
+
+  @Override
+  public int read() {
+    if (!mBuffer.hasRemaining()) {
+      return -1;
+    }
+    return mBuffer.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (!mBuffer.hasRemaining()) {
+      return -1;
+    }
+    int n = Math.min(len, mBuffer.remaining());
+    mBuffer.get(b, off, n);
+    return n;
+  }
+
+  @Override
+  public long skip(long n) {
+    if (n <= 0) {
+      return 0;
+    }
+    int skipped = (int) Math.min(n, mBuffer.remaining());
+    mBuffer.position(mBuffer.position() + skipped);
+    return skipped;
+  }
+
+  @Override
+  public int available() {
+    return mBuffer.remaining();
+  }
+}
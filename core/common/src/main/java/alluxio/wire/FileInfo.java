@@ -56,6 +56,8 @@ public final class FileInfo implements Serializable {
   private long mMountId;
   private int mInAlluxioPercentage;
   private String mUfsFingerprint = Constants.INVALID_UFS_FINGERPRINT;
+  private int mReplicationMin;
+  private int mReplicationMax = Constants.REPLICATION_MAX_INFINITY;
 
   /**
    * Creates a new instance of {@link FileInfo}.
@@ -101,6 +103,10 @@ public final class FileInfo implements Serializable {
     if (fileInfo.isSetUfsFingerprint()) {
       mUfsFingerprint = fileInfo.getUfsFingerprint();
     }
+    mReplicationMin = fileInfo.getReplicationMin();
+    if (fileInfo.isSetReplicationMax()) {
+      mReplicationMax = fileInfo.getReplicationMax();
+    }
   }
 
   /**
@@ -285,6 +291,21 @@ public final class FileInfo implements Serializable {
     return mUfsFingerprint;
   }
 
+  /**
+   * @return the minimum number of block replicas kept in Alluxio
+   */
+  public int getReplicationMin() {
+    return mReplicationMin;
+  }
+
+  /**
+   * @return the maximum number of block replicas kept in Alluxio, or
+   *         {@link Constants#REPLICATION_MAX_INFINITY} if there is no limit
+   */
+  public int getReplicationMax() {
+    return mReplicationMax;
+  }
+
   /**
    * @param fileId the file id to use
    * @return the file information
@@ -526,6 +547,24 @@ public final class FileInfo implements Serializable {
     return this;
   }
 
+  /**
+   * @param replicationMin the minimum number of block replicas to use
+   * @return the file information
+   */
+  public FileInfo setReplicationMin(int replicationMin) {
+    mReplicationMin = replicationMin;
+    return this;
+  }
+
+  /**
+   * @param replicationMax the maximum number of block replicas to use
+   * @return the file information
+   */
+  public FileInfo setReplicationMax(int replicationMax) {
+    mReplicationMax = replicationMax;
+    return this;
+  }
+
   /**
    * @return thrift representation of the file information
    */
@@ -540,7 +579,7 @@ public final class FileInfo implements Serializable {
         mCreationTimeMs, mCompleted, mFolder, mPinned, mCacheable, mPersisted, mBlockIds,
         mInMemoryPercentage, mLastModificationTimeMs, mTtl, mOwner, mGroup, mMode,
         mPersistenceState, mMountPoint, fileBlockInfos, ThriftUtils.toThrift(mTtlAction), mMountId,
-        mInAlluxioPercentage, mUfsFingerprint);
+        mInAlluxioPercentage, mUfsFingerprint, mReplicationMin, mReplicationMax);
     return info;
   }
 
@@ -564,7 +603,8 @@ public final class FileInfo implements Serializable {
         && mPersistenceState.equals(that.mPersistenceState) && mMountPoint == that.mMountPoint
         && mFileBlockInfos.equals(that.mFileBlockInfos) && mTtlAction == that.mTtlAction
         && mMountId == that.mMountId && mInAlluxioPercentage == that.mInAlluxioPercentage
-        && mUfsFingerprint.equals(that.mUfsFingerprint);
+        && mUfsFingerprint.equals(that.mUfsFingerprint) && mReplicationMin == that.mReplicationMin
+        && mReplicationMax == that.mReplicationMax;
   }
 
   @Override
@@ -573,7 +613,7 @@ public final class FileInfo implements Serializable {
         mCreationTimeMs, mCompleted, mFolder, mPinned, mCacheable, mPersisted, mBlockIds,
         mInMemoryPercentage, mLastModificationTimeMs, mTtl, mOwner, mGroup, mMode,
         mPersistenceState, mMountPoint, mFileBlockInfos, mTtlAction, mInAlluxioPercentage,
-        mUfsFingerprint);
+        mUfsFingerprint, mReplicationMin, mReplicationMax);
   }
 
   @Override
@@ -589,6 +629,7 @@ public final class FileInfo implements Serializable {
         .add("fileBlockInfos", mFileBlockInfos)
         .add("mountId", mMountId).add("inAlluxioPercentage", mInAlluxioPercentage)
         .add("ufsFingerprint", mUfsFingerprint)
+        .add("replicationMin", mReplicationMin).add("replicationMax", mReplicationMax)
         .toString();
   }
 }
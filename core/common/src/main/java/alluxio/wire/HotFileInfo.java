@@ -0,0 +1,125 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import com.google.common.base.Objects;
+
+import java.io.Serializable;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The recent access count of a frequently read file.
+ */
+@NotThreadSafe
+public class HotFileInfo implements Serializable {
+  private static final long serialVersionUID = -2741508562380124927L;
+
+  private long mFileId;
+  private String mPath = "";
+  private long mAccessCount;
+
+  /**
+   * Creates a new instance of {@link HotFileInfo}.
+   */
+  public HotFileInfo() {}
+
+  /**
+   * Creates a new instance of {@link HotFileInfo} from thrift representation.
+   *
+   * @param hotFileInfo the thrift representation of a hot file information
+   */
+  protected HotFileInfo(alluxio.thrift.HotFileInfo hotFileInfo) {
+    mFileId = hotFileInfo.getFileId();
+    mPath = hotFileInfo.getPath();
+    mAccessCount = hotFileInfo.getAccessCount();
+  }
+
+  /**
+   * @return the file id
+   */
+  public long getFileId() {
+    return mFileId;
+  }
+
+  /**
+   * @return the file path
+   */
+  public String getPath() {
+    return mPath;
+  }
+
+  /**
+   * @return the estimated number of recent reads of the file blocks
+   */
+  public long getAccessCount() {
+    return mAccessCount;
+  }
+
+  /**
+   * @param fileId the file id to use
+   * @return the hot file information
+   */
+  public HotFileInfo setFileId(long fileId) {
+    mFileId = fileId;
+    return this;
+  }
+
+  /**
+   * @param path the file path to use
+   * @return the hot file information
+   */
+  public HotFileInfo setPath(String path) {
+    mPath = path;
+    return this;
+  }
+
+  /**
+   * @param accessCount the estimated number of recent reads of the file blocks to use
+   * @return the hot file information
+   */
+  public HotFileInfo setAccessCount(long accessCount) {
+    mAccessCount = accessCount;
+    return this;
+  }
+
+  /**
+   * @return thrift representation of the hot file information
+   */
+  protected alluxio.thrift.HotFileInfo toThrift() {
+    return new alluxio.thrift.HotFileInfo(mFileId, mPath, mAccessCount);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof HotFileInfo)) {
+      return false;
+    }
+    HotFileInfo that = (HotFileInfo) o;
+    return mFileId == that.mFileId && mPath.equals(that.mPath)
+        && mAccessCount == that.mAccessCount;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mFileId, mPath, mAccessCount);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("fileId", mFileId).add("path", mPath)
+        .add("accessCount", mAccessCount).toString();
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import com.google.common.base.Objects;
+
+import java.io.Serializable;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The progress information of a distributed load.
+ */
+@NotThreadSafe
+public class LoadInfo implements Serializable {
+  private static final long serialVersionUID = 3405138214532731265L;
+
+  private long mLoadId;
+  private String mPath = "";
+  private long mCreationTimeMs;
+  private long mTotalBlocks;
+  private long mLoadedBlocks;
+  private long mFailedBlocks;
+
+  /**
+   * Creates a new instance of {@link LoadInfo}.
+   */
+  public LoadInfo() {}
+
+  /**
+   * Creates a new instance of {@link LoadInfo} from thrift representation.
+   *
+   * @param loadInfo the thrift representation of a load information
+   */
+  protected LoadInfo(alluxio.thrift.LoadInfo loadInfo) {
+    mLoadId = loadInfo.getLoadId();
+    mPath = loadInfo.getPath();
+    mCreationTimeMs = loadInfo.getCreationTimeMs();
+    mTotalBlocks = loadInfo.getTotalBlocks();
+    mLoadedBlocks = loadInfo.getLoadedBlocks();
+    mFailedBlocks = loadInfo.getFailedBlocks();
+  }
+
+  /**
+   * @return the load id
+   */
+  public long getLoadId() {
+    return mLoadId;
+  }
+
+  /**
+   * @return the path being loaded
+   */
+  public String getPath() {
+    return mPath;
+  }
+
+  /**
+   * @return the creation time of the load in milliseconds
+   */
+  public long getCreationTimeMs() {
+    return mCreationTimeMs;
+  }
+
+  /**
+   * @return the number of blocks to load
+   */
+  public long getTotalBlocks() {
+    return mTotalBlocks;
+  }
+
+  /**
+   * @return the number of blocks loaded
+   */
+  public long getLoadedBlocks() {
+    return mLoadedBlocks;
+  }
+
+  /**
+   * @return the number of blocks which failed to load
+   */
+  public long getFailedBlocks() {
+    return mFailedBlocks;
+  }
+
+  /**
+   * @param loadId the load id to use
+   * @return the load information
+   */
+  public LoadInfo setLoadId(long loadId) {
+    mLoadId = loadId;
+    return this;
+  }
+
+  /**
+   * @param path the path being loaded to use
+   * @return the load information
+   */
+  public LoadInfo setPath(String path) {
+    mPath = path;
+    return this;
+  }
+
+  /**
+   * @param creationTimeMs the creation time of the load in milliseconds to use
+   * @return the load information
+   */
+  public LoadInfo setCreationTimeMs(long creationTimeMs) {
+    mCreationTimeMs = creationTimeMs;
+    return this;
+  }
+
+  /**
+   * @param totalBlocks the number of blocks to load to use
+   * @return the load information
+   */
+  public LoadInfo setTotalBlocks(long totalBlocks) {
+    mTotalBlocks = totalBlocks;
+    return this;
+  }
+
+  /**
+   * @param loadedBlocks the number of blocks loaded to use
+   * @return the load information
+   */
+  public LoadInfo setLoadedBlocks(long loadedBlocks) {
+    mLoadedBlocks = loadedBlocks;
+    return this;
+  }
+
+  /**
+   * @param failedBlocks the number of blocks which failed to load to use
+   * @return the load information
+   */
+  public LoadInfo setFailedBlocks(long failedBlocks) {
+    mFailedBlocks = failedBlocks;
+    return this;
+  }
+
+  /**
+   * @return thrift representation of the load information
+   */
+  protected alluxio.thrift.LoadInfo toThrift() {
+    return new alluxio.thrift.LoadInfo(mLoadId, mPath, mCreationTimeMs, mTotalBlocks,
+        mLoadedBlocks, mFailedBlocks);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LoadInfo)) {
+      return false;
+    }
+    LoadInfo that = (LoadInfo) o;
+    return mLoadId == that.mLoadId && mPath.equals(that.mPath)
+        && mCreationTimeMs == that.mCreationTimeMs && mTotalBlocks == that.mTotalBlocks
+        && mLoadedBlocks == that.mLoadedBlocks && mFailedBlocks == that.mFailedBlocks;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mLoadId, mPath, mCreationTimeMs, mTotalBlocks, mLoadedBlocks,
+        mFailedBlocks);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this).add("loadId", mLoadId).add("path", mPath)
+        .add("creationTimeMs", mCreationTimeMs).add("totalBlocks", mTotalBlocks)
+        .add("loadedBlocks", mLoadedBlocks).add("failedBlocks", mFailedBlocks).toString();
+  }
+}
@@ -73,6 +73,16 @@ public final class ThriftUtils {
     return new FileInfo(fileInfo);
   }
 
+  /**
+   * Converts a thrift type to a wire type.
+   *
+   * @param hotFileInfo the thrift representation of a hot file information
+   * @return wire representation of the hot file information
+   */
+  public static HotFileInfo fromThrift(alluxio.thrift.HotFileInfo hotFileInfo) {
+    return new HotFileInfo(hotFileInfo);
+  }
+
   /**
    * Converts a thrift type to a wire type.
    *
@@ -93,6 +103,16 @@ public final class ThriftUtils {
     return new LineageInfo(lineageInfo);
   }
 
+  /**
+   * Converts a thrift type to a wire type.
+   *
+   * @param loadInfo the thrift representation of a load information
+   * @return wire representation of the load information
+   */
+  public static LoadInfo fromThrift(alluxio.thrift.LoadInfo loadInfo) {
+    return new LoadInfo(loadInfo);
+  }
+
   /**
    * Converts a thrift type to a wire type.
    *
@@ -183,6 +203,16 @@ public final class ThriftUtils {
     return fileInfo.toThrift();
   }
 
+  /**
+   * Converts a wire type to a thrift type.
+   *
+   * @param hotFileInfo the wire representation of a hot file information
+   * @return thrift representation of the hot file information
+   */
+  public static alluxio.thrift.HotFileInfo toThrift(HotFileInfo hotFileInfo) {
+    return hotFileInfo.toThrift();
+  }
+
   /**
    * Converts a wire type to a thrift type.
    *
@@ -203,6 +233,16 @@ public final class ThriftUtils {
     return lineageInfo.toThrift();
   }
 
+  /**
+   * Converts a wire type to a thrift type.
+   *
+   * @param loadInfo the wire representation of a load information
+   * @return thrift representation of the load information
+   */
+  public static alluxio.thrift.LoadInfo toThrift(LoadInfo loadInfo) {
+    return loadInfo.toThrift();
+  }
+
   /**
    * Converts a wire type to a thrift type.
    *
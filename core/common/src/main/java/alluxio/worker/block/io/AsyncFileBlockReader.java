@@ -0,0 +1,274 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.io;
+
+import alluxio.util.io.BufferUtils;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Future;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A reader for a local block file whose I/O is served by the {@link BlockIoQueue} of its storage
+ * directory. Sequential reads through {@link #getChannel()} or {@link #transferTo(ByteBuf)} keep
+ * one read-ahead in flight, so the disk fetches the next packet while the current one is being
+ * sent. The read-ahead is only issued when the queue has room for it.
+ */
+@NotThreadSafe
+public final class AsyncFileBlockReader implements BlockReader {
+  private final String mFilePath;
+  private final BlockIoQueue mQueue;
+  private final AsynchronousFileChannel mLocalFileChannel;
+  private final long mFileSize;
+  private final ReaderChannel mChannel = new ReaderChannel();
+  /** The position of the next sequential read. */
+  private long mPosition;
+  private ByteBuffer mReadAheadBuf;
+  private Future<Integer> mReadAhead;
+  private long mReadAheadOffset;
+  private boolean mClosed;
+
+  /**
+   * Constructs a Block reader given the file path of the block and the queue serving its I/O.
+   *
+   * @param path file path of the block
+   * @param queue the I/O queue of the storage directory holding the block
+   */
+  public AsyncFileBlockReader(String path, BlockIoQueue queue) throws IOException {
+    mFilePath = Preconditions.checkNotNull(path, "path");
+    mQueue = Preconditions.checkNotNull(queue, "queue");
+    mLocalFileChannel = mQueue.open(mFilePath, StandardOpenOption.READ);
+    try {
+      mFileSize = mLocalFileChannel.size();
+    } catch (IOException e) {
+      mLocalFileChannel.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public SeekableByteChannel getChannel() {
+    return mChannel;
+  }
+
+  @Override
+  public long getLength() {
+    return mFileSize;
+  }
+
+  /**
+   * @return the file path
+   */
+  public String getFilePath() {
+    return mFilePath;
+  }
+
+  @Override
+  public ByteBuffer read(long offset, long length) throws IOException {
+    Preconditions.checkArgument(offset + length <= mFileSize,
+        "offset=%s, length=%s, exceeding fileSize=%s", offset, length, mFileSize);
+    if (length == -1L) {
+      length = mFileSize - offset;
+    }
+    Preconditions.checkArgument(length <= Integer.MAX_VALUE, "length=%s is too large", length);
+    ByteBuffer buf = ByteBuffer.allocate((int) length);
+    mQueue.readFully(mLocalFileChannel, buf, offset);
+    buf.flip();
+    return buf;
+  }
+
+  @Override
+  public int transferTo(ByteBuf buf) throws IOException {
+    return buf.writeBytes(mChannel, buf.writableBytes());
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    try {
+      discardReadAhead();
+    } finally {
+      if (mReadAheadBuf != null) {
+        BufferUtils.cleanDirectBuffer(mReadAheadBuf);
+        mReadAheadBuf = null;
+      }
+      mLocalFileChannel.close();
+    }
+  }
+
+  @Override
+  public boolean isClosed() {
+    return mClosed;
+  }
+
+  /**
+   * Reads from the current position into the given buffer, consuming the pending read-ahead if
+   * it starts at the current position, and issues the read-ahead for the following bytes.
+   *
+   * @param dst the buffer to read into
+   * @return the number of bytes read, -1 if the end of the block is reached
+   */
+  private int readSequential(ByteBuffer dst) throws IOException {
+    if (mClosed) {
+      throw new ClosedChannelException();
+    }
+    if (mPosition >= mFileSize) {
+      return -1;
+    }
+    int requested = dst.remaining();
+    int bytesRead = 0;
+    if (mReadAhead != null && mReadAheadOffset == mPosition) {
+      int prefetched = BlockIoQueue.await(mReadAhead);
+      mReadAhead = null;
+      if (prefetched > 0) {
+        mReadAheadBuf.flip();
+        if (mReadAheadBuf.remaining() > dst.remaining()) {
+          mReadAheadBuf.limit(mReadAheadBuf.position() + dst.remaining());
+        }
+        bytesRead = mReadAheadBuf.remaining();
+        dst.put(mReadAheadBuf);
+      }
+    } else {
+      discardReadAhead();
+    }
+    if (dst.hasRemaining()) {
+      int read = mQueue.readFully(mLocalFileChannel, dst, mPosition + bytesRead);
+      if (read > 0) {
+        bytesRead += read;
+      }
+    }
+    if (bytesRead == 0) {
+      return -1;
+    }
+    mPosition += bytesRead;
+    readAhead(requested);
+    return bytesRead;
+  }
+
+  /**
+   * Issues a read of up to the given number of bytes after the current position, if the block
+   * has more bytes and the queue has room.
+   *
+   * @param length the number of bytes to read ahead
+   */
+  private void readAhead(int length) throws IOException {
+    int size = (int) Math.min(length, mFileSize - mPosition);
+    if (size <= 0) {
+      return;
+    }
+    if (mReadAheadBuf == null || mReadAheadBuf.capacity() < size) {
+      if (mReadAheadBuf != null) {
+        BufferUtils.cleanDirectBuffer(mReadAheadBuf);
+      }
+      mReadAheadBuf = ByteBuffer.allocateDirect(size);
+    }
+    mReadAheadBuf.clear();
+    mReadAheadBuf.limit(size);
+    mReadAhead = mQueue.trySubmitRead(mLocalFileChannel, mReadAheadBuf, mPosition);
+    mReadAheadOffset = mPosition;
+  }
+
+  /**
+   * Waits for the pending read-ahead, if any, and drops its result. The buffer must not be
+   * reused while the read into it is still in flight.
+   */
+  private void discardReadAhead() throws IOException {
+    if (mReadAhead == null) {
+      return;
+    }
+    Future<Integer> readAhead = mReadAhead;
+    mReadAhead = null;
+    BlockIoQueue.await(readAhead);
+  }
+
+  /**
+   * A read-only view of the block as a positioned channel.
+   */
+  private final class ReaderChannel implements SeekableByteChannel, ScatteringByteChannel {
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return readSequential(dst);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts) throws IOException {
+      return read(dsts, 0, dsts.length);
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+      long total = 0;
+      for (int i = offset; i < offset + length; i++) {
+        if (!dsts[i].hasRemaining()) {
+          continue;
+        }
+        int read = readSequential(dsts[i]);
+        if (read == -1) {
+          return total == 0 ? -1 : total;
+        }
+        total += read;
+      }
+      return total;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+      throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() {
+      return mPosition;
+    }
+
+    @Override
+    public SeekableByteChannel position(long newPosition) {
+      Preconditions.checkArgument(newPosition >= 0, "negative position %s", newPosition);
+      mPosition = newPosition;
+      return this;
+    }
+
+    @Override
+    public long size() {
+      return mFileSize;
+    }
+
+    @Override
+    public SeekableByteChannel truncate(long size) {
+      throw new NonWritableChannelException();
+    }
+
+    @Override
+    public boolean isOpen() {
+      return !mClosed;
+    }
+
+    @Override
+    public void close() throws IOException {
+      AsyncFileBlockReader.this.close();
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.io;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A writer for a local block file whose I/O is served by the {@link BlockIoQueue} of its storage
+ * directory. The components of a composite buffer are written concurrently.
+ */
+@NotThreadSafe
+public final class AsyncFileBlockWriter implements BlockWriter {
+  private final String mFilePath;
+  private final BlockIoQueue mQueue;
+  private final AsynchronousFileChannel mLocalFileChannel;
+  /** The file offset the next append writes at. */
+  private long mFileOffset;
+  private long mPosition;
+  private boolean mClosed;
+
+  /**
+   * Constructs a Block writer given the file path of the block and the queue serving its I/O.
+   *
+   * @param path file path of the block
+   * @param queue the I/O queue of the storage directory holding the block
+   */
+  public AsyncFileBlockWriter(String path, BlockIoQueue queue) throws IOException {
+    mFilePath = Preconditions.checkNotNull(path, "path");
+    mQueue = Preconditions.checkNotNull(queue, "queue");
+    mLocalFileChannel =
+        mQueue.open(mFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    try {
+      mFileOffset = mLocalFileChannel.size();
+    } catch (IOException e) {
+      mLocalFileChannel.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public long append(ByteBuffer inputBuf) throws IOException {
+    long bytesWritten = mQueue.writeFully(mLocalFileChannel, inputBuf.duplicate(), mFileOffset);
+    mFileOffset += bytesWritten;
+    mPosition += bytesWritten;
+    return bytesWritten;
+  }
+
+  @Override
+  public long append(ByteBuf buf) throws IOException {
+    int length = buf.readableBytes();
+    ByteBuffer[] srcs = buf.nioBuffers();
+    long[] offsets = new long[srcs.length];
+    int[] lengths = new int[srcs.length];
+    List<Future<Integer>> writes = new ArrayList<>(srcs.length);
+    long offset = mFileOffset;
+    for (int i = 0; i < srcs.length; i++) {
+      offsets[i] = offset;
+      lengths[i] = srcs[i].remaining();
+      writes.add(mQueue.submitWrite(mLocalFileChannel, srcs[i], offset));
+      offset += lengths[i];
+    }
+    for (int i = 0; i < srcs.length; i++) {
+      BlockIoQueue.await(writes.get(i));
+      if (srcs[i].hasRemaining()) {
+        // Files rarely see short writes, but the channel does not rule them out.
+        mQueue.writeFully(mLocalFileChannel, srcs[i],
+            offsets[i] + lengths[i] - srcs[i].remaining());
+      }
+    }
+    buf.skipBytes(length);
+    mFileOffset += length;
+    mPosition += length;
+    return length;
+  }
+
+  @Override
+  public long getPosition() {
+    return mPosition;
+  }
+
+  /**
+   * @return the file path
+   */
+  public String getFilePath() {
+    return mFilePath;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+
+    mLocalFileChannel.close();
+    mPosition = -1;
+  }
+}
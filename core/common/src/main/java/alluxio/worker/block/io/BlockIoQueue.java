@@ -0,0 +1,251 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.io;
+
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.OpenOption;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * An I/O queue serving the asynchronous disk reads and writes of one storage directory. Files
+ * opened through this queue are backed by an {@link AsynchronousFileChannel} bound to a dedicated
+ * thread pool, so a slow device only occupies the threads of its own queue. The number of
+ * in-flight operations is bounded by the queue depth; submitting beyond the depth blocks the
+ * caller until an earlier operation completes.
+ */
+@ThreadSafe
+public final class BlockIoQueue implements Closeable {
+  private final ExecutorService mExecutor;
+  private final Semaphore mPermits;
+  private final int mDepth;
+
+  /**
+   * Creates a new instance of {@link BlockIoQueue}.
+   *
+   * @param name the name of the queue, used to name its threads
+   * @param threads the number of threads performing the disk I/O
+   * @param depth the maximum number of in-flight operations
+   */
+  public BlockIoQueue(String name, int threads, int depth) {
+    Preconditions.checkArgument(threads > 0, "threads must be positive: %s", threads);
+    Preconditions.checkArgument(depth > 0, "depth must be positive: %s", depth);
+    mExecutor = Executors.newFixedThreadPool(threads,
+        ThreadFactoryUtils.build("block-io-" + name + "-%d", true));
+    mPermits = new Semaphore(depth);
+    mDepth = depth;
+  }
+
+  /**
+   * Opens a file whose I/O is served by this queue.
+   *
+   * @param path the path of the file
+   * @param options the options specifying how the file is opened
+   * @return the opened channel
+   */
+  public AsynchronousFileChannel open(String path, OpenOption... options) throws IOException {
+    return AsynchronousFileChannel.open(Paths.get(path), new HashSet<>(Arrays.asList(options)),
+        mExecutor);
+  }
+
+  /**
+   * Submits a read from the given channel, blocking only while the queue is full.
+   *
+   * @param channel the channel to read from, opened by {@link #open(String, OpenOption...)}
+   * @param dst the buffer to read into
+   * @param position the file position to read at
+   * @return a future of the number of bytes read, -1 if the position is at or beyond the end
+   */
+  public Future<Integer> submitRead(AsynchronousFileChannel channel, ByteBuffer dst,
+      long position) throws IOException {
+    CompletableFuture<Integer> future = new CompletableFuture<>();
+    acquire();
+    try {
+      channel.read(dst, position, future, new ReleasingHandler());
+    } catch (RuntimeException e) {
+      mPermits.release();
+      throw e;
+    }
+    return future;
+  }
+
+  /**
+   * Submits a read from the given channel if the queue has room for it. This is meant for
+   * opportunistic work such as read-ahead, which should never hold up its caller.
+   *
+   * @param channel the channel to read from, opened by {@link #open(String, OpenOption...)}
+   * @param dst the buffer to read into
+   * @param position the file position to read at
+   * @return a future of the number of bytes read, or null if the queue is full
+   */
+  @Nullable
+  public Future<Integer> trySubmitRead(AsynchronousFileChannel channel, ByteBuffer dst,
+      long position) {
+    if (!mPermits.tryAcquire()) {
+      return null;
+    }
+    CompletableFuture<Integer> future = new CompletableFuture<>();
+    try {
+      channel.read(dst, position, future, new ReleasingHandler());
+    } catch (RuntimeException e) {
+      mPermits.release();
+      throw e;
+    }
+    return future;
+  }
+
+  /**
+   * Submits a write to the given channel, blocking only while the queue is full.
+   *
+   * @param channel the channel to write to, opened by {@link #open(String, OpenOption...)}
+   * @param src the buffer to write from
+   * @param position the file position to write at
+   * @return a future of the number of bytes written
+   */
+  public Future<Integer> submitWrite(AsynchronousFileChannel channel, ByteBuffer src,
+      long position) throws IOException {
+    CompletableFuture<Integer> future = new CompletableFuture<>();
+    acquire();
+    try {
+      channel.write(src, position, future, new ReleasingHandler());
+    } catch (RuntimeException e) {
+      mPermits.release();
+      throw e;
+    }
+    return future;
+  }
+
+  /**
+   * Reads from the given channel until the buffer is full or the end of the file is reached.
+   *
+   * @param channel the channel to read from, opened by {@link #open(String, OpenOption...)}
+   * @param dst the buffer to read into
+   * @param position the file position to read at
+   * @return the number of bytes read, -1 if the position is at or beyond the end of the file
+   */
+  public int readFully(AsynchronousFileChannel channel, ByteBuffer dst, long position)
+      throws IOException {
+    int total = 0;
+    while (dst.hasRemaining()) {
+      int read = await(submitRead(channel, dst, position + total));
+      if (read == -1) {
+        return total == 0 ? -1 : total;
+      }
+      total += read;
+    }
+    return total;
+  }
+
+  /**
+   * Writes the remaining bytes of the buffer to the given channel.
+   *
+   * @param channel the channel to write to, opened by {@link #open(String, OpenOption...)}
+   * @param src the buffer to write from
+   * @param position the file position to write at
+   * @return the number of bytes written
+   */
+  public int writeFully(AsynchronousFileChannel channel, ByteBuffer src, long position)
+      throws IOException {
+    int total = 0;
+    while (src.hasRemaining()) {
+      total += await(submitWrite(channel, src, position + total));
+    }
+    return total;
+  }
+
+  /**
+   * @return the maximum number of in-flight operations
+   */
+  public int getDepth() {
+    return mDepth;
+  }
+
+  /**
+   * @return the number of operations currently in flight
+   */
+  public int getInFlight() {
+    return mDepth - mPermits.availablePermits();
+  }
+
+  /**
+   * Waits for an operation submitted to this queue to complete.
+   *
+   * @param future the future of the operation
+   * @return the number of bytes transferred
+   */
+  public static int await(Future<Integer> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(false);
+      throw new InterruptedIOException("Interrupted while waiting for block I/O");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  @Override
+  public void close() {
+    mExecutor.shutdownNow();
+  }
+
+  private void acquire() throws IOException {
+    try {
+      mPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the block I/O queue");
+    }
+  }
+
+  /**
+   * Completes the future of an operation and returns its permit to the queue.
+   */
+  private final class ReleasingHandler
+      implements CompletionHandler<Integer, CompletableFuture<Integer>> {
+    @Override
+    public void completed(Integer result, CompletableFuture<Integer> future) {
+      mPermits.release();
+      future.complete(result);
+    }
+
+    @Override
+    public void failed(Throwable t, CompletableFuture<Integer> future) {
+      mPermits.release();
+      future.completeExceptionally(t);
+    }
+  }
+}
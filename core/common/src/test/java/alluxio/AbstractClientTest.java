@@ -13,6 +13,8 @@ package alluxio;
 
 import static alluxio.exception.ExceptionMessage.INCOMPATIBLE_VERSION;
 
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.exception.status.UnavailableException;
 import alluxio.thrift.AlluxioService;
 import alluxio.thrift.AlluxioService.Client;
 import alluxio.thrift.GetServiceVersionTOptions;
@@ -23,10 +25,14 @@ import org.junit.Test;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
 import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit tests for {@link AbstractClient}.
@@ -62,6 +68,12 @@ public final class AbstractClientTest {
     public void checkVersion(AlluxioService.Client thriftClient, long version) throws IOException {
       super.checkVersion(thriftClient, version);
     }
+
+    @Override
+    public synchronized void connect() {
+      mProtocol = new TBinaryProtocol(Mockito.mock(TTransport.class));
+      mConnected = true;
+    }
   }
 
   @Test
@@ -88,4 +100,34 @@ public final class AbstractClientTest {
       client.checkVersion(thriftClient, 1);
     }
   }
+
+  @Test
+  public void nonIdempotentRpcIsNotResentAfterFailure() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    try (TestClient client = new TestClient()) {
+      client.retryNonIdempotentRPC(() -> {
+        calls.incrementAndGet();
+        throw new TTransportException("connection reset");
+      });
+      Assert.fail("retryNonIdempotentRPC() should fail");
+    } catch (UnavailableException e) {
+      // expected
+    }
+    Assert.assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void nonIdempotentRpcIsRetriedWhenRejected() throws Exception {
+    final AtomicInteger calls = new AtomicInteger();
+    try (TestClient client = new TestClient()) {
+      int result = client.retryNonIdempotentRPC(() -> {
+        if (calls.incrementAndGet() == 1) {
+          throw new ResourceExhaustedException("overloaded").toThrift();
+        }
+        return 1;
+      });
+      Assert.assertEquals(1, result);
+    }
+    Assert.assertEquals(2, calls.get());
+  }
 }
@@ -16,6 +16,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -111,5 +112,28 @@ public final class DirectedAcyclicGraphTest {
     }
     Assert.assertEquals(2, seen.size());
   }
-}
 
+  /**
+   * Tests that {@link DirectedAcyclicGraph#sortTopologicallyInBatches(Set)} groups independent
+   * payloads together, and follows dependencies through payloads which are not sorted.
+   */
+  @Test
+  public void sortInBatches() {
+    // 1->2->3->4, 1->5, 6->4
+    mGraph.add(1, new ArrayList<Integer>());
+    mGraph.add(2, Arrays.asList(1));
+    mGraph.add(3, Arrays.asList(2));
+    mGraph.add(6, new ArrayList<Integer>());
+    mGraph.add(4, Arrays.asList(3, 6));
+    mGraph.add(5, Arrays.asList(1));
+
+    List<List<Integer>> batches =
+        mGraph.sortTopologicallyInBatches(new HashSet<>(Arrays.asList(1, 3, 4, 5, 6)));
+    Assert.assertEquals(3, batches.size());
+    Assert.assertEquals(new HashSet<>(Arrays.asList(1, 6)), new HashSet<>(batches.get(0)));
+    Assert.assertEquals(new HashSet<>(Arrays.asList(3, 5)), new HashSet<>(batches.get(1)));
+    Assert.assertEquals(Arrays.asList(4), batches.get(2));
+
+    Assert.assertTrue(mGraph.sortTopologicallyInBatches(new HashSet<Integer>()).isEmpty());
+  }
+}
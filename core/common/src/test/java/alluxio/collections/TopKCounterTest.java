@@ -0,0 +1,101 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Unit tests for {@link TopKCounter}.
+ */
+public final class TopKCounterTest {
+
+  /**
+   * Tests that the exact counts are kept while the capacity is not exceeded.
+   */
+  @Test
+  public void exactCounts() {
+    TopKCounter<String> counter = new TopKCounter<>(3);
+    counter.add("a", 1);
+    counter.add("b", 5);
+    counter.add("a", 2);
+    counter.add("c", 4);
+    Assert.assertEquals(3, counter.size());
+    Assert.assertEquals(3, counter.getCount("a"));
+    Assert.assertEquals(5, counter.getCount("b"));
+    Assert.assertEquals(0, counter.getError("a"));
+    Assert.assertEquals(0, counter.getCount("d"));
+    Map<String, Long> top = counter.getTopK(2);
+    Assert.assertEquals(Arrays.asList("b", "c"), new ArrayList<>(top.keySet()));
+    Assert.assertEquals(Arrays.asList(5L, 4L), new ArrayList<>(top.values()));
+  }
+
+  /**
+   * Tests that the key with the smallest count is evicted once the capacity is exceeded.
+   */
+  @Test
+  public void eviction() {
+    TopKCounter<String> counter = new TopKCounter<>(2);
+    counter.add("a", 10);
+    counter.add("b", 2);
+    counter.add("c", 1);
+    Assert.assertEquals(2, counter.size());
+    Assert.assertEquals(0, counter.getCount("b"));
+    // c inherits the count of b as its error
+    Assert.assertEquals(3, counter.getCount("c"));
+    Assert.assertEquals(2, counter.getError("c"));
+    Assert.assertEquals(1, counter.getGuaranteedCount("c"));
+    Assert.assertEquals(10, counter.getCount("a"));
+    Assert.assertEquals(10, counter.getGuaranteedCount("a"));
+  }
+
+  /**
+   * Tests that the heavy hitters of a skewed stream are found with a small capacity.
+   */
+  @Test
+  public void heavyHitters() {
+    TopKCounter<Integer> counter = new TopKCounter<>(10);
+    for (int i = 0; i < 1000; i++) {
+      counter.add(i % 3, 1);
+      counter.add(1000 + i, 1);
+    }
+    Map<Integer, Long> top = counter.getTopK(3);
+    Assert.assertTrue(top.keySet().containsAll(Arrays.asList(0, 1, 2)));
+    for (int i = 0; i < 3; i++) {
+      Assert.assertTrue(counter.getCount(i) - counter.getError(i) <= 334);
+      Assert.assertTrue(counter.getCount(i) >= 333);
+    }
+  }
+
+  /**
+   * Tests that decaying scales the counts and drops the keys which reach zero.
+   */
+  @Test
+  public void decay() {
+    TopKCounter<String> counter = new TopKCounter<>(3);
+    counter.add("a", 10);
+    counter.add("b", 1);
+    counter.decay(0.5);
+    Assert.assertEquals(5, counter.getCount("a"));
+    Assert.assertEquals(0, counter.getCount("b"));
+    Assert.assertEquals(1, counter.size());
+    counter.add("b", 6);
+    Assert.assertEquals(Arrays.asList("b", "a"), new ArrayList<>(counter.getTopK(3).keySet()));
+    counter.clear();
+    Assert.assertEquals(0, counter.size());
+    Assert.assertTrue(counter.getTopK(3).isEmpty());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics;
+
+import com.codahale.metrics.Snapshot;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link HistogramReservoir}.
+ */
+public final class HistogramReservoirTest {
+
+  /**
+   * Tests that the buckets are contiguous and that every value falls into its own bucket.
+   */
+  @Test
+  public void buckets() {
+    for (int i = 0; i < HistogramReservoir.BUCKET_COUNT - 1; i++) {
+      Assert.assertEquals(HistogramReservoir.upperBound(i) + 1,
+          HistogramReservoir.lowerBound(i + 1));
+      Assert.assertEquals(i, HistogramReservoir.bucketIndex(HistogramReservoir.lowerBound(i)));
+      Assert.assertEquals(i, HistogramReservoir.bucketIndex(HistogramReservoir.upperBound(i)));
+    }
+    Assert.assertEquals(HistogramReservoir.BUCKET_COUNT - 1,
+        HistogramReservoir.bucketIndex(Long.MAX_VALUE));
+    Assert.assertEquals(0, HistogramReservoir.bucketIndex(-1));
+  }
+
+  /**
+   * Tests that small values are recorded exactly.
+   */
+  @Test
+  public void smallValues() {
+    HistogramReservoir reservoir = new HistogramReservoir();
+    for (int i = 1; i <= 10; i++) {
+      reservoir.update(i);
+    }
+    Snapshot snapshot = reservoir.getSnapshot();
+    Assert.assertEquals(10, snapshot.size());
+    Assert.assertEquals(10, reservoir.size());
+    Assert.assertEquals(1, snapshot.getMin());
+    Assert.assertEquals(10, snapshot.getMax());
+    Assert.assertEquals(5.5, snapshot.getMean(), 0.0);
+    Assert.assertEquals(5.0, snapshot.getMedian(), 0.0);
+    Assert.assertArrayEquals(new long[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, snapshot.getValues());
+  }
+
+  /**
+   * Tests that the quantiles of large values are within the error bound.
+   */
+  @Test
+  public void quantiles() {
+    HistogramReservoir reservoir = new HistogramReservoir();
+    for (long i = 1; i <= 100000; i++) {
+      reservoir.update(i * 1000);
+    }
+    Snapshot snapshot = reservoir.getSnapshot();
+    double[] quantiles = {0.5, 0.75, 0.95, 0.99, 0.999};
+    for (double quantile : quantiles) {
+      double expected = quantile * 100000 * 1000;
+      Assert.assertEquals(expected, snapshot.getValue(quantile), expected * 0.02);
+    }
+    Assert.assertEquals(50000.5 * 1000, snapshot.getMean(), 50000.5 * 1000 * 0.02);
+  }
+
+  /**
+   * Tests an empty snapshot.
+   */
+  @Test
+  public void empty() {
+    Snapshot snapshot = new HistogramReservoir().getSnapshot();
+    Assert.assertEquals(0, snapshot.size());
+    Assert.assertEquals(0, snapshot.getMax());
+    Assert.assertEquals(0.0, snapshot.get99thPercentile(), 0.0);
+    Assert.assertEquals(0, snapshot.getValues().length);
+  }
+}
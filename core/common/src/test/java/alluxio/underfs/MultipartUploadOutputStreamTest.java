@@ -0,0 +1,195 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Unit tests for {@link MultipartUploadOutputStream}.
+ */
+public final class MultipartUploadOutputStreamTest {
+  private static final int PART_SIZE = 4;
+  private static final int NUM_BUFFERS = 2;
+
+  private UploadBufferPool mBufferPool;
+  private ExecutorService mExecutor;
+
+  @Before
+  public void before() {
+    mBufferPool = new UploadBufferPool(PART_SIZE, PART_SIZE * NUM_BUFFERS, false);
+    mExecutor = Executors.newFixedThreadPool(4);
+  }
+
+  @After
+  public void after() {
+    mExecutor.shutdownNow();
+  }
+
+  /**
+   * Tests that an object smaller than a part is uploaded with a single request.
+   */
+  @Test
+  public void smallObject() throws Exception {
+    TestOutputStream stream = new TestOutputStream(0);
+    stream.write(new byte[] {1, 2, 3});
+    stream.close();
+
+    Assert.assertArrayEquals(new byte[] {1, 2, 3}, stream.mObject);
+    Assert.assertFalse(stream.mInitialized);
+    Assert.assertTrue(stream.mParts.isEmpty());
+  }
+
+  /**
+   * Tests that an empty object is uploaded with a single request.
+   */
+  @Test
+  public void emptyObject() throws Exception {
+    TestOutputStream stream = new TestOutputStream(0);
+    stream.close();
+
+    Assert.assertArrayEquals(new byte[0], stream.mObject);
+  }
+
+  /**
+   * Tests that an object larger than a part is uploaded in parts, with more parts than buffers.
+   */
+  @Test(timeout = 10000)
+  public void multipartObject() throws Exception {
+    TestOutputStream stream = new TestOutputStream(0);
+    byte[] data = new byte[PART_SIZE * 5 + 1];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte) i;
+    }
+    stream.write(data[0]);
+    stream.write(data, 1, data.length - 1);
+    stream.close();
+
+    Assert.assertTrue(stream.mCompleted);
+    Assert.assertEquals(6, stream.mParts.size());
+    ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+    for (int i = 1; i <= stream.mParts.size(); i++) {
+      uploaded.write(stream.mParts.get(i));
+    }
+    Assert.assertArrayEquals(data, uploaded.toByteArray());
+    assertBuffersReleased();
+  }
+
+  /**
+   * Tests that the upload is aborted when a part fails to upload.
+   */
+  @Test(timeout = 10000)
+  public void failedPart() throws Exception {
+    TestOutputStream stream = new TestOutputStream(2);
+    stream.write(new byte[PART_SIZE * 2 + 1]);
+    try {
+      stream.close();
+      Assert.fail("Closing the stream should fail since a part failed to upload");
+    } catch (IOException e) {
+      // expected
+    }
+    Assert.assertTrue(stream.mAborted);
+    Assert.assertFalse(stream.mCompleted);
+    assertBuffersReleased();
+  }
+
+  /**
+   * Tests that each open stream holds a buffer from the time it is created, so that the pool
+   * reports being exhausted instead of blocking the creator of another stream.
+   */
+  @Test
+  public void exhaustedPool() throws Exception {
+    TestOutputStream stream1 = new TestOutputStream(0);
+    TestOutputStream stream2 = new TestOutputStream(0);
+    Assert.assertNull(mBufferPool.tryAcquire());
+
+    stream1.write(new byte[] {1});
+    stream1.close();
+    stream2.close();
+    Assert.assertArrayEquals(new byte[] {1}, stream1.mObject);
+    assertBuffersReleased();
+  }
+
+  /**
+   * Checks that all the buffers were returned to the pool, acquiring them would block otherwise.
+   */
+  private void assertBuffersReleased() throws Exception {
+    for (int i = 0; i < NUM_BUFFERS; i++) {
+      ByteBuffer buffer = mBufferPool.acquire();
+      Assert.assertEquals(PART_SIZE, buffer.remaining());
+    }
+  }
+
+  /**
+   * A stream recording the requests of its upload.
+   */
+  private final class TestOutputStream extends MultipartUploadOutputStream {
+    private final int mFailedPartNumber;
+    private final Map<Integer, byte[]> mParts = new ConcurrentHashMap<>();
+    private byte[] mObject;
+    private boolean mInitialized;
+    private boolean mCompleted;
+    private boolean mAborted;
+
+    /**
+     * @param failedPartNumber the number of the part which fails to upload, 0 for none
+     */
+    TestOutputStream(int failedPartNumber) {
+      super("key", mBufferPool, mBufferPool.tryAcquire(), mExecutor);
+      mFailedPartNumber = failedPartNumber;
+    }
+
+    @Override
+    protected void initMultipartUpload() {
+      mInitialized = true;
+    }
+
+    @Override
+    protected void uploadPart(ByteBuffer data, int partNumber) throws IOException {
+      if (partNumber == mFailedPartNumber) {
+        throw new IOException("Failed to upload part " + partNumber);
+      }
+      mParts.put(partNumber, toBytes(data));
+    }
+
+    @Override
+    protected void completeMultipartUpload() {
+      mCompleted = true;
+    }
+
+    @Override
+    protected void abortMultipartUpload() {
+      mAborted = true;
+    }
+
+    @Override
+    protected void putObject(ByteBuffer data) {
+      mObject = toBytes(data);
+    }
+
+    private byte[] toBytes(ByteBuffer data) {
+      byte[] bytes = new byte[data.remaining()];
+      data.get(bytes);
+      return bytes;
+    }
+  }
+}
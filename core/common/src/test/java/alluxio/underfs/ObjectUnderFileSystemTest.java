@@ -0,0 +1,194 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.AlluxioURI;
+import alluxio.underfs.options.ListOptions;
+import alluxio.underfs.options.OpenOptions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit tests for the directory rename of {@link ObjectUnderFileSystem}.
+ */
+public final class ObjectUnderFileSystemTest {
+  private static final String SRC = "/src";
+  private static final String DST = "/dst";
+  private static final int NUM_FILES = 20;
+
+  private TestObjectUnderFileSystem mUfs;
+
+  @Before
+  public void before() {
+    mUfs = new TestObjectUnderFileSystem();
+  }
+
+  /**
+   * Tests that a directory is renamed by copying all its descendants before deleting any.
+   */
+  @Test
+  public void renameDirectoryCopiesBeforeDeletes() throws Exception {
+    assertTrue(mUfs.renameDirectory(SRC, DST));
+
+    List<String> events = mUfs.getEvents();
+    int lastCopy = -1;
+    int firstDelete = events.size();
+    Set<String> copied = new HashSet<>();
+    Set<String> deleted = new HashSet<>();
+    for (int i = 0; i < events.size(); i++) {
+      String event = events.get(i);
+      if (event.startsWith("copy ")) {
+        lastCopy = i;
+        copied.add(event.substring("copy ".length()));
+      } else if (event.startsWith("delete ")) {
+        firstDelete = Math.min(firstDelete, i);
+        deleted.add(event.substring("delete ".length()));
+      }
+    }
+    assertTrue("copies must complete before deletes start: " + events, lastCopy < firstDelete);
+    for (int i = 0; i < NUM_FILES; i++) {
+      assertTrue(copied.contains("src/file" + i + " dst/file" + i));
+      assertTrue(deleted.contains("src/file" + i));
+    }
+    assertTrue(events.contains("create dst/dir_$folder$"));
+    assertTrue(deleted.contains("src_$folder$"));
+  }
+
+  /**
+   * Tests that a directory rename with a failing copy leaves the source in place.
+   */
+  @Test
+  public void renameDirectoryWithFailedCopy() throws Exception {
+    mUfs.failCopiesOf("src/file7");
+    assertFalse(mUfs.renameDirectory(SRC, DST));
+
+    List<String> events = mUfs.getEvents();
+    for (String event : events) {
+      assertFalse("nothing may be deleted after a failed copy: " + events,
+          event.startsWith("delete "));
+    }
+    // The failed copy was retried
+    assertTrue(Collections.frequency(events, "copy src/file7 dst/file7") > 1);
+  }
+
+  /**
+   * An object store which records the operations of a directory rename.
+   */
+  private static final class TestObjectUnderFileSystem extends ObjectUnderFileSystem {
+    private final List<String> mEvents = Collections.synchronizedList(new ArrayList<String>());
+    private volatile String mFailingKey;
+
+    TestObjectUnderFileSystem() {
+      super(new AlluxioURI("test:///"), UnderFileSystemConfiguration.defaults());
+    }
+
+    void failCopiesOf(String key) {
+      mFailingKey = key;
+    }
+
+    List<String> getEvents() {
+      synchronized (mEvents) {
+        return new ArrayList<>(mEvents);
+      }
+    }
+
+    @Override
+    protected UfsStatus[] listInternal(String path, ListOptions options) {
+      if (!path.equals(SRC)) {
+        return null;
+      }
+      List<UfsStatus> descendants = new ArrayList<>();
+      for (int i = 0; i < NUM_FILES; i++) {
+        descendants.add(new UfsFileStatus("file" + i, "", 1, 0, "", "", (short) 0644));
+      }
+      descendants.add(new UfsDirectoryStatus("dir", "", "", (short) 0755));
+      return descendants.toArray(new UfsStatus[descendants.size()]);
+    }
+
+    @Override
+    protected boolean copyObject(String src, String dst) {
+      mEvents.add("copy " + src + " " + dst);
+      return !src.equals(mFailingKey);
+    }
+
+    @Override
+    protected boolean createEmptyObject(String key) {
+      mEvents.add("create " + key);
+      return true;
+    }
+
+    @Override
+    protected boolean deleteObject(String key) {
+      mEvents.add("delete " + key);
+      return true;
+    }
+
+    @Override
+    protected ObjectStatus getObjectStatus(String key) {
+      return null;
+    }
+
+    @Override
+    protected ObjectListingChunk getObjectListingChunk(String key, boolean recursive) {
+      return null;
+    }
+
+    @Override
+    protected OutputStream createObject(String key) throws IOException {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected InputStream openObject(String key, OpenOptions options) throws IOException {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    protected ObjectPermissions getPermissions() {
+      return new ObjectPermissions("", "", (short) 0700);
+    }
+
+    @Override
+    protected String getFolderSuffix() {
+      return "_$folder$";
+    }
+
+    @Override
+    protected String getRootKey() {
+      return "test://";
+    }
+
+    @Override
+    public String getUnderFSType() {
+      return "test";
+    }
+
+    @Override
+    public void setOwner(String path, String owner, String group) {}
+
+    @Override
+    public void setMode(String path, short mode) {}
+  }
+}
@@ -65,6 +65,8 @@ public class FileInfoTest {
     Assert.assertEquals(a.isPersisted(), b.isPersisted());
     Assert.assertEquals(a.isPinned(), b.isPinned());
     Assert.assertEquals(a.getInAlluxioPercentage(), b.getInAlluxioPercentage());
+    Assert.assertEquals(a.getReplicationMin(), b.getReplicationMin());
+    Assert.assertEquals(a.getReplicationMax(), b.getReplicationMax());
     Assert.assertEquals(a, b);
   }
 
@@ -99,6 +101,8 @@ public class FileInfoTest {
     int permission = random.nextInt();
     String persistenceState = CommonUtils.randomAlphaNumString(random.nextInt(10));
     boolean mountPoint = random.nextBoolean();
+    int replicationMin = random.nextInt();
+    int replicationMax = random.nextInt();
     List<FileBlockInfo> fileBlocksInfos = new ArrayList<>();
     long numFileBlockInfos = random.nextInt(10);
     for (int i = 0; i < numFileBlockInfos; i++) {
@@ -130,6 +134,8 @@ public class FileInfoTest {
     result.setMountId(mountId);
     result.setUfsPath(ufsPath);
     result.setInAlluxioPercentage(inAlluxioPercentage);
+    result.setReplicationMin(replicationMin);
+    result.setReplicationMax(replicationMax);
     return result;
   }
 }
@@ -0,0 +1,54 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import alluxio.util.CommonUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class HotFileInfoTest {
+  @Test
+  public void json() throws Exception {
+    HotFileInfo hotFileInfo = createRandom();
+    ObjectMapper mapper = new ObjectMapper();
+    HotFileInfo other =
+        mapper.readValue(mapper.writeValueAsBytes(hotFileInfo), HotFileInfo.class);
+    checkEquality(hotFileInfo, other);
+  }
+
+  @Test
+  public void thrift() {
+    HotFileInfo hotFileInfo = createRandom();
+    HotFileInfo other = ThriftUtils.fromThrift(ThriftUtils.toThrift(hotFileInfo));
+    checkEquality(hotFileInfo, other);
+  }
+
+  public void checkEquality(HotFileInfo a, HotFileInfo b) {
+    Assert.assertEquals(a.getFileId(), b.getFileId());
+    Assert.assertEquals(a.getPath(), b.getPath());
+    Assert.assertEquals(a.getAccessCount(), b.getAccessCount());
+    Assert.assertEquals(a, b);
+  }
+
+  public static HotFileInfo createRandom() {
+    Random random = new Random();
+    HotFileInfo result = new HotFileInfo();
+    result.setFileId(random.nextLong());
+    result.setPath(CommonUtils.randomAlphaNumString(random.nextInt(10)));
+    result.setAccessCount(random.nextLong());
+    return result;
+  }
+}
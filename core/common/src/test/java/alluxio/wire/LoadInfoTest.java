@@ -0,0 +1,59 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.wire;
+
+import alluxio.util.CommonUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class LoadInfoTest {
+  @Test
+  public void json() throws Exception {
+    LoadInfo loadInfo = createRandom();
+    ObjectMapper mapper = new ObjectMapper();
+    LoadInfo other = mapper.readValue(mapper.writeValueAsBytes(loadInfo), LoadInfo.class);
+    checkEquality(loadInfo, other);
+  }
+
+  @Test
+  public void thrift() {
+    LoadInfo loadInfo = createRandom();
+    LoadInfo other = ThriftUtils.fromThrift(ThriftUtils.toThrift(loadInfo));
+    checkEquality(loadInfo, other);
+  }
+
+  public void checkEquality(LoadInfo a, LoadInfo b) {
+    Assert.assertEquals(a.getLoadId(), b.getLoadId());
+    Assert.assertEquals(a.getPath(), b.getPath());
+    Assert.assertEquals(a.getCreationTimeMs(), b.getCreationTimeMs());
+    Assert.assertEquals(a.getTotalBlocks(), b.getTotalBlocks());
+    Assert.assertEquals(a.getLoadedBlocks(), b.getLoadedBlocks());
+    Assert.assertEquals(a.getFailedBlocks(), b.getFailedBlocks());
+    Assert.assertEquals(a, b);
+  }
+
+  public static LoadInfo createRandom() {
+    Random random = new Random();
+    LoadInfo result = new LoadInfo();
+    result.setLoadId(random.nextLong());
+    result.setPath(CommonUtils.randomAlphaNumString(random.nextInt(10)));
+    result.setCreationTimeMs(random.nextLong());
+    result.setTotalBlocks(random.nextLong());
+    result.setLoadedBlocks(random.nextLong());
+    result.setFailedBlocks(random.nextLong());
+    return result;
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.io;
+
+import alluxio.util.io.BufferUtils;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Tests for the {@link AsyncFileBlockReader} class.
+ */
+public final class AsyncFileBlockReaderTest {
+  private static final int TEST_BLOCK_SIZE = 1024;
+
+  private BlockIoQueue mQueue;
+  private AsyncFileBlockReader mReader;
+
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  @Before
+  public void before() throws Exception {
+    String testFilePath = mFolder.newFile().getAbsolutePath();
+    BufferUtils.writeBufferToFile(testFilePath,
+        BufferUtils.getIncreasingByteArray(TEST_BLOCK_SIZE));
+    mQueue = new BlockIoQueue("test", 2, 4);
+    mReader = new AsyncFileBlockReader(testFilePath, mQueue);
+  }
+
+  @After
+  public void after() throws Exception {
+    mReader.close();
+    mQueue.close();
+  }
+
+  @Test
+  public void getChannel() throws Exception {
+    SeekableByteChannel channel = mReader.getChannel();
+    ByteBuffer buffer = ByteBuffer.allocate(TEST_BLOCK_SIZE);
+    Assert.assertEquals(TEST_BLOCK_SIZE, channel.read(buffer));
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, TEST_BLOCK_SIZE, buffer));
+    Assert.assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+  }
+
+  @Test
+  public void getLength() {
+    Assert.assertEquals(TEST_BLOCK_SIZE, mReader.getLength());
+  }
+
+  @Test
+  public void readWithInvalidArgument() throws Exception {
+    mThrown.expect(IllegalArgumentException.class);
+    mThrown.expectMessage("exceeding fileSize");
+    mReader.read(TEST_BLOCK_SIZE - 1, 2);
+  }
+
+  @Test
+  public void read() throws Exception {
+    ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE / 4);
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, TEST_BLOCK_SIZE / 4, buffer));
+
+    buffer = mReader.read(TEST_BLOCK_SIZE / 2, TEST_BLOCK_SIZE / 2);
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(TEST_BLOCK_SIZE / 2,
+        TEST_BLOCK_SIZE / 2, buffer));
+
+    buffer = mReader.read(0, -1);
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, TEST_BLOCK_SIZE, buffer));
+  }
+
+  /**
+   * Tests that sequential transfers return the right bytes when served from the read-ahead.
+   */
+  @Test
+  public void transferToSequentially() throws Exception {
+    int packetSize = TEST_BLOCK_SIZE / 8;
+    for (int offset = 0; offset < TEST_BLOCK_SIZE; offset += packetSize) {
+      ByteBuf buf = Unpooled.buffer(packetSize, packetSize);
+      Assert.assertEquals(packetSize, mReader.transferTo(buf));
+      Assert.assertTrue(
+          BufferUtils.equalIncreasingByteBuffer(offset, packetSize, buf.nioBuffer()));
+      buf.release();
+    }
+    Assert.assertEquals(-1, mReader.transferTo(Unpooled.buffer(1, 1)));
+  }
+
+  /**
+   * Tests that repositioning the channel drops a read-ahead for the old position.
+   */
+  @Test
+  public void positionAfterRead() throws Exception {
+    SeekableByteChannel channel = mReader.getChannel();
+    ByteBuffer buffer = ByteBuffer.allocate(TEST_BLOCK_SIZE / 4);
+    channel.read(buffer);
+    channel.position(TEST_BLOCK_SIZE / 2);
+    Assert.assertEquals(TEST_BLOCK_SIZE / 2, channel.position());
+    buffer.clear();
+    Assert.assertEquals(TEST_BLOCK_SIZE / 4, channel.read(buffer));
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(TEST_BLOCK_SIZE / 2,
+        TEST_BLOCK_SIZE / 4, buffer));
+  }
+
+  @Test
+  public void writeToChannel() throws Exception {
+    mThrown.expect(NonWritableChannelException.class);
+    mReader.getChannel().write(ByteBuffer.allocate(1));
+  }
+
+  @Test
+  public void close() throws Exception {
+    mReader.close();
+    Assert.assertTrue(mReader.isClosed());
+    mThrown.expect(IOException.class);
+    mReader.read(0, TEST_BLOCK_SIZE);
+  }
+}
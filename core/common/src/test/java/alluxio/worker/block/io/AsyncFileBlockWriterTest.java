@@ -0,0 +1,109 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.io;
+
+import alluxio.util.io.BufferUtils;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Tests for the {@link AsyncFileBlockWriter} class.
+ */
+public final class AsyncFileBlockWriterTest {
+  private static final int TEST_BLOCK_SIZE = 1024;
+
+  private BlockIoQueue mQueue;
+  private AsyncFileBlockWriter mWriter;
+  private String mTestFilePath;
+
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  @Before
+  public void before() throws Exception {
+    mTestFilePath = mFolder.newFile().getAbsolutePath();
+    mQueue = new BlockIoQueue("test", 2, 4);
+    mWriter = new AsyncFileBlockWriter(mTestFilePath, mQueue);
+  }
+
+  @After
+  public void after() throws Exception {
+    mWriter.close();
+    mQueue.close();
+  }
+
+  @Test
+  public void append() throws Exception {
+    ByteBuffer buf = BufferUtils.getIncreasingByteBuffer(TEST_BLOCK_SIZE);
+    Assert.assertEquals(TEST_BLOCK_SIZE, mWriter.append(buf));
+    Assert.assertEquals(TEST_BLOCK_SIZE, mWriter.append(buf));
+    Assert.assertEquals(2 * TEST_BLOCK_SIZE, mWriter.getPosition());
+    mWriter.close();
+    checkFile(2);
+  }
+
+  /**
+   * Tests that the components of a composite buffer land at consecutive offsets.
+   */
+  @Test
+  public void appendCompositeByteBuf() throws Exception {
+    byte[] data = BufferUtils.getIncreasingByteArray(TEST_BLOCK_SIZE);
+    CompositeByteBuf buffer = Unpooled.compositeBuffer();
+    for (int i = 0; i < 4; i++) {
+      int chunk = TEST_BLOCK_SIZE / 4;
+      buffer.addComponent(true, Unpooled.wrappedBuffer(data, i * chunk, chunk));
+    }
+    Assert.assertEquals(TEST_BLOCK_SIZE, mWriter.append(buffer));
+    Assert.assertEquals(0, buffer.readableBytes());
+    ByteBuf second = Unpooled.wrappedBuffer(data);
+    Assert.assertEquals(TEST_BLOCK_SIZE, mWriter.append(second));
+    mWriter.close();
+    checkFile(2);
+  }
+
+  @Test
+  public void close() throws Exception {
+    ByteBuffer buf = BufferUtils.getIncreasingByteBuffer(TEST_BLOCK_SIZE);
+    Assert.assertEquals(TEST_BLOCK_SIZE, mWriter.append(buf));
+    mWriter.close();
+    Assert.assertEquals(-1, mWriter.getPosition());
+    mThrown.expect(IOException.class);
+    mWriter.append(buf);
+  }
+
+  private void checkFile(int blocks) throws IOException {
+    ByteBuffer result = ByteBuffer.wrap(Files.readAllBytes(Paths.get(mTestFilePath)));
+    Assert.assertEquals(blocks * TEST_BLOCK_SIZE, result.limit());
+    for (int i = 0; i < blocks; i++) {
+      result.position(i * TEST_BLOCK_SIZE).limit((i + 1) * TEST_BLOCK_SIZE);
+      Assert.assertTrue(
+          BufferUtils.equalIncreasingByteBuffer(0, TEST_BLOCK_SIZE, result.slice()));
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block.io;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for the {@link BlockIoQueue} class.
+ */
+public final class BlockIoQueueTest {
+  private BlockIoQueue mQueue;
+  private AsynchronousFileChannel mChannel;
+
+  @Before
+  public void before() {
+    mQueue = new BlockIoQueue("test", 1, 2);
+    // The mock never completes its operations on its own, so they stay in flight.
+    mChannel = mock(AsynchronousFileChannel.class);
+  }
+
+  @After
+  public void after() {
+    mQueue.close();
+  }
+
+  /**
+   * Tests that operations hold their slot in the queue until they complete.
+   */
+  @Test
+  public void depthLimit() throws Exception {
+    Future<Integer> first = mQueue.submitRead(mChannel, ByteBuffer.allocate(1), 0);
+    mQueue.submitWrite(mChannel, ByteBuffer.allocate(1), 0);
+    Assert.assertEquals(2, mQueue.getInFlight());
+    Assert.assertNull(mQueue.trySubmitRead(mChannel, ByteBuffer.allocate(1), 1));
+
+    completeRead(0, 1);
+    Assert.assertEquals(1, BlockIoQueue.await(first));
+    Assert.assertEquals(1, mQueue.getInFlight());
+    Assert.assertNotNull(mQueue.trySubmitRead(mChannel, ByteBuffer.allocate(1), 1));
+    Assert.assertEquals(2, mQueue.getInFlight());
+  }
+
+  /**
+   * Tests that a failed operation frees its slot and surfaces its error.
+   */
+  @Test
+  public void failedOperation() throws Exception {
+    Future<Integer> read = mQueue.submitRead(mChannel, ByteBuffer.allocate(1), 0);
+    failRead(0, new IOException("disk error"));
+    Assert.assertEquals(0, mQueue.getInFlight());
+    try {
+      BlockIoQueue.await(read);
+      Assert.fail("the read is expected to fail");
+    } catch (IOException e) {
+      Assert.assertEquals("disk error", e.getMessage());
+    }
+  }
+
+  /**
+   * Tests that an operation rejected by the channel does not leak its slot.
+   */
+  @Test
+  public void rejectedOperation() throws Exception {
+    doThrow(new IllegalArgumentException("negative position")).when(mChannel)
+        .read(any(ByteBuffer.class), anyLong(), any(), any(CompletionHandler.class));
+    try {
+      mQueue.submitRead(mChannel, ByteBuffer.allocate(1), -1);
+      Assert.fail("the read is expected to be rejected");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    Assert.assertEquals(0, mQueue.getInFlight());
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletionHandler<Integer, CompletableFuture<Integer>> captureRead(int index,
+      ArgumentCaptor<CompletableFuture> future) {
+    ArgumentCaptor<CompletionHandler> handler = ArgumentCaptor.forClass(CompletionHandler.class);
+    verify(mChannel, times(index + 1)).read(any(ByteBuffer.class), anyLong(), future.capture(),
+        handler.capture());
+    List<CompletionHandler> handlers = handler.getAllValues();
+    return handlers.get(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void completeRead(int index, int result) {
+    ArgumentCaptor<CompletableFuture> future = ArgumentCaptor.forClass(CompletableFuture.class);
+    CompletionHandler<Integer, CompletableFuture<Integer>> handler = captureRead(index, future);
+    handler.completed(result, future.getAllValues().get(index));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void failRead(int index, Throwable t) {
+    ArgumentCaptor<CompletableFuture> future = ArgumentCaptor.forClass(CompletableFuture.class);
+    CompletionHandler<Integer, CompletableFuture<Integer>> handler = captureRead(index, future);
+    handler.failed(t, future.getAllValues().get(index));
+  }
+}
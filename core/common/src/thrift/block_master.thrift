@@ -69,7 +69,9 @@ service BlockMasterClientService extends common.AlluxioService {
   ) throws (1: exception.AlluxioTException e)
 }
 
-struct BlockHeartbeatTOptions {}
+struct BlockHeartbeatTOptions {
+  1: optional map<i64, i32> blockAccessCounts
+}
 struct BlockHeartbeatTResponse {
   1: common.Command command
 }
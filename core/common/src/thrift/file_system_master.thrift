@@ -7,6 +7,28 @@ struct FileSystemMasterCommonTOptions {
   1: optional i64 syncIntervalMs
 }
 
+struct ApplyBatchTOptions {}
+struct ApplyBatchTResponse {}
+
+enum BatchOperationTType {
+  CreateFile = 0,
+  CompleteFile = 1,
+  Delete = 2,
+  SetAttribute = 3,
+}
+
+/**
+* A single metadata mutation in a batch. Only the options matching the operation type are used.
+*/
+struct BatchOperation {
+  1: BatchOperationTType type
+  2: string path
+  3: optional CreateFileTOptions createFileOptions
+  4: optional CompleteFileTOptions completeFileOptions
+  5: optional DeleteTOptions deleteOptions
+  6: optional SetAttributeTOptions setAttributeOptions
+}
+
 struct CheckConsistencyTOptions {
   1: optional FileSystemMasterCommonTOptions commonOptions
 }
@@ -88,6 +110,44 @@ struct ListStatusTResponse {
   1: list<FileInfo> fileInfoList
 }
 
+struct LoadTOptions {}
+struct LoadTResponse {
+  1: i64 loadId
+}
+
+struct GetHotFilesTOptions {
+  1: optional i32 limit
+}
+struct GetHotFilesTResponse {
+  1: list<HotFileInfo> hotFiles
+}
+
+/**
+* Contains the recent access count of a frequently read file.
+*/
+struct HotFileInfo {
+  1: i64 fileId
+  2: string path
+  3: i64 accessCount
+}
+
+struct GetLoadStatusTOptions {}
+struct GetLoadStatusTResponse {
+  1: LoadInfo loadInfo
+}
+
+/**
+* Contains the progress of a distributed load of a file or directory.
+*/
+struct LoadInfo {
+  1: i64 loadId
+  2: string path
+  3: i64 creationTimeMs
+  4: i64 totalBlocks
+  5: i64 loadedBlocks
+  6: i64 failedBlocks
+}
+
 struct LoadMetadataTOptions {
   1: optional FileSystemMasterCommonTOptions commonOptions
 }
@@ -133,6 +193,8 @@ struct FileInfo {
   25: i64 mountId
   26: i32 inAlluxioPercentage
   27: string ufsFingerprint
+  28: i32 replicationMin
+  29: i32 replicationMax
 }
 
 struct MountTOptions {
@@ -164,6 +226,7 @@ struct FileSystemCommand {
 
 union FileSystemCommandOptions {
   1: optional PersistCommandOptions persistOptions
+  2: optional LoadCommandOptions loadOptions
 }
 
 struct PersistCommandOptions {
@@ -175,6 +238,18 @@ struct PersistFile {
   2: list<i64> blockIds
 }
 
+struct LoadCommandOptions {
+  1: list<LoadBlock> loadBlocks
+}
+
+struct LoadBlock {
+  1: i64 blockId
+  2: string ufsPath
+  3: i64 offsetInFile
+  4: i64 blockSize
+  5: i64 mountId
+}
+
 struct RenameTOptions {
   1: optional FileSystemMasterCommonTOptions commonOptions
 }
@@ -190,6 +265,8 @@ struct SetAttributeTOptions {
   7: optional bool recursive
   8: optional common.TTtlAction ttlAction
   9: optional FileSystemMasterCommonTOptions commonOptions
+  10: optional i32 replicationMin
+  11: optional i32 replicationMax
 }
 struct SetAttributeTResponse {}
 
@@ -220,6 +297,16 @@ struct UfsInfo {
  */
 service FileSystemMasterClientService extends common.AlluxioService {
 
+  /**
+   * Applies the given metadata operations in order, sharing a single journal flush. The batch
+   * stops at the first failing operation; operations before it remain applied.
+   */
+  ApplyBatchTResponse applyBatch(
+    /** the operations to apply */ 1: list<BatchOperation> operations,
+    /** the method options */ 2: ApplyBatchTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Checks the consistency of the files and directores with the path as the root of the subtree
    */
@@ -267,6 +354,23 @@ service FileSystemMasterClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Returns the most frequently read files, ordered by their recent access counts.
+   */
+  GetHotFilesTResponse getHotFiles(
+    /** the method options */ 1: GetHotFilesTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
+  /**
+   * Returns the progress of a distributed load.
+   */
+  GetLoadStatusTResponse getLoadStatus(
+    /** the id of the load */ 1: i64 loadId,
+    /** the method options */ 2: GetLoadStatusTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Returns the status of the file or directory.
    */
@@ -296,6 +400,16 @@ service FileSystemMasterClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Starts a distributed load of the file or directory, in which the workers read the blocks
+   * which are not in Alluxio directly from the under storage. Returns the id of the load.
+   */
+  LoadTResponse load(
+    /** the path of the file or directory */ 1: string path,
+    /** the method options */ 2: LoadTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Loads metadata for the object identified by the given Alluxio path from UFS into Alluxio.
    *
@@ -379,6 +493,8 @@ service FileSystemMasterClientService extends common.AlluxioService {
 
 struct FileSystemHeartbeatTOptions {
   1: optional list<string> persistedFileFingerprints
+  2: optional list<i64> loadedBlocks
+  3: optional list<i64> loadFailedBlocks
 }
 struct FileSystemHeartbeatTResponse {
   1: FileSystemCommand command
@@ -6790,12 +6790,30 @@ public final class File {
      */
     com.google.protobuf.ByteString
         getUfsFingerprintBytes();
+
+    /**
+     * <code>optional int32 replication_min = 19;</code>
+     */
+    boolean hasReplicationMin();
+    /**
+     * <code>optional int32 replication_min = 19;</code>
+     */
+    int getReplicationMin();
+
+    /**
+     * <code>optional int32 replication_max = 20 [default = -1];</code>
+     */
+    boolean hasReplicationMax();
+    /**
+     * <code>optional int32 replication_max = 20 [default = -1];</code>
+     */
+    int getReplicationMax();
   }
   /**
    * Protobuf type {@code alluxio.proto.journal.InodeFileEntry}
    *
    * <pre>
-   * next available id: 19
+   * next available id: 21
    * </pre>
    */
   public static final class InodeFileEntry extends
@@ -6964,6 +6982,16 @@ public final class File {
               ufsFingerprint_ = bs;
               break;
             }
+            case 152: {
+              bitField0_ |= 0x00020000;
+              replicationMin_ = input.readInt32();
+              break;
+            }
+            case 160: {
+              bitField0_ |= 0x00040000;
+              replicationMax_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -7419,6 +7447,36 @@ public final class File {
       }
     }
 
+    public static final int REPLICATION_MIN_FIELD_NUMBER = 19;
+    private int replicationMin_;
+    /**
+     * <code>optional int32 replication_min = 19;</code>
+     */
+    public boolean hasReplicationMin() {
+      return ((bitField0_ & 0x00020000) == 0x00020000);
+    }
+    /**
+     * <code>optional int32 replication_min = 19;</code>
+     */
+    public int getReplicationMin() {
+      return replicationMin_;
+    }
+
+    public static final int REPLICATION_MAX_FIELD_NUMBER = 20;
+    private int replicationMax_;
+    /**
+     * <code>optional int32 replication_max = 20 [default = -1];</code>
+     */
+    public boolean hasReplicationMax() {
+      return ((bitField0_ & 0x00040000) == 0x00040000);
+    }
+    /**
+     * <code>optional int32 replication_max = 20 [default = -1];</code>
+     */
+    public int getReplicationMax() {
+      return replicationMax_;
+    }
+
     private void initFields() {
       id_ = 0L;
       parentId_ = 0L;
@@ -7438,6 +7496,8 @@ public final class File {
       mode_ = 0;
       ttlAction_ = alluxio.proto.journal.File.PTtlAction.DELETE;
       ufsFingerprint_ = "";
+      replicationMin_ = 0;
+      replicationMax_ = -1;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -7506,6 +7566,12 @@ public final class File {
       if (((bitField0_ & 0x00010000) == 0x00010000)) {
         output.writeBytes(18, getUfsFingerprintBytes());
       }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        output.writeInt32(19, replicationMin_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        output.writeInt32(20, replicationMax_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -7592,6 +7658,14 @@ public final class File {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(18, getUfsFingerprintBytes());
       }
+      if (((bitField0_ & 0x00020000) == 0x00020000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(19, replicationMin_);
+      }
+      if (((bitField0_ & 0x00040000) == 0x00040000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(20, replicationMax_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -7674,7 +7748,7 @@ public final class File {
      * Protobuf type {@code alluxio.proto.journal.InodeFileEntry}
      *
      * <pre>
-     * next available id: 19
+     * next available id: 21
      * </pre>
      */
     public static final class Builder extends
@@ -7749,6 +7823,10 @@ public final class File {
         bitField0_ = (bitField0_ & ~0x00010000);
         ufsFingerprint_ = "";
         bitField0_ = (bitField0_ & ~0x00020000);
+        replicationMin_ = 0;
+        bitField0_ = (bitField0_ & ~0x00040000);
+        replicationMax_ = -1;
+        bitField0_ = (bitField0_ & ~0x00080000);
         return this;
       }
 
@@ -7850,6 +7928,14 @@ public final class File {
           to_bitField0_ |= 0x00010000;
         }
         result.ufsFingerprint_ = ufsFingerprint_;
+        if (((from_bitField0_ & 0x00040000) == 0x00040000)) {
+          to_bitField0_ |= 0x00020000;
+        }
+        result.replicationMin_ = replicationMin_;
+        if (((from_bitField0_ & 0x00080000) == 0x00080000)) {
+          to_bitField0_ |= 0x00040000;
+        }
+        result.replicationMax_ = replicationMax_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7937,6 +8023,12 @@ public final class File {
           ufsFingerprint_ = other.ufsFingerprint_;
           onChanged();
         }
+        if (other.hasReplicationMin()) {
+          setReplicationMin(other.getReplicationMin());
+        }
+        if (other.hasReplicationMax()) {
+          setReplicationMax(other.getReplicationMax());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -8797,6 +8889,70 @@ public final class File {
         return this;
       }
 
+      private int replicationMin_ ;
+      /**
+       * <code>optional int32 replication_min = 19;</code>
+       */
+      public boolean hasReplicationMin() {
+        return ((bitField0_ & 0x00040000) == 0x00040000);
+      }
+      /**
+       * <code>optional int32 replication_min = 19;</code>
+       */
+      public int getReplicationMin() {
+        return replicationMin_;
+      }
+      /**
+       * <code>optional int32 replication_min = 19;</code>
+       */
+      public Builder setReplicationMin(int value) {
+        bitField0_ |= 0x00040000;
+        replicationMin_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 replication_min = 19;</code>
+       */
+      public Builder clearReplicationMin() {
+        bitField0_ = (bitField0_ & ~0x00040000);
+        replicationMin_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int replicationMax_ = -1;
+      /**
+       * <code>optional int32 replication_max = 20 [default = -1];</code>
+       */
+      public boolean hasReplicationMax() {
+        return ((bitField0_ & 0x00080000) == 0x00080000);
+      }
+      /**
+       * <code>optional int32 replication_max = 20 [default = -1];</code>
+       */
+      public int getReplicationMax() {
+        return replicationMax_;
+      }
+      /**
+       * <code>optional int32 replication_max = 20 [default = -1];</code>
+       */
+      public Builder setReplicationMax(int value) {
+        bitField0_ |= 0x00080000;
+        replicationMax_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 replication_max = 20 [default = -1];</code>
+       */
+      public Builder clearReplicationMax() {
+        bitField0_ = (bitField0_ & ~0x00080000);
+        replicationMax_ = -1;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.InodeFileEntry)
     }
 
@@ -11732,12 +11888,30 @@ public final class File {
      */
     com.google.protobuf.ByteString
         getUfsFingerprintBytes();
+
+    /**
+     * <code>optional int32 replication_min = 11;</code>
+     */
+    boolean hasReplicationMin();
+    /**
+     * <code>optional int32 replication_min = 11;</code>
+     */
+    int getReplicationMin();
+
+    /**
+     * <code>optional int32 replication_max = 12 [default = -1];</code>
+     */
+    boolean hasReplicationMax();
+    /**
+     * <code>optional int32 replication_max = 12 [default = -1];</code>
+     */
+    int getReplicationMax();
   }
   /**
    * Protobuf type {@code alluxio.proto.journal.SetAttributeEntry}
    *
    * <pre>
-   * next available id: 11
+   * next available id: 13
    * </pre>
    */
   public static final class SetAttributeEntry extends
@@ -11848,6 +12022,16 @@ public final class File {
               ufsFingerprint_ = bs;
               break;
             }
+            case 88: {
+              bitField0_ |= 0x00000400;
+              replicationMin_ = input.readInt32();
+              break;
+            }
+            case 96: {
+              bitField0_ |= 0x00000800;
+              replicationMax_ = input.readInt32();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -12119,6 +12303,36 @@ public final class File {
       }
     }
 
+    public static final int REPLICATION_MIN_FIELD_NUMBER = 11;
+    private int replicationMin_;
+    /**
+     * <code>optional int32 replication_min = 11;</code>
+     */
+    public boolean hasReplicationMin() {
+      return ((bitField0_ & 0x00000400) == 0x00000400);
+    }
+    /**
+     * <code>optional int32 replication_min = 11;</code>
+     */
+    public int getReplicationMin() {
+      return replicationMin_;
+    }
+
+    public static final int REPLICATION_MAX_FIELD_NUMBER = 12;
+    private int replicationMax_;
+    /**
+     * <code>optional int32 replication_max = 12 [default = -1];</code>
+     */
+    public boolean hasReplicationMax() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional int32 replication_max = 12 [default = -1];</code>
+     */
+    public int getReplicationMax() {
+      return replicationMax_;
+    }
+
     private void initFields() {
       id_ = 0L;
       opTimeMs_ = 0L;
@@ -12130,6 +12344,8 @@ public final class File {
       permission_ = 0;
       ttlAction_ = alluxio.proto.journal.File.PTtlAction.DELETE;
       ufsFingerprint_ = "";
+      replicationMin_ = 0;
+      replicationMax_ = -1;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -12174,6 +12390,12 @@ public final class File {
       if (((bitField0_ & 0x00000200) == 0x00000200)) {
         output.writeBytes(10, getUfsFingerprintBytes());
       }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        output.writeInt32(11, replicationMin_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeInt32(12, replicationMax_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -12223,6 +12445,14 @@ public final class File {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(10, getUfsFingerprintBytes());
       }
+      if (((bitField0_ & 0x00000400) == 0x00000400)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(11, replicationMin_);
+      }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(12, replicationMax_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -12305,7 +12535,7 @@ public final class File {
      * Protobuf type {@code alluxio.proto.journal.SetAttributeEntry}
      *
      * <pre>
-     * next available id: 11
+     * next available id: 13
      * </pre>
      */
     public static final class Builder extends
@@ -12364,6 +12594,10 @@ public final class File {
         bitField0_ = (bitField0_ & ~0x00000100);
         ufsFingerprint_ = "";
         bitField0_ = (bitField0_ & ~0x00000200);
+        replicationMin_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000400);
+        replicationMax_ = -1;
+        bitField0_ = (bitField0_ & ~0x00000800);
         return this;
       }
 
@@ -12432,6 +12666,14 @@ public final class File {
           to_bitField0_ |= 0x00000200;
         }
         result.ufsFingerprint_ = ufsFingerprint_;
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
+          to_bitField0_ |= 0x00000400;
+        }
+        result.replicationMin_ = replicationMin_;
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.replicationMax_ = replicationMax_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -12484,6 +12726,12 @@ public final class File {
           ufsFingerprint_ = other.ufsFingerprint_;
           onChanged();
         }
+        if (other.hasReplicationMin()) {
+          setReplicationMin(other.getReplicationMin());
+        }
+        if (other.hasReplicationMax()) {
+          setReplicationMax(other.getReplicationMax());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -12966,6 +13214,70 @@ public final class File {
         return this;
       }
 
+      private int replicationMin_ ;
+      /**
+       * <code>optional int32 replication_min = 11;</code>
+       */
+      public boolean hasReplicationMin() {
+        return ((bitField0_ & 0x00000400) == 0x00000400);
+      }
+      /**
+       * <code>optional int32 replication_min = 11;</code>
+       */
+      public int getReplicationMin() {
+        return replicationMin_;
+      }
+      /**
+       * <code>optional int32 replication_min = 11;</code>
+       */
+      public Builder setReplicationMin(int value) {
+        bitField0_ |= 0x00000400;
+        replicationMin_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 replication_min = 11;</code>
+       */
+      public Builder clearReplicationMin() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        replicationMin_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int replicationMax_ = -1;
+      /**
+       * <code>optional int32 replication_max = 12 [default = -1];</code>
+       */
+      public boolean hasReplicationMax() {
+        return ((bitField0_ & 0x00000800) == 0x00000800);
+      }
+      /**
+       * <code>optional int32 replication_max = 12 [default = -1];</code>
+       */
+      public int getReplicationMax() {
+        return replicationMax_;
+      }
+      /**
+       * <code>optional int32 replication_max = 12 [default = -1];</code>
+       */
+      public Builder setReplicationMax(int value) {
+        bitField0_ |= 0x00000800;
+        replicationMax_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 replication_max = 12 [default = -1];</code>
+       */
+      public Builder clearReplicationMax() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        replicationMax_ = -1;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:alluxio.proto.journal.SetAttributeEntry)
     }
 
@@ -13085,7 +13397,7 @@ public final class File {
       " \001(\003\022<\n\tttlAction\030\016 \001(\0162!.alluxio.proto." +
       "journal.PTtlAction:\006DELETE\"O\n\036InodeDirec" +
       "toryIdGeneratorEntry\022\024\n\014container_id\030\001 \001" +
-      "(\003\022\027\n\017sequence_number\030\002 \001(\003\"\225\003\n\016InodeFil" +
+      "(\003\022\027\n\017sequence_number\030\002 \001(\003\"\313\003\n\016InodeFil" +
       "eEntry\022\n\n\002id\030\001 \001(\003\022\021\n\tparent_id\030\002 \001(\003\022\014\n" +
       "\004name\030\003 \001(\t\022\031\n\021persistence_state\030\004 \001(\t\022\016" +
       "\n\006pinned\030\005 \001(\010\022\030\n\020creation_time_ms\030\006 \001(\003" +
@@ -13095,24 +13407,27 @@ public final class File {
       "locks\030\014 \003(\003\022\013\n\003ttl\030\r \001(\003\022\r\n\005owner\030\016 \001(\t\022" +
       "\r\n\005group\030\017 \001(\t\022\014\n\004mode\030\020 \001(\005\022<\n\tttlActio" +
       "n\030\021 \001(\0162!.alluxio.proto.journal.PTtlActi" +
-      "on:\006DELETE\022\027\n\017ufs_fingerprint\030\022 \001(\t\"O\n\036I" +
-      "nodeLastModificationTimeEntry\022\n\n\002id\030\001 \001(" +
-      "\003\022!\n\031last_modification_time_ms\030\002 \001(\003\"#\n\025" +
-      "PersistDirectoryEntry\022\n\n\002id\030\001 \001(\003\"B\n\020Per" +
-      "sistFileEntry\022\n\n\002id\030\001 \001(\003\022\016\n\006length\030\002 \001(" +
-      "\003\022\022\n\nop_time_ms\030\003 \001(\003\"\212\001\n\025ReinitializeFi",
-      "leEntry\022\014\n\004path\030\001 \001(\t\022\030\n\020block_size_byte" +
-      "s\030\002 \001(\003\022\013\n\003ttl\030\003 \001(\003\022<\n\tttlAction\030\004 \001(\0162" +
-      "!.alluxio.proto.journal.PTtlAction:\006DELE" +
-      "TE\"?\n\013RenameEntry\022\n\n\002id\030\001 \001(\003\022\020\n\010dst_pat" +
-      "h\030\002 \001(\t\022\022\n\nop_time_ms\030\003 \001(\003\"\354\001\n\021SetAttri" +
-      "buteEntry\022\n\n\002id\030\001 \001(\003\022\022\n\nop_time_ms\030\002 \001(" +
-      "\003\022\016\n\006pinned\030\003 \001(\010\022\013\n\003ttl\030\004 \001(\003\022\021\n\tpersis" +
-      "ted\030\005 \001(\010\022\r\n\005owner\030\006 \001(\t\022\r\n\005group\030\007 \001(\t\022" +
-      "\022\n\npermission\030\010 \001(\005\022<\n\tttlAction\030\t \001(\0162!" +
-      ".alluxio.proto.journal.PTtlAction:\006DELET",
-      "E\022\027\n\017ufs_fingerprint\030\n \001(\t*\"\n\nPTtlAction" +
-      "\022\n\n\006DELETE\020\000\022\010\n\004FREE\020\001"
+      "on:\006DELETE\022\027\n\017ufs_fingerprint\030\022 \001(\t\022\027\n\017r" +
+      "eplication_min\030\023 \001(\005\022\033\n\017replication_max\030" +
+      "\024 \001(\005:\002-1\"O\n\036InodeLastModificationTimeEn" +
+      "try\022\n\n\002id\030\001 \001(\003\022!\n\031last_modification_tim" +
+      "e_ms\030\002 \001(\003\"#\n\025PersistDirectoryEntry\022\n\n\002i" +
+      "d\030\001 \001(\003\"B\n\020PersistFileEntry\022\n\n\002id\030\001 \001(\003\022",
+      "\016\n\006length\030\002 \001(\003\022\022\n\nop_time_ms\030\003 \001(\003\"\212\001\n\025" +
+      "ReinitializeFileEntry\022\014\n\004path\030\001 \001(\t\022\030\n\020b" +
+      "lock_size_bytes\030\002 \001(\003\022\013\n\003ttl\030\003 \001(\003\022<\n\ttt" +
+      "lAction\030\004 \001(\0162!.alluxio.proto.journal.PT" +
+      "tlAction:\006DELETE\"?\n\013RenameEntry\022\n\n\002id\030\001 " +
+      "\001(\003\022\020\n\010dst_path\030\002 \001(\t\022\022\n\nop_time_ms\030\003 \001(" +
+      "\003\"\242\002\n\021SetAttributeEntry\022\n\n\002id\030\001 \001(\003\022\022\n\no" +
+      "p_time_ms\030\002 \001(\003\022\016\n\006pinned\030\003 \001(\010\022\013\n\003ttl\030\004" +
+      " \001(\003\022\021\n\tpersisted\030\005 \001(\010\022\r\n\005owner\030\006 \001(\t\022\r" +
+      "\n\005group\030\007 \001(\t\022\022\n\npermission\030\010 \001(\005\022<\n\tttl",
+      "Action\030\t \001(\0162!.alluxio.proto.journal.PTt" +
+      "lAction:\006DELETE\022\027\n\017ufs_fingerprint\030\n \001(\t" +
+      "\022\027\n\017replication_min\030\013 \001(\005\022\033\n\017replication" +
+      "_max\030\014 \001(\005:\002-1*\"\n\nPTtlAction\022\n\n\006DELETE\020\000" +
+      "\022\010\n\004FREE\020\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
         new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
@@ -13179,7 +13494,7 @@ public final class File {
     internal_static_alluxio_proto_journal_InodeFileEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_alluxio_proto_journal_InodeFileEntry_descriptor,
-        new java.lang.String[] { "Id", "ParentId", "Name", "PersistenceState", "Pinned", "CreationTimeMs", "LastModificationTimeMs", "BlockSizeBytes", "Length", "Completed", "Cacheable", "Blocks", "Ttl", "Owner", "Group", "Mode", "TtlAction", "UfsFingerprint", });
+        new java.lang.String[] { "Id", "ParentId", "Name", "PersistenceState", "Pinned", "CreationTimeMs", "LastModificationTimeMs", "BlockSizeBytes", "Length", "Completed", "Cacheable", "Blocks", "Ttl", "Owner", "Group", "Mode", "TtlAction", "UfsFingerprint", "ReplicationMin", "ReplicationMax", });
     internal_static_alluxio_proto_journal_InodeLastModificationTimeEntry_descriptor =
       getDescriptor().getMessageTypes().get(9);
     internal_static_alluxio_proto_journal_InodeLastModificationTimeEntry_fieldAccessorTable = new
@@ -13215,7 +13530,7 @@ public final class File {
     internal_static_alluxio_proto_journal_SetAttributeEntry_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessage.FieldAccessorTable(
         internal_static_alluxio_proto_journal_SetAttributeEntry_descriptor,
-        new java.lang.String[] { "Id", "OpTimeMs", "Pinned", "Ttl", "Persisted", "Owner", "Group", "Permission", "TtlAction", "UfsFingerprint", });
+        new java.lang.String[] { "Id", "OpTimeMs", "Pinned", "Ttl", "Persisted", "Owner", "Group", "Permission", "TtlAction", "UfsFingerprint", "ReplicationMin", "ReplicationMax", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
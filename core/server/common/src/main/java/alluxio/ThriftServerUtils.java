@@ -0,0 +1,143 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio;
+
+import alluxio.network.ThriftServerType;
+import alluxio.security.authentication.AuthType;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.util.network.NetworkAddressUtils;
+
+import com.google.common.base.Preconditions;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
+import org.apache.thrift.transport.TTransportException;
+import org.apache.thrift.transport.TTransportFactory;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Utility methods to create the Thrift servers of Alluxio processes.
+ */
+@ThreadSafe
+public final class ThriftServerUtils {
+  /** How long an idle handler thread of a selector server is kept. */
+  private static final long HANDLER_KEEP_ALIVE_MS = Constants.MINUTE_MS;
+
+  /**
+   * Creates the server transport for a Thrift server of the given type.
+   *
+   * @param type the type of the server
+   * @param address the address to bind to
+   * @param clientTimeoutMs the timeout of the client connections in milliseconds
+   * @return the server transport
+   */
+  public static TServerTransport createServerTransport(ThriftServerType type,
+      InetSocketAddress address, int clientTimeoutMs) throws TTransportException {
+    switch (type) {
+      case THREAD_POOL:
+        return new TServerSocket(address, clientTimeoutMs);
+      case THREADED_SELECTOR:
+        return new TNonblockingServerSocket(address, clientTimeoutMs);
+      default:
+        throw new IllegalArgumentException("Unknown thrift server type " + type);
+    }
+  }
+
+  /**
+   * @param transport a server transport created by
+   *        {@link #createServerTransport(ThriftServerType, InetSocketAddress, int)}
+   * @return the port the server transport is bound to
+   */
+  public static int getPort(TServerTransport transport) {
+    if (transport instanceof TServerSocket) {
+      return NetworkAddressUtils.getThriftPort((TServerSocket) transport);
+    }
+    if (transport instanceof TNonblockingServerSocket) {
+      return ((TNonblockingServerSocket) transport).getPort();
+    }
+    throw new IllegalArgumentException("Unknown server transport " + transport.getClass());
+  }
+
+  /**
+   * Creates a Thrift server.
+   *
+   * With {@link ThriftServerType#THREAD_POOL}, each connection is served by one of at most
+   * maxWorkerThreads threads. With {@link ThriftServerType#THREADED_SELECTOR}, the connections
+   * are served by selectorThreads threads, maxWorkerThreads bounds the threads running
+   * requests and queueSize bounds the requests waiting for a thread. The connection of a request
+   * which does not fit in the queue is closed.
+   *
+   * @param type the type of the server
+   * @param name the name of the server, used to name its threads
+   * @param transport the server transport, created with the same type
+   * @param processor the processor of the requests
+   * @param transportFactory the factory of the transports of the connections, ignored by
+   *        {@link ThriftServerType#THREADED_SELECTOR} which always reads framed requests
+   * @param minWorkerThreads the minimum number of threads serving the requests
+   * @param maxWorkerThreads the maximum number of threads serving the requests
+   * @param selectorThreads the number of selector threads
+   * @param queueSize the maximum number of requests waiting for a thread, only used by
+   *        {@link ThriftServerType#THREADED_SELECTOR}
+   * @param stopTimeoutSeconds how long to wait for the requests in flight on stop
+   * @return the server
+   */
+  public static TServer createServer(ThriftServerType type, String name,
+      TServerTransport transport, TProcessor processor, TTransportFactory transportFactory,
+      int minWorkerThreads, int maxWorkerThreads, int selectorThreads, int queueSize,
+      int stopTimeoutSeconds) {
+    TBinaryProtocol.Factory protocolFactory = new TBinaryProtocol.Factory(true, true);
+    switch (type) {
+      case THREAD_POOL:
+        TThreadPoolServer.Args args = new TThreadPoolServer.Args(transport)
+            .minWorkerThreads(minWorkerThreads).maxWorkerThreads(maxWorkerThreads)
+            .processor(processor).transportFactory(transportFactory)
+            .protocolFactory(protocolFactory);
+        args.stopTimeoutVal = stopTimeoutSeconds;
+        return new TThreadPoolServer(args);
+      case THREADED_SELECTOR:
+        // The SASL handshake blocks the connection, which selector threads cannot do
+        Preconditions.checkState(Configuration.getEnum(PropertyKey.SECURITY_AUTHENTICATION_TYPE,
+            AuthType.class) == AuthType.NOSASL,
+            "The %s thrift server of %s requires %s to be %s", type, name,
+            PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.NOSASL);
+        Preconditions.checkArgument(transport instanceof TNonblockingServerSocket,
+            "The %s thrift server requires a non-blocking server transport", type);
+        ThreadPoolExecutor handlers = new ThreadPoolExecutor(maxWorkerThreads, maxWorkerThreads,
+            HANDLER_KEEP_ALIVE_MS, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<Runnable>(queueSize),
+            ThreadFactoryUtils.build(name + "-rpc-handler-%d", true));
+        // Handler threads are only needed while requests are running
+        handlers.allowCoreThreadTimeOut(true);
+        TThreadedSelectorServer.Args selectorArgs =
+            new TThreadedSelectorServer.Args((TNonblockingServerSocket) transport)
+                .selectorThreads(selectorThreads).executorService(handlers)
+                .stopTimeoutVal(stopTimeoutSeconds).processor(processor)
+                .protocolFactory(protocolFactory);
+        return new TThreadedSelectorServer(selectorArgs);
+      default:
+        throw new IllegalArgumentException("Unknown thrift server type " + type);
+    }
+  }
+
+  private ThriftServerUtils() {} // prevent instantiation
+}
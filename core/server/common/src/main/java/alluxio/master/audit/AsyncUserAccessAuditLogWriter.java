@@ -13,45 +13,98 @@ package alluxio.master.audit;
 
 import alluxio.Configuration;
 import alluxio.PropertyKey;
+import alluxio.metrics.MetricsSystem;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
-import java.util.concurrent.LinkedBlockingQueue;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * {@link AsyncUserAccessAuditLogWriter} writes user access audit log entries asynchronously.
  *
- * TODO(yanqin) investigate other lock-free queues, e.g. Lmax disruptor used by Lmax and log4j 2
+ * Entries are appended to a lock-free {@link AuditRingBuffer} and written in batches by a single
+ * background thread, either to log4j or directly to a file. When the buffer is full, appending
+ * either waits for room or drops the entry, depending on
+ * {@link PropertyKey#MASTER_AUDIT_LOGGING_QUEUE_FULL_POLICY}.
  */
 @ThreadSafe
 public final class AsyncUserAccessAuditLogWriter {
   private static final String AUDIT_LOG_THREAD_NAME = "AsyncUserAccessAuditLogger";
   private static final Logger LOG =
       LoggerFactory.getLogger(AsyncUserAccessAuditLogWriter.class);
-  private static final Logger AUDIT_LOG =
-      LoggerFactory.getLogger("AUDIT_LOG");
+  /** The maximum number of entries written in one batch. */
+  private static final int MAX_BATCH_SIZE = 1024;
+  /** How long an appending thread sleeps when the buffer is full under the BLOCK policy. */
+  private static final long FULL_PARK_NS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private static final Counter ENTRIES_BLOCKED =
+      MetricsSystem.masterCounter("AuditLogEntriesBlocked");
+  private static final Counter ENTRIES_DROPPED =
+      MetricsSystem.masterCounter("AuditLogEntriesDropped");
+  private static final Counter ENTRIES_WRITTEN =
+      MetricsSystem.masterCounter("AuditLogEntriesWritten");
+
+  /**
+   * What to do with an entry when the queue is full.
+   */
+  public enum QueueFullPolicy {
+    /** Wait until there is room in the queue. */
+    BLOCK,
+    /** Discard the entry. */
+    DROP,
+  }
+
+  /**
+   * Where the entries are written.
+   */
+  public enum Output {
+    /** The AUDIT_LOG log4j logger. */
+    LOG4J,
+    /** A file written directly in batches. */
+    FILE,
+  }
+
   private volatile boolean mStopped;
   /**
-   * A thread-safe linked-list-based queue with an optional capacity limit.
+   * Whether the logging thread is about to park because the buffer is empty, in which case the
+   * next appending thread unparks it.
    */
-  private LinkedBlockingQueue<AuditContext> mAuditLogEntries;
+  private volatile boolean mWorkerIdle;
+  private final AuditRingBuffer mAuditLogEntries;
+  private final QueueFullPolicy mQueueFullPolicy;
 
   /**
    * Background thread that performs actual log writing.
    */
-  private Thread mLoggingWorkerThread;
+  private volatile Thread mLoggingWorkerThread;
 
   /**
    * Constructs an {@link AsyncUserAccessAuditLogWriter} instance.
    */
   public AsyncUserAccessAuditLogWriter() {
     int queueCapacity = Configuration.getInt(PropertyKey.MASTER_AUDIT_LOGGING_QUEUE_CAPACITY);
-    mAuditLogEntries = new LinkedBlockingQueue<>(queueCapacity);
-    LOG.info("Audit logging queue capacity is {}.", queueCapacity);
+    mAuditLogEntries = new AuditRingBuffer(queueCapacity);
+    mQueueFullPolicy = Configuration.getEnum(PropertyKey.MASTER_AUDIT_LOGGING_QUEUE_FULL_POLICY,
+        QueueFullPolicy.class);
+    LOG.info("Audit logging queue capacity is {}, queue full policy is {}.",
+        mAuditLogEntries.capacity(), mQueueFullPolicy);
+    MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName("AuditLogQueueSize"),
+        new Gauge<Integer>() {
+          @Override
+          public Integer getValue() {
+            return mAuditLogEntries.size();
+          }
+        });
     mStopped = true;
   }
 
@@ -61,8 +114,14 @@ public final class AsyncUserAccessAuditLogWriter {
   public synchronized void start() {
     if (mStopped) {
       Preconditions.checkState(mLoggingWorkerThread == null);
+      AuditLogSink sink;
+      try {
+        sink = createSink();
+      } catch (IOException e) {
+        throw new RuntimeException("Failed to open the audit log", e);
+      }
       mStopped = false;
-      mLoggingWorkerThread = new Thread(new AuditLoggingWorker());
+      mLoggingWorkerThread = new Thread(new AuditLoggingWorker(sink));
       mLoggingWorkerThread.setName(AUDIT_LOG_THREAD_NAME);
       mLoggingWorkerThread.start();
       LOG.info("AsyncUserAccessAuditLogWriter thread started.");
@@ -70,17 +129,18 @@ public final class AsyncUserAccessAuditLogWriter {
   }
 
   /**
-   * Stops {@link AsyncUserAccessAuditLogWriter}.
+   * Stops {@link AsyncUserAccessAuditLogWriter}. Entries appended before this call are written
+   * before it returns.
    */
   public synchronized void stop() {
     if (!mStopped) {
-      mLoggingWorkerThread.interrupt();
+      mStopped = true;
+      LockSupport.unpark(mLoggingWorkerThread);
       try {
         mLoggingWorkerThread.join();
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
       } finally {
-        mStopped = true;
         mLoggingWorkerThread = null;
         LOG.info("AsyncUserAccessAuditLogWriter thread stopped.");
       }
@@ -94,34 +154,113 @@ public final class AsyncUserAccessAuditLogWriter {
    * @return true if append operation succeeds, false otherwise
    */
   public boolean append(AuditContext context) {
-    try {
-      mAuditLogEntries.put(context);
-    } catch (InterruptedException e) {
-      // Reset the interrupted flag and return because some other thread has
-      // told us not to wait any more.
-      Thread.currentThread().interrupt();
+    if (mAuditLogEntries.offer(context)) {
+      wakeUpWorker();
+      return true;
+    }
+    if (mQueueFullPolicy == QueueFullPolicy.DROP) {
+      ENTRIES_DROPPED.inc();
       return false;
     }
+    ENTRIES_BLOCKED.inc();
+    do {
+      if (mStopped || Thread.currentThread().isInterrupted()) {
+        // Some other thread has told us not to wait any more.
+        return false;
+      }
+      LockSupport.parkNanos(this, FULL_PARK_NS);
+    } while (!mAuditLogEntries.offer(context));
+    wakeUpWorker();
     return true;
   }
 
+  /**
+   * Unparks the logging thread if it is waiting for entries.
+   */
+  private void wakeUpWorker() {
+    if (mWorkerIdle) {
+      mWorkerIdle = false;
+      Thread worker = mLoggingWorkerThread;
+      if (worker != null) {
+        LockSupport.unpark(worker);
+      }
+    }
+  }
+
+  private static AuditLogSink createSink() throws IOException {
+    switch (Configuration.getEnum(PropertyKey.MASTER_AUDIT_LOGGING_OUTPUT, Output.class)) {
+      case LOG4J:
+        return new Log4jAuditLogSink();
+      case FILE:
+        return new FileAuditLogSink(Configuration.get(PropertyKey.MASTER_AUDIT_LOGGING_FILE),
+            Configuration.getBoolean(PropertyKey.MASTER_AUDIT_LOGGING_FILE_COMPRESSED),
+            Configuration.getBytes(PropertyKey.MASTER_AUDIT_LOGGING_FILE_MAX_SIZE));
+      default:
+        throw new IllegalStateException("Unknown audit log output "
+            + Configuration.get(PropertyKey.MASTER_AUDIT_LOGGING_OUTPUT));
+    }
+  }
+
   /**
    * Consumer thread of the queue to perform actual logging of audit info.
    */
   private class AuditLoggingWorker implements Runnable {
-    public AuditLoggingWorker() {}
+    private final AuditLogSink mSink;
+    private final List<AuditContext> mBatch = new ArrayList<>(MAX_BATCH_SIZE);
+
+    public AuditLoggingWorker(AuditLogSink sink) {
+      mSink = sink;
+    }
 
     @Override
     public void run() {
-      while (!mStopped) {
+      try {
+        while (true) {
+          // Read the flag before draining so that entries appended before stop() are written.
+          boolean stopped = mStopped;
+          if (mAuditLogEntries.drainTo(mBatch, MAX_BATCH_SIZE) > 0) {
+            write();
+          } else if (stopped) {
+            break;
+          } else {
+            waitForEntries();
+          }
+        }
+      } finally {
         try {
-          AuditContext headContext = mAuditLogEntries.take();
-          AUDIT_LOG.info(headContext.toString());
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          break;
+          mSink.close();
+        } catch (IOException e) {
+          LOG.warn("Failed to close the audit log: {}", e.getMessage());
         }
       }
     }
+
+    /**
+     * Parks until an appending thread or {@link #stop()} unparks this thread. The idle flag is
+     * published before the buffer is checked again, so an entry appended concurrently is either
+     * seen here or its appender sees the flag and unparks this thread.
+     */
+    private void waitForEntries() {
+      mWorkerIdle = true;
+      if (mAuditLogEntries.size() == 0 && !mStopped) {
+        LockSupport.park(this);
+      } else {
+        // An entry has been claimed but not published yet.
+        Thread.yield();
+      }
+      mWorkerIdle = false;
+    }
+
+    private void write() {
+      try {
+        mSink.write(mBatch);
+        ENTRIES_WRITTEN.inc(mBatch.size());
+      } catch (IOException e) {
+        ENTRIES_DROPPED.inc(mBatch.size());
+        LOG.warn("Failed to write {} audit log entries: {}", mBatch.size(), e.getMessage());
+      } finally {
+        mBatch.clear();
+      }
+    }
   }
 }
@@ -36,6 +36,16 @@ public interface AuditContext extends Closeable {
    */
   AuditContext setSucceeded(boolean succeeded);
 
+  /**
+   * Appends the audit log entry of this context to the given builder. Implementations should
+   * override this to avoid building an intermediate string.
+   *
+   * @param builder the builder to append the entry to
+   */
+  default void appendTo(StringBuilder builder) {
+    builder.append(toString());
+  }
+
   @Override
   void close();
 }
@@ -0,0 +1,29 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Destination of the audit log entries drained by {@link AsyncUserAccessAuditLogWriter}. A sink
+ * is only used by the single audit logging thread.
+ */
+interface AuditLogSink extends Closeable {
+  /**
+   * Writes a batch of audit log entries.
+   *
+   * @param batch the contexts of the entries, in the order they were appended
+   */
+  void write(List<AuditContext> batch) throws IOException;
+}
@@ -0,0 +1,116 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.audit;
+
+import com.google.common.base.Preconditions;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded queue of {@link AuditContext}s for many producers and a single consumer, backed by a
+ * ring of preallocated slots.
+ *
+ * Producers claim a slot by advancing the producer sequence with a compare-and-set and then
+ * publish the context into the slot. The consumer takes the published contexts in order, clears
+ * their slots and then advances the consumer sequence, which frees the slots for producers.
+ * Neither side takes a lock or allocates, unlike a {@link java.util.concurrent.BlockingQueue}.
+ */
+@ThreadSafe
+final class AuditRingBuffer {
+  private final AtomicReferenceArray<AuditContext> mSlots;
+  private final int mMask;
+  /** The sequence of the next slot to be claimed by a producer. */
+  private final AtomicLong mProducerSequence = new AtomicLong();
+  /** The sequence of the next slot to be consumed. Only written by the consumer. */
+  private final AtomicLong mConsumerSequence = new AtomicLong();
+
+  /**
+   * @param capacity the minimum number of contexts the buffer can hold, rounded up to a power of 2
+   */
+  AuditRingBuffer(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+    Preconditions.checkArgument(capacity <= 1 << 30, "capacity is too large");
+    int size = 1;
+    while (size < capacity) {
+      size <<= 1;
+    }
+    mSlots = new AtomicReferenceArray<>(size);
+    mMask = size - 1;
+  }
+
+  /**
+   * Adds a context to the buffer if there is room.
+   *
+   * @param context the context to add
+   * @return true if the context was added, false if the buffer is full
+   */
+  boolean offer(AuditContext context) {
+    Preconditions.checkNotNull(context, "context");
+    while (true) {
+      long sequence = mProducerSequence.get();
+      if (sequence - mConsumerSequence.get() >= mSlots.length()) {
+        return false;
+      }
+      if (mProducerSequence.compareAndSet(sequence, sequence + 1)) {
+        mSlots.lazySet((int) (sequence & mMask), context);
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Moves the published contexts to the given list in the order their slots were claimed. This
+   * must only be called by a single consumer thread.
+   *
+   * @param batch the list to add the contexts to
+   * @param maxContexts the maximum number of contexts to move
+   * @return the number of contexts moved
+   */
+  int drainTo(List<AuditContext> batch, int maxContexts) {
+    long sequence = mConsumerSequence.get();
+    int drained = 0;
+    while (drained < maxContexts) {
+      int index = (int) (sequence & mMask);
+      AuditContext context = mSlots.get(index);
+      if (context == null) {
+        // Either the buffer is empty or the producer of this slot has not published it yet.
+        break;
+      }
+      mSlots.lazySet(index, null);
+      batch.add(context);
+      sequence++;
+      drained++;
+    }
+    if (drained > 0) {
+      mConsumerSequence.lazySet(sequence);
+    }
+    return drained;
+  }
+
+  /**
+   * @return the number of contexts claimed but not consumed yet
+   */
+  int size() {
+    return (int) (mProducerSequence.get() - mConsumerSequence.get());
+  }
+
+  /**
+   * @return the number of contexts the buffer can hold
+   */
+  int capacity() {
+    return mSlots.length();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.audit;
+
+import alluxio.Constants;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes audit log entries directly to a file, one line per entry prefixed by the time the batch
+ * was written. Each batch is written with a single flush, and the file is rolled over once it
+ * grows past a maximum size.
+ */
+@NotThreadSafe
+final class FileAuditLogSink implements AuditLogSink {
+  private static final Logger LOG = LoggerFactory.getLogger(FileAuditLogSink.class);
+  /** The same timestamp format as the ISO8601 layout of log4j. */
+  private static final DateTimeFormatter TIMESTAMP_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss,SSS");
+  private static final DateTimeFormatter ROLL_SUFFIX_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+  private static final int BUFFER_SIZE = 64 * Constants.KB;
+
+  private final File mFile;
+  private final boolean mCompressed;
+  private final long mMaxSizeBytes;
+  private final StringBuilder mBuilder = new StringBuilder();
+
+  private Writer mWriter;
+
+  /**
+   * Creates a new instance of {@link FileAuditLogSink}, appending to the file if it exists.
+   *
+   * @param path the path of the audit log file
+   * @param compressed whether to gzip the file
+   * @param maxSizeBytes the size after which the file is rolled over
+   */
+  FileAuditLogSink(String path, boolean compressed, long maxSizeBytes) throws IOException {
+    mFile = new File(path);
+    mCompressed = compressed;
+    mMaxSizeBytes = maxSizeBytes;
+    File parent = mFile.getAbsoluteFile().getParentFile();
+    if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+      throw new IOException("Failed to create the audit log directory " + parent);
+    }
+    open();
+  }
+
+  @Override
+  public void write(List<AuditContext> batch) throws IOException {
+    mBuilder.setLength(0);
+    String timestamp = TIMESTAMP_FORMAT.format(LocalDateTime.now());
+    for (AuditContext context : batch) {
+      mBuilder.append(timestamp).append(' ');
+      context.appendTo(mBuilder);
+      mBuilder.append('\n');
+    }
+    mWriter.append(mBuilder);
+    mWriter.flush();
+    if (mFile.length() >= mMaxSizeBytes) {
+      rollOver();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    mWriter.close();
+  }
+
+  private void open() throws IOException {
+    OutputStream out = new FileOutputStream(mFile, true);
+    if (mCompressed) {
+      // Sync flushing ends every batch on a byte boundary so readers see complete entries.
+      out = new GZIPOutputStream(out, BUFFER_SIZE, true);
+    }
+    mWriter =
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+  }
+
+  private void rollOver() throws IOException {
+    mWriter.close();
+    File rolled =
+        new File(mFile.getPath() + "." + ROLL_SUFFIX_FORMAT.format(LocalDateTime.now()));
+    if (!mFile.renameTo(rolled)) {
+      LOG.warn("Failed to roll over audit log file {} to {}", mFile, rolled);
+    }
+    open();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes every audit log entry to the AUDIT_LOG logger, whose appender is configured in
+ * log4j.properties.
+ */
+@NotThreadSafe
+final class Log4jAuditLogSink implements AuditLogSink {
+  private static final Logger AUDIT_LOG = LoggerFactory.getLogger("AUDIT_LOG");
+
+  private final StringBuilder mBuilder = new StringBuilder();
+
+  /**
+   * Creates a new instance of {@link Log4jAuditLogSink}.
+   */
+  Log4jAuditLogSink() {}
+
+  @Override
+  public void write(List<AuditContext> batch) {
+    for (AuditContext context : batch) {
+      mBuilder.setLength(0);
+      context.appendTo(mBuilder);
+      AUDIT_LOG.info(mBuilder.toString());
+    }
+  }
+
+  @Override
+  public void close() {}
+}
@@ -0,0 +1,132 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics;
+
+import com.codahale.metrics.Timer;
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableSet;
+import org.apache.thrift.TBaseProcessor;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A {@link TProcessor} which records the latency of every call handled by the wrapped processor
+ * into a timer named {@code RpcLatency.<service>.<method>}, so that each RPC gets its own latency
+ * histogram. The method names come from the clients, so only the methods served by the wrapped
+ * {@link TBaseProcessor} get their own timer, and the calls to any other name are recorded under
+ * {@link #UNKNOWN_METHOD}.
+ */
+@ThreadSafe
+public final class TimedProcessor implements TProcessor {
+  /** The method name the calls to methods which are not served are recorded under. */
+  public static final String UNKNOWN_METHOD = "unknown";
+
+  private final String mServiceName;
+  private final TProcessor mProcessor;
+  /** The names of the methods served by the processor. */
+  private final Set<String> mMethods;
+  private final Function<String, Timer> mTimerFactory;
+  private final ConcurrentHashMap<String, Timer> mTimers = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance of {@link TimedProcessor}.
+   *
+   * @param serviceName the name of the service the processor handles
+   * @param processor the processor to time
+   * @param timerFactory the factory of the timers given the metric name, for example
+   *        {@link MetricsSystem#masterHistogramTimer(String)}
+   */
+  public TimedProcessor(String serviceName, TProcessor processor,
+      Function<String, Timer> timerFactory) {
+    mServiceName = serviceName;
+    mProcessor = processor;
+    mMethods = processor instanceof TBaseProcessor
+        ? ImmutableSet.copyOf(((TBaseProcessor<?>) processor).getProcessMapView().keySet())
+        : ImmutableSet.<String>of();
+    mTimerFactory = timerFactory;
+  }
+
+  @Override
+  public boolean process(TProtocol in, TProtocol out) throws TException {
+    MethodCapturingProtocol protocol = new MethodCapturingProtocol(in);
+    long startNs = System.nanoTime();
+    try {
+      return mProcessor.process(protocol, out);
+    } finally {
+      if (protocol.getMethod() != null) {
+        getTimer(protocol.getMethod()).update(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  /**
+   * @param method the name of the method
+   * @return the timer of the method, or the timer of the unknown methods if it is not served
+   */
+  private Timer getTimer(String method) {
+    if (!mMethods.contains(method)) {
+      method = UNKNOWN_METHOD;
+    }
+    Timer timer = mTimers.get(method);
+    if (timer == null) {
+      timer = mTimerFactory.apply(getMetricName(mServiceName, method));
+      mTimers.putIfAbsent(method, timer);
+    }
+    return timer;
+  }
+
+  /**
+   * @param serviceName the name of the service
+   * @param method the name of the method
+   * @return the name of the latency metric of the method, without the instance prefix
+   */
+  public static String getMetricName(String serviceName, String method) {
+    return "RpcLatency." + serviceName + "." + method;
+  }
+
+  /**
+   * A protocol which remembers the name of the method of the message it reads.
+   */
+  private static final class MethodCapturingProtocol extends TProtocolDecorator {
+    private String mMethod;
+
+    /**
+     * @param protocol the protocol to read from
+     */
+    MethodCapturingProtocol(TProtocol protocol) {
+      super(protocol);
+    }
+
+    @Override
+    public TMessage readMessageBegin() throws TException {
+      TMessage message = super.readMessageBegin();
+      mMethod = message.name;
+      return message;
+    }
+
+    /**
+     * @return the name of the method read, or null if no message has been read
+     */
+    String getMethod() {
+      return mMethod;
+    }
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics.sink;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * A sink that exposes metrics data by HTTP in the Prometheus text exposition format, so that
+ * Prometheus can scrape the masters and workers directly.
+ *
+ * Counters and gauges are exported as gauges, meters as counters and histograms and timers as
+ * summaries. Timer quantiles and sums are reported in seconds. The sum of a summary is derived from
+ * the mean of its snapshot, so it is exact up to the bucket resolution for timers backed by a
+ * {@link alluxio.metrics.HistogramReservoir} and an estimate for sampling reservoirs.
+ */
+@NotThreadSafe
+public class PrometheusMetricsServlet implements Sink {
+  private static final String SERVLET_PATH = "/metrics/prometheus";
+  private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+  private static final double[] QUANTILES = {0.5, 0.75, 0.95, 0.98, 0.99, 0.999};
+  private static final double SECONDS_PER_NANO = 1.0 / TimeUnit.SECONDS.toNanos(1);
+
+  private MetricRegistry mMetricsRegistry;
+
+  /**
+   * Creates a new {@link PrometheusMetricsServlet} with a {@link MetricRegistry}.
+   *
+   * @param registry the metric registry to register
+   */
+  public PrometheusMetricsServlet(MetricRegistry registry) {
+    mMetricsRegistry = registry;
+  }
+
+  private HttpServlet createServlet() {
+    return new HttpServlet() {
+      private static final long serialVersionUID = 4165291207546213925L;
+
+      @Override
+      protected void doGet(HttpServletRequest request, HttpServletResponse response)
+          throws ServletException, IOException {
+        response.setContentType(CONTENT_TYPE);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+        writeMetrics(response.getWriter());
+      }
+    };
+  }
+
+  /**
+   * Gets the {@link ServletContextHandler} of the metrics servlet.
+   *
+   * @return the {@link ServletContextHandler} object
+   */
+  public ServletContextHandler getHandler() {
+    ServletContextHandler contextHandler = new ServletContextHandler();
+    contextHandler.setContextPath(SERVLET_PATH);
+    contextHandler.addServlet(new ServletHolder(createServlet()), "/");
+    return contextHandler;
+  }
+
+  /**
+   * Writes all the metrics of the registry in the Prometheus text exposition format.
+   *
+   * @param writer the writer to write to
+   */
+  void writeMetrics(Writer writer) throws IOException {
+    for (Map.Entry<String, Gauge> entry : mMetricsRegistry.getGauges().entrySet()) {
+      Object value = entry.getValue().getValue();
+      double number;
+      if (value instanceof Number) {
+        number = ((Number) value).doubleValue();
+      } else if (value instanceof Boolean) {
+        number = (Boolean) value ? 1 : 0;
+      } else {
+        continue;
+      }
+      String name = sanitize(entry.getKey());
+      writeType(writer, name, "gauge");
+      writeSample(writer, name, "", number);
+    }
+    for (Map.Entry<String, Counter> entry : mMetricsRegistry.getCounters().entrySet()) {
+      String name = sanitize(entry.getKey());
+      writeType(writer, name, "gauge");
+      writeSample(writer, name, "", entry.getValue().getCount());
+    }
+    for (Map.Entry<String, Meter> entry : mMetricsRegistry.getMeters().entrySet()) {
+      String name = sanitize(entry.getKey()) + "_total";
+      writeType(writer, name, "counter");
+      writeSample(writer, name, "", entry.getValue().getCount());
+    }
+    for (Map.Entry<String, Histogram> entry : mMetricsRegistry.getHistograms().entrySet()) {
+      writeSummary(writer, sanitize(entry.getKey()), entry.getValue().getSnapshot(),
+          entry.getValue().getCount(), 1.0);
+    }
+    for (Map.Entry<String, Timer> entry : mMetricsRegistry.getTimers().entrySet()) {
+      writeSummary(writer, sanitize(entry.getKey()) + "_seconds", entry.getValue().getSnapshot(),
+          entry.getValue().getCount(), SECONDS_PER_NANO);
+    }
+    writer.flush();
+  }
+
+  private static void writeSummary(Writer writer, String name, Snapshot snapshot, long count,
+      double factor) throws IOException {
+    writeType(writer, name, "summary");
+    for (double quantile : QUANTILES) {
+      writeSample(writer, name, String.format(Locale.US, "{quantile=\"%s\"}", quantile),
+          snapshot.getValue(quantile) * factor);
+    }
+    writeSample(writer, name + "_sum", "", snapshot.getMean() * count * factor);
+    writeSample(writer, name + "_count", "", count);
+  }
+
+  private static void writeType(Writer writer, String name, String type) throws IOException {
+    writer.write("# TYPE " + name + " " + type + "\n");
+  }
+
+  private static void writeSample(Writer writer, String name, String labels, double value)
+      throws IOException {
+    writer.write(name + labels + " " + formatValue(value) + "\n");
+  }
+
+  private static String formatValue(double value) {
+    if (Double.isNaN(value)) {
+      return "NaN";
+    }
+    if (Double.isInfinite(value)) {
+      return value > 0 ? "+Inf" : "-Inf";
+    }
+    if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+      return Long.toString((long) value);
+    }
+    return Double.toString(value);
+  }
+
+  /**
+   * Converts a metric name to a valid Prometheus metric name, replacing every character which is
+   * not allowed with an underscore.
+   *
+   * @param name the metric name
+   * @return the Prometheus metric name
+   */
+  static String sanitize(String name) {
+    StringBuilder sb = new StringBuilder(name.length() + 1);
+    if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+      sb.append('_');
+    }
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_'
+          || c == ':') {
+        sb.append(c);
+      } else {
+        sb.append('_');
+      }
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public void start() {}
+
+  @Override
+  public void stop() {}
+
+  @Override
+  public void report() {}
+}
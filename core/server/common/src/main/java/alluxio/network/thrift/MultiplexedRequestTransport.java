@@ -0,0 +1,87 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import org.apache.thrift.transport.TMemoryInputTransport;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+import java.net.InetAddress;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The transport a {@link MultiplexedThriftServer} hands to the processor for reading one request.
+ * Besides the request payload, it knows the address of the client who sent it.
+ */
+@NotThreadSafe
+public final class MultiplexedRequestTransport extends TTransport {
+  private final TMemoryInputTransport mRequest;
+  private final InetAddress mClientAddress;
+
+  /**
+   * @param request the request payload
+   * @param clientAddress the address of the client
+   */
+  public MultiplexedRequestTransport(byte[] request, InetAddress clientAddress) {
+    mRequest = new TMemoryInputTransport(request);
+    mClientAddress = clientAddress;
+  }
+
+  /**
+   * @return the address of the client who sent the request
+   */
+  public InetAddress getClientAddress() {
+    return mClientAddress;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return true;
+  }
+
+  @Override
+  public void open() {}
+
+  @Override
+  public void close() {}
+
+  @Override
+  public int read(byte[] buf, int off, int len) throws TTransportException {
+    return mRequest.read(buf, off, len);
+  }
+
+  @Override
+  public void write(byte[] buf, int off, int len) throws TTransportException {
+    throw new TTransportException("Request transports are read only");
+  }
+
+  @Override
+  public byte[] getBuffer() {
+    return mRequest.getBuffer();
+  }
+
+  @Override
+  public int getBufferPosition() {
+    return mRequest.getBufferPosition();
+  }
+
+  @Override
+  public int getBytesRemainingInBuffer() {
+    return mRequest.getBytesRemainingInBuffer();
+  }
+
+  @Override
+  public void consumeBuffer(int len) {
+    mRequest.consumeBuffer(len);
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.security.authentication.AuthType;
+import alluxio.security.authentication.AuthenticatedClientUser;
+import alluxio.security.authentication.AuthenticationProvider;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Preconditions;
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+import javax.security.sasl.AuthenticationException;
+
+/**
+ * Serves Thrift requests over multiplexed connections, see {@link MultiplexedFrames} for the wire
+ * format. Each connection has a thread reading its requests, which are processed concurrently on
+ * a shared pool of handler threads, and whose responses are written back as soon as they are
+ * ready. When all handler threads are busy, the reading thread processes the request itself,
+ * which stops reading from that connection until the request completes.
+ *
+ * Unlike the servers of Thrift, a client connection can carry many outstanding requests, so a
+ * client process needs only a few connections however many threads it has.
+ */
+@ThreadSafe
+public final class MultiplexedThriftServer implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(MultiplexedThriftServer.class);
+
+  private final String mName;
+  private final TProcessor mProcessor;
+  private final AuthType mAuthType;
+  private final int mMaxFrameSize;
+  private final int mHandshakeTimeoutMs;
+  private final ServerSocket mServerSocket;
+  private final ThreadPoolExecutor mExecutor;
+  private final Set<Socket> mConnections = ConcurrentHashMap.newKeySet();
+  private final Thread mAcceptThread;
+  private final ThreadFactory mConnectionThreadFactory;
+  private volatile boolean mClosed;
+
+  /**
+   * Creates a server and binds it to the given address. Call {@link #start()} to start accepting
+   * connections.
+   *
+   * @param name the name of the server, used to name its threads
+   * @param bindAddress the address to bind to
+   * @param processor the processor serving the requests
+   * @param maxThreads the maximum number of handler threads
+   */
+  public MultiplexedThriftServer(String name, InetSocketAddress bindAddress, TProcessor processor,
+      int maxThreads) throws IOException {
+    Preconditions.checkArgument(maxThreads > 0, "maxThreads must be positive");
+    mName = name;
+    mProcessor = processor;
+    mAuthType = Configuration.getEnum(PropertyKey.SECURITY_AUTHENTICATION_TYPE, AuthType.class);
+    Preconditions.checkState(mAuthType != AuthType.KERBEROS,
+        "Multiplexed RPC connections do not support Kerberos authentication");
+    mMaxFrameSize = MultiplexedFrames.getMaxFrameSize();
+    mHandshakeTimeoutMs =
+        (int) Configuration.getMs(PropertyKey.SECURITY_AUTHENTICATION_SOCKET_TIMEOUT_MS);
+    mServerSocket = new ServerSocket();
+    mServerSocket.setReuseAddress(true);
+    mServerSocket.bind(bindAddress);
+    mExecutor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), ThreadFactoryUtils.build(name + "-multiplexed-rpc-%d", true),
+        new ThreadPoolExecutor.CallerRunsPolicy());
+    mExecutor.allowCoreThreadTimeOut(true);
+    mConnectionThreadFactory =
+        ThreadFactoryUtils.build(name + "-multiplexed-rpc-connection-%d", true);
+    mAcceptThread = ThreadFactoryUtils.build(name + "-multiplexed-rpc-accept-%d", true)
+        .newThread(this::acceptConnections);
+  }
+
+  /**
+   * @return the port the server is bound to
+   */
+  public int getPort() {
+    return mServerSocket.getLocalPort();
+  }
+
+  /**
+   * Starts accepting connections.
+   */
+  public void start() {
+    mAcceptThread.start();
+    LOG.info("{} serving multiplexed RPC connections on {}", mName,
+        mServerSocket.getLocalSocketAddress());
+  }
+
+  /**
+   * Stops accepting connections and closes the open ones. Requests being processed complete, but
+   * their responses are dropped.
+   */
+  @Override
+  public void close() throws IOException {
+    mClosed = true;
+    mServerSocket.close();
+    for (Socket socket : mConnections) {
+      closeQuietly(socket);
+    }
+    mExecutor.shutdownNow();
+  }
+
+  private void acceptConnections() {
+    while (!mClosed) {
+      Socket socket;
+      try {
+        socket = mServerSocket.accept();
+      } catch (IOException e) {
+        if (!mClosed) {
+          LOG.error("{} failed to accept a multiplexed RPC connection", mName, e);
+        }
+        continue;
+      }
+      mConnections.add(socket);
+      mConnectionThreadFactory.newThread(() -> serveConnection(socket)).start();
+    }
+  }
+
+  private void serveConnection(Socket socket) {
+    try {
+      socket.setTcpNoDelay(true);
+      socket.setSoTimeout(mHandshakeTimeoutMs);
+      DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+      DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+      String user = handshake(in, out);
+      if (user == null) {
+        return;
+      }
+      socket.setSoTimeout(0);
+      while (!mClosed) {
+        int requestId;
+        try {
+          requestId = in.readInt();
+        } catch (EOFException e) {
+          return;
+        }
+        byte[] request = MultiplexedFrames.readPayload(in, mMaxFrameSize);
+        mExecutor.execute(() -> process(socket, out, user, requestId, request));
+      }
+    } catch (IOException e) {
+      if (!mClosed && !socket.isClosed()) {
+        LOG.debug("{} multiplexed RPC connection from {} failed: {}", mName,
+            socket.getRemoteSocketAddress(), e.getMessage());
+      }
+    } finally {
+      mConnections.remove(socket);
+      closeQuietly(socket);
+    }
+  }
+
+  /**
+   * Reads the handshake of a new connection and answers it.
+   *
+   * @return the authenticated user, or null if the connection is refused
+   */
+  private String handshake(DataInputStream in, DataOutputStream out) throws IOException {
+    int magic = in.readInt();
+    if (magic != MultiplexedFrames.MAGIC) {
+      LOG.warn("{} refused a multiplexed RPC connection with bad magic number {}", mName,
+          Integer.toHexString(magic));
+      return null;
+    }
+    String user = in.readUTF();
+    String password = in.readUTF();
+    if (mAuthType != AuthType.NOSASL) {
+      try {
+        AuthenticationProvider.Factory.create(mAuthType).authenticate(user, password);
+      } catch (AuthenticationException e) {
+        out.writeByte(MultiplexedFrames.STATUS_UNAUTHENTICATED);
+        out.writeUTF(e.getMessage() == null ? "Authentication failed" : e.getMessage());
+        out.flush();
+        return null;
+      }
+    }
+    out.writeByte(MultiplexedFrames.STATUS_OK);
+    out.writeUTF("");
+    out.flush();
+    return user;
+  }
+
+  private void process(Socket socket, DataOutputStream out, String user, int requestId,
+      byte[] request) {
+    TMemoryBuffer response = new TMemoryBuffer(1024);
+    try {
+      // Handler threads only ever serve this server, and every request sets its own user, so
+      // the user is not removed afterwards.
+      if (mAuthType != AuthType.NOSASL) {
+        AuthenticatedClientUser.set(user);
+      }
+      mProcessor.process(
+          new TBinaryProtocol(new MultiplexedRequestTransport(request, socket.getInetAddress())),
+          new TBinaryProtocol(response));
+      synchronized (out) {
+        MultiplexedFrames.writeFrame(out, requestId, response.getArray(), response.length());
+      }
+    } catch (TException | IOException e) {
+      // The connection is out of sync or broken, the client fails its pending requests.
+      if (!(e instanceof SocketException) || !socket.isClosed()) {
+        LOG.warn("{} failed to serve a multiplexed RPC request from {}: {}", mName,
+            socket.getRemoteSocketAddress(), e.getMessage());
+      }
+      closeQuietly(socket);
+    }
+  }
+
+  private void closeQuietly(Socket socket) {
+    try {
+      socket.close();
+    } catch (IOException e) {
+      LOG.debug("{} failed to close a multiplexed RPC connection", mName, e);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.audit;
+
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
+import alluxio.master.audit.AuditRingBufferTest.TestContext;
+import alluxio.metrics.MetricsSystem;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+
+import com.codahale.metrics.Counter;
+import com.google.common.base.Function;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Unit tests for {@link AsyncUserAccessAuditLogWriter}.
+ */
+public final class AsyncUserAccessAuditLogWriterTest {
+  @Rule
+  public TemporaryFolder mFolder = new TemporaryFolder();
+
+  @Test
+  public void writeFile() throws Exception {
+    writeEntries(false);
+  }
+
+  @Test
+  public void writeCompressedFile() throws Exception {
+    writeEntries(true);
+  }
+
+  @Test
+  public void dropWhenFull() throws Exception {
+    try (Closeable r = new ConfigurationRule(new HashMap<PropertyKey, String>() {
+      {
+        put(PropertyKey.MASTER_AUDIT_LOGGING_QUEUE_CAPACITY, "1");
+        put(PropertyKey.MASTER_AUDIT_LOGGING_QUEUE_FULL_POLICY, "DROP");
+      }
+    }).toResource()) {
+      // The writer is not started, so nothing drains the queue.
+      AsyncUserAccessAuditLogWriter writer = new AsyncUserAccessAuditLogWriter();
+      Assert.assertTrue(writer.append(new TestContext(0)));
+      Assert.assertFalse(writer.append(new TestContext(1)));
+    }
+  }
+
+  @Test
+  public void wakeUpIdleWriter() throws Exception {
+    final File file = new File(mFolder.getRoot(), "audit.log");
+    try (Closeable r = new ConfigurationRule(new HashMap<PropertyKey, String>() {
+      {
+        put(PropertyKey.MASTER_AUDIT_LOGGING_OUTPUT, "FILE");
+        put(PropertyKey.MASTER_AUDIT_LOGGING_FILE, file.getPath());
+      }
+    }).toResource()) {
+      final Counter written = MetricsSystem.masterCounter("AuditLogEntriesWritten");
+      AsyncUserAccessAuditLogWriter writer = new AsyncUserAccessAuditLogWriter();
+      writer.start();
+      try {
+        for (int i = 0; i < 3; i++) {
+          // Give the logging thread time to find the buffer empty and park.
+          Thread.sleep(50);
+          final long expected = written.getCount() + 1;
+          Assert.assertTrue(writer.append(new TestContext(i)));
+          CommonUtils.waitFor("the entry to be written", new Function<Void, Boolean>() {
+            @Override
+            public Boolean apply(Void input) {
+              return written.getCount() == expected;
+            }
+          }, WaitForOptions.defaults().setTimeoutMs(10000));
+        }
+      } finally {
+        writer.stop();
+      }
+    }
+  }
+
+  private void writeEntries(final boolean compressed) throws Exception {
+    final File file = new File(mFolder.getRoot(), "audit.log");
+    try (Closeable r = new ConfigurationRule(new HashMap<PropertyKey, String>() {
+      {
+        put(PropertyKey.MASTER_AUDIT_LOGGING_OUTPUT, "FILE");
+        put(PropertyKey.MASTER_AUDIT_LOGGING_FILE, file.getPath());
+        put(PropertyKey.MASTER_AUDIT_LOGGING_FILE_COMPRESSED, Boolean.toString(compressed));
+        put(PropertyKey.MASTER_AUDIT_LOGGING_QUEUE_CAPACITY, "16");
+      }
+    }).toResource()) {
+      AsyncUserAccessAuditLogWriter writer = new AsyncUserAccessAuditLogWriter();
+      writer.start();
+      int entries = 1000;
+      for (int i = 0; i < entries; i++) {
+        Assert.assertTrue(writer.append(new TestContext(i)));
+      }
+      writer.stop();
+
+      List<String> lines = readLines(file, compressed);
+      Assert.assertEquals(entries, lines.size());
+      for (int i = 0; i < entries; i++) {
+        Assert.assertTrue(lines.get(i), lines.get(i).endsWith(" id=" + i));
+      }
+    }
+  }
+
+  private static List<String> readLines(File file, boolean compressed) throws Exception {
+    List<String> lines = new ArrayList<>();
+    InputStream in = new FileInputStream(file);
+    if (compressed) {
+      in = new GZIPInputStream(in);
+    }
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.audit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link AuditRingBuffer}.
+ */
+public final class AuditRingBufferTest {
+  @Test
+  public void capacityRoundedUp() {
+    Assert.assertEquals(8, new AuditRingBuffer(5).capacity());
+    Assert.assertEquals(8, new AuditRingBuffer(8).capacity());
+  }
+
+  @Test
+  public void offerUntilFull() {
+    AuditRingBuffer buffer = new AuditRingBuffer(2);
+    Assert.assertTrue(buffer.offer(new TestContext(0)));
+    Assert.assertTrue(buffer.offer(new TestContext(1)));
+    Assert.assertFalse(buffer.offer(new TestContext(2)));
+    Assert.assertEquals(2, buffer.size());
+
+    List<AuditContext> batch = new ArrayList<>();
+    Assert.assertEquals(1, buffer.drainTo(batch, 1));
+    Assert.assertTrue(buffer.offer(new TestContext(2)));
+    Assert.assertEquals(2, buffer.drainTo(batch, 10));
+    Assert.assertEquals(3, batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      Assert.assertEquals(i, ((TestContext) batch.get(i)).mId);
+    }
+    Assert.assertEquals(0, buffer.size());
+  }
+
+  /**
+   * Tests that the contexts of concurrent producers are all consumed, in order per producer.
+   */
+  @Test
+  public void concurrentProducers() throws Exception {
+    final int producers = 4;
+    final int perProducer = 10000;
+    final AuditRingBuffer buffer = new AuditRingBuffer(64);
+    List<Thread> threads = new ArrayList<>();
+    for (int p = 0; p < producers; p++) {
+      final int producer = p;
+      Thread thread = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          for (int i = 0; i < perProducer; i++) {
+            TestContext context = new TestContext(producer * perProducer + i);
+            while (!buffer.offer(context)) {
+              Thread.yield();
+            }
+          }
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    int[] next = new int[producers];
+    List<AuditContext> batch = new ArrayList<>();
+    int consumed = 0;
+    while (consumed < producers * perProducer) {
+      batch.clear();
+      buffer.drainTo(batch, 16);
+      for (AuditContext context : batch) {
+        int id = ((TestContext) context).mId;
+        int producer = id / perProducer;
+        Assert.assertEquals(next[producer], id % perProducer);
+        next[producer]++;
+      }
+      consumed += batch.size();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertEquals(0, buffer.size());
+  }
+
+  /**
+   * An audit context identified by a number.
+   */
+  static final class TestContext implements AuditContext {
+    private final int mId;
+
+    TestContext(int id) {
+      mId = id;
+    }
+
+    @Override
+    public AuditContext setAllowed(boolean allowed) {
+      return this;
+    }
+
+    @Override
+    public AuditContext setSucceeded(boolean succeeded) {
+      return this;
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public String toString() {
+      return "id=" + mId;
+    }
+  }
+}
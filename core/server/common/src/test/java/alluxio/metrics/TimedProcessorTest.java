@@ -0,0 +1,88 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics;
+
+import alluxio.thrift.AlluxioService;
+import alluxio.thrift.GetServiceVersionTOptions;
+import alluxio.thrift.GetServiceVersionTResponse;
+
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.collect.ImmutableSet;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TMessageType;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link TimedProcessor}.
+ */
+public final class TimedProcessorTest {
+  private static final String SERVICE = "Service";
+
+  private MetricRegistry mRegistry;
+  private TimedProcessor mProcessor;
+
+  @Before
+  public void before() throws Exception {
+    AlluxioService.Iface handler = Mockito.mock(AlluxioService.Iface.class);
+    Mockito.when(handler.getServiceVersion(Matchers.any(GetServiceVersionTOptions.class)))
+        .thenReturn(new GetServiceVersionTResponse(1));
+    mRegistry = new MetricRegistry();
+    mProcessor = new TimedProcessor(SERVICE, new AlluxioService.Processor<>(handler),
+        mRegistry::timer);
+  }
+
+  /**
+   * Tests that the calls to a served method are recorded in the timer of the method.
+   */
+  @Test
+  public void servedMethod() throws Exception {
+    call("getServiceVersion");
+    call("getServiceVersion");
+
+    String name = TimedProcessor.getMetricName(SERVICE, "getServiceVersion");
+    Assert.assertEquals(ImmutableSet.of(name), mRegistry.getTimers().keySet());
+    Assert.assertEquals(2, mRegistry.timer(name).getCount());
+  }
+
+  /**
+   * Tests that the calls to methods which are not served share a single timer.
+   */
+  @Test
+  public void unknownMethods() throws Exception {
+    call("noSuchMethod");
+    call("anotherMethod");
+
+    String name = TimedProcessor.getMetricName(SERVICE, TimedProcessor.UNKNOWN_METHOD);
+    Assert.assertEquals(ImmutableSet.of(name), mRegistry.getTimers().keySet());
+    Assert.assertEquals(2, mRegistry.timer(name).getCount());
+  }
+
+  /**
+   * Sends a call of the given method to the processor.
+   *
+   * @param method the name of the method
+   */
+  private void call(String method) throws Exception {
+    TProtocol in = new TBinaryProtocol(new TMemoryBuffer(1024));
+    in.writeMessageBegin(new TMessage(method, TMessageType.CALL, 1));
+    new AlluxioService.getServiceVersion_args(new GetServiceVersionTOptions()).write(in);
+    in.writeMessageEnd();
+    mProcessor.process(in, new TBinaryProtocol(new TMemoryBuffer(1024)));
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.metrics.sink;
+
+import alluxio.metrics.HistogramReservoir;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for {@link PrometheusMetricsServlet}.
+ */
+public final class PrometheusMetricsServletTest {
+
+  /**
+   * Tests the conversion of metric names.
+   */
+  @Test
+  public void sanitize() {
+    Assert.assertEquals("master_GetStatusOps",
+        PrometheusMetricsServlet.sanitize("master.GetStatusOps"));
+    Assert.assertEquals("worker_host_1_BytesReadUfs_UFS:_tmp",
+        PrometheusMetricsServlet.sanitize("worker.host_1.BytesReadUfs-UFS:/tmp"));
+    Assert.assertEquals("_192_168_1_4", PrometheusMetricsServlet.sanitize("192.168.1.4"));
+  }
+
+  /**
+   * Tests the text exposition of the different types of metrics.
+   */
+  @Test
+  public void writeMetrics() throws Exception {
+    MetricRegistry registry = new MetricRegistry();
+    registry.counter("master.CreateFileOps").inc(3);
+    registry.register("master.Workers", new Gauge<Integer>() {
+      @Override
+      public Integer getValue() {
+        return 2;
+      }
+    });
+    registry.meter("worker.h.Requests").mark(5);
+    Timer timer = registry.register("master.RpcLatency.Service.method",
+        new Timer(new HistogramReservoir()));
+    timer.update(2, TimeUnit.SECONDS);
+
+    StringWriter writer = new StringWriter();
+    new PrometheusMetricsServlet(registry).writeMetrics(writer);
+    String output = writer.toString();
+
+    Assert.assertTrue(output.contains("# TYPE master_Workers gauge\nmaster_Workers 2\n"));
+    Assert.assertTrue(
+        output.contains("# TYPE master_CreateFileOps gauge\nmaster_CreateFileOps 3\n"));
+    Assert.assertTrue(
+        output.contains("# TYPE worker_h_Requests_total counter\nworker_h_Requests_total 5\n"));
+    Assert.assertTrue(output.contains("# TYPE master_RpcLatency_Service_method_seconds summary\n"));
+    Assert.assertTrue(output.contains("master_RpcLatency_Service_method_seconds_count 1\n"));
+    Assert.assertEquals(2.0, parseSample(output, "master_RpcLatency_Service_method_seconds_sum "),
+        0.05);
+    Assert.assertEquals(2.0,
+        parseSample(output, "master_RpcLatency_Service_method_seconds{quantile=\"0.99\"} "), 0.05);
+  }
+
+  private static double parseSample(String output, String prefix) {
+    int start = output.indexOf(prefix) + prefix.length();
+    return Double.parseDouble(output.substring(start, output.indexOf('\n', start)));
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.network.thrift;
+
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
+import alluxio.security.authentication.AuthenticatedClientUser;
+import alluxio.thrift.AlluxioService;
+import alluxio.thrift.GetServiceVersionTOptions;
+import alluxio.thrift.GetServiceVersionTResponse;
+
+import com.google.common.collect.ImmutableMap;
+import org.apache.thrift.TMultiplexedProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TMultiplexedProtocol;
+import org.apache.thrift.transport.TTransport;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for {@link MultiplexedThriftServer} together with {@link MultiplexedTransport}.
+ */
+public final class MultiplexedThriftServerTest {
+  private static final String SERVICE_NAME = "TestService";
+
+  @Rule
+  public ConfigurationRule mConfiguration = new ConfigurationRule(ImmutableMap.of(
+      PropertyKey.SECURITY_AUTHENTICATION_TYPE, "SIMPLE",
+      PropertyKey.SECURITY_AUTHENTICATION_SOCKET_TIMEOUT_MS, "10sec",
+      PropertyKey.USER_MASTER_CLIENT_MULTIPLEXED_CONNECTIONS, "1"));
+
+  private final AtomicInteger mCalls = new AtomicInteger();
+  private final List<String> mUsers = new ArrayList<>();
+  private volatile CountDownLatch mSecondCall;
+  private MultiplexedThriftServer mServer;
+  private MultiplexedConnectionPool mPool;
+
+  @Before
+  public void before() throws Exception {
+    AlluxioService.Iface handler = options -> new GetServiceVersionTResponse(handleCall());
+    TMultiplexedProcessor processor = new TMultiplexedProcessor();
+    processor.registerProcessor(SERVICE_NAME, new AlluxioService.Processor<>(handler));
+    mServer = new MultiplexedThriftServer("test", new InetSocketAddress("localhost", 0),
+        processor, 4);
+    mServer.start();
+    mPool = new MultiplexedConnectionPool();
+  }
+
+  @After
+  public void after() throws Exception {
+    mPool.close();
+    mServer.close();
+  }
+
+  @Test
+  public void call() throws Exception {
+    AlluxioService.Client client = openClient("alice");
+    Assert.assertEquals(1,
+        client.getServiceVersion(new GetServiceVersionTOptions()).getVersion());
+    Assert.assertEquals(2,
+        client.getServiceVersion(new GetServiceVersionTOptions()).getVersion());
+    Assert.assertEquals(2, mUsers.size());
+    Assert.assertEquals("alice", mUsers.get(0));
+  }
+
+  @Test
+  public void outOfOrderResponses() throws Exception {
+    mSecondCall = new CountDownLatch(1);
+    AlluxioService.Client first = openClient("alice");
+    AlluxioService.Client second = openClient("alice");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Long> firstVersion = executor
+          .submit(() -> first.getServiceVersion(new GetServiceVersionTOptions()).getVersion());
+      while (mCalls.get() == 0) {
+        Thread.sleep(1);
+      }
+      // The first call is still pending on the shared connection.
+      Assert.assertEquals(2,
+          second.getServiceVersion(new GetServiceVersionTOptions()).getVersion());
+      Assert.assertEquals(1L, (long) firstVersion.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void concurrentCallsOfManyUsers() throws Exception {
+    int threads = 16;
+    int callsPerThread = 50;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        String user = "user" + (i % 2);
+        futures.add(executor.submit(() -> {
+          AlluxioService.Client client = openClient(user);
+          for (int j = 0; j < callsPerThread; j++) {
+            Assert.assertTrue(
+                client.getServiceVersion(new GetServiceVersionTOptions()).getVersion() > 0);
+          }
+          return null;
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(threads * callsPerThread, mCalls.get());
+    for (String user : mUsers) {
+      Assert.assertTrue(user, user.equals("user0") || user.equals("user1"));
+    }
+  }
+
+  @Test
+  public void failedConnectionIsReplaced() throws Exception {
+    AlluxioService.Client client = openClient("alice");
+    client.getServiceVersion(new GetServiceVersionTOptions());
+    InetSocketAddress address = new InetSocketAddress("localhost", mServer.getPort());
+    mPool.acquire(address, "alice", "noPassword", 10000).close();
+    Assert.assertEquals(2,
+        openClient("alice").getServiceVersion(new GetServiceVersionTOptions()).getVersion());
+  }
+
+  private int handleCall() {
+    try {
+      synchronized (mUsers) {
+        mUsers.add(AuthenticatedClientUser.getClientUser());
+      }
+      int call = mCalls.incrementAndGet();
+      CountDownLatch secondCall = mSecondCall;
+      if (secondCall != null) {
+        if (call == 1) {
+          // Only returns once the second call has been served on the same connection.
+          Assert.assertTrue(secondCall.await(10, TimeUnit.SECONDS));
+        } else {
+          secondCall.countDown();
+        }
+      }
+      return call;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private AlluxioService.Client openClient(String user) throws Exception {
+    TTransport transport = new MultiplexedTransport(mPool,
+        new InetSocketAddress("localhost", mServer.getPort()), user, "noPassword", 10000);
+    transport.open();
+    return new AlluxioService.Client(
+        new TMultiplexedProtocol(new TBinaryProtocol(transport), SERVICE_NAME));
+  }
+}
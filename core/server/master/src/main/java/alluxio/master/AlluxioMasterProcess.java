@@ -15,10 +15,15 @@ import alluxio.Configuration;
 import alluxio.Constants;
 import alluxio.PropertyKey;
 import alluxio.RuntimeConstants;
+import alluxio.ThriftServerUtils;
 import alluxio.master.journal.JournalSystem;
 import alluxio.master.journal.JournalSystem.Mode;
 import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.TimedProcessor;
 import alluxio.metrics.sink.MetricsServlet;
+import alluxio.metrics.sink.PrometheusMetricsServlet;
+import alluxio.network.ThriftServerType;
+import alluxio.network.thrift.MultiplexedThriftServer;
 import alluxio.security.authentication.TransportProvider;
 import alluxio.thrift.MetaMasterClientService;
 import alluxio.util.CommonUtils;
@@ -34,11 +39,8 @@ import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import org.apache.thrift.TMultiplexedProcessor;
 import org.apache.thrift.TProcessor;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.server.TThreadPoolServer.Args;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.thrift.transport.TTransportFactory;
 import org.slf4j.Logger;
@@ -67,8 +69,11 @@ public class AlluxioMasterProcess implements MasterProcess {
   /** The port for the RPC server. */
   private final int mPort;
 
+  /** The type of the thrift rpc server. */
+  private final ThriftServerType mThriftServerType;
+
   /** The socket for thrift rpc server. */
-  private TServerSocket mTServerSocket;
+  private TServerTransport mTServerSocket;
 
   /** The transport provider to create thrift server transport. */
   private final TransportProvider mTransportProvider;
@@ -80,6 +85,8 @@ public class AlluxioMasterProcess implements MasterProcess {
   private final InetSocketAddress mRpcConnectAddress;
 
   private final MetricsServlet mMetricsServlet = new MetricsServlet(MetricsSystem.METRIC_REGISTRY);
+  private final PrometheusMetricsServlet mPrometheusMetricsServlet =
+      new PrometheusMetricsServlet(MetricsSystem.METRIC_REGISTRY);
 
   /** The master registry. */
   private final MasterRegistry mRegistry;
@@ -90,6 +97,9 @@ public class AlluxioMasterProcess implements MasterProcess {
   /** The RPC server. */
   private TServer mThriftServer;
 
+  /** The RPC server for multiplexed connections, null unless enabled. */
+  private MultiplexedThriftServer mMultiplexedThriftServer;
+
   /** is true if the master is serving the RPC server. */
   private boolean mIsServing;
 
@@ -136,9 +146,12 @@ public class AlluxioMasterProcess implements MasterProcess {
       }
 
       mTransportProvider = TransportProvider.Factory.create();
-      mTServerSocket = new TServerSocket(NetworkAddressUtils.getBindAddress(ServiceType.MASTER_RPC),
+      mThriftServerType =
+          Configuration.getEnum(PropertyKey.MASTER_RPC_SERVER_TYPE, ThriftServerType.class);
+      mTServerSocket = ThriftServerUtils.createServerTransport(mThriftServerType,
+          NetworkAddressUtils.getBindAddress(ServiceType.MASTER_RPC),
           (int) Configuration.getMs(PropertyKey.MASTER_CONNECTION_TIMEOUT_MS));
-      mPort = NetworkAddressUtils.getThriftPort(mTServerSocket);
+      mPort = ThriftServerUtils.getPort(mTServerSocket);
       // reset master rpc port
       Configuration.set(PropertyKey.MASTER_RPC_PORT, Integer.toString(mPort));
       mRpcBindAddress = NetworkAddressUtils.getBindAddress(ServiceType.MASTER_RPC);
@@ -285,6 +298,7 @@ public class AlluxioMasterProcess implements MasterProcess {
     Configuration.set(PropertyKey.MASTER_WEB_PORT, Integer.toString(mWebServer.getLocalPort()));
     // Add the metrics servlet to the web server.
     mWebServer.addHandler(mMetricsServlet.getHandler());
+    mWebServer.addHandler(mPrometheusMetricsServlet.getHandler());
     // start web ui
     mWebServer.start();
   }
@@ -301,7 +315,8 @@ public class AlluxioMasterProcess implements MasterProcess {
 
   private void registerServices(TMultiplexedProcessor processor, Map<String, TProcessor> services) {
     for (Map.Entry<String, TProcessor> service : services.entrySet()) {
-      processor.registerProcessor(service.getKey(), service.getValue());
+      processor.registerProcessor(service.getKey(), new TimedProcessor(service.getKey(),
+          service.getValue(), MetricsSystem::masterHistogramTimer));
     }
   }
 
@@ -319,7 +334,9 @@ public class AlluxioMasterProcess implements MasterProcess {
     }
     // register meta services
     processor.registerProcessor(Constants.META_MASTER_SERVICE_NAME,
-        new MetaMasterClientService.Processor<>(new MetaMasterClientServiceHandler(this)));
+        new TimedProcessor(Constants.META_MASTER_SERVICE_NAME,
+            new MetaMasterClientService.Processor<>(new MetaMasterClientServiceHandler(this)),
+            MetricsSystem::masterHistogramTimer));
 
     // Return a TTransportFactory based on the authentication type
     TTransportFactory transportFactory;
@@ -334,18 +351,22 @@ public class AlluxioMasterProcess implements MasterProcess {
       if (mTServerSocket != null) {
         mTServerSocket.close();
       }
-      mTServerSocket = new TServerSocket(mRpcBindAddress,
+      mTServerSocket = ThriftServerUtils.createServerTransport(mThriftServerType, mRpcBindAddress,
           (int) Configuration.getMs(PropertyKey.MASTER_CONNECTION_TIMEOUT_MS));
     } catch (TTransportException e) {
       throw new RuntimeException(e);
     }
     // create master thrift service with the multiplexed processor.
-    Args args = new TThreadPoolServer.Args(mTServerSocket).maxWorkerThreads(mMaxWorkerThreads)
-        .minWorkerThreads(mMinWorkerThreads).processor(processor).transportFactory(transportFactory)
-        .protocolFactory(new TBinaryProtocol.Factory(true, true));
-
-    args.stopTimeoutVal = (int) Configuration.getMs(PropertyKey.MASTER_THRIFT_SHUTDOWN_TIMEOUT);
-    mThriftServer = new TThreadPoolServer(args);
+    mThriftServer = ThriftServerUtils.createServer(mThriftServerType, "master", mTServerSocket,
+        processor, transportFactory, mMinWorkerThreads, mMaxWorkerThreads,
+        Configuration.getInt(PropertyKey.MASTER_RPC_SERVER_SELECTOR_THREADS),
+        Configuration.getInt(PropertyKey.MASTER_RPC_SERVER_QUEUE_SIZE),
+        (int) (Configuration.getMs(PropertyKey.MASTER_THRIFT_SHUTDOWN_TIMEOUT)
+            / Constants.SECOND_MS));
+
+    if (Configuration.getBoolean(PropertyKey.MASTER_RPC_MULTIPLEXED_ENABLED)) {
+      startServingMultiplexedRPCServer(processor);
+    }
 
     // start thrift rpc server
     mIsServing = true;
@@ -354,6 +375,29 @@ public class AlluxioMasterProcess implements MasterProcess {
     mThriftServer.serve();
   }
 
+  /**
+   * Starts serving the master services on the multiplexed RPC port as well, resetting the port
+   * in case it was 0.
+   *
+   * @param processor the processor of the master services
+   */
+  private void startServingMultiplexedRPCServer(TProcessor processor) {
+    InetSocketAddress bindAddress = new InetSocketAddress(mRpcBindAddress.getAddress(),
+        Configuration.getInt(PropertyKey.MASTER_RPC_MULTIPLEXED_PORT));
+    try {
+      if (mMultiplexedThriftServer != null) {
+        mMultiplexedThriftServer.close();
+      }
+      mMultiplexedThriftServer =
+          new MultiplexedThriftServer("master", bindAddress, processor, mMaxWorkerThreads);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+    Configuration.set(PropertyKey.MASTER_RPC_MULTIPLEXED_PORT,
+        Integer.toString(mMultiplexedThriftServer.getPort()));
+    mMultiplexedThriftServer.start();
+  }
+
   /**
    * Stops serving, trying stop RPC server and web ui server and letting {@link MetricsSystem} stop
    * all the sinks.
@@ -367,6 +411,10 @@ public class AlluxioMasterProcess implements MasterProcess {
       mTServerSocket.close();
       mTServerSocket = null;
     }
+    if (mMultiplexedThriftServer != null) {
+      mMultiplexedThriftServer.close();
+      mMultiplexedThriftServer = null;
+    }
     if (mJvmPauseMonitor != null) {
       mJvmPauseMonitor.stop();
     }
@@ -0,0 +1,360 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.exception.AccessControlException;
+import alluxio.exception.status.CanceledException;
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.metrics.MetricsSystem;
+import alluxio.security.authentication.AuthenticatedClientUser;
+import alluxio.util.SecurityUtils;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Preconditions;
+
+import java.io.Closeable;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Admits master RPCs in a fair order across users.
+ *
+ * Every RPC is charged a cost, and at most a fixed total cost runs at the same time. RPCs which
+ * cannot run immediately wait in a per-user queue, and waiting RPCs are admitted using start-time
+ * fair queuing: each user accumulates virtual time proportional to the cost of the RPCs it
+ * submits, and the RPC with the smallest virtual start time is admitted first. A user issuing many
+ * or expensive RPCs therefore only delays its own RPCs. An RPC is rejected with a
+ * {@link ResourceExhaustedException} when its user already has too many RPCs waiting or when it
+ * waited longer than the queue timeout, which lets clients back off instead of piling up threads
+ * on the master.
+ */
+@ThreadSafe
+public final class FairRpcScheduler {
+  /** The user name used when the RPC is not associated with an authenticated user. */
+  private static final String ANONYMOUS_USER = "anonymous";
+
+  /** The maximum total cost of the RPCs running at the same time. */
+  private final int mCapacity;
+  /** The maximum number of RPCs waiting in a single user queue. */
+  private final int mMaxQueueSize;
+  private final long mQueueTimeoutMs;
+
+  @GuardedBy("this")
+  private final Map<String, UserQueue> mQueues = new HashMap<>();
+  @GuardedBy("this")
+  private final PriorityQueue<Ticket> mWaiting =
+      new PriorityQueue<>(11, new Comparator<Ticket>() {
+        @Override
+        public int compare(Ticket a, Ticket b) {
+          int result = Long.compare(a.mStartTag, b.mStartTag);
+          return result != 0 ? result : Long.compare(a.mSequence, b.mSequence);
+        }
+      });
+  /** The virtual start time of the most recently admitted RPC. */
+  @GuardedBy("this")
+  private long mVirtualTime;
+  @GuardedBy("this")
+  private long mSequence;
+  /** The total cost of the RPCs currently running. */
+  @GuardedBy("this")
+  private int mCostInUse;
+
+  /**
+   * Creates a {@link FairRpcScheduler} configured by the master RPC scheduler properties.
+   *
+   * @return the scheduler
+   */
+  public static FairRpcScheduler create() {
+    return new FairRpcScheduler(
+        Configuration.getInt(PropertyKey.MASTER_RPC_SCHEDULER_CONCURRENCY),
+        Configuration.getInt(PropertyKey.MASTER_RPC_SCHEDULER_QUEUE_SIZE),
+        Configuration.getMs(PropertyKey.MASTER_RPC_SCHEDULER_QUEUE_TIMEOUT));
+  }
+
+  /**
+   * Creates a new instance of {@link FairRpcScheduler}.
+   *
+   * @param capacity the maximum total cost of the RPCs running at the same time
+   * @param maxQueueSize the maximum number of RPCs of a single user waiting to be admitted
+   * @param queueTimeoutMs the maximum time an RPC waits to be admitted
+   */
+  public FairRpcScheduler(int capacity, int maxQueueSize, long queueTimeoutMs) {
+    Preconditions.checkArgument(capacity > 0, "capacity must be positive");
+    Preconditions.checkArgument(maxQueueSize >= 0, "maxQueueSize must be non-negative");
+    mCapacity = capacity;
+    mMaxQueueSize = maxQueueSize;
+    mQueueTimeoutMs = queueTimeoutMs;
+    MetricsSystem.registerGaugeIfAbsent(MetricsSystem.getMasterMetricName("RpcCostInUse"),
+        new Gauge<Integer>() {
+          @Override
+          public Integer getValue() {
+            return getCostInUse();
+          }
+        });
+  }
+
+  /**
+   * Waits until an RPC of the current client user with the given cost may run. The returned
+   * permit must be closed once the RPC completes.
+   *
+   * @param cost the cost of the RPC, capped to the capacity of the scheduler
+   * @return the permit to close when the RPC completes
+   */
+  public Permit acquire(int cost) throws ResourceExhaustedException, CanceledException {
+    return acquire(getClientUser(), cost);
+  }
+
+  /**
+   * Waits until an RPC of the given user with the given cost may run. The returned permit must be
+   * closed once the RPC completes.
+   *
+   * @param user the user issuing the RPC
+   * @param cost the cost of the RPC, capped to the capacity of the scheduler
+   * @return the permit to close when the RPC completes
+   */
+  public Permit acquire(String user, int cost)
+      throws ResourceExhaustedException, CanceledException {
+    int charged = Math.min(Math.max(cost, 1), mCapacity);
+    long startNs = System.nanoTime();
+    Ticket ticket;
+    UserQueue queue;
+    synchronized (this) {
+      queue = getOrCreateQueue(user);
+      long startTag = Math.max(mVirtualTime, queue.mLastFinishTag);
+      ticket = new Ticket(queue, charged, startTag, mSequence++);
+      if (mWaiting.isEmpty() && mCostInUse + charged <= mCapacity) {
+        queue.mLastFinishTag = startTag + charged;
+        admit(ticket);
+        return new Permit(ticket);
+      }
+      if (queue.mWaiting >= mMaxQueueSize) {
+        // The user is only charged for the RPCs which run, so rejected RPCs do not push its later
+        // RPCs further back
+        queue.mRejected.inc();
+        removeIfIdle(queue);
+        throw new ResourceExhaustedException(String.format(
+            "Too many RPCs of user %s are waiting on the master, retry later", user));
+      }
+      queue.mLastFinishTag = startTag + charged;
+      queue.mWaiting++;
+      mWaiting.add(ticket);
+    }
+    try {
+      ticket.mAdmitted.await(mQueueTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      if (!cancel(ticket)) {
+        throw new CanceledException("Interrupted while waiting for the RPC to be admitted", e);
+      }
+    }
+    if (!cancel(ticket)) {
+      queue.mRejected.inc();
+      throw new ResourceExhaustedException(String.format(
+          "RPC of user %s was not admitted within %dms, retry later", user,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNs)));
+    }
+    MetricsSystem.masterTimer("RpcQueueWaitTime")
+        .update(System.nanoTime() - startNs, TimeUnit.NANOSECONDS);
+    return new Permit(ticket);
+  }
+
+  /**
+   * @return the total cost of the RPCs currently running
+   */
+  public synchronized int getCostInUse() {
+    return mCostInUse;
+  }
+
+  /**
+   * @param user the user name
+   * @return the number of RPCs of the given user waiting to be admitted
+   */
+  public synchronized int getQueueLength(String user) {
+    UserQueue queue = mQueues.get(user);
+    return queue == null ? 0 : queue.mWaiting;
+  }
+
+  /**
+   * Removes a ticket which is still waiting from the queue, and gives its user back the virtual
+   * time charged for it.
+   *
+   * @param ticket the ticket
+   * @return true if the ticket had been admitted before it could be removed
+   */
+  private synchronized boolean cancel(Ticket ticket) {
+    if (ticket.mAdmitted.getCount() == 0) {
+      return true;
+    }
+    mWaiting.remove(ticket);
+    UserQueue queue = ticket.mQueue;
+    queue.mWaiting--;
+    queue.mLastFinishTag = Math.max(queue.mLastFinishTag - ticket.mCost, ticket.mStartTag);
+    removeIfIdle(queue);
+    return false;
+  }
+
+  private synchronized void release(Ticket ticket) {
+    mCostInUse -= ticket.mCost;
+    ticket.mQueue.mRunning--;
+    removeIfIdle(ticket.mQueue);
+    while (!mWaiting.isEmpty() && mCostInUse + mWaiting.peek().mCost <= mCapacity) {
+      Ticket next = mWaiting.poll();
+      next.mQueue.mWaiting--;
+      admit(next);
+    }
+    if (mWaiting.isEmpty()) {
+      // Without waiting RPCs, the virtual time left to the idle users no longer matters
+      Iterator<UserQueue> queues = mQueues.values().iterator();
+      while (queues.hasNext()) {
+        UserQueue queue = queues.next();
+        if (queue.mWaiting == 0 && queue.mRunning == 0) {
+          queues.remove();
+          removeMetrics(queue.mUser);
+        }
+      }
+    }
+  }
+
+  @GuardedBy("this")
+  private void admit(Ticket ticket) {
+    mCostInUse += ticket.mCost;
+    mVirtualTime = Math.max(mVirtualTime, ticket.mStartTag);
+    ticket.mQueue.mRunning++;
+    ticket.mQueue.mAdmitted.inc();
+    ticket.mAdmitted.countDown();
+  }
+
+  @GuardedBy("this")
+  private UserQueue getOrCreateQueue(final String user) {
+    UserQueue queue = mQueues.get(user);
+    if (queue == null) {
+      queue = new UserQueue(user);
+      mQueues.put(user, queue);
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getMasterMetricName("RpcQueueLength." + escape(user)),
+          new Gauge<Integer>() {
+            @Override
+            public Integer getValue() {
+              return getQueueLength(user);
+            }
+          });
+    }
+    return queue;
+  }
+
+  /**
+   * Forgets a user which has nothing running or waiting and no virtual time left to pay back, so
+   * that the map of queues and the metrics only hold active users.
+   */
+  @GuardedBy("this")
+  private void removeIfIdle(UserQueue queue) {
+    if (queue.mWaiting == 0 && queue.mRunning == 0 && queue.mLastFinishTag <= mVirtualTime) {
+      mQueues.remove(queue.mUser);
+      removeMetrics(queue.mUser);
+    }
+  }
+
+  /**
+   * Removes the metrics of a user whose queue was dropped, so that the metrics only cover the
+   * active users.
+   *
+   * @param user the user name
+   */
+  private static void removeMetrics(String user) {
+    for (String name : new String[] {"RpcQueueLength.", "RpcAdmitted.", "RpcRejected."}) {
+      MetricsSystem.METRIC_REGISTRY.remove(MetricsSystem.getMasterMetricName(name + escape(user)));
+    }
+  }
+
+  private static String getClientUser() {
+    if (!SecurityUtils.isAuthenticationEnabled()) {
+      return ANONYMOUS_USER;
+    }
+    try {
+      return AuthenticatedClientUser.getClientUser();
+    } catch (AccessControlException e) {
+      return ANONYMOUS_USER;
+    }
+  }
+
+  private static String escape(String user) {
+    return user.replace('.', '_');
+  }
+
+  /**
+   * The scheduling state of a single user.
+   */
+  private static final class UserQueue {
+    private final String mUser;
+    private final Counter mAdmitted;
+    private final Counter mRejected;
+    /** The virtual finish time of the latest RPC submitted by this user. */
+    private long mLastFinishTag;
+    private int mWaiting;
+    private int mRunning;
+
+    private UserQueue(String user) {
+      mUser = user;
+      mAdmitted = MetricsSystem.masterCounter("RpcAdmitted." + escape(user));
+      mRejected = MetricsSystem.masterCounter("RpcRejected." + escape(user));
+    }
+  }
+
+  /**
+   * A single RPC waiting for or holding capacity.
+   */
+  private static final class Ticket {
+    private final UserQueue mQueue;
+    private final int mCost;
+    private final long mStartTag;
+    private final long mSequence;
+    private final CountDownLatch mAdmitted = new CountDownLatch(1);
+
+    private Ticket(UserQueue queue, int cost, long startTag, long sequence) {
+      mQueue = queue;
+      mCost = cost;
+      mStartTag = startTag;
+      mSequence = sequence;
+    }
+  }
+
+  /**
+   * The right to run one RPC, returned to the scheduler when closed.
+   */
+  public final class Permit implements Closeable {
+    private final Ticket mTicket;
+    private boolean mClosed;
+
+    private Permit(Ticket ticket) {
+      mTicket = ticket;
+    }
+
+    @Override
+    public void close() {
+      if (!mClosed) {
+        mClosed = true;
+        release(mTicket);
+      }
+    }
+  }
+}
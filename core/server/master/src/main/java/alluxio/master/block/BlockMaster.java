@@ -162,4 +162,41 @@ public interface BlockMaster extends Master, ContainerIdGenerable {
    * @param blockIds the ids of the lost blocks
    */
   void reportLostBlocks(List<Long> blockIds);
+
+  /**
+   * Records the number of times blocks were read on a worker since its last heartbeat.
+   *
+   * @param workerId the worker id
+   * @param blockAccessCounts a mapping from block id to the number of accesses
+   */
+  void reportBlockAccessCounts(long workerId, Map<Long, Integer> blockAccessCounts);
+
+  /**
+   * Returns the number of accesses of each block across all workers since the previous call, and
+   * resets the counts.
+   *
+   * @return a mapping from block id to the number of accesses
+   */
+  Map<Long, Long> drainBlockAccessCounts();
+
+  /**
+   * Returns the block containers whose blocks were read the most. Reads are counted per container,
+   * and older reads weigh less than recent ones.
+   *
+   * @param limit the maximum number of containers to return
+   * @return a mapping from container id to the estimated number of recent reads, iterating in
+   *         decreasing order of reads
+   */
+  Map<Long, Long> getHotBlockContainers(int limit);
+
+  /**
+   * Schedules copies or removals of a block on workers, so that the block will eventually be
+   * stored on the given number of workers. Copies and removals which are already pending are
+   * taken into account, so calling this method repeatedly with the same number is a noop. Blocks
+   * which are not stored on any worker cannot be replicated.
+   *
+   * @param blockId the id of the block
+   * @param numReplicas the number of replicas to keep
+   */
+  void setBlockReplication(long blockId, int numReplicas);
 }
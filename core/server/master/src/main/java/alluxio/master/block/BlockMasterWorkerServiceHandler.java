@@ -65,11 +65,14 @@ public final class BlockMasterWorkerServiceHandler implements BlockMasterWorkerS
   @Override
   public BlockHeartbeatTResponse blockHeartbeat(final long workerId,
       final Map<String, Long> usedBytesOnTiers, final List<Long> removedBlockIds,
-      final Map<String, List<Long>> addedBlocksOnTiers, BlockHeartbeatTOptions options)
+      final Map<String, List<Long>> addedBlocksOnTiers, final BlockHeartbeatTOptions options)
       throws AlluxioTException {
     return RpcUtils.call(LOG, new RpcUtils.RpcCallable<BlockHeartbeatTResponse>() {
       @Override
       public BlockHeartbeatTResponse call() throws AlluxioException {
+        if (options != null && options.isSetBlockAccessCounts()) {
+          mBlockMaster.reportBlockAccessCounts(workerId, options.getBlockAccessCounts());
+        }
         return new BlockHeartbeatTResponse(mBlockMaster
             .workerHeartbeat(workerId, usedBytesOnTiers, removedBlockIds, addedBlocksOnTiers));
       }
@@ -21,6 +21,7 @@ import alluxio.clock.SystemClock;
 import alluxio.collections.ConcurrentHashSet;
 import alluxio.collections.IndexDefinition;
 import alluxio.collections.IndexedSet;
+import alluxio.collections.TopKCounter;
 import alluxio.exception.BlockInfoException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.NoWorkerException;
@@ -135,6 +136,25 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
       new ConcurrentHashMap<>(8192, 0.90f, 64);
   /** Keeps track of blocks which are no longer in Alluxio storage. */
   private final ConcurrentHashSet<Long> mLostBlocks = new ConcurrentHashSet<>(64, 0.90f, 64);
+  /** Number of reads of each block reported by workers since the counts were last drained. */
+  private final ConcurrentHashMap<Long, Long> mBlockAccessCounts =
+      new ConcurrentHashMap<>(64, 0.90f, 64);
+  /**
+   * Number of reads of the blocks of the most read block containers. The counts are halved every
+   * decay interval, so recent reads weigh more than old ones.
+   */
+  @GuardedBy("itself")
+  private final TopKCounter<Long> mContainerAccessCounts =
+      new TopKCounter<>(Configuration.getInt(PropertyKey.MASTER_HOT_FILE_TRACKING_CAPACITY));
+  /** The interval after which the container access counts are halved. */
+  private final long mAccessCountDecayIntervalMs =
+      Configuration.getMs(PropertyKey.MASTER_HOT_FILE_DECAY_INTERVAL_MS);
+  /** The time of the last decay of the container access counts. */
+  @GuardedBy("mContainerAccessCounts")
+  private long mLastAccessCountDecayMs;
+  /** How long a worker may take to copy a block before the copy is considered failed. */
+  private final long mReplicationCopyTimeoutMs =
+      Configuration.getMs(PropertyKey.MASTER_REPLICATION_COPY_TIMEOUT);
 
   /** This state must be journaled. */
   @GuardedBy("itself")
@@ -189,6 +209,7 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
       ExecutorServiceFactory executorServiceFactory) {
     super(journalSystem, clock, executorServiceFactory);
     mSafeModeManager = safeModeManager;
+    mLastAccessCountDecayMs = clock.millis();
     Metrics.registerGauges(this);
   }
 
@@ -233,6 +254,10 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
   @Override
   public void resetState() {
     mBlocks.clear();
+    mBlockAccessCounts.clear();
+    synchronized (mContainerAccessCounts) {
+      mContainerAccessCounts.clear();
+    }
     mJournaledNextContainerId = 0;
     mBlockContainerIdGenerator.setNextContainerId(0);
   }
@@ -652,10 +677,158 @@ public final class DefaultBlockMaster extends AbstractMaster implements BlockMas
       worker.updateLastUpdatedTimeMs();
 
       List<Long> toRemoveBlocks = worker.getToRemoveBlocks();
-      if (toRemoveBlocks.isEmpty()) {
-        return new Command(CommandType.Nothing, new ArrayList<Long>());
+      if (!toRemoveBlocks.isEmpty()) {
+        return new Command(CommandType.Free, toRemoveBlocks);
+      }
+      // Copies which neither completed nor were reported as added in time are given up, so that
+      // the next replication check can choose another worker.
+      long nowMs = mClock.millis();
+      for (long blockId : worker.expireToReplicateBlocks(nowMs - mReplicationCopyTimeoutMs,
+          nowMs)) {
+        LOG.warn("Worker {} did not copy block {} within {}ms", workerId, blockId,
+            mReplicationCopyTimeoutMs);
+      }
+      // Removals are acknowledged by the next heartbeat, so pending copies are only delayed by a
+      // single heartbeat when both are outstanding. Each copy is only sent once.
+      List<Long> toReplicateBlocks = new ArrayList<>();
+      for (long blockId : worker.pollToReplicateBlocks(nowMs)) {
+        if (mBlocks.containsKey(blockId)) {
+          toReplicateBlocks.add(blockId);
+        } else {
+          // The block was deleted after the copy was scheduled.
+          worker.updateToReplicateBlock(false, blockId);
+        }
+      }
+      if (!toReplicateBlocks.isEmpty()) {
+        return new Command(CommandType.Replicate, toReplicateBlocks);
+      }
+      return new Command(CommandType.Nothing, new ArrayList<Long>());
+    }
+  }
+
+  @Override
+  public void reportBlockAccessCounts(long workerId, Map<Long, Integer> blockAccessCounts) {
+    for (Map.Entry<Long, Integer> entry : blockAccessCounts.entrySet()) {
+      mBlockAccessCounts.merge(entry.getKey(), (long) entry.getValue(), Long::sum);
+    }
+    synchronized (mContainerAccessCounts) {
+      decayContainerAccessCounts();
+      for (Map.Entry<Long, Integer> entry : blockAccessCounts.entrySet()) {
+        if (entry.getValue() > 0) {
+          mContainerAccessCounts.add(BlockId.getContainerId(entry.getKey()), entry.getValue());
+        }
+      }
+    }
+  }
+
+  @Override
+  public Map<Long, Long> getHotBlockContainers(int limit) {
+    synchronized (mContainerAccessCounts) {
+      decayContainerAccessCounts();
+      return mContainerAccessCounts.getTopK(limit);
+    }
+  }
+
+  /**
+   * Halves the container access counts once for every decay interval elapsed since the last decay.
+   */
+  @GuardedBy("mContainerAccessCounts")
+  private void decayContainerAccessCounts() {
+    long periods = (mClock.millis() - mLastAccessCountDecayMs) / mAccessCountDecayIntervalMs;
+    if (periods <= 0) {
+      return;
+    }
+    mContainerAccessCounts.decay(Math.pow(0.5, Math.min(periods, Long.SIZE)));
+    mLastAccessCountDecayMs += periods * mAccessCountDecayIntervalMs;
+  }
+
+  @Override
+  public Map<Long, Long> drainBlockAccessCounts() {
+    Map<Long, Long> counts = new HashMap<>();
+    for (Long blockId : mBlockAccessCounts.keySet()) {
+      Long count = mBlockAccessCounts.remove(blockId);
+      if (count != null) {
+        counts.put(blockId, count);
+      }
+    }
+    return counts;
+  }
+
+  @Override
+  public void setBlockReplication(long blockId, int numReplicas) {
+    MasterBlockInfo block = mBlocks.get(blockId);
+    if (block == null) {
+      return;
+    }
+    Set<Long> holderIds;
+    long length;
+    synchronized (block) {
+      holderIds = new HashSet<>(block.getWorkers());
+      length = block.getLength();
+    }
+    if (holderIds.isEmpty()) {
+      // There is no worker to copy the block from.
+      return;
+    }
+
+    // Workers currently holding the block which are not already asked to remove it.
+    List<MasterWorkerInfo> holders = new ArrayList<>();
+    // Workers which are already asked to copy the block.
+    List<MasterWorkerInfo> pending = new ArrayList<>();
+    // Workers which could receive a copy of the block.
+    List<MasterWorkerInfo> candidates = new ArrayList<>();
+    final Map<Long, Long> availableBytes = new HashMap<>();
+    // Worker metadata is locked one at a time, and never while holding the block lock.
+    for (MasterWorkerInfo worker : mWorkers) {
+      synchronized (worker) {
+        if (!worker.isRegistered()) {
+          continue;
+        }
+        availableBytes.put(worker.getId(), worker.getAvailableBytes());
+        if (holderIds.contains(worker.getId())) {
+          if (!worker.isToRemoveBlock(blockId)) {
+            holders.add(worker);
+          }
+        } else if (worker.isToReplicateBlock(blockId)) {
+          pending.add(worker);
+        } else if (worker.getAvailableBytes() >= length
+            && !worker.isReplicateFailedBlock(blockId)) {
+          candidates.add(worker);
+        }
+      }
+    }
+    Comparator<MasterWorkerInfo> mostAvailableFirst =
+        (a, b) -> Long.compare(availableBytes.get(b.getId()), availableBytes.get(a.getId()));
+
+    int current = holders.size() + pending.size();
+    if (current < numReplicas) {
+      Collections.sort(candidates, mostAvailableFirst);
+      for (MasterWorkerInfo worker : candidates.subList(0,
+          Math.min(numReplicas - current, candidates.size()))) {
+        synchronized (worker) {
+          worker.updateToReplicateBlock(true, blockId);
+        }
+        LOG.debug("Scheduled a copy of block {} on worker {}", blockId, worker.getId());
+      }
+    } else if (current > numReplicas) {
+      int excess = current - numReplicas;
+      // Cancel copies which have not happened yet before removing existing replicas.
+      for (MasterWorkerInfo worker : pending) {
+        if (excess == 0) {
+          break;
+        }
+        synchronized (worker) {
+          worker.updateToReplicateBlock(false, blockId);
+        }
+        excess--;
+      }
+      Collections.sort(holders, mostAvailableFirst.reversed());
+      for (MasterWorkerInfo worker : holders.subList(0, Math.min(excess, holders.size()))) {
+        synchronized (worker) {
+          worker.updateToRemovedBlock(true, blockId);
+        }
+        LOG.debug("Scheduled removal of block {} on worker {}", blockId, worker.getId());
       }
-      return new Command(CommandType.Free, toRemoveBlocks);
     }
   }
 
@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -66,6 +67,13 @@ public final class MasterWorkerInfo {
   private Set<Long> mBlocks;
   /** ids of blocks the worker should remove. */
   private Set<Long> mToRemoveBlocks;
+  /**
+   * ids of blocks the worker should copy from other workers, mapped to the time the copy was sent
+   * to the worker, or 0 if it has not been sent yet.
+   */
+  private Map<Long, Long> mToReplicateBlocks;
+  /** ids of blocks the worker failed to copy, mapped to the time the copy was given up. */
+  private Map<Long, Long> mFailedReplicateBlocks;
 
   /**
    * Creates a new instance of {@link MasterWorkerInfo}.
@@ -84,6 +92,8 @@ public final class MasterWorkerInfo {
     mUsedBytesOnTiers = new HashMap<>();
     mBlocks = new HashSet<>();
     mToRemoveBlocks = new HashSet<>();
+    mToReplicateBlocks = new HashMap<>();
+    mFailedReplicateBlocks = new HashMap<>();
   }
 
   /**
@@ -159,6 +169,8 @@ public final class MasterWorkerInfo {
    */
   public void addBlock(long blockId) {
     mBlocks.add(blockId);
+    mToReplicateBlocks.remove(blockId);
+    mFailedReplicateBlocks.remove(blockId);
   }
 
   /**
@@ -233,6 +245,84 @@ public final class MasterWorkerInfo {
     return new ArrayList<>(mToRemoveBlocks);
   }
 
+  /**
+   * @return ids of blocks the worker should copy from other workers
+   */
+  public List<Long> getToReplicateBlocks() {
+    return new ArrayList<>(mToReplicateBlocks.keySet());
+  }
+
+  /**
+   * Returns the blocks the worker should copy which have not been sent to it yet, and marks them
+   * as sent.
+   *
+   * @param nowMs the current time in milliseconds
+   * @return ids of blocks the worker has not been asked to copy yet
+   */
+  public List<Long> pollToReplicateBlocks(long nowMs) {
+    List<Long> blockIds = new ArrayList<>();
+    for (Map.Entry<Long, Long> entry : mToReplicateBlocks.entrySet()) {
+      if (entry.getValue() == 0) {
+        blockIds.add(entry.getKey());
+        entry.setValue(nowMs);
+      }
+    }
+    return blockIds;
+  }
+
+  /**
+   * Gives up on copies which were sent to the worker before the given time, so that the blocks
+   * can be copied to other workers instead. Failed copies older than the given time are
+   * forgotten, so that the worker may be asked to copy those blocks again.
+   *
+   * @param sentBeforeMs the time before which copies are considered failed
+   * @param nowMs the current time in milliseconds
+   * @return ids of blocks whose copies were given up
+   */
+  public List<Long> expireToReplicateBlocks(long sentBeforeMs, long nowMs) {
+    Iterator<Map.Entry<Long, Long>> failed = mFailedReplicateBlocks.entrySet().iterator();
+    while (failed.hasNext()) {
+      if (failed.next().getValue() < sentBeforeMs) {
+        failed.remove();
+      }
+    }
+    List<Long> expired = new ArrayList<>();
+    Iterator<Map.Entry<Long, Long>> pending = mToReplicateBlocks.entrySet().iterator();
+    while (pending.hasNext()) {
+      Map.Entry<Long, Long> entry = pending.next();
+      if (entry.getValue() != 0 && entry.getValue() < sentBeforeMs) {
+        pending.remove();
+        mFailedReplicateBlocks.put(entry.getKey(), nowMs);
+        expired.add(entry.getKey());
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @return whether the worker has been asked to remove the block
+   */
+  public boolean isToRemoveBlock(long blockId) {
+    return mToRemoveBlocks.contains(blockId);
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @return whether the worker has been asked to copy the block
+   */
+  public boolean isToReplicateBlock(long blockId) {
+    return mToReplicateBlocks.containsKey(blockId);
+  }
+
+  /**
+   * @param blockId the id of the block
+   * @return whether the worker recently failed to copy the block
+   */
+  public boolean isReplicateFailedBlock(long blockId) {
+    return mFailedReplicateBlocks.containsKey(blockId);
+  }
+
   /**
    * @return used space of the worker in bytes
    */
@@ -317,6 +407,22 @@ public final class MasterWorkerInfo {
     }
   }
 
+  /**
+   * Adds or removes a block from the to-be-replicated blocks set of the worker.
+   *
+   * @param add true if to add, to remove otherwise
+   * @param blockId the id of the block to be added or removed
+   */
+  public void updateToReplicateBlock(boolean add, long blockId) {
+    if (add) {
+      if (!mBlocks.contains(blockId) && !mToReplicateBlocks.containsKey(blockId)) {
+        mToReplicateBlocks.put(blockId, 0L);
+      }
+    } else {
+      mToReplicateBlocks.remove(blockId);
+    }
+  }
+
   /**
    * Sets the used space of the worker in bytes.
    *
@@ -0,0 +1,183 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+import alluxio.master.file.options.CompleteFileOptions;
+import alluxio.master.file.options.CreateFileOptions;
+import alluxio.master.file.options.DeleteOptions;
+import alluxio.master.file.options.SetAttributeOptions;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A single metadata mutation applied through {@link FileSystemMaster#applyBatch(java.util.List)}.
+ */
+@ThreadSafe
+public final class BatchOperation {
+  /**
+   * The type of a batch operation.
+   */
+  public enum Type {
+    CREATE_FILE,
+    COMPLETE_FILE,
+    DELETE,
+    SET_ATTRIBUTE,
+  }
+
+  private final Type mType;
+  private final AlluxioURI mPath;
+  private final Object mOptions;
+
+  /**
+   * @param path the path of the file to create
+   * @param options the method options
+   * @return a batch operation which creates a file
+   */
+  public static BatchOperation createFile(AlluxioURI path, CreateFileOptions options) {
+    return new BatchOperation(Type.CREATE_FILE, path, options);
+  }
+
+  /**
+   * @param path the path of the file to complete
+   * @param options the method options
+   * @return a batch operation which completes a file
+   */
+  public static BatchOperation completeFile(AlluxioURI path, CompleteFileOptions options) {
+    return new BatchOperation(Type.COMPLETE_FILE, path, options);
+  }
+
+  /**
+   * @param path the path to delete
+   * @param options the method options
+   * @return a batch operation which deletes a path
+   */
+  public static BatchOperation delete(AlluxioURI path, DeleteOptions options) {
+    return new BatchOperation(Type.DELETE, path, options);
+  }
+
+  /**
+   * @param path the path to set attributes for
+   * @param options the method options
+   * @return a batch operation which sets the attributes of a path
+   */
+  public static BatchOperation setAttribute(AlluxioURI path, SetAttributeOptions options) {
+    return new BatchOperation(Type.SET_ATTRIBUTE, path, options);
+  }
+
+  /**
+   * Creates a new instance of {@link BatchOperation} from its Thrift representation.
+   *
+   * @param operation Thrift batch operation
+   * @return the batch operation
+   */
+  public static BatchOperation fromThrift(alluxio.thrift.BatchOperation operation) {
+    Preconditions.checkNotNull(operation.getType(), "type");
+    AlluxioURI path = new AlluxioURI(operation.getPath());
+    switch (operation.getType()) {
+      case CreateFile:
+        return createFile(path, new CreateFileOptions(operation.getCreateFileOptions()));
+      case CompleteFile:
+        return completeFile(path, new CompleteFileOptions(operation.getCompleteFileOptions()));
+      case Delete:
+        return delete(path, new DeleteOptions(operation.getDeleteOptions()));
+      case SetAttribute:
+        return setAttribute(path, new SetAttributeOptions(operation.getSetAttributeOptions()));
+      default:
+        throw new IllegalArgumentException(
+            "Unrecognized batch operation type: " + operation.getType());
+    }
+  }
+
+  private BatchOperation(Type type, AlluxioURI path, Object options) {
+    mType = Preconditions.checkNotNull(type, "type");
+    mPath = Preconditions.checkNotNull(path, "path");
+    mOptions = Preconditions.checkNotNull(options, "options");
+  }
+
+  /**
+   * @return the type of the operation
+   */
+  public Type getType() {
+    return mType;
+  }
+
+  /**
+   * @return the path the operation applies to
+   */
+  public AlluxioURI getPath() {
+    return mPath;
+  }
+
+  /**
+   * @return the options of a {@link Type#CREATE_FILE} operation
+   */
+  public CreateFileOptions getCreateFileOptions() {
+    Preconditions.checkState(mType == Type.CREATE_FILE);
+    return (CreateFileOptions) mOptions;
+  }
+
+  /**
+   * @return the options of a {@link Type#COMPLETE_FILE} operation
+   */
+  public CompleteFileOptions getCompleteFileOptions() {
+    Preconditions.checkState(mType == Type.COMPLETE_FILE);
+    return (CompleteFileOptions) mOptions;
+  }
+
+  /**
+   * @return the options of a {@link Type#DELETE} operation
+   */
+  public DeleteOptions getDeleteOptions() {
+    Preconditions.checkState(mType == Type.DELETE);
+    return (DeleteOptions) mOptions;
+  }
+
+  /**
+   * @return the options of a {@link Type#SET_ATTRIBUTE} operation
+   */
+  public SetAttributeOptions getSetAttributeOptions() {
+    Preconditions.checkState(mType == Type.SET_ATTRIBUTE);
+    return (SetAttributeOptions) mOptions;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BatchOperation)) {
+      return false;
+    }
+    BatchOperation that = (BatchOperation) o;
+    return Objects.equal(mType, that.mType)
+        && Objects.equal(mPath, that.mPath)
+        && Objects.equal(mOptions, that.mOptions);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(mType, mPath, mOptions);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+        .add("type", mType)
+        .add("path", mPath)
+        .add("options", mOptions)
+        .toString();
+  }
+}
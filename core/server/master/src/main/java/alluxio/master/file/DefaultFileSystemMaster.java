@@ -32,6 +32,7 @@ import alluxio.exception.InvalidPathException;
 import alluxio.exception.PreconditionMessage;
 import alluxio.exception.UnexpectedAlluxioException;
 import alluxio.exception.status.FailedPreconditionException;
+import alluxio.exception.status.InvalidArgumentException;
 import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.PermissionDeniedException;
 import alluxio.exception.status.UnavailableException;
@@ -61,6 +62,7 @@ import alluxio.master.file.meta.TempInodePathForDescendant;
 import alluxio.master.file.meta.TtlBucketList;
 import alluxio.master.file.meta.UfsAbsentPathCache;
 import alluxio.master.file.meta.UfsBlockLocationCache;
+import alluxio.master.file.meta.UfsStatusCache;
 import alluxio.master.file.meta.UfsSyncPathCache;
 import alluxio.master.file.meta.UfsSyncUtils;
 import alluxio.master.file.meta.options.MountInfo;
@@ -102,6 +104,8 @@ import alluxio.thrift.CommandType;
 import alluxio.thrift.FileSystemCommand;
 import alluxio.thrift.FileSystemCommandOptions;
 import alluxio.thrift.FileSystemMasterWorkerService;
+import alluxio.thrift.LoadBlock;
+import alluxio.thrift.LoadCommandOptions;
 import alluxio.thrift.MountTOptions;
 import alluxio.thrift.PersistCommandOptions;
 import alluxio.thrift.PersistFile;
@@ -125,6 +129,8 @@ import alluxio.wire.BlockLocation;
 import alluxio.wire.CommonOptions;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
+import alluxio.wire.HotFileInfo;
+import alluxio.wire.LoadInfo;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.MountPointInfo;
 import alluxio.wire.TtlAction;
@@ -303,6 +309,9 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   /** The handler for async persistence. */
   private final AsyncPersistHandler mAsyncPersistHandler;
 
+  /** The manager of distributed loads. */
+  private final DistributedLoadManager mDistributedLoadManager;
+
   /** The manager of all ufs. */
   private final UfsManager mUfsManager;
 
@@ -315,6 +324,9 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   /** This caches paths which have been synced with UFS. */
   private final UfsSyncPathCache mUfsSyncPathCache;
 
+  /** This caches the statuses and listings of UFS paths. */
+  private final UfsStatusCache mUfsStatusCache;
+
   /**
    * The service that checks for inode files with ttl set. We store it here so that it can be
    * accessed from tests.
@@ -328,6 +340,20 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   @SuppressFBWarnings("URF_UNREAD_FIELD")
   private Future<?> mLostFilesDetectionService;
 
+  /**
+   * The service that adjusts the number of block replicas. We store it here so that it can be
+   * accessed from tests.
+   */
+  @SuppressFBWarnings("URF_UNREAD_FIELD")
+  private Future<?> mReplicationCheckService;
+
+  /**
+   * The service that reassigns the timed out blocks of distributed loads. We store it here so
+   * that it can be accessed from tests.
+   */
+  @SuppressFBWarnings("URF_UNREAD_FIELD")
+  private Future<?> mLoadCheckService;
+
   private Future<List<AlluxioURI>> mStartupConsistencyCheck;
 
   /**
@@ -343,7 +369,7 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
    */
   DefaultFileSystemMaster(BlockMaster blockMaster, JournalSystem journalSystem) {
     this(blockMaster, journalSystem, ExecutorServiceFactories
-        .fixedThreadPoolExecutorServiceFactory(Constants.FILE_SYSTEM_MASTER_NAME, 3));
+        .fixedThreadPoolExecutorServiceFactory(Constants.FILE_SYSTEM_MASTER_NAME, 4));
   }
 
   /**
@@ -368,10 +394,12 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     mWhitelist = new PrefixList(Configuration.getList(PropertyKey.MASTER_WHITELIST, ","));
 
     mAsyncPersistHandler = AsyncPersistHandler.Factory.create(new FileSystemMasterView(this));
+    mDistributedLoadManager = new DistributedLoadManager(mBlockMaster);
     mPermissionChecker = new PermissionChecker(mInodeTree);
     mUfsAbsentPathCache = UfsAbsentPathCache.Factory.create(mMountTable);
     mUfsBlockLocationCache = UfsBlockLocationCache.Factory.create(mMountTable);
     mUfsSyncPathCache = new UfsSyncPathCache();
+    mUfsStatusCache = new UfsStatusCache();
 
     resetState();
     Metrics.registerGauges(this, mUfsManager);
@@ -485,6 +513,7 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   @Override
   public void resetState() {
     mInodeTree.reset();
+    mPermissionChecker.invalidateTraverseCache();
     String rootUfsUri = Configuration.get(PropertyKey.MASTER_MOUNT_TABLE_ROOT_UFS);
     Map<String, String> rootUfsConf =
         Configuration.getNestedProperties(PropertyKey.MASTER_MOUNT_TABLE_ROOT_OPTION);
@@ -552,6 +581,13 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
           new HeartbeatThread(HeartbeatContext.MASTER_LOST_FILES_DETECTION,
               new LostFileDetector(this, mInodeTree),
               (int) Configuration.getMs(PropertyKey.MASTER_HEARTBEAT_INTERVAL_MS)));
+      mReplicationCheckService = getExecutorService().submit(
+          new HeartbeatThread(HeartbeatContext.MASTER_REPLICATION_CHECK,
+              new ReplicationChecker(mInodeTree, mBlockMaster),
+              (int) Configuration.getMs(PropertyKey.MASTER_REPLICATION_CHECK_INTERVAL_MS)));
+      mLoadCheckService = getExecutorService().submit(
+          new HeartbeatThread(HeartbeatContext.MASTER_LOAD_CHECK, mDistributedLoadManager,
+              (int) Configuration.getMs(PropertyKey.MASTER_HEARTBEAT_INTERVAL_MS)));
       if (Configuration.getBoolean(PropertyKey.MASTER_STARTUP_CONSISTENCY_CHECK_ENABLED)) {
         mStartupConsistencyCheck = getExecutorService().submit(() -> startupCheckConsistency(
             ExecutorServiceFactories
@@ -758,6 +794,10 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       // otherwise load metadata.
       if (!inodePath.fullPathExists()) {
         checkLoadMetadataOptions(options.getLoadMetadataType(), inodePath.getUri());
+        if (options.getLoadMetadataType() == LoadMetadataType.Always) {
+          // Loading metadata always must not be answered by cached UFS statuses
+          invalidateUfsStatus(path, false);
+        }
         loadMetadataIfNotExistAndJournal(inodePath,
             LoadMetadataOptions.defaults().setCreateAncestors(true), journalContext);
         ensureFullPathAndUpdateCache(inodePath);
@@ -847,6 +887,10 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       } else {
         checkLoadMetadataOptions(listStatusOptions.getLoadMetadataType(), inodePath.getUri());
       }
+      if (listStatusOptions.getLoadMetadataType() == LoadMetadataType.Always) {
+        // Loading metadata always must not be answered by cached UFS statuses
+        invalidateUfsStatus(path, false);
+      }
 
       loadMetadataIfNotExistAndJournal(inodePath, loadMetadataOptions, journalContext);
       ensureFullPathAndUpdateCache(inodePath);
@@ -983,20 +1027,67 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       throws FileDoesNotExistException, InvalidPathException, IOException {
     MountTable.Resolution resolution = mMountTable.resolve(path);
     UnderFileSystem ufs = resolution.getUfs();
-    String ufsPath = resolution.getUri().getPath();
+    String ufsPath = resolution.getUri().toString();
     if (ufs == null) {
       return true;
     }
+    UfsStatus ufsStatus = mUfsStatusCache.getStatus(ufs, ufsPath);
     if (!inode.isPersisted()) {
-      return !ufs.exists(ufsPath);
+      return ufsStatus == null;
     }
     // TODO(calvin): Evaluate which other metadata fields should be validated.
     if (inode.isDirectory()) {
-      return ufs.isDirectory(ufsPath);
+      return ufsStatus != null && ufsStatus.isDirectory();
     } else {
       InodeFile file = (InodeFile) inode;
-      return ufs.isFile(ufsPath)
-          && ufs.getFileStatus(ufsPath).getContentLength() == file.getLength();
+      return ufsStatus != null && ufsStatus.isFile()
+          && ((UfsFileStatus) ufsStatus).getContentLength() == file.getLength();
+    }
+  }
+
+  @Override
+  public void applyBatch(List<BatchOperation> operations) throws AlluxioException, IOException {
+    Metrics.APPLY_BATCH_OPS.inc();
+    // Paths are locked one operation at a time, so a huge batch would hold the journal flush and
+    // an RPC handler thread for a long time
+    int maxOperations = Configuration.getInt(PropertyKey.MASTER_FILE_BATCH_MAX_OPERATIONS);
+    if (operations.size() > maxOperations) {
+      throw new InvalidArgumentException(String.format(
+          "Batch of %d operations exceeds the maximum of %d (%s)", operations.size(),
+          maxOperations, PropertyKey.Name.MASTER_FILE_BATCH_MAX_OPERATIONS));
+    }
+    List<Inode<?>> deletedInodes = new ArrayList<>();
+    // A single journal context is shared by all operations, so the whole batch is flushed to the
+    // journal once. Paths are still locked one operation at a time.
+    JournalContext journalContext = createJournalContext();
+    try {
+      for (BatchOperation operation : operations) {
+        AlluxioURI path = operation.getPath();
+        switch (operation.getType()) {
+          case CREATE_FILE:
+            createFileAndJournal(path, operation.getCreateFileOptions(), journalContext);
+            break;
+          case COMPLETE_FILE:
+            completeFileAndJournal(path, operation.getCompleteFileOptions(), journalContext);
+            break;
+          case DELETE:
+            deletedInodes.addAll(
+                deleteAndJournal(path, operation.getDeleteOptions(), journalContext));
+            break;
+          case SET_ATTRIBUTE:
+            lockAndSetAttribute(path, operation.getSetAttributeOptions(), journalContext);
+            break;
+          default:
+            throw new IllegalStateException(
+                "Unrecognized batch operation type: " + operation.getType());
+        }
+        invalidateUfsStatus(path, operation.getType() == BatchOperation.Type.DELETE);
+      }
+    } finally {
+      // Operations applied before a failure are still journaled, so the blocks of their deleted
+      // inodes are removed once the journal has been flushed.
+      journalContext.close();
+      deleteInodeBlocks(deletedInodes);
     }
   }
 
@@ -1005,10 +1096,36 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
       InvalidFileSizeException, FileAlreadyCompletedException, AccessControlException,
       UnavailableException {
+    try (JournalContext journalContext = createJournalContext()) {
+      completeFileAndJournal(path, options, journalContext);
+    } finally {
+      invalidateUfsStatus(path, false);
+    }
+  }
+
+  /**
+   * Completes a file, after locking its path and checking permissions.
+   * <p>
+   * Writes to the journal.
+   *
+   * @param path the file path to complete
+   * @param options the method options
+   * @param journalContext the journal context
+   * @throws BlockInfoException if a block information exception is encountered
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws InvalidPathException if an invalid path is encountered
+   * @throws InvalidFileSizeException if an invalid file size is encountered
+   * @throws FileAlreadyCompletedException if the file is already completed
+   * @throws AccessControlException if permission checking fails
+   */
+  private void completeFileAndJournal(AlluxioURI path, CompleteFileOptions options,
+      JournalContext journalContext)
+      throws BlockInfoException, FileDoesNotExistException, InvalidPathException,
+      InvalidFileSizeException, FileAlreadyCompletedException, AccessControlException,
+      UnavailableException {
     Metrics.COMPLETE_FILE_OPS.inc();
     // No need to syncMetadata before complete.
-    try (JournalContext journalContext = createJournalContext();
-         LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.WRITE);
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.WRITE);
          FileSystemMasterAuditContext auditContext =
              createAuditContext("completeFile", path, null, inodePath.getInodeOrNull())) {
       try {
@@ -1149,11 +1266,38 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   public long createFile(AlluxioURI path, CreateFileOptions options)
       throws AccessControlException, InvalidPathException, FileAlreadyExistsException,
       BlockInfoException, IOException, FileDoesNotExistException {
+    try (JournalContext journalContext = createJournalContext()) {
+      return createFileAndJournal(path, options, journalContext);
+    } finally {
+      invalidateUfsStatus(path, false);
+    }
+  }
+
+  /**
+   * Creates a file (not a directory) for a given path, after locking the path and checking
+   * permissions.
+   * <p>
+   * Writes to the journal.
+   *
+   * @param path the file to create
+   * @param options method options
+   * @param journalContext the journal context
+   * @return the id of the created file
+   * @throws InvalidPathException if an invalid path is encountered
+   * @throws FileAlreadyExistsException if the file already exists
+   * @throws BlockInfoException if an invalid block information is encountered
+   * @throws AccessControlException if permission checking fails
+   * @throws FileDoesNotExistException if the parent of the path does not exist and the recursive
+   *         option is false
+   */
+  private long createFileAndJournal(AlluxioURI path, CreateFileOptions options,
+      JournalContext journalContext)
+      throws AccessControlException, InvalidPathException, FileAlreadyExistsException,
+      BlockInfoException, IOException, FileDoesNotExistException {
     Metrics.CREATE_FILES_OPS.inc();
     LockingScheme lockingScheme =
         createLockingScheme(path, options.getCommonOptions(), InodeTree.LockMode.WRITE);
-    try (JournalContext journalContext = createJournalContext();
-         LockedInodePath inodePath = mInodeTree
+    try (LockedInodePath inodePath = mInodeTree
              .lockInodePath(lockingScheme.getPath(), lockingScheme.getMode());
         FileSystemMasterAuditContext auditContext =
              createAuditContext("createFile", path, null, inodePath.getParentInodeOrNull())) {
@@ -1329,11 +1473,39 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       FileDoesNotExistException, DirectoryNotEmptyException, InvalidPathException,
       AccessControlException {
     List<Inode<?>> deletedInodes;
+    try (JournalContext journalContext = createJournalContext()) {
+      deletedInodes = deleteAndJournal(path, options, journalContext);
+    } finally {
+      invalidateUfsStatus(path, true);
+    }
+    deleteInodeBlocks(deletedInodes);
+  }
+
+  /**
+   * Deletes a given path, after locking the path and checking permissions.
+   * <p>
+   * Writes to the journal.
+   *
+   * This method does not delete blocks. The blocks of the returned inodes must be deleted by the
+   * caller once the journal context has been closed.
+   *
+   * @param path the path to delete
+   * @param options method options
+   * @param journalContext the journal context
+   * @return a list of all deleted inodes
+   * @throws DirectoryNotEmptyException if recursive is false and the file is a nonempty directory
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws AccessControlException if permission checking fails
+   * @throws InvalidPathException if the path is invalid
+   */
+  private List<Inode<?>> deleteAndJournal(AlluxioURI path, DeleteOptions options,
+      JournalContext journalContext) throws IOException, FileDoesNotExistException,
+      DirectoryNotEmptyException, InvalidPathException, AccessControlException {
+    List<Inode<?>> deletedInodes;
     Metrics.DELETE_PATHS_OPS.inc();
     LockingScheme lockingScheme =
         createLockingScheme(path, options.getCommonOptions(), InodeTree.LockMode.WRITE);
-    try (JournalContext journalContext = createJournalContext();
-         LockedInodePath inodePath = mInodeTree
+    try (LockedInodePath inodePath = mInodeTree
              .lockInodePath(lockingScheme.getPath(), lockingScheme.getMode());
          FileSystemMasterAuditContext auditContext =
              createAuditContext("delete", path, null, inodePath.getInodeOrNull())) {
@@ -1365,7 +1537,7 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
         }
       }
     }
-    deleteInodeBlocks(deletedInodes);
+    return deletedInodes;
   }
 
   /**
@@ -1822,6 +1994,7 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
 
       mMountTable.checkUnderWritableMountPoint(path);
       createDirectoryAndJournal(inodePath, options, journalContext);
+      invalidateUfsStatus(path, false);
       auditContext.setSrcInode(inodePath.getInode()).setSucceeded(true);
       return inodePath.getInode().getId();
     }
@@ -1922,6 +2095,8 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       mMountTable.checkUnderWritableMountPoint(srcPath);
       mMountTable.checkUnderWritableMountPoint(dstPath);
       renameAndJournal(srcInodePath, dstInodePath, options, journalContext);
+      invalidateUfsStatus(srcPath, true);
+      invalidateUfsStatus(dstPath, true);
       auditContext.setSrcInode(srcInodePath.getInode()).setSucceeded(true);
       LOG.debug("Renamed {} to {}", srcPath, dstPath);
     }
@@ -2035,6 +2210,10 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     AlluxioURI dstPath = dstInodePath.getUri();
     InodeDirectory srcParentInode = srcInodePath.getParentInodeDirectory();
     InodeDirectory dstParentInode = dstInodePath.getParentInodeDirectory();
+    if (srcInode.isDirectory()) {
+      // Moving a directory changes the ancestors of everything below it.
+      mPermissionChecker.invalidateTraverseCache();
+    }
     String srcName = srcPath.getName();
     String dstName = dstPath.getName();
 
@@ -2303,6 +2482,108 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     Metrics.FILES_FREED.inc(freeInodes.size());
   }
 
+  @Override
+  public long load(AlluxioURI path)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException,
+      UnavailableException {
+    Metrics.LOAD_OPS.inc();
+    List<LoadBlock> blocks = new ArrayList<>();
+    try (LockedInodePath inodePath = mInodeTree.lockFullInodePath(path, InodeTree.LockMode.READ);
+        FileSystemMasterAuditContext auditContext =
+            createAuditContext("load", path, null, inodePath.getInodeOrNull())) {
+      try {
+        mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+      } catch (AccessControlException e) {
+        auditContext.setAllowed(false);
+        throw e;
+      }
+      List<Inode<?>> inodes = new ArrayList<>();
+      inodes.add(inodePath.getInode());
+      try (InodeLockList lockList =
+          mInodeTree.lockDescendants(inodePath, InodeTree.LockMode.READ)) {
+        inodes.addAll(lockList.getInodes());
+        for (Inode<?> inode : inodes) {
+          // Only the blocks of complete files can be read from the under storage.
+          if (!inode.isFile() || !inode.isPersisted() || !((InodeFile) inode).isCompleted()) {
+            continue;
+          }
+          InodeFile file = (InodeFile) inode;
+          // the path to inode for getPath should already be locked.
+          MountTable.Resolution resolution = mMountTable.resolve(mInodeTree.getPath(file));
+          List<Long> blockIds = file.getBlockIds();
+          for (int i = 0; i < blockIds.size(); i++) {
+            long offset = i * file.getBlockSizeBytes();
+            blocks.add(new LoadBlock(blockIds.get(i), resolution.getUri().toString(), offset,
+                Math.min(file.getBlockSizeBytes(), file.getLength() - offset),
+                resolution.getMountId()));
+          }
+        }
+      }
+      // Look up the block locations once the inodes are unlocked. A block cached meanwhile is
+      // loaded again, which is harmless.
+      List<Long> blockIds = new ArrayList<>(blocks.size());
+      for (LoadBlock block : blocks) {
+        blockIds.add(block.getBlockId());
+      }
+      Set<Long> blocksInAlluxio = new HashSet<>();
+      for (BlockInfo blockInfo : mBlockMaster.getBlockInfoList(blockIds)) {
+        if (!blockInfo.getLocations().isEmpty()) {
+          blocksInAlluxio.add(blockInfo.getBlockId());
+        }
+      }
+      List<LoadBlock> blocksToLoad = new ArrayList<>(blocks.size() - blocksInAlluxio.size());
+      for (LoadBlock block : blocks) {
+        if (!blocksInAlluxio.contains(block.getBlockId())) {
+          blocksToLoad.add(block);
+        }
+      }
+      long loadId = mDistributedLoadManager.load(path, blocksToLoad,
+          blocks.size() - blocksToLoad.size());
+      auditContext.setSucceeded(true);
+      return loadId;
+    }
+  }
+
+  @Override
+  public LoadInfo getLoadStatus(long loadId)
+      throws NotFoundException, InvalidPathException, AccessControlException {
+    Metrics.GET_LOAD_STATUS_OPS.inc();
+    LoadInfo info = mDistributedLoadManager.getLoadInfo(loadId);
+    AlluxioURI path = new AlluxioURI(info.getPath());
+    try (LockedInodePath inodePath = mInodeTree.lockInodePath(path, InodeTree.LockMode.READ);
+        FileSystemMasterAuditContext auditContext =
+            createAuditContext("getLoadStatus", path, null, inodePath.getInodeOrNull())) {
+      try {
+        mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+      } catch (AccessControlException e) {
+        auditContext.setAllowed(false);
+        throw e;
+      }
+      auditContext.setSucceeded(true);
+      return info;
+    }
+  }
+
+  @Override
+  public List<HotFileInfo> getHotFiles(int limit) {
+    List<HotFileInfo> hotFiles = new ArrayList<>();
+    // Block containers map one to one to files, the file id is the last id of its container.
+    for (Map.Entry<Long, Long> entry : mBlockMaster.getHotBlockContainers(limit).entrySet()) {
+      long fileId = BlockId.createBlockId(entry.getKey(), BlockId.getMaxSequenceNumber());
+      try (LockedInodePath inodePath =
+          mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ)) {
+        mPermissionChecker.checkPermission(Mode.Bits.READ, inodePath);
+        hotFiles.add(new HotFileInfo().setFileId(fileId)
+            .setPath(mInodeTree.getPath(inodePath.getInode()).getPath())
+            .setAccessCount(entry.getValue()));
+      } catch (FileDoesNotExistException | InvalidPathException | AccessControlException e) {
+        // The file has been deleted since it was read, or the user is not allowed to read it.
+        LOG.debug("Omitting file {} from the hot files: {}", fileId, e.getMessage());
+      }
+    }
+    return hotFiles;
+  }
+
   @Override
   public AlluxioURI getPath(long fileId) throws FileDoesNotExistException {
     try (
@@ -2421,26 +2702,26 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     AlluxioURI ufsUri = resolution.getUri();
     UnderFileSystem ufs = resolution.getUfs();
     try {
-      if (options.getUfsStatus() == null && !ufs.exists(ufsUri.toString())) {
+      UfsStatus ufsStatus = options.getUfsStatus();
+      if (ufsStatus == null) {
+        ufsStatus = mUfsStatusCache.getStatus(ufs, ufsUri.toString());
+      }
+      if (ufsStatus == null) {
         // uri does not exist in ufs
         InodeDirectory inode = (InodeDirectory) inodePath.getInode();
         inode.setDirectChildrenLoaded(true);
         return;
       }
-      boolean isFile;
-      if (options.getUfsStatus() != null) {
-        isFile = options.getUfsStatus().isFile();
-      } else {
-        isFile = ufs.isFile(ufsUri.toString());
-      }
-      if (isFile) {
+      // The file and directory loaders reuse the status instead of fetching it again
+      options.setUfsStatus(ufsStatus);
+      if (ufsStatus.isFile()) {
         loadFileMetadataAndJournal(inodePath, resolution, options, journalContext);
       } else {
         loadDirectoryMetadataAndJournal(inodePath, options, journalContext);
         InodeDirectory inode = (InodeDirectory) inodePath.getInode();
 
         if (options.isLoadDirectChildren()) {
-          UfsStatus[] files = ufs.listStatus(ufsUri.toString());
+          UfsStatus[] files = mUfsStatusCache.listStatus(ufs, ufsUri.toString());
           for (UfsStatus status : files) {
             if (PathUtils.isTemporaryFileName(status.getName())
                 || inode.getChild(status.getName()) != null) {
@@ -2630,6 +2911,7 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       syncMetadata(journalContext, inodePath, lockingScheme);
 
       mountAndJournal(inodePath, ufsPath, options, journalContext);
+      invalidateUfsStatus(alluxioPath, true);
       auditContext.setSucceeded(true);
       Metrics.PATHS_MOUNTED.inc();
     }
@@ -2855,7 +3137,37 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
   public void setAttribute(AlluxioURI path, SetAttributeOptions options)
       throws FileDoesNotExistException, AccessControlException, InvalidPathException,
       IOException {
+    try (JournalContext journalContext = createJournalContext()) {
+      lockAndSetAttribute(path, options, journalContext);
+    } finally {
+      invalidateUfsStatus(path, options.isRecursive());
+    }
+  }
+
+  /**
+   * Sets the file attribute, after locking the path and checking permissions.
+   * <p>
+   * Writes to the journal.
+   *
+   * @param path the path to set attribute for
+   * @param options attributes to be set, see {@link SetAttributeOptions}
+   * @param journalContext the journal context
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws AccessControlException if permission checking fails
+   * @throws InvalidPathException if the given path is invalid
+   */
+  private void lockAndSetAttribute(AlluxioURI path, SetAttributeOptions options,
+      JournalContext journalContext) throws FileDoesNotExistException, AccessControlException,
+      InvalidPathException, IOException {
     Metrics.SET_ATTRIBUTE_OPS.inc();
+    Integer replicationMin = options.getReplicationMin();
+    Integer replicationMax = options.getReplicationMax();
+    Preconditions.checkArgument(replicationMin == null || replicationMin >= 0,
+        PreconditionMessage.INVALID_REPLICATION_MIN_VALUE);
+    Preconditions.checkArgument(replicationMax == null
+        || replicationMax == Constants.REPLICATION_MAX_INFINITY
+        || (replicationMax >= 0 && (replicationMin == null || replicationMax >= replicationMin)),
+        PreconditionMessage.INVALID_REPLICATION_MAX_VALUE);
     // for chown
     boolean rootRequired = options.getOwner() != null;
     // for chgrp, chmod
@@ -2881,8 +3193,7 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     }
     LockingScheme lockingScheme =
         createLockingScheme(path, options.getCommonOptions(), InodeTree.LockMode.WRITE);
-    try (JournalContext journalContext = createJournalContext();
-         LockedInodePath inodePath = mInodeTree
+    try (LockedInodePath inodePath = mInodeTree
              .lockInodePath(lockingScheme.getPath(), lockingScheme.getMode());
          FileSystemMasterAuditContext auditContext =
              createAuditContext(commandName, path, null, inodePath.getInodeOrNull())) {
@@ -2997,6 +3308,12 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     if (options.getMode() != Constants.INVALID_MODE) {
       builder.setPermission(options.getMode());
     }
+    if (options.getReplicationMin() != null) {
+      builder.setReplicationMin(options.getReplicationMin());
+    }
+    if (options.getReplicationMax() != null) {
+      builder.setReplicationMax(options.getReplicationMax());
+    }
     if (!options.getUfsFingerprint().equals(Constants.INVALID_UFS_FINGERPRINT)) {
       builder.setUfsFingerprint(options.getUfsFingerprint());
     }
@@ -3040,11 +3357,37 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     inodePath.getInode().setPersistenceState(PersistenceState.TO_BE_PERSISTED);
   }
 
+  /**
+   * Invalidates the cached UFS statuses of a path written through Alluxio.
+   *
+   * @param path the Alluxio path
+   * @param recursive whether to invalidate the statuses of the descendants as well
+   */
+  private void invalidateUfsStatus(AlluxioURI path, boolean recursive) {
+    if (!mUfsStatusCache.isEnabled()) {
+      return;
+    }
+    String ufsPath;
+    try {
+      ufsPath = mMountTable.resolve(path).getUri().toString();
+    } catch (InvalidPathException e) {
+      // The path is not in a UFS, nothing is cached for it
+      return;
+    }
+    if (recursive) {
+      mUfsStatusCache.invalidateRecursive(ufsPath);
+    } else {
+      mUfsStatusCache.invalidate(ufsPath);
+    }
+  }
+
   private boolean syncMetadata(JournalContext journalContext, LockedInodePath inodePath,
       LockingScheme lockingScheme) throws FileDoesNotExistException, InvalidPathException {
     if (!lockingScheme.shouldSync()) {
       return false;
     }
+    // The sync must see the current state of the UFS
+    invalidateUfsStatus(inodePath.getUri(), false);
 
     // The high-level process for the syncing is:
     // 1. Find all Alluxio paths which are not consistent with the corresponding UFS path.
@@ -3203,20 +3546,35 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
       String ufsFingerprint = hasPersistedFingerprints ? persistedUfsFingerprints.get(i) :
           Constants.INVALID_UFS_FINGERPRINT;
       try {
+        AlluxioURI path = getPath(fileId);
+        // The worker wrote the file to the UFS, so its cached status is stale even if the file
+        // cannot be marked as persisted
+        invalidateUfsStatus(path, false);
         // Permission checking for each file is performed inside setAttribute
-        setAttribute(getPath(fileId),
+        setAttribute(path,
             SetAttributeOptions.defaults().setPersisted(true).setUfsFingerprint(ufsFingerprint));
       } catch (FileDoesNotExistException | AccessControlException | InvalidPathException e) {
         LOG.error("Failed to set file {} as persisted, because {}", fileId, e);
       }
     }
 
+    mDistributedLoadManager.reportBlocks(options.getLoadedBlocks(),
+        options.getLoadFailedBlocks());
+
     // get the files for the given worker to persist
     List<PersistFile> filesToPersist = mAsyncPersistHandler.pollFilesToPersist(workerId);
+    FileSystemCommandOptions commandOptions = new FileSystemCommandOptions();
     if (!filesToPersist.isEmpty()) {
       LOG.debug("Sent files {} to worker {} to persist", filesToPersist, workerId);
+    } else {
+      // only one command is sent per heartbeat, blocks are loaded when there is nothing to persist
+      List<LoadBlock> blocksToLoad = mDistributedLoadManager.pollBlocksToLoad(workerId);
+      if (!blocksToLoad.isEmpty()) {
+        LOG.debug("Sent {} blocks to worker {} to load", blocksToLoad.size(), workerId);
+        commandOptions.setLoadOptions(new LoadCommandOptions(blocksToLoad));
+        return new FileSystemCommand(CommandType.Load, commandOptions);
+      }
     }
-    FileSystemCommandOptions commandOptions = new FileSystemCommandOptions();
     commandOptions.setPersistOptions(new PersistCommandOptions(filesToPersist));
     return new FileSystemCommand(CommandType.Persist, commandOptions);
   }
@@ -3250,6 +3608,10 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
         inode.setTtlAction(options.getTtlAction());
       }
     }
+    if (options.getReplicationMin() != null || options.getReplicationMax() != null) {
+      mInodeTree.setReplication(inodePath, options.getReplicationMin(),
+          options.getReplicationMax(), opTimeMs);
+    }
     if (options.getPersisted() != null) {
       Preconditions.checkArgument(inode.isFile(), PreconditionMessage.PERSIST_ONLY_FOR_FILE);
       Preconditions.checkArgument(((InodeFile) inode).isCompleted(),
@@ -3330,6 +3692,9 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     if (modeChanged) {
       inode.setMode(options.getMode());
     }
+    if ((ownerGroupChanged || modeChanged) && inode.isDirectory()) {
+      mPermissionChecker.invalidateTraverseCache();
+    }
     return persistedInodes;
   }
 
@@ -3361,6 +3726,12 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     if (entry.hasPermission()) {
       options.setMode((short) entry.getPermission());
     }
+    if (entry.hasReplicationMin()) {
+      options.setReplicationMin(entry.getReplicationMin());
+    }
+    if (entry.hasReplicationMax()) {
+      options.setReplicationMax(entry.getReplicationMax());
+    }
     if (entry.hasUfsFingerprint()) {
       options.setUfsFingerprint(entry.getUfsFingerprint());
     }
@@ -3398,6 +3769,7 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     private static final Counter PATHS_UNMOUNTED = MetricsSystem.masterCounter("PathsUnmounted");
 
     // TODO(peis): Increment the RPCs OPs at the place where we receive the RPCs.
+    private static final Counter APPLY_BATCH_OPS = MetricsSystem.masterCounter("ApplyBatchOps");
     private static final Counter COMPLETE_FILE_OPS = MetricsSystem.masterCounter("CompleteFileOps");
     private static final Counter CREATE_DIRECTORIES_OPS =
         MetricsSystem.masterCounter("CreateDirectoryOps");
@@ -3407,7 +3779,10 @@ public final class DefaultFileSystemMaster extends AbstractMaster implements Fil
     private static final Counter GET_FILE_BLOCK_INFO_OPS =
         MetricsSystem.masterCounter("GetFileBlockInfoOps");
     private static final Counter GET_FILE_INFO_OPS = MetricsSystem.masterCounter("GetFileInfoOps");
+    private static final Counter GET_LOAD_STATUS_OPS =
+        MetricsSystem.masterCounter("GetLoadStatusOps");
     private static final Counter GET_NEW_BLOCK_OPS = MetricsSystem.masterCounter("GetNewBlockOps");
+    private static final Counter LOAD_OPS = MetricsSystem.masterCounter("LoadOps");
     private static final Counter MOUNT_OPS = MetricsSystem.masterCounter("MountOps");
     private static final Counter RENAME_PATH_OPS = MetricsSystem.masterCounter("RenamePathOps");
     private static final Counter SET_ATTRIBUTE_OPS = MetricsSystem.masterCounter("SetAttributeOps");
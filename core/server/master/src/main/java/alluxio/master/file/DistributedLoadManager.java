@@ -0,0 +1,389 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.client.block.BlockWorkerInfo;
+import alluxio.client.block.policy.BlockLocationPolicy;
+import alluxio.client.block.policy.options.CreateOptions;
+import alluxio.client.block.policy.options.GetWorkerOptions;
+import alluxio.clock.Clock;
+import alluxio.clock.SystemClock;
+import alluxio.exception.status.NotFoundException;
+import alluxio.exception.status.UnavailableException;
+import alluxio.heartbeat.HeartbeatExecutor;
+import alluxio.master.block.BlockMaster;
+import alluxio.thrift.LoadBlock;
+import alluxio.wire.LoadInfo;
+import alluxio.wire.WorkerInfo;
+import alluxio.wire.WorkerNetAddress;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Coordinates distributed loads. A distributed load assigns each block which is not in Alluxio to
+ * a worker chosen by the {@link BlockLocationPolicy} configured with
+ * {@link PropertyKey#MASTER_LOAD_LOCATION_POLICY}. The blocks are handed to the workers in the
+ * file system heartbeats, at most {@link PropertyKey#MASTER_LOAD_BLOCKS_PER_HEARTBEAT} at a
+ * time, and the workers read them directly from the under storage and report back.
+ *
+ * A block which is not reported within {@link PropertyKey#MASTER_LOAD_BLOCK_TIMEOUT} of being
+ * handed out, or whose worker is lost, is assigned to another worker, and is counted as failed
+ * after being handed out {@link #MAX_ATTEMPTS} times. A block still waiting in the queue of a busy
+ * worker that long after it was assigned is moved to another worker as well, without using up an
+ * attempt. The assignments are checked in the heartbeats of this manager.
+ *
+ * The state of the loads is not journaled, so loads in progress are lost on master failover.
+ */
+@ThreadSafe
+final class DistributedLoadManager implements HeartbeatExecutor {
+  private static final Logger LOG = LoggerFactory.getLogger(DistributedLoadManager.class);
+
+  /** The maximum number of finished loads whose status is retained. */
+  private static final int MAX_RETAINED_FINISHED_LOADS = 1000;
+  /** The maximum number of times a block is handed to a worker before it is failed. */
+  static final int MAX_ATTEMPTS = 3;
+
+  private final BlockMaster mBlockMaster;
+  private final Clock mClock;
+  private final int mBlocksPerHeartbeat;
+  private final long mBlockTimeoutMs;
+
+  @GuardedBy("this")
+  private final BlockLocationPolicy mLocationPolicy;
+  @GuardedBy("this")
+  private long mNextLoadId;
+  /** Map from load id to the load, in the order the loads were started. */
+  @GuardedBy("this")
+  private final LinkedHashMap<Long, Load> mLoads = new LinkedHashMap<>();
+  /** Map from worker id to the blocks waiting to be sent to the worker. */
+  @GuardedBy("this")
+  private final Map<Long, Deque<LoadBlock>> mWorkerQueues = new HashMap<>();
+  /** Map from block id to the assignment of the block, for the blocks not reported yet. */
+  @GuardedBy("this")
+  private final Map<Long, PendingBlock> mPendingBlocks = new HashMap<>();
+
+  /**
+   * Creates a new instance of {@link DistributedLoadManager}.
+   *
+   * @param blockMaster the block master
+   */
+  DistributedLoadManager(BlockMaster blockMaster) {
+    this(blockMaster, new SystemClock());
+  }
+
+  /**
+   * Creates a new instance of {@link DistributedLoadManager}.
+   *
+   * @param blockMaster the block master
+   * @param clock the clock used to time out assignments
+   */
+  DistributedLoadManager(BlockMaster blockMaster, Clock clock) {
+    mBlockMaster = Preconditions.checkNotNull(blockMaster, "blockMaster");
+    mClock = Preconditions.checkNotNull(clock, "clock");
+    mBlocksPerHeartbeat = Configuration.getInt(PropertyKey.MASTER_LOAD_BLOCKS_PER_HEARTBEAT);
+    mBlockTimeoutMs = Configuration.getMs(PropertyKey.MASTER_LOAD_BLOCK_TIMEOUT);
+    mLocationPolicy = BlockLocationPolicy.Factory.create(CreateOptions.defaults()
+        .setLocationPolicyClassName(Configuration.get(PropertyKey.MASTER_LOAD_LOCATION_POLICY)));
+  }
+
+  /**
+   * Starts a distributed load.
+   *
+   * @param path the path being loaded
+   * @param blocks the blocks to load, which are not in Alluxio
+   * @param loadedBlocks the number of blocks under the path which are already in Alluxio
+   * @return the id of the load
+   */
+  synchronized long load(AlluxioURI path, List<LoadBlock> blocks, long loadedBlocks)
+      throws UnavailableException {
+    List<WorkerInfo> workers = mBlockMaster.getWorkerInfoList();
+    if (!blocks.isEmpty() && workers.isEmpty()) {
+      throw new UnavailableException("No worker is available to load " + path);
+    }
+
+    Load load = new Load(mNextLoadId++, path, blocks.size() + loadedBlocks);
+    load.mLoadedBlocks = loadedBlocks;
+    mLoads.put(load.mId, load);
+    for (LoadBlock block : blocks) {
+      PendingBlock pending = mPendingBlocks.get(block.getBlockId());
+      if (pending != null) {
+        // The block is already being loaded by another load.
+        pending.mLoads.add(load);
+        continue;
+      }
+      pending = new PendingBlock(block);
+      pending.mLoads.add(load);
+      mPendingBlocks.put(block.getBlockId(), pending);
+      assign(pending, workers);
+    }
+    evictFinishedLoads();
+    return load.mId;
+  }
+
+  /**
+   * Polls the blocks to be loaded by the given worker.
+   *
+   * @param workerId the id of the worker
+   * @return the blocks for the worker to load, at most the configured number per heartbeat
+   */
+  synchronized List<LoadBlock> pollBlocksToLoad(long workerId) {
+    Deque<LoadBlock> queue = mWorkerQueues.get(workerId);
+    if (queue == null) {
+      return Collections.emptyList();
+    }
+    long deadlineMs = mClock.millis() + mBlockTimeoutMs;
+    List<LoadBlock> blocks = new ArrayList<>(Math.min(queue.size(), mBlocksPerHeartbeat));
+    while (!queue.isEmpty() && blocks.size() < mBlocksPerHeartbeat) {
+      LoadBlock block = queue.poll();
+      PendingBlock pending = mPendingBlocks.get(block.getBlockId());
+      if (pending == null || pending.mWorkerId != workerId || pending.mSent) {
+        // The block was reported or reassigned since it was queued.
+        continue;
+      }
+      pending.mSent = true;
+      pending.mDeadlineMs = deadlineMs;
+      pending.mAttempts++;
+      blocks.add(block);
+    }
+    if (queue.isEmpty()) {
+      mWorkerQueues.remove(workerId);
+    }
+    return blocks;
+  }
+
+  /**
+   * Records the blocks reported by a worker.
+   *
+   * @param loadedBlocks the ids of the blocks the worker loaded
+   * @param failedBlocks the ids of the blocks the worker failed to load
+   */
+  synchronized void reportBlocks(List<Long> loadedBlocks, List<Long> failedBlocks) {
+    for (long blockId : loadedBlocks) {
+      PendingBlock pending = mPendingBlocks.remove(blockId);
+      if (pending != null) {
+        for (Load load : pending.mLoads) {
+          load.mLoadedBlocks++;
+        }
+      }
+    }
+    for (long blockId : failedBlocks) {
+      PendingBlock pending = mPendingBlocks.remove(blockId);
+      if (pending != null) {
+        fail(pending);
+      }
+    }
+  }
+
+  /**
+   * Reassigns the blocks whose worker is lost or did not report them in time.
+   */
+  @Override
+  public synchronized void heartbeat() {
+    if (mPendingBlocks.isEmpty()) {
+      return;
+    }
+    List<WorkerInfo> workers;
+    try {
+      workers = mBlockMaster.getWorkerInfoList();
+    } catch (UnavailableException e) {
+      LOG.warn("Failed to check the assignments of distributed loads: {}", e.getMessage());
+      return;
+    }
+    Set<Long> liveWorkers = new HashSet<>();
+    for (WorkerInfo worker : workers) {
+      liveWorkers.add(worker.getId());
+    }
+    mWorkerQueues.keySet().retainAll(liveWorkers);
+    long nowMs = mClock.millis();
+    Iterator<PendingBlock> iterator = mPendingBlocks.values().iterator();
+    while (iterator.hasNext()) {
+      PendingBlock pending = iterator.next();
+      boolean workerLost = !liveWorkers.contains(pending.mWorkerId);
+      if (!workerLost && nowMs < pending.mDeadlineMs) {
+        continue;
+      }
+      LOG.warn("Block {} of a distributed load was not loaded by worker {} ({}).",
+          pending.mBlock.getBlockId(), pending.mWorkerId,
+          workerLost ? "lost" : pending.mSent ? "timed out" : "busy");
+      if (pending.mAttempts >= MAX_ATTEMPTS || !assign(pending, workers)) {
+        iterator.remove();
+        fail(pending);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    // Nothing to clean up
+  }
+
+  /**
+   * @param loadId the id of the load
+   * @return the progress of the load
+   * @throws NotFoundException if the load does not exist
+   */
+  synchronized LoadInfo getLoadInfo(long loadId) throws NotFoundException {
+    Load load = mLoads.get(loadId);
+    if (load == null) {
+      throw new NotFoundException("Load " + loadId + " does not exist");
+    }
+    return new LoadInfo().setLoadId(load.mId).setPath(load.mPath.getPath())
+        .setCreationTimeMs(load.mCreationTimeMs).setTotalBlocks(load.mTotalBlocks)
+        .setLoadedBlocks(load.mLoadedBlocks).setFailedBlocks(load.mFailedBlocks);
+  }
+
+  /**
+   * Assigns a block to a worker chosen by the location policy, preferring a worker other than the
+   * one it was last assigned to.
+   *
+   * @param pending the block to assign
+   * @param workers the live workers
+   * @return whether a worker was found for the block
+   */
+  @GuardedBy("this")
+  private boolean assign(PendingBlock pending, List<WorkerInfo> workers) {
+    List<BlockWorkerInfo> candidates = new ArrayList<>();
+    Map<WorkerNetAddress, Long> workerIds = new HashMap<>();
+    for (WorkerInfo worker : workers) {
+      workerIds.put(worker.getAddress(), worker.getId());
+      if (worker.getId() != pending.mWorkerId || workers.size() == 1) {
+        candidates.add(new BlockWorkerInfo(worker.getAddress(), worker.getCapacityBytes(),
+            worker.getUsedBytes()));
+      }
+    }
+    LoadBlock block = pending.mBlock;
+    WorkerNetAddress address = candidates.isEmpty() ? null : mLocationPolicy.getWorker(
+        GetWorkerOptions.defaults().setBlockWorkerInfos(candidates)
+            .setBlockId(block.getBlockId()).setBlockSize(block.getBlockSize()));
+    Long workerId = address == null ? null : workerIds.get(address);
+    if (workerId == null) {
+      LOG.warn("No worker is selected to load block {} of {}", block.getBlockId(),
+          block.getUfsPath());
+      return false;
+    }
+    // A block still queued on the only live worker keeps its place in the queue
+    boolean queued = workerId == pending.mWorkerId && !pending.mSent
+        && mWorkerQueues.containsKey(workerId);
+    pending.mWorkerId = workerId;
+    pending.mSent = false;
+    pending.mDeadlineMs = mClock.millis() + mBlockTimeoutMs;
+    if (queued) {
+      return true;
+    }
+    Deque<LoadBlock> queue = mWorkerQueues.get(workerId);
+    if (queue == null) {
+      queue = new ArrayDeque<>();
+      mWorkerQueues.put(workerId, queue);
+    }
+    queue.add(block);
+    return true;
+  }
+
+  /**
+   * Counts a block as failed in the loads waiting for it.
+   *
+   * @param pending the failed block
+   */
+  @GuardedBy("this")
+  private void fail(PendingBlock pending) {
+    for (Load load : pending.mLoads) {
+      load.mFailedBlocks++;
+    }
+  }
+
+  /**
+   * Forgets the oldest finished loads once too many of them are retained.
+   */
+  @GuardedBy("this")
+  private void evictFinishedLoads() {
+    int finished = 0;
+    for (Load load : mLoads.values()) {
+      if (load.isFinished()) {
+        finished++;
+      }
+    }
+    Iterator<Load> iterator = mLoads.values().iterator();
+    while (finished > MAX_RETAINED_FINISHED_LOADS && iterator.hasNext()) {
+      if (iterator.next().isFinished()) {
+        iterator.remove();
+        finished--;
+      }
+    }
+  }
+
+  /**
+   * The assignment of a block which has not been reported yet.
+   */
+  private static final class PendingBlock {
+    private final LoadBlock mBlock;
+    /** The loads waiting for the block. */
+    private final List<Load> mLoads = new ArrayList<>();
+    /** The id of the worker the block is assigned to, -1 before the first assignment. */
+    private long mWorkerId = -1;
+    /** Whether the block has been handed to the worker it is assigned to. */
+    private boolean mSent;
+    /**
+     * The time by which the worker must take the block from its queue, or report the block once
+     * it was handed out.
+     */
+    private long mDeadlineMs;
+    /** The number of times the block has been sent to a worker. */
+    private int mAttempts;
+
+    private PendingBlock(LoadBlock block) {
+      mBlock = block;
+    }
+  }
+
+  /**
+   * The state of a distributed load.
+   */
+  private static final class Load {
+    private final long mId;
+    private final AlluxioURI mPath;
+    private final long mCreationTimeMs;
+    private final long mTotalBlocks;
+    private long mLoadedBlocks;
+    private long mFailedBlocks;
+
+    private Load(long id, AlluxioURI path, long totalBlocks) {
+      mId = id;
+      mPath = path;
+      mCreationTimeMs = System.currentTimeMillis();
+      mTotalBlocks = totalBlocks;
+    }
+
+    private boolean isFinished() {
+      return mLoadedBlocks + mFailedBlocks >= mTotalBlocks;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidFileSizeException;
 import alluxio.exception.InvalidPathException;
 import alluxio.exception.UnexpectedAlluxioException;
+import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.UnavailableException;
 import alluxio.master.Master;
 import alluxio.master.file.meta.FileSystemMasterView;
@@ -43,6 +44,8 @@ import alluxio.thrift.FileSystemCommand;
 import alluxio.thrift.UfsInfo;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
+import alluxio.wire.HotFileInfo;
+import alluxio.wire.LoadInfo;
 import alluxio.wire.MountPointInfo;
 import alluxio.wire.TtlAction;
 import alluxio.wire.WorkerInfo;
@@ -149,6 +152,18 @@ public interface FileSystemMaster extends Master {
   List<AlluxioURI> checkConsistency(AlluxioURI path, CheckConsistencyOptions options)
       throws AccessControlException, FileDoesNotExistException, InvalidPathException, IOException;
 
+  /**
+   * Applies a batch of metadata operations in order. All operations share a single journal flush,
+   * while each operation locks its own path and performs the same permission checks as the
+   * corresponding single-path method. The batch stops at the first failing operation, and the
+   * operations before it remain applied. Batches with more operations than
+   * {@link alluxio.PropertyKey#MASTER_FILE_BATCH_MAX_OPERATIONS} are rejected without applying any
+   * operation.
+   *
+   * @param operations the operations to apply
+   */
+  void applyBatch(List<BatchOperation> operations) throws AlluxioException, IOException;
+
   /**
    * Completes a file. After a file is completed, it cannot be written to.
    * <p>
@@ -331,6 +346,48 @@ public interface FileSystemMaster extends Master {
       throws FileDoesNotExistException, InvalidPathException, AccessControlException,
       UnexpectedAlluxioException;
 
+  /**
+   * Starts a distributed load of the file or directory. The blocks of the persisted files under
+   * the path which are not in Alluxio are assigned to workers, which load them directly from the
+   * under storage.
+   * <p>
+   * This operation requires users to have READ permission on the path.
+   *
+   * @param path the path to load
+   * @return the id of the load, to be used with {@link #getLoadStatus(long)}
+   * @throws FileDoesNotExistException if the file does not exist
+   * @throws AccessControlException if permission checking fails
+   * @throws InvalidPathException if the given path is invalid
+   * @throws UnavailableException if no worker is available to load the blocks
+   */
+  long load(AlluxioURI path)
+      throws FileDoesNotExistException, InvalidPathException, AccessControlException,
+      UnavailableException;
+
+  /**
+   * Gets the progress of a distributed load.
+   * <p>
+   * This operation requires users to have READ permission on the loaded path.
+   *
+   * @param loadId the id of the load
+   * @return the progress of the distributed load
+   * @throws NotFoundException if the load does not exist
+   * @throws InvalidPathException if the loaded path is invalid
+   * @throws AccessControlException if permission checking fails
+   */
+  LoadInfo getLoadStatus(long loadId)
+      throws NotFoundException, InvalidPathException, AccessControlException;
+
+  /**
+   * Returns the files whose blocks were read the most from the workers, based on the access
+   * counts reported in the worker heartbeats. Older reads weigh less than recent ones. Files the
+   * user is not allowed to read are omitted.
+   *
+   * @param limit the maximum number of files to return
+   * @return the hot files, ordered by decreasing access count
+   */
+  List<HotFileInfo> getHotFiles(int limit);
+
   /**
    * Gets the path of a file with the given id.
    *
@@ -144,20 +144,29 @@ public final class FileSystemMasterAuditContext implements AuditContext {
   }
 
   @Override
-  public String toString() {
+  public void appendTo(StringBuilder builder) {
+    builder.append("succeeded=").append(mSucceeded)
+        .append("\tallowed=").append(mAllowed)
+        .append("\tugi=").append(mUgi).append(" (AUTH=").append(mAuthType).append(')')
+        .append("\tip=").append(mIp)
+        .append("\tcmd=").append(mCommand)
+        .append("\tsrc=").append(mSrcPath)
+        .append("\tdst=").append(mDstPath)
+        .append("\tperm=");
     if (mSrcInode != null) {
       short mode = mSrcInode.getMode();
-      return String.format(
-          "succeeded=%b\tallowed=%b\tugi=%s (AUTH=%s)\tip=%s\tcmd=%s\tsrc=%s\tdst=%s\t"
-              + "perm=%s:%s:%s%s%s",
-          mSucceeded, mAllowed, mUgi, mAuthType, mIp, mCommand, mSrcPath, mDstPath,
-          mSrcInode.getOwner(), mSrcInode.getGroup(),
-          Mode.extractOwnerBits(mode), Mode.extractGroupBits(mode), Mode.extractOtherBits(mode));
+      builder.append(mSrcInode.getOwner()).append(':').append(mSrcInode.getGroup()).append(':')
+          .append(Mode.extractOwnerBits(mode)).append(Mode.extractGroupBits(mode))
+          .append(Mode.extractOtherBits(mode));
     } else {
-      return String.format(
-          "succeeded=%b\tallowed=%b\tugi=%s (AUTH=%s)\tip=%s\tcmd=%s\tsrc=%s\tdst=%s\t"
-              + "perm=null",
-          mSucceeded, mAllowed, mUgi, mAuthType, mIp, mCommand, mSrcPath, mDstPath);
+      builder.append("null");
     }
   }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    appendTo(builder);
+    return builder.toString();
+  }
 }
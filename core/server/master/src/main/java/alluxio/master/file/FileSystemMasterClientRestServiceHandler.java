@@ -27,6 +27,7 @@ import alluxio.master.file.options.RenameOptions;
 import alluxio.master.file.options.SetAttributeOptions;
 import alluxio.web.MasterWebServer;
 import alluxio.wire.FileInfo;
+import alluxio.wire.HotFileInfo;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.MountPointInfo;
 import alluxio.wire.TtlAction;
@@ -66,6 +67,7 @@ public final class FileSystemMasterClientRestServiceHandler {
   public static final String CREATE_DIRECTORY = "create_directory";
   public static final String CREATE_FILE = "create_file";
   public static final String FREE = "free";
+  public static final String GET_HOT_FILES = "hot_files";
   public static final String GET_MOUNT_POINTS = "mount_points";
   public static final String GET_NEW_BLOCK_ID_FOR_FILE = "new_block_id_for_file";
   public static final String GET_STATUS = "status";
@@ -287,6 +289,24 @@ public final class FileSystemMasterClientRestServiceHandler {
     });
   }
 
+  /**
+   * @summary get the most frequently read files
+   * @param limit the maximum number of files to return
+   * @return the response object
+   */
+  @GET
+  @Path(GET_HOT_FILES)
+  @ReturnType("java.util.List<alluxio.wire.HotFileInfo>")
+  public Response getHotFiles(@QueryParam("limit") final Integer limit) {
+    return RestUtils.call(new RestUtils.RestCallable<List<HotFileInfo>>() {
+      @Override
+      public List<HotFileInfo> call() throws Exception {
+        return mFileSystemMaster.getHotFiles(
+            limit == null ? Constants.DEFAULT_HOT_FILES_LIMIT : limit);
+      }
+    });
+  }
+
   /**
    * @summary get the file descriptors for a path
    * @param path the file path
@@ -12,12 +12,15 @@
 package alluxio.master.file;
 
 import alluxio.AlluxioURI;
+import alluxio.Configuration;
 import alluxio.Constants;
+import alluxio.PropertyKey;
 import alluxio.RpcUtils;
 import alluxio.RpcUtils.RpcCallable;
 import alluxio.RpcUtils.RpcCallableThrowsIOException;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.status.AlluxioStatusException;
+import alluxio.master.FairRpcScheduler;
 import alluxio.master.file.options.CheckConsistencyOptions;
 import alluxio.master.file.options.CompleteFileOptions;
 import alluxio.master.file.options.CreateDirectoryOptions;
@@ -31,6 +34,8 @@ import alluxio.master.file.options.MountOptions;
 import alluxio.master.file.options.RenameOptions;
 import alluxio.master.file.options.SetAttributeOptions;
 import alluxio.thrift.AlluxioTException;
+import alluxio.thrift.ApplyBatchTOptions;
+import alluxio.thrift.ApplyBatchTResponse;
 import alluxio.thrift.CheckConsistencyTOptions;
 import alluxio.thrift.CheckConsistencyTResponse;
 import alluxio.thrift.CompleteFileTOptions;
@@ -45,6 +50,10 @@ import alluxio.thrift.FileInfo;
 import alluxio.thrift.FileSystemMasterClientService;
 import alluxio.thrift.FreeTOptions;
 import alluxio.thrift.FreeTResponse;
+import alluxio.thrift.GetHotFilesTOptions;
+import alluxio.thrift.GetHotFilesTResponse;
+import alluxio.thrift.GetLoadStatusTOptions;
+import alluxio.thrift.GetLoadStatusTResponse;
 import alluxio.thrift.GetMountTableTResponse;
 import alluxio.thrift.GetNewBlockIdForFileTOptions;
 import alluxio.thrift.GetNewBlockIdForFileTResponse;
@@ -56,6 +65,8 @@ import alluxio.thrift.ListStatusTOptions;
 import alluxio.thrift.ListStatusTResponse;
 import alluxio.thrift.LoadMetadataTOptions;
 import alluxio.thrift.LoadMetadataTResponse;
+import alluxio.thrift.LoadTOptions;
+import alluxio.thrift.LoadTResponse;
 import alluxio.thrift.MountTOptions;
 import alluxio.thrift.MountTResponse;
 import alluxio.thrift.RenameTOptions;
@@ -66,6 +77,7 @@ import alluxio.thrift.SetAttributeTOptions;
 import alluxio.thrift.SetAttributeTResponse;
 import alluxio.thrift.UnmountTOptions;
 import alluxio.thrift.UnmountTResponse;
+import alluxio.wire.HotFileInfo;
 import alluxio.wire.MountPointInfo;
 import alluxio.wire.ThriftUtils;
 
@@ -79,6 +91,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -89,7 +102,15 @@ public final class FileSystemMasterClientServiceHandler implements
     FileSystemMasterClientService.Iface {
   private static final Logger LOG =
       LoggerFactory.getLogger(FileSystemMasterClientServiceHandler.class);
+  /** The scheduler cost of an RPC which only touches a single inode. */
+  private static final int LIGHT_COST = 1;
+
   private final FileSystemMaster mFileSystemMaster;
+  /** The scheduler admitting the RPCs, or null if RPCs are run as soon as they arrive. */
+  @Nullable
+  private final FairRpcScheduler mScheduler;
+  /** The scheduler cost of an RPC which may touch a whole subtree or the under storage. */
+  private final int mHeavyCost;
 
   /**
    * Creates a new instance of {@link FileSystemMasterClientServiceHandler}.
@@ -99,6 +120,9 @@ public final class FileSystemMasterClientServiceHandler implements
   FileSystemMasterClientServiceHandler(FileSystemMaster fileSystemMaster) {
     Preconditions.checkNotNull(fileSystemMaster, "fileSystemMaster");
     mFileSystemMaster = fileSystemMaster;
+    mScheduler = Configuration.getBoolean(PropertyKey.MASTER_RPC_SCHEDULER_ENABLED)
+        ? FairRpcScheduler.create() : null;
+    mHeavyCost = Configuration.getInt(PropertyKey.MASTER_RPC_SCHEDULER_HEAVY_COST);
   }
 
   @Override
@@ -106,10 +130,33 @@ public final class FileSystemMasterClientServiceHandler implements
     return new GetServiceVersionTResponse(Constants.FILE_SYSTEM_MASTER_CLIENT_SERVICE_VERSION);
   }
 
+  @Override
+  public ApplyBatchTResponse applyBatch(final List<alluxio.thrift.BatchOperation> operations,
+      final ApplyBatchTOptions options) throws AlluxioTException {
+    // A batch costs as much as running its operations one at a time.
+    int cost = Math.max(operations.size(), 1);
+    return call(cost, new RpcCallableThrowsIOException<ApplyBatchTResponse>() {
+      @Override
+      public ApplyBatchTResponse call() throws AlluxioException, IOException {
+        List<BatchOperation> batch = new ArrayList<>(operations.size());
+        for (alluxio.thrift.BatchOperation operation : operations) {
+          batch.add(BatchOperation.fromThrift(operation));
+        }
+        mFileSystemMaster.applyBatch(batch);
+        return new ApplyBatchTResponse();
+      }
+
+      @Override
+      public String toString() {
+        return String.format("ApplyBatch: operations=%d, options=%s", operations.size(), options);
+      }
+    });
+  }
+
   @Override
   public CheckConsistencyTResponse checkConsistency(final String path,
       final CheckConsistencyTOptions options) throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<CheckConsistencyTResponse>() {
+    return call(mHeavyCost, new RpcCallableThrowsIOException<CheckConsistencyTResponse>() {
       @Override
       public CheckConsistencyTResponse call() throws AlluxioException, IOException {
         List<AlluxioURI> inconsistentUris = mFileSystemMaster.checkConsistency(
@@ -131,7 +178,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public CompleteFileTResponse completeFile(final String path, final CompleteFileTOptions options)
       throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<CompleteFileTResponse>() {
+    return call(LIGHT_COST, new RpcCallableThrowsIOException<CompleteFileTResponse>() {
       @Override
       public CompleteFileTResponse call() throws AlluxioException, AlluxioStatusException {
         mFileSystemMaster.completeFile(new AlluxioURI(path), new CompleteFileOptions(options));
@@ -148,7 +195,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public CreateDirectoryTResponse createDirectory(final String path,
       final CreateDirectoryTOptions options) throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<CreateDirectoryTResponse>() {
+    return call(LIGHT_COST, new RpcCallableThrowsIOException<CreateDirectoryTResponse>() {
       @Override
       public CreateDirectoryTResponse call() throws AlluxioException, IOException {
         mFileSystemMaster.createDirectory(new AlluxioURI(path),
@@ -166,7 +213,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public CreateFileTResponse createFile(final String path, final CreateFileTOptions options)
       throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<CreateFileTResponse>() {
+    return call(LIGHT_COST, new RpcCallableThrowsIOException<CreateFileTResponse>() {
       @Override
       public CreateFileTResponse call() throws AlluxioException, IOException {
         mFileSystemMaster.createFile(new AlluxioURI(path), new CreateFileOptions(options));
@@ -183,7 +230,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public FreeTResponse free(final String path, final boolean recursive, final FreeTOptions options)
       throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallable<FreeTResponse>() {
+    return call(mHeavyCost, new RpcCallable<FreeTResponse>() {
       @Override
       public FreeTResponse call() throws AlluxioException {
         if (options == null) {
@@ -208,7 +255,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public GetNewBlockIdForFileTResponse getNewBlockIdForFile(final String path,
       final GetNewBlockIdForFileTOptions options) throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallable<GetNewBlockIdForFileTResponse>() {
+    return call(LIGHT_COST, new RpcCallable<GetNewBlockIdForFileTResponse>() {
       @Override
       public GetNewBlockIdForFileTResponse call() throws AlluxioException {
         return new GetNewBlockIdForFileTResponse(
@@ -222,10 +269,48 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public GetHotFilesTResponse getHotFiles(final GetHotFilesTOptions options)
+      throws AlluxioTException {
+    return call(LIGHT_COST, new RpcCallable<GetHotFilesTResponse>() {
+      @Override
+      public GetHotFilesTResponse call() throws AlluxioException {
+        int limit = options.isSetLimit() ? options.getLimit() : Constants.DEFAULT_HOT_FILES_LIMIT;
+        List<alluxio.thrift.HotFileInfo> hotFiles = new ArrayList<>();
+        for (HotFileInfo hotFile : mFileSystemMaster.getHotFiles(limit)) {
+          hotFiles.add(ThriftUtils.toThrift(hotFile));
+        }
+        return new GetHotFilesTResponse(hotFiles);
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetHotFiles: options=%s", options);
+      }
+    });
+  }
+
+  @Override
+  public GetLoadStatusTResponse getLoadStatus(final long loadId,
+      final GetLoadStatusTOptions options) throws AlluxioTException {
+    return call(LIGHT_COST, new RpcCallableThrowsIOException<GetLoadStatusTResponse>() {
+      @Override
+      public GetLoadStatusTResponse call() throws AlluxioException, AlluxioStatusException {
+        return new GetLoadStatusTResponse(
+            ThriftUtils.toThrift(mFileSystemMaster.getLoadStatus(loadId)));
+      }
+
+      @Override
+      public String toString() {
+        return String.format("GetLoadStatus: loadId=%s, options=%s", loadId, options);
+      }
+    });
+  }
+
   @Override
   public GetStatusTResponse getStatus(final String path, final GetStatusTOptions options)
       throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<GetStatusTResponse>() {
+    return call(LIGHT_COST, new RpcCallableThrowsIOException<GetStatusTResponse>() {
       @Override
       public GetStatusTResponse call() throws AlluxioException, AlluxioStatusException {
         return new GetStatusTResponse(ThriftUtils.toThrift(
@@ -242,7 +327,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public ListStatusTResponse listStatus(final String path, final ListStatusTOptions options)
       throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<ListStatusTResponse>() {
+    return call(mHeavyCost, new RpcCallableThrowsIOException<ListStatusTResponse>() {
       @Override
       public ListStatusTResponse call() throws AlluxioException, AlluxioStatusException {
         List<FileInfo> result = new ArrayList<>();
@@ -260,6 +345,22 @@ public final class FileSystemMasterClientServiceHandler implements
     });
   }
 
+  @Override
+  public LoadTResponse load(final String path, final LoadTOptions options)
+      throws AlluxioTException {
+    return call(mHeavyCost, new RpcCallableThrowsIOException<LoadTResponse>() {
+      @Override
+      public LoadTResponse call() throws AlluxioException, AlluxioStatusException {
+        return new LoadTResponse(mFileSystemMaster.load(new AlluxioURI(path)));
+      }
+
+      @Override
+      public String toString() {
+        return String.format("Load: path=%s, options=%s", path, options);
+      }
+    });
+  }
+
   /**
    * {@inheritDoc}
    *
@@ -270,7 +371,7 @@ public final class FileSystemMasterClientServiceHandler implements
   public LoadMetadataTResponse loadMetadata(final String alluxioPath, final boolean recursive,
       final LoadMetadataTOptions options)
       throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<LoadMetadataTResponse>() {
+    return call(mHeavyCost, new RpcCallableThrowsIOException<LoadMetadataTResponse>() {
       @Override
       public LoadMetadataTResponse call() throws AlluxioException, IOException {
         return new LoadMetadataTResponse(mFileSystemMaster.loadMetadata(new AlluxioURI(alluxioPath),
@@ -288,7 +389,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public MountTResponse mount(final String alluxioPath, final String ufsPath,
       final MountTOptions options) throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<MountTResponse>() {
+    return call(mHeavyCost, new RpcCallableThrowsIOException<MountTResponse>() {
       @Override
       public MountTResponse call() throws AlluxioException, IOException {
         mFileSystemMaster.mount(new AlluxioURI(alluxioPath), new AlluxioURI(ufsPath),
@@ -306,7 +407,7 @@ public final class FileSystemMasterClientServiceHandler implements
 
   @Override
   public GetMountTableTResponse getMountTable() throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<GetMountTableTResponse>() {
+    return call(LIGHT_COST, new RpcCallableThrowsIOException<GetMountTableTResponse>() {
       @Override
       public GetMountTableTResponse call() throws AlluxioException, IOException {
         Map<String, MountPointInfo> mountTableWire = mFileSystemMaster.getMountTable();
@@ -330,7 +431,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public DeleteTResponse remove(final String path, final boolean recursive,
       final DeleteTOptions options) throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<DeleteTResponse>() {
+    return call(mHeavyCost, new RpcCallableThrowsIOException<DeleteTResponse>() {
       @Override
       public DeleteTResponse call() throws AlluxioException, IOException {
         if (options == null) {
@@ -355,7 +456,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public RenameTResponse rename(final String srcPath, final String dstPath,
       final RenameTOptions options) throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<RenameTResponse>() {
+    return call(mHeavyCost, new RpcCallableThrowsIOException<RenameTResponse>() {
       @Override
       public RenameTResponse call() throws AlluxioException, IOException {
         mFileSystemMaster
@@ -374,7 +475,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public ScheduleAsyncPersistenceTResponse scheduleAsyncPersistence(final String path,
       final ScheduleAsyncPersistenceTOptions options) throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallable<ScheduleAsyncPersistenceTResponse>() {
+    return call(LIGHT_COST, new RpcCallable<ScheduleAsyncPersistenceTResponse>() {
       @Override
       public ScheduleAsyncPersistenceTResponse call() throws AlluxioException {
         mFileSystemMaster.scheduleAsyncPersistence(new AlluxioURI(path));
@@ -391,7 +492,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public SetAttributeTResponse setAttribute(final String path, final SetAttributeTOptions options)
       throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<SetAttributeTResponse>() {
+    return call(LIGHT_COST, new RpcCallableThrowsIOException<SetAttributeTResponse>() {
       @Override
       public SetAttributeTResponse call() throws AlluxioException, IOException {
         mFileSystemMaster.setAttribute(new AlluxioURI(path), new SetAttributeOptions(options));
@@ -408,7 +509,7 @@ public final class FileSystemMasterClientServiceHandler implements
   @Override
   public UnmountTResponse unmount(final String alluxioPath, final UnmountTOptions options)
       throws AlluxioTException {
-    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<UnmountTResponse>() {
+    return call(mHeavyCost, new RpcCallableThrowsIOException<UnmountTResponse>() {
       @Override
       public UnmountTResponse call() throws AlluxioException, IOException {
         mFileSystemMaster.unmount(new AlluxioURI(alluxioPath));
@@ -421,4 +522,55 @@ public final class FileSystemMasterClientServiceHandler implements
       }
     });
   }
+
+  /**
+   * Calls the given {@link RpcCallable} once the scheduler admits it.
+   *
+   * @param cost the scheduler cost of the RPC
+   * @param callable the callable to call
+   * @param <T> the return type of the callable
+   * @return the return value from calling the callable
+   */
+  private <T> T call(int cost, final RpcCallable<T> callable) throws AlluxioTException {
+    return call(cost, new RpcCallableThrowsIOException<T>() {
+      @Override
+      public T call() throws AlluxioException {
+        return callable.call();
+      }
+
+      @Override
+      public String toString() {
+        return callable.toString();
+      }
+    });
+  }
+
+  /**
+   * Calls the given {@link RpcCallableThrowsIOException} once the scheduler admits it. If the
+   * scheduler rejects the RPC, the client receives a RESOURCE_EXHAUSTED error and backs off.
+   *
+   * @param cost the scheduler cost of the RPC
+   * @param callable the callable to call
+   * @param <T> the return type of the callable
+   * @return the return value from calling the callable
+   */
+  private <T> T call(final int cost, final RpcCallableThrowsIOException<T> callable)
+      throws AlluxioTException {
+    if (mScheduler == null) {
+      return RpcUtils.call(LOG, callable);
+    }
+    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<T>() {
+      @Override
+      public T call() throws AlluxioException, IOException {
+        try (FairRpcScheduler.Permit permit = mScheduler.acquire(cost)) {
+          return callable.call();
+        }
+      }
+
+      @Override
+      public String toString() {
+        return callable.toString();
+      }
+    });
+  }
 }
@@ -11,6 +11,7 @@
 
 package alluxio.master.file;
 
+import alluxio.network.thrift.MultiplexedRequestTransport;
 import alluxio.thrift.FileSystemMasterClientService;
 
 import org.apache.thrift.TException;
@@ -21,6 +22,8 @@ import org.apache.thrift.transport.TTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Alluxio customized Thrift processor to handle RPC and track client IP.
  *
@@ -37,12 +40,18 @@ import org.slf4j.LoggerFactory;
  * {@link FileSystemMasterClientService.Processor} class and
  * override its {@link org.apache.thrift.ProcessFunction#process} method. In this method, we store
  * the client IP as a thread-local variable for future use by {@link DefaultFileSystemMaster}.
+ *
+ * With the THREADED_SELECTOR server type, requests are read by selector threads and processed
+ * from an in-memory transport, which does not know the client address. The client IP is then
+ * unavailable and audited as null.
  */
 public class FileSystemMasterClientServiceProcessor
     extends FileSystemMasterClientService.Processor {
   private static final Logger LOG =
       LoggerFactory.getLogger(FileSystemMasterClientServiceProcessor.class);
   private static ThreadLocal<String> sClientIpThreadLocal = new ThreadLocal<>();
+  /** Whether the transport without a client address was already logged. */
+  private static final AtomicBoolean LOGGED_UNKNOWN_TRANSPORT = new AtomicBoolean(false);
 
   /**
    * Constructs a {@link FileSystemMasterClientServiceProcessor} instance.
@@ -71,8 +80,15 @@ public class FileSystemMasterClientServiceProcessor
     if (transport instanceof TSocket) {
       String ip = ((TSocket) transport).getSocket().getInetAddress().toString();
       sClientIpThreadLocal.set(ip);
+    } else if (transport instanceof MultiplexedRequestTransport) {
+      String ip = ((MultiplexedRequestTransport) transport).getClientAddress().toString();
+      sClientIpThreadLocal.set(ip);
     } else {
-      LOG.warn("Failed to obtain client IP: underlying transport is not TSocket");
+      // This happens for every request of a selector server, so it is only logged once
+      if (LOGGED_UNKNOWN_TRANSPORT.compareAndSet(false, true)) {
+        LOG.debug("Client IP is not available from transport {}, it is audited as null",
+            transport.getClass().getName());
+      }
       sClientIpThreadLocal.set(null);
     }
     return super.process(in, out);
@@ -12,7 +12,10 @@
 package alluxio.master.file;
 
 import alluxio.AlluxioURI;
+import alluxio.Configuration;
 import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.exception.FileDoesNotExistException;
 import alluxio.heartbeat.HeartbeatExecutor;
 import alluxio.master.file.meta.Inode;
 import alluxio.master.file.meta.InodeTree;
@@ -21,17 +24,32 @@ import alluxio.master.file.meta.TtlBucket;
 import alluxio.master.file.meta.TtlBucketList;
 import alluxio.master.file.options.DeleteOptions;
 import alluxio.master.file.options.FreeOptions;
+import alluxio.metrics.MetricsSystem;
 import alluxio.wire.TtlAction;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * This class represents the executor for periodic inode ttl check.
+ *
+ * All the inodes expired since the last check are processed together. Inodes inside an expired
+ * directory which is deleted are skipped, since the recursive deletion of the directory already
+ * takes care of them, and deletions are applied through
+ * {@link FileSystemMaster#applyBatch(List)} so that they share journal flushes.
  */
 @NotThreadSafe
 final class InodeTtlChecker implements HeartbeatExecutor {
@@ -53,59 +71,137 @@ final class InodeTtlChecker implements HeartbeatExecutor {
 
   @Override
   public void heartbeat() {
-    Set<TtlBucket> expiredBuckets = mTtlBuckets.getExpiredBuckets(System.currentTimeMillis());
+    long nowMs = System.currentTimeMillis();
+    Set<TtlBucket> expiredBuckets = mTtlBuckets.getExpiredBuckets(nowMs);
+    // Expired inodes sorted by path, so that directories are visited before their descendants.
+    Map<AlluxioURI, Inode<?>> expiredInodes = new TreeMap<>();
     for (TtlBucket bucket : expiredBuckets) {
-      for (Inode inode : bucket.getInodes()) {
-        AlluxioURI path = null;
+      if (!bucket.getInodes().isEmpty()) {
+        Metrics.TTL_EXPIRY_LAG.update(Math.max(nowMs - bucket.getTtlIntervalEndTimeMs(), 0),
+            TimeUnit.MILLISECONDS);
+      }
+      for (Inode<?> inode : bucket.getInodes()) {
         try (LockedInodePath inodePath = mInodeTree
             .lockFullInodePath(inode.getId(), InodeTree.LockMode.READ)) {
-          path = inodePath.getUri();
+          expiredInodes.put(inodePath.getUri(), inode);
         } catch (Exception e) {
           LOG.error("Exception trying to clean up {} for ttl check: {}", inode.toString(),
               e.toString());
         }
-        if (path != null) {
-          try {
-            TtlAction ttlAction = inode.getTtlAction();
-            LOG.debug("Path {} TTL has expired, performing action {}", path.getPath(), ttlAction);
-            switch (ttlAction) {
-              case FREE:
-                // public free method will lock the path, and check WRITE permission required at
-                // parent of file
-                if (inode.isDirectory()) {
-                  mFileSystemMaster
-                      .free(path, FreeOptions.defaults().setForced(true).setRecursive(true));
-                } else {
-                  mFileSystemMaster.free(path, FreeOptions.defaults().setForced(true));
-                }
-                // Reset state
-                inode.setTtl(Constants.NO_TTL);
-                inode.setTtlAction(TtlAction.DELETE);
-                mTtlBuckets.remove(inode);
-                break;
-              case DELETE:// Default if not set is DELETE
-                // public delete method will lock the path, and check WRITE permission required at
-                // parent of file
-                if (inode.isDirectory()) {
-                  mFileSystemMaster.delete(path, DeleteOptions.defaults().setRecursive(true));
-                } else {
-                  mFileSystemMaster.delete(path, DeleteOptions.defaults().setRecursive(false));
-                }
-                break;
-              default:
-                LOG.error("Unknown ttl action {}", ttlAction);
-            }
-          } catch (Exception e) {
-            LOG.error("Exception trying to clean up {} for ttl check", inode.toString(), e);
+      }
+    }
+
+    Set<AlluxioURI> deletedDirectories = new HashSet<>();
+    List<BatchOperation> deletions = new ArrayList<>();
+    for (Map.Entry<AlluxioURI, Inode<?>> entry : expiredInodes.entrySet()) {
+      AlluxioURI path = entry.getKey();
+      Inode<?> inode = entry.getValue();
+      if (hasAncestorIn(path, deletedDirectories)) {
+        LOG.debug("Path {} TTL has expired, deleted with its ancestor", path.getPath());
+        continue;
+      }
+      TtlAction ttlAction = inode.getTtlAction();
+      LOG.debug("Path {} TTL has expired, performing action {}", path.getPath(), ttlAction);
+      Metrics.PATHS_EXPIRED.inc();
+      switch (ttlAction) {
+        case FREE:
+          free(path, inode);
+          break;
+        case DELETE:// Default if not set is DELETE
+          if (inode.isDirectory()) {
+            deletedDirectories.add(path);
           }
-        }
+          deletions.add(BatchOperation.delete(path,
+              DeleteOptions.defaults().setRecursive(inode.isDirectory())));
+          break;
+        default:
+          LOG.error("Unknown ttl action {}", ttlAction);
       }
     }
+    // Batches larger than the master accepts would be rejected and deleted one by one
+    int batchSize =
+        Math.max(1, Configuration.getInt(PropertyKey.MASTER_FILE_BATCH_MAX_OPERATIONS));
+    for (List<BatchOperation> batch : Lists.partition(deletions, batchSize)) {
+      delete(batch);
+    }
     mTtlBuckets.removeBuckets(expiredBuckets);
   }
 
+  /**
+   * @param path the path to check
+   * @param directories a set of directories
+   * @return whether any strict ancestor of the path is in the set of directories
+   */
+  private static boolean hasAncestorIn(AlluxioURI path, Set<AlluxioURI> directories) {
+    if (directories.isEmpty()) {
+      return false;
+    }
+    for (AlluxioURI parent = path.getParent(); parent != null; parent = parent.getParent()) {
+      if (directories.contains(parent)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void free(AlluxioURI path, Inode<?> inode) {
+    try {
+      // public free method will lock the path, and check WRITE permission required at
+      // parent of file
+      if (inode.isDirectory()) {
+        mFileSystemMaster.free(path, FreeOptions.defaults().setForced(true).setRecursive(true));
+      } else {
+        mFileSystemMaster.free(path, FreeOptions.defaults().setForced(true));
+      }
+      // Reset state
+      mTtlBuckets.remove(inode);
+      inode.setTtl(Constants.NO_TTL);
+      inode.setTtlAction(TtlAction.DELETE);
+    } catch (Exception e) {
+      LOG.error("Exception trying to clean up {} for ttl check", inode.toString(), e);
+    }
+  }
+
+  /**
+   * Deletes a batch of expired paths. If the batch fails as a whole, the paths are deleted one by
+   * one so that a single failure does not prevent the other paths from being deleted.
+   *
+   * @param deletions the deletions to apply
+   */
+  private void delete(List<BatchOperation> deletions) {
+    try {
+      // public applyBatch method will lock the paths, and check WRITE permission required at
+      // parent of file
+      mFileSystemMaster.applyBatch(deletions);
+      return;
+    } catch (Exception e) {
+      LOG.debug("Failed to delete {} expired paths in a batch, deleting them one by one: {}",
+          deletions.size(), e.toString());
+    }
+    for (BatchOperation deletion : deletions) {
+      try {
+        mFileSystemMaster.delete(deletion.getPath(), deletion.getDeleteOptions());
+      } catch (FileDoesNotExistException e) {
+        // Already deleted by the failed batch.
+        LOG.debug("Path {} was already deleted for ttl check", deletion.getPath());
+      } catch (Exception e) {
+        LOG.error("Exception trying to clean up {} for ttl check", deletion.getPath(), e);
+      }
+    }
+  }
+
   @Override
   public void close() {
     // Nothing to clean up
   }
+
+  /**
+   * Class that contains metrics about the ttl check.
+   */
+  private static final class Metrics {
+    private static final Counter PATHS_EXPIRED = MetricsSystem.masterCounter("PathsExpired");
+    private static final Timer TTL_EXPIRY_LAG = MetricsSystem.masterTimer("TtlExpiryLag");
+
+    private Metrics() {} // prevent instantiation
+  }
 }
@@ -22,14 +22,19 @@ import alluxio.master.file.meta.InodeTree;
 import alluxio.master.file.meta.LockedInodePath;
 import alluxio.security.authentication.AuthenticatedClientUser;
 import alluxio.security.authorization.Mode;
+import alluxio.security.group.GroupMappingService;
 import alluxio.util.CommonUtils;
 import alluxio.util.io.PathUtils;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -38,6 +43,16 @@ import javax.annotation.concurrent.NotThreadSafe;
 // TODO(peis): Migrate this class to a set of static functions.
 @NotThreadSafe // TODO(jiri): make thread-safe (c.f. ALLUXIO-1664)
 public final class PermissionChecker {
+  /**
+   * How long the groups of a user are remembered by an RPC thread. A single RPC usually checks
+   * permissions several times, and this avoids going back to the group mapping service for each
+   * check while still picking up group changes quickly.
+   */
+  private static final long GROUPS_MEMO_TTL_MS = 1000;
+
+  /** The groups most recently looked up by the current thread. */
+  private static final ThreadLocal<GroupsMemo> GROUPS_MEMO = new ThreadLocal<>();
+
   /** The file system inode structure. */
   private final InodeTree mInodeTree;
 
@@ -47,6 +62,22 @@ public final class PermissionChecker {
   /** The super group of Alluxio file system. All users in this group have super permission. */
   private final String mFileSystemSuperGroup;
 
+  /** Whether the groups looked up by a thread may be reused by its next permission checks. */
+  private final boolean mGroupsMemoEnabled;
+
+  /**
+   * Directories which a user was allowed to traverse, i.e. execute every directory from the root
+   * down to and including the directory, keyed by user and directory inode id. Null if disabled.
+   */
+  @Nullable
+  private final Cache<TraverseKey, TraverseEntry> mTraverseCache;
+
+  /**
+   * Incremented whenever the result of a traverse check may change. Cache entries recorded at an
+   * older version are ignored.
+   */
+  private final AtomicLong mTraverseVersion = new AtomicLong();
+
   /**
    * Constructs a {@link PermissionChecker} instance for Alluxio file system.
    *
@@ -58,6 +89,23 @@ public final class PermissionChecker {
         Configuration.getBoolean(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_ENABLED);
     mFileSystemSuperGroup =
         Configuration.get(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_SUPERGROUP);
+    mGroupsMemoEnabled =
+        Configuration.getMs(PropertyKey.SECURITY_GROUP_MAPPING_CACHE_TIMEOUT_MS) > 0;
+    int traverseCacheSize =
+        Configuration.getInt(PropertyKey.SECURITY_AUTHORIZATION_PERMISSION_CACHE_SIZE);
+    mTraverseCache = mPermissionCheckEnabled && traverseCacheSize > 0
+        ? CacheBuilder.newBuilder().maximumSize(traverseCacheSize)
+            .<TraverseKey, TraverseEntry>build()
+        : null;
+  }
+
+  /**
+   * Invalidates the remembered traverse checks. This must be called whenever the mode, owner or
+   * group of a directory changes, or a directory is moved, while the inode is still locked for
+   * writing.
+   */
+  public void invalidateTraverseCache() {
+    mTraverseVersion.incrementAndGet();
   }
 
   /**
@@ -177,8 +225,19 @@ public final class PermissionChecker {
    * @throws AccessControlException if the group service information cannot be accessed
    */
   private List<String> getGroups(String user) throws AccessControlException {
+    GroupMappingService service = GroupMappingService.Factory.get();
+    GroupsMemo memo = GROUPS_MEMO.get();
+    long nowMs = CommonUtils.getCurrentMs();
+    if (memo != null && memo.mService == service && memo.mUser.equals(user)
+        && nowMs < memo.mExpirationMs) {
+      return memo.mGroups;
+    }
     try {
-      return CommonUtils.getGroups(user);
+      List<String> groups = service.getGroups(user);
+      if (mGroupsMemoEnabled) {
+        GROUPS_MEMO.set(new GroupsMemo(service, user, groups, nowMs + GROUPS_MEMO_TTL_MS));
+      }
+      return groups;
     } catch (IOException e) {
       throw new AccessControlException(
           ExceptionMessage.PERMISSION_DENIED.getMessage(e.getMessage()));
@@ -248,10 +307,7 @@ public final class PermissionChecker {
       return;
     }
 
-    // traverses from root to the parent dir to all inodes included by this path are executable
-    for (int i = 0; i < size - 1; i++) {
-      checkInode(user, groups, inodeList.get(i), Mode.Bits.EXECUTE, path);
-    }
+    checkTraverse(user, groups, path, inodeList);
 
     Inode inode = inodeList.get(inodeList.size() - 1);
     if (checkIsOwner) {
@@ -264,6 +320,54 @@ public final class PermissionChecker {
     checkInode(user, groups, inode, bits, path);
   }
 
+  /**
+   * Checks that all the inodes from root to the parent of the last inode in the list are
+   * executable by the user. The walk starts after the deepest ancestor the user is already known
+   * to be able to traverse, so repeated checks under the same directory cost a single lookup.
+   *
+   * @param user who requests access permission
+   * @param groups in which user belongs to
+   * @param path the path to check permission on
+   * @param inodeList file info list of all the inodes retrieved by traversing the path
+   * @throws AccessControlException if permission checking fails
+   */
+  private void checkTraverse(String user, List<String> groups, String path,
+      List<Inode<?>> inodeList) throws AccessControlException {
+    int parentIndex = inodeList.size() - 2;
+    if (parentIndex < 0) {
+      return;
+    }
+    if (mTraverseCache == null) {
+      for (int i = 0; i <= parentIndex; i++) {
+        checkInode(user, groups, inodeList.get(i), Mode.Bits.EXECUTE, path);
+      }
+      return;
+    }
+    // Read the version before walking so that a concurrent change makes the entry stale.
+    long version = mTraverseVersion.get();
+    int start = 0;
+    for (int i = parentIndex; i >= 0; i--) {
+      Inode<?> inode = inodeList.get(i);
+      if (inode != null && isTraverseCached(user, groups, inode, version)) {
+        start = i + 1;
+        break;
+      }
+    }
+    for (int i = start; i <= parentIndex; i++) {
+      checkInode(user, groups, inodeList.get(i), Mode.Bits.EXECUTE, path);
+    }
+    Inode<?> parent = inodeList.get(parentIndex);
+    if (start <= parentIndex && parent != null) {
+      mTraverseCache.put(new TraverseKey(user, parent.getId()), new TraverseEntry(groups, version));
+    }
+  }
+
+  private boolean isTraverseCached(String user, List<String> groups, Inode<?> inode,
+      long version) {
+    TraverseEntry entry = mTraverseCache.getIfPresent(new TraverseKey(user, inode.getId()));
+    return entry != null && entry.mVersion == version && entry.mGroups.equals(groups);
+  }
+
   /**
    * This method checks requested permission on a given inode, represented by its fileInfo.
    *
@@ -318,13 +422,10 @@ public final class PermissionChecker {
       return Mode.Bits.ALL;
     }
 
-    // traverses from root to the parent dir to all inodes included by this path are executable
-    for (int i = 0; i < size - 1; i++) {
-      try {
-        checkInode(user, groups, inodeList.get(i), Mode.Bits.EXECUTE, path);
-      } catch (AccessControlException e) {
-        return Mode.Bits.NONE;
-      }
+    try {
+      checkTraverse(user, groups, path, inodeList);
+    } catch (AccessControlException e) {
+      return Mode.Bits.NONE;
     }
 
     Inode inode = inodeList.get(inodeList.size() - 1);
@@ -358,4 +459,65 @@ public final class PermissionChecker {
             .append(", inode mode=").append(new Mode(inode.getMode()).toString());
     return stringBuilder.toString();
   }
+
+  /**
+   * The groups of a user remembered by a thread.
+   */
+  private static final class GroupsMemo {
+    private final GroupMappingService mService;
+    private final String mUser;
+    private final List<String> mGroups;
+    private final long mExpirationMs;
+
+    private GroupsMemo(GroupMappingService service, String user, List<String> groups,
+        long expirationMs) {
+      mService = service;
+      mUser = user;
+      mGroups = groups;
+      mExpirationMs = expirationMs;
+    }
+  }
+
+  /**
+   * Identifies a directory traversed by a user.
+   */
+  private static final class TraverseKey {
+    private final String mUser;
+    private final long mInodeId;
+
+    private TraverseKey(String user, long inodeId) {
+      mUser = user;
+      mInodeId = inodeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof TraverseKey)) {
+        return false;
+      }
+      TraverseKey that = (TraverseKey) o;
+      return mInodeId == that.mInodeId && mUser.equals(that.mUser);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * mUser.hashCode() + Long.hashCode(mInodeId);
+    }
+  }
+
+  /**
+   * A successful traverse check, valid for the groups and version it was made with.
+   */
+  private static final class TraverseEntry {
+    private final List<String> mGroups;
+    private final long mVersion;
+
+    private TraverseEntry(List<String> groups, long version) {
+      mGroups = groups;
+      mVersion = version;
+    }
+  }
 }
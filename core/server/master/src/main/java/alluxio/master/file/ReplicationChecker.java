@@ -0,0 +1,175 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.exception.BlockInfoException;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.status.UnavailableException;
+import alluxio.heartbeat.HeartbeatExecutor;
+import alluxio.master.block.BlockId;
+import alluxio.master.block.BlockMaster;
+import alluxio.master.file.meta.Inode;
+import alluxio.master.file.meta.InodeFile;
+import alluxio.master.file.meta.InodeTree;
+import alluxio.master.file.meta.LockedInodePath;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Periodically adjusts the number of replicas of blocks in Alluxio storage. A block is copied to
+ * more workers when it is read frequently or when its file requires a minimum replication, and
+ * replicas are removed when there are more than its file's maximum replication, or when a block
+ * which was read frequently no longer is. Only blocks which are already stored on a worker are
+ * considered, since new replicas are copied from existing ones.
+ */
+@NotThreadSafe
+final class ReplicationChecker implements HeartbeatExecutor {
+  private static final Logger LOG = LoggerFactory.getLogger(ReplicationChecker.class);
+
+  private final InodeTree mInodeTree;
+  private final BlockMaster mBlockMaster;
+  /** Number of reads per check interval above which a block is hot, or 0 if disabled. */
+  private final long mHotBlockAccessThreshold;
+  /** Number of replicas to keep of a hot block. */
+  private final int mHotBlockReplicas;
+  /**
+   * Blocks which were hot in the previous check, mapped to their number of replicas before they
+   * became hot. Blocks are shrunk back to that number once they are no longer hot.
+   */
+  private final Map<Long, Integer> mHotBlockReplicasBefore = new HashMap<>();
+
+  /**
+   * Constructs a new {@link ReplicationChecker}.
+   *
+   * @param inodeTree the inode tree of the file system master
+   * @param blockMaster the block master
+   */
+  public ReplicationChecker(InodeTree inodeTree, BlockMaster blockMaster) {
+    mInodeTree = inodeTree;
+    mBlockMaster = blockMaster;
+    mHotBlockAccessThreshold =
+        Configuration.getLong(PropertyKey.MASTER_REPLICATION_HOT_BLOCK_ACCESS_THRESHOLD);
+    mHotBlockReplicas = Configuration.getInt(PropertyKey.MASTER_REPLICATION_HOT_BLOCK_REPLICAS);
+  }
+
+  @Override
+  public void heartbeat() throws InterruptedException {
+    // Always drain the counts so they only cover the most recent interval.
+    Map<Long, Long> accessCounts = mBlockMaster.drainBlockAccessCounts();
+    Set<Long> hotBlockIds = new HashSet<>();
+    Set<Long> fileIds = mInodeTree.getReplicationLimitedFileIds();
+    if (mHotBlockAccessThreshold > 0) {
+      for (Map.Entry<Long, Long> entry : accessCounts.entrySet()) {
+        if (entry.getValue() >= mHotBlockAccessThreshold) {
+          long blockId = entry.getKey();
+          hotBlockIds.add(blockId);
+          fileIds.add(fileIdOf(blockId));
+        }
+      }
+    }
+    // Blocks which cooled down are checked once more to remove their extra replicas.
+    Map<Long, Integer> cooledBlocks = new HashMap<>();
+    Iterator<Map.Entry<Long, Integer>> it = mHotBlockReplicasBefore.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Long, Integer> entry = it.next();
+      if (!hotBlockIds.contains(entry.getKey())) {
+        cooledBlocks.put(entry.getKey(), entry.getValue());
+        fileIds.add(fileIdOf(entry.getKey()));
+        it.remove();
+      }
+    }
+
+    for (long fileId : fileIds) {
+      if (Thread.interrupted()) {
+        throw new InterruptedException("ReplicationChecker interrupted.");
+      }
+      List<Long> blockIds;
+      int replicationMin;
+      int replicationMax;
+      boolean persisted;
+      try (LockedInodePath inodePath =
+               mInodeTree.lockFullInodePath(fileId, InodeTree.LockMode.READ)) {
+        Inode<?> inode = inodePath.getInode();
+        if (!inode.isFile() || !((InodeFile) inode).isCompleted()) {
+          continue;
+        }
+        InodeFile file = (InodeFile) inode;
+        blockIds = file.getBlockIds();
+        replicationMin = file.getReplicationMin();
+        replicationMax = file.getReplicationMax();
+        persisted = file.isPersisted();
+      } catch (FileDoesNotExistException e) {
+        // The file was deleted since it was found.
+        continue;
+      }
+      for (long blockId : blockIds) {
+        int current;
+        try {
+          current = mBlockMaster.getBlockInfo(blockId).getLocations().size();
+        } catch (BlockInfoException e) {
+          // The block is not in Alluxio storage.
+          continue;
+        } catch (UnavailableException e) {
+          LOG.debug("Skipping replication check while the block master is unavailable: {}",
+              e.getMessage());
+          return;
+        }
+        if (current == 0) {
+          continue;
+        }
+        int target = current;
+        if (hotBlockIds.contains(blockId)) {
+          Integer before = mHotBlockReplicasBefore.get(blockId);
+          mHotBlockReplicasBefore.put(blockId, before == null ? current : before);
+          target = Math.max(target, mHotBlockReplicas);
+        } else if (cooledBlocks.containsKey(blockId)) {
+          target = Math.min(target, cooledBlocks.get(blockId));
+        }
+        target = Math.max(target, replicationMin);
+        if (replicationMax != Constants.REPLICATION_MAX_INFINITY) {
+          target = Math.min(target, replicationMax);
+        }
+        if (!persisted) {
+          // Never remove the last copy of data which is not in the under storage.
+          target = Math.max(target, 1);
+        }
+        mBlockMaster.setBlockReplication(blockId, target);
+      }
+    }
+  }
+
+  /**
+   * @param blockId the id of a block
+   * @return the id of the file the block belongs to
+   */
+  private static long fileIdOf(long blockId) {
+    return BlockId.createBlockId(BlockId.getContainerId(blockId), BlockId.getMaxSequenceNumber());
+  }
+
+  @Override
+  public void close() {
+    // Nothing to clean up
+  }
+}
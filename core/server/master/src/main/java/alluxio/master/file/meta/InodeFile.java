@@ -15,6 +15,7 @@ import alluxio.Constants;
 import alluxio.exception.BlockInfoException;
 import alluxio.exception.FileAlreadyCompletedException;
 import alluxio.exception.InvalidFileSizeException;
+import alluxio.exception.PreconditionMessage;
 import alluxio.master.ProtobufUtils;
 import alluxio.master.block.BlockId;
 import alluxio.master.file.options.CreateFileOptions;
@@ -41,6 +42,8 @@ public final class InodeFile extends Inode<InodeFile> {
   private boolean mCacheable;
   private boolean mCompleted;
   private long mLength;
+  private int mReplicationMin;
+  private int mReplicationMax;
 
   /**
    * Creates a new instance of {@link InodeFile}.
@@ -55,6 +58,8 @@ public final class InodeFile extends Inode<InodeFile> {
     mCacheable = false;
     mCompleted = false;
     mLength = 0;
+    mReplicationMin = 0;
+    mReplicationMax = Constants.REPLICATION_MAX_INFINITY;
   }
 
   @Override
@@ -88,6 +93,8 @@ public final class InodeFile extends Inode<InodeFile> {
     ret.setPersistenceState(getPersistenceState().toString());
     ret.setMountPoint(false);
     ret.setUfsFingerprint(getUfsFingerprint());
+    ret.setReplicationMin(mReplicationMin);
+    ret.setReplicationMax(mReplicationMax);
     return ret;
   }
 
@@ -122,6 +129,28 @@ public final class InodeFile extends Inode<InodeFile> {
     return mLength;
   }
 
+  /**
+   * @return the minimum number of replicas of each block to keep in Alluxio
+   */
+  public int getReplicationMin() {
+    return mReplicationMin;
+  }
+
+  /**
+   * @return the maximum number of replicas of each block to keep in Alluxio, or
+   *         {@link Constants#REPLICATION_MAX_INFINITY} for no limit
+   */
+  public int getReplicationMax() {
+    return mReplicationMax;
+  }
+
+  /**
+   * @return true if the file has a replication requirement set
+   */
+  public boolean hasReplicationLimits() {
+    return mReplicationMin > 0 || mReplicationMax != Constants.REPLICATION_MAX_INFINITY;
+  }
+
   /**
    * @return the id of a new block of the file
    */
@@ -211,6 +240,29 @@ public final class InodeFile extends Inode<InodeFile> {
     return getThis();
   }
 
+  /**
+   * @param replicationMin the minimum number of block replicas to use
+   * @return the updated object
+   */
+  public InodeFile setReplicationMin(int replicationMin) {
+    Preconditions.checkArgument(replicationMin >= 0,
+        PreconditionMessage.INVALID_REPLICATION_MIN_VALUE);
+    mReplicationMin = replicationMin;
+    return getThis();
+  }
+
+  /**
+   * @param replicationMax the maximum number of block replicas to use
+   * @return the updated object
+   */
+  public InodeFile setReplicationMax(int replicationMax) {
+    Preconditions.checkArgument(
+        replicationMax >= 0 || replicationMax == Constants.REPLICATION_MAX_INFINITY,
+        PreconditionMessage.INVALID_REPLICATION_MAX_VALUE);
+    mReplicationMax = replicationMax;
+    return getThis();
+  }
+
   /**
    * Completes the file. Cannot set the length if the file is already completed. However, an unknown
    * file size, {@link Constants#UNKNOWN_SIZE}, is valid. Cannot complete an already complete file,
@@ -253,7 +305,9 @@ public final class InodeFile extends Inode<InodeFile> {
         .add("blockSizeBytes", mBlockSizeBytes)
         .add("cacheable", mCacheable)
         .add("completed", mCompleted)
-        .add("length", mLength).toString();
+        .add("length", mLength)
+        .add("replicationMin", mReplicationMin)
+        .add("replicationMax", mReplicationMax).toString();
   }
 
   /**
@@ -280,6 +334,8 @@ public final class InodeFile extends Inode<InodeFile> {
         .setOwner(entry.getOwner())
         .setGroup(entry.getGroup())
         .setMode((short) entry.getMode())
+        .setReplicationMin(entry.getReplicationMin())
+        .setReplicationMax(entry.getReplicationMax())
         .setUfsFingerprint(entry.hasUfsFingerprint() ? entry.getUfsFingerprint() :
             Constants.INVALID_UFS_FINGERPRINT);
   }
@@ -329,6 +385,8 @@ public final class InodeFile extends Inode<InodeFile> {
         .setParentId(getParentId())
         .setPersistenceState(getPersistenceState().name())
         .setPinned(isPinned())
+        .setReplicationMin(getReplicationMin())
+        .setReplicationMax(getReplicationMax())
         .setTtl(getTtl())
         .setTtlAction(ProtobufUtils.toProtobuf(getTtlAction()))
         .setUfsFingerprint(getUfsFingerprint())
@@ -115,6 +115,8 @@ public class InodeTree implements JournalEntryIterable {
   private final FieldIndex<Inode<?>> mInodes = new UniqueFieldIndex<>(ID_INDEX);
   /** A set of inode ids representing pinned inode files. */
   private final Set<Long> mPinnedInodeFileIds = new ConcurrentHashSet<>(64, 0.90f, 64);
+  /** A set of inode ids representing inode files with a replication min or max set. */
+  private final Set<Long> mReplicationLimitedFileIds = new ConcurrentHashSet<>(64, 0.90f, 64);
 
   /**
    * Inode id management. Inode ids are essentially block ids.
@@ -805,6 +807,7 @@ public class InodeTree implements JournalEntryIterable {
 
     mInodes.remove(inode);
     mPinnedInodeFileIds.remove(inode.getId());
+    mReplicationLimitedFileIds.remove(inode.getId());
     inode.setDeleted(true);
   }
 
@@ -864,6 +867,62 @@ public class InodeTree implements JournalEntryIterable {
     setPinned(inodePath, pinned, System.currentTimeMillis());
   }
 
+  /**
+   * Sets the minimum and maximum number of block replicas of an inode. If the inode is a
+   * directory, the replication limits will be set recursively for all files under it.
+   *
+   * @param inodePath the {@link LockedInodePath} to set the replication limits for
+   * @param replicationMin the minimum number of replicas, or null to keep the current value
+   * @param replicationMax the maximum number of replicas, or null to keep the current value
+   * @param opTimeMs the operation time
+   * @throws FileDoesNotExistException if inode does not exist
+   */
+  public void setReplication(LockedInodePath inodePath, Integer replicationMin,
+      Integer replicationMax, long opTimeMs) throws FileDoesNotExistException {
+    Inode<?> inode = inodePath.getInode();
+
+    if (inode.isFile()) {
+      InodeFile inodeFile = (InodeFile) inode;
+      int newMin = (replicationMin == null) ? inodeFile.getReplicationMin() : replicationMin;
+      int newMax = (replicationMax == null) ? inodeFile.getReplicationMax() : replicationMax;
+      Preconditions.checkArgument(newMax == Constants.REPLICATION_MAX_INFINITY || newMax >= newMin,
+          PreconditionMessage.INVALID_REPLICATION_MAX_VALUE);
+      inodeFile.setReplicationMin(newMin);
+      inodeFile.setReplicationMax(newMax);
+      inodeFile.setLastModificationTimeMs(opTimeMs);
+      if (inodeFile.hasReplicationLimits()) {
+        mReplicationLimitedFileIds.add(inodeFile.getId());
+      } else {
+        mReplicationLimitedFileIds.remove(inodeFile.getId());
+      }
+    } else {
+      assert inode instanceof InodeDirectory;
+      // inode is a directory. Set the replication limits for all children.
+      TempInodePathForDescendant tempInodePath = new TempInodePathForDescendant(inodePath);
+      for (Inode<?> child : ((InodeDirectory) inode).getChildren()) {
+        try {
+          child.lockWriteAndCheckParent(inode);
+        } catch (InvalidPathException e) {
+          // Inode is no longer a child of the directory, continue.
+          continue;
+        }
+        try {
+          tempInodePath.setDescendant(child, getPath(child));
+          setReplication(tempInodePath, replicationMin, replicationMax, opTimeMs);
+        } finally {
+          child.unlockWrite();
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the set of file ids which have a replication min or max set
+   */
+  public Set<Long> getReplicationLimitedFileIds() {
+    return new HashSet<>(mReplicationLimitedFileIds);
+  }
+
   /**
    * @return the set of file ids which are pinned
    */
@@ -955,6 +1014,7 @@ public class InodeTree implements JournalEntryIterable {
     mRoot = null;
     mInodes.clear();
     mPinnedInodeFileIds.clear();
+    mReplicationLimitedFileIds.clear();
   }
 
   private void setRoot(InodeDirectory directory) {
@@ -988,6 +1048,9 @@ public class InodeTree implements JournalEntryIterable {
     if (inode.isFile() && inode.isPinned()) {
       mPinnedInodeFileIds.add(inode.getId());
     }
+    if (inode.isFile() && ((InodeFile) inode).hasReplicationLimits()) {
+      mReplicationLimitedFileIds.add(inode.getId());
+    }
   }
 
   /**
@@ -13,58 +13,74 @@ package alluxio.master.file.meta;
 
 import alluxio.Constants;
 
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * A list of non-empty {@link TtlBucket}s sorted by ttl interval start time of each bucket.
+ * A list of {@link TtlBucket}s indexed by ttl interval start time of each bucket.
+ * <p>
+ * Buckets are looked up by their interval start time in O(1), and are scheduled on a
+ * {@link TtlTimingWheel} until they expire, so that neither inserting an inode nor finding the
+ * expired buckets depends on the number of buckets in the list. Once expired, a bucket is kept in
+ * a sorted set until it is removed by {@link #removeBuckets(Set)}.
  * <p>
  * Two adjacent buckets may not have adjacent intervals since there may be no inodes with ttl value
  * in the skipped intervals.
  */
 @ThreadSafe
 public final class TtlBucketList {
-  /**
-   * List of buckets sorted by interval start time. SkipList is used for O(logn) insertion and
-   * retrieval, see {@link ConcurrentSkipListSet}.
-   */
-  private final ConcurrentSkipListSet<TtlBucket> mBucketList;
+  /** The number of slots in each level of the timing wheel. */
+  private static final int WHEEL_SIZE = 64;
+
+  /** Map from interval start time to the bucket of that interval. */
+  private final ConcurrentHashMap<Long, TtlBucket> mBuckets;
+  /** Buckets which have not expired yet, scheduled by their interval end time. */
+  @GuardedBy("itself")
+  private final TtlTimingWheel mWheel;
+  /** Buckets which have expired but are not removed yet, sorted by interval start time. */
+  private final ConcurrentSkipListSet<TtlBucket> mExpiredBuckets;
 
   /**
    * Creates a new list of {@link TtlBucket}s.
    */
   public TtlBucketList() {
-    mBucketList = new ConcurrentSkipListSet<>();
+    this(System.currentTimeMillis());
   }
 
   /**
-   * Gets the bucket in the list that contains the inode.
+   * Creates a new list of {@link TtlBucket}s whose timing wheel starts at the given time.
    *
-   * @param inode the inode to be contained
-   * @return the bucket containing the inode, or null if no such bucket exists
+   * @param startTimeMs the start time of the timing wheel
    */
-  private TtlBucket getBucketContaining(Inode<?> inode) {
-    if (inode.getTtl() == Constants.NO_TTL) {
-      // no bucket will contain a inode with NO_TTL.
-      return null;
-    }
+  @VisibleForTesting
+  TtlBucketList(long startTimeMs) {
+    mBuckets = new ConcurrentHashMap<>();
+    mWheel = new TtlTimingWheel(Math.max(TtlBucket.getTtlIntervalMs(), 1), WHEEL_SIZE,
+        startTimeMs);
+    mExpiredBuckets = new ConcurrentSkipListSet<>();
+  }
 
+  /**
+   * Computes the start time of the interval of the bucket which should contain the inode. Assume
+   * the list of buckets have continuous intervals, and the first interval starts at 0, then
+   * ttlEndTimeMs should be in number (ttlEndTimeMs / interval) interval, so the start time of
+   * this interval should be (ttlEndTimeMs / interval) * interval.
+   *
+   * @param inode the inode, whose ttl should not be {@link Constants#NO_TTL}
+   * @return the interval start time of the bucket for the inode
+   */
+  private static long getBucketStartTimeMs(Inode<?> inode) {
     long ttlEndTimeMs = inode.getCreationTimeMs() + inode.getTtl();
-    // Gets the last bucket with interval start time less than or equal to the inode's life end
-    // time.
-    TtlBucket bucket = mBucketList.floor(new TtlBucket(ttlEndTimeMs));
-    if (bucket == null || bucket.getTtlIntervalEndTimeMs() < ttlEndTimeMs
-        || (bucket.getTtlIntervalEndTimeMs() == ttlEndTimeMs
-            && TtlBucket.getTtlIntervalMs() != 0)) {
-      // 1. There is no bucket in the list, or
-      // 2. All buckets' interval start time is larger than the inode's life end time, or
-      // 3. No bucket actually contains ttlEndTimeMs in its interval.
-      return null;
-    }
-
-    return bucket;
+    long interval = TtlBucket.getTtlIntervalMs();
+    return interval == 0 ? ttlEndTimeMs : ttlEndTimeMs / interval * interval;
   }
 
   /**
@@ -80,24 +96,16 @@ public final class TtlBucketList {
       return;
     }
 
-    TtlBucket bucket;
-    while (true) {
-      bucket = getBucketContaining(inode);
-      if (bucket != null) {
-        break;
+    long startTimeMs = getBucketStartTimeMs(inode);
+    TtlBucket bucket = mBuckets.get(startTimeMs);
+    if (bucket == null) {
+      TtlBucket newBucket = new TtlBucket(startTimeMs);
+      bucket = mBuckets.putIfAbsent(startTimeMs, newBucket);
+      if (bucket == null) {
+        // Only the thread which added the bucket to the map schedules it.
+        bucket = newBucket;
+        schedule(bucket);
       }
-      long ttlEndTimeMs = inode.getCreationTimeMs() + inode.getTtl();
-      // No bucket contains the inode, so a new bucket should be added with an appropriate interval
-      // start. Assume the list of buckets have continuous intervals, and the first interval starts
-      // at 0, then ttlEndTimeMs should be in number (ttlEndTimeMs / interval) interval, so the
-      // start time of this interval should be (ttlEndTimeMs / interval) * interval.
-      long interval = TtlBucket.getTtlIntervalMs();
-      bucket = new TtlBucket(interval == 0 ? ttlEndTimeMs : ttlEndTimeMs / interval * interval);
-      if (mBucketList.add(bucket)) {
-        break;
-      }
-      // If we reach here, it means the same bucket has been concurrently inserted by another
-      // thread.
     }
     // TODO(zhouyufa): Consider the concurrent situation that the bucket is expired and processed by
     // the InodeTtlChecker, then adding the inode into the bucket is meaningless since the bucket
@@ -105,6 +113,19 @@ public final class TtlBucketList {
     bucket.addInode(inode);
   }
 
+  /**
+   * Schedules a new bucket on the timing wheel, or marks it as expired if it has already expired.
+   *
+   * @param bucket the bucket to schedule
+   */
+  private void schedule(TtlBucket bucket) {
+    synchronized (mWheel) {
+      if (!mWheel.add(bucket)) {
+        mExpiredBuckets.add(bucket);
+      }
+    }
+  }
+
   /**
    * Removes a inode from the bucket containing it if the inode is in one of the buckets, otherwise,
    * do nothing.
@@ -117,7 +138,11 @@ public final class TtlBucketList {
    * @param inode the inode to be removed
    */
   public void remove(Inode<?> inode) {
-    TtlBucket bucket = getBucketContaining(inode);
+    if (inode.getTtl() == Constants.NO_TTL) {
+      // no bucket will contain a inode with NO_TTL.
+      return;
+    }
+    TtlBucket bucket = mBuckets.get(getBucketStartTimeMs(inode));
     if (bucket != null) {
       bucket.removeInode(inode);
     }
@@ -132,15 +157,24 @@ public final class TtlBucketList {
    * @return a set of expired buckets or an empty set if no buckets have expired
    */
   public Set<TtlBucket> getExpiredBuckets(long time) {
-    return mBucketList.headSet(new TtlBucket(time - TtlBucket.getTtlIntervalMs()), true);
+    synchronized (mWheel) {
+      List<TtlBucket> expired = new ArrayList<>();
+      mWheel.advance(time, expired);
+      mExpiredBuckets.addAll(expired);
+    }
+    return mExpiredBuckets.headSet(new TtlBucket(time - TtlBucket.getTtlIntervalMs()), true);
   }
 
   /**
-   * Removes all buckets in the set.
+   * Removes all buckets in the set. The buckets should have been retrieved by
+   * {@link #getExpiredBuckets(long)}.
    *
-   * @param buckets a set of buckets to be removed
+   * @param buckets a set of expired buckets to be removed
    */
   public void removeBuckets(Set<TtlBucket> buckets) {
-    mBucketList.removeAll(buckets);
+    for (TtlBucket bucket : buckets) {
+      mBuckets.remove(bucket.getTtlIntervalStartTimeMs(), bucket);
+    }
+    mExpiredBuckets.removeAll(buckets);
   }
 }
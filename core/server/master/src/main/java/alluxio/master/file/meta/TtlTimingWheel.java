@@ -0,0 +1,130 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A hierarchical timing wheel of {@link TtlBucket}s, keyed by the time at which each bucket
+ * expires, i.e. {@link TtlBucket#getTtlIntervalEndTimeMs()}.
+ *
+ * Each level of the wheel has a fixed number of slots, and each slot spans one tick of that level.
+ * The tick of the lowest level is the ttl checker interval, and the tick of every other level is
+ * the span of the whole level below it. Buckets which are too far in the future for a level are
+ * kept in the next (lazily created) level, and are moved down a level when the wheel advances past
+ * their slot. Scheduling a bucket is O(1), and advancing the wheel only touches the slots which
+ * were passed, independently of how many buckets are scheduled.
+ */
+@NotThreadSafe
+final class TtlTimingWheel {
+  private final long mTickMs;
+  private final int mWheelSize;
+  /** The time span of the whole level, that is the tick multiplied by the wheel size. */
+  private final long mSpanMs;
+  private final List<List<TtlBucket>> mSlots;
+  /** The current time of the wheel, always a multiple of the tick. */
+  private long mCurrentTimeMs;
+  /** The next level of the wheel, created when a bucket is too far in the future. */
+  private TtlTimingWheel mOverflowWheel;
+
+  /**
+   * Creates a new instance of {@link TtlTimingWheel}.
+   *
+   * @param tickMs the time span of each slot of the lowest level
+   * @param wheelSize the number of slots of each level
+   * @param startTimeMs the initial time of the wheel
+   */
+  TtlTimingWheel(long tickMs, int wheelSize, long startTimeMs) {
+    Preconditions.checkArgument(tickMs > 0, "tickMs must be positive");
+    Preconditions.checkArgument(wheelSize > 1, "wheelSize must be greater than 1");
+    mTickMs = tickMs;
+    mWheelSize = wheelSize;
+    mSpanMs = tickMs * wheelSize;
+    mSlots = new ArrayList<>(wheelSize);
+    for (int i = 0; i < wheelSize; i++) {
+      mSlots.add(new ArrayList<TtlBucket>());
+    }
+    mCurrentTimeMs = startTimeMs - startTimeMs % tickMs;
+  }
+
+  /**
+   * Schedules a bucket on the wheel.
+   *
+   * @param bucket the bucket to schedule
+   * @return false if the bucket has already expired at the current time of the wheel, in which
+   *         case it is not scheduled, true otherwise
+   */
+  boolean add(TtlBucket bucket) {
+    long expirationMs = bucket.getTtlIntervalEndTimeMs();
+    if (expirationMs < mCurrentTimeMs + mTickMs) {
+      return false;
+    }
+    if (expirationMs < mCurrentTimeMs + mSpanMs) {
+      mSlots.get(slotOf(expirationMs / mTickMs)).add(bucket);
+      return true;
+    }
+    if (mOverflowWheel == null) {
+      mOverflowWheel = new TtlTimingWheel(mSpanMs, mWheelSize, mCurrentTimeMs);
+    }
+    return mOverflowWheel.add(bucket);
+  }
+
+  /**
+   * Advances the wheel to the given time. Buckets expired at that time are removed from the wheel
+   * and added to the given collection, buckets of the higher levels which are now close enough are
+   * moved down to the lower levels.
+   *
+   * @param timeMs the time to advance to, the wheel never goes backwards
+   * @param expired the collection to add the expired buckets to
+   */
+  void advance(long timeMs, Collection<TtlBucket> expired) {
+    if (timeMs < mCurrentTimeMs + mTickMs) {
+      return;
+    }
+    long currentTick = mCurrentTimeMs / mTickMs;
+    long ticks = (timeMs - mCurrentTimeMs) / mTickMs;
+    List<TtlBucket> flushed = new ArrayList<>();
+    for (long i = 1; i <= Math.min(ticks, mWheelSize); i++) {
+      List<TtlBucket> slot = mSlots.get(slotOf(currentTick + i));
+      flushed.addAll(slot);
+      slot.clear();
+    }
+    mCurrentTimeMs += ticks * mTickMs;
+    if (mOverflowWheel != null) {
+      mOverflowWheel.advance(timeMs, flushed);
+    }
+    // Buckets of the passed slots have expired, and buckets flushed from the next level are now
+    // within the span of this level.
+    for (TtlBucket bucket : flushed) {
+      if (!add(bucket)) {
+        expired.add(bucket);
+      }
+    }
+  }
+
+  /**
+   * @return the current time of the wheel
+   */
+  long getCurrentTimeMs() {
+    return mCurrentTimeMs;
+  }
+
+  private int slotOf(long tick) {
+    return (int) (tick % mWheelSize);
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.metrics.MetricsSystem;
+import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.util.io.PathUtils;
+
+import com.codahale.metrics.Counter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.io.IOException;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * This cache maintains the statuses of UFS paths, including the paths which do not exist in the
+ * UFS, and the listings of UFS directories. Entries expire after a fixed time, and the entries of
+ * paths written through Alluxio are invalidated by the caller. Statuses fetched from the UFS
+ * before an invalidation are not cached, since they may predate the write.
+ */
+@ThreadSafe
+public final class UfsStatusCache {
+  /** Number of UFS calls answered by the cache. */
+  private static final Counter HITS = MetricsSystem.masterCounter("UfsStatusCacheHits");
+  /** Number of UFS calls not answered by the cache. */
+  private static final Counter MISSES = MetricsSystem.masterCounter("UfsStatusCacheMisses");
+
+  private final int mCapacity;
+  private final boolean mEnabled;
+  /** Statuses of UFS paths, empty for the paths which do not exist. */
+  private final Cache<String, Optional<UfsStatus>> mStatuses;
+  /** Immediate children of UFS directories, weighed by their number of children. */
+  private final Cache<String, UfsStatus[]> mListings;
+  /** Incremented by every invalidation, to detect statuses fetched before an invalidation. */
+  @GuardedBy("this")
+  private long mGeneration;
+  /**
+   * The paths which have a cached status or listing, sorted so that the descendants of a path are
+   * found without scanning the caches. It may also hold paths whose entries were evicted.
+   */
+  @GuardedBy("this")
+  private final NavigableSet<String> mPaths = new TreeSet<>();
+
+  /**
+   * Creates a new instance of {@link UfsStatusCache} configured by the master properties.
+   */
+  public UfsStatusCache() {
+    this(Configuration.getInt(PropertyKey.MASTER_UFS_STATUS_CACHE_CAPACITY),
+        Configuration.getMs(PropertyKey.MASTER_UFS_STATUS_CACHE_TTL));
+  }
+
+  /**
+   * Creates a new instance of {@link UfsStatusCache}.
+   *
+   * @param capacity the maximum number of statuses kept, 0 to disable the cache
+   * @param ttlMs the time after which an entry expires
+   */
+  public UfsStatusCache(int capacity, long ttlMs) {
+    mCapacity = capacity;
+    mEnabled = capacity > 0;
+    mStatuses = CacheBuilder.newBuilder().maximumSize(Math.max(capacity, 0))
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS).build();
+    mListings = CacheBuilder.newBuilder().maximumWeight(Math.max(capacity, 0))
+        .weigher((String path, UfsStatus[] children) -> children.length + 1)
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS).build();
+  }
+
+  /**
+   * Gets the status of a UFS path.
+   *
+   * @param ufs the UFS of the path
+   * @param ufsPath the UFS path
+   * @return the status of the path, or null if the path does not exist in the UFS
+   */
+  @Nullable
+  public UfsStatus getStatus(UnderFileSystem ufs, String ufsPath) throws IOException {
+    if (!mEnabled) {
+      return fetchStatus(ufs, ufsPath);
+    }
+    Optional<UfsStatus> cached = mStatuses.getIfPresent(ufsPath);
+    if (cached != null) {
+      HITS.inc();
+      return cached.orElse(null);
+    }
+    MISSES.inc();
+    long generation = getGeneration();
+    UfsStatus status = fetchStatus(ufs, ufsPath);
+    synchronized (this) {
+      if (generation == mGeneration) {
+        mStatuses.put(ufsPath, Optional.ofNullable(status));
+        addPath(ufsPath);
+      }
+    }
+    return status;
+  }
+
+  /**
+   * Lists the immediate children of a UFS directory. The statuses of the children are cached as
+   * well.
+   *
+   * @param ufs the UFS of the directory
+   * @param ufsPath the UFS path of the directory
+   * @return the statuses of the children, or null if the path is not a directory
+   */
+  @Nullable
+  public UfsStatus[] listStatus(UnderFileSystem ufs, String ufsPath) throws IOException {
+    if (!mEnabled) {
+      return ufs.listStatus(ufsPath);
+    }
+    UfsStatus[] cached = mListings.getIfPresent(ufsPath);
+    if (cached != null) {
+      HITS.inc();
+      return cached;
+    }
+    MISSES.inc();
+    long generation = getGeneration();
+    UfsStatus[] children = ufs.listStatus(ufsPath);
+    synchronized (this) {
+      if (children != null && generation == mGeneration) {
+        mListings.put(ufsPath, children);
+        addPath(ufsPath);
+        for (UfsStatus child : children) {
+          String childPath = PathUtils.concatPath(ufsPath, child.getName());
+          mStatuses.put(childPath, Optional.of(child));
+          addPath(childPath);
+        }
+      }
+    }
+    return children;
+  }
+
+  /**
+   * @return whether the cache is enabled, if not there is nothing to invalidate
+   */
+  public boolean isEnabled() {
+    return mEnabled;
+  }
+
+  /**
+   * Invalidates the entries of a UFS path which was written, and of its ancestors, whose
+   * existence and listings may have changed.
+   *
+   * @param ufsPath the UFS path
+   */
+  public synchronized void invalidate(String ufsPath) {
+    if (!mEnabled) {
+      return;
+    }
+    mGeneration++;
+    mStatuses.invalidate(ufsPath);
+    mListings.invalidate(ufsPath);
+    for (AlluxioURI parent = new AlluxioURI(ufsPath).getParent(); parent != null;
+        parent = parent.getParent()) {
+      mStatuses.invalidate(parent.toString());
+      mListings.invalidate(parent.toString());
+    }
+  }
+
+  /**
+   * Invalidates the entries of a UFS path which was written, of its ancestors and of all its
+   * descendants.
+   *
+   * @param ufsPath the UFS path
+   */
+  public synchronized void invalidateRecursive(String ufsPath) {
+    if (!mEnabled) {
+      return;
+    }
+    invalidate(ufsPath);
+    String prefix = PathUtils.normalizePath(ufsPath, AlluxioURI.SEPARATOR);
+    NavigableSet<String> descendants =
+        mPaths.subSet(prefix, true, prefix + Character.MAX_VALUE, false);
+    mStatuses.invalidateAll(descendants);
+    mListings.invalidateAll(descendants);
+    descendants.clear();
+  }
+
+  /**
+   * Records a path which has a cached entry.
+   *
+   * @param ufsPath the UFS path
+   */
+  @GuardedBy("this")
+  private void addPath(String ufsPath) {
+    mPaths.add(ufsPath);
+    // Each cache holds at most capacity entries, so once there are many more paths than that,
+    // most of them were evicted or expired and are forgotten
+    if (mPaths.size() > 4L * mCapacity) {
+      mPaths.removeIf(path ->
+          !mStatuses.asMap().containsKey(path) && !mListings.asMap().containsKey(path));
+    }
+  }
+
+  private synchronized long getGeneration() {
+    return mGeneration;
+  }
+
+  @Nullable
+  private static UfsStatus fetchStatus(UnderFileSystem ufs, String ufsPath) throws IOException {
+    return ufs.exists(ufsPath) ? ufs.getStatus(ufsPath) : null;
+  }
+}
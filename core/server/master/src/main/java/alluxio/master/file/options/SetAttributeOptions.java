@@ -37,6 +37,8 @@ public final class SetAttributeOptions {
   private boolean mRecursive;
   private long mOperationTimeMs;
   private String mUfsFingerprint;
+  private Integer mReplicationMin;
+  private Integer mReplicationMax;
 
   /**
    * @return the default {@link SetAttributeOptions}
@@ -64,6 +66,8 @@ public final class SetAttributeOptions {
       mGroup = options.isSetGroup() ? options.getGroup() : null;
       mMode = options.isSetMode() ? options.getMode() : Constants.INVALID_MODE;
       mRecursive = options.isRecursive();
+      mReplicationMin = options.isSetReplicationMin() ? options.getReplicationMin() : null;
+      mReplicationMax = options.isSetReplicationMax() ? options.getReplicationMax() : null;
       mOperationTimeMs = System.currentTimeMillis();
     }
   }
@@ -81,6 +85,8 @@ public final class SetAttributeOptions {
     mRecursive = false;
     mOperationTimeMs = System.currentTimeMillis();
     mUfsFingerprint = Constants.INVALID_UFS_FINGERPRINT;
+    mReplicationMin = null;
+    mReplicationMax = null;
   }
 
   /**
@@ -160,6 +166,20 @@ public final class SetAttributeOptions {
     return mUfsFingerprint;
   }
 
+  /**
+   * @return the minimum number of block replicas
+   */
+  public Integer getReplicationMin() {
+    return mReplicationMin;
+  }
+
+  /**
+   * @return the maximum number of block replicas
+   */
+  public Integer getReplicationMax() {
+    return mReplicationMax;
+  }
+
   /**
    * @param options the common options
    * @return the updated options object
@@ -267,6 +287,24 @@ public final class SetAttributeOptions {
     return this;
   }
 
+  /**
+   * @param replicationMin the minimum number of block replicas to use
+   * @return the updated options object
+   */
+  public SetAttributeOptions setReplicationMin(int replicationMin) {
+    mReplicationMin = replicationMin;
+    return this;
+  }
+
+  /**
+   * @param replicationMax the maximum number of block replicas to use
+   * @return the updated options object
+   */
+  public SetAttributeOptions setReplicationMax(int replicationMax) {
+    mReplicationMax = replicationMax;
+    return this;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -286,14 +324,16 @@ public final class SetAttributeOptions {
         && Objects.equal(mMode, that.mMode)
         && Objects.equal(mRecursive, that.mRecursive)
         && mOperationTimeMs == that.mOperationTimeMs
-        && Objects.equal(mUfsFingerprint, that.mUfsFingerprint);
+        && Objects.equal(mUfsFingerprint, that.mUfsFingerprint)
+        && Objects.equal(mReplicationMin, that.mReplicationMin)
+        && Objects.equal(mReplicationMax, that.mReplicationMax);
   }
 
   @Override
   public int hashCode() {
     return Objects
         .hashCode(mPinned, mTtl, mTtlAction, mPersisted, mOwner, mGroup, mMode, mRecursive,
-            mOperationTimeMs, mCommonOptions, mUfsFingerprint);
+            mOperationTimeMs, mCommonOptions, mUfsFingerprint, mReplicationMin, mReplicationMax);
   }
 
   @Override
@@ -310,6 +350,8 @@ public final class SetAttributeOptions {
         .add("recursive", mRecursive)
         .add("operationTimeMs", mOperationTimeMs)
         .add("ufsFingerprint", mUfsFingerprint)
+        .add("replicationMin", mReplicationMin)
+        .add("replicationMax", mReplicationMax)
         .toString();
   }
 }
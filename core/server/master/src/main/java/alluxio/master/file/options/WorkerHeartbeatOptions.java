@@ -26,6 +26,8 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 public final class WorkerHeartbeatOptions {
   private List<String> mPersistedUfsFingerprintList;
+  private List<Long> mLoadedBlocks;
+  private List<Long> mLoadFailedBlocks;
 
   /**
    * @return the default {@link WorkerHeartbeatOptions}
@@ -46,10 +48,18 @@ public final class WorkerHeartbeatOptions {
       mPersistedUfsFingerprintList.clear();
       mPersistedUfsFingerprintList.addAll(options.getPersistedFileFingerprints());
     }
+    if (options != null && options.isSetLoadedBlocks()) {
+      mLoadedBlocks.addAll(options.getLoadedBlocks());
+    }
+    if (options != null && options.isSetLoadFailedBlocks()) {
+      mLoadFailedBlocks.addAll(options.getLoadFailedBlocks());
+    }
   }
 
   private WorkerHeartbeatOptions() {
     mPersistedUfsFingerprintList = new ArrayList<>();
+    mLoadedBlocks = new ArrayList<>();
+    mLoadFailedBlocks = new ArrayList<>();
   }
 
   /**
@@ -59,6 +69,20 @@ public final class WorkerHeartbeatOptions {
     return mPersistedUfsFingerprintList;
   }
 
+  /**
+   * @return list of ids of the blocks the worker loaded for distributed loads
+   */
+  public List<Long> getLoadedBlocks() {
+    return mLoadedBlocks;
+  }
+
+  /**
+   * @return list of ids of the blocks the worker failed to load for distributed loads
+   */
+  public List<Long> getLoadFailedBlocks() {
+    return mLoadFailedBlocks;
+  }
+
   /**
    * @param persistedUfsFingerprintList the list of ufs fingerprints, of persisted files
    */
@@ -66,6 +90,20 @@ public final class WorkerHeartbeatOptions {
     mPersistedUfsFingerprintList = persistedUfsFingerprintList;
   }
 
+  /**
+   * @param loadedBlocks the list of ids of the loaded blocks
+   */
+  public void setLoadedBlocks(List<Long> loadedBlocks) {
+    mLoadedBlocks = loadedBlocks;
+  }
+
+  /**
+   * @param loadFailedBlocks the list of ids of the blocks which failed to load
+   */
+  public void setLoadFailedBlocks(List<Long> loadFailedBlocks) {
+    mLoadFailedBlocks = loadFailedBlocks;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -75,18 +113,22 @@ public final class WorkerHeartbeatOptions {
       return false;
     }
     WorkerHeartbeatOptions that = (WorkerHeartbeatOptions) o;
-    return Objects.equal(mPersistedUfsFingerprintList, that.mPersistedUfsFingerprintList);
+    return Objects.equal(mPersistedUfsFingerprintList, that.mPersistedUfsFingerprintList)
+        && Objects.equal(mLoadedBlocks, that.mLoadedBlocks)
+        && Objects.equal(mLoadFailedBlocks, that.mLoadFailedBlocks);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(mPersistedUfsFingerprintList);
+    return Objects.hashCode(mPersistedUfsFingerprintList, mLoadedBlocks, mLoadFailedBlocks);
   }
 
   @Override
   public String toString() {
     return Objects.toStringHelper(this)
         .add("persistedUfsFingerprintList", mPersistedUfsFingerprintList)
+        .add("loadedBlocks", mLoadedBlocks)
+        .add("loadFailedBlocks", mLoadFailedBlocks)
         .toString();
   }
 }
@@ -84,6 +84,8 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
   private final FileSystemMaster mFileSystemMaster;
   private LineageStore mLineageStore;
   private LineageIdGenerator mLineageIdGenerator;
+  /** The planner of the recompute executor, only set when the master is the leader. */
+  private volatile RecomputePlanner mRecomputePlanner;
 
   /**
    * Creates a new instance of {@link LineageMaster}.
@@ -159,9 +161,9 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
       getExecutorService().submit(new HeartbeatThread(HeartbeatContext.MASTER_CHECKPOINT_SCHEDULING,
           new CheckpointSchedulingExecutor(this, mFileSystemMaster),
           (int) Configuration.getMs(PropertyKey.MASTER_LINEAGE_CHECKPOINT_INTERVAL_MS)));
+      mRecomputePlanner = new RecomputePlanner(mLineageStore, mFileSystemMaster);
       getExecutorService().submit(new HeartbeatThread(HeartbeatContext.MASTER_FILE_RECOMPUTATION,
-          new RecomputeExecutor(new RecomputePlanner(mLineageStore, mFileSystemMaster),
-              mFileSystemMaster),
+          new RecomputeExecutor(mRecomputePlanner, mFileSystemMaster),
           (int) Configuration.getMs(PropertyKey.MASTER_LINEAGE_RECOMPUTE_INTERVAL_MS)));
     }
   }
@@ -328,5 +330,10 @@ public final class DefaultLineageMaster extends AbstractMaster implements Lineag
       UnavailableException {
     long fileId = mFileSystemMaster.getFileId(new AlluxioURI(path));
     mFileSystemMaster.reportLostFile(fileId);
+    RecomputePlanner planner = mRecomputePlanner;
+    if (planner != null) {
+      // the file is reported by a client which failed to read it
+      planner.reportLostFileRead(fileId);
+    }
   }
 }
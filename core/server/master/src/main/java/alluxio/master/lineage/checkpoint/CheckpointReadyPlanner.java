@@ -0,0 +1,113 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.lineage.checkpoint;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.exception.AccessControlException;
+import alluxio.exception.FileDoesNotExistException;
+import alluxio.exception.LineageDoesNotExistException;
+import alluxio.exception.status.UnavailableException;
+import alluxio.master.file.meta.FileSystemMasterView;
+import alluxio.master.lineage.meta.Lineage;
+import alluxio.master.lineage.meta.LineageStateUtils;
+import alluxio.master.lineage.meta.LineageStoreView;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * This class checkpoints all the lineages that are ready for persistence, so that independent
+ * lineages are checkpointed concurrently. A lineage is only checkpointed once all its parent
+ * lineages are persisted, so the inputs of a lineage are persisted before its outputs. At most
+ * {@link PropertyKey#MASTER_LINEAGE_CHECKPOINT_MAX_CONCURRENT} lineages are being checkpointed at
+ * a time.
+ */
+@ThreadSafe
+public final class CheckpointReadyPlanner implements CheckpointPlanner {
+  private static final Logger LOG = LoggerFactory.getLogger(CheckpointReadyPlanner.class);
+
+  private final int mMaxConcurrent;
+
+  /**
+   * Creates a new instance of {@link CheckpointReadyPlanner}, which does not use the lineage store
+   * view.
+   *
+   * @param lineageStoreView a view of a lineage store
+   * @param fileSystemMasterView a view of the file system master
+   */
+  public CheckpointReadyPlanner(LineageStoreView lineageStoreView,
+      FileSystemMasterView fileSystemMasterView) {
+    mMaxConcurrent = Configuration.getInt(PropertyKey.MASTER_LINEAGE_CHECKPOINT_MAX_CONCURRENT);
+  }
+
+  @Override
+  public CheckpointPlan generatePlan(LineageStoreView store,
+      FileSystemMasterView fileSystemMasterView) {
+    List<Lineage> ready = new ArrayList<>();
+    int inCheckpointing = 0;
+    for (Lineage lineage : store.getAllLineagesInTopologicalOrder()) {
+      try {
+        if (LineageStateUtils.isInCheckpointing(lineage, fileSystemMasterView)) {
+          inCheckpointing++;
+          continue;
+        }
+        if (!LineageStateUtils.isCompleted(lineage, fileSystemMasterView)
+            || LineageStateUtils.isPersisted(lineage, fileSystemMasterView)
+            || LineageStateUtils.needRecompute(lineage, fileSystemMasterView)
+            || !areParentsPersisted(store, lineage, fileSystemMasterView)) {
+          continue;
+        }
+      } catch (LineageDoesNotExistException e) {
+        // The lineage was deleted since the store was listed
+        continue;
+      } catch (FileDoesNotExistException | AccessControlException e) {
+        LOG.error("The lineage file does not exist", e);
+        continue;
+      } catch (UnavailableException e) {
+        continue;
+      }
+      ready.add(lineage);
+    }
+
+    List<Long> toCheckpoint = new ArrayList<>();
+    for (Lineage lineage : ready) {
+      if (inCheckpointing + toCheckpoint.size() >= mMaxConcurrent) {
+        break;
+      }
+      toCheckpoint.add(lineage.getId());
+    }
+    return new CheckpointPlan(toCheckpoint);
+  }
+
+  /**
+   * @param store a view of the lineage store
+   * @param lineage the lineage
+   * @param fileSystemMasterView a view of the file system master
+   * @return whether all the parent lineages of the lineage are persisted
+   */
+  private static boolean areParentsPersisted(LineageStoreView store, Lineage lineage,
+      FileSystemMasterView fileSystemMasterView)
+      throws LineageDoesNotExistException, FileDoesNotExistException {
+    for (Lineage parent : store.getParents(lineage)) {
+      if (!LineageStateUtils.isPersisted(parent, fileSystemMasterView)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
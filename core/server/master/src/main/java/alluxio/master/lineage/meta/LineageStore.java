@@ -194,6 +194,17 @@ public final class LineageStore implements JournalEntryIterable {
     return mLineageDAG.sortTopologically(lineages);
   }
 
+  /**
+   * Groups a given set of lineages into batches of independent lineages, in topological order.
+   *
+   * @param lineages lineages to sort
+   * @return the batches of lineages, each lineage only depends on lineages of earlier batches
+   */
+  public synchronized List<List<Lineage>> sortLineageTopologicallyInBatches(
+      Set<Lineage> lineages) {
+    return mLineageDAG.sortTopologicallyInBatches(lineages);
+  }
+
   /**
    * @return all the lineages in topological order
    */
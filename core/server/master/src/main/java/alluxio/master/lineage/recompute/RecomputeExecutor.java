@@ -11,6 +11,8 @@
 
 package alluxio.master.lineage.recompute;
 
+import alluxio.Configuration;
+import alluxio.PropertyKey;
 import alluxio.exception.AccessControlException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
@@ -26,26 +28,39 @@ import com.google.common.util.concurrent.Futures;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * A periodical executor that detects lost files and launches recompute jobs.
+ * A periodical executor that detects lost files and launches recompute jobs. The batches of a
+ * {@link RecomputePlan} are executed in sequence, and the jobs of each batch are executed in
+ * parallel, at most {@link PropertyKey#MASTER_LINEAGE_RECOMPUTE_POOL_SIZE} at a time. A new plan
+ * is only made once the previous one has been executed.
  */
 @ThreadSafe
 public final class RecomputeExecutor implements HeartbeatExecutor {
   private static final Logger LOG = LoggerFactory.getLogger(RecomputeExecutor.class);
 
-  private static final int DEFAULT_RECOMPUTE_LAUNCHER_POOL_SIZE = 10;
   private final RecomputePlanner mPlanner;
   private final FileSystemMaster mFileSystemMaster;
-  /** The thread pool to launch recompute jobs. */
+  /** The thread to launch recompute plans. */
   private final ExecutorService mRecomputeLauncherService =
-      Executors.newFixedThreadPool(DEFAULT_RECOMPUTE_LAUNCHER_POOL_SIZE,
-          ThreadFactoryUtils.build("recompute-launcher-%d", true));
+      Executors.newSingleThreadExecutor(ThreadFactoryUtils.build("recompute-launcher-%d", true));
+  /** The thread pool to run recompute jobs. */
+  private final ExecutorService mRecomputeJobService =
+      Executors.newFixedThreadPool(
+          Configuration.getInt(PropertyKey.MASTER_LINEAGE_RECOMPUTE_POOL_SIZE),
+          ThreadFactoryUtils.build("recompute-job-%d", true));
+  /** The completion of the plan being executed. */
+  @GuardedBy("this")
+  private Future<?> mLaunchFuture;
 
   /**
    * Creates a new instance of {@link RecomputeExecutor}.
@@ -66,6 +81,7 @@ public final class RecomputeExecutor implements HeartbeatExecutor {
   @Override
   public void close() {
     mRecomputeLauncherService.shutdown();
+    mRecomputeJobService.shutdown();
   }
 
   /**
@@ -74,16 +90,21 @@ public final class RecomputeExecutor implements HeartbeatExecutor {
    *
    * @return the {@code Future} representing completion of the recompute plan
    */
-  Future<?> heartbeatWithFuture() {
+  synchronized Future<?> heartbeatWithFuture() {
+    if (mLaunchFuture != null && !mLaunchFuture.isDone()) {
+      LOG.debug("The previous recompute plan is still being executed");
+      return mLaunchFuture;
+    }
     RecomputePlan plan = mPlanner.plan();
     if (plan != null && !plan.isEmpty()) {
-      return mRecomputeLauncherService.submit(new RecomputeLauncher(plan));
+      mLaunchFuture = mRecomputeLauncherService.submit(new RecomputeLauncher(plan));
+      return mLaunchFuture;
     }
     return Futures.<Void>immediateFuture(null);
   }
 
   /**
-   * Thread to launch the recompute jobs in a given plan.
+   * Thread to launch the recompute jobs in a given plan, one batch after the other.
    */
   @ThreadSafe
   final class RecomputeLauncher implements Runnable {
@@ -100,31 +121,70 @@ public final class RecomputeExecutor implements HeartbeatExecutor {
 
     @Override
     public void run() {
-      for (Lineage lineage : mPlan.getLineageToRecompute()) {
-        // empty all the lost files
+      for (List<Lineage> batch : mPlan.getBatches()) {
+        List<Future<?>> jobs = new ArrayList<>(batch.size());
+        for (Lineage lineage : batch) {
+          jobs.add(mRecomputeJobService.submit(new LineageRecomputer(lineage)));
+        }
+        // the next batch depends on the outputs of this one
         try {
-          for (Long fileId : LineageStateUtils.getLostFiles(lineage,
-              mFileSystemMaster.getFileSystemMasterView())) {
-            try {
-              mFileSystemMaster.resetFile(fileId);
-            } catch (UnexpectedAlluxioException e) {
-              LOG.error("the lost file {} can not be freed", fileId, e);
-            } catch (FileDoesNotExistException e) {
-              LOG.error("the lost file {} does not exist", fileId, e);
-            } catch (InvalidPathException e) {
-              LOG.error("the lost file {} is invalid", fileId, e);
-            } catch (AccessControlException e) {
-              LOG.error("the lost file {} cannot be accessed", fileId, e);
-            }
+          for (Future<?> job : jobs) {
+            job.get();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          for (Future<?> job : jobs) {
+            job.cancel(true);
           }
-        } catch (FileDoesNotExistException e) {
-          LOG.error("an output file of lineage {} does not exist", lineage.getId(), e);
+          return;
+        } catch (ExecutionException e) {
+          LOG.error("Failed to recompute a lineage of batch {}", batch, e.getCause());
         }
+      }
+    }
+  }
+
+  /**
+   * Thread to recompute a lineage.
+   */
+  @ThreadSafe
+  final class LineageRecomputer implements Runnable {
+    private final Lineage mLineage;
 
-        boolean success = lineage.getJob().run();
-        if (!success) {
-          LOG.error("Failed to recompute job {}", lineage.getJob());
+    /**
+     * Creates a new instance of {@link LineageRecomputer}.
+     *
+     * @param lineage the lineage to recompute
+     */
+    LineageRecomputer(Lineage lineage) {
+      mLineage = Preconditions.checkNotNull(lineage);
+    }
+
+    @Override
+    public void run() {
+      // empty all the lost files
+      try {
+        for (Long fileId : LineageStateUtils.getLostFiles(mLineage,
+            mFileSystemMaster.getFileSystemMasterView())) {
+          try {
+            mFileSystemMaster.resetFile(fileId);
+          } catch (UnexpectedAlluxioException e) {
+            LOG.error("the lost file {} can not be freed", fileId, e);
+          } catch (FileDoesNotExistException e) {
+            LOG.error("the lost file {} does not exist", fileId, e);
+          } catch (InvalidPathException e) {
+            LOG.error("the lost file {} is invalid", fileId, e);
+          } catch (AccessControlException e) {
+            LOG.error("the lost file {} cannot be accessed", fileId, e);
+          }
         }
+      } catch (FileDoesNotExistException e) {
+        LOG.error("an output file of lineage {} does not exist", mLineage.getId(), e);
+      }
+
+      boolean success = mLineage.getJob().run();
+      if (!success) {
+        LOG.error("Failed to recompute job {}", mLineage.getJob());
       }
     }
   }
@@ -16,47 +16,76 @@ import alluxio.master.lineage.meta.Lineage;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * A plan for recomputing the lost files. It essentially contains a batch of jobs from the
- * corresponding lineages to execute.
- *
- * TODO(yupeng): in this version it simply returns a list of jobs to execute in sequence. In the
- * future, we will explore the possibility of executing jobs in parallel.
+ * A plan for recomputing the lost files. It contains batches of lineages whose jobs are to be
+ * executed: the batches are executed in sequence, and the lineages of a batch are independent of
+ * each other so their jobs can be executed in parallel.
  */
 @ThreadSafe
 public class RecomputePlan {
-  /** A list of lineages to recompute. */
-  private final List<Lineage> mToRecompute;
+  /** The batches of lineages to recompute. */
+  private final List<List<Lineage>> mBatches;
 
   /**
-   * Creates a new instance of {@link RecomputePlan}.
+   * Creates a new instance of {@link RecomputePlan} which recomputes the given lineages in
+   * sequence.
    *
    * @param toRecompute the lineages to recompute
    */
   public RecomputePlan(List<Lineage> toRecompute) {
-    mToRecompute = Preconditions.checkNotNull(toRecompute, "toRecompute");
+    Preconditions.checkNotNull(toRecompute, "toRecompute");
+    mBatches = new ArrayList<>(toRecompute.size());
+    for (Lineage lineage : toRecompute) {
+      mBatches.add(Collections.singletonList(lineage));
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link RecomputePlan} from batches of independent lineages.
+   *
+   * @param batches the batches of lineages to recompute, in order
+   * @return the recompute plan
+   */
+  public static RecomputePlan fromBatches(List<List<Lineage>> batches) {
+    Preconditions.checkNotNull(batches, "batches");
+    RecomputePlan plan = new RecomputePlan(Collections.<Lineage>emptyList());
+    plan.mBatches.addAll(batches);
+    return plan;
   }
 
   /**
    * @return a list of lineages to recompute
    */
   public List<Lineage> getLineageToRecompute() {
-    return mToRecompute;
+    List<Lineage> toRecompute = new ArrayList<>();
+    for (List<Lineage> batch : mBatches) {
+      toRecompute.addAll(batch);
+    }
+    return toRecompute;
+  }
+
+  /**
+   * @return the batches of lineages to recompute, in order
+   */
+  public List<List<Lineage>> getBatches() {
+    return mBatches;
   }
 
   /**
    * @return true if the plan is empty, false otherwise
    */
   public boolean isEmpty() {
-    return mToRecompute.isEmpty();
+    return mBatches.isEmpty();
   }
 
   @Override
   public String toString() {
-    return Objects.toStringHelper(this).add("toRecompute", mToRecompute).toString();
+    return Objects.toStringHelper(this).add("batches", mBatches).toString();
   }
 }
@@ -22,15 +22,24 @@ import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Plans the recompute strategy. It takes a list of lost files as input and outputs a recompute
- * plan.
+ * plan, which groups the lineages to recompute into batches of independent lineages.
+ *
+ * Lost files which clients failed to read are reported through
+ * {@link #reportLostFileRead(long)}. Within each batch, the lineages producing these files, and
+ * the lineages they depend on, are placed first so that they are recomputed first.
  */
 @ThreadSafe
 public class RecomputePlanner {
@@ -38,6 +47,9 @@ public class RecomputePlanner {
 
   private final LineageStore mLineageStore;
   private final FileSystemMaster mFileSystemMaster;
+  /** The lost files which clients tried to read. */
+  private final Set<Long> mReadLostFiles =
+      Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
 
   /**
    * Creates a new instance of {@link RecomputePlanner}.
@@ -50,6 +62,16 @@ public class RecomputePlanner {
     mFileSystemMaster = Preconditions.checkNotNull(fileSystemMaster, "fileSystemMaster");
   }
 
+  /**
+   * Records that a client failed to read a lost file, so that the lineage producing the file is
+   * recomputed in priority.
+   *
+   * @param fileId the id of the lost file
+   */
+  public void reportLostFileRead(long fileId) {
+    mReadLostFiles.add(fileId);
+  }
+
   /**
    * @return a {@link RecomputePlan} that identifies the lineages to recompute
    */
@@ -83,7 +105,61 @@ public class RecomputePlanner {
       }
     }
 
-    List<Lineage> toRecomputeAfterSort = mLineageStore.sortLineageTopologically(toRecompute);
-    return new RecomputePlan(toRecomputeAfterSort);
+    // Files which are not lost anymore do not need to be prioritized.
+    mReadLostFiles.retainAll(new HashSet<>(lostFiles));
+    Set<Lineage> prioritized = getPrioritizedLineages(toRecompute);
+    List<List<Lineage>> batches = mLineageStore.sortLineageTopologicallyInBatches(toRecompute);
+    for (List<Lineage> batch : batches) {
+      List<Lineage> reordered = new ArrayList<>(batch.size());
+      for (Lineage lineage : batch) {
+        if (prioritized.contains(lineage)) {
+          reordered.add(lineage);
+        }
+      }
+      for (Lineage lineage : batch) {
+        if (!prioritized.contains(lineage)) {
+          reordered.add(lineage);
+        }
+      }
+      batch.clear();
+      batch.addAll(reordered);
+    }
+    return RecomputePlan.fromBatches(batches);
+  }
+
+  /**
+   * @param toRecompute the lineages to recompute
+   * @return the lineages to recompute which produce files being read, or which these lineages
+   *         depend on
+   */
+  private Set<Lineage> getPrioritizedLineages(Set<Lineage> toRecompute) {
+    Set<Lineage> prioritized = new HashSet<>();
+    Deque<Lineage> toVisit = new ArrayDeque<>();
+    for (Lineage lineage : toRecompute) {
+      for (long outputFile : lineage.getOutputFiles()) {
+        if (mReadLostFiles.contains(outputFile)) {
+          toVisit.add(lineage);
+          break;
+        }
+      }
+    }
+    Set<Lineage> visited = new HashSet<>(toVisit);
+    while (!toVisit.isEmpty()) {
+      Lineage lineage = toVisit.poll();
+      if (toRecompute.contains(lineage)) {
+        prioritized.add(lineage);
+      }
+      try {
+        for (Lineage parent : mLineageStore.getParents(lineage)) {
+          if (visited.add(parent)) {
+            toVisit.add(parent);
+          }
+        }
+      } catch (LineageDoesNotExistException e) {
+        // The lineage has been deleted since the plan was computed.
+        LOG.debug("Lineage {} does not exist", lineage.getId());
+      }
+    }
+    return prioritized;
   }
 }
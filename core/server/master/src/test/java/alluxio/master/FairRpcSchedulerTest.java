@@ -0,0 +1,176 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master;
+
+import alluxio.exception.status.ResourceExhaustedException;
+import alluxio.metrics.MetricsSystem;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+
+import com.google.common.base.Function;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link FairRpcScheduler}.
+ */
+public final class FairRpcSchedulerTest {
+  @Rule
+  public ExpectedException mThrown = ExpectedException.none();
+
+  @Test
+  public void admitWithinCapacity() throws Exception {
+    FairRpcScheduler scheduler = new FairRpcScheduler(4, 10, 1000);
+    FairRpcScheduler.Permit heavy = scheduler.acquire("a", 3);
+    FairRpcScheduler.Permit light = scheduler.acquire("b", 1);
+    Assert.assertEquals(4, scheduler.getCostInUse());
+    heavy.close();
+    light.close();
+    // Closing a permit twice must not release its cost twice.
+    light.close();
+    Assert.assertEquals(0, scheduler.getCostInUse());
+  }
+
+  @Test
+  public void rejectWhenQueueFull() throws Exception {
+    FairRpcScheduler scheduler = new FairRpcScheduler(1, 0, 1000);
+    try (FairRpcScheduler.Permit permit = scheduler.acquire("a", 1)) {
+      mThrown.expect(ResourceExhaustedException.class);
+      scheduler.acquire("a", 1);
+    }
+  }
+
+  @Test
+  public void rejectAfterTimeout() throws Exception {
+    FairRpcScheduler scheduler = new FairRpcScheduler(1, 10, 100);
+    try (FairRpcScheduler.Permit permit = scheduler.acquire("a", 1)) {
+      try {
+        scheduler.acquire("b", 1);
+        Assert.fail("acquire should time out");
+      } catch (ResourceExhaustedException e) {
+        // expected
+      }
+      Assert.assertEquals(0, scheduler.getQueueLength("b"));
+    }
+    Assert.assertEquals(0, scheduler.getCostInUse());
+  }
+
+  /**
+   * Tests that a rejected RPC neither charges its user nor leaves the user's queue and metrics
+   * behind.
+   */
+  @Test
+  public void rejectedUserIsForgotten() throws Exception {
+    FairRpcScheduler scheduler = new FairRpcScheduler(1, 0, 1000);
+    String queueLength = MetricsSystem.getMasterMetricName("RpcQueueLength.rejected");
+    try (FairRpcScheduler.Permit permit = scheduler.acquire("a", 1)) {
+      try {
+        scheduler.acquire("rejected", 1);
+        Assert.fail("acquire should be rejected");
+      } catch (ResourceExhaustedException e) {
+        // expected
+      }
+      Assert.assertFalse(MetricsSystem.METRIC_REGISTRY.getGauges().containsKey(queueLength));
+    }
+    Assert.assertFalse(MetricsSystem.METRIC_REGISTRY.getGauges()
+        .containsKey(MetricsSystem.getMasterMetricName("RpcQueueLength.a")));
+  }
+
+  /**
+   * Tests that RPCs which timed out are not charged to their user.
+   */
+  @Test
+  public void timedOutRpcsNotCharged() throws Exception {
+    final FairRpcScheduler scheduler = new FairRpcScheduler(1, 10, 300);
+    final List<String> admitted = Collections.synchronizedList(new ArrayList<String>());
+    FairRpcScheduler.Permit blocker = scheduler.acquire("c", 1);
+    for (int i = 0; i < 3; i++) {
+      try {
+        scheduler.acquire("a", 1);
+        Assert.fail("acquire should time out");
+      } catch (ResourceExhaustedException e) {
+        // expected
+      }
+    }
+    List<Thread> threads = new ArrayList<>();
+    threads.add(startRpc(scheduler, "a", admitted));
+    waitForQueueLength(scheduler, "a", 1);
+    threads.add(startRpc(scheduler, "b", admitted));
+    waitForQueueLength(scheduler, "b", 1);
+
+    blocker.close();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    // Both users are charged the same, so the RPC submitted first runs first
+    Assert.assertEquals(Arrays.asList("a", "b"), admitted);
+  }
+
+  /**
+   * Tests that a user with a single RPC is not stuck behind the backlog of another user.
+   */
+  @Test
+  public void fairAcrossUsers() throws Exception {
+    final FairRpcScheduler scheduler = new FairRpcScheduler(1, 100, 10000);
+    final List<String> admitted = Collections.synchronizedList(new ArrayList<String>());
+    FairRpcScheduler.Permit blocker = scheduler.acquire("a", 1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      threads.add(startRpc(scheduler, "a", admitted));
+    }
+    waitForQueueLength(scheduler, "a", 5);
+    threads.add(startRpc(scheduler, "b", admitted));
+    waitForQueueLength(scheduler, "b", 1);
+
+    blocker.close();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertEquals(6, admitted.size());
+    Assert.assertEquals("b", admitted.get(0));
+    Assert.assertEquals(0, scheduler.getCostInUse());
+  }
+
+  private static Thread startRpc(final FairRpcScheduler scheduler, final String user,
+      final List<String> admitted) {
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        try (FairRpcScheduler.Permit permit = scheduler.acquire(user, 1)) {
+          admitted.add(user);
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      }
+    });
+    thread.start();
+    return thread;
+  }
+
+  private static void waitForQueueLength(final FairRpcScheduler scheduler, final String user,
+      final int length) {
+    CommonUtils.waitFor("queue of user " + user + " to reach " + length,
+        new Function<Void, Boolean>() {
+          @Override
+          public Boolean apply(Void input) {
+            return scheduler.getQueueLength(user) == length;
+          }
+        }, WaitForOptions.defaults().setTimeoutMs(10000));
+  }
+}
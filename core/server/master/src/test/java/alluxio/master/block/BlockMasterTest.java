@@ -14,7 +14,9 @@ package alluxio.master.block;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import alluxio.Configuration;
 import alluxio.Constants;
+import alluxio.PropertyKey;
 import alluxio.clock.ManualClock;
 import alluxio.heartbeat.HeartbeatContext;
 import alluxio.heartbeat.HeartbeatScheduler;
@@ -44,6 +46,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -252,6 +255,44 @@ public class BlockMasterTest {
     assertEquals(2, mBlockMaster.getBlockInfo(blockId).getLocations().size());
   }
 
+  @Test
+  public void workerHeartbeatSendsCopiesOnceAndExpiresThem() throws Exception {
+    long worker1 = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    mBlockMaster.workerRegister(worker1, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_TIERS);
+    long worker2 = mBlockMaster.getWorkerId(NET_ADDRESS_2);
+    mBlockMaster.workerRegister(worker2, Arrays.asList("MEM"), ImmutableMap.of("MEM", 100L),
+        ImmutableMap.of("MEM", 0L), NO_BLOCKS_ON_TIERS);
+    long blockId = 1L;
+    mBlockMaster.commitBlock(worker1, 20L, "MEM", blockId, 20L);
+    Command nothing = new Command(CommandType.Nothing, ImmutableList.<Long>of());
+
+    // The copy is only sent to worker2 once.
+    mBlockMaster.setBlockReplication(blockId, 2);
+    assertEquals(new Command(CommandType.Replicate, ImmutableList.of(blockId)),
+        mBlockMaster.workerHeartbeat(worker2, ImmutableMap.of("MEM", 0L), NO_BLOCKS,
+            NO_BLOCKS_ON_TIERS));
+    assertEquals(nothing, mBlockMaster.workerHeartbeat(worker2, ImmutableMap.of("MEM", 0L),
+        NO_BLOCKS, NO_BLOCKS_ON_TIERS));
+
+    // The copy never completes, so it is given up and worker2 is not chosen again for a while.
+    long timeoutMs = Configuration.getMs(PropertyKey.MASTER_REPLICATION_COPY_TIMEOUT);
+    mClock.addTimeMs(timeoutMs + 1);
+    assertEquals(nothing, mBlockMaster.workerHeartbeat(worker2, ImmutableMap.of("MEM", 0L),
+        NO_BLOCKS, NO_BLOCKS_ON_TIERS));
+    mBlockMaster.setBlockReplication(blockId, 2);
+    assertEquals(nothing, mBlockMaster.workerHeartbeat(worker2, ImmutableMap.of("MEM", 0L),
+        NO_BLOCKS, NO_BLOCKS_ON_TIERS));
+
+    mClock.addTimeMs(timeoutMs + 1);
+    mBlockMaster.workerHeartbeat(worker2, ImmutableMap.of("MEM", 0L), NO_BLOCKS,
+        NO_BLOCKS_ON_TIERS);
+    mBlockMaster.setBlockReplication(blockId, 2);
+    assertEquals(new Command(CommandType.Replicate, ImmutableList.of(blockId)),
+        mBlockMaster.workerHeartbeat(worker2, ImmutableMap.of("MEM", 0L), NO_BLOCKS,
+            NO_BLOCKS_ON_TIERS));
+  }
+
   @Test
   public void unknownWorkerHeartbeatTriggersRegisterRequest() {
     Command heartBeat = mBlockMaster.workerHeartbeat(0, null, null, null);
@@ -285,6 +326,22 @@ public class BlockMasterTest {
     assertEquals(expectedBlockInfo, mBlockMaster.getBlockInfo(blockId));
   }
 
+  @Test
+  public void hotBlockContainers() {
+    long worker1 = mBlockMaster.getWorkerId(NET_ADDRESS_1);
+    mBlockMaster.reportBlockAccessCounts(worker1, ImmutableMap.of(BlockId.createBlockId(1, 0), 8,
+        BlockId.createBlockId(2, 0), 6, BlockId.createBlockId(2, 1), 6));
+    Map<Long, Long> hotContainers = mBlockMaster.getHotBlockContainers(10);
+    assertEquals(Arrays.asList(2L, 1L), new ArrayList<>(hotContainers.keySet()));
+    assertEquals(Arrays.asList(12L, 8L), new ArrayList<>(hotContainers.values()));
+
+    // The counts are halved every decay interval.
+    mClock.addTimeMs(2 * Configuration.getMs(PropertyKey.MASTER_HOT_FILE_DECAY_INTERVAL_MS));
+    hotContainers = mBlockMaster.getHotBlockContainers(1);
+    assertEquals(1, hotContainers.size());
+    assertEquals(3L, (long) hotContainers.get(2L));
+  }
+
   @Test
   public void stop() throws Exception {
     mRegistry.stop();
@@ -0,0 +1,208 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.ConfigurationTestUtils;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.clock.ManualClock;
+import alluxio.master.block.BlockMaster;
+import alluxio.thrift.LoadBlock;
+import alluxio.wire.LoadInfo;
+import alluxio.wire.WorkerInfo;
+import alluxio.wire.WorkerNetAddress;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for {@link DistributedLoadManager}.
+ */
+public final class DistributedLoadManagerTest {
+  private static final long BLOCK_ID = 1;
+  private static final long TIMEOUT_MS = Constants.MINUTE_MS;
+  private static final AlluxioURI PATH = new AlluxioURI("/file");
+
+  private static final WorkerInfo WORKER1 = newWorker(1);
+  private static final WorkerInfo WORKER2 = newWorker(2);
+
+  private BlockMaster mBlockMaster;
+  private ManualClock mClock;
+  private DistributedLoadManager mManager;
+
+  @Before
+  public void before() throws Exception {
+    Configuration.set(PropertyKey.MASTER_LOAD_BLOCK_TIMEOUT, TIMEOUT_MS);
+    mBlockMaster = mock(BlockMaster.class);
+    when(mBlockMaster.getWorkerInfoList()).thenReturn(ImmutableList.of(WORKER1, WORKER2));
+    mClock = new ManualClock();
+    mManager = new DistributedLoadManager(mBlockMaster, mClock);
+  }
+
+  @After
+  public void after() {
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  /**
+   * Tests that a block which is not reported in time is handed to another worker.
+   */
+  @Test
+  public void reassignTimedOutBlock() throws Exception {
+    long loadId = mManager.load(PATH, ImmutableList.of(newBlock()), 0);
+    long firstWorker = pollBlock();
+    mClock.addTimeMs(TIMEOUT_MS - 1);
+    mManager.heartbeat();
+    assertTrue(mManager.pollBlocksToLoad(otherWorker(firstWorker)).isEmpty());
+
+    mClock.addTimeMs(1);
+    mManager.heartbeat();
+    assertEquals(otherWorker(firstWorker), pollBlock());
+    mManager.reportBlocks(ImmutableList.of(BLOCK_ID), Collections.<Long>emptyList());
+    assertProgress(loadId, 1, 0);
+  }
+
+  /**
+   * Tests that a block waiting in the queue of a busy worker is moved to another worker once it
+   * times out.
+   */
+  @Test
+  public void reassignQueuedBlock() throws Exception {
+    when(mBlockMaster.getWorkerInfoList()).thenReturn(ImmutableList.of(WORKER1));
+    long loadId = mManager.load(PATH, ImmutableList.of(newBlock()), 0);
+    when(mBlockMaster.getWorkerInfoList()).thenReturn(ImmutableList.of(WORKER1, WORKER2));
+    mClock.addTimeMs(TIMEOUT_MS - 1);
+    mManager.heartbeat();
+    assertTrue(mManager.pollBlocksToLoad(WORKER2.getId()).isEmpty());
+
+    mClock.addTimeMs(1);
+    mManager.heartbeat();
+    assertEquals(WORKER2.getId(), pollBlock());
+    mManager.reportBlocks(ImmutableList.of(BLOCK_ID), Collections.<Long>emptyList());
+    assertProgress(loadId, 1, 0);
+  }
+
+  /**
+   * Tests that a block queued on the only worker is neither failed nor queued twice when it
+   * times out in the queue.
+   */
+  @Test
+  public void queuedBlockOnOnlyWorker() throws Exception {
+    when(mBlockMaster.getWorkerInfoList()).thenReturn(ImmutableList.of(WORKER1));
+    long loadId = mManager.load(PATH, ImmutableList.of(newBlock()), 0);
+    for (int i = 0; i < DistributedLoadManager.MAX_ATTEMPTS; i++) {
+      mClock.addTimeMs(TIMEOUT_MS);
+      mManager.heartbeat();
+    }
+    assertProgress(loadId, 0, 0);
+    assertEquals(1, mManager.pollBlocksToLoad(WORKER1.getId()).size());
+    assertTrue(mManager.pollBlocksToLoad(WORKER1.getId()).isEmpty());
+  }
+
+  /**
+   * Tests that a block is failed once it has been handed out the maximum number of times.
+   */
+  @Test
+  public void failAfterMaxAttempts() throws Exception {
+    long loadId = mManager.load(PATH, ImmutableList.of(newBlock()), 0);
+    for (int i = 0; i < DistributedLoadManager.MAX_ATTEMPTS; i++) {
+      assertProgress(loadId, 0, 0);
+      pollBlock();
+      mClock.addTimeMs(TIMEOUT_MS);
+      mManager.heartbeat();
+    }
+    assertProgress(loadId, 0, 1);
+    assertTrue(mManager.pollBlocksToLoad(WORKER1.getId()).isEmpty());
+    assertTrue(mManager.pollBlocksToLoad(WORKER2.getId()).isEmpty());
+  }
+
+  /**
+   * Tests that the blocks of a lost worker are handed to the remaining workers, including the
+   * ones which were not sent to the lost worker yet.
+   */
+  @Test
+  public void reassignBlocksOfLostWorker() throws Exception {
+    long loadId = mManager.load(PATH, ImmutableList.of(newBlock()), 0);
+    long assignedWorker = mManager.pollBlocksToLoad(WORKER1.getId()).isEmpty()
+        ? WORKER2.getId() : WORKER1.getId();
+    WorkerInfo remaining = assignedWorker == WORKER1.getId() ? WORKER2 : WORKER1;
+    when(mBlockMaster.getWorkerInfoList()).thenReturn(ImmutableList.of(remaining));
+    mManager.heartbeat();
+    assertEquals(remaining.getId(), pollBlock());
+    mManager.reportBlocks(Collections.<Long>emptyList(), ImmutableList.of(BLOCK_ID));
+    assertProgress(loadId, 0, 1);
+  }
+
+  /**
+   * Tests that a late report from the first worker completes a reassigned block.
+   */
+  @Test
+  public void lateReport() throws Exception {
+    long loadId = mManager.load(PATH, ImmutableList.of(newBlock()), 0);
+    long firstWorker = pollBlock();
+    mClock.addTimeMs(TIMEOUT_MS);
+    mManager.heartbeat();
+    mManager.reportBlocks(Lists.newArrayList(BLOCK_ID), Collections.<Long>emptyList());
+    assertProgress(loadId, 1, 0);
+    assertTrue(mManager.pollBlocksToLoad(otherWorker(firstWorker)).isEmpty());
+  }
+
+  /**
+   * Polls both workers and returns the one which got the block.
+   */
+  private long pollBlock() {
+    long worker = -1;
+    for (WorkerInfo info : new WorkerInfo[] {WORKER1, WORKER2}) {
+      List<LoadBlock> blocks = mManager.pollBlocksToLoad(info.getId());
+      if (!blocks.isEmpty()) {
+        assertEquals(-1, worker);
+        assertEquals(BLOCK_ID, blocks.get(0).getBlockId());
+        worker = info.getId();
+      }
+    }
+    assertTrue(worker != -1);
+    return worker;
+  }
+
+  private void assertProgress(long loadId, long loaded, long failed) throws Exception {
+    LoadInfo info = mManager.getLoadInfo(loadId);
+    assertEquals(loaded, info.getLoadedBlocks());
+    assertEquals(failed, info.getFailedBlocks());
+  }
+
+  private static long otherWorker(long workerId) {
+    return workerId == WORKER1.getId() ? WORKER2.getId() : WORKER1.getId();
+  }
+
+  private static LoadBlock newBlock() {
+    return new LoadBlock(BLOCK_ID, "/ufs/file", 0, Constants.KB, 1);
+  }
+
+  private static WorkerInfo newWorker(long id) {
+    return new WorkerInfo().setId(id)
+        .setAddress(new WorkerNetAddress().setHost("host" + id).setDataPort(1))
+        .setCapacityBytes(Constants.GB).setUsedBytes(0);
+  }
+}
@@ -32,6 +32,7 @@ import alluxio.exception.FileAlreadyExistsException;
 import alluxio.exception.FileDoesNotExistException;
 import alluxio.exception.InvalidPathException;
 import alluxio.exception.UnexpectedAlluxioException;
+import alluxio.exception.status.InvalidArgumentException;
 import alluxio.heartbeat.HeartbeatContext;
 import alluxio.heartbeat.HeartbeatScheduler;
 import alluxio.heartbeat.ManuallyScheduleHeartbeat;
@@ -61,6 +62,7 @@ import alluxio.security.GroupMappingServiceTestUtils;
 import alluxio.thrift.Command;
 import alluxio.thrift.CommandType;
 import alluxio.thrift.FileSystemCommand;
+import alluxio.thrift.LoadBlock;
 import alluxio.thrift.UfsInfo;
 import alluxio.util.IdUtils;
 import alluxio.util.ThreadFactoryUtils;
@@ -68,6 +70,8 @@ import alluxio.util.executor.ExecutorServiceFactories;
 import alluxio.util.io.FileUtils;
 import alluxio.wire.FileBlockInfo;
 import alluxio.wire.FileInfo;
+import alluxio.wire.HotFileInfo;
+import alluxio.wire.LoadInfo;
 import alluxio.wire.LoadMetadataType;
 import alluxio.wire.TtlAction;
 import alluxio.wire.WorkerNetAddress;
@@ -86,6 +90,7 @@ import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -161,7 +166,8 @@ public final class FileSystemMasterTest {
 
   @ClassRule
   public static ManuallyScheduleHeartbeat sManuallySchedule = new ManuallyScheduleHeartbeat(
-      HeartbeatContext.MASTER_TTL_CHECK, HeartbeatContext.MASTER_LOST_FILES_DETECTION);
+      HeartbeatContext.MASTER_TTL_CHECK, HeartbeatContext.MASTER_LOST_FILES_DETECTION,
+      HeartbeatContext.MASTER_REPLICATION_CHECK);
 
   // Set ttl interval to 0 so that there is no delay in detecting expired files.
   @ClassRule
@@ -200,6 +206,72 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.createFile(path, CreateFileOptions.defaults().setPersisted(true));
   }
 
+  /**
+   * Tests the {@link FileSystemMaster#applyBatch(List)} method.
+   */
+  @Test
+  public void applyBatch() throws Exception {
+    AlluxioURI file1 = new AlluxioURI("/batch/file1");
+    AlluxioURI file2 = new AlluxioURI("/batch/file2");
+    createFileWithSingleBlock(ROOT_FILE_URI);
+
+    mFileSystemMaster.applyBatch(Arrays.asList(
+        BatchOperation.createFile(file1, mNestedFileOptions),
+        BatchOperation.createFile(file2, mNestedFileOptions),
+        BatchOperation.completeFile(file1, CompleteFileOptions.defaults()),
+        BatchOperation.setAttribute(file1, SetAttributeOptions.defaults().setPinned(true)),
+        BatchOperation.delete(ROOT_FILE_URI, DeleteOptions.defaults())));
+
+    FileInfo fileInfo1 = mFileSystemMaster.getFileInfo(file1, GET_STATUS_OPTIONS);
+    assertTrue(fileInfo1.isCompleted());
+    assertTrue(fileInfo1.isPinned());
+    FileInfo fileInfo2 = mFileSystemMaster.getFileInfo(file2, GET_STATUS_OPTIONS);
+    assertFalse(fileInfo2.isCompleted());
+    assertFalse(fileInfo2.isPinned());
+    assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(ROOT_FILE_URI));
+  }
+
+  /**
+   * Tests that {@link FileSystemMaster#applyBatch(List)} stops at the first failing operation and
+   * keeps the operations applied before it.
+   */
+  @Test
+  public void applyBatchStopsAtFailure() throws Exception {
+    AlluxioURI file1 = new AlluxioURI("/batch/file1");
+    AlluxioURI file2 = new AlluxioURI("/batch/file2");
+    try {
+      mFileSystemMaster.applyBatch(Arrays.asList(
+          BatchOperation.createFile(file1, mNestedFileOptions),
+          BatchOperation.createFile(file1, mNestedFileOptions),
+          BatchOperation.createFile(file2, mNestedFileOptions)));
+      Assert.fail("Creating an existing file in a batch should fail");
+    } catch (FileAlreadyExistsException e) {
+      // expected
+    }
+    assertNotEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(file1));
+    assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(file2));
+  }
+
+  /**
+   * Tests that {@link FileSystemMaster#applyBatch(List)} rejects a batch with too many operations
+   * without applying any of them.
+   */
+  @Test
+  public void applyBatchRejectsTooManyOperations() throws Exception {
+    AlluxioURI file1 = new AlluxioURI("/batch/file1");
+    AlluxioURI file2 = new AlluxioURI("/batch/file2");
+    try (Closeable c =
+        new ConfigurationRule(PropertyKey.MASTER_FILE_BATCH_MAX_OPERATIONS, "1").toResource()) {
+      mFileSystemMaster.applyBatch(Arrays.asList(
+          BatchOperation.createFile(file1, mNestedFileOptions),
+          BatchOperation.createFile(file2, mNestedFileOptions)));
+      Assert.fail("A batch with too many operations should be rejected");
+    } catch (InvalidArgumentException e) {
+      // expected
+    }
+    assertEquals(IdUtils.INVALID_FILE_ID, mFileSystemMaster.getFileId(file1));
+  }
+
   /**
    * Tests the {@link FileSystemMaster#delete(AlluxioURI, DeleteOptions)} method.
    */
@@ -1037,6 +1109,29 @@ public final class FileSystemMasterTest {
     mFileSystemMaster.getFileInfo(dirId);
   }
 
+  /**
+   * Tests that a directory and the files inside it are all deleted when their TTLs expire in the
+   * same TTL check.
+   */
+  @Test
+  public void ttlNestedDelete() throws Exception {
+    long dirId = mFileSystemMaster.createDirectory(NESTED_DIR_URI,
+        CreateDirectoryOptions.defaults().setRecursive(true).setTtl(0));
+    CreateFileOptions fileOptions =
+        CreateFileOptions.defaults().setBlockSizeBytes(Constants.KB).setTtl(0);
+    long fileId1 = mFileSystemMaster.createFile(NESTED_DIR_URI.join("file1"), fileOptions);
+    long fileId2 = mFileSystemMaster.createFile(NESTED_DIR_URI.join("file2"), fileOptions);
+    HeartbeatScheduler.execute(HeartbeatContext.MASTER_TTL_CHECK);
+    for (long id : new long[] {dirId, fileId1, fileId2}) {
+      try {
+        mFileSystemMaster.getFileInfo(id);
+        Assert.fail("Expected inode " + id + " to be deleted");
+      } catch (FileDoesNotExistException e) {
+        // expected
+      }
+    }
+  }
+
   /**
    * Tests that TTL delete of a directory is not forgotten across restarts.
    */
@@ -1103,6 +1198,118 @@ public final class FileSystemMasterTest {
     assertEquals(0, mBlockMaster.getBlockInfo(blockId).getLocations().size());
   }
 
+  /**
+   * Tests that a block is copied to another worker when its file requires more replicas.
+   */
+  @Test
+  public void replicationMinCopiesBlock() throws Exception {
+    long blockId = createFileWithSingleBlock(NESTED_FILE_URI);
+    mFileSystemMaster.setAttribute(NESTED_FILE_URI,
+        SetAttributeOptions.defaults().setReplicationMin(2));
+    FileInfo fileInfo = mFileSystemMaster.getFileInfo(NESTED_FILE_URI, GET_STATUS_OPTIONS);
+    assertEquals(2, fileInfo.getReplicationMin());
+    assertEquals(Constants.REPLICATION_MAX_INFINITY, fileInfo.getReplicationMax());
+
+    HeartbeatScheduler.execute(HeartbeatContext.MASTER_REPLICATION_CHECK);
+    Command heartbeat =
+        mBlockMaster.workerHeartbeat(mWorkerId2, ImmutableMap.of("MEM", (long) Constants.KB),
+            ImmutableList.<Long>of(), ImmutableMap.<String, List<Long>>of());
+    assertEquals(new Command(CommandType.Replicate, ImmutableList.of(blockId)), heartbeat);
+
+    // Once the copy is reported, there is nothing left to do.
+    mBlockMaster.workerHeartbeat(mWorkerId2, ImmutableMap.of("MEM", (long) Constants.KB),
+        ImmutableList.<Long>of(), ImmutableMap.<String, List<Long>>of("MEM",
+            ImmutableList.of(blockId)));
+    assertEquals(2, mBlockMaster.getBlockInfo(blockId).getLocations().size());
+    HeartbeatScheduler.execute(HeartbeatContext.MASTER_REPLICATION_CHECK);
+    heartbeat =
+        mBlockMaster.workerHeartbeat(mWorkerId2, ImmutableMap.of("MEM", (long) Constants.KB),
+            ImmutableList.<Long>of(), ImmutableMap.<String, List<Long>>of());
+    assertEquals(new Command(CommandType.Nothing, ImmutableList.<Long>of()), heartbeat);
+  }
+
+  /**
+   * Tests that extra replicas of a block are removed when its file allows fewer replicas.
+   */
+  @Test
+  public void replicationMaxRemovesBlock() throws Exception {
+    long blockId = createFileWithSingleBlock(NESTED_FILE_URI);
+    mBlockMaster.commitBlock(mWorkerId2, Constants.KB, "MEM", blockId, Constants.KB);
+    assertEquals(2, mBlockMaster.getBlockInfo(blockId).getLocations().size());
+    mFileSystemMaster.setAttribute(NESTED_FILE_URI,
+        SetAttributeOptions.defaults().setReplicationMax(1));
+
+    HeartbeatScheduler.execute(HeartbeatContext.MASTER_REPLICATION_CHECK);
+    int freeCommands = 0;
+    for (long workerId : new long[] {mWorkerId1, mWorkerId2}) {
+      Command heartbeat =
+          mBlockMaster.workerHeartbeat(workerId, ImmutableMap.of("MEM", (long) Constants.KB),
+              ImmutableList.<Long>of(), ImmutableMap.<String, List<Long>>of());
+      if (heartbeat.getCommandType() == CommandType.Free) {
+        assertEquals(ImmutableList.of(blockId), heartbeat.getData());
+        freeCommands++;
+      }
+    }
+    assertEquals(1, freeCommands);
+  }
+
+  /**
+   * Tests that the block access counts reported by workers are aggregated into a list of the
+   * most read files.
+   */
+  @Test
+  public void hotFiles() throws Exception {
+    long nestedBlockId = createFileWithSingleBlock(NESTED_FILE_URI);
+    long rootBlockId = createFileWithSingleBlock(ROOT_FILE_URI);
+    mBlockMaster.reportBlockAccessCounts(mWorkerId1, ImmutableMap.of(nestedBlockId, 5));
+    mBlockMaster.reportBlockAccessCounts(mWorkerId1, ImmutableMap.of(rootBlockId, 4));
+    mBlockMaster.reportBlockAccessCounts(mWorkerId2, ImmutableMap.of(rootBlockId, 6));
+
+    List<HotFileInfo> hotFiles = mFileSystemMaster.getHotFiles(10);
+    assertEquals(2, hotFiles.size());
+    assertEquals(ROOT_FILE_URI.getPath(), hotFiles.get(0).getPath());
+    assertEquals(mFileSystemMaster.getFileId(ROOT_FILE_URI), hotFiles.get(0).getFileId());
+    assertEquals(10, hotFiles.get(0).getAccessCount());
+    assertEquals(NESTED_FILE_URI.getPath(), hotFiles.get(1).getPath());
+    assertEquals(5, hotFiles.get(1).getAccessCount());
+    assertEquals(1, mFileSystemMaster.getHotFiles(1).size());
+
+    // Deleted files are no longer listed.
+    mFileSystemMaster.delete(ROOT_FILE_URI, DeleteOptions.defaults());
+    hotFiles = mFileSystemMaster.getHotFiles(10);
+    assertEquals(1, hotFiles.size());
+    assertEquals(NESTED_FILE_URI.getPath(), hotFiles.get(0).getPath());
+  }
+
+  /**
+   * Tests that a maximum replication lower than the minimum replication is rejected.
+   */
+  @Test
+  public void invalidReplication() throws Exception {
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    mThrown.expect(IllegalArgumentException.class);
+    mFileSystemMaster.setAttribute(NESTED_FILE_URI,
+        SetAttributeOptions.defaults().setReplicationMin(2).setReplicationMax(1));
+  }
+
+  /**
+   * Tests that the replication limits of a file are not forgotten across restarts.
+   */
+  @Test
+  public void replicationReplay() throws Exception {
+    createFileWithSingleBlock(NESTED_FILE_URI);
+    mFileSystemMaster.setAttribute(NESTED_FILE_URI,
+        SetAttributeOptions.defaults().setReplicationMin(1).setReplicationMax(3));
+
+    // Simulate restart.
+    stopServices();
+    startServices();
+
+    FileInfo fileInfo = mFileSystemMaster.getFileInfo(NESTED_FILE_URI, GET_STATUS_OPTIONS);
+    assertEquals(1, fileInfo.getReplicationMin());
+    assertEquals(3, fileInfo.getReplicationMax());
+  }
+
   /**
    * Tests that file information is still present after it has been freed after the parent
    * directory's TTL has been set to 0.
@@ -1793,6 +2000,42 @@ public final class FileSystemMasterTest {
         .getPersistFiles().get(0).getBlockIds().get(0));
   }
 
+  /**
+   * Tests that {@link FileSystemMaster#load(AlluxioURI)} hands the blocks which are not in Alluxio
+   * to the workers, and tracks the blocks they report as loaded.
+   */
+  @Test
+  public void load() throws Exception {
+    mNestedFileOptions.setPersisted(true);
+    long blockId = createFileWithSingleBlock(NESTED_FILE_URI);
+    mFileSystemMaster.free(NESTED_FILE_URI, FreeOptions.defaults());
+    mBlockMaster.workerHeartbeat(mWorkerId1, ImmutableMap.of("MEM", (long) Constants.KB),
+        ImmutableList.of(blockId), ImmutableMap.<String, List<Long>>of());
+
+    long loadId = mFileSystemMaster.load(NESTED_URI);
+    LoadInfo info = mFileSystemMaster.getLoadStatus(loadId);
+    assertEquals(NESTED_URI.getPath(), info.getPath());
+    assertEquals(1, info.getTotalBlocks());
+    assertEquals(0, info.getLoadedBlocks());
+
+    List<LoadBlock> blocksToLoad = new ArrayList<>();
+    for (long workerId : new long[] {mWorkerId1, mWorkerId2}) {
+      FileSystemCommand command = mFileSystemMaster.workerHeartbeat(workerId,
+          new ArrayList<Long>(), WorkerHeartbeatOptions.defaults());
+      if (command.getCommandType() == CommandType.Load) {
+        blocksToLoad.addAll(command.getCommandOptions().getLoadOptions().getLoadBlocks());
+      }
+    }
+    assertEquals(1, blocksToLoad.size());
+    assertEquals(blockId, blocksToLoad.get(0).getBlockId());
+    assertEquals(Constants.KB, blocksToLoad.get(0).getBlockSize());
+
+    WorkerHeartbeatOptions options = WorkerHeartbeatOptions.defaults();
+    options.setLoadedBlocks(Lists.newArrayList(blockId));
+    mFileSystemMaster.workerHeartbeat(mWorkerId1, new ArrayList<Long>(), options);
+    assertEquals(1, mFileSystemMaster.getLoadStatus(loadId).getLoadedBlocks());
+  }
+
   /**
    * Tests that lost files can successfully be detected.
    */
@@ -1922,7 +2165,7 @@ public final class FileSystemMasterTest {
     mJournalSystem = JournalTestUtils.createJournalSystem(mJournalFolder);
     mBlockMaster = new BlockMasterFactory().create(mRegistry, mJournalSystem, mSafeModeManager);
     mExecutorService = Executors
-        .newFixedThreadPool(2, ThreadFactoryUtils.build("DefaultFileSystemMasterTest-%d", true));
+        .newFixedThreadPool(3, ThreadFactoryUtils.build("DefaultFileSystemMasterTest-%d", true));
     mFileSystemMaster = new DefaultFileSystemMaster(mBlockMaster, mJournalSystem,
         ExecutorServiceFactories.constantExecutorServiceFactory(mExecutorService));
     mRegistry.add(FileSystemMaster.class, mFileSystemMaster);
@@ -353,6 +353,25 @@ public final class PermissionCheckerTest {
     checkParentOrAncestorPermission(TEST_USER_2, Mode.Bits.WRITE, TEST_NOT_EXIST_URI);
   }
 
+  @Test
+  public void traverseCacheInvalidation() throws Exception {
+    checkPermission(TEST_USER_3, Mode.Bits.READ, TEST_DIR_FILE_URI);
+    Inode<?> dir = getInode(TEST_DIR_URI);
+    dir.setMode((short) 0700);
+    try {
+      // The traverse check of /testDir is remembered until the cache is invalidated.
+      checkPermission(TEST_USER_3, Mode.Bits.READ, TEST_DIR_FILE_URI);
+      mPermissionChecker.invalidateTraverseCache();
+      mThrown.expect(AccessControlException.class);
+      mThrown.expectMessage(ExceptionMessage.PERMISSION_DENIED.getMessage(
+          toExceptionMessage(TEST_USER_3.getUser(), Mode.Bits.EXECUTE, TEST_DIR_FILE_URI,
+              "testDir")));
+      checkPermission(TEST_USER_3, Mode.Bits.READ, TEST_DIR_FILE_URI);
+    } finally {
+      dir.setMode(TEST_NORMAL_MODE.toShort());
+    }
+  }
+
   @Test
   public void invalidPath() throws Exception {
     mThrown.expect(InvalidPathException.class);
@@ -362,6 +381,13 @@ public final class PermissionCheckerTest {
     }
   }
 
+  private static Inode<?> getInode(String path) throws Exception {
+    try (LockedInodePath inodePath = sTree
+        .lockFullInodePath(new AlluxioURI(path), InodeTree.LockMode.READ)) {
+      return inodePath.getInode();
+    }
+  }
+
   /**
    * Helper function to check user can perform action on path.
    */
@@ -136,4 +136,28 @@ public final class TtlBucketListTest {
     expired = getSortedExpiredBuckets(BUCKET2_END);
     Assert.assertEquals(0, expired.size());
   }
+
+  /**
+   * Tests that buckets scheduled on the timing wheel expire once their interval has passed.
+   */
+  @Test
+  public void expireScheduled() {
+    mBucketList = new TtlBucketList(BUCKET1_START);
+    InodeFile farFile = InodeFile.create(3, 0, "ignored", 0,
+        CreateFileOptions.defaults().setTtl(1000 * BUCKET_INTERVAL));
+    mBucketList.insert(BUCKET1_FILE1);
+    mBucketList.insert(BUCKET2_FILE);
+    mBucketList.insert(farFile);
+
+    Assert.assertTrue(getSortedExpiredBuckets(BUCKET1_END - 1).isEmpty());
+    List<TtlBucket> expired = getSortedExpiredBuckets(BUCKET2_END);
+    Assert.assertEquals(2, expired.size());
+    assertExpired(expired, 0, BUCKET1_FILE1);
+    assertExpired(expired, 1, BUCKET2_FILE);
+    mBucketList.removeBuckets(Sets.newHashSet(expired));
+
+    Assert.assertTrue(getSortedExpiredBuckets(1000 * BUCKET_INTERVAL).isEmpty());
+    expired = getSortedExpiredBuckets(1001 * BUCKET_INTERVAL);
+    assertExpired(expired, 0, farFile);
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for {@link TtlTimingWheel}.
+ */
+public final class TtlTimingWheelTest {
+  private static final long TICK_MS = 10;
+  private static final int WHEEL_SIZE = 4;
+
+  private TtlTimingWheel mWheel;
+
+  @ClassRule
+  public static TtlIntervalRule sTtlIntervalRule = new TtlIntervalRule(TICK_MS);
+
+  /**
+   * Sets up a new {@link TtlTimingWheel} before a test runs.
+   */
+  @Before
+  public void before() {
+    mWheel = new TtlTimingWheel(TICK_MS, WHEEL_SIZE, 0);
+  }
+
+  private List<TtlBucket> advance(long timeMs) {
+    List<TtlBucket> expired = new ArrayList<>();
+    mWheel.advance(timeMs, expired);
+    return expired;
+  }
+
+  /**
+   * Tests that a bucket which has already expired is not scheduled.
+   */
+  @Test
+  public void addExpired() {
+    mWheel.advance(5 * TICK_MS, new ArrayList<TtlBucket>());
+    Assert.assertFalse(mWheel.add(new TtlBucket(3 * TICK_MS)));
+    Assert.assertFalse(mWheel.add(new TtlBucket(4 * TICK_MS)));
+    Assert.assertTrue(mWheel.add(new TtlBucket(5 * TICK_MS)));
+  }
+
+  /**
+   * Tests that buckets expire exactly when the wheel reaches their interval end time.
+   */
+  @Test
+  public void expireInOrder() {
+    TtlBucket bucket1 = new TtlBucket(0);
+    TtlBucket bucket2 = new TtlBucket(TICK_MS);
+    Assert.assertTrue(mWheel.add(bucket1));
+    Assert.assertTrue(mWheel.add(bucket2));
+
+    Assert.assertTrue(advance(TICK_MS - 1).isEmpty());
+    Assert.assertEquals(1, advance(TICK_MS).size());
+    Assert.assertTrue(advance(2 * TICK_MS - 1).isEmpty());
+    List<TtlBucket> expired = advance(2 * TICK_MS);
+    Assert.assertEquals(1, expired.size());
+    Assert.assertEquals(bucket2, expired.get(0));
+    Assert.assertEquals(2 * TICK_MS, mWheel.getCurrentTimeMs());
+  }
+
+  /**
+   * Tests that buckets beyond the span of the lowest level are cascaded down and expire on time.
+   */
+  @Test
+  public void expireFromOverflowWheels() {
+    // Spans 1, 2 and 3 levels of the wheel respectively.
+    long[] startTimes = {2 * TICK_MS, 9 * TICK_MS, 40 * TICK_MS};
+    for (long startTime : startTimes) {
+      Assert.assertTrue(mWheel.add(new TtlBucket(startTime)));
+    }
+    for (long startTime : startTimes) {
+      long endTime = startTime + TICK_MS;
+      Assert.assertTrue(advance(endTime - 1).isEmpty());
+      List<TtlBucket> expired = advance(endTime);
+      Assert.assertEquals(1, expired.size());
+      Assert.assertEquals(startTime, expired.get(0).getTtlIntervalStartTimeMs());
+    }
+  }
+
+  /**
+   * Tests that advancing the wheel by more than its span expires all the passed buckets.
+   */
+  @Test
+  public void advanceBeyondSpan() {
+    for (long i = 0; i < 100; i++) {
+      Assert.assertTrue(mWheel.add(new TtlBucket(i * TICK_MS)));
+    }
+    Assert.assertEquals(50, advance(50 * TICK_MS).size());
+    Assert.assertEquals(50, advance(1000 * TICK_MS).size());
+    Assert.assertTrue(advance(2000 * TICK_MS).isEmpty());
+  }
+}
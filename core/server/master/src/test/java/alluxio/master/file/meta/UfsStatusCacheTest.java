@@ -0,0 +1,145 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.file.meta;
+
+import alluxio.Constants;
+import alluxio.underfs.UfsDirectoryStatus;
+import alluxio.underfs.UfsFileStatus;
+import alluxio.underfs.UfsStatus;
+import alluxio.underfs.UnderFileSystem;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit tests for {@link UfsStatusCache}.
+ */
+public class UfsStatusCacheTest {
+  private static final String DIR = "/ufs/dir";
+  private static final String FILE = "/ufs/dir/file";
+
+  private UnderFileSystem mUfs;
+  private UfsStatusCache mCache;
+
+  @Before
+  public void before() throws Exception {
+    mUfs = Mockito.mock(UnderFileSystem.class);
+    UfsStatus dirStatus = new UfsDirectoryStatus("dir", "owner", "group", (short) 0755);
+    UfsStatus fileStatus =
+        new UfsFileStatus("file", "hash", 10, 0, "owner", "group", (short) 0644);
+    Mockito.when(mUfs.exists(DIR)).thenReturn(true);
+    Mockito.when(mUfs.getStatus(DIR)).thenReturn(dirStatus);
+    Mockito.when(mUfs.listStatus(DIR)).thenReturn(new UfsStatus[] {fileStatus});
+    mCache = new UfsStatusCache(100, Constants.HOUR_MS);
+  }
+
+  @Test
+  public void cacheStatus() throws Exception {
+    Assert.assertTrue(mCache.getStatus(mUfs, DIR).isDirectory());
+    Assert.assertTrue(mCache.getStatus(mUfs, DIR).isDirectory());
+    Mockito.verify(mUfs, Mockito.times(1)).getStatus(DIR);
+  }
+
+  @Test
+  public void cacheAbsentPath() throws Exception {
+    Assert.assertNull(mCache.getStatus(mUfs, FILE));
+    Assert.assertNull(mCache.getStatus(mUfs, FILE));
+    Mockito.verify(mUfs, Mockito.times(1)).exists(FILE);
+  }
+
+  @Test
+  public void cacheListing() throws Exception {
+    Assert.assertEquals(1, mCache.listStatus(mUfs, DIR).length);
+    Assert.assertEquals(1, mCache.listStatus(mUfs, DIR).length);
+    // The statuses of the children are cached by the listing
+    Assert.assertTrue(mCache.getStatus(mUfs, FILE).isFile());
+    Mockito.verify(mUfs, Mockito.times(1)).listStatus(DIR);
+    Mockito.verify(mUfs, Mockito.never()).exists(FILE);
+  }
+
+  @Test
+  public void invalidate() throws Exception {
+    mCache.getStatus(mUfs, FILE);
+    mCache.listStatus(mUfs, DIR);
+    mCache.invalidate(FILE);
+    mCache.getStatus(mUfs, FILE);
+    mCache.listStatus(mUfs, DIR);
+    // Both the path and the listing of its parent are fetched again
+    Mockito.verify(mUfs, Mockito.times(2)).listStatus(DIR);
+    Assert.assertTrue(mCache.getStatus(mUfs, FILE).isFile());
+  }
+
+  @Test
+  public void invalidateRecursive() throws Exception {
+    mCache.listStatus(mUfs, DIR);
+    mCache.invalidateRecursive(DIR);
+    Assert.assertNull(mCache.getStatus(mUfs, FILE));
+    Mockito.verify(mUfs).exists(FILE);
+  }
+
+  @Test
+  public void invalidateRecursiveKeepsSiblings() throws Exception {
+    String sibling = DIR + "2";
+    String siblingChild = sibling + "/file";
+    Mockito.when(mUfs.exists(sibling)).thenReturn(true);
+    Mockito.when(mUfs.getStatus(sibling))
+        .thenReturn(new UfsDirectoryStatus("dir2", "owner", "group", (short) 0755));
+    mCache.listStatus(mUfs, DIR);
+    mCache.getStatus(mUfs, sibling);
+    mCache.getStatus(mUfs, siblingChild);
+    mCache.invalidateRecursive(DIR);
+    // The siblings whose paths start with the path of the directory stay cached
+    Assert.assertTrue(mCache.getStatus(mUfs, sibling).isDirectory());
+    Assert.assertNull(mCache.getStatus(mUfs, siblingChild));
+    Mockito.verify(mUfs).getStatus(sibling);
+    Mockito.verify(mUfs).exists(siblingChild);
+    // The descendants are fetched again
+    Assert.assertNull(mCache.getStatus(mUfs, FILE));
+    Mockito.verify(mUfs).exists(FILE);
+  }
+
+  @Test
+  public void invalidateRecursiveAfterEvictions() throws Exception {
+    mCache = new UfsStatusCache(2, Constants.HOUR_MS);
+    // Caches and evicts many more paths than the capacity
+    for (int i = 0; i < 100; i++) {
+      mCache.getStatus(mUfs, "/ufs/other/" + i);
+    }
+    mCache.getStatus(mUfs, FILE);
+    mCache.invalidateRecursive(DIR);
+    mCache.getStatus(mUfs, FILE);
+    Mockito.verify(mUfs, Mockito.times(2)).exists(FILE);
+  }
+
+  @Test
+  public void doNotCacheStatusFetchedBeforeInvalidation() throws Exception {
+    // The path is written and invalidated while its status is being fetched
+    Mockito.when(mUfs.exists(FILE)).thenAnswer(invocation -> {
+      mCache.invalidate(FILE);
+      return false;
+    });
+    Assert.assertNull(mCache.getStatus(mUfs, FILE));
+    Assert.assertNull(mCache.getStatus(mUfs, FILE));
+    Mockito.verify(mUfs, Mockito.times(2)).exists(FILE);
+  }
+
+  @Test
+  public void disabled() throws Exception {
+    mCache = new UfsStatusCache(0, Constants.HOUR_MS);
+    Assert.assertFalse(mCache.isEnabled());
+    mCache.getStatus(mUfs, DIR);
+    mCache.getStatus(mUfs, DIR);
+    Mockito.verify(mUfs, Mockito.times(2)).getStatus(DIR);
+  }
+}
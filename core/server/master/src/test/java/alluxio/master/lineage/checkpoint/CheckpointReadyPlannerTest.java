@@ -0,0 +1,103 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.lineage.checkpoint;
+
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
+import alluxio.job.CommandLineJob;
+import alluxio.job.Job;
+import alluxio.job.JobConf;
+import alluxio.master.file.FileSystemMaster;
+import alluxio.master.file.meta.FileSystemMasterView;
+import alluxio.master.file.meta.PersistenceState;
+import alluxio.master.lineage.meta.LineageIdGenerator;
+import alluxio.master.lineage.meta.LineageStore;
+import alluxio.master.lineage.meta.LineageStoreView;
+import alluxio.wire.FileInfo;
+
+import com.google.common.collect.Lists;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+
+/**
+ * Unit tests for {@link CheckpointReadyPlanner}.
+ */
+public final class CheckpointReadyPlannerTest {
+  private LineageStore mLineageStore;
+  private FileSystemMaster mFileSystemMaster;
+  private Job mJob;
+  private CheckpointReadyPlanner mPlanner;
+
+  @Rule
+  public ConfigurationRule mConfiguration =
+      new ConfigurationRule(PropertyKey.MASTER_LINEAGE_CHECKPOINT_MAX_CONCURRENT, "2");
+
+  /**
+   * Sets up all dependencies before a test runs.
+   */
+  @Before
+  public void before() {
+    mLineageStore = new LineageStore(new LineageIdGenerator());
+    mJob = new CommandLineJob("test", new JobConf("output"));
+    mFileSystemMaster = Mockito.mock(FileSystemMaster.class);
+    mPlanner = new CheckpointReadyPlanner(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster));
+  }
+
+  /**
+   * Tests that all the completed lineages whose parents are persisted are checkpointed, up to the
+   * maximum number of lineages in checkpointing.
+   */
+  @Test
+  public void schedule() throws Exception {
+    long l1 = mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(1L), mJob);
+    long l2 = mLineageStore.createLineage(Lists.newArrayList(1L), Lists.newArrayList(2L), mJob);
+    mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(3L), mJob);
+    FileInfo completed = new FileInfo().setCompleted(true);
+    for (long fileId = 1L; fileId <= 3L; fileId++) {
+      Mockito.when(mFileSystemMaster.getPersistenceState(fileId))
+          .thenReturn(PersistenceState.NOT_PERSISTED);
+      Mockito.when(mFileSystemMaster.getFileInfo(fileId)).thenReturn(completed);
+    }
+
+    CheckpointPlan plan = mPlanner.generatePlan(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster));
+    Assert.assertEquals(2, plan.getLineagesToCheckpoint().size());
+    Assert.assertEquals((Long) l1, plan.getLineagesToCheckpoint().get(0));
+    // the child is not checkpointed along with its parent
+    Assert.assertFalse(plan.getLineagesToCheckpoint().contains(l2));
+
+    // the lineages being checkpointed count towards the limit
+    Mockito.when(mFileSystemMaster.getPersistenceState(1L))
+        .thenReturn(PersistenceState.TO_BE_PERSISTED);
+    plan = mPlanner.generatePlan(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster));
+    Assert.assertEquals(1, plan.getLineagesToCheckpoint().size());
+    Assert.assertNotEquals((Long) l1, plan.getLineagesToCheckpoint().get(0));
+    // the child is not checkpointed while its parent is in checkpointing
+    Assert.assertFalse(plan.getLineagesToCheckpoint().contains(l2));
+
+    // persisted lineages are not checkpointed again
+    Mockito.when(mFileSystemMaster.getPersistenceState(1L))
+        .thenReturn(PersistenceState.PERSISTED);
+    Mockito.when(mFileSystemMaster.getPersistenceState(3L))
+        .thenReturn(PersistenceState.PERSISTED);
+    plan = mPlanner.generatePlan(new LineageStoreView(mLineageStore),
+        new FileSystemMasterView(mFileSystemMaster));
+    Assert.assertEquals(Lists.newArrayList(l2), plan.getLineagesToCheckpoint());
+  }
+}
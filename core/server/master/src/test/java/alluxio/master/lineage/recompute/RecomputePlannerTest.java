@@ -19,15 +19,19 @@ import alluxio.job.JobConf;
 import alluxio.master.file.FileSystemMaster;
 import alluxio.master.file.meta.FileSystemMasterView;
 import alluxio.master.file.meta.PersistenceState;
+import alluxio.master.lineage.meta.Lineage;
 import alluxio.master.lineage.meta.LineageIdGenerator;
 import alluxio.master.lineage.meta.LineageStore;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Unit tests for {@link RecomputePlanner}.
@@ -113,4 +117,48 @@ public final class RecomputePlannerTest {
     assertEquals(1, plan.getLineageToRecompute().size());
     assertEquals(l2, plan.getLineageToRecompute().get(0).getId());
   }
+
+  /**
+   * Tests that independent lost lineages are recomputed in the same batch, after the lineages
+   * they depend on.
+   */
+  @Test
+  public void independentLineagesInBatch() throws Exception {
+    long l1 = mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(1L), mJob);
+    long l2 = mLineageStore.createLineage(Lists.newArrayList(1L), Lists.newArrayList(2L), mJob);
+    long l3 = mLineageStore.createLineage(Lists.newArrayList(1L), Lists.newArrayList(3L), mJob);
+    for (long fileId = 1L; fileId <= 3L; fileId++) {
+      Mockito.when(mFileSystemMaster.getPersistenceState(fileId))
+          .thenReturn(PersistenceState.NOT_PERSISTED);
+    }
+    Mockito.when(mFileSystemMaster.getLostFiles()).thenReturn(Lists.newArrayList(1L, 2L, 3L));
+    RecomputePlan plan = mPlanner.plan();
+    assertEquals(2, plan.getBatches().size());
+    assertEquals(1, plan.getBatches().get(0).size());
+    assertEquals(l1, plan.getBatches().get(0).get(0).getId());
+    Set<Long> secondBatch = new HashSet<>();
+    for (Lineage lineage : plan.getBatches().get(1)) {
+      secondBatch.add(lineage.getId());
+    }
+    assertEquals(Sets.newHashSet(l2, l3), secondBatch);
+  }
+
+  /**
+   * Tests that the lineages of lost files which clients tried to read come first in their batch.
+   */
+  @Test
+  public void readLostFilesFirst() throws Exception {
+    mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(1L), mJob);
+    long l2 = mLineageStore.createLineage(new ArrayList<Long>(), Lists.newArrayList(2L), mJob);
+    for (long fileId = 1L; fileId <= 2L; fileId++) {
+      Mockito.when(mFileSystemMaster.getPersistenceState(fileId))
+          .thenReturn(PersistenceState.NOT_PERSISTED);
+    }
+    Mockito.when(mFileSystemMaster.getLostFiles()).thenReturn(Lists.newArrayList(1L, 2L));
+    mPlanner.reportLostFileRead(2L);
+    RecomputePlan plan = mPlanner.plan();
+    assertEquals(1, plan.getBatches().size());
+    assertEquals(2, plan.getBatches().get(0).size());
+    assertEquals(l2, plan.getBatches().get(0).get(0).getId());
+  }
 }
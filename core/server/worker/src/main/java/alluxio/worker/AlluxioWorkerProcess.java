@@ -16,9 +16,13 @@ import alluxio.Constants;
 import alluxio.PropertyKey;
 import alluxio.RuntimeConstants;
 import alluxio.ServiceUtils;
+import alluxio.ThriftServerUtils;
 import alluxio.metrics.MetricsSystem;
+import alluxio.metrics.TimedProcessor;
 import alluxio.metrics.sink.MetricsServlet;
+import alluxio.metrics.sink.PrometheusMetricsServlet;
 import alluxio.network.ChannelType;
+import alluxio.network.ThriftServerType;
 import alluxio.security.authentication.TransportProvider;
 import alluxio.underfs.UfsManager;
 import alluxio.underfs.WorkerUfsManager;
@@ -38,9 +42,8 @@ import com.google.common.base.Throwables;
 import io.netty.channel.unix.DomainSocketAddress;
 import org.apache.thrift.TMultiplexedProcessor;
 import org.apache.thrift.TProcessor;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TServerTransport;
 import org.apache.thrift.transport.TTransportException;
 import org.apache.thrift.transport.TTransportFactory;
 import org.slf4j.Logger;
@@ -75,6 +78,8 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
   private boolean mIsServingRPC = false;
 
   private final MetricsServlet mMetricsServlet = new MetricsServlet(MetricsSystem.METRIC_REGISTRY);
+  private final PrometheusMetricsServlet mPrometheusMetricsServlet =
+      new PrometheusMetricsServlet(MetricsSystem.METRIC_REGISTRY);
 
   /** The worker registry. */
   private WorkerRegistry mRegistry;
@@ -85,11 +90,11 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
   /** The transport provider to create thrift server transport. */
   private TransportProvider mTransportProvider;
 
-  /** Thread pool for thrift. */
-  private TThreadPoolServer mThriftServer;
+  /** Thrift server. */
+  private TServer mThriftServer;
 
-  /** Server socket for thrift. */
-  private TServerSocket mThriftServerSocket;
+  /** Server transport for thrift. */
+  private TServerTransport mThriftServerSocket;
 
   /** The address for the rpc server. */
   private InetSocketAddress mRpcAddress;
@@ -139,10 +144,10 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
 
       // Setup Thrift server
       mTransportProvider = TransportProvider.Factory.create();
-      mThriftServerSocket = createThriftServerSocket();
-      int rpcPort = NetworkAddressUtils.getThriftPort(mThriftServerSocket);
-      String rpcHost = NetworkAddressUtils.getThriftSocket(mThriftServerSocket).getInetAddress()
-          .getHostAddress();
+      InetSocketAddress rpcBindAddress = NetworkAddressUtils.getBindAddress(ServiceType.WORKER_RPC);
+      mThriftServerSocket = createThriftServerSocket(rpcBindAddress);
+      int rpcPort = ThriftServerUtils.getPort(mThriftServerSocket);
+      String rpcHost = rpcBindAddress.getAddress().getHostAddress();
       mRpcAddress = new InetSocketAddress(rpcHost, rpcPort);
       mThriftServer = createThriftServer();
 
@@ -230,6 +235,7 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
 
     // Start serving the web server, this will not block.
     mWebServer.addHandler(mMetricsServlet.getHandler());
+    mWebServer.addHandler(mPrometheusMetricsServlet.getHandler());
     mWebServer.start();
 
     // Start monitor jvm
@@ -292,17 +298,18 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
 
   private void registerServices(TMultiplexedProcessor processor, Map<String, TProcessor> services) {
     for (Map.Entry<String, TProcessor> service : services.entrySet()) {
-      processor.registerProcessor(service.getKey(), service.getValue());
+      processor.registerProcessor(service.getKey(), new TimedProcessor(service.getKey(),
+          service.getValue(), MetricsSystem::workerHistogramTimer));
     }
   }
 
   /**
-   * Helper method to create a {@link org.apache.thrift.server.TThreadPoolServer} for handling
-   * incoming RPC requests.
+   * Helper method to create a thrift server of the configured type for handling incoming RPC
+   * requests.
    *
    * @return a thrift server
    */
-  private TThreadPoolServer createThriftServer() {
+  private TServer createThriftServer() {
     int minWorkerThreads = Configuration.getInt(PropertyKey.WORKER_BLOCK_THREADS_MIN);
     int maxWorkerThreads = Configuration.getInt(PropertyKey.WORKER_BLOCK_THREADS_MAX);
     TMultiplexedProcessor processor = new TMultiplexedProcessor();
@@ -319,31 +326,35 @@ public final class AlluxioWorkerProcess implements WorkerProcess {
     } catch (IOException e) {
       throw Throwables.propagate(e);
     }
-    TThreadPoolServer.Args args = new TThreadPoolServer.Args(mThriftServerSocket)
-        .minWorkerThreads(minWorkerThreads).maxWorkerThreads(maxWorkerThreads).processor(processor)
-        .transportFactory(tTransportFactory)
-        .protocolFactory(new TBinaryProtocol.Factory(true, true));
-    if (Configuration.getBoolean(PropertyKey.TEST_MODE)) {
-      args.stopTimeoutVal = 0;
-    } else {
-      args.stopTimeoutVal = Constants.THRIFT_STOP_TIMEOUT_SECONDS;
-    }
-    return new TThreadPoolServer(args);
+    int stopTimeoutSeconds = Configuration.getBoolean(PropertyKey.TEST_MODE) ? 0
+        : Constants.THRIFT_STOP_TIMEOUT_SECONDS;
+    return ThriftServerUtils.createServer(getThriftServerType(), "worker", mThriftServerSocket,
+        processor, tTransportFactory, minWorkerThreads, maxWorkerThreads,
+        Configuration.getInt(PropertyKey.WORKER_RPC_SERVER_SELECTOR_THREADS),
+        Configuration.getInt(PropertyKey.WORKER_RPC_SERVER_QUEUE_SIZE), stopTimeoutSeconds);
   }
 
   /**
-   * Helper method to create a {@link org.apache.thrift.transport.TServerSocket} for the RPC server.
+   * Helper method to create a thrift server transport for the RPC server.
    *
-   * @return a thrift server socket
+   * @param bindAddress the address to bind to
+   * @return a thrift server transport
    */
-  private TServerSocket createThriftServerSocket() {
+  private TServerTransport createThriftServerSocket(InetSocketAddress bindAddress) {
     try {
-      return new TServerSocket(NetworkAddressUtils.getBindAddress(ServiceType.WORKER_RPC));
+      return ThriftServerUtils.createServerTransport(getThriftServerType(), bindAddress, 0);
     } catch (TTransportException e) {
       throw Throwables.propagate(e);
     }
   }
 
+  /**
+   * @return the type of the thrift server
+   */
+  private ThriftServerType getThriftServerType() {
+    return Configuration.getEnum(PropertyKey.WORKER_RPC_SERVER_TYPE, ThriftServerType.class);
+  }
+
   /**
    * @return true if domain socket is enabled
    */
@@ -26,16 +26,21 @@ public final class BlockHeartbeatReport {
   private final Map<String, List<Long>> mAddedBlocks;
   /** List of block ids removed in the last heartbeat period. */
   private final List<Long> mRemovedBlocks;
+  /** Map of block id to the number of times it was read in the last heartbeat period. */
+  private final Map<Long, Integer> mBlockAccessCounts;
 
   /**
    * Creates a new instance of {@link BlockHeartbeatReport}.
    *
    * @param addedBlocks added blocks
    * @param removedBlocks remove blocks
+   * @param blockAccessCounts number of accesses of each block
    */
-  public BlockHeartbeatReport(Map<String, List<Long>> addedBlocks, List<Long> removedBlocks) {
+  public BlockHeartbeatReport(Map<String, List<Long>> addedBlocks, List<Long> removedBlocks,
+      Map<Long, Integer> blockAccessCounts) {
     mAddedBlocks = addedBlocks;
     mRemovedBlocks = removedBlocks;
+    mBlockAccessCounts = blockAccessCounts;
   }
 
   /**
@@ -55,4 +60,13 @@ public final class BlockHeartbeatReport {
   public List<Long> getRemovedBlocks() {
     return Collections.unmodifiableList(mRemovedBlocks);
   }
+
+  /**
+   * Gets the number of times each block was read in the heartbeat this report represents.
+   *
+   * @return a map from block id to the number of accesses
+   */
+  public Map<Long, Integer> getBlockAccessCounts() {
+    return Collections.unmodifiableMap(mBlockAccessCounts);
+  }
 }
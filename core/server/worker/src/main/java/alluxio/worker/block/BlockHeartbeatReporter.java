@@ -11,6 +11,10 @@
 
 package alluxio.worker.block;
 
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.collections.TopKCounter;
+
 import com.google.common.collect.Lists;
 
 import java.util.ArrayList;
@@ -29,7 +33,7 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListener {
-  /** Lock for operations on the removed and added block collections. */
+  /** Lock for operations on the removed and added block collections and access counts. */
   private final Object mLock;
 
   /** List of blocks that were removed in the last heartbeat period. */
@@ -38,6 +42,12 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
   /** Map of storage tier alias to a list of blocks that were added in the last heartbeat period. */
   private final Map<String, List<Long>> mAddedBlocks;
 
+  /**
+   * The number of times the most read blocks were read in the last heartbeat period. The counter
+   * is bounded so that a scan over many blocks does not grow the heartbeat.
+   */
+  private final TopKCounter<Long> mBlockAccessCounts;
+
   /**
    * Creates a new instance of {@link BlockHeartbeatReporter}.
    */
@@ -45,6 +55,8 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
     mLock = new Object();
     mRemovedBlocks = new ArrayList<>(100);
     mAddedBlocks = new HashMap<>(20);
+    mBlockAccessCounts = new TopKCounter<>(
+        Configuration.getInt(PropertyKey.WORKER_BLOCK_ACCESS_TRACKING_CAPACITY));
   }
 
   /**
@@ -58,10 +70,27 @@ public final class BlockHeartbeatReporter extends AbstractBlockStoreEventListene
       // Copy added and removed blocks
       Map<String, List<Long>> addedBlocks = new HashMap<>(mAddedBlocks);
       List<Long> removedBlocks = new ArrayList<>(mRemovedBlocks);
-      // Clear added and removed blocks
+      Map<Long, Integer> blockAccessCounts = new HashMap<>(mBlockAccessCounts.size());
+      for (Long blockId : mBlockAccessCounts.getTopK(mBlockAccessCounts.size()).keySet()) {
+        // Reports the guaranteed reads only, since the estimate of a block which replaced another
+        // one includes the reads of the replaced block
+        long count = mBlockAccessCounts.getGuaranteedCount(blockId);
+        if (count > 0) {
+          blockAccessCounts.put(blockId, (int) Math.min(count, Integer.MAX_VALUE));
+        }
+      }
+      // Clear added and removed blocks, and access counts
       mAddedBlocks.clear();
       mRemovedBlocks.clear();
-      return new BlockHeartbeatReport(addedBlocks, removedBlocks);
+      mBlockAccessCounts.clear();
+      return new BlockHeartbeatReport(addedBlocks, removedBlocks, blockAccessCounts);
+    }
+  }
+
+  @Override
+  public void onAccessBlock(long sessionId, long blockId) {
+    synchronized (mLock) {
+      mBlockAccessCounts.add(blockId, 1);
     }
   }
 
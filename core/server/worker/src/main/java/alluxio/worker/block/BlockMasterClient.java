@@ -115,16 +115,23 @@ public final class BlockMasterClient extends AbstractMasterClient {
    * @param usedBytesOnTiers a mapping from storage tier alias to used bytes
    * @param removedBlocks a list of block removed from this worker
    * @param addedBlocks a mapping from storage tier alias to added blocks
+   * @param blockAccessCounts a mapping from block id to the number of reads since the last
+   *        heartbeat
    * @return an optional command for the worker to execute
    */
   public synchronized Command heartbeat(final long workerId,
       final Map<String, Long> usedBytesOnTiers, final List<Long> removedBlocks,
-      final Map<String, List<Long>> addedBlocks) throws IOException {
+      final Map<String, List<Long>> addedBlocks, final Map<Long, Integer> blockAccessCounts)
+      throws IOException {
     return retryRPC(new RpcCallable<Command>() {
       @Override
       public Command call() throws TException {
+        BlockHeartbeatTOptions options = new BlockHeartbeatTOptions();
+        if (!blockAccessCounts.isEmpty()) {
+          options.setBlockAccessCounts(blockAccessCounts);
+        }
         return mClient.blockHeartbeat(workerId, usedBytesOnTiers, removedBlocks, addedBlocks,
-            new BlockHeartbeatTOptions()).getCommand();
+            options).getCommand();
       }
     });
   }
@@ -78,6 +78,9 @@ public final class BlockMasterSync implements HeartbeatExecutor {
   private final ExecutorService mBlockRemovalService = Executors.newFixedThreadPool(
       DEFAULT_BLOCK_REMOVER_POOL_SIZE, ThreadFactoryUtils.build("block-removal-service-%d", true));
 
+  /** Copies blocks from other workers when requested by the master. */
+  private final BlockReplicator mBlockReplicator;
+
   /** Last System.currentTimeMillis() timestamp when a heartbeat successfully completed. */
   private long mLastSuccessfulHeartbeatMs;
 
@@ -101,6 +104,9 @@ public final class BlockMasterSync implements HeartbeatExecutor {
     mMasterClient = masterClient;
     mHeartbeatTimeoutMs = (int) Configuration.getMs(PropertyKey.WORKER_BLOCK_HEARTBEAT_TIMEOUT_MS);
     mRemovingBlockIdToFinished = new HashMap<>();
+    mBlockReplicator = new BlockReplicator(blockWorker, Executors.newFixedThreadPool(
+        Configuration.getInt(PropertyKey.WORKER_BLOCK_REPLICATION_THREADS),
+        ThreadFactoryUtils.build("block-replication-service-%d", true)));
 
     registerWithMaster();
     mLastSuccessfulHeartbeatMs = System.currentTimeMillis();
@@ -132,7 +138,8 @@ public final class BlockMasterSync implements HeartbeatExecutor {
     try {
       cmdFromMaster = mMasterClient
           .heartbeat(mWorkerId.get(), storeMeta.getUsedBytesOnTiers(),
-              blockReport.getRemovedBlocks(), blockReport.getAddedBlocks());
+              blockReport.getRemovedBlocks(), blockReport.getAddedBlocks(),
+              blockReport.getBlockAccessCounts());
       handleMasterCommand(cmdFromMaster);
       mLastSuccessfulHeartbeatMs = System.currentTimeMillis();
     } catch (IOException | ConnectionFailedException e) {
@@ -160,10 +167,12 @@ public final class BlockMasterSync implements HeartbeatExecutor {
   @Override
   public void close() {
     mBlockRemovalService.shutdown();
+    mBlockReplicator.close();
   }
 
   /**
-   * Handles a master command. The command is one of Unknown, Nothing, Register, Free, or Delete.
+   * Handles a master command. The command is one of Unknown, Nothing, Register, Free, Delete, or
+   * Replicate.
    * This call will block until the command is complete.
    *
    * @param cmd the command to execute
@@ -201,6 +210,10 @@ public final class BlockMasterSync implements HeartbeatExecutor {
           }
         }
         break;
+      // Master requests blocks to be copied from other workers. The copies run asynchronously.
+      case Replicate:
+        mBlockReplicator.submit(cmd.getData());
+        break;
       // No action required
       case Nothing:
         break;
@@ -13,18 +13,28 @@ package alluxio.worker.block;
 
 import alluxio.StorageTierAssoc;
 import alluxio.WorkerStorageTierAssoc;
+import alluxio.exception.BlockDoesNotExistException;
 import alluxio.metrics.MetricsSystem;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * This class listens on block events and increases the metrics counters.
+ * This class listens on block events and increases the metrics counters. It also counts the block
+ * accesses served by each tier, which are reported as the tier hit ratios.
  */
 @ThreadSafe
 public final class BlockMetricsReporter extends AbstractBlockStoreEventListener {
   private final StorageTierAssoc mStorageTierAssoc;
+  /** The block store used to find the tier of the accessed blocks. */
+  private final BlockStore mBlockStore;
+  /** Mapping from tier alias to the counter of block accesses served by the tier. */
+  private final Map<String, Counter> mTierAccesses = new HashMap<>();
 
   private static final Counter BLOCKS_ACCESSED = MetricsSystem.workerCounter("BlocksAccessed");
   private static final Counter BLOCKS_PROMOTED = MetricsSystem.workerCounter("BlocksPromoted");
@@ -34,14 +44,44 @@ public final class BlockMetricsReporter extends AbstractBlockStoreEventListener
 
   /**
    * Creates a new instance of {@link BlockMetricsReporter}.
+   *
+   * @param blockStore the block store the reporter listens on
    */
-  public BlockMetricsReporter() {
+  public BlockMetricsReporter(BlockStore blockStore) {
     mStorageTierAssoc = new WorkerStorageTierAssoc();
+    mBlockStore = blockStore;
+    for (int ordinal = 0; ordinal < mStorageTierAssoc.size(); ordinal++) {
+      final String tierAlias = mStorageTierAssoc.getAlias(ordinal);
+      mTierAccesses.put(tierAlias, MetricsSystem.workerCounter("BlocksAccessed" + tierAlias));
+      MetricsSystem.registerGaugeIfAbsent(
+          MetricsSystem.getWorkerMetricName("TierHitRatio" + tierAlias), new Gauge<Double>() {
+            @Override
+            public Double getValue() {
+              return getHitRatio(tierAlias);
+            }
+          });
+    }
   }
 
   @Override
   public void onAccessBlock(long sessionId, long blockId) {
     BLOCKS_ACCESSED.inc();
+    String tierAlias;
+    if (mStorageTierAssoc.size() == 1) {
+      // Every access is served by the only tier, so there is no need to look the block up.
+      tierAlias = mStorageTierAssoc.getAlias(0);
+    } else {
+      try {
+        tierAlias = mBlockStore.getVolatileBlockMeta(blockId).getBlockLocation().tierAlias();
+      } catch (BlockDoesNotExistException e) {
+        // The block was removed right after being accessed.
+        return;
+      }
+    }
+    Counter tierAccesses = mTierAccesses.get(tierAlias);
+    if (tierAccesses != null) {
+      tierAccesses.inc();
+    }
   }
 
   @Override
@@ -78,4 +118,16 @@ public final class BlockMetricsReporter extends AbstractBlockStoreEventListener
   public void onAbortBlock(long sessionId, long blockId) {
     BLOCKS_CANCELLED.inc();
   }
+
+  /**
+   * @param tierAlias the tier alias
+   * @return the fraction of the block accesses served by the tier
+   */
+  private double getHitRatio(String tierAlias) {
+    long total = 0;
+    for (Counter counter : mTierAccesses.values()) {
+      total += counter.getCount();
+    }
+    return total == 0 ? 0 : (double) mTierAccesses.get(tierAlias).getCount() / total;
+  }
 }
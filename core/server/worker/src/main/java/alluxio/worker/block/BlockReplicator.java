@@ -0,0 +1,149 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import alluxio.StorageTierAssoc;
+import alluxio.WorkerStorageTierAssoc;
+import alluxio.client.ReadType;
+import alluxio.client.block.AlluxioBlockStore;
+import alluxio.client.block.stream.BlockInStream;
+import alluxio.client.file.options.InStreamOptions;
+import alluxio.util.IdUtils;
+import alluxio.worker.block.io.BlockWriter;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Copies blocks from other workers into the local block store when asked to by the block master.
+ * The copied blocks are committed like blocks written by clients, so the master learns about the
+ * new replicas without any further reporting.
+ */
+@ThreadSafe
+final class BlockReplicator {
+  private static final Logger LOG = LoggerFactory.getLogger(BlockReplicator.class);
+
+  /** The number of bytes copied at a time. */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final BlockWorker mBlockWorker;
+  private final ExecutorService mExecutorService;
+  /** An object storing the mapping of tier aliases to ordinals. */
+  private final StorageTierAssoc mStorageTierAssoc = new WorkerStorageTierAssoc();
+
+  /** The blocks which are being copied. */
+  @GuardedBy("this")
+  private final Set<Long> mReplicatingBlocks = new HashSet<>();
+
+  /**
+   * Creates a new instance of {@link BlockReplicator}.
+   *
+   * @param blockWorker the block worker
+   * @param executorService the thread pool to copy blocks with
+   */
+  BlockReplicator(BlockWorker blockWorker, ExecutorService executorService) {
+    mBlockWorker = Preconditions.checkNotNull(blockWorker, "blockWorker");
+    mExecutorService = Preconditions.checkNotNull(executorService, "executorService");
+  }
+
+  /**
+   * Schedules blocks to be copied asynchronously. Blocks which are already being copied are
+   * ignored. Failed copies are not retried; the master gives up on copies which are not committed
+   * in time and may ask another worker instead.
+   *
+   * @param blockIds the ids of the blocks to copy
+   */
+  void submit(List<Long> blockIds) {
+    for (final long blockId : blockIds) {
+      synchronized (this) {
+        if (!mReplicatingBlocks.add(blockId)) {
+          continue;
+        }
+      }
+      mExecutorService.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            replicate(blockId);
+          } finally {
+            synchronized (BlockReplicator.this) {
+              mReplicatingBlocks.remove(blockId);
+            }
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Stops copying blocks.
+   */
+  void close() {
+    mExecutorService.shutdownNow();
+  }
+
+  /**
+   * Copies a block from another worker into the top tier of the local block store.
+   *
+   * @param blockId the id of the block to copy
+   */
+  private void replicate(long blockId) {
+    if (mBlockWorker.hasBlockMeta(blockId)) {
+      return;
+    }
+    long sessionId = IdUtils.createSessionId();
+    boolean committed = false;
+    try {
+      AlluxioBlockStore blockStore = AlluxioBlockStore.create();
+      long length = blockStore.getInfo(blockId).getLength();
+      mBlockWorker.createBlockRemote(sessionId, blockId, mStorageTierAssoc.getAlias(0), length);
+      try (BlockInStream in = blockStore.getInStream(blockId, null,
+          InStreamOptions.defaults().setReadType(ReadType.NO_CACHE))) {
+        BlockWriter writer = mBlockWorker.getTempBlockWriterRemote(sessionId, blockId);
+        try {
+          byte[] buffer = new byte[BUFFER_SIZE];
+          int read;
+          while ((read = in.read(buffer)) != -1) {
+            writer.append(ByteBuffer.wrap(buffer, 0, read));
+          }
+        } finally {
+          writer.close();
+        }
+      }
+      mBlockWorker.commitBlock(sessionId, blockId);
+      committed = true;
+      LOG.debug("Copied block {} from another worker", blockId);
+    } catch (Exception e) {
+      LOG.warn("Failed to copy block {} from another worker: {}", blockId, e.getMessage());
+    } finally {
+      if (!committed) {
+        try {
+          mBlockWorker.abortBlock(sessionId, blockId);
+        } catch (Exception e) {
+          // The temporary block may not have been created.
+          LOG.debug("Failed to abort copy of block {}: {}", blockId, e.getMessage());
+        }
+      }
+      mBlockWorker.cleanupSession(sessionId);
+    }
+  }
+}
@@ -288,10 +288,11 @@ public interface BlockWorker extends Worker, SessionCleanable {
    * @param sessionId the client session ID
    * @param blockId the ID of the UFS block to read
    * @param offset the offset within the block
+   * @param length the number of bytes expected to be read from the offset
    * @return the block reader instance
    * @throws BlockDoesNotExistException if the block does not exist in the UFS block store
    */
-  BlockReader readUfsBlock(long sessionId, long blockId, long offset)
+  BlockReader readUfsBlock(long sessionId, long blockId, long offset, long length)
       throws BlockDoesNotExistException, IOException;
 
   /**
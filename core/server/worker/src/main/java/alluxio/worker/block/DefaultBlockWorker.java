@@ -101,6 +101,11 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
   private BlockHeartbeatReporter mHeartbeatReporter;
   /** Metrics reporter that listens on block events and increases metrics counters. */
   private BlockMetricsReporter mMetricsReporter;
+  /**
+   * Tiered store manager that moves blocks between tiers based on their reads, null if the
+   * manager is disabled.
+   */
+  private TierManager mTierManager;
   /** Session metadata, used to keep track of session heartbeats. */
   private Sessions mSessions;
   /** Block Store manager. */
@@ -139,18 +144,23 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
       FileSystemMasterClient fileSystemMasterClient, Sessions sessions, BlockStore blockStore,
       UfsManager ufsManager) {
     super(Executors
-        .newFixedThreadPool(4, ThreadFactoryUtils.build("block-worker-heartbeat-%d", true)));
+        .newFixedThreadPool(5, ThreadFactoryUtils.build("block-worker-heartbeat-%d", true)));
     mBlockMasterClientPool = blockMasterClientPool;
     mBlockMasterClient = mBlockMasterClientPool.acquire();
     mFileSystemMasterClient = fileSystemMasterClient;
     mHeartbeatReporter = new BlockHeartbeatReporter();
-    mMetricsReporter = new BlockMetricsReporter();
+    mMetricsReporter = new BlockMetricsReporter(blockStore);
     mSessions = sessions;
     mBlockStore = blockStore;
     mWorkerId = new AtomicReference<>(-1L);
 
     mBlockStore.registerBlockStoreEventListener(mHeartbeatReporter);
     mBlockStore.registerBlockStoreEventListener(mMetricsReporter);
+    if (Configuration.getBoolean(PropertyKey.WORKER_TIERED_STORE_MANAGER_ENABLED)) {
+      // Only track the block reads when they are used to move blocks.
+      mTierManager = new TierManager(this);
+      mBlockStore.registerBlockStoreEventListener(mTierManager);
+    }
     mUnderFileSystemBlockStore = new UnderFileSystemBlockStore(mBlockStore, ufsManager);
 
     Metrics.registerGauges(this);
@@ -221,6 +231,13 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
               (int) Configuration.getMs(PropertyKey.WORKER_TIERED_STORE_RESERVER_INTERVAL_MS)));
     }
 
+    // Setup tiered store manager
+    if (mTierManager != null) {
+      getExecutorService().submit(
+          new HeartbeatThread(HeartbeatContext.WORKER_TIERED_STORE_MANAGER, mTierManager,
+              (int) Configuration.getMs(PropertyKey.WORKER_TIERED_STORE_MANAGER_INTERVAL_MS)));
+    }
+
     getExecutorService()
         .submit(new HeartbeatThread(HeartbeatContext.WORKER_BLOCK_SYNC, mBlockMasterSync,
             (int) Configuration.getMs(PropertyKey.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS)));
@@ -258,6 +275,8 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
         }
       }
     });
+    mUnderFileSystemBlockStore.close();
+    mBlockStore.close();
     mBlockMasterClientPool.release(mBlockMasterClient);
     try {
       mBlockMasterClientPool.close();
@@ -424,9 +443,9 @@ public final class DefaultBlockWorker extends AbstractWorker implements BlockWor
   }
 
   @Override
-  public BlockReader readUfsBlock(long sessionId, long blockId, long offset)
+  public BlockReader readUfsBlock(long sessionId, long blockId, long offset, long length)
       throws BlockDoesNotExistException, IOException {
-    return mUnderFileSystemBlockStore.getBlockReader(sessionId, blockId, offset);
+    return mUnderFileSystemBlockStore.getBlockReader(sessionId, blockId, offset, length);
   }
 
   @Override
@@ -0,0 +1,265 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.Sessions;
+import alluxio.StorageTierAssoc;
+import alluxio.WorkerStorageTierAssoc;
+import alluxio.clock.Clock;
+import alluxio.clock.SystemClock;
+import alluxio.collections.TopKCounter;
+import alluxio.exception.BlockAlreadyExistsException;
+import alluxio.exception.BlockDoesNotExistException;
+import alluxio.exception.InvalidWorkerStateException;
+import alluxio.exception.WorkerOutOfSpaceException;
+import alluxio.heartbeat.HeartbeatExecutor;
+import alluxio.metrics.MetricsSystem;
+import alluxio.worker.block.meta.BlockMeta;
+
+import com.codahale.metrics.Counter;
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The {@link TierManager} moves blocks between tiers based on how often they are read. It listens
+ * on block accesses to keep a decayed read count of the most read blocks, and periodically
+ * promotes the hot blocks, whose count reaches the promotion threshold, to the top tier. When the
+ * top tier does not have enough free space, the coldest blocks of the top tier are demoted to the
+ * next tier to make room, as long as they are not hot themselves. Moves are throttled by a rate
+ * limiter to limit the impact on client I/O.
+ */
+@ThreadSafe
+public final class TierManager extends AbstractBlockStoreEventListener
+    implements HeartbeatExecutor {
+  private static final Logger LOG = LoggerFactory.getLogger(TierManager.class);
+
+  private static final Counter BLOCKS_PROMOTED =
+      MetricsSystem.workerCounter("TierManagerBlocksPromoted");
+  private static final Counter BLOCKS_DEMOTED =
+      MetricsSystem.workerCounter("TierManagerBlocksDemoted");
+  private static final Counter BYTES_MOVED =
+      MetricsSystem.workerCounter("TierManagerBytesMoved");
+
+  /** The block worker the manager moves blocks on. */
+  private final BlockWorker mBlockWorker;
+  /** Association between storage tier aliases and ordinals for the worker. */
+  private final StorageTierAssoc mStorageTierAssoc;
+  /** Throttles the number of bytes moved between tiers per second. */
+  private final RateLimiter mRateLimiter;
+  private final Clock mClock;
+  /** The number of recent reads at which a block is considered hot. */
+  private final long mPromoteThreshold;
+  /** The interval after which the read counts are halved. */
+  private final long mDecayIntervalMs;
+
+  /** The number of recent reads of the most read blocks. */
+  @GuardedBy("itself")
+  private final TopKCounter<Long> mAccessCounts;
+  /** The time of the last decay of the read counts. */
+  @GuardedBy("mAccessCounts")
+  private long mLastDecayMs;
+
+  /**
+   * Creates a new instance of {@link TierManager}.
+   *
+   * @param blockWorker the block worker handle
+   */
+  public TierManager(BlockWorker blockWorker) {
+    this(blockWorker, RateLimiter.create(
+        Configuration.getBytes(PropertyKey.WORKER_TIERED_STORE_MANAGER_RATE_LIMIT)),
+        new SystemClock());
+  }
+
+  /**
+   * Creates a new instance of {@link TierManager}.
+   *
+   * @param blockWorker the block worker handle
+   * @param rateLimiter the rate limiter throttling the bytes moved between tiers
+   * @param clock the clock to use for decaying the read counts
+   */
+  public TierManager(BlockWorker blockWorker, RateLimiter rateLimiter, Clock clock) {
+    mBlockWorker = blockWorker;
+    mStorageTierAssoc = new WorkerStorageTierAssoc();
+    mRateLimiter = rateLimiter;
+    mClock = clock;
+    mPromoteThreshold =
+        Configuration.getLong(PropertyKey.WORKER_TIERED_STORE_MANAGER_PROMOTE_ACCESS_THRESHOLD);
+    mDecayIntervalMs =
+        Configuration.getMs(PropertyKey.WORKER_TIERED_STORE_MANAGER_DECAY_INTERVAL_MS);
+    mAccessCounts = new TopKCounter<>(
+        Configuration.getInt(PropertyKey.WORKER_TIERED_STORE_MANAGER_TRACKING_CAPACITY));
+    mLastDecayMs = clock.millis();
+  }
+
+  @Override
+  public void onAccessBlock(long sessionId, long blockId) {
+    synchronized (mAccessCounts) {
+      mAccessCounts.add(blockId, 1);
+    }
+  }
+
+  @Override
+  public void heartbeat() {
+    if (mStorageTierAssoc.size() < 2) {
+      return;
+    }
+    List<Long> hotBlocks = new ArrayList<>();
+    synchronized (mAccessCounts) {
+      decay();
+      for (Map.Entry<Long, Long> entry
+          : mAccessCounts.getTopK(mAccessCounts.getCapacity()).entrySet()) {
+        if (entry.getValue() < mPromoteThreshold) {
+          break;
+        }
+        // The estimate may include the reads of the blocks this one replaced in the counter, so
+        // that a scan over many blocks would make cold blocks look hot
+        if (mAccessCounts.getGuaranteedCount(entry.getKey()) >= mPromoteThreshold) {
+          hotBlocks.add(entry.getKey());
+        }
+      }
+    }
+    String topTierAlias = mStorageTierAssoc.getAlias(0);
+    List<Long> demotionCandidates = null;
+    for (long blockId : hotBlocks) {
+      BlockMeta blockMeta;
+      try {
+        blockMeta = mBlockWorker.getVolatileBlockMeta(blockId);
+      } catch (BlockDoesNotExistException e) {
+        continue;
+      }
+      if (blockMeta.getBlockLocation().tierAlias().equals(topTierAlias)) {
+        continue;
+      }
+      if (demotionCandidates == null) {
+        demotionCandidates = getDemotionCandidates(topTierAlias);
+      }
+      if (!reserveSpace(topTierAlias, blockMeta.getBlockSize(), demotionCandidates)) {
+        // No cold block is left to make room for the remaining hot blocks.
+        LOG.debug("Not enough cold blocks in tier {} to promote block {}", topTierAlias, blockId);
+        return;
+      }
+      if (moveBlock(blockId, blockMeta.getBlockSize(), topTierAlias)) {
+        BLOCKS_PROMOTED.inc();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    // Nothing to close.
+  }
+
+  /**
+   * Halves the read counts once for every decay interval elapsed since the last decay.
+   */
+  @GuardedBy("mAccessCounts")
+  private void decay() {
+    long periods = (mClock.millis() - mLastDecayMs) / mDecayIntervalMs;
+    if (periods <= 0) {
+      return;
+    }
+    mAccessCounts.decay(Math.pow(0.5, Math.min(periods, Long.SIZE)));
+    mLastDecayMs += periods * mDecayIntervalMs;
+  }
+
+  /**
+   * @param tierAlias the tier alias
+   * @return the blocks of the tier which are not hot, coldest last
+   */
+  private List<Long> getDemotionCandidates(String tierAlias) {
+    List<Long> blocks = mBlockWorker.getStoreMetaFull().getBlockList().get(tierAlias);
+    if (blocks == null) {
+      return new ArrayList<>();
+    }
+    Map<Long, Long> counts = new HashMap<>();
+    synchronized (mAccessCounts) {
+      for (long blockId : blocks) {
+        long count = mAccessCounts.getGuaranteedCount(blockId);
+        if (count < mPromoteThreshold) {
+          counts.put(blockId, count);
+        }
+      }
+    }
+    List<Long> candidates = new ArrayList<>(counts.keySet());
+    Collections.sort(candidates, (a, b) -> Long.compare(counts.get(b), counts.get(a)));
+    return candidates;
+  }
+
+  /**
+   * Demotes the coldest blocks of a tier to the next tier until the tier has the given free space.
+   *
+   * @param tierAlias the tier alias
+   * @param bytes the number of bytes to free
+   * @param candidates the blocks which may be demoted, coldest last, demoted blocks are removed
+   * @return whether the tier has enough free space
+   */
+  private boolean reserveSpace(String tierAlias, long bytes, List<Long> candidates) {
+    BlockStoreMeta storeMeta = mBlockWorker.getStoreMeta();
+    long freeBytes = storeMeta.getCapacityBytesOnTiers().get(tierAlias)
+        - storeMeta.getUsedBytesOnTiers().get(tierAlias);
+    String nextTierAlias =
+        mStorageTierAssoc.getAlias(mStorageTierAssoc.getOrdinal(tierAlias) + 1);
+    while (freeBytes < bytes && !candidates.isEmpty()) {
+      long blockId = candidates.remove(candidates.size() - 1);
+      BlockMeta blockMeta;
+      try {
+        blockMeta = mBlockWorker.getVolatileBlockMeta(blockId);
+      } catch (BlockDoesNotExistException e) {
+        continue;
+      }
+      if (!blockMeta.getBlockLocation().tierAlias().equals(tierAlias)) {
+        continue;
+      }
+      if (moveBlock(blockId, blockMeta.getBlockSize(), nextTierAlias)) {
+        BLOCKS_DEMOTED.inc();
+        freeBytes += blockMeta.getBlockSize();
+      }
+    }
+    return freeBytes >= bytes;
+  }
+
+  /**
+   * Moves a block to a tier, after waiting for the rate limiter.
+   *
+   * @param blockId the block id
+   * @param blockSize the block size in bytes
+   * @param tierAlias the alias of the tier to move the block to
+   * @return whether the block was moved
+   */
+  private boolean moveBlock(long blockId, long blockSize, String tierAlias) {
+    if (blockSize > 0) {
+      mRateLimiter.acquire((int) Math.min(blockSize, Integer.MAX_VALUE));
+    }
+    try {
+      mBlockWorker.moveBlock(Sessions.MIGRATE_DATA_SESSION_ID, blockId, tierAlias);
+      BYTES_MOVED.inc(blockSize);
+      return true;
+    } catch (BlockDoesNotExistException | BlockAlreadyExistsException
+        | InvalidWorkerStateException | WorkerOutOfSpaceException | IOException e) {
+      LOG.warn("Failed to move block {} to tier {}: {}", blockId, tierAlias, e.getMessage());
+      return false;
+    }
+  }
+}
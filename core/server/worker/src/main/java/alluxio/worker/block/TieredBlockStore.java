@@ -31,12 +31,16 @@ import alluxio.worker.block.allocator.Allocator;
 import alluxio.worker.block.evictor.BlockTransferInfo;
 import alluxio.worker.block.evictor.EvictionPlan;
 import alluxio.worker.block.evictor.Evictor;
+import alluxio.worker.block.io.AsyncFileBlockReader;
+import alluxio.worker.block.io.AsyncFileBlockWriter;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
 import alluxio.worker.block.io.LocalFileBlockReader;
 import alluxio.worker.block.io.LocalFileBlockWriter;
 import alluxio.worker.block.meta.BlockMeta;
+import alluxio.worker.block.meta.StorageDir;
 import alluxio.worker.block.meta.StorageDirView;
+import alluxio.worker.block.meta.StorageTier;
 import alluxio.worker.block.meta.TempBlockMeta;
 
 import com.google.common.base.Preconditions;
@@ -102,6 +106,8 @@ public class TieredBlockStore implements BlockStore {
   private final BlockLockManager mLockManager;
   private final Allocator mAllocator;
   private final Evictor mEvictor;
+  /** Whether block files are read and written through the I/O queues of their dirs. */
+  private final boolean mAsyncIoEnabled;
 
   private final List<BlockStoreEventListener> mBlockStoreEventListeners = new ArrayList<>();
 
@@ -142,6 +148,7 @@ public class TieredBlockStore implements BlockStore {
     }
 
     mStorageTierAssoc = new WorkerStorageTierAssoc();
+    mAsyncIoEnabled = Configuration.getBoolean(PropertyKey.WORKER_BLOCK_IO_ASYNC_ENABLED);
   }
 
   @Override
@@ -194,6 +201,10 @@ public class TieredBlockStore implements BlockStore {
     try (LockResource r = new LockResource(mMetadataReadLock)) {
       checkTempBlockOwnedBySession(sessionId, blockId);
       TempBlockMeta tempBlockMeta = mMetaManager.getTempBlockMeta(blockId);
+      if (mAsyncIoEnabled) {
+        return new AsyncFileBlockWriter(tempBlockMeta.getPath(),
+            tempBlockMeta.getParentDir().getIoQueue());
+      }
       return new LocalFileBlockWriter(tempBlockMeta.getPath());
     }
   }
@@ -204,6 +215,9 @@ public class TieredBlockStore implements BlockStore {
     mLockManager.validateLock(sessionId, blockId, lockId);
     try (LockResource r = new LockResource(mMetadataReadLock)) {
       BlockMeta blockMeta = mMetaManager.getBlockMeta(blockId);
+      if (mAsyncIoEnabled) {
+        return new AsyncFileBlockReader(blockMeta.getPath(), blockMeta.getParentDir().getIoQueue());
+      }
       return new LocalFileBlockReader(blockMeta.getPath());
     }
   }
@@ -912,6 +926,17 @@ public class TieredBlockStore implements BlockStore {
     }
   }
 
+  @Override
+  public void close() {
+    try (LockResource r = new LockResource(mMetadataReadLock)) {
+      for (StorageTier tier : mMetaManager.getTiers()) {
+        for (StorageDir dir : tier.getStorageDirs()) {
+          dir.closeIoQueue();
+        }
+      }
+    }
+  }
+
   /**
    * A wrapper on necessary info after a move block operation.
    */
@@ -0,0 +1,197 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.underfs.options.OpenOptions;
+import alluxio.util.ThreadFactoryUtils;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Manages the UFS input streams of the UFS block readers. Instead of being closed, the stream of a
+ * block reader is kept open once the reader is done with it, keyed by the file and the position
+ * it stopped at. A later reader of the same file starting at that position, such as the reader of
+ * the next block of a sequential read, reuses the stream rather than opening a new one. Idle
+ * streams are closed after an expiration time.
+ */
+@ThreadSafe
+public final class UfsInputStreamManager implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(UfsInputStreamManager.class);
+
+  /** The idle streams, or null if streams are not cached. */
+  @Nullable
+  private final Cache<StreamKey, InputStream> mIdleStreams;
+  /** Closes the expired streams when the cache is not accessed. */
+  @Nullable
+  private final ScheduledExecutorService mCleaner;
+
+  /**
+   * Creates a new {@link UfsInputStreamManager} configured by the worker properties.
+   */
+  public UfsInputStreamManager() {
+    this(Configuration.getBoolean(PropertyKey.WORKER_UFS_INSTREAM_CACHE_ENABLED),
+        Configuration.getMs(PropertyKey.WORKER_UFS_INSTREAM_CACHE_EXPIRATION_TIME),
+        Configuration.getInt(PropertyKey.WORKER_UFS_INSTREAM_CACHE_MAX_SIZE));
+  }
+
+  /**
+   * Creates a new {@link UfsInputStreamManager}.
+   *
+   * @param enabled whether to cache the streams
+   * @param expirationTimeMs the time after which an idle stream is closed
+   * @param maxSize the maximum number of idle streams
+   */
+  public UfsInputStreamManager(boolean enabled, long expirationTimeMs, int maxSize) {
+    if (!enabled) {
+      mIdleStreams = null;
+      mCleaner = null;
+      return;
+    }
+    mIdleStreams = CacheBuilder.newBuilder()
+        .expireAfterWrite(expirationTimeMs, TimeUnit.MILLISECONDS)
+        .maximumSize(maxSize)
+        .removalListener(new RemovalListener<StreamKey, InputStream>() {
+          @Override
+          public void onRemoval(RemovalNotification<StreamKey, InputStream> notification) {
+            // Streams removed explicitly are handed to a reader, the others are discarded
+            if (notification.wasEvicted()) {
+              closeQuietly(notification.getValue());
+            }
+          }
+        })
+        .build();
+    mCleaner = Executors.newSingleThreadScheduledExecutor(
+        ThreadFactoryUtils.build("ufs-instream-cache-cleaner-%d", true));
+    mCleaner.scheduleWithFixedDelay(new Runnable() {
+      @Override
+      public void run() {
+        mIdleStreams.cleanUp();
+      }
+    }, expirationTimeMs, expirationTimeMs, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Gets a stream to read a UFS file from a position, reusing an idle stream left at this position
+   * if there is one, or opening a new stream otherwise.
+   *
+   * @param ufs the UFS of the file
+   * @param mountId the mount id of the UFS
+   * @param path the UFS path of the file
+   * @param position the position to read from in the file
+   * @param length the number of bytes expected to be read, a hint to size the reads from UFS
+   * @return the stream, to give back with {@link #release} once done
+   */
+  public InputStream acquire(UnderFileSystem ufs, long mountId, String path, long position,
+      long length) throws IOException {
+    if (mIdleStreams != null) {
+      InputStream stream = mIdleStreams.asMap().remove(new StreamKey(mountId, path, position));
+      if (stream != null) {
+        return stream;
+      }
+    }
+    return ufs.open(path, OpenOptions.defaults().setOffset(position).setLength(length));
+  }
+
+  /**
+   * Gives back a stream taken by {@link #acquire}, to be reused by a later read from its current
+   * position. The stream is closed if streams are not cached, or if another idle stream is already
+   * cached at the same position.
+   *
+   * @param mountId the mount id of the UFS
+   * @param path the UFS path of the file
+   * @param position the current position of the stream in the file
+   * @param stream the stream
+   */
+  public void release(long mountId, String path, long position, InputStream stream)
+      throws IOException {
+    if (mIdleStreams == null
+        || mIdleStreams.asMap().putIfAbsent(new StreamKey(mountId, path, position), stream)
+        != null) {
+      stream.close();
+    }
+  }
+
+  /**
+   * Closes the idle streams.
+   */
+  @Override
+  public void close() {
+    if (mIdleStreams == null) {
+      return;
+    }
+    mCleaner.shutdownNow();
+    for (InputStream stream : mIdleStreams.asMap().values()) {
+      closeQuietly(stream);
+    }
+    mIdleStreams.invalidateAll();
+  }
+
+  private static void closeQuietly(InputStream stream) {
+    try {
+      stream.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close an idle UFS input stream: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Identifies the position of a stream in a UFS file.
+   */
+  private static final class StreamKey {
+    private final long mMountId;
+    private final String mPath;
+    private final long mPosition;
+
+    StreamKey(long mountId, String path, long position) {
+      mMountId = mountId;
+      mPath = path;
+      mPosition = position;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof StreamKey)) {
+        return false;
+      }
+      StreamKey that = (StreamKey) o;
+      return mMountId == that.mMountId && mPosition == that.mPosition
+          && mPath.equals(that.mPath);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(mMountId, mPath, mPosition);
+    }
+  }
+}
@@ -25,7 +25,6 @@ import alluxio.exception.status.AlluxioStatusException;
 import alluxio.underfs.UfsManager;
 import alluxio.underfs.UfsManager.UfsInfo;
 import alluxio.underfs.UnderFileSystem;
-import alluxio.underfs.options.OpenOptions;
 import alluxio.util.network.NetworkAddressUtils;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.io.BlockWriter;
@@ -37,6 +36,7 @@ import io.netty.buffer.ByteBuf;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -72,6 +72,8 @@ public final class UnderFileSystemBlockReader implements BlockReader {
   private boolean mClosed;
   /** The manager for different ufs. */
   private final UfsManager mUfsManager;
+  /** The manager of the UFS input streams, which lets readers reuse each other's streams. */
+  private final UfsInputStreamManager mUfsInStreamManager;
 
   /**
    * The position of mUnderFileSystemInputStream (if not null) is blockStart + mInStreamPos.
@@ -87,16 +89,19 @@ public final class UnderFileSystemBlockReader implements BlockReader {
    *
    * @param blockMeta the block meta
    * @param offset the position within the block to start the read
+   * @param length the number of bytes expected to be read from the offset, used to size the first
+   *        read from UFS
    * @param localBlockStore the Local block store
    * @param ufsManager the manager of ufs
+   * @param ufsInStreamManager the manager of the UFS input streams
    * @return the block reader
    */
   public static UnderFileSystemBlockReader create(UnderFileSystemBlockMeta blockMeta, long offset,
-      BlockStore localBlockStore, UfsManager ufsManager)
-      throws IOException {
-    UnderFileSystemBlockReader ufsBlockReader =
-        new UnderFileSystemBlockReader(blockMeta, localBlockStore, ufsManager);
-    ufsBlockReader.init(offset);
+      long length, BlockStore localBlockStore, UfsManager ufsManager,
+      UfsInputStreamManager ufsInStreamManager) throws IOException {
+    UnderFileSystemBlockReader ufsBlockReader = new UnderFileSystemBlockReader(blockMeta,
+        localBlockStore, ufsManager, ufsInStreamManager);
+    ufsBlockReader.init(offset, length);
     return ufsBlockReader;
   }
 
@@ -106,26 +111,29 @@ public final class UnderFileSystemBlockReader implements BlockReader {
    * @param blockMeta the block meta
    * @param localBlockStore the Local block store
    * @param ufsManager the manager of ufs
+   * @param ufsInStreamManager the manager of the UFS input streams
    */
   private UnderFileSystemBlockReader(UnderFileSystemBlockMeta blockMeta, BlockStore localBlockStore,
-      UfsManager ufsManager) {
+      UfsManager ufsManager, UfsInputStreamManager ufsInStreamManager) {
     mInitialBlockSize = Configuration.getBytes(PropertyKey.WORKER_FILE_BUFFER_SIZE);
     mBlockMeta = blockMeta;
     mLocalBlockStore = localBlockStore;
     mInStreamPos = -1;
     mUfsManager = ufsManager;
+    mUfsInStreamManager = ufsInStreamManager;
   }
 
   /**
    * Initializes the reader. This is only called in the factory method.
    *
    * @param offset the position within the block to start the read
+   * @param length the number of bytes expected to be read from the offset
    */
-  private void init(long offset) throws IOException {
+  private void init(long offset, long length) throws IOException {
     UnderFileSystem ufs = mUfsManager.get(mBlockMeta.getMountId()).getUfs();
     ufs.connectFromWorker(
         NetworkAddressUtils.getConnectHost(NetworkAddressUtils.ServiceType.WORKER_RPC));
-    updateUnderFileSystemInputStream(offset);
+    updateUnderFileSystemInputStream(offset, length);
     updateBlockWriter(offset);
   }
 
@@ -142,7 +150,7 @@ public final class UnderFileSystemBlockReader implements BlockReader {
   @Override
   public ByteBuffer read(long offset, long length) throws IOException {
     Preconditions.checkState(!mClosed);
-    updateUnderFileSystemInputStream(offset);
+    updateUnderFileSystemInputStream(offset, length);
     updateBlockWriter(offset);
 
     long bytesToRead = Math.min(length, mBlockMeta.getBlockSize() - offset);
@@ -157,6 +165,7 @@ public final class UnderFileSystemBlockReader implements BlockReader {
       try {
         read = mUnderFileSystemInputStream.read(data, bytesRead, (int) (bytesToRead - bytesRead));
       } catch (IOException e) {
+        discardUnderFileSystemInputStream();
         throw AlluxioStatusException.fromIOException(e);
       }
       if (read == -1) {
@@ -210,7 +219,13 @@ public final class UnderFileSystemBlockReader implements BlockReader {
     }
     int bytesToRead =
         (int) Math.min(buf.writableBytes(), mBlockMeta.getBlockSize() - mInStreamPos);
-    int bytesRead = buf.writeBytes(mUnderFileSystemInputStream, bytesToRead);
+    int bytesRead;
+    try {
+      bytesRead = buf.writeBytes(mUnderFileSystemInputStream, bytesToRead);
+    } catch (IOException e) {
+      discardUnderFileSystemInputStream();
+      throw e;
+    }
     if (bytesRead <= 0) {
       return bytesRead;
     }
@@ -254,7 +269,12 @@ public final class UnderFileSystemBlockReader implements BlockReader {
         closer.register(mBlockWriter);
       }
       if (mUnderFileSystemInputStream != null) {
-        closer.register(mUnderFileSystemInputStream);
+        closer.register(new Closeable() {
+          @Override
+          public void close() throws IOException {
+            releaseUnderFileSystemInputStream();
+          }
+        });
       }
       closer.close();
     } finally {
@@ -275,27 +295,53 @@ public final class UnderFileSystemBlockReader implements BlockReader {
   }
 
   /**
-   * Updates the UFS input stream given an offset to read.
+   * Updates the UFS input stream given an offset to read. A stream at another position is given
+   * back to the {@link UfsInputStreamManager}, which may also provide a stream left at the offset.
    *
    * @param offset the read offset within the block
+   * @param length the number of bytes expected to be read from the offset
    */
-  private void updateUnderFileSystemInputStream(long offset) throws IOException {
+  private void updateUnderFileSystemInputStream(long offset, long length) throws IOException {
     if ((mUnderFileSystemInputStream != null) && offset != mInStreamPos) {
-      mUnderFileSystemInputStream.close();
-      mUnderFileSystemInputStream = null;
-      mInStreamPos = -1;
+      releaseUnderFileSystemInputStream();
     }
 
     if (mUnderFileSystemInputStream == null && offset < mBlockMeta.getBlockSize()) {
       UfsInfo ufsInfo = mUfsManager.get(mBlockMeta.getMountId());
       UnderFileSystem ufs = ufsInfo.getUfs();
       mUfsMountPointUri = ufsInfo.getUfsMountPointUri();
-      mUnderFileSystemInputStream = ufs.open(mBlockMeta.getUnderFileSystemPath(),
-          OpenOptions.defaults().setOffset(mBlockMeta.getOffset() + offset));
+      mUnderFileSystemInputStream = mUfsInStreamManager.acquire(ufs, mBlockMeta.getMountId(),
+          mBlockMeta.getUnderFileSystemPath(), mBlockMeta.getOffset() + offset,
+          Math.min(length, mBlockMeta.getBlockSize() - offset));
       mInStreamPos = offset;
     }
   }
 
+  /**
+   * Gives the UFS input stream back to the {@link UfsInputStreamManager} at its current position.
+   */
+  private void releaseUnderFileSystemInputStream() throws IOException {
+    InputStream stream = mUnderFileSystemInputStream;
+    mUnderFileSystemInputStream = null;
+    mUfsInStreamManager.release(mBlockMeta.getMountId(), mBlockMeta.getUnderFileSystemPath(),
+        mBlockMeta.getOffset() + mInStreamPos, stream);
+    mInStreamPos = -1;
+  }
+
+  /**
+   * Closes the UFS input stream after a failure, since its position is unknown.
+   */
+  private void discardUnderFileSystemInputStream() {
+    try {
+      mUnderFileSystemInputStream.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close the UFS input stream of {}: {}",
+          mBlockMeta.getUnderFileSystemPath(), e.getMessage());
+    }
+    mUnderFileSystemInputStream = null;
+    mInStreamPos = -1;
+  }
+
   /**
    * Closes the current block writer, cleans up its temp block and sets it to null.
    */
@@ -74,6 +74,9 @@ public final class UnderFileSystemBlockStore implements SessionCleanable {
   /** The manager for all ufs. */
   private final UfsManager mUfsManager;
 
+  /** The manager of the UFS input streams of the block readers. */
+  private final UfsInputStreamManager mUfsInStreamManager = new UfsInputStreamManager();
+
   /**
    * Creates an instance of {@link UnderFileSystemBlockStore}.
    *
@@ -176,6 +179,13 @@ public final class UnderFileSystemBlockStore implements SessionCleanable {
     }
   }
 
+  /**
+   * Closes the UFS input streams kept open for reuse by the block readers.
+   */
+  public void close() {
+    mUfsInStreamManager.close();
+  }
+
   /**
    * Cleans up all the block information(e.g. block reader/writer) that belongs to this session.
    *
@@ -210,12 +220,13 @@ public final class UnderFileSystemBlockStore implements SessionCleanable {
    * @param sessionId the client session ID that requested this read
    * @param blockId the ID of the block to read
    * @param offset the read offset within the block (NOT the file)
+   * @param length the number of bytes expected to be read from the offset
    * @return the block reader instance
    * @throws BlockDoesNotExistException if the UFS block does not exist in the
    * {@link UnderFileSystemBlockStore}
    */
-  public BlockReader getBlockReader(final long sessionId, long blockId, long offset)
-      throws BlockDoesNotExistException, IOException {
+  public BlockReader getBlockReader(final long sessionId, long blockId, long offset,
+      long length) throws BlockDoesNotExistException, IOException {
     final BlockInfo blockInfo;
     try (LockResource lr = new LockResource(mLock)) {
       blockInfo = getBlockInfo(sessionId, blockId);
@@ -225,8 +236,8 @@ public final class UnderFileSystemBlockStore implements SessionCleanable {
       }
     }
     BlockReader reader =
-        UnderFileSystemBlockReader.create(blockInfo.getMeta(), offset, mLocalBlockStore,
-            mUfsManager);
+        UnderFileSystemBlockReader.create(blockInfo.getMeta(), offset, length, mLocalBlockStore,
+            mUfsManager, mUfsInStreamManager);
     blockInfo.setBlockReader(reader);
     return reader;
   }
@@ -11,6 +11,8 @@
 
 package alluxio.worker.block.meta;
 
+import alluxio.Configuration;
+import alluxio.PropertyKey;
 import alluxio.exception.BlockAlreadyExistsException;
 import alluxio.exception.BlockDoesNotExistException;
 import alluxio.exception.ExceptionMessage;
@@ -18,6 +20,7 @@ import alluxio.exception.InvalidWorkerStateException;
 import alluxio.exception.WorkerOutOfSpaceException;
 import alluxio.util.io.FileUtils;
 import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.io.BlockIoQueue;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
@@ -56,6 +59,8 @@ public final class StorageDir {
   private String mDirPath;
   private int mDirIndex;
   private StorageTier mTier;
+  /** The queue serving asynchronous block I/O in this dir, created on first use. */
+  private volatile BlockIoQueue mIoQueue;
 
   private StorageDir(StorageTier tier, int dirIndex, long capacityBytes, String dirPath) {
     mTier = Preconditions.checkNotNull(tier, "tier");
@@ -188,6 +193,40 @@ public final class StorageDir {
     return mTier;
   }
 
+  /**
+   * Returns the queue serving asynchronous block I/O in this dir. Its depth is configured per
+   * tier, so that slow devices can be given fewer in-flight operations than fast ones.
+   *
+   * @return the {@link BlockIoQueue} of this dir
+   */
+  public BlockIoQueue getIoQueue() {
+    if (mIoQueue == null) {
+      synchronized (this) {
+        if (mIoQueue == null) {
+          PropertyKey.Template depthTemplate =
+              PropertyKey.Template.WORKER_TIERED_STORE_LEVEL_DIRS_IO_QUEUE_DEPTH;
+          PropertyKey depthConf = depthTemplate.format(mTier.getTierOrdinal());
+          int depth = Configuration.containsKey(depthConf) ? Configuration.getInt(depthConf)
+              : Integer.parseInt(depthTemplate.getDefaultValue());
+          mIoQueue = new BlockIoQueue(mTier.getTierAlias().toLowerCase() + "-" + mDirIndex,
+              Configuration.getInt(PropertyKey.WORKER_BLOCK_IO_ASYNC_THREADS), depth);
+        }
+      }
+    }
+    return mIoQueue;
+  }
+
+  /**
+   * Closes the asynchronous I/O queue of this dir, if one was created. A later call to
+   * {@link #getIoQueue()} creates a new queue.
+   */
+  public synchronized void closeIoQueue() {
+    if (mIoQueue != null) {
+      mIoQueue.close();
+      mIoQueue = null;
+    }
+  }
+
   /**
    * Returns the zero-based index of this dir in its parent {@link StorageTier}.
    *
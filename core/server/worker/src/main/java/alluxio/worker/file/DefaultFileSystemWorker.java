@@ -43,7 +43,8 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
- * This class is responsible for persisting files when requested by the master and a defunct
+ * This class is responsible for persisting files and loading blocks from the under storage when
+ * requested by the master, and for a defunct
  * {@link FileSystemWorkerClientServiceHandler} which always returns UnsupportedOperation Exception.
  */
 @NotThreadSafe // TODO(jiri): make thread-safe (c.f. ALLUXIO-1624)
@@ -53,6 +54,8 @@ public final class DefaultFileSystemWorker extends AbstractWorker implements Fil
 
   /** Logic for managing file persistence. */
   private final FileDataManager mFileDataManager;
+  /** Logic for loading blocks from the under storage. */
+  private final UfsBlockLoader mUfsBlockLoader;
   /** Client for file system master communication. */
   private final FileSystemMasterClient mFileSystemMasterWorkerClient;
   /** Logic for handling RPC requests. */
@@ -79,6 +82,10 @@ public final class DefaultFileSystemWorker extends AbstractWorker implements Fil
     mFileDataManager = new FileDataManager(Preconditions.checkNotNull(blockWorker, "blockWorker"),
         RateLimiter.create(Configuration.getBytes(PropertyKey.WORKER_FILE_PERSIST_RATE_LIMIT)),
         mUfsManager);
+    mUfsBlockLoader = new UfsBlockLoader(blockWorker,
+        Executors.newFixedThreadPool(Configuration.getInt(PropertyKey.WORKER_FILE_LOAD_POOL_SIZE),
+            ThreadFactoryUtils.build("load-block-service-%d", true)),
+        RateLimiter.create(Configuration.getBytes(PropertyKey.WORKER_FILE_LOAD_RATE_LIMIT)));
 
     // Setup AbstractMasterClient
     mFileSystemMasterWorkerClient = new FileSystemMasterClient(MasterClientConfig.defaults());
@@ -108,8 +115,8 @@ public final class DefaultFileSystemWorker extends AbstractWorker implements Fil
   public void start(WorkerNetAddress address) {
     mFilePersistenceService = getExecutorService().submit(
         new HeartbeatThread(HeartbeatContext.WORKER_FILESYSTEM_MASTER_SYNC,
-            new FileWorkerMasterSyncExecutor(mFileDataManager, mFileSystemMasterWorkerClient,
-                mWorkerId),
+            new FileWorkerMasterSyncExecutor(mFileDataManager, mUfsBlockLoader,
+                mFileSystemMasterWorkerClient, mWorkerId),
             (int) Configuration.getMs(PropertyKey.WORKER_FILESYSTEM_HEARTBEAT_INTERVAL_MS)));
   }
 
@@ -38,7 +38,7 @@ import javax.annotation.concurrent.NotThreadSafe;
  * {@link FileSystemMasterClient}.
  *
  * When running, this class pulls from the master to check which file to persist for async
- * persistence.
+ * persistence, and which blocks to load from the under storage for distributed loads.
  *
  * If the task fails to heartbeat to the master, it will destroy its old master client and recreate
  * it before retrying.
@@ -55,6 +55,8 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
   private final FileSystemMasterClient mMasterClient;
   /** The thread pool to persist file. */
   private final ExecutorService mPersistFileService;
+  /** Logic for loading blocks from the under storage. */
+  private final UfsBlockLoader mUfsBlockLoader;
   /** This worker's id. May be updated by other threads if worker re-registration occurs. */
   private final AtomicReference<Long> mWorkerId;
 
@@ -62,12 +64,15 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
    * Creates a new instance of {@link FileWorkerMasterSyncExecutor}.
    *
    * @param fileDataManager a {@link FileDataManager} handle
+   * @param ufsBlockLoader a {@link UfsBlockLoader} handle
    * @param masterClient a {@link FileSystemMasterClient}
    * @param workerId a reference to the id for this worker
    */
   public FileWorkerMasterSyncExecutor(FileDataManager fileDataManager,
-      FileSystemMasterClient masterClient, AtomicReference<Long> workerId) {
+      UfsBlockLoader ufsBlockLoader, FileSystemMasterClient masterClient,
+      AtomicReference<Long> workerId) {
     mFileDataManager = Preconditions.checkNotNull(fileDataManager, "fileDataManager");
+    mUfsBlockLoader = Preconditions.checkNotNull(ufsBlockLoader, "ufsBlockLoader");
     mMasterClient = Preconditions.checkNotNull(masterClient, "masterClient");
     mWorkerId = Preconditions.checkNotNull(workerId, "workerId");
     mPersistFileService = Executors.newFixedThreadPool(
@@ -82,10 +87,15 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
       LOG.info("files {} persisted", persistedFiles.idList());
     }
 
+    List<Long> loadedBlocks = mUfsBlockLoader.getLoadedBlocks();
+    List<Long> loadFailedBlocks = mUfsBlockLoader.getFailedBlocks();
+
     FileSystemCommand command;
     try {
       FileSystemHeartbeatTOptions options = new FileSystemHeartbeatTOptions();
       options.setPersistedFileFingerprints(persistedFiles.ufsFingerprintList());
+      options.setLoadedBlocks(loadedBlocks);
+      options.setLoadFailedBlocks(loadFailedBlocks);
       command = mMasterClient.heartbeat(mWorkerId.get(), persistedFiles.idList(), options);
     } catch (Exception e) {
       LOG.error("Failed to heartbeat to master", e);
@@ -94,12 +104,17 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
 
     // removes the persisted files that are confirmed
     mFileDataManager.clearPersistedFiles(persistedFiles.idList());
+    // removes the loaded blocks that are reported
+    mUfsBlockLoader.clearReportedBlocks(loadedBlocks, loadFailedBlocks);
 
     if (command == null) {
       LOG.error("The command sent from master is null");
       return;
+    } else if (command.getCommandType() == CommandType.Load) {
+      mUfsBlockLoader.submit(command.getCommandOptions().getLoadOptions().getLoadBlocks());
+      return;
     } else if (command.getCommandType() != CommandType.Persist) {
-      LOG.error("The command sent from master should be PERSIST type, but was {}",
+      LOG.error("The command sent from master should be PERSIST or LOAD type, but was {}",
           command.getCommandType());
       return;
     }
@@ -115,6 +130,7 @@ final class FileWorkerMasterSyncExecutor implements HeartbeatExecutor {
   @Override
   public void close() {
     mPersistFileService.shutdown();
+    mUfsBlockLoader.close();
   }
 
   /**
@@ -0,0 +1,167 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.file;
+
+import alluxio.Constants;
+import alluxio.proto.dataserver.Protocol;
+import alluxio.thrift.LoadBlock;
+import alluxio.util.IdUtils;
+import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.io.BlockReader;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Loads blocks from the under storage into the local block store on behalf of a distributed load
+ * coordinated by the file system master. The blocks are read with the same
+ * {@link alluxio.worker.block.UnderFileSystemBlockReader} used to serve clients, which caches the
+ * data while reading it, and the outcome of each block is reported back to the master in the next
+ * heartbeat.
+ */
+@ThreadSafe
+final class UfsBlockLoader {
+  private static final Logger LOG = LoggerFactory.getLogger(UfsBlockLoader.class);
+
+  /** The number of bytes read from the under storage at a time. */
+  private static final long CHUNK_SIZE = 4 * Constants.MB;
+
+  private final BlockWorker mBlockWorker;
+  private final ExecutorService mExecutorService;
+  private final RateLimiter mRateLimiter;
+
+  /** The blocks which were loaded, but not yet reported to the master. */
+  @GuardedBy("this")
+  private final Set<Long> mLoadedBlocks = new HashSet<>();
+  /** The blocks which failed to load, but not yet reported to the master. */
+  @GuardedBy("this")
+  private final Set<Long> mFailedBlocks = new HashSet<>();
+
+  /**
+   * Creates a new instance of {@link UfsBlockLoader}.
+   *
+   * @param blockWorker the block worker
+   * @param executorService the thread pool to load blocks with
+   * @param rateLimiter the rate limiter on the bytes read from the under storage
+   */
+  UfsBlockLoader(BlockWorker blockWorker, ExecutorService executorService,
+      RateLimiter rateLimiter) {
+    mBlockWorker = Preconditions.checkNotNull(blockWorker, "blockWorker");
+    mExecutorService = Preconditions.checkNotNull(executorService, "executorService");
+    mRateLimiter = Preconditions.checkNotNull(rateLimiter, "rateLimiter");
+  }
+
+  /**
+   * Schedules blocks to be loaded asynchronously.
+   *
+   * @param blocks the blocks to load
+   */
+  void submit(List<LoadBlock> blocks) {
+    for (final LoadBlock block : blocks) {
+      mExecutorService.execute(new Runnable() {
+        @Override
+        public void run() {
+          boolean loaded = load(block);
+          synchronized (UfsBlockLoader.this) {
+            (loaded ? mLoadedBlocks : mFailedBlocks).add(block.getBlockId());
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * @return the ids of the loaded blocks which are not yet reported
+   */
+  synchronized List<Long> getLoadedBlocks() {
+    return new ArrayList<>(mLoadedBlocks);
+  }
+
+  /**
+   * @return the ids of the blocks which failed to load and are not yet reported
+   */
+  synchronized List<Long> getFailedBlocks() {
+    return new ArrayList<>(mFailedBlocks);
+  }
+
+  /**
+   * Forgets the blocks which have been reported to the master.
+   *
+   * @param loadedBlocks the ids of the reported loaded blocks
+   * @param failedBlocks the ids of the reported failed blocks
+   */
+  synchronized void clearReportedBlocks(List<Long> loadedBlocks, List<Long> failedBlocks) {
+    mLoadedBlocks.removeAll(loadedBlocks);
+    mFailedBlocks.removeAll(failedBlocks);
+  }
+
+  /**
+   * Stops loading blocks.
+   */
+  void close() {
+    mExecutorService.shutdownNow();
+  }
+
+  /**
+   * Reads a block from the under storage to cache it locally.
+   *
+   * @param block the block to load
+   * @return whether the block is stored on this worker after the load
+   */
+  private boolean load(LoadBlock block) {
+    long blockId = block.getBlockId();
+    if (mBlockWorker.hasBlockMeta(blockId)) {
+      return true;
+    }
+    long sessionId = IdUtils.createSessionId();
+    Protocol.OpenUfsBlockOptions options = Protocol.OpenUfsBlockOptions.newBuilder()
+        .setUfsPath(block.getUfsPath()).setOffsetInFile(block.getOffsetInFile())
+        .setBlockSize(block.getBlockSize()).setMountId(block.getMountId())
+        .setMaxUfsReadConcurrency(Integer.MAX_VALUE).setNoCache(false).build();
+    try {
+      if (!mBlockWorker.openUfsBlock(sessionId, blockId, options)) {
+        LOG.warn("Failed to access block {} in the under storage", blockId);
+        return false;
+      }
+      try {
+        BlockReader reader =
+            mBlockWorker.readUfsBlock(sessionId, blockId, 0, block.getBlockSize());
+        for (long offset = 0; offset < block.getBlockSize(); offset += CHUNK_SIZE) {
+          long length = Math.min(CHUNK_SIZE, block.getBlockSize() - offset);
+          mRateLimiter.acquire((int) length);
+          reader.read(offset, length);
+        }
+      } finally {
+        // Commits the block if it was cached completely.
+        mBlockWorker.closeUfsBlock(sessionId, blockId);
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to load block {} from {}: {}", blockId, block.getUfsPath(),
+          e.getMessage());
+      return false;
+    } finally {
+      mBlockWorker.cleanupSession(sessionId);
+    }
+    return mBlockWorker.hasBlockMeta(blockId);
+  }
+}
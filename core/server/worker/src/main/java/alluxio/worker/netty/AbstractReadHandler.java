@@ -16,6 +16,7 @@ import alluxio.PropertyKey;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.InternalException;
 import alluxio.exception.status.InvalidArgumentException;
+import alluxio.metrics.MetricsSystem;
 import alluxio.network.protocol.RPCMessage;
 import alluxio.network.protocol.RPCProtoMessage;
 import alluxio.network.protocol.databuffer.DataBuffer;
@@ -23,6 +24,7 @@ import alluxio.proto.dataserver.Protocol;
 import alluxio.resource.LockResource;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -34,6 +36,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.concurrent.GuardedBy;
@@ -69,6 +72,16 @@ abstract class AbstractReadHandler<T extends ReadRequestContext<?>>
   private static final long MAX_PACKETS_IN_FLIGHT =
       Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_READER_BUFFER_SIZE_PACKETS);
 
+  /** Latency of reading a packet from the block store or the UFS. */
+  private static final Timer READ_PACKET_TIMER =
+      MetricsSystem.workerHistogramTimer("ReadPacketLatency");
+  /** Latency between queuing a packet on the channel and the packet being flushed. */
+  private static final Timer SEND_PACKET_TIMER =
+      MetricsSystem.workerHistogramTimer("SendPacketLatency");
+  /** Latency of completing a read request. */
+  private static final Timer COMPLETE_READ_TIMER =
+      MetricsSystem.workerHistogramTimer("CompleteReadRequestLatency");
+
   /** The executor to run {@link PacketReader}. */
   private final ExecutorService mPacketReaderExecutor;
 
@@ -259,6 +272,7 @@ abstract class AbstractReadHandler<T extends ReadRequestContext<?>>
    */
   private final class WriteListener implements ChannelFutureListener {
     private final long mPosToWriteUncommitted;
+    private final long mStartTimeNs;
 
     /**
      * Creates an instance of the {@link WriteListener}.
@@ -267,10 +281,12 @@ abstract class AbstractReadHandler<T extends ReadRequestContext<?>>
      */
     WriteListener(long posToWriteUncommitted) {
       mPosToWriteUncommitted = posToWriteUncommitted;
+      mStartTimeNs = System.nanoTime();
     }
 
     @Override
     public void operationComplete(ChannelFuture future) {
+      SEND_PACKET_TIMER.update(System.nanoTime() - mStartTimeNs, TimeUnit.NANOSECONDS);
       if (!future.isSuccess()) {
         LOG.error("Failed to send packet.", future.cause());
         setError(future.channel(),
@@ -358,7 +374,7 @@ abstract class AbstractReadHandler<T extends ReadRequestContext<?>>
         }
 
         DataBuffer packet;
-        try {
+        try (Timer.Context ctx = READ_PACKET_TIMER.time()) {
           packet = getDataBuffer(mContext, mChannel, start, packetSize);
         } catch (Exception e) {
           LOG.error("Failed to read data.", e);
@@ -387,7 +403,9 @@ abstract class AbstractReadHandler<T extends ReadRequestContext<?>>
         try {
           // mRequest is null if an exception is thrown when initializing mRequest.
           if (mRequest != null) {
-            completeRequest(mContext);
+            try (Timer.Context ctx = COMPLETE_READ_TIMER.time()) {
+              completeRequest(mContext);
+            }
           }
         } catch (Exception e) {
           LOG.error("Failed to close the request.", e);
@@ -396,7 +414,7 @@ abstract class AbstractReadHandler<T extends ReadRequestContext<?>>
           replyError(error.getCause());
         }
       } else if (eof || cancel) {
-        try {
+        try (Timer.Context ctx = COMPLETE_READ_TIMER.time()) {
           completeRequest(mContext);
         } catch (IOException e) {
           setError(mChannel, new Error(AlluxioStatusException.fromIOException(e), true));
@@ -16,6 +16,7 @@ import alluxio.PropertyKey;
 import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.InternalException;
 import alluxio.exception.status.InvalidArgumentException;
+import alluxio.metrics.MetricsSystem;
 import alluxio.network.protocol.RPCMessage;
 import alluxio.network.protocol.RPCProtoMessage;
 import alluxio.network.protocol.databuffer.DataBuffer;
@@ -24,6 +25,7 @@ import alluxio.resource.LockResource;
 import alluxio.util.network.NettyUtils;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import io.netty.buffer.ByteBuf;
@@ -75,6 +77,13 @@ abstract class AbstractWriteHandler<T extends WriteRequestContext<?>>
   private static final int MAX_PACKETS_IN_FLIGHT =
       Configuration.getInt(PropertyKey.WORKER_NETWORK_NETTY_WRITER_BUFFER_SIZE_PACKETS);
 
+  /** Latency of writing a packet to the block store or the UFS. */
+  private static final Timer WRITE_PACKET_TIMER =
+      MetricsSystem.workerHistogramTimer("WritePacketLatency");
+  /** Latency of completing a write request. */
+  private static final Timer COMPLETE_WRITE_TIMER =
+      MetricsSystem.workerHistogramTimer("CompleteWriteRequestLatency");
+
   /** The executor service to run the {@link PacketWriter}s. */
   private final ExecutorService mPacketWriterExecutor;
 
@@ -281,7 +290,7 @@ abstract class AbstractWriteHandler<T extends WriteRequestContext<?>>
           }
         }
 
-        try {
+        try (Timer.Context ctx = WRITE_PACKET_TIMER.time()) {
           int readableBytes = buf.readableBytes();
           mContext.setPosToWrite(mContext.getPosToWrite() + readableBytes);
           writeBuf(mContext, mChannel, buf, mContext.getPosToWrite());
@@ -309,7 +318,9 @@ abstract class AbstractWriteHandler<T extends WriteRequestContext<?>>
             cancelRequest(mContext);
             replyCancel();
           } else {
-            completeRequest(mContext, mChannel);
+            try (Timer.Context ctx = COMPLETE_WRITE_TIMER.time()) {
+              completeRequest(mContext, mChannel);
+            }
             replySuccess();
           }
         } catch (Exception e) {
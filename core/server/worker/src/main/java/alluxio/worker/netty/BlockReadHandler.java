@@ -42,7 +42,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
-import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
 import java.util.concurrent.ExecutorService;
 
 import javax.annotation.concurrent.NotThreadSafe;
@@ -159,7 +159,7 @@ public final class BlockReadHandler extends AbstractReadHandler<BlockReadRequest
             context.setBlockReader(reader);
             context.setCounter(MetricsSystem.workerCounter(metricName));
             mWorker.accessBlock(request.getSessionId(), request.getId());
-            ((FileChannel) reader.getChannel()).position(request.getStart());
+            ((SeekableByteChannel) reader.getChannel()).position(request.getStart());
             return;
           } catch (Exception e) {
             mWorker.unlockBlock(lockId);
@@ -171,8 +171,8 @@ public final class BlockReadHandler extends AbstractReadHandler<BlockReadRequest
         Protocol.OpenUfsBlockOptions openUfsBlockOptions = request.getOpenUfsBlockOptions();
         if (mWorker.openUfsBlock(request.getSessionId(), request.getId(), openUfsBlockOptions)) {
           try {
-            BlockReader reader =
-                mWorker.readUfsBlock(request.getSessionId(), request.getId(), request.getStart());
+            BlockReader reader = mWorker.readUfsBlock(request.getSessionId(), request.getId(),
+                request.getStart(), request.getEnd() - request.getStart());
             AlluxioURI ufsMountPointUri =
                 ((UnderFileSystemBlockReader) reader).getUfsMountPointUri();
             String ufsString = MetricsSystem.escape(ufsMountPointUri);
@@ -15,9 +15,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
+
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.Closeable;
 import java.util.List;
 import java.util.Map;
 
@@ -89,6 +93,66 @@ public final class BlockHeartbeatReporterTest {
     assertEquals(block3, addedBlocksHdd.get(0));
   }
 
+  /**
+   * Tests the {@link BlockHeartbeatReporter#generateReport()} method to correctly count the reads
+   * of each block, and to reset the counts after a report.
+   */
+  @Test
+  public void generateReportAccess() {
+    Long block1 = 1L;
+    Long block2 = 2L;
+    mReporter.onAccessBlock(SESSION_ID, block1);
+    mReporter.onAccessBlock(SESSION_ID, block1);
+    mReporter.onAccessBlock(SESSION_ID, block2);
+    Map<Long, Integer> accessCounts = mReporter.generateReport().getBlockAccessCounts();
+    assertEquals(2, accessCounts.size());
+    assertEquals(2, (int) accessCounts.get(block1));
+    assertEquals(1, (int) accessCounts.get(block2));
+
+    assertTrue(mReporter.generateReport().getBlockAccessCounts().isEmpty());
+  }
+
+  /**
+   * Tests the {@link BlockHeartbeatReporter#generateReport()} method only reports the most read
+   * blocks when more blocks are read than tracked.
+   */
+  @Test
+  public void generateReportAccessBounded() throws Exception {
+    try (Closeable r = new ConfigurationRule(PropertyKey.WORKER_BLOCK_ACCESS_TRACKING_CAPACITY,
+        "3").toResource()) {
+      BlockHeartbeatReporter reporter = new BlockHeartbeatReporter();
+      for (int i = 0; i < 100; i++) {
+        reporter.onAccessBlock(SESSION_ID, 1L);
+      }
+      for (long blockId = 100; blockId < 110; blockId++) {
+        reporter.onAccessBlock(SESSION_ID, blockId);
+      }
+      Map<Long, Integer> accessCounts = reporter.generateReport().getBlockAccessCounts();
+      assertEquals(3, accessCounts.size());
+      assertEquals(100, (int) accessCounts.get(1L));
+    }
+  }
+
+  /**
+   * Tests the {@link BlockHeartbeatReporter#generateReport()} method does not inflate the counts
+   * of blocks read once by a scan over more blocks than tracked.
+   */
+  @Test
+  public void generateReportAccessScan() throws Exception {
+    try (Closeable r = new ConfigurationRule(PropertyKey.WORKER_BLOCK_ACCESS_TRACKING_CAPACITY,
+        "10").toResource()) {
+      BlockHeartbeatReporter reporter = new BlockHeartbeatReporter();
+      for (long blockId = 100; blockId < 1100; blockId++) {
+        reporter.onAccessBlock(SESSION_ID, blockId);
+      }
+      Map<Long, Integer> accessCounts = reporter.generateReport().getBlockAccessCounts();
+      assertEquals(10, accessCounts.size());
+      for (int count : accessCounts.values()) {
+        assertEquals(1, count);
+      }
+    }
+  }
+
   /**
    * Tests the {@link BlockHeartbeatReporter#generateReport()} method that generating a report
    * clears the state of the reporter.
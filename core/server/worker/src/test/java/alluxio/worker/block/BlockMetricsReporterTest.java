@@ -0,0 +1,117 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import static org.junit.Assert.assertEquals;
+
+import alluxio.ConfigurationTestUtils;
+import alluxio.metrics.MetricsSystem;
+import alluxio.util.io.BufferUtils;
+import alluxio.worker.block.io.BlockWriter;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link BlockMetricsReporter}.
+ */
+public final class BlockMetricsReporterTest {
+  private static final long SESSION_ID = 1;
+  private static final long BLOCK_SIZE = 50;
+  private static final long MEM_BLOCK_ID = 1;
+  private static final long HDD_BLOCK_ID = 2;
+
+  private TieredBlockStore mBlockStore;
+
+  /** Rule to create a new temporary folder during each test. */
+  @Rule
+  public TemporaryFolder mTempFolder = new TemporaryFolder();
+
+  /**
+   * Sets up a block store with one block in the MEM tier and one in the HDD tier.
+   */
+  @Before
+  public void before() throws Exception {
+    TieredBlockStoreTestUtils.setupConfWithMultiTier(mTempFolder.getRoot().getAbsolutePath(),
+        new int[] {0, 1}, new String[] {"MEM", "HDD"},
+        new String[][] {new String[] {"/mem"}, new String[] {"/hdd"}},
+        new long[][] {new long[] {2 * BLOCK_SIZE}, new long[] {2 * BLOCK_SIZE}}, null);
+    mBlockStore = new TieredBlockStore();
+    cache(MEM_BLOCK_ID, "MEM");
+    cache(HDD_BLOCK_ID, "HDD");
+    mBlockStore.registerBlockStoreEventListener(new BlockMetricsReporter(mBlockStore));
+  }
+
+  @After
+  public void after() {
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  /**
+   * Tests that block accesses are counted for the tier holding the block.
+   */
+  @Test
+  public void countAccessesPerTier() throws Exception {
+    Counter memAccesses = MetricsSystem.workerCounter("BlocksAccessedMEM");
+    Counter hddAccesses = MetricsSystem.workerCounter("BlocksAccessedHDD");
+    long memBefore = memAccesses.getCount();
+    long hddBefore = hddAccesses.getCount();
+
+    mBlockStore.accessBlock(SESSION_ID, MEM_BLOCK_ID);
+    mBlockStore.accessBlock(SESSION_ID, MEM_BLOCK_ID);
+    mBlockStore.accessBlock(SESSION_ID, HDD_BLOCK_ID);
+    assertEquals(2, memAccesses.getCount() - memBefore);
+    assertEquals(1, hddAccesses.getCount() - hddBefore);
+
+    // Accesses after a move are counted for the new tier.
+    mBlockStore.moveBlock(SESSION_ID, HDD_BLOCK_ID, BlockStoreLocation.anyDirInTier("MEM"));
+    mBlockStore.accessBlock(SESSION_ID, HDD_BLOCK_ID);
+    assertEquals(3, memAccesses.getCount() - memBefore);
+    assertEquals(1, hddAccesses.getCount() - hddBefore);
+  }
+
+  /**
+   * Tests that the hit ratio of a tier is the fraction of the accesses served by the tier.
+   */
+  @Test
+  public void tierHitRatio() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      mBlockStore.accessBlock(SESSION_ID, MEM_BLOCK_ID);
+    }
+    mBlockStore.accessBlock(SESSION_ID, HDD_BLOCK_ID);
+    double memRatio = getHitRatio("MEM");
+    double hddRatio = getHitRatio("HDD");
+    assertEquals(1.0, memRatio + hddRatio, 1e-9);
+    assertEquals((double) MetricsSystem.workerCounter("BlocksAccessedMEM").getCount()
+        / MetricsSystem.workerCounter("BlocksAccessed").getCount(), memRatio, 1e-9);
+  }
+
+  private static double getHitRatio(String tierAlias) {
+    Gauge<?> gauge = MetricsSystem.METRIC_REGISTRY.getGauges()
+        .get(MetricsSystem.getWorkerMetricName("TierHitRatio" + tierAlias));
+    return (Double) gauge.getValue();
+  }
+
+  private void cache(long blockId, String tierAlias) throws Exception {
+    mBlockStore.createBlock(SESSION_ID, blockId, BlockStoreLocation.anyDirInTier(tierAlias),
+        BLOCK_SIZE);
+    try (BlockWriter writer = mBlockStore.getBlockWriter(SESSION_ID, blockId)) {
+      writer.append(BufferUtils.getIncreasingByteBuffer((int) BLOCK_SIZE));
+    }
+    mBlockStore.commitBlock(SESSION_ID, blockId);
+  }
+}
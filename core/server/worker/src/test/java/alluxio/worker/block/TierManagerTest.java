@@ -0,0 +1,202 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import static org.junit.Assert.assertEquals;
+
+import alluxio.Configuration;
+import alluxio.ConfigurationTestUtils;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.clock.ManualClock;
+import alluxio.util.io.BufferUtils;
+import alluxio.worker.block.io.BlockWriter;
+
+import com.google.common.util.concurrent.RateLimiter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Unit tests for {@link TierManager}.
+ */
+public final class TierManagerTest {
+  private static final long SESSION_ID = 1;
+  private static final long BLOCK_SIZE = 50;
+  private static final long HOT_BLOCK_ID = 3;
+
+  private TieredBlockStore mBlockStore;
+  private BlockWorker mBlockWorker;
+  private ManualClock mClock;
+  private TierManager mTierManager;
+
+  /** Rule to create a new temporary folder during each test. */
+  @Rule
+  public TemporaryFolder mTempFolder = new TemporaryFolder();
+
+  /**
+   * Sets up a worker with a full MEM tier holding blocks 1 and 2, and block 3 in the HDD tier.
+   */
+  @Before
+  public void before() throws Exception {
+    TieredBlockStoreTestUtils.setupConfWithMultiTier(mTempFolder.getRoot().getAbsolutePath(),
+        new int[] {0, 1}, new String[] {"MEM", "HDD"},
+        new String[][] {new String[] {"/mem"}, new String[] {"/hdd"}},
+        new long[][] {new long[] {2 * BLOCK_SIZE}, new long[] {10 * BLOCK_SIZE}}, null);
+    mBlockStore = new TieredBlockStore();
+    cache(1, "MEM");
+    cache(2, "MEM");
+    cache(HOT_BLOCK_ID, "HDD");
+
+    // The block worker is backed by the block store.
+    BlockWorker blockWorker = Mockito.mock(BlockWorker.class);
+    mBlockWorker = blockWorker;
+    Mockito.when(blockWorker.getVolatileBlockMeta(Matchers.anyLong()))
+        .thenAnswer(new Answer<Object>() {
+          @Override
+          public Object answer(InvocationOnMock invocation) throws Throwable {
+            return mBlockStore.getVolatileBlockMeta((long) invocation.getArguments()[0]);
+          }
+        });
+    Mockito.when(blockWorker.getStoreMeta()).thenAnswer(new Answer<Object>() {
+      @Override
+      public Object answer(InvocationOnMock invocation) {
+        return mBlockStore.getBlockStoreMeta();
+      }
+    });
+    Mockito.when(blockWorker.getStoreMetaFull()).thenAnswer(new Answer<Object>() {
+      @Override
+      public Object answer(InvocationOnMock invocation) {
+        return mBlockStore.getBlockStoreMetaFull();
+      }
+    });
+    Mockito.doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        mBlockStore.moveBlock((long) args[0], (long) args[1],
+            BlockStoreLocation.anyDirInTier((String) args[2]));
+        return null;
+      }
+    }).when(blockWorker).moveBlock(Matchers.anyLong(), Matchers.anyLong(), Matchers.anyString());
+
+    mClock = new ManualClock();
+    mTierManager =
+        new TierManager(blockWorker, RateLimiter.create(Constants.GB), mClock);
+    mBlockStore.registerBlockStoreEventListener(mTierManager);
+  }
+
+  @After
+  public void after() {
+    ConfigurationTestUtils.resetConfiguration();
+  }
+
+  /**
+   * Tests that a hot block is promoted in place of the coldest block of the top tier.
+   */
+  @Test
+  public void promoteHotBlock() throws Exception {
+    accessBlock(HOT_BLOCK_ID, 3);
+    accessBlock(1, 1);
+    mTierManager.heartbeat();
+    assertEquals("MEM", getTierAlias(HOT_BLOCK_ID));
+    assertEquals("MEM", getTierAlias(1));
+    assertEquals("HDD", getTierAlias(2));
+  }
+
+  /**
+   * Tests that blocks which are not read often enough are not promoted.
+   */
+  @Test
+  public void noPromotionBelowThreshold() throws Exception {
+    accessBlock(HOT_BLOCK_ID, 2);
+    mTierManager.heartbeat();
+    assertEquals("HDD", getTierAlias(HOT_BLOCK_ID));
+    assertEquals("MEM", getTierAlias(1));
+    assertEquals("MEM", getTierAlias(2));
+  }
+
+  /**
+   * Tests that old reads weigh less than recent ones.
+   */
+  @Test
+  public void decayedReadsNotPromoted() throws Exception {
+    accessBlock(HOT_BLOCK_ID, 4);
+    mClock.addTimeMs(5 * Constants.MINUTE_MS);
+    mTierManager.heartbeat();
+    assertEquals("HDD", getTierAlias(HOT_BLOCK_ID));
+  }
+
+  /**
+   * Tests that hot blocks of the top tier are not demoted to make room for other hot blocks.
+   */
+  @Test
+  public void hotBlocksNotDemoted() throws Exception {
+    accessBlock(1, 5);
+    accessBlock(2, 5);
+    accessBlock(HOT_BLOCK_ID, 4);
+    mTierManager.heartbeat();
+    assertEquals("HDD", getTierAlias(HOT_BLOCK_ID));
+    assertEquals("MEM", getTierAlias(1));
+    assertEquals("MEM", getTierAlias(2));
+  }
+
+  /**
+   * Tests that blocks read once by a scan over more blocks than tracked are not promoted, although
+   * their estimated counts reach the threshold.
+   */
+  @Test
+  public void scannedBlocksNotPromoted() throws Exception {
+    Configuration.set(PropertyKey.WORKER_TIERED_STORE_MANAGER_TRACKING_CAPACITY, 2);
+    TierManager tierManager =
+        new TierManager(mBlockWorker, RateLimiter.create(Constants.GB), mClock);
+    mBlockStore.registerBlockStoreEventListener(tierManager);
+    for (long blockId = 4; blockId < 10; blockId++) {
+      cache(blockId, "HDD");
+    }
+    for (long blockId = 4; blockId < 10; blockId++) {
+      accessBlock(blockId, 1);
+    }
+    accessBlock(HOT_BLOCK_ID, 1);
+    tierManager.heartbeat();
+    for (long blockId = 3; blockId < 10; blockId++) {
+      assertEquals("HDD", getTierAlias(blockId));
+    }
+    assertEquals("MEM", getTierAlias(1));
+    assertEquals("MEM", getTierAlias(2));
+  }
+
+  private void cache(long blockId, String tierAlias) throws Exception {
+    mBlockStore.createBlock(SESSION_ID, blockId, BlockStoreLocation.anyDirInTier(tierAlias),
+        BLOCK_SIZE);
+    try (BlockWriter writer = mBlockStore.getBlockWriter(SESSION_ID, blockId)) {
+      writer.append(BufferUtils.getIncreasingByteBuffer((int) BLOCK_SIZE));
+    }
+    mBlockStore.commitBlock(SESSION_ID, blockId);
+  }
+
+  private void accessBlock(long blockId, int times) throws Exception {
+    for (int i = 0; i < times; i++) {
+      mBlockStore.accessBlock(SESSION_ID, blockId);
+    }
+  }
+
+  private String getTierAlias(long blockId) throws Exception {
+    return mBlockStore.getVolatileBlockMeta(blockId).getBlockLocation().tierAlias();
+  }
+}
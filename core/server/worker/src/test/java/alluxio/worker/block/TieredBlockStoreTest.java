@@ -13,16 +13,25 @@ package alluxio.worker.block;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
+import alluxio.ConfigurationRule;
+import alluxio.PropertyKey;
 import alluxio.exception.BlockAlreadyExistsException;
 import alluxio.exception.BlockDoesNotExistException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.exception.InvalidWorkerStateException;
 import alluxio.exception.WorkerOutOfSpaceException;
+import alluxio.util.io.BufferUtils;
 import alluxio.util.io.FileUtils;
 import alluxio.worker.block.evictor.Evictor;
+import alluxio.worker.block.io.AsyncFileBlockReader;
+import alluxio.worker.block.io.AsyncFileBlockWriter;
+import alluxio.worker.block.io.BlockIoQueue;
+import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.BlockWriter;
 import alluxio.worker.block.meta.BlockMeta;
 import alluxio.worker.block.meta.StorageDir;
 import alluxio.worker.block.meta.TempBlockMeta;
@@ -34,6 +43,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import java.io.Closeable;
 import java.io.File;
 import java.lang.reflect.Field;
 
@@ -586,4 +596,46 @@ public final class TieredBlockStoreTest {
 
     mBlockStore.removeBlock(SESSION_ID1, BLOCK_ID1);
   }
+
+  /**
+   * Tests that blocks are written and read through the I/O queues of their dirs when async block
+   * I/O is enabled.
+   */
+  @Test
+  public void asyncBlockIo() throws Exception {
+    try (Closeable r = new ConfigurationRule(PropertyKey.WORKER_BLOCK_IO_ASYNC_ENABLED, "true")
+        .toResource()) {
+      TieredBlockStore blockStore = new TieredBlockStore();
+      blockStore.createBlock(SESSION_ID1, TEMP_BLOCK_ID,
+          BlockStoreLocation.anyDirInTier(SECOND_TIER_ALIAS), BLOCK_SIZE);
+      try (BlockWriter writer = blockStore.getBlockWriter(SESSION_ID1, TEMP_BLOCK_ID)) {
+        assertTrue(writer instanceof AsyncFileBlockWriter);
+        writer.append(BufferUtils.getIncreasingByteBuffer((int) BLOCK_SIZE));
+      }
+      blockStore.commitBlock(SESSION_ID1, TEMP_BLOCK_ID);
+
+      long lockId = blockStore.lockBlock(SESSION_ID1, TEMP_BLOCK_ID);
+      try (BlockReader reader = blockStore.getBlockReader(SESSION_ID1, TEMP_BLOCK_ID, lockId)) {
+        assertTrue(reader instanceof AsyncFileBlockReader);
+        assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) BLOCK_SIZE,
+            reader.read(0, BLOCK_SIZE)));
+      } finally {
+        blockStore.unlockBlock(lockId);
+        blockStore.close();
+      }
+    }
+  }
+
+  /**
+   * Tests that closing the store closes the I/O queues of its dirs.
+   */
+  @Test
+  public void closeReleasesIoQueues() throws Exception {
+    BlockIoQueue queue1 = mTestDir1.getIoQueue();
+    BlockIoQueue queue3 = mTestDir3.getIoQueue();
+    mBlockStore.close();
+    assertNotSame(queue1, mTestDir1.getIoQueue());
+    assertNotSame(queue3, mTestDir3.getIoQueue());
+    mBlockStore.close();
+  }
 }
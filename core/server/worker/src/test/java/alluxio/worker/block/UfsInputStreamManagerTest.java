@@ -0,0 +1,98 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.block;
+
+import alluxio.Constants;
+import alluxio.underfs.UnderFileSystem;
+import alluxio.underfs.options.OpenOptions;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.InputStream;
+
+/**
+ * Unit tests for {@link UfsInputStreamManager}.
+ */
+public final class UfsInputStreamManagerTest {
+  private static final long MOUNT_ID = 1;
+  private static final String PATH = "/test";
+
+  private UnderFileSystem mUfs;
+  private UfsInputStreamManager mManager;
+
+  @Before
+  public void before() throws Exception {
+    mUfs = Mockito.mock(UnderFileSystem.class);
+    Mockito.when(mUfs.open(Mockito.anyString(), Mockito.any(OpenOptions.class)))
+        .thenAnswer(invocation -> Mockito.mock(InputStream.class));
+    mManager = new UfsInputStreamManager(true, Constants.MINUTE_MS, 10);
+  }
+
+  @After
+  public void after() {
+    mManager.close();
+  }
+
+  /**
+   * Tests that a released stream is reused by a read from the position it was released at only.
+   */
+  @Test
+  public void reuseAtSamePosition() throws Exception {
+    InputStream stream = mManager.acquire(mUfs, MOUNT_ID, PATH, 0, 10);
+    mManager.release(MOUNT_ID, PATH, 10, stream);
+    Assert.assertNotSame(stream, mManager.acquire(mUfs, MOUNT_ID, PATH, 0, 10));
+    Assert.assertSame(stream, mManager.acquire(mUfs, MOUNT_ID, PATH, 10, 10));
+    Assert.assertNotSame(stream, mManager.acquire(mUfs, MOUNT_ID, PATH, 10, 10));
+    Mockito.verify(stream, Mockito.never()).close();
+  }
+
+  /**
+   * Tests that a stream is closed when another stream is already idle at the same position.
+   */
+  @Test
+  public void closeDuplicate() throws Exception {
+    InputStream first = mManager.acquire(mUfs, MOUNT_ID, PATH, 0, 10);
+    InputStream second = mManager.acquire(mUfs, MOUNT_ID, PATH, 0, 10);
+    mManager.release(MOUNT_ID, PATH, 10, first);
+    mManager.release(MOUNT_ID, PATH, 10, second);
+    Mockito.verify(first, Mockito.never()).close();
+    Mockito.verify(second).close();
+  }
+
+  /**
+   * Tests that streams are closed on release when caching is disabled.
+   */
+  @Test
+  public void disabled() throws Exception {
+    mManager.close();
+    mManager = new UfsInputStreamManager(false, Constants.MINUTE_MS, 10);
+    InputStream stream = mManager.acquire(mUfs, MOUNT_ID, PATH, 0, 10);
+    mManager.release(MOUNT_ID, PATH, 10, stream);
+    Mockito.verify(stream).close();
+    Assert.assertNotSame(stream, mManager.acquire(mUfs, MOUNT_ID, PATH, 10, 10));
+  }
+
+  /**
+   * Tests that closing the manager closes the idle streams.
+   */
+  @Test
+  public void closeIdleStreams() throws Exception {
+    InputStream stream = mManager.acquire(mUfs, MOUNT_ID, PATH, 0, 10);
+    mManager.release(MOUNT_ID, PATH, 10, stream);
+    mManager.close();
+    Mockito.verify(stream).close();
+  }
+}
@@ -15,12 +15,14 @@ import alluxio.AlluxioTestDirectory;
 import alluxio.AlluxioURI;
 import alluxio.Configuration;
 import alluxio.ConfigurationRule;
+import alluxio.Constants;
 import alluxio.PropertyKey;
 import alluxio.exception.WorkerOutOfSpaceException;
 import alluxio.proto.dataserver.Protocol;
 import alluxio.underfs.UfsManager;
 import alluxio.underfs.UfsManager.UfsInfo;
 import alluxio.underfs.UnderFileSystem;
+import alluxio.underfs.options.OpenOptions;
 import alluxio.util.io.BufferUtils;
 import alluxio.worker.block.io.BlockReader;
 import alluxio.worker.block.meta.UnderFileSystemBlockMeta;
@@ -28,6 +30,7 @@ import alluxio.worker.block.meta.UnderFileSystemBlockMeta;
 import com.google.common.base.Suppliers;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -48,6 +51,8 @@ public final class UnderFileSystemBlockReaderTest {
   private BlockStore mAlluxioBlockStore;
   private UnderFileSystemBlockMeta mUnderFileSystemBlockMeta;
   private UfsManager mUfsManager;
+  private UnderFileSystem mUfs;
+  private UfsInputStreamManager mUfsInStreamManager;
   private Protocol.OpenUfsBlockOptions mOpenUfsBlockOptions;
 
   /** Rule to create a new temporary folder during each test. */
@@ -78,9 +83,8 @@ public final class UnderFileSystemBlockReaderTest {
 
     mAlluxioBlockStore = new TieredBlockStore();
     mUfsManager = Mockito.mock(UfsManager.class);
-    UfsInfo ufsInfo = new UfsInfo(
-        Suppliers.ofInstance(UnderFileSystem.Factory.create(testFilePath)),
-        new AlluxioURI(testFilePath));
+    mUfs = Mockito.spy(UnderFileSystem.Factory.create(testFilePath));
+    UfsInfo ufsInfo = new UfsInfo(Suppliers.ofInstance(mUfs), new AlluxioURI(testFilePath));
     Mockito.when(mUfsManager.get(Mockito.anyLong())).thenReturn(ufsInfo);
 
     mOpenUfsBlockOptions = Protocol.OpenUfsBlockOptions.newBuilder().setMaxUfsReadConcurrency(10)
@@ -88,6 +92,12 @@ public final class UnderFileSystemBlockReaderTest {
         .build();
     mUnderFileSystemBlockMeta =
         new UnderFileSystemBlockMeta(SESSION_ID, BLOCK_ID, mOpenUfsBlockOptions);
+    mUfsInStreamManager = new UfsInputStreamManager(true, Constants.MINUTE_MS, 100);
+  }
+
+  @After
+  public void after() {
+    mUfsInStreamManager.close();
   }
 
   private void checkTempBlock(long start, long length) throws Exception {
@@ -104,7 +114,8 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void readFullBlock() throws Exception {
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE, mAlluxioBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
     mReader.close();
@@ -114,7 +125,8 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void readPartialBlock() throws Exception {
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE, mAlluxioBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE - 1);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE - 1, buffer));
     mReader.close();
@@ -125,7 +137,8 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void offset() throws Exception {
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE, mAlluxioBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuffer buffer = mReader.read(2, TEST_BLOCK_SIZE - 2);
     Assert.assertTrue(BufferUtils
         .equalIncreasingByteBuffer(2, (int) TEST_BLOCK_SIZE - 2, buffer));
@@ -137,7 +150,8 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void readOverlap() throws Exception {
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 2, mAlluxioBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 2, TEST_BLOCK_SIZE, mAlluxioBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuffer buffer = mReader.read(2, TEST_BLOCK_SIZE - 2);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(2, (int) TEST_BLOCK_SIZE - 2, buffer));
     buffer = mReader.read(0, TEST_BLOCK_SIZE - 2);
@@ -154,7 +168,8 @@ public final class UnderFileSystemBlockReaderTest {
     mUnderFileSystemBlockMeta = new UnderFileSystemBlockMeta(SESSION_ID, BLOCK_ID,
         mOpenUfsBlockOptions.toBuilder().setNoCache(true).build());
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE, mAlluxioBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE);
     // read should succeed even if error is thrown when caching
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
@@ -169,7 +184,8 @@ public final class UnderFileSystemBlockReaderTest {
         .when(errorThrowingBlockStore)
         .requestSpace(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong());
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 0, errorThrowingBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE, errorThrowingBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
     mReader.close();
@@ -183,7 +199,8 @@ public final class UnderFileSystemBlockReaderTest {
         .createBlock(Mockito.anyLong(), Mockito.anyLong(), Mockito.any(BlockStoreLocation.class),
             Mockito.anyLong());
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 0, errorThrowingBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE, errorThrowingBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuffer buffer = mReader.read(0, TEST_BLOCK_SIZE);
     Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE, buffer));
     mReader.close();
@@ -193,7 +210,8 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void transferFullBlock() throws Exception {
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE, mAlluxioBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuf buf =
         PooledByteBufAllocator.DEFAULT.buffer((int) TEST_BLOCK_SIZE * 2, (int) TEST_BLOCK_SIZE * 2);
     try {
@@ -211,7 +229,8 @@ public final class UnderFileSystemBlockReaderTest {
   @Test
   public void transferPartialBlock() throws Exception {
     mReader = UnderFileSystemBlockReader
-        .create(mUnderFileSystemBlockMeta, 0, mAlluxioBlockStore, mUfsManager);
+        .create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE, mAlluxioBlockStore,
+            mUfsManager, mUfsInStreamManager);
     ByteBuf buf =
         PooledByteBufAllocator.DEFAULT.buffer((int) TEST_BLOCK_SIZE / 2, (int) TEST_BLOCK_SIZE / 2);
     try {
@@ -226,4 +245,24 @@ public final class UnderFileSystemBlockReaderTest {
     // partial block should not be cached
     Assert.assertNull(mAlluxioBlockStore.getTempBlockMeta(SESSION_ID, BLOCK_ID));
   }
+
+  @Test
+  public void reuseUfsInputStream() throws Exception {
+    // Reads the block before the test block, which leaves the stream at the start of the test block
+    UnderFileSystemBlockMeta previousBlockMeta = new UnderFileSystemBlockMeta(SESSION_ID,
+        BLOCK_ID + 1, mOpenUfsBlockOptions.toBuilder().setOffsetInFile(0).setNoCache(true).build());
+    mReader = UnderFileSystemBlockReader.create(previousBlockMeta, 0, TEST_BLOCK_SIZE,
+        mAlluxioBlockStore, mUfsManager, mUfsInStreamManager);
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer(0, (int) TEST_BLOCK_SIZE,
+        mReader.read(0, TEST_BLOCK_SIZE)));
+    mReader.close();
+
+    mReader = UnderFileSystemBlockReader.create(mUnderFileSystemBlockMeta, 0, TEST_BLOCK_SIZE,
+        mAlluxioBlockStore, mUfsManager, mUfsInStreamManager);
+    Assert.assertTrue(BufferUtils.equalIncreasingByteBuffer((int) TEST_BLOCK_SIZE,
+        (int) TEST_BLOCK_SIZE, mReader.read(0, TEST_BLOCK_SIZE)));
+    mReader.close();
+    Mockito.verify(mUfs, Mockito.times(1))
+        .open(Mockito.anyString(), Mockito.any(OpenOptions.class));
+  }
 }
@@ -20,8 +20,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import alluxio.exception.status.UnavailableException;
+import alluxio.thrift.CommandType;
 import alluxio.thrift.FileSystemCommand;
+import alluxio.thrift.FileSystemCommandOptions;
 import alluxio.thrift.FileSystemHeartbeatTOptions;
+import alluxio.thrift.LoadBlock;
+import alluxio.thrift.LoadCommandOptions;
 
 import com.google.common.collect.Lists;
 import org.junit.Before;
@@ -30,6 +34,7 @@ import org.junit.runner.RunWith;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -37,18 +42,20 @@ import java.util.concurrent.atomic.AtomicReference;
  * Tests {@link FileWorkerMasterSyncExecutor}.
  */
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({FileDataManager.class, FileSystemMasterClient.class})
+@PrepareForTest({FileDataManager.class, FileSystemMasterClient.class, UfsBlockLoader.class})
 public final class FileWorkerMasterSyncExecutorTest {
   private FileDataManager mFileDataManager;
   private FileSystemMasterClient mFileSystemMasterClient;
+  private UfsBlockLoader mUfsBlockLoader;
   private FileWorkerMasterSyncExecutor mFileWorkerMasterSyncExecutor;
 
   @Before
   public void before() {
     mFileDataManager = mock(FileDataManager.class);
     mFileSystemMasterClient = mock(FileSystemMasterClient.class);
+    mUfsBlockLoader = mock(UfsBlockLoader.class);
     mFileWorkerMasterSyncExecutor = new FileWorkerMasterSyncExecutor(mFileDataManager,
-        mFileSystemMasterClient, new AtomicReference<>(10L));
+        mUfsBlockLoader, mFileSystemMasterClient, new AtomicReference<>(10L));
   }
 
   /**
@@ -87,4 +94,29 @@ public final class FileWorkerMasterSyncExecutorTest {
     mFileWorkerMasterSyncExecutor.heartbeat();
     verify(mFileDataManager).clearPersistedFiles(persistedFiles);
   }
+
+  /**
+   * Verifies that the loaded blocks are reported to the master, and that the blocks sent by the
+   * master are submitted to the {@link UfsBlockLoader}.
+   */
+  @Test
+  public void heartbeatLoad() throws Exception {
+    List<Long> loadedBlocks = Lists.newArrayList(1L, 2L);
+    List<Long> failedBlocks = Lists.newArrayList(3L);
+    when(mFileDataManager.getPersistedFileInfos()).thenReturn(
+        new FileDataManager.PersistedFilesInfo(new ArrayList<Long>(), new ArrayList<String>()));
+    when(mUfsBlockLoader.getLoadedBlocks()).thenReturn(loadedBlocks);
+    when(mUfsBlockLoader.getFailedBlocks()).thenReturn(failedBlocks);
+    List<LoadBlock> blocksToLoad = Lists.newArrayList(new LoadBlock(4L, "/ufs/file", 0, 10, 1L));
+    FileSystemCommandOptions commandOptions = new FileSystemCommandOptions();
+    commandOptions.setLoadOptions(new LoadCommandOptions(blocksToLoad));
+    FileSystemHeartbeatTOptions options = new FileSystemHeartbeatTOptions()
+        .setPersistedFileFingerprints(new ArrayList<String>())
+        .setLoadedBlocks(loadedBlocks).setLoadFailedBlocks(failedBlocks);
+    when(mFileSystemMasterClient.heartbeat(anyLong(), eq(new ArrayList<Long>()), eq(options)))
+        .thenReturn(new FileSystemCommand(CommandType.Load, commandOptions));
+    mFileWorkerMasterSyncExecutor.heartbeat();
+    verify(mUfsBlockLoader).clearReportedBlocks(loadedBlocks, failedBlocks);
+    verify(mUfsBlockLoader).submit(blocksToLoad);
+  }
 }
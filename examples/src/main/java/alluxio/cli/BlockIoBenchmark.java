@@ -0,0 +1,270 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli;
+
+import alluxio.Constants;
+import alluxio.RuntimeConstants;
+import alluxio.util.FormatUtils;
+import alluxio.util.io.PathUtils;
+import alluxio.worker.block.io.AsyncFileBlockReader;
+import alluxio.worker.block.io.AsyncFileBlockWriter;
+import alluxio.worker.block.io.BlockIoQueue;
+import alluxio.worker.block.io.BlockReader;
+import alluxio.worker.block.io.BlockWriter;
+import alluxio.worker.block.io.LocalFileBlockReader;
+import alluxio.worker.block.io.LocalFileBlockWriter;
+
+import com.google.common.base.Preconditions;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Benchmark of worker block I/O on a mix of storage directories, comparing the blocking block
+ * readers and writers with the ones served by per-directory {@link BlockIoQueue}s. A fixed pool
+ * of threads, standing in for the data server threads, writes and then reads blocks spread
+ * round-robin over the given directories, one packet at a time. The aggregate throughput and the
+ * throughput of each directory are reported for both modes.
+ *
+ * Point the directories at different devices (e.g. a ramdisk and an HDD) to see how a slow
+ * device holds up the others. Drop the page cache between runs for cold reads.
+ */
+@ThreadSafe
+public final class BlockIoBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(BlockIoBenchmark.class);
+
+  private static final String BLOCK_FILE_PREFIX = "block_io_benchmark_";
+
+  /**
+   * The block I/O modes to compare.
+   */
+  enum Mode {
+    /**
+     * Blocking I/O on the calling threads.
+     */
+    SYNC,
+    /**
+     * I/O through the queue of each directory.
+     */
+    ASYNC,
+  }
+
+  private static final Options OPTIONS =
+      new Options().addOption("help", false, "Show help for this test.")
+          .addOption("dirs", true, "Comma-separated directories, e.g. one per storage tier.")
+          .addOption("blockSize", true, "The size of each block (e.g. 64MB).")
+          .addOption("packetSize", true, "The size of each read or write (e.g. 64KB).")
+          .addOption("blocks", true, "The number of blocks written to each directory.")
+          .addOption("concurrency", true, "The number of threads reading or writing blocks.")
+          .addOption("ioThreads", true, "The number of I/O threads of each directory queue.")
+          .addOption("queueDepth", true, "The maximum in-flight operations of each queue.");
+
+  private static boolean sHelp;
+  private static String[] sDirs;
+  private static long sBlockSize;
+  private static int sPacketSize;
+  private static int sBlocks;
+  private static int sConcurrency;
+  private static int sIoThreads;
+  private static int sQueueDepth;
+
+  private BlockIoBenchmark() {} // prevent instantiation
+
+  /**
+   * Prints the usage.
+   */
+  private static void usage() {
+    new HelpFormatter().printHelp(String.format(
+        "java -cp %s %s -dirs <dir1,dir2,...> -blockSize <blockSize> -packetSize <packetSize> "
+            + "-blocks <blocks> -concurrency <concurrency> -ioThreads <ioThreads> "
+            + "-queueDepth <queueDepth>",
+        RuntimeConstants.ALLUXIO_JAR, BlockIoBenchmark.class.getCanonicalName()),
+        "compare blocking and queued block I/O over several storage directories",
+        OPTIONS, "", true);
+  }
+
+  /**
+   * Parses the input args with a command line format, using
+   * {@link org.apache.commons.cli.CommandLineParser}.
+   *
+   * @param args the input args
+   * @return true if parsing succeeded
+   */
+  private static boolean parseInputArgs(String[] args) {
+    CommandLineParser parser = new DefaultParser();
+    CommandLine cmd;
+    try {
+      cmd = parser.parse(OPTIONS, args);
+    } catch (ParseException e) {
+      System.out.println("Failed to parse input args: " + e);
+      return false;
+    }
+    sHelp = cmd.hasOption("help");
+    sDirs = cmd.getOptionValue("dirs", System.getProperty("java.io.tmpdir")).split(",");
+    sBlockSize = FormatUtils.parseSpaceSize(cmd.getOptionValue("blockSize", "64MB"));
+    sPacketSize = (int) FormatUtils.parseSpaceSize(cmd.getOptionValue("packetSize", "64KB"));
+    sBlocks = Integer.parseInt(cmd.getOptionValue("blocks", "16"));
+    sConcurrency = Integer.parseInt(cmd.getOptionValue("concurrency", "8"));
+    sIoThreads = Integer.parseInt(cmd.getOptionValue("ioThreads", "4"));
+    sQueueDepth = Integer.parseInt(cmd.getOptionValue("queueDepth", "32"));
+    return true;
+  }
+
+  /**
+   * @param args the arguments described in the usage
+   * @throws Exception if error occurs during the benchmark
+   */
+  public static void main(String[] args) throws Exception {
+    if (!parseInputArgs(args)) {
+      usage();
+      System.exit(-1);
+    }
+    if (sHelp) {
+      usage();
+      System.exit(0);
+    }
+
+    for (Mode mode : Mode.values()) {
+      List<BlockIoQueue> queues = new ArrayList<>(sDirs.length);
+      for (int i = 0; i < sDirs.length; i++) {
+        queues.add(new BlockIoQueue("benchmark-" + i, sIoThreads, sQueueDepth));
+      }
+      try {
+        run(mode, true, queues);
+        run(mode, false, queues);
+      } finally {
+        for (BlockIoQueue queue : queues) {
+          queue.close();
+        }
+        for (String dir : sDirs) {
+          for (int i = 0; i < sBlocks; i++) {
+            new File(blockPath(dir, i)).delete();
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes or reads all the blocks with the given mode and prints the throughput.
+   *
+   * @param mode the block I/O mode
+   * @param write whether to write the blocks, otherwise to read them
+   * @param queues the queue of each directory
+   */
+  private static void run(final Mode mode, final boolean write, final List<BlockIoQueue> queues)
+      throws Exception {
+    final long startNs = System.nanoTime();
+    final AtomicLong[] finishNs = new AtomicLong[sDirs.length];
+    for (int i = 0; i < sDirs.length; i++) {
+      finishNs[i] = new AtomicLong(startNs);
+    }
+    ExecutorService executorService = Executors.newFixedThreadPool(sConcurrency);
+    List<Future<?>> futures = new ArrayList<>();
+    // Interleave the directories so that every thread sees all of them.
+    for (int block = 0; block < sBlocks; block++) {
+      for (int dir = 0; dir < sDirs.length; dir++) {
+        final int dirIndex = dir;
+        final String path = blockPath(sDirs[dir], block);
+        futures.add(executorService.submit(new Runnable() {
+          @Override
+          public void run() {
+            try {
+              if (write) {
+                writeBlock(mode, path, queues.get(dirIndex));
+              } else {
+                readBlock(mode, path, queues.get(dirIndex));
+              }
+              long now = System.nanoTime();
+              long finish;
+              do {
+                finish = finishNs[dirIndex].get();
+              } while (finish < now && !finishNs[dirIndex].compareAndSet(finish, now));
+            } catch (IOException e) {
+              LOG.error("Failed to {} block {}.", write ? "write" : "read", path, e);
+              System.exit(-1);
+            }
+          }
+        }));
+      }
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executorService.shutdown();
+    Preconditions.checkState(executorService.awaitTermination(1, TimeUnit.HOURS));
+    double seconds = (System.nanoTime() - startNs) * 1.0 / Constants.SECOND_NANO;
+    double dirBytes = 1.0 * sBlocks * sBlockSize;
+    System.out.printf("Mode: %s; Operation: %s; Duration: %f seconds; "
+        + "Aggregated throughput: %f MB/second.%n", mode, write ? "WRITE" : "READ", seconds,
+        sDirs.length * dirBytes / seconds / Constants.MB);
+    for (int i = 0; i < sDirs.length; i++) {
+      double dirSeconds = (finishNs[i].get() - startNs) * 1.0 / Constants.SECOND_NANO;
+      System.out.printf("  Dir: %s; Throughput: %f MB/second.%n", sDirs[i],
+          dirBytes / dirSeconds / Constants.MB);
+    }
+  }
+
+  private static void writeBlock(Mode mode, String path, BlockIoQueue queue) throws IOException {
+    ByteBuf packet = Unpooled.directBuffer(sPacketSize, sPacketSize);
+    packet.writeZero(sPacketSize);
+    try (BlockWriter writer = mode == Mode.SYNC ? new LocalFileBlockWriter(path)
+        : new AsyncFileBlockWriter(path, queue)) {
+      for (long written = 0; written < sBlockSize; written += sPacketSize) {
+        packet.readerIndex(0);
+        packet.writerIndex((int) Math.min(sPacketSize, sBlockSize - written));
+        writer.append(packet);
+      }
+    } finally {
+      packet.release();
+    }
+  }
+
+  private static void readBlock(Mode mode, String path, BlockIoQueue queue) throws IOException {
+    ByteBuf packet = Unpooled.directBuffer(sPacketSize, sPacketSize);
+    try (BlockReader reader = mode == Mode.SYNC ? new LocalFileBlockReader(path)
+        : new AsyncFileBlockReader(path, queue)) {
+      int read;
+      do {
+        packet.clear();
+        read = 0;
+        while (packet.writableBytes() > 0 && (read = reader.transferTo(packet)) != -1) {
+        }
+      } while (read != -1);
+    } finally {
+      packet.release();
+    }
+  }
+
+  private static String blockPath(String dir, int block) {
+    return PathUtils.concatPath(dir, BLOCK_FILE_PREFIX + block);
+  }
+}
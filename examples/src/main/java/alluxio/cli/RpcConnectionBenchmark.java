@@ -0,0 +1,216 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli;
+
+import alluxio.Constants;
+import alluxio.RuntimeConstants;
+import alluxio.client.MetaMasterClient;
+import alluxio.client.RetryHandlingMetaMasterClient;
+import alluxio.master.MasterClientConfig;
+import alluxio.wire.MasterInfo.MasterInfoField;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Sets;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Benchmark of how the master RPC server scales with the number of connected clients. It connects
+ * the given number of clients, which stay connected and mostly idle like the clients of a large
+ * number of executors, then issues lightweight RPCs through them and reports how many clients
+ * could connect and the latency percentiles of the RPCs.
+ *
+ * Compare the results with alluxio.master.rpc.server.type set to THREAD_POOL and to
+ * THREADED_SELECTOR, with more clients than alluxio.master.worker.threads.max.
+ */
+@ThreadSafe
+public final class RpcConnectionBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(RpcConnectionBenchmark.class);
+
+  private static final double NANOS_PER_MS = 1000000.0;
+  private static final Set<MasterInfoField> FIELDS = Sets.newHashSet(MasterInfoField.WEB_PORT);
+
+  private static final Options OPTIONS =
+      new Options().addOption("help", false, "Show help for this test.")
+          .addOption("clients", true, "The number of clients to connect.")
+          .addOption("threads", true, "The number of threads issuing RPCs.")
+          .addOption("requests", true, "The number of RPCs issued by each thread.")
+          .addOption("connectThreads", true, "The number of threads connecting the clients.");
+
+  private static boolean sHelp;
+  private static int sClients;
+  private static int sThreads;
+  private static int sRequests;
+  private static int sConnectThreads;
+
+  private RpcConnectionBenchmark() {} // prevent instantiation
+
+  /**
+   * Prints the usage.
+   */
+  private static void usage() {
+    new HelpFormatter().printHelp(String.format(
+        "java -cp %s %s -clients <clients> -threads <threads> -requests <requests>",
+        RuntimeConstants.ALLUXIO_JAR, RpcConnectionBenchmark.class.getCanonicalName()),
+        "run a benchmark of the master RPC server with many connected clients",
+        OPTIONS, "", true);
+  }
+
+  /**
+   * Parses the input args with a command line format, using
+   * {@link org.apache.commons.cli.CommandLineParser}.
+   *
+   * @param args the input args
+   * @return true if parsing succeeded
+   */
+  private static boolean parseInputArgs(String[] args) {
+    CommandLineParser parser = new DefaultParser();
+    CommandLine cmd;
+    try {
+      cmd = parser.parse(OPTIONS, args);
+    } catch (ParseException e) {
+      System.out.println("Failed to parse input args: " + e);
+      return false;
+    }
+    sHelp = cmd.hasOption("help");
+    sClients = Integer.parseInt(cmd.getOptionValue("clients", "1000"));
+    sThreads = Integer.parseInt(cmd.getOptionValue("threads", "16"));
+    sRequests = Integer.parseInt(cmd.getOptionValue("requests", "1000"));
+    sConnectThreads = Integer.parseInt(cmd.getOptionValue("connectThreads", "64"));
+    return true;
+  }
+
+  /**
+   * @param args the arguments of the benchmark, see {@link #usage()}
+   * @throws Exception if the benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    if (!parseInputArgs(args)) {
+      usage();
+      System.exit(-1);
+    }
+    if (sHelp) {
+      usage();
+      System.exit(0);
+    }
+
+    List<MetaMasterClient> clients = Collections.synchronizedList(new ArrayList<>());
+    ExecutorService executorService =
+        Executors.newFixedThreadPool(Math.max(sConnectThreads, sThreads));
+    try {
+      // Connect the clients, each one keeps its connection open for the rest of the benchmark
+      final AtomicInteger failures = new AtomicInteger(0);
+      long startTime = System.nanoTime();
+      List<Future<?>> connections = new ArrayList<>();
+      for (int i = 0; i < sClients; i++) {
+        connections.add(executorService.submit(() -> {
+          RetryHandlingMetaMasterClient client =
+              new RetryHandlingMetaMasterClient(MasterClientConfig.defaults());
+          try {
+            // The first RPC makes sure the server accepted the connection
+            client.getInfo(FIELDS);
+            clients.add(client);
+          } catch (Exception e) {
+            LOG.debug("Failed to connect a client", e);
+            failures.incrementAndGet();
+            client.close();
+          }
+        }));
+      }
+      for (Future<?> connection : connections) {
+        connection.get();
+      }
+      System.out.printf("Connected %d of %d clients in %.3f seconds (%d failed).%n",
+          clients.size(), sClients,
+          (System.nanoTime() - startTime) * 1.0 / Constants.SECOND_NANO, failures.get());
+      Preconditions.checkState(!clients.isEmpty(), "No client could connect");
+
+      // Issue RPCs through all the connected clients
+      long[][] latencies = new long[sThreads][];
+      List<Future<?>> threads = new ArrayList<>();
+      startTime = System.nanoTime();
+      for (int i = 0; i < sThreads; i++) {
+        final int id = i;
+        threads.add(executorService.submit(() -> {
+          latencies[id] = issueRequests(clients, id);
+          return null;
+        }));
+      }
+      for (Future<?> thread : threads) {
+        thread.get();
+      }
+      double seconds = (System.nanoTime() - startTime) * 1.0 / Constants.SECOND_NANO;
+      long[] all = new long[sThreads * sRequests];
+      for (int i = 0; i < sThreads; i++) {
+        System.arraycopy(latencies[i], 0, all, i * sRequests, sRequests);
+      }
+      Arrays.sort(all);
+      System.out.printf("Requests: %d; Duration: %.3f seconds; Throughput: %.1f requests/second; "
+              + "Latency p50: %.3f ms, p99: %.3f ms, max: %.3f ms.%n",
+          all.length, seconds, all.length / seconds, percentileMs(all, 0.50),
+          percentileMs(all, 0.99), all[all.length - 1] / NANOS_PER_MS);
+    } finally {
+      executorService.shutdownNow();
+      Preconditions.checkState(executorService.awaitTermination(1, TimeUnit.MINUTES));
+      for (MetaMasterClient client : clients) {
+        client.close();
+      }
+    }
+  }
+
+  /**
+   * Issues RPCs, going through the clients round-robin.
+   *
+   * @param clients the connected clients
+   * @param id the id of the thread, used to pick the first client
+   * @return the latencies of the RPCs in nanoseconds
+   */
+  private static long[] issueRequests(List<MetaMasterClient> clients, int id) throws Exception {
+    long[] latencies = new long[sRequests];
+    for (int i = 0; i < sRequests; i++) {
+      MetaMasterClient client = clients.get((id + i * sThreads) % clients.size());
+      long startTime = System.nanoTime();
+      client.getInfo(FIELDS);
+      latencies[i] = System.nanoTime() - startTime;
+    }
+    return latencies;
+  }
+
+  /**
+   * @param sorted sorted latencies in nanoseconds
+   * @param percentile the percentile, between 0 and 1
+   * @return the latency at the percentile in milliseconds
+   */
+  private static double percentileMs(long[] sorted, double percentile) {
+    int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+    return sorted[Math.max(index, 0)] / NANOS_PER_MS;
+  }
+}
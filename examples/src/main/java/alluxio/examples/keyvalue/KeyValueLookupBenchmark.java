@@ -0,0 +1,234 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.examples.keyvalue;
+
+import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.RuntimeConstants;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.URIStatus;
+import alluxio.client.keyvalue.KeyValueStoreReader;
+import alluxio.client.keyvalue.KeyValueStoreWriter;
+import alluxio.client.keyvalue.KeyValueSystem;
+import alluxio.util.CommonUtils;
+
+import com.google.common.base.Preconditions;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Benchmark of the throughput of point lookups in a key-value store. The store is created with
+ * the given number of keys if it does not exist, then each of the concurrent readers looks up
+ * random keys of the store, a given ratio of which are absent from the store but within the key
+ * ranges of its partitions.
+ * <p>
+ * The index and the Bloom filter of the partitions are configured with
+ * {@link PropertyKey#KEY_VALUE_PARTITION_INDEX_TYPE} and
+ * {@link PropertyKey#KEY_VALUE_PARTITION_BLOOM_FILTER_BITS_PER_KEY}, and the size of the store is
+ * reported to compare them.
+ */
+@ThreadSafe
+public final class KeyValueLookupBenchmark {
+  private static final Logger LOG = LoggerFactory.getLogger(KeyValueLookupBenchmark.class);
+
+  private KeyValueLookupBenchmark() {} // prevent instantiation
+
+  /**
+   * Prints the usage.
+   */
+  private static void usage() {
+    new HelpFormatter().printHelp(String.format(
+        "java -cp %s %s -store <store> -keys <keys> -valueSize <valueSize> -lookups <lookups> "
+            + "-missRatio <missRatio> -iterations <iterations> -concurrency <concurrency>",
+        RuntimeConstants.ALLUXIO_JAR, KeyValueLookupBenchmark.class.getCanonicalName()),
+        "run a benchmark of the lookups in a key-value store",
+        OPTIONS, "", true);
+  }
+
+  private static final Options OPTIONS =
+      new Options().addOption("help", false, "Show help for this test.")
+          .addOption("store", true, "The path of the key-value store.")
+          .addOption("keys", true, "The number of keys of the store.")
+          .addOption("valueSize", true, "The size of the values in bytes.")
+          .addOption("lookups", true, "The number of lookups of each reader per iteration.")
+          .addOption("missRatio", true, "The ratio of the lookups of absent keys.")
+          .addOption("iterations", true, "The number of iterations to run.")
+          .addOption("concurrency", true, "The number of concurrent readers.");
+
+  private static boolean sHelp;
+  private static AlluxioURI sStore;
+  private static int sKeys;
+  private static int sValueSize;
+  private static int sLookups;
+  private static double sMissRatio;
+  private static int sIterations;
+  private static int sConcurrency;
+
+  /**
+   * Parses the input args with a command line format, using
+   * {@link org.apache.commons.cli.CommandLineParser}.
+   *
+   * @param args the input args
+   * @return true if parsing succeeded
+   */
+  private static boolean parseInputArgs(String[] args) {
+    CommandLineParser parser = new DefaultParser();
+    CommandLine cmd;
+    try {
+      cmd = parser.parse(OPTIONS, args);
+    } catch (ParseException e) {
+      System.out.println("Failed to parse input args: " + e);
+      return false;
+    }
+    sHelp = cmd.hasOption("help");
+    sStore = new AlluxioURI(cmd.getOptionValue("store", "/default_kv_lookup_benchmark"));
+    sKeys = Integer.parseInt(cmd.getOptionValue("keys", "100000"));
+    sValueSize = Integer.parseInt(cmd.getOptionValue("valueSize", "100"));
+    sLookups = Integer.parseInt(cmd.getOptionValue("lookups", "100000"));
+    sMissRatio = Double.parseDouble(cmd.getOptionValue("missRatio", "0"));
+    sIterations = Integer.parseInt(cmd.getOptionValue("iterations", "1"));
+    sConcurrency = Integer.parseInt(cmd.getOptionValue("concurrency", "1"));
+    return true;
+  }
+
+  /**
+   * @param args the arguments of the benchmark
+   * @throws Exception if error occurs during tests
+   */
+  public static void main(String[] args) throws Exception {
+    if (!parseInputArgs(args)) {
+      usage();
+      System.exit(-1);
+    }
+    if (sHelp) {
+      usage();
+      System.exit(0);
+    }
+
+    Configuration.set(PropertyKey.KEY_VALUE_ENABLED, String.valueOf(true));
+    KeyValueSystem kvs = KeyValueSystem.Factory.create();
+    FileSystem fs = FileSystem.Factory.get();
+    if (!fs.exists(sStore)) {
+      createStore(kvs);
+    }
+    long storeSize = 0;
+    List<URIStatus> partitions = fs.listStatus(sStore);
+    for (URIStatus partition : partitions) {
+      storeSize += partition.getLength();
+    }
+    System.out.printf("Store size: %d bytes in %d partitions.%n", storeSize, partitions.size());
+
+    CommonUtils.warmUpLoop();
+
+    for (int i = 0; i < sIterations; ++i) {
+      final CyclicBarrier barrier = new CyclicBarrier(sConcurrency);
+      ExecutorService executorService = Executors.newFixedThreadPool(sConcurrency);
+      final AtomicLong runtime = new AtomicLong(0);
+      for (int j = 0; j < sConcurrency; ++j) {
+        executorService.submit(new Runnable() {
+          @Override
+          public void run() {
+            try {
+              lookup(kvs, barrier, runtime);
+            } catch (Exception e) {
+              LOG.error("Failed to look up keys.", e);
+              System.exit(-1);
+            }
+          }
+        });
+      }
+      executorService.shutdown();
+      Preconditions.checkState(executorService.awaitTermination(1, TimeUnit.HOURS));
+      double time = runtime.get() * 1.0 / sConcurrency / Constants.SECOND_NANO;
+      System.out.printf("Iteration: %d; Duration: %f seconds; Aggregated throughput: %f "
+          + "lookups/second; Average latency: %f us.%n", i, time,
+          sConcurrency * 1.0 * sLookups / time, time * 1000000 / sLookups);
+    }
+  }
+
+  /**
+   * Creates the key-value store with keys from 0 to the number of keys.
+   *
+   * @param kvs the key-value system
+   */
+  private static void createStore(KeyValueSystem kvs) throws Exception {
+    byte[] value = new byte[sValueSize];
+    Arrays.fill(value, (byte) 'a');
+    try (KeyValueStoreWriter writer = kvs.createStore(sStore)) {
+      for (int i = 0; i < sKeys; i++) {
+        writer.put(key(i), value);
+      }
+    }
+  }
+
+  /**
+   * Looks up random keys of the store, and random absent keys at the miss ratio.
+   *
+   * @param kvs the key-value system
+   * @param barrier the barrier to start the lookups at the same time as the other readers
+   * @param runtime the total time spent by the readers
+   */
+  private static void lookup(KeyValueSystem kvs, CyclicBarrier barrier, AtomicLong runtime)
+      throws Exception {
+    try (KeyValueStoreReader reader = kvs.openStore(sStore)) {
+      barrier.await();
+      long startTime = System.nanoTime();
+      for (int i = 0; i < sLookups; i++) {
+        int k = ThreadLocalRandom.current().nextInt(sKeys);
+        if (ThreadLocalRandom.current().nextDouble() < sMissRatio) {
+          if (reader.get(absentKey(k)) != null) {
+            throw new IllegalStateException("Absent key " + k + " is found in store " + sStore);
+          }
+        } else if (reader.get(key(k)) == null) {
+          throw new IllegalStateException("Key " + k + " is not found in store " + sStore);
+        }
+      }
+      runtime.addAndGet(System.nanoTime() - startTime);
+    }
+  }
+
+  /**
+   * @param i the index of the key
+   * @return the key, zero padded so that the keys are put in increasing order
+   */
+  private static byte[] key(int i) {
+    return String.format("%010d", i).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @param i the index of the key
+   * @return a key absent from the store, ordered between the keys i and i + 1
+   */
+  private static byte[] absentKey(int i) {
+    return String.format("%010d-", i).getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -128,6 +128,8 @@ public final class AlluxioFuse {
 
       List<String> fuseOpts = new ArrayList<>();
       boolean noUserMaxWrite = true;
+      boolean noUserAttrTimeout = true;
+      boolean noUserEntryTimeout = true;
       if (cli.hasOption("o")) {
         String[] fopts = cli.getOptionValues("o");
         // keep the -o
@@ -136,6 +138,12 @@ public final class AlluxioFuse {
           if (noUserMaxWrite && fopt.startsWith("max_write")) {
             noUserMaxWrite = false;
           }
+          if (fopt.startsWith("attr_timeout")) {
+            noUserAttrTimeout = false;
+          }
+          if (fopt.startsWith("entry_timeout")) {
+            noUserEntryTimeout = false;
+          }
         }
       }
       // check if the user has specified his own max_write, otherwise get it
@@ -144,6 +152,16 @@ public final class AlluxioFuse {
         final long maxWrite = Configuration.getBytes(PropertyKey.FUSE_MAXWRITE_BYTES);
         fuseOpts.add(String.format("-omax_write=%d", maxWrite));
       }
+      // let the kernel cache attributes and entries as long as alluxio-fuse does, unless the
+      // user has specified the timeouts
+      if (noUserAttrTimeout) {
+        fuseOpts.add("-oattr_timeout="
+            + Configuration.getMs(PropertyKey.FUSE_ATTR_CACHE_TTL) / 1000.0);
+      }
+      if (noUserEntryTimeout) {
+        fuseOpts.add("-oentry_timeout="
+            + Configuration.getMs(PropertyKey.FUSE_ENTRY_CACHE_TTL) / 1000.0);
+      }
 
       final boolean fuseDebug = Configuration.getBoolean(PropertyKey.FUSE_DEBUG_ENABLED);
 
@@ -0,0 +1,308 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.fuse;
+
+import alluxio.Constants;
+import alluxio.util.FormatUtils;
+
+import com.google.common.base.Preconditions;
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A fio-style benchmark of the I/O paths of a mounted Alluxio-FUSE file system. It runs the given
+ * number of jobs, each issuing I/Os of the given block size through the kernel, and reports the
+ * aggregated bandwidth and IOPS.
+ *
+ * To benchmark against a local cluster, start it with {@code bin/alluxio-start.sh local}, mount
+ * it with {@code integration/fuse/bin/alluxio-fuse mount <mount_point>}, run a {@code WRITE} job
+ * to create the files, then run the read jobs against the same directory.
+ */
+@ThreadSafe
+public final class AlluxioFuseBenchmark {
+  /**
+   * The I/O patterns to test.
+   */
+  enum OperationType {
+    /**
+     * Each job writes its own file sequentially.
+     */
+    WRITE,
+    /**
+     * Each job reads its own file sequentially.
+     */
+    READ,
+    /**
+     * Each job reads random blocks of its own file.
+     */
+    RANDREAD,
+    /**
+     * All the jobs read random blocks of the first file through one shared file handle.
+     */
+    SHARED_RANDREAD,
+  }
+
+  private static final Options OPTIONS =
+      new Options().addOption("help", false, "Show help for this test.")
+          .addOption("dir", true, "The directory under the FUSE mount point to run in.")
+          .addOption("type", true,
+              "The operation type (WRITE, READ, RANDREAD or SHARED_RANDREAD).")
+          .addOption("fileSize", true, "The size of the file of each job (e.g. 1GB).")
+          .addOption("blockSize", true, "The size of each I/O (e.g. 128KB).")
+          .addOption("numJobs", true, "The number of concurrent jobs.")
+          .addOption("ioCount", true,
+              "The number of I/Os issued by each job for random reads, default to fileSize / "
+                  + "blockSize.");
+
+  private static boolean sHelp;
+  private static Path sDir;
+  private static OperationType sType;
+  private static long sFileSize;
+  private static int sBlockSize;
+  private static int sNumJobs;
+  private static long sIoCount;
+  /** The wall clock time of the slowest job. */
+  private static long sRuntimeNs;
+
+  private AlluxioFuseBenchmark() {} // prevent instantiation
+
+  /**
+   * Prints the usage.
+   */
+  private static void usage() {
+    new HelpFormatter().printHelp(String.format(
+        "java -cp <alluxio-fuse jar> %s -dir <dir> -type <type> -fileSize <fileSize> "
+            + "-blockSize <blockSize> -numJobs <numJobs>",
+        AlluxioFuseBenchmark.class.getCanonicalName()),
+        "run a fio-style benchmark on a mounted Alluxio-FUSE file system",
+        OPTIONS, "", true);
+  }
+
+  /**
+   * Parses the input args with a command line format, using
+   * {@link org.apache.commons.cli.CommandLineParser}.
+   *
+   * @param args the input args
+   * @return true if parsing succeeded
+   */
+  private static boolean parseInputArgs(String[] args) {
+    CommandLineParser parser = new DefaultParser();
+    CommandLine cmd;
+    try {
+      cmd = parser.parse(OPTIONS, args);
+    } catch (ParseException e) {
+      System.out.println("Failed to parse input args: " + e);
+      return false;
+    }
+    sHelp = cmd.hasOption("help");
+    if (!sHelp && !cmd.hasOption("dir")) {
+      System.out.println("The directory to run in must be set with -dir");
+      return false;
+    }
+    sDir = Paths.get(cmd.getOptionValue("dir", "."));
+    sType = OperationType.valueOf(cmd.getOptionValue("type", "READ"));
+    sFileSize = FormatUtils.parseSpaceSize(cmd.getOptionValue("fileSize", "1GB"));
+    sBlockSize = (int) FormatUtils.parseSpaceSize(cmd.getOptionValue("blockSize", "128KB"));
+    sNumJobs = Integer.parseInt(cmd.getOptionValue("numJobs", "1"));
+    sIoCount = Long.parseLong(
+        cmd.getOptionValue("ioCount", Long.toString(Math.max(1, sFileSize / sBlockSize))));
+    return true;
+  }
+
+  /**
+   * @param args the arguments of the benchmark, see {@link #usage()}
+   * @throws Exception if the benchmark fails
+   */
+  public static void main(String[] args) throws Exception {
+    if (!parseInputArgs(args)) {
+      usage();
+      System.exit(-1);
+    }
+    if (sHelp) {
+      usage();
+      System.exit(0);
+    }
+
+    final CyclicBarrier barrier = new CyclicBarrier(sNumJobs);
+    ExecutorService executorService = Executors.newFixedThreadPool(sNumJobs);
+    List<Future<Long>> jobs = new ArrayList<>();
+    FileChannel shared = null;
+    try {
+      if (sType == OperationType.SHARED_RANDREAD) {
+        shared = FileChannel.open(filename(0), StandardOpenOption.READ);
+      }
+      for (int i = 0; i < sNumJobs; i++) {
+        final int id = i;
+        final FileChannel channel = shared;
+        jobs.add(executorService.submit(() -> runJob(barrier, id, channel)));
+      }
+      long bytes = 0;
+      long ios = 0;
+      for (Future<Long> job : jobs) {
+        long jobBytes = job.get();
+        bytes += jobBytes;
+        ios += (jobBytes + sBlockSize - 1) / sBlockSize;
+      }
+      double seconds = getRuntimeNs() * 1.0 / Constants.SECOND_NANO;
+      System.out.printf("%s: bs=%s, numjobs=%d, io=%s, runt=%.3fs, bw=%s/s, iops=%.1f%n",
+          sType, FormatUtils.getSizeFromBytes(sBlockSize), sNumJobs,
+          FormatUtils.getSizeFromBytes(bytes), seconds,
+          FormatUtils.getSizeFromBytes((long) (bytes / seconds)), ios / seconds);
+    } finally {
+      executorService.shutdownNow();
+      if (shared != null) {
+        shared.close();
+      }
+    }
+  }
+
+  /**
+   * Records the runtime of a job, keeping the longest one.
+   *
+   * @param runtimeNs the runtime of the job in nanoseconds
+   */
+  private static synchronized void recordRuntime(long runtimeNs) {
+    sRuntimeNs = Math.max(sRuntimeNs, runtimeNs);
+  }
+
+  /**
+   * @return the runtime of the slowest job in nanoseconds
+   */
+  private static synchronized long getRuntimeNs() {
+    return sRuntimeNs;
+  }
+
+  /**
+   * Runs a job.
+   *
+   * @param barrier the barrier to start all the jobs at the same time
+   * @param id the id of the job
+   * @param shared the shared file handle for {@link OperationType#SHARED_RANDREAD}
+   * @return the number of bytes transferred by the job
+   */
+  private static long runJob(CyclicBarrier barrier, int id, FileChannel shared) throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(sBlockSize);
+    Path file = filename(id);
+    long bytes = 0;
+    switch (sType) {
+      case WRITE:
+        Files.deleteIfExists(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.WRITE)) {
+          barrier.await();
+          long startTime = System.nanoTime();
+          while (bytes < sFileSize) {
+            buffer.clear();
+            buffer.limit((int) Math.min(sBlockSize, sFileSize - bytes));
+            while (buffer.hasRemaining()) {
+              bytes += channel.write(buffer);
+            }
+          }
+          recordRuntime(System.nanoTime() - startTime);
+        }
+        return bytes;
+      case READ:
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+          barrier.await();
+          long startTime = System.nanoTime();
+          int read;
+          do {
+            buffer.clear();
+            read = channel.read(buffer);
+            bytes += Math.max(read, 0);
+          } while (read >= 0);
+          recordRuntime(System.nanoTime() - startTime);
+        }
+        return bytes;
+      case RANDREAD:
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+          bytes = randomRead(barrier, channel, buffer);
+        }
+        return bytes;
+      case SHARED_RANDREAD:
+        return randomRead(barrier, shared, buffer);
+      default:
+        throw new IllegalStateException("Unsupported type " + sType);
+    }
+  }
+
+  /**
+   * Reads random blocks of a file with positioned reads.
+   *
+   * @param barrier the barrier to start all the jobs at the same time
+   * @param channel the file to read
+   * @param buffer the buffer to read into
+   * @return the number of bytes read
+   */
+  private static long randomRead(CyclicBarrier barrier, FileChannel channel, ByteBuffer buffer)
+      throws Exception {
+    long numBlocks = channel.size() / sBlockSize;
+    Preconditions.checkState(numBlocks > 0, "The file is smaller than the block size, "
+        + "run a WRITE job with the same fileSize first");
+    long bytes = 0;
+    barrier.await();
+    long startTime = System.nanoTime();
+    for (long i = 0; i < sIoCount; i++) {
+      long offset = ThreadLocalRandom.current().nextLong(numBlocks) * sBlockSize;
+      buffer.clear();
+      bytes += readFully(channel, buffer, offset);
+    }
+    recordRuntime(System.nanoTime() - startTime);
+    return bytes;
+  }
+
+  /**
+   * Fills a buffer with a positioned read.
+   *
+   * @param channel the file to read
+   * @param buffer the buffer to fill
+   * @param offset the offset to read at
+   * @return the number of bytes read
+   */
+  private static int readFully(FileChannel channel, ByteBuffer buffer, long offset)
+      throws IOException {
+    int total = 0;
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, offset + total);
+      if (read < 0) {
+        break;
+      }
+      total += read;
+    }
+    return total;
+  }
+
+  private static Path filename(int id) {
+    return sDir.resolve("alluxio_fuse_benchmark_" + id);
+  }
+}
@@ -14,6 +14,7 @@ package alluxio.fuse;
 import alluxio.AlluxioURI;
 import alluxio.Configuration;
 import alluxio.PropertyKey;
+import alluxio.client.file.FileInStream;
 import alluxio.client.file.FileSystem;
 import alluxio.client.file.URIStatus;
 import alluxio.client.file.options.SetAttributeOptions;
@@ -26,6 +27,7 @@ import alluxio.security.authorization.Mode;
 import alluxio.security.group.provider.ShellBasedUnixGroupsMapping;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -47,10 +49,14 @@ import ru.serce.jnrfuse.struct.Timespec;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -65,6 +71,9 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
   private static final int MAX_OPEN_FILES = Integer.MAX_VALUE;
   private static final long UID = AlluxioFuseUtils.getUid(System.getProperty("user.name"));
   private static final long GID = AlluxioFuseUtils.getGid(System.getProperty("user.name"));
+  // Buffers of the FUSE threads to stage data between Alluxio streams and FUSE memory, grown on
+  // demand so that reads and writes do not allocate a new array per call
+  private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[0]);
   private final boolean mIsShellGroupMapping;
 
   private final FileSystem mFileSystem;
@@ -75,10 +84,19 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
   private final Path mAlluxioRootPath;
   // Keeps a cache of the most recently translated paths from String to Alluxio URI
   private final LoadingCache<String, AlluxioURI> mPathResolverCache;
+  // Keeps the statuses of recently accessed FUSE paths, null if attribute caching is disabled
+  @Nullable
+  private final Cache<String, URIStatus> mStatusCache;
+  // Keeps the children of recently listed FUSE directories, null if entry caching is disabled
+  @Nullable
+  private final Cache<String, List<URIStatus>> mListingCache;
 
   // Table of open files with corresponding InputStreams and OutputStreams
   private final Map<Long, OpenFileEntry> mOpenFiles;
-  private long mNextOpenFileId;
+  private final AtomicLong mNextOpenFileId;
+  // Whether a read may use a positioned read while another read on the same file holds the
+  // stream. Positioned reads seek the shared stream when partially read blocks are cached.
+  private final boolean mConcurrentReadEnabled;
 
   /**
    * Creates a new instance of {@link AlluxioFuseFileSystem}.
@@ -90,8 +108,10 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     super();
     mFileSystem = fs;
     mAlluxioRootPath = Paths.get(opts.getAlluxioRoot());
-    mNextOpenFileId = 0L;
-    mOpenFiles = new HashMap<>();
+    mNextOpenFileId = new AtomicLong(0L);
+    mOpenFiles = new ConcurrentHashMap<>();
+    mConcurrentReadEnabled =
+        !Configuration.getBoolean(PropertyKey.USER_FILE_CACHE_PARTIALLY_READ_BLOCK);
 
     final int maxCachedPaths = Configuration.getInt(PropertyKey.FUSE_CACHED_PATHS_MAX);
     mIsShellGroupMapping = ShellBasedUnixGroupsMapping.class.getName()
@@ -99,6 +119,17 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     mPathResolverCache = CacheBuilder.newBuilder()
         .maximumSize(maxCachedPaths)
         .build(new PathCacheLoader());
+    final int maxCachedStatuses = Configuration.getInt(PropertyKey.FUSE_CACHED_STATUS_MAX);
+    final long attrTtlMs = Configuration.getMs(PropertyKey.FUSE_ATTR_CACHE_TTL);
+    final long entryTtlMs = Configuration.getMs(PropertyKey.FUSE_ENTRY_CACHE_TTL);
+    mStatusCache = maxCachedStatuses > 0 && attrTtlMs > 0
+        ? CacheBuilder.newBuilder().maximumSize(maxCachedStatuses)
+            .expireAfterWrite(attrTtlMs, TimeUnit.MILLISECONDS).<String, URIStatus>build()
+        : null;
+    mListingCache = maxCachedStatuses > 0 && entryTtlMs > 0
+        ? CacheBuilder.newBuilder().maximumSize(maxCachedStatuses)
+            .expireAfterWrite(entryTtlMs, TimeUnit.MILLISECONDS).<String, List<URIStatus>>build()
+        : null;
 
     Preconditions.checkArgument(mAlluxioRootPath.isAbsolute(),
         "alluxio root path should be absolute");
@@ -121,6 +152,8 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     } catch (IOException | AlluxioException e) {
       LOG.error("Exception on {} of changing mode to {}", path, mode, e);
       return -ErrorCodes.EIO();
+    } finally {
+      invalidateStatus(path);
     }
 
     return 0;
@@ -161,6 +194,8 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     } catch (IOException | AlluxioException e) {
       LOG.error("Exception on {}", path, e);
       return -ErrorCodes.EIO();
+    } finally {
+      invalidateStatus(path);
     }
     return 0;
   }
@@ -180,21 +215,19 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("create({}, {}) [Alluxio: {}]", path, Integer.toHexString(flags), uri);
 
     try {
-      synchronized (mOpenFiles) {
-        if (mOpenFiles.size() >= MAX_OPEN_FILES) {
-          LOG.error("Cannot open {}: too many open files (MAX_OPEN_FILES: {})", uri,
-              MAX_OPEN_FILES);
-          return -ErrorCodes.EMFILE();
-        }
-
-        final OpenFileEntry ofe = new OpenFileEntry(null, mFileSystem.createFile(uri));
-        LOG.debug("Alluxio OutStream created for {}", path);
-        mOpenFiles.put(mNextOpenFileId, ofe);
-        fi.fh.set(mNextOpenFileId);
-
-        // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
-        mNextOpenFileId += 1;
+      if (mOpenFiles.size() >= MAX_OPEN_FILES) {
+        LOG.error("Cannot open {}: too many open files (MAX_OPEN_FILES: {})", uri,
+            MAX_OPEN_FILES);
+        return -ErrorCodes.EMFILE();
       }
+
+      final OpenFileEntry ofe = new OpenFileEntry(null, mFileSystem.createFile(uri));
+      invalidateStatus(path);
+      LOG.debug("Alluxio OutStream created for {}", path);
+      // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
+      final long fd = mNextOpenFileId.getAndIncrement();
+      mOpenFiles.put(fd, ofe);
+      fi.fh.set(fd);
       LOG.debug("{} created and opened", path);
     } catch (FileAlreadyExistsException e) {
       LOG.debug("File {} already exists", uri, e);
@@ -226,20 +259,20 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
   public int flush(String path, FuseFileInfo fi) {
     LOG.trace("flush({})", path);
     final long fd = fi.fh.get();
-    OpenFileEntry oe;
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.get(fd);
-    }
+    OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
     }
     if (oe.getOut() != null) {
+      oe.getLock().lock();
       try {
         oe.getOut().flush();
       } catch (IOException e) {
         LOG.error("IOException on  {}", path, e);
         return -ErrorCodes.EIO();
+      } finally {
+        oe.getLock().unlock();
       }
     } else {
       LOG.debug("Not flushing: {} was not open for writing", path);
@@ -259,10 +292,7 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     final AlluxioURI turi = mPathResolverCache.getUnchecked(path);
     LOG.trace("getattr({}) [Alluxio: {}]", path, turi);
     try {
-      if (!mFileSystem.exists(turi)) {
-        return -ErrorCodes.ENOENT();
-      }
-      final URIStatus status = mFileSystem.getStatus(turi);
+      final URIStatus status = getStatus(path, turi);
       stat.st_size.set(status.getLength());
 
       final long ctime_sec = status.getLastModificationTimeMs() / 1000;
@@ -335,6 +365,7 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("mkdir({}) [Alluxio: {}]", path, turi);
     try {
       mFileSystem.createDirectory(turi);
+      invalidateStatus(path);
     } catch (FileAlreadyExistsException e) {
       LOG.debug("Cannot make dir. {} already exists", path, e);
       return -ErrorCodes.EEXIST();
@@ -383,18 +414,15 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
         return -ErrorCodes.EISDIR();
       }
 
-      synchronized (mOpenFiles) {
-        if (mOpenFiles.size() == MAX_OPEN_FILES) {
-          LOG.error("Cannot open {}: too many open files", uri);
-          return ErrorCodes.EMFILE();
-        }
-        final OpenFileEntry ofe = new OpenFileEntry(mFileSystem.openFile(uri), null);
-        mOpenFiles.put(mNextOpenFileId, ofe);
-        fi.fh.set(mNextOpenFileId);
-
-        // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
-        mNextOpenFileId += 1;
+      if (mOpenFiles.size() >= MAX_OPEN_FILES) {
+        LOG.error("Cannot open {}: too many open files", uri);
+        return -ErrorCodes.EMFILE();
       }
+      final OpenFileEntry ofe = new OpenFileEntry(mFileSystem.openFile(uri), null);
+      // Assuming I will never wrap around (2^64 open files are quite a lot anyway)
+      final long fd = mNextOpenFileId.getAndIncrement();
+      mOpenFiles.put(fd, ofe);
+      fi.fh.set(fd);
 
     } catch (FileDoesNotExistException e) {
       LOG.debug("File does not exist {}", path, e);
@@ -438,34 +466,50 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("read({}, {}, {})", path, size, offset);
     final int sz = (int) size;
     final long fd = fi.fh.get();
-    OpenFileEntry oe;
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.get(fd);
-    }
+    OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
     }
 
-    int rd = 0;
     int nread = 0;
-    if (oe.getIn() == null) {
+    final FileInStream in = oe.getIn();
+    if (in == null) {
       LOG.error("{} was not open for reading", path);
       return -ErrorCodes.EBADFD();
     }
     try {
-      oe.getIn().seek(offset);
-      final byte[] dest = new byte[sz];
-      while (rd >= 0 && nread < size) {
-        rd = oe.getIn().read(dest, nread, sz - nread);
-        if (rd >= 0) {
-          nread += rd;
+      final byte[] dest = getBuffer(sz);
+      final ReentrantLock lock = oe.getLock();
+      if (mConcurrentReadEnabled && !lock.tryLock()) {
+        // Another read is using the stream, so read at the offset without moving the stream
+        int rd = 0;
+        while (rd >= 0 && nread < sz) {
+          rd = in.positionedRead(offset + nread, dest, nread, sz - nread);
+          if (rd > 0) {
+            nread += rd;
+          }
+        }
+      } else {
+        if (!mConcurrentReadEnabled) {
+          lock.lock();
+        }
+        try {
+          // The stream stays where the read ends, so sequential reads do not need to seek
+          in.seek(offset);
+          int rd = 0;
+          while (rd >= 0 && nread < sz) {
+            rd = in.read(dest, nread, sz - nread);
+            if (rd > 0) {
+              nread += rd;
+            }
+          }
+        } finally {
+          lock.unlock();
         }
       }
 
-      if (nread == -1) { // EOF
-        nread = 0;
-      } else if (nread > 0) {
+      if (nread > 0) {
         buf.put(0, dest, 0, nread);
       }
     } catch (IOException e) {
@@ -496,14 +540,11 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("readdir({}) [Alluxio: {}]", path, turi);
 
     try {
-      if (!mFileSystem.exists(turi)) {
-        return -ErrorCodes.ENOENT();
-      }
-      final URIStatus status = mFileSystem.getStatus(turi);
+      final URIStatus status = getStatus(path, turi);
       if (!status.isFolder()) {
         return -ErrorCodes.ENOTDIR();
       }
-      final List<URIStatus> ls = mFileSystem.listStatus(turi);
+      final List<URIStatus> ls = listStatus(path, turi);
       // standard . and .. entries
       filter.apply(buff, ".", null, 0);
       filter.apply(buff, "..", null, 0);
@@ -546,19 +587,22 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
   public int release(String path, FuseFileInfo fi) {
     LOG.trace("release({})", path);
     final long fd = fi.fh.get();
-    OpenFileEntry oe;
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.remove(fd);
-      if (oe == null) {
-        LOG.error("Cannot find fd for {} in table", path);
-        return -ErrorCodes.EBADFD();
-      }
+    OpenFileEntry oe = mOpenFiles.remove(fd);
+    if (oe == null) {
+      LOG.error("Cannot find fd for {} in table", path);
+      return -ErrorCodes.EBADFD();
     }
 
+    oe.getLock().lock();
     try {
       oe.close();
     } catch (IOException e) {
       LOG.error("Failed closing {} [in]", path, e);
+    } finally {
+      oe.getLock().unlock();
+      if (oe.getOut() != null) {
+        invalidateStatus(path);
+      }
     }
 
     return 0;
@@ -587,6 +631,8 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
         return -ErrorCodes.EEXIST();
       }
       mFileSystem.rename(oldUri, newUri);
+      invalidateStatusRecursive(oldPath);
+      invalidateStatus(newPath);
     } catch (FileDoesNotExistException e) {
       LOG.debug("File {} does not exist", oldPath);
       return -ErrorCodes.ENOENT();
@@ -686,10 +732,7 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     LOG.trace("write({}, {}, {})", path, size, offset);
     final int sz = (int) size;
     final long fd = fi.fh.get();
-    OpenFileEntry oe;
-    synchronized (mOpenFiles) {
-      oe = mOpenFiles.get(fd);
-    }
+    OpenFileEntry oe = mOpenFiles.get(fd);
     if (oe == null) {
       LOG.error("Cannot find fd for {} in table", path);
       return -ErrorCodes.EBADFD();
@@ -701,19 +744,21 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
       return -ErrorCodes.EEXIST();
     }
 
-    if (offset < oe.getWriteOffset()) {
-      // no op
-      return sz;
-    }
-
+    oe.getLock().lock();
     try {
-      final byte[] dest = new byte[sz];
+      if (offset < oe.getWriteOffset()) {
+        // no op
+        return sz;
+      }
+      final byte[] dest = getBuffer(sz);
       buf.get(0, dest, 0, sz);
-      oe.getOut().write(dest);
+      oe.getOut().write(dest, 0, sz);
       oe.setWriteOffset(offset + size);
     } catch (IOException e) {
       LOG.error("IOException while writing to {}.", path, e);
       return -ErrorCodes.EIO();
+    } finally {
+      oe.getLock().unlock();
     }
 
     return sz;
@@ -742,6 +787,7 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
       }
 
       mFileSystem.delete(turi);
+      invalidateStatusRecursive(path);
     } catch (FileDoesNotExistException e) {
       LOG.debug("File does not exist {}", path, e);
       return -ErrorCodes.ENOENT();
@@ -762,6 +808,103 @@ final class AlluxioFuseFileSystem extends FuseStubFS {
     return 0;
   }
 
+  /**
+   * Gets the buffer of the calling thread, growing it if it is smaller than the given size.
+   *
+   * @param size the minimum size of the buffer
+   * @return the buffer of the calling thread
+   */
+  private static byte[] getBuffer(int size) {
+    byte[] buffer = BUFFERS.get();
+    if (buffer.length < size) {
+      buffer = new byte[size];
+      BUFFERS.set(buffer);
+    }
+    return buffer;
+  }
+
+  /**
+   * Gets the status of a path, from the attribute cache if it is cached.
+   *
+   * @param path the FUSE path
+   * @param uri the Alluxio URI of the path
+   * @return the status of the path
+   */
+  private URIStatus getStatus(String path, AlluxioURI uri) throws IOException, AlluxioException {
+    if (mStatusCache == null) {
+      return mFileSystem.getStatus(uri);
+    }
+    URIStatus status = mStatusCache.getIfPresent(path);
+    if (status == null) {
+      status = mFileSystem.getStatus(uri);
+      mStatusCache.put(path, status);
+    }
+    return status;
+  }
+
+  /**
+   * Lists the children of a directory, from the entry cache if it is cached. A listing from
+   * Alluxio also fills the attribute cache for every child, so that the getattr calls which
+   * usually follow a readdir do not go to the master.
+   *
+   * @param path the FUSE path of the directory
+   * @param uri the Alluxio URI of the directory
+   * @return the statuses of the children of the directory
+   */
+  private List<URIStatus> listStatus(String path, AlluxioURI uri)
+      throws IOException, AlluxioException {
+    List<URIStatus> children = mListingCache == null ? null : mListingCache.getIfPresent(path);
+    if (children != null) {
+      return children;
+    }
+    children = mFileSystem.listStatus(uri);
+    if (mListingCache != null) {
+      mListingCache.put(path, children);
+    }
+    if (mStatusCache != null) {
+      String prefix = path.endsWith("/") ? path : path + "/";
+      for (URIStatus child : children) {
+        mStatusCache.put(prefix + child.getName(), child);
+      }
+    }
+    return children;
+  }
+
+  /**
+   * Invalidates the cached status of a path, and the cached listing of its parent.
+   *
+   * @param path the FUSE path
+   */
+  private void invalidateStatus(String path) {
+    if (mStatusCache != null) {
+      mStatusCache.invalidate(path);
+    }
+    if (mListingCache != null) {
+      mListingCache.invalidate(path);
+      int index = path.lastIndexOf('/');
+      if (index >= 0) {
+        mListingCache.invalidate(index == 0 ? "/" : path.substring(0, index));
+      }
+    }
+  }
+
+  /**
+   * Invalidates the cached status of a path and of everything under it, and the cached listing
+   * of its parent.
+   *
+   * @param path the FUSE path
+   */
+  private void invalidateStatusRecursive(String path) {
+    invalidateStatus(path);
+    String prefix = path.endsWith("/") ? path : path + "/";
+    if (mStatusCache != null) {
+      mStatusCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+    if (mListingCache != null) {
+      mListingCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+  }
+
   /**
    * Exposed for testing.
    */
@@ -16,6 +16,7 @@ import alluxio.client.file.FileOutStream;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -28,6 +29,9 @@ import javax.annotation.concurrent.NotThreadSafe;
  *
  * This mechanism is preferred over more complex sub-classing to avoid useless casts or type checks
  * for every read/write call, which happen quite often.
+ *
+ * FUSE may serve several requests on the same open file concurrently. Any use of the position of
+ * the streams or of the write offset must hold the lock returned by {@link #getLock()}.
  */
 @NotThreadSafe
 final class OpenFileEntry implements Closeable {
@@ -35,11 +39,14 @@ final class OpenFileEntry implements Closeable {
   private final FileOutStream mOut;
   /** the next write offset.  */
   private long mOffset;
+  /** guards the position of the streams and the write offset. */
+  private final ReentrantLock mLock;
 
   public OpenFileEntry(FileInStream in, FileOutStream out) {
     mIn = in;
     mOut = out;
     mOffset = -1;
+    mLock = new ReentrantLock();
   }
 
   /**
@@ -62,6 +69,13 @@ final class OpenFileEntry implements Closeable {
     return mOut;
   }
 
+  /**
+   * @return the lock guarding the position of the streams and the write offset
+   */
+  public ReentrantLock getLock() {
+    return mLock;
+  }
+
   /**
    * @return the offset of the next write
    */
@@ -17,6 +17,8 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,15 +42,19 @@ import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import ru.serce.jnrfuse.ErrorCodes;
+import ru.serce.jnrfuse.FuseFillDir;
 import ru.serce.jnrfuse.struct.FileStat;
 import ru.serce.jnrfuse.struct.FuseFileInfo;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * Isolation tests for {@link AlluxioFuseFileSystem}.
@@ -156,6 +162,53 @@ public class AlluxioFuseFileSystemTest {
     assertEquals(123 | FileStat.S_IFDIR, stat.st_mode.intValue());
   }
 
+  @Test
+  public void getattrCached() throws Exception {
+    AlluxioURI expectedPath = BASE_EXPECTED_URI.join("/foo");
+    FileInfo info = new FileInfo();
+    info.setLength(10);
+    when(mFileSystem.getStatus(expectedPath)).thenReturn(new URIStatus(info));
+
+    FileStat stat = new FileStat(Runtime.getSystemRuntime());
+    assertEquals(0, mFuseFs.getattr("/foo", stat));
+    assertEquals(0, mFuseFs.getattr("/foo", stat));
+    verify(mFileSystem, Mockito.times(1)).getStatus(expectedPath);
+
+    // a local change invalidates the cached attributes
+    mFuseFs.chmod("/foo", 123);
+    assertEquals(0, mFuseFs.getattr("/foo", stat));
+    verify(mFileSystem, Mockito.times(2)).getStatus(expectedPath);
+  }
+
+  @Test
+  public void readdirFillsAttributeCache() throws Exception {
+    AlluxioURI dirPath = BASE_EXPECTED_URI.join("/dir");
+    FileInfo dirInfo = new FileInfo();
+    dirInfo.setFolder(true);
+    FileInfo childInfo = new FileInfo();
+    childInfo.setName("child");
+    childInfo.setLength(4);
+    when(mFileSystem.getStatus(dirPath)).thenReturn(new URIStatus(dirInfo));
+    when(mFileSystem.listStatus(dirPath))
+        .thenReturn(Collections.singletonList(new URIStatus(childInfo)));
+
+    FuseFillDir filler = mock(FuseFillDir.class);
+    assertEquals(0, mFuseFs.readdir("/dir", null, filler, 0, mFileInfo));
+    assertEquals(0, mFuseFs.readdir("/dir", null, filler, 0, mFileInfo));
+    verify(mFileSystem, Mockito.times(1)).listStatus(dirPath);
+    verify(filler, Mockito.times(2)).apply(null, "child", null, 0);
+
+    FileStat stat = new FileStat(Runtime.getSystemRuntime());
+    assertEquals(0, mFuseFs.getattr("/dir/child", stat));
+    assertEquals(4, stat.st_size.longValue());
+    verify(mFileSystem, Mockito.never()).getStatus(BASE_EXPECTED_URI.join("/dir/child"));
+
+    // creating an entry in the directory invalidates its cached listing
+    mFuseFs.mkdir("/dir/sub", -1);
+    assertEquals(0, mFuseFs.readdir("/dir", null, filler, 0, mFileInfo));
+    verify(mFileSystem, Mockito.times(2)).listStatus(dirPath);
+  }
+
   @Test
   public void mkDir() throws Exception {
     mFuseFs.mkdir("/foo/bar", -1);
@@ -220,6 +273,53 @@ public class AlluxioFuseFileSystemTest {
     assertArrayEquals("Source and dst data should be equal", expected, dst);
   }
 
+  @Test
+  public void readConcurrently() throws Exception {
+    AlluxioURI expectedPath = BASE_EXPECTED_URI.join("/foo/bar");
+    FileInfo fi = new FileInfo();
+    fi.setFolder(false);
+    when(mFileSystem.getStatus(expectedPath)).thenReturn(new URIStatus(fi));
+    when(mFileSystem.exists(expectedPath)).thenReturn(true);
+
+    // the first read blocks while holding the stream
+    final CountDownLatch reading = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    FileInStream fakeInStream = mock(FileInStream.class);
+    when(fakeInStream.read(any(byte[].class), anyInt(), anyInt())).then(new Answer<Integer>() {
+      @Override
+      public Integer answer(InvocationOnMock invocationOnMock) throws Throwable {
+        reading.countDown();
+        release.await();
+        return 4;
+      }
+    });
+    when(fakeInStream.positionedRead(anyLong(), any(byte[].class), anyInt(), anyInt()))
+        .thenReturn(4);
+    when(mFileSystem.openFile(expectedPath)).thenReturn(fakeInStream);
+    mFileInfo.flags.set(O_RDONLY.intValue());
+    mFuseFs.open("/foo/bar", mFileInfo);
+
+    Runtime r = Runtime.getSystemRuntime();
+    final Pointer first = r.getMemoryManager().allocateTemporary(4, true);
+    Thread reader = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        mFuseFs.read("/foo/bar", first, 4, 0, mFileInfo);
+      }
+    });
+    reader.start();
+    reading.await();
+
+    // the second read does not wait for the stream and reads at its own offset
+    Pointer second = r.getMemoryManager().allocateTemporary(4, true);
+    assertEquals(4, mFuseFs.read("/foo/bar", second, 4, 8, mFileInfo));
+    verify(fakeInStream).positionedRead(eq(8L), any(byte[].class), eq(0), eq(4));
+    verify(fakeInStream, Mockito.never()).seek(8L);
+
+    release.countDown();
+    reader.join();
+  }
+
   @Test
   public void rename() throws Exception {
     AlluxioURI oldPath = BASE_EXPECTED_URI.join("/old");
@@ -263,12 +363,14 @@ public class AlluxioFuseFileSystemTest {
     byte[] expected = {42, -128, 1, 3};
     ptr.put(0, expected, 0, 4);
 
+    ArgumentCaptor<byte[]> written = ArgumentCaptor.forClass(byte[].class);
     mFuseFs.write("/foo/bar", ptr, 4, 0, mFileInfo);
-    verify(fos).write(expected);
+    verify(fos).write(written.capture(), eq(0), eq(4));
+    assertArrayEquals(expected, Arrays.copyOf(written.getValue(), 4));
 
     // the second write is no-op because the writes must be sequential and overwriting is supported
     mFuseFs.write("/foo/bar", ptr, 4, 0, mFileInfo);
-    verify(fos, Mockito.times(1)).write(expected);
+    verify(fos, Mockito.times(1)).write(any(byte[].class), anyInt(), anyInt());
   }
 
   @Test
@@ -15,11 +15,11 @@ import alluxio.Configuration;
 import alluxio.Constants;
 import alluxio.PropertyKey;
 import alluxio.client.AbstractOutStream;
-import alluxio.util.io.ByteIOUtils;
 
 import com.google.common.base.Preconditions;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -30,9 +30,11 @@ import javax.annotation.concurrent.NotThreadSafe;
  * A partition file consists of:
  * <ul>
  *   <li>A payload buffer which is an array of (key,value) pairs;</li>
+ *   <li>An optional Bloom filter over the keys, see {@link BloomFilter};</li>
  *   <li>A index which is a hash table maps each key to the offset in bytes into the payload
  *   buffer;</li>
- *   <li>A 4-bytes pointer in the end indicating the offset of the index.</li>
+ *   <li>A footer in the end indicating the offset of the index, and the type of the index and
+ *   the location of the Bloom filter if needed, see {@link PartitionFooter}.</li>
  * </ul>
  *
  */
@@ -42,8 +44,14 @@ final class BaseKeyValuePartitionWriter implements KeyValuePartitionWriter {
   private final AbstractOutStream mFileOutStream;
   /** Number of key-value pairs added. */
   private int mKeyCount = 0;
+  /** Type of the key-value index. */
+  private final IndexType mIndexType;
   /** Key-value index. */
   private Index mIndex;
+  /** Number of bits per key of the Bloom filter, 0 if no filter is written. */
+  private final int mBloomFilterBitsPerKey;
+  /** Hashes of the keys added for the Bloom filter, or null if no filter is written. */
+  private long[] mKeyHashes;
   /** Key-value payload. */
   private PayloadWriter mPayloadWriter;
   /** Whether this writer is closed. */
@@ -63,7 +71,13 @@ final class BaseKeyValuePartitionWriter implements KeyValuePartitionWriter {
     // TODO(binfan): write a header in the file
 
     mPayloadWriter = new BasePayloadWriter(mFileOutStream);
-    mIndex = LinearProbingIndex.createEmptyIndex();
+    mIndexType =
+        Configuration.getEnum(PropertyKey.KEY_VALUE_PARTITION_INDEX_TYPE, IndexType.class);
+    mIndex = mIndexType == IndexType.CUCKOO ? CuckooIndex.createEmptyIndex()
+        : LinearProbingIndex.createEmptyIndex();
+    mBloomFilterBitsPerKey =
+        Configuration.getInt(PropertyKey.KEY_VALUE_PARTITION_BLOOM_FILTER_BITS_PER_KEY);
+    mKeyHashes = mBloomFilterBitsPerKey > 0 ? new long[16] : null;
     mClosed = false;
     mCanceled = false;
     mMaxSizeBytes = Configuration.getBytes(PropertyKey.KEY_VALUE_PARTITION_SIZE_BYTES_MAX);
@@ -97,6 +111,12 @@ final class BaseKeyValuePartitionWriter implements KeyValuePartitionWriter {
     Preconditions.checkArgument(value.length > 0, "Cannot put an empty value");
     Preconditions.checkState(!mClosed);
     mIndex.put(key, value, mPayloadWriter);
+    if (mKeyHashes != null) {
+      if (mKeyCount == mKeyHashes.length) {
+        mKeyHashes = Arrays.copyOf(mKeyHashes, mKeyCount * 2);
+      }
+      mKeyHashes[mKeyCount] = BloomFilter.hash(key);
+    }
     mKeyCount++;
   }
 
@@ -121,15 +141,34 @@ final class BaseKeyValuePartitionWriter implements KeyValuePartitionWriter {
    */
   public long byteCount() {
     Preconditions.checkState(!mClosed);
-    // last pointer to index
-    return mFileOutStream.getBytesWritten() + mIndex.byteCount() + Integer.SIZE / Byte.SIZE;
+    long bytes = mFileOutStream.getBytesWritten() + mIndex.byteCount();
+    if (mIndexType == IndexType.LINEAR_PROBING && mKeyHashes == null) {
+      // last pointer to index
+      return bytes + PartitionFooter.LINEAR_PROBING_SIZE_BYTES;
+    }
+    if (mKeyHashes != null) {
+      bytes += BloomFilter.expectedByteCount(mKeyCount, mBloomFilterBitsPerKey);
+    }
+    return bytes + PartitionFooter.SIZE_BYTES;
   }
 
   private void build() throws IOException {
     Preconditions.checkState(!mClosed);
     mFileOutStream.flush();
+    int bloomFilterOffset = mFileOutStream.getBytesWritten();
+    int bloomFilterLength = 0;
+    if (mKeyHashes != null) {
+      BloomFilter bloomFilter = BloomFilter.createEmptyFilter(mKeyCount, mBloomFilterBitsPerKey);
+      for (int i = 0; i < mKeyCount; i++) {
+        bloomFilter.put(mKeyHashes[i]);
+      }
+      bloomFilterLength = bloomFilter.byteCount();
+      mFileOutStream.write(bloomFilter.getBytes());
+    }
     int indexOffset = mFileOutStream.getBytesWritten();
-    mFileOutStream.write(mIndex.getBytes());
-    ByteIOUtils.writeInt(mFileOutStream, indexOffset);
+    byte[] index = mIndex.getBytes();
+    mFileOutStream.write(index);
+    new PartitionFooter(mIndexType, indexOffset, index.length, bloomFilterOffset,
+        bloomFilterLength).write(mFileOutStream);
   }
 }
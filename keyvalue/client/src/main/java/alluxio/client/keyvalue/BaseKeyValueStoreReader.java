@@ -12,18 +12,54 @@
 package alluxio.client.keyvalue;
 
 import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.Constants;
+import alluxio.PropertyKey;
+import alluxio.client.ReadType;
+import alluxio.client.block.AlluxioBlockStore;
+import alluxio.client.block.stream.BlockInStream;
+import alluxio.client.block.stream.LocalFilePacketReader;
+import alluxio.client.block.stream.PacketReader;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.file.options.InStreamOptions;
 import alluxio.exception.AlluxioException;
+import alluxio.exception.ExceptionMessage;
+import alluxio.exception.status.CanceledException;
+import alluxio.exception.status.NotFoundException;
+import alluxio.exception.status.UnavailableException;
 import alluxio.master.MasterClientConfig;
+import alluxio.network.TieredIdentityFactory;
+import alluxio.network.protocol.databuffer.DataBuffer;
 import alluxio.thrift.PartitionInfo;
+import alluxio.util.ThreadFactoryUtils;
 import alluxio.util.io.BufferUtils;
+import alluxio.util.network.NettyUtils;
+import alluxio.wire.BlockInfo;
+import alluxio.wire.BlockLocation;
+import alluxio.wire.TieredIdentity;
+import alluxio.wire.WorkerNetAddress;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.annotation.Nullable;
@@ -35,10 +71,32 @@ import javax.annotation.Nullable;
 class BaseKeyValueStoreReader implements KeyValueStoreReader {
   private static final Logger LOG = LoggerFactory.getLogger(BaseKeyValueStoreReader.class);
 
+  /** The executor to send the batches of keys to the workers in parallel. */
+  private static final ExecutorService MULTI_GET_EXECUTOR = Executors.newCachedThreadPool(
+      ThreadFactoryUtils.build("keyvalue-multiget-%d", true));
+
   private final KeyValueMasterClient mMasterClient;
 
-  /** A list of partitions of the store. */
+  /** A list of partitions of the store, ordered by their first key. */
   private final List<PartitionInfo> mPartitions;
+  /**
+   * The greatest last key of the partitions up to each partition, to find all the partitions
+   * containing a key when the partitions of the store overlap.
+   */
+  private final ByteBuffer[] mMaxKeyLimits;
+
+  /** The block info of the partitions, used to route the lookups to the workers. */
+  private final Map<Long, BlockInfo> mBlockInfos = new HashMap<>();
+  private final AlluxioBlockStore mBlockStore = AlluxioBlockStore.create();
+  private final TieredIdentity mTieredIdentity = TieredIdentityFactory.localIdentity();
+  /** Whether the partitions stored by the local worker are read directly from the block files. */
+  private final boolean mShortCircuitEnabled =
+      Configuration.getBoolean(PropertyKey.USER_SHORT_CIRCUIT_ENABLED);
+  /** Whether the Bloom filters of the partitions are consulted before looking up keys. */
+  private final boolean mBloomFilterEnabled =
+      Configuration.getInt(PropertyKey.KEY_VALUE_PARTITION_BLOOM_FILTER_BITS_PER_KEY) > 0;
+  /** The Bloom filters of the partitions, with null for the partitions without a filter. */
+  private final Map<Long, BloomFilter> mBloomFilters = new HashMap<>();
 
   /**
    * Constructs a {@link BaseKeyValueStoreReader} instance.
@@ -49,8 +107,16 @@ class BaseKeyValueStoreReader implements KeyValueStoreReader {
     // TODO(binfan): use a thread pool to manage the client.
     LOG.info("Create KeyValueStoreReader for {}", uri);
     mMasterClient = new KeyValueMasterClient(MasterClientConfig.defaults());
-    mPartitions = mMasterClient.getPartitionInfo(uri);
+    mPartitions = new ArrayList<>(mMasterClient.getPartitionInfo(uri));
     mMasterClient.close();
+    // Merged stores may have partitions in any order, and with overlapping key ranges
+    Collections.sort(mPartitions, KeyValueStoreIterator.KEY_START_COMPARATOR);
+    mMaxKeyLimits = new ByteBuffer[mPartitions.size()];
+    for (int i = 0; i < mPartitions.size(); i++) {
+      ByteBuffer keyLimit = mPartitions.get(i).bufferForKeyLimit();
+      mMaxKeyLimits[i] = i > 0 && mMaxKeyLimits[i - 1].compareTo(keyLimit) > 0
+          ? mMaxKeyLimits[i - 1] : keyLimit;
+    }
   }
 
   @Override
@@ -71,25 +137,319 @@ class BaseKeyValueStoreReader implements KeyValueStoreReader {
   @Nullable
   public ByteBuffer get(ByteBuffer key) throws IOException, AlluxioException {
     Preconditions.checkNotNull(key, "key");
+    // The key is either in one of these partitions or not in the key-value store
+    for (PartitionInfo partition : findPartitions(key)) {
+      if (!mightContain(partition, key)) {
+        continue;
+      }
+      long blockId = partition.getBlockId();
+      try (KeyValuePartitionReader reader = KeyValuePartitionReader.Factory.create(blockId)) {
+        ByteBuffer value = reader.get(key);
+        if (value != null) {
+          return value;
+        }
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public List<ByteBuffer> multiGet(List<ByteBuffer> keys) throws IOException, AlluxioException {
+    Preconditions.checkNotNull(keys, "keys");
+    final ByteBuffer[] values = new ByteBuffer[keys.size()];
+    // Groups the positions of the keys by the block storing their partition
+    Map<Long, List<Integer>> keysByBlock = new HashMap<>();
+    // The positions of the keys which may be in several overlapping partitions
+    List<Integer> keysInOverlaps = new ArrayList<>();
+    for (int i = 0; i < keys.size(); i++) {
+      ByteBuffer key = Preconditions.checkNotNull(keys.get(i), "key");
+      List<PartitionInfo> partitions = findPartitions(key);
+      if (partitions.size() > 1) {
+        keysInOverlaps.add(i);
+        continue;
+      }
+      PartitionInfo partition = partitions.isEmpty() ? null : partitions.get(0);
+      if (partition != null && mightContain(partition, key)) {
+        List<Integer> positions = keysByBlock.get(partition.getBlockId());
+        if (positions == null) {
+          positions = new ArrayList<>();
+          keysByBlock.put(partition.getBlockId(), positions);
+        }
+        positions.add(i);
+      }
+    }
+
+    Set<Long> staleBlocks = getFromWorkers(keysByBlock, keys, values, true);
+    if (!staleBlocks.isEmpty()) {
+      // The partitions were evicted or moved since their locations were fetched
+      Map<Long, List<Integer>> keysByStaleBlock = new HashMap<>();
+      for (long blockId : staleBlocks) {
+        mBlockInfos.remove(blockId);
+        keysByStaleBlock.put(blockId, keysByBlock.get(blockId));
+      }
+      getFromWorkers(keysByStaleBlock, keys, values, false);
+    }
+    for (int position : keysInOverlaps) {
+      values[position] = get(keys.get(position));
+    }
+    return Arrays.asList(values);
+  }
+
+  /**
+   * Looks up keys in their partitions. The partitions stored by the local worker are read
+   * directly, and the keys of the other partitions are sent in one batch to each worker.
+   *
+   * @param keysByBlock the positions of the keys to look up, grouped by the block of their
+   *        partition
+   * @param keys all the keys
+   * @param values the values to fill at the positions of the keys
+   * @param allowStale whether to return the blocks whose worker did not serve them, instead of
+   *        failing
+   * @return the ids of the blocks which were not found on their cached worker, or whose worker
+   *         was unavailable
+   */
+  private Set<Long> getFromWorkers(Map<Long, List<Integer>> keysByBlock,
+      final List<ByteBuffer> keys, final ByteBuffer[] values, boolean allowStale)
+      throws IOException, AlluxioException {
+    // Reads the partitions stored by the local worker directly, and groups the others by worker
+    Map<WorkerNetAddress, List<Long>> blocksByWorker = new HashMap<>();
+    for (Map.Entry<Long, List<Integer>> entry : keysByBlock.entrySet()) {
+      BlockInfo blockInfo = getBlockInfo(entry.getKey());
+      WorkerNetAddress address = getWorker(blockInfo);
+      if (mShortCircuitEnabled && isLocal(address)
+          && getLocal(address, blockInfo, entry.getValue(), keys, values)) {
+        continue;
+      }
+      List<Long> blockIds = blocksByWorker.get(address);
+      if (blockIds == null) {
+        blockIds = new ArrayList<>();
+        blocksByWorker.put(address, blockIds);
+      }
+      blockIds.add(entry.getKey());
+    }
+
+    // Sends one batch to each worker in parallel
+    List<Future<Void>> futures = new ArrayList<>(blocksByWorker.size());
+    for (Map.Entry<WorkerNetAddress, List<Long>> entry : blocksByWorker.entrySet()) {
+      final WorkerNetAddress address = entry.getKey();
+      final List<Long> blockIds = new ArrayList<>();
+      final List<ByteBuffer> batch = new ArrayList<>();
+      final List<Integer> positions = new ArrayList<>();
+      for (long blockId : entry.getValue()) {
+        for (int position : keysByBlock.get(blockId)) {
+          blockIds.add(blockId);
+          batch.add(keys.get(position));
+          positions.add(position);
+        }
+      }
+      futures.add(MULTI_GET_EXECUTOR.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          KeyValueWorkerClient client = new KeyValueWorkerClient(address);
+          try {
+            List<ByteBuffer> result = client.multiGet(blockIds, batch);
+            for (int i = 0; i < positions.size(); i++) {
+              ByteBuffer value = result.get(i);
+              values[positions.get(i)] = value.remaining() == 0 ? null : value;
+            }
+          } finally {
+            client.close();
+          }
+          return null;
+        }
+      }));
+    }
+    Set<Long> staleBlocks = new HashSet<>();
+    try {
+      Iterator<List<Long>> batchBlockIds = blocksByWorker.values().iterator();
+      for (Future<Void> future : futures) {
+        List<Long> blockIds = batchBlockIds.next();
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          Throwable cause = e.getCause();
+          if (allowStale
+              && (cause instanceof NotFoundException || cause instanceof UnavailableException)) {
+            staleBlocks.addAll(blockIds);
+            continue;
+          }
+          Throwables.propagateIfPossible(cause, IOException.class, AlluxioException.class);
+          throw new RuntimeException(cause);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CanceledException(e);
+    } finally {
+      for (Future<Void> future : futures) {
+        future.cancel(true);
+      }
+    }
+    return staleBlocks;
+  }
+
+  /**
+   * Finds the partitions which may contain the given key, with a binary search over the
+   * partitions ordered by their first key.
+   *
+   * @param key the key
+   * @return the partitions whose key range contains the key, the one with the greatest first key
+   *         first, empty if there is no such partition
+   */
+  private List<PartitionInfo> findPartitions(ByteBuffer key) {
+    // Finds the number of partitions whose first key is no greater than the key
     int left = 0;
     int right = mPartitions.size();
     while (left < right) {
       int middle = (right + left) / 2;
-      PartitionInfo partition = mPartitions.get(middle);
-      // NOTE: keyStart and keyLimit are both inclusive
-      if (key.compareTo(partition.bufferForKeyStart()) < 0) {
+      if (key.compareTo(mPartitions.get(middle).bufferForKeyStart()) < 0) {
         right = middle;
-      } else if (key.compareTo(partition.bufferForKeyLimit()) > 0) {
-        left = middle + 1;
       } else {
-        // The key is either in this partition or not in the key-value store
-        long blockId = partition.getBlockId();
-        try (KeyValuePartitionReader reader = KeyValuePartitionReader.Factory.create(blockId)) {
-          return reader.get(key);
-        }
+        left = middle + 1;
       }
     }
-    return null;
+    // NOTE: keyStart and keyLimit are both inclusive
+    List<PartitionInfo> partitions = new ArrayList<>(1);
+    for (int i = left - 1; i >= 0 && key.compareTo(mMaxKeyLimits[i]) <= 0; i--) {
+      if (key.compareTo(mPartitions.get(i).bufferForKeyLimit()) <= 0) {
+        partitions.add(mPartitions.get(i));
+      }
+    }
+    return partitions;
+  }
+
+  /**
+   * Checks the Bloom filter of a partition, loading it the first time the partition is accessed.
+   *
+   * @param partition the partition
+   * @param key the key
+   * @return false if the key is definitely not in the partition, true if it might be
+   */
+  private boolean mightContain(PartitionInfo partition, ByteBuffer key) throws IOException {
+    if (!mBloomFilterEnabled) {
+      return true;
+    }
+    long blockId = partition.getBlockId();
+    if (!mBloomFilters.containsKey(blockId)) {
+      mBloomFilters.put(blockId, loadBloomFilter(blockId));
+    }
+    BloomFilter bloomFilter = mBloomFilters.get(blockId);
+    return bloomFilter == null || bloomFilter.mightContain(key);
+  }
+
+  /**
+   * Reads the Bloom filter of a partition from the footer of its block.
+   *
+   * @param blockId the id of the block of the partition
+   * @return the Bloom filter, or null if the partition has no filter or it cannot be read
+   */
+  @Nullable
+  private BloomFilter loadBloomFilter(long blockId) throws IOException {
+    long length = getBlockInfo(blockId).getLength();
+    try (BlockInStream in = mBlockStore.getInStream(blockId, null,
+        InStreamOptions.defaults().setReadType(ReadType.NO_CACHE))) {
+      PartitionFooter footer = PartitionFooter.read(in, length);
+      if (!footer.hasBloomFilter()) {
+        return null;
+      }
+      byte[] bloomFilter = new byte[footer.getBloomFilterLength()];
+      PartitionFooter.readFully(in, footer.getBloomFilterOffset(), bloomFilter);
+      return BloomFilter.loadFromByteArray(ByteBuffer.wrap(bloomFilter));
+    } catch (IOException | IllegalArgumentException e) {
+      LOG.warn("Failed to read the Bloom filter of partition {}: {}", blockId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * @param blockId the id of the block of a partition
+   * @return the block info of the block, cached until the block is not found on its worker
+   */
+  private BlockInfo getBlockInfo(long blockId) throws IOException {
+    BlockInfo blockInfo = mBlockInfos.get(blockId);
+    if (blockInfo == null) {
+      blockInfo = mBlockStore.getInfo(blockId);
+      mBlockInfos.put(blockId, blockInfo);
+    }
+    return blockInfo;
+  }
+
+  /**
+   * @param blockInfo the block info of a partition
+   * @return the worker to read the partition from, preferring the local worker
+   */
+  private WorkerNetAddress getWorker(BlockInfo blockInfo) throws IOException {
+    if (blockInfo.getLocations().isEmpty()) {
+      throw new NotFoundException(
+          ExceptionMessage.NO_BLOCK_ID_FOUND.getMessage(blockInfo.getBlockId()));
+    }
+    for (BlockLocation location : blockInfo.getLocations()) {
+      if (isLocal(location.getWorkerAddress())) {
+        return location.getWorkerAddress();
+      }
+    }
+    return blockInfo.getLocations().get(0).getWorkerAddress();
+  }
+
+  /**
+   * @param address the address of a worker
+   * @return whether the worker runs on the same node as this client
+   */
+  private boolean isLocal(WorkerNetAddress address) {
+    return address.getTieredIdentity() != null
+        && mTieredIdentity.getTier(0).getTierName().equals(Constants.LOCALITY_NODE)
+        && mTieredIdentity.topTiersMatch(address.getTieredIdentity())
+        && !NettyUtils.isDomainSocketSupported(address);
+  }
+
+  /**
+   * Looks up keys in a partition stored by the local worker, by memory-mapping the block file.
+   *
+   * @param address the address of the local worker
+   * @param blockInfo the block info of the partition
+   * @param positions the positions of the keys to look up
+   * @param keys all the keys
+   * @param values the values to fill at the positions of the keys
+   * @return whether the keys have been looked up, false if the block could not be read locally
+   */
+  private boolean getLocal(WorkerNetAddress address, BlockInfo blockInfo,
+      List<Integer> positions, List<ByteBuffer> keys, ByteBuffer[] values) {
+    long length = blockInfo.getLength();
+    if (length <= 0 || length > Integer.MAX_VALUE) {
+      // The block cannot be mapped as a single buffer
+      return false;
+    }
+    // The packet size is the length of the block, so that the whole block is mapped at once
+    // instead of the first alluxio.user.local.reader.packet.size.bytes of it
+    try (PacketReader.Factory factory = new LocalFilePacketReader.Factory(
+        FileSystemContext.INSTANCE, address, blockInfo.getBlockId(), length,
+        InStreamOptions.defaults().setReadType(ReadType.CACHE));
+        PacketReader packetReader = factory.create(0, length)) {
+      DataBuffer packet = packetReader.readPacket();
+      if (packet == null || packet.getLength() != length) {
+        LOG.warn("Failed to map partition {} locally, falling back to the worker",
+            blockInfo.getBlockId());
+        return false;
+      }
+      ByteBufferKeyValuePartitionReader reader =
+          new ByteBufferKeyValuePartitionReader(packet.getReadOnlyByteBuffer());
+      ByteBuffer[] localValues = new ByteBuffer[positions.size()];
+      for (int i = 0; i < positions.size(); i++) {
+        ByteBuffer value = reader.get(keys.get(positions.get(i)));
+        // Copies the value since the block is unlocked once the lookups are done
+        localValues[i] = value == null ? null : BufferUtils.cloneByteBuffer(value);
+      }
+      for (int i = 0; i < positions.size(); i++) {
+        values[positions.get(i)] = localValues[i];
+      }
+      return true;
+    } catch (IOException | RuntimeException e) {
+      // Any failure, including a block which does not parse as a partition, is retried through
+      // the worker
+      LOG.warn("Failed to read partition {} locally, falling back to the worker: {}",
+          blockInfo.getBlockId(), e.toString());
+      return false;
+    }
   }
 
   @Override
@@ -97,6 +457,12 @@ class BaseKeyValueStoreReader implements KeyValueStoreReader {
     return new KeyValueStoreIterator(mPartitions);
   }
 
+  @Override
+  public KeyValueIterator iterator(ByteBuffer startKey, ByteBuffer endKey)
+      throws IOException, AlluxioException {
+    return new KeyValueStoreIterator(mPartitions, startKey, endKey);
+  }
+
   @Override
   public int size() throws IOException, AlluxioException {
     int totalSize = 0;
@@ -12,6 +12,8 @@
 package alluxio.client.keyvalue;
 
 import alluxio.AlluxioURI;
+import alluxio.Configuration;
+import alluxio.PropertyKey;
 import alluxio.annotation.PublicApi;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.FileDoesNotExistException;
@@ -21,10 +23,12 @@ import alluxio.exception.status.AlluxioStatusException;
 import alluxio.exception.status.NotFoundException;
 import alluxio.exception.status.UnavailableException;
 import alluxio.master.MasterClientConfig;
+import alluxio.thrift.PartitionInfo;
 
 import com.google.common.base.Preconditions;
 
 import java.io.IOException;
+import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -105,4 +109,22 @@ public final class BaseKeyValueSystem implements KeyValueSystem {
       throw e.toAlluxioException();
     }
   }
+
+  @Override
+  public void compactStore(AlluxioURI fromUri, AlluxioURI toUri)
+      throws IOException, AlluxioException {
+    Preconditions.checkNotNull(fromUri, PreconditionMessage.URI_KEY_VALUE_STORE_NULL);
+    Preconditions.checkNotNull(toUri, PreconditionMessage.URI_KEY_VALUE_STORE_NULL);
+    List<PartitionInfo> partitions;
+    try {
+      partitions = mMasterClient.getPartitionInfo(fromUri);
+    } catch (UnavailableException e) {
+      throw new IOException(e);
+    } catch (AlluxioStatusException e) {
+      throw e.toAlluxioException();
+    }
+    new KeyValueStoreCompactor(this,
+        Configuration.getInt(PropertyKey.KEY_VALUE_COMPACTION_THREADS))
+        .compact(partitions, toUri);
+  }
 }
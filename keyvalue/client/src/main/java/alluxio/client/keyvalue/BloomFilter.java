@@ -0,0 +1,178 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.Constants;
+import alluxio.util.io.BufferUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Bloom filter over the keys of a key-value partition. It answers whether a key may be in the
+ * partition without reading its index or payload, so that lookups of absent keys can be skipped.
+ * <p>
+ * The bits are probed with double hashing over a 64-bit hash of the key, see {@link #hash}. The
+ * byte array of the filter looks like:
+ * | number of hash functions (int) | number of bits (int) | bits (long array) |
+ */
+@NotThreadSafe
+public final class BloomFilter {
+  private static final int HASHER_SEED = 0x5bd1;
+  /** Hash function to calculate the hash of a key. */
+  private static final HashFunction HASHER = Hashing.murmur3_128(HASHER_SEED);
+  /** Size of the header, which stores the number of hash functions and bits. */
+  private static final int HEADER_SIZE_BYTES = 2 * Constants.BYTES_IN_INTEGER;
+  /** The maximum number of hash functions. */
+  private static final int MAX_HASHES = 30;
+
+  /** Buffer storing the header and the bits. */
+  private final ByteBuffer mBuf;
+  private final int mNumHashes;
+  private final int mNumBits;
+
+  /**
+   * Creates an empty Bloom filter sized for the given number of keys.
+   *
+   * @param keyCount the number of keys which will be added to the filter
+   * @param bitsPerKey the number of bits per key, about 10 gives a 1% false positive rate
+   * @return an instance of Bloom filter, with no key added
+   */
+  public static BloomFilter createEmptyFilter(int keyCount, int bitsPerKey) {
+    Preconditions.checkArgument(bitsPerKey > 0, "bitsPerKey must be positive");
+    int numBits = (expectedByteCount(keyCount, bitsPerKey) - HEADER_SIZE_BYTES) * Byte.SIZE;
+    // k = ln(2) * m / n minimizes the false positive rate
+    int numHashes = (int) Math.round(bitsPerKey * Math.log(2));
+    numHashes = Math.max(1, Math.min(MAX_HASHES, numHashes));
+    ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE_BYTES + numBits / Byte.SIZE);
+    buf.putInt(0, numHashes);
+    buf.putInt(Constants.BYTES_IN_INTEGER, numBits);
+    return new BloomFilter(buf, numHashes, numBits);
+  }
+
+  /**
+   * Creates an instance of Bloom filter by loading its content from a buffer. The
+   * {@link ByteBuffer#position} must be at the beginning of the filter.
+   *
+   * @param buffer input buffer storing the filter
+   * @return an instance of Bloom filter
+   */
+  public static BloomFilter loadFromByteArray(ByteBuffer buffer) {
+    ByteBuffer buf = buffer.slice();
+    return new BloomFilter(buf, buf.getInt(0), buf.getInt(Constants.BYTES_IN_INTEGER));
+  }
+
+  /**
+   * @param keyCount the number of keys
+   * @param bitsPerKey the number of bits per key
+   * @return the size in bytes of a filter created for the given number of keys
+   */
+  public static int expectedByteCount(int keyCount, int bitsPerKey) {
+    // Rounds the bits up to whole longs, keeping at least one
+    long numLongs = Math.max(1, ((long) keyCount * bitsPerKey + Long.SIZE - 1) / Long.SIZE);
+    return (int) (HEADER_SIZE_BYTES + numLongs * Long.BYTES);
+  }
+
+  /**
+   * @param key key in byte array
+   * @return the 64-bit hash of the key used to probe the filter
+   */
+  public static long hash(byte[] key) {
+    return HASHER.hashBytes(key).asLong();
+  }
+
+  /**
+   * @param key key in {@code ByteBuffer}
+   * @return the 64-bit hash of the key used to probe the filter
+   */
+  public static long hash(ByteBuffer key) {
+    if (key.hasArray()) {
+      return HASHER.hashBytes(key.array(), key.arrayOffset() + key.position(), key.remaining())
+          .asLong();
+    }
+    return hash(BufferUtils.newByteArrayFromByteBuffer(key));
+  }
+
+  private BloomFilter(ByteBuffer buf, int numHashes, int numBits) {
+    Preconditions.checkArgument(numHashes > 0 && numBits > 0,
+        "Invalid Bloom filter with %s hash functions and %s bits", numHashes, numBits);
+    mBuf = buf;
+    mNumHashes = numHashes;
+    mNumBits = numBits;
+  }
+
+  /**
+   * Adds a key to the filter.
+   *
+   * @param hash the hash of the key, see {@link #hash}
+   */
+  public void put(long hash) {
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= mNumHashes; i++) {
+      int bit = bitIndex(hash1 + i * hash2);
+      int pos = HEADER_SIZE_BYTES + (bit >>> 6) * Long.BYTES;
+      mBuf.putLong(pos, mBuf.getLong(pos) | (1L << bit));
+    }
+  }
+
+  /**
+   * @param hash the hash of the key, see {@link #hash}
+   * @return false if the key is definitely not in the filter, true if it might be
+   */
+  public boolean mightContain(long hash) {
+    int hash1 = (int) hash;
+    int hash2 = (int) (hash >>> 32);
+    for (int i = 1; i <= mNumHashes; i++) {
+      int bit = bitIndex(hash1 + i * hash2);
+      if ((mBuf.getLong(HEADER_SIZE_BYTES + (bit >>> 6) * Long.BYTES) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param key the key
+   * @return false if the key is definitely not in the filter, true if it might be
+   */
+  public boolean mightContain(ByteBuffer key) {
+    return mightContain(hash(key));
+  }
+
+  /**
+   * @return byte array which contains raw bytes of this filter
+   */
+  public byte[] getBytes() {
+    if (mBuf.hasArray() && mBuf.arrayOffset() == 0 && mBuf.array().length == byteCount()) {
+      return mBuf.array();
+    }
+    return BufferUtils.newByteArrayFromByteBuffer(mBuf);
+  }
+
+  /**
+   * @return size of this filter in bytes
+   */
+  public int byteCount() {
+    return HEADER_SIZE_BYTES + mNumBits / Byte.SIZE;
+  }
+
+  private int bitIndex(int combinedHash) {
+    // Flips all the bits if the hash is negative
+    return (combinedHash < 0 ? ~combinedHash : combinedHash) % mNumBits;
+  }
+}
@@ -13,7 +13,6 @@ package alluxio.client.keyvalue;
 
 import alluxio.exception.AlluxioException;
 import alluxio.util.io.BufferUtils;
-import alluxio.util.io.ByteIOUtils;
 
 import com.google.common.base.Preconditions;
 import org.slf4j.Logger;
@@ -36,6 +35,8 @@ public final class ByteBufferKeyValuePartitionReader implements KeyValuePartitio
       LoggerFactory.getLogger(ByteBufferKeyValuePartitionReader.class);
 
   private Index mIndex;
+  /** The Bloom filter over the keys, or null if the partition has no filter. */
+  private BloomFilter mBloomFilter;
   private PayloadReader mPayloadReader;
   private ByteBuffer mBuf;
   private int mBufferLength;
@@ -50,18 +51,31 @@ public final class ByteBufferKeyValuePartitionReader implements KeyValuePartitio
   public ByteBufferKeyValuePartitionReader(ByteBuffer fileBytes) {
     mBuf = Preconditions.checkNotNull(fileBytes, "fileBytes");
     mBufferLength = mBuf.remaining();
-    mIndex = createIndex();
+    PartitionFooter footer = PartitionFooter.read(BufferUtils.sliceByteBuffer(mBuf,
+        Math.max(0, mBufferLength - PartitionFooter.SIZE_BYTES)), mBufferLength);
+    mIndex = createIndex(footer);
+    mBloomFilter = createBloomFilter(footer);
     mPayloadReader = createPayloadReader();
     mClosed = false;
   }
 
-  private Index createIndex() {
-    int indexOffset = ByteIOUtils.readInt(mBuf, mBufferLength - 4);
+  private Index createIndex(PartitionFooter footer) {
     ByteBuffer indexBytes =
-        BufferUtils.sliceByteBuffer(mBuf, indexOffset, mBufferLength - 4 - indexOffset);
+        BufferUtils.sliceByteBuffer(mBuf, footer.getIndexOffset(), footer.getIndexLength());
+    if (footer.getIndexType() == IndexType.CUCKOO) {
+      return CuckooIndex.loadFromByteArray(indexBytes);
+    }
     return LinearProbingIndex.loadFromByteArray(indexBytes);
   }
 
+  private BloomFilter createBloomFilter(PartitionFooter footer) {
+    if (!footer.hasBloomFilter()) {
+      return null;
+    }
+    return BloomFilter.loadFromByteArray(BufferUtils.sliceByteBuffer(mBuf,
+        footer.getBloomFilterOffset(), footer.getBloomFilterLength()));
+  }
+
   private PayloadReader createPayloadReader() {
     return new BasePayloadReader(mBuf);
   }
@@ -85,6 +99,9 @@ public final class ByteBufferKeyValuePartitionReader implements KeyValuePartitio
   public ByteBuffer get(ByteBuffer key) throws IOException {
     Preconditions.checkState(!mClosed);
     LOG.trace("get: key");
+    if (mBloomFilter != null && !mBloomFilter.mightContain(key)) {
+      return null;
+    }
     return mIndex.get(key, mPayloadReader);
   }
 
@@ -130,6 +147,14 @@ public final class ByteBufferKeyValuePartitionReader implements KeyValuePartitio
     return mIndex;
   }
 
+  /**
+   * @return the {@link BloomFilter} reconstructed from the byte buffer, or null if the partition
+   *         has no Bloom filter
+   */
+  public BloomFilter getBloomFilter() {
+    return mBloomFilter;
+  }
+
   /**
    * @return the {@link PayloadReader} for reading payloads from the byte buffer
    */
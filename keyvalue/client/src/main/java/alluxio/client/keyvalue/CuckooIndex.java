@@ -0,0 +1,376 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.Constants;
+import alluxio.util.io.BufferUtils;
+import alluxio.util.io.ByteIOUtils;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Index structure using cuckoo hashing. Each key can be stored in any of the slots of two
+ * buckets, which bounds a lookup to eight slots and allows a load factor of about 90%, while
+ * {@link LinearProbingIndex} has a fixed number of buckets. Each slot stores a fingerprint (a
+ * byte) and an offset (an int) indicating where to find the key and the value in the payload.
+ * <p>
+ * The index hash table looks like:
+ * ===========================================================================================
+ * | fingerprint (byte) | offset (int) | ... 4 slots per bucket ... | fingerprint | offset |
+ * ===========================================================================================
+ * |                                          ...                                            |
+ *
+ * If fingerprint is zero, it indicates the slot is empty.
+ * <p>
+ * The overall byte array of the index looks like:
+ * | key count (int) | the above hash table |
+ * <p>
+ * Since the placement of a key depends on the keys inserted after it, the hash table is only
+ * built when {@link #getBytes()} is called or when the index is first read. The keys inserted
+ * by {@link #put} are kept as their hashes and offsets until then.
+ */
+@NotThreadSafe
+public final class CuckooIndex implements Index {
+  /** Number of slots in each bucket. */
+  public static final int SLOTS_PER_BUCKET = 4;
+  /** Target ratio of the number of keys to the number of slots. */
+  public static final double LOAD_FACTOR = 0.9;
+
+  private static final int HASHER_SEED = 0x2e47;
+  /** Hash function to calculate the bucket indexes and the fingerprint. */
+  private static final HashFunction HASHER = Hashing.murmur3_128(HASHER_SEED);
+  /** Size of each slot in bytes. */
+  private static final int SLOT_SIZE_BYTES = Constants.BYTES_IN_INTEGER + 1;
+  /** Size of each bucket in bytes. */
+  private static final int BUCKET_SIZE_BYTES = SLOTS_PER_BUCKET * SLOT_SIZE_BYTES;
+  /** Max number of keys relocated when inserting a key before the table is grown. */
+  private static final int MAX_KICKS = 500;
+
+  /** Number of keys. */
+  private int mKeyCount;
+  /** Bucket hashes of the keys inserted, in insertion order, before the table is built. */
+  private long[] mBucketHashes;
+  /** Fingerprints of the keys inserted, in insertion order, before the table is built. */
+  private byte[] mFingerprints;
+  /** Payload offsets of the keys inserted, in insertion order, before the table is built. */
+  private int[] mOffsets;
+
+  /** Total byte buffer of the index, or null if the table is not built. */
+  private ByteBuffer mBuf;
+  /** A slice of mBuf corresponding to the hash table part. */
+  private ByteBuffer mHashTableBuf;
+  private int mNumBuckets;
+
+  /**
+   * @return an instance of cuckoo index, with no key added
+   */
+  public static CuckooIndex createEmptyIndex() {
+    return new CuckooIndex();
+  }
+
+  /**
+   * Creates an instance of cuckoo index by loading its content from a buffer. The
+   * {@link ByteBuffer#position} must be at the beginning of index.
+   *
+   * @param buffer input buffer storing the index
+   * @return an instance of cuckoo index
+   */
+  public static CuckooIndex loadFromByteArray(ByteBuffer buffer) {
+    CuckooIndex index = new CuckooIndex();
+    index.mBuf = buffer.slice();
+    index.mKeyCount = index.mBuf.getInt(0);
+    index.mHashTableBuf = BufferUtils.sliceByteBuffer(index.mBuf, Constants.BYTES_IN_INTEGER);
+    index.mNumBuckets = index.mHashTableBuf.remaining() / BUCKET_SIZE_BYTES;
+    return index;
+  }
+
+  private CuckooIndex() {
+    mBucketHashes = new long[16];
+    mFingerprints = new byte[16];
+    mOffsets = new int[16];
+  }
+
+  /**
+   * @param keyCount the number of keys
+   * @return the number of buckets to hold the keys at the target load factor
+   */
+  private static int numBuckets(int keyCount) {
+    return Math.max(1, (int) Math.ceil(keyCount / (SLOTS_PER_BUCKET * LOAD_FACTOR)));
+  }
+
+  @Override
+  public int byteCount() {
+    int numBuckets = mBuf == null ? numBuckets(mKeyCount) : mNumBuckets;
+    return Constants.BYTES_IN_INTEGER + numBuckets * BUCKET_SIZE_BYTES;
+  }
+
+  @Override
+  public int keyCount() {
+    return mKeyCount;
+  }
+
+  @Override
+  public boolean put(byte[] key, byte[] value, PayloadWriter writer) throws IOException {
+    if (mBucketHashes == null) {
+      // The index was loaded from a partition
+      return false;
+    }
+    HashCode hash = HASHER.hashBytes(key);
+    final int offset = writer.insert(key, value);
+    if (mKeyCount == mOffsets.length) {
+      mBucketHashes = Arrays.copyOf(mBucketHashes, mKeyCount * 2);
+      mFingerprints = Arrays.copyOf(mFingerprints, mKeyCount * 2);
+      mOffsets = Arrays.copyOf(mOffsets, mKeyCount * 2);
+    }
+    mBucketHashes[mKeyCount] = hash.asLong();
+    mFingerprints[mKeyCount] = fingerprint(hash);
+    mOffsets[mKeyCount] = offset;
+    mKeyCount++;
+    // The table needs to be rebuilt to include the new key
+    mBuf = null;
+    return true;
+  }
+
+  @Override
+  public ByteBuffer get(ByteBuffer key, PayloadReader reader) {
+    int slotOffset = slotOffset(key, reader);
+    if (slotOffset == -1) {
+      return null;
+    }
+    return reader.getValue(ByteIOUtils.readInt(mHashTableBuf, slotOffset + 1));
+  }
+
+  /**
+   * @param key the key
+   * @param reader the reader to be used to get key from payload
+   * @return slot offset in the {@link Index} of the key, -1 if no such key is found
+   */
+  private int slotOffset(ByteBuffer key, PayloadReader reader) {
+    build();
+    HashCode hash = key.hasArray()
+        ? HASHER.hashBytes(key.array(), key.arrayOffset() + key.position(), key.remaining())
+        : HASHER.hashBytes(BufferUtils.newByteArrayFromByteBuffer(key));
+    long bucketHash = hash.asLong();
+    byte fingerprint = fingerprint(hash);
+    int bucket = firstBucket(bucketHash, mNumBuckets);
+    for (int i = 0; i < 2; i++) {
+      int slotOffset = bucket * BUCKET_SIZE_BYTES;
+      for (int slot = 0; slot < SLOTS_PER_BUCKET; slot++) {
+        if (fingerprint == ByteIOUtils.readByte(mHashTableBuf, slotOffset)) {
+          int offset = ByteIOUtils.readInt(mHashTableBuf, slotOffset + 1);
+          if (key.equals(reader.getKey(offset))) {
+            return slotOffset;
+          }
+        }
+        slotOffset += SLOT_SIZE_BYTES;
+      }
+      bucket = secondBucket(bucketHash, mNumBuckets);
+    }
+    return -1;
+  }
+
+  @Override
+  public byte[] getBytes() {
+    build();
+    // No byte array copy happens for the index built by this instance.
+    if (mBuf.hasArray() && mBuf.arrayOffset() == 0 && mBuf.array().length == byteCount()) {
+      return mBuf.array();
+    }
+    return BufferUtils.newByteArrayFromByteBuffer(mBuf);
+  }
+
+  @Override
+  public ByteBuffer nextKey(ByteBuffer currentKey, PayloadReader reader) {
+    int nextSlotOffset =
+        currentKey == null ? 0 : slotOffset(currentKey, reader) + SLOT_SIZE_BYTES;
+    build();
+    final int bufLimit = mHashTableBuf.limit();
+    while (nextSlotOffset < bufLimit) {
+      byte fingerprint = ByteIOUtils.readByte(mHashTableBuf, nextSlotOffset);
+      if (fingerprint != 0) {
+        return reader.getKey(ByteIOUtils.readInt(mHashTableBuf, nextSlotOffset + 1));
+      }
+      nextSlotOffset += SLOT_SIZE_BYTES;
+    }
+    return null;
+  }
+
+  @Override
+  public Iterator<ByteBuffer> keyIterator(final PayloadReader reader) {
+    build();
+    return new Iterator<ByteBuffer>() {
+      private final int mBufLimit = mHashTableBuf.limit();
+      private int mOffset = 0;
+      private int mKeyIndex = 0;
+
+      @Override
+      public boolean hasNext() {
+        return mKeyIndex < mKeyCount;
+      }
+
+      @Override
+      public ByteBuffer next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        while (mOffset < mBufLimit) {
+          byte fingerprint = ByteIOUtils.readByte(mHashTableBuf, mOffset);
+          if (fingerprint != 0) {
+            int offset = ByteIOUtils.readInt(mHashTableBuf, mOffset + 1);
+            ByteBuffer key = reader.getKey(offset);
+            mOffset += SLOT_SIZE_BYTES;
+            mKeyIndex++;
+            return key;
+          }
+          mOffset += SLOT_SIZE_BYTES;
+        }
+        throw new NoSuchElementException();
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  /**
+   * Builds the hash table from the keys inserted, if it is not built yet. The table starts at the
+   * target load factor and grows until all the keys can be placed.
+   */
+  private void build() {
+    if (mBuf != null) {
+      return;
+    }
+    int numBuckets = numBuckets(mKeyCount);
+    while (!tryBuild(numBuckets)) {
+      numBuckets += numBuckets / 8 + 1;
+    }
+  }
+
+  /**
+   * Places all the keys inserted into a hash table with the given number of buckets.
+   *
+   * @param numBuckets the number of buckets
+   * @return whether all the keys are placed
+   */
+  private boolean tryBuild(int numBuckets) {
+    // The key stored in each slot, or -1 if the slot is empty
+    int[] slots = new int[numBuckets * SLOTS_PER_BUCKET];
+    Arrays.fill(slots, -1);
+    // A fixed seed keeps the layout of the table deterministic
+    Random random = new Random(numBuckets);
+    for (int key = 0; key < mKeyCount; key++) {
+      int current = key;
+      int bucket = firstBucket(mBucketHashes[current], numBuckets);
+      boolean placed = false;
+      for (int kick = 0; kick <= MAX_KICKS && !placed; kick++) {
+        placed = placeInBucket(slots, bucket, current)
+            || placeInBucket(slots, otherBucket(mBucketHashes[current], bucket, numBuckets),
+                current);
+        if (!placed) {
+          // Evicts a random key in the bucket and moves it to its other bucket
+          int slot = bucket * SLOTS_PER_BUCKET + random.nextInt(SLOTS_PER_BUCKET);
+          int evicted = slots[slot];
+          slots[slot] = current;
+          current = evicted;
+          bucket = otherBucket(mBucketHashes[current], bucket, numBuckets);
+        }
+      }
+      if (!placed) {
+        return false;
+      }
+    }
+
+    ByteBuffer buf = ByteBuffer.allocate(
+        Constants.BYTES_IN_INTEGER + numBuckets * BUCKET_SIZE_BYTES);
+    buf.putInt(0, mKeyCount);
+    ByteBuffer hashTableBuf = BufferUtils.sliceByteBuffer(buf, Constants.BYTES_IN_INTEGER);
+    for (int slot = 0; slot < slots.length; slot++) {
+      if (slots[slot] != -1) {
+        ByteIOUtils.writeByte(hashTableBuf, slot * SLOT_SIZE_BYTES, mFingerprints[slots[slot]]);
+        ByteIOUtils.writeInt(hashTableBuf, slot * SLOT_SIZE_BYTES + 1, mOffsets[slots[slot]]);
+      }
+    }
+    mBuf = buf;
+    mHashTableBuf = hashTableBuf;
+    mNumBuckets = numBuckets;
+    return true;
+  }
+
+  /**
+   * @param slots the key stored in each slot
+   * @param bucket the bucket
+   * @param key the key to place
+   * @return whether the key is placed in an empty slot of the bucket
+   */
+  private static boolean placeInBucket(int[] slots, int bucket, int key) {
+    for (int slot = bucket * SLOTS_PER_BUCKET; slot < (bucket + 1) * SLOTS_PER_BUCKET; slot++) {
+      if (slots[slot] == -1) {
+        slots[slot] = key;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param bucketHash the bucket hash of a key
+   * @param bucket one of the buckets of the key
+   * @param numBuckets the number of buckets
+   * @return the other bucket of the key
+   */
+  private static int otherBucket(long bucketHash, int bucket, int numBuckets) {
+    int first = firstBucket(bucketHash, numBuckets);
+    return bucket == first ? secondBucket(bucketHash, numBuckets) : first;
+  }
+
+  /**
+   * @param bucketHash the bucket hash of a key
+   * @param numBuckets the number of buckets
+   * @return the first bucket of the key, from the low-order bits of the hash
+   */
+  private static int firstBucket(long bucketHash, int numBuckets) {
+    // Maps the 32-bit hash to [0, numBuckets) by multiplication instead of modulo
+    return (int) (((bucketHash & 0xffffffffL) * numBuckets) >>> 32);
+  }
+
+  /**
+   * @param bucketHash the bucket hash of a key
+   * @param numBuckets the number of buckets
+   * @return the second bucket of the key, from the high-order bits of the hash
+   */
+  private static int secondBucket(long bucketHash, int numBuckets) {
+    return (int) (((bucketHash >>> 32) * numBuckets) >>> 32);
+  }
+
+  /**
+   * @param hash the hash of a key
+   * @return value of fingerprint in byte which is never zero
+   */
+  private static byte fingerprint(HashCode hash) {
+    // Uses bits which are independent from the bucket hash
+    int fingerprint = hash.asBytes()[Long.BYTES] & 0xff;
+    return (byte) ((fingerprint == 0) ? 1 : fingerprint);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Types of the {@link Index} of a key-value partition.
+ */
+@ThreadSafe
+public enum IndexType {
+  /** Index implemented by {@link LinearProbingIndex}. */
+  LINEAR_PROBING(0),
+  /** Index implemented by {@link CuckooIndex}. */
+  CUCKOO(1),
+  ;
+
+  private final int mValue;
+
+  IndexType(int value) {
+    mValue = value;
+  }
+
+  /**
+   * @return the value identifying the index type in the partition files
+   */
+  public int getValue() {
+    return mValue;
+  }
+
+  /**
+   * @param value the value identifying an index type in the partition files
+   * @return the index type with the given value
+   */
+  public static IndexType fromValue(int value) {
+    for (IndexType type : values()) {
+      if (type.mValue == value) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown key-value index type: " + value);
+  }
+}
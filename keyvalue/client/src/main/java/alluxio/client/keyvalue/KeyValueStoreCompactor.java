@@ -0,0 +1,245 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.AlluxioURI;
+import alluxio.client.block.AlluxioBlockStore;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.status.CanceledException;
+import alluxio.thrift.PartitionInfo;
+import alluxio.util.ThreadFactoryUtils;
+import alluxio.util.io.BufferUtils;
+import alluxio.util.io.PathUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Compacts a key-value store into a new store of sorted, non-overlapping partitions.
+ * <p>
+ * The key space is split into as many ranges as there are threads, at quantiles of a sample of
+ * the keys taken from the partition indexes. Each range is then written in parallel into its own
+ * store by merging the sorted payloads of the partitions overlapping it, see
+ * {@link KeyValueStoreIterator}, so that the new partitions are filled up to the maximum partition
+ * size. Finally, the stores of the ranges are merged in key order into the new store.
+ */
+@NotThreadSafe
+final class KeyValueStoreCompactor {
+  private static final Logger LOG = LoggerFactory.getLogger(KeyValueStoreCompactor.class);
+
+  /** Number of keys sampled per range to find the boundaries of the ranges. */
+  private static final int SAMPLES_PER_RANGE = 100;
+
+  private final KeyValueSystem mKeyValueSystem;
+  private final AlluxioBlockStore mBlockStore = AlluxioBlockStore.create();
+  private final int mThreads;
+
+  /**
+   * @param keyValueSystem the key-value system to create and merge the stores with
+   * @param threads the number of ranges compacted in parallel
+   */
+  KeyValueStoreCompactor(KeyValueSystem keyValueSystem, int threads) {
+    Preconditions.checkArgument(threads > 0, "The number of compaction threads must be positive");
+    mKeyValueSystem = Preconditions.checkNotNull(keyValueSystem, "keyValueSystem");
+    mThreads = threads;
+  }
+
+  /**
+   * Compacts the partitions of a store into a new store.
+   *
+   * @param partitions the partitions of the store to compact
+   * @param toUri the {@link AlluxioURI} of the new store
+   */
+  void compact(final List<PartitionInfo> partitions, AlluxioURI toUri)
+      throws IOException, AlluxioException {
+    ExecutorService executor = Executors.newFixedThreadPool(mThreads,
+        ThreadFactoryUtils.build("keyvalue-compaction-%d", true));
+    List<AlluxioURI> rangeUris = new ArrayList<>();
+    try {
+      List<ByteBuffer> splitKeys = getSplitKeys(partitions, executor);
+      List<Future<Void>> futures = new ArrayList<>();
+      long nonce = ThreadLocalRandom.current().nextLong();
+      for (int i = 0; i <= splitKeys.size(); i++) {
+        final ByteBuffer startKey = i == 0 ? null : splitKeys.get(i - 1);
+        final ByteBuffer endKey = i == splitKeys.size() ? null : splitKeys.get(i);
+        final AlluxioURI rangeUri =
+            new AlluxioURI(PathUtils.temporaryFileName(nonce + i, toUri.toString()));
+        rangeUris.add(rangeUri);
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws Exception {
+            compactRange(partitions, startKey, endKey, rangeUri);
+            return null;
+          }
+        }));
+      }
+      waitFor(futures);
+
+      mKeyValueSystem.createStore(toUri).close();
+      // The ranges are merged in key order, so the partitions of the new store are sorted
+      for (AlluxioURI rangeUri : rangeUris) {
+        mKeyValueSystem.mergeStore(rangeUri, toUri);
+      }
+      rangeUris.clear();
+    } finally {
+      executor.shutdownNow();
+      for (AlluxioURI rangeUri : rangeUris) {
+        try {
+          mKeyValueSystem.deleteStore(rangeUri);
+        } catch (Exception e) {
+          LOG.debug("Failed to delete the store {} of a compaction: {}", rangeUri, e.getMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the key-value pairs of a key range into a store.
+   *
+   * @param partitions the partitions of the store to compact
+   * @param startKey the first key of the range (inclusive), or null for no lower bound
+   * @param endKey the end of the range (exclusive), or null for no upper bound
+   * @param rangeUri the {@link AlluxioURI} of the store to write
+   */
+  private void compactRange(List<PartitionInfo> partitions, ByteBuffer startKey,
+      ByteBuffer endKey, AlluxioURI rangeUri) throws IOException, AlluxioException {
+    KeyValueStoreWriter writer = mKeyValueSystem.createStore(rangeUri);
+    try (KeyValueStoreIterator iterator =
+        new KeyValueStoreIterator(partitions, startKey, endKey)) {
+      ByteBuffer lastKey = null;
+      while (iterator.hasNext()) {
+        KeyValuePair pair = iterator.next();
+        // A key stored in several of the merged partitions is only kept once
+        if (!pair.getKey().equals(lastKey)) {
+          writer.put(pair.getKey(), pair.getValue());
+          lastKey = pair.getKey();
+        }
+      }
+    } catch (IOException | AlluxioException | RuntimeException e) {
+      writer.cancel();
+      throw e;
+    }
+    writer.close();
+  }
+
+  /**
+   * Finds the keys splitting the key space into ranges of about the same number of keys.
+   *
+   * @param partitions the partitions of the store to compact
+   * @param executor the executor to sample the partitions in parallel
+   * @return the sorted keys splitting the ranges, at most one less than the number of threads
+   */
+  private List<ByteBuffer> getSplitKeys(List<PartitionInfo> partitions, ExecutorService executor)
+      throws IOException, AlluxioException {
+    long totalKeys = 0;
+    for (PartitionInfo partition : partitions) {
+      totalKeys += partition.getKeyCount();
+    }
+    List<ByteBuffer> splitKeys = new ArrayList<>();
+    if (mThreads == 1 || totalKeys == 0) {
+      return splitKeys;
+    }
+
+    // Samples each partition in proportion to its number of keys
+    List<Future<List<ByteBuffer>>> futures = new ArrayList<>();
+    for (final PartitionInfo partition : partitions) {
+      final int numKeys = (int) Math.min(partition.getKeyCount(), Math.max(1,
+          (long) mThreads * SAMPLES_PER_RANGE * partition.getKeyCount() / totalKeys));
+      futures.add(executor.submit(new Callable<List<ByteBuffer>>() {
+        @Override
+        public List<ByteBuffer> call() throws Exception {
+          return sampleKeys(partition, numKeys);
+        }
+      }));
+    }
+    List<ByteBuffer> samples = new ArrayList<>();
+    for (List<ByteBuffer> keys : waitFor(futures)) {
+      samples.addAll(keys);
+    }
+    Collections.sort(samples);
+    for (int i = 1; i < mThreads && !samples.isEmpty(); i++) {
+      ByteBuffer splitKey = samples.get(i * samples.size() / mThreads);
+      if (splitKeys.isEmpty() || splitKey.compareTo(splitKeys.get(splitKeys.size() - 1)) > 0) {
+        splitKeys.add(splitKey);
+      }
+    }
+    return splitKeys;
+  }
+
+  /**
+   * Samples the keys of a partition. The keys are taken in the order of the index, which is the
+   * order of their hashes, so they are spread over the key range of the partition.
+   *
+   * @param partition the partition
+   * @param numKeys the number of keys to sample
+   * @return the keys sampled
+   */
+  private List<ByteBuffer> sampleKeys(PartitionInfo partition, int numKeys)
+      throws IOException, AlluxioException {
+    long blockId = partition.getBlockId();
+    KeyValueWorkerClient client = new KeyValueWorkerClient(
+        mBlockStore.getInfo(blockId).getLocations().get(0).getWorkerAddress());
+    try {
+      List<ByteBuffer> keys = new ArrayList<>();
+      for (ByteBuffer key : client.getNextKeys(blockId, null, numKeys)) {
+        keys.add(BufferUtils.cloneByteBuffer(key));
+      }
+      return keys;
+    } finally {
+      client.close();
+    }
+  }
+
+  /**
+   * Waits for tasks, and cancels the remaining ones if one fails.
+   *
+   * @param futures the futures of the tasks
+   * @param <T> the type of the results of the tasks
+   * @return the results of the tasks
+   */
+  private static <T> List<T> waitFor(List<Future<T>> futures)
+      throws IOException, AlluxioException {
+    List<T> results = new ArrayList<>(futures.size());
+    try {
+      for (Future<T> future : futures) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CanceledException(e);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class, AlluxioException.class);
+      throw new RuntimeException(e.getCause());
+    } finally {
+      for (Future<T> future : futures) {
+        future.cancel(true);
+      }
+    }
+    return results;
+  }
+}
@@ -11,46 +11,97 @@
 
 package alluxio.client.keyvalue;
 
+import alluxio.client.block.AlluxioBlockStore;
 import alluxio.exception.AlluxioException;
 import alluxio.thrift.PartitionInfo;
 
 import com.google.common.base.Preconditions;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
- * {@link KeyValueIterator} to iterate over key-value pairs in {@link KeyValueSystem}.
+ * {@link KeyValueIterator} to iterate over key-value pairs in {@link KeyValueSystem}, in key order
+ * and within an optional key range.
+ * <p>
+ * The payloads of the partitions are streamed in key order, see
+ * {@link PartitionPayloadIterator}, and merged. A partition is only opened once the iteration
+ * reaches its first key, so a store whose partitions do not overlap, such as a compacted store,
+ * is read one partition at a time. If the same key is stored in several partitions, which can
+ * happen after {@link KeyValueSystem#mergeStore}, each of its key-value pairs is returned.
  */
 @NotThreadSafe
-public final class KeyValueStoreIterator implements KeyValueIterator {
-  /** All partitions. */
-  private List<PartitionInfo> mPartitions;
-  /** Index of the partition being visited. */
-  private int mPartitionIndex = -1;
-  /** Iterator of the partition being visited. */
-  private KeyValueIterator mPartitionIterator;
+public final class KeyValueStoreIterator implements KeyValueIterator, Closeable {
+  /** Orders the partitions by their first key. */
+  static final Comparator<PartitionInfo> KEY_START_COMPARATOR = new Comparator<PartitionInfo>() {
+    @Override
+    public int compare(PartitionInfo a, PartitionInfo b) {
+      return a.bufferForKeyStart().compareTo(b.bufferForKeyStart());
+    }
+  };
+
+  private final AlluxioBlockStore mBlockStore = AlluxioBlockStore.create();
+  /** The partitions overlapping the key range, ordered by their first key. */
+  private final List<PartitionInfo> mPartitions;
+  /** The first key to iterate over (inclusive), or null to start from the first key. */
+  private final ByteBuffer mStartKey;
+  /** The key to stop at (exclusive), or null to iterate to the last key. */
+  private final ByteBuffer mEndKey;
+  /** Index of the next partition to open. */
+  private int mPartitionIndex = 0;
+  /** Iterators of the partitions being visited, ordered by their next key. */
+  private final PriorityQueue<PartitionPayloadIterator> mPartitionIterators =
+      new PriorityQueue<>(11, new Comparator<PartitionPayloadIterator>() {
+        @Override
+        public int compare(PartitionPayloadIterator a, PartitionPayloadIterator b) {
+          return a.peek().compareTo(b.peek());
+        }
+      });
+  /** The next key-value pair, or null if there is no more pair. */
+  private KeyValuePair mNext;
 
   /**
    * @param partitions the partitions to use
    */
   public KeyValueStoreIterator(List<PartitionInfo> partitions)
       throws IOException, AlluxioException {
-    mPartitions = Preconditions.checkNotNull(partitions, "partitions");
-    if (mPartitions.size() > 0) {
-      mPartitionIndex = 0;
-      long blockId = mPartitions.get(0).getBlockId();
-      KeyValuePartitionReader reader = KeyValuePartitionReader.Factory.create(blockId);
-      mPartitionIterator = reader.iterator();
+    this(partitions, null, null);
+  }
+
+  /**
+   * @param partitions the partitions to use
+   * @param startKey the first key to iterate over (inclusive), or null for no lower bound
+   * @param endKey the key to stop at (exclusive), or null for no upper bound
+   */
+  public KeyValueStoreIterator(List<PartitionInfo> partitions, @Nullable ByteBuffer startKey,
+      @Nullable ByteBuffer endKey) throws IOException, AlluxioException {
+    Preconditions.checkNotNull(partitions, "partitions");
+    mStartKey = startKey;
+    mEndKey = endKey;
+    mPartitions = new ArrayList<>();
+    for (PartitionInfo partition : partitions) {
+      if ((endKey == null || partition.bufferForKeyStart().compareTo(endKey) < 0)
+          && (startKey == null || partition.bufferForKeyLimit().compareTo(startKey) >= 0)) {
+        mPartitions.add(partition);
+      }
     }
+    Collections.sort(mPartitions, KEY_START_COMPARATOR);
+    advance();
   }
 
   @Override
   public boolean hasNext() {
-    return mPartitionIterator != null && mPartitionIterator.hasNext();
+    return mNext != null;
   }
 
   @Override
@@ -58,19 +109,62 @@ public final class KeyValueStoreIterator implements KeyValueIterator {
     if (!hasNext()) {
       throw new NoSuchElementException();
     }
+    KeyValuePair ret = mNext;
+    advance();
+    return ret;
+  }
+
+  /**
+   * Moves to the next key-value pair.
+   */
+  private void advance() throws IOException, AlluxioException {
+    openPartitions();
+    PartitionPayloadIterator iterator = mPartitionIterators.poll();
+    if (iterator == null) {
+      mNext = null;
+      return;
+    }
+    mNext = iterator.next();
+    if (iterator.hasNext()) {
+      mPartitionIterators.add(iterator);
+    } else {
+      iterator.close();
+    }
+  }
 
-    KeyValuePair ret = mPartitionIterator.next();
-    if (!mPartitionIterator.hasNext()) {
-      // Current partition has all been iterated, move to next partition.
+  /**
+   * Opens the partitions which may contain keys no greater than the next key of the partitions
+   * being visited.
+   */
+  private void openPartitions() throws IOException, AlluxioException {
+    while (mPartitionIndex < mPartitions.size()) {
+      PartitionInfo partition = mPartitions.get(mPartitionIndex);
+      if (!mPartitionIterators.isEmpty() && partition.bufferForKeyStart()
+          .compareTo(mPartitionIterators.peek().peek().getKey()) > 0) {
+        return;
+      }
       mPartitionIndex++;
-      if (mPartitionIndex < mPartitions.size()) {
-        long blockId = mPartitions.get(mPartitionIndex).getBlockId();
-        KeyValuePartitionReader reader = KeyValuePartitionReader.Factory.create(blockId);
-        mPartitionIterator = reader.iterator();
+      long length = mBlockStore.getInfo(partition.getBlockId()).getLength();
+      PartitionPayloadIterator iterator =
+          new PartitionPayloadIterator(mBlockStore, partition, length, mStartKey, mEndKey);
+      if (iterator.hasNext()) {
+        mPartitionIterators.add(iterator);
       } else {
-        mPartitionIterator = null;
+        iterator.close();
       }
     }
-    return ret;
+  }
+
+  /**
+   * Closes the partitions being visited. The partitions are also closed once they are fully
+   * iterated over.
+   */
+  @Override
+  public void close() throws IOException {
+    mPartitionIndex = mPartitions.size();
+    mNext = null;
+    while (!mPartitionIterators.isEmpty()) {
+      mPartitionIterators.poll().close();
+    }
   }
 }
@@ -17,6 +17,7 @@ import alluxio.exception.AlluxioException;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * Interface for readers which accesses key-value stores in Alluxio.
@@ -41,6 +42,28 @@ public interface KeyValueStoreReader extends Closeable, KeyValueIterable {
    */
   ByteBuffer get(ByteBuffer key) throws IOException, AlluxioException;
 
+  /**
+   * Gets the values associated with a batch of keys. The keys are grouped by the partition they
+   * belong to, so that each worker serving the partitions is queried once for the whole batch.
+   *
+   * @param keys keys to get, none of them can be null
+   * @return the values associated with the given keys in the same order, with null for each key
+   *         which is not found
+   */
+  List<ByteBuffer> multiGet(List<ByteBuffer> keys) throws IOException, AlluxioException;
+
+  /**
+   * Gets an iterator over the key-value pairs of the store within a key range, in key order. The
+   * iterator streams the partitions overlapping the range, which is most efficient after the
+   * store is compacted by {@link KeyValueSystem#compactStore}.
+   *
+   * @param startKey the first key to iterate over (inclusive), or null for no lower bound
+   * @param endKey the key to stop at (exclusive), or null for no upper bound
+   * @return an iterator over the key-value pairs within the range
+   */
+  KeyValueIterator iterator(ByteBuffer startKey, ByteBuffer endKey)
+      throws IOException, AlluxioException;
+
   /**
    * @return the number of key-value pairs in the store
    */
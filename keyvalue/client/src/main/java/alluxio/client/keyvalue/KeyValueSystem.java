@@ -88,4 +88,18 @@ public interface KeyValueSystem {
    * @param toUri the {@link AlluxioURI} to the store to be merged to
    */
   void mergeStore(AlluxioURI fromUri, AlluxioURI toUri) throws IOException, AlluxioException;
+
+  /**
+   * Compacts a completed key-value store into a new key-value store, whose partitions are sorted,
+   * do not overlap and are filled up to the maximum partition size. This speeds up the lookups and
+   * the range scans of stores made of many small or overlapping partitions, e.g. after
+   * {@link #mergeStore(AlluxioURI, AlluxioURI)}. The key ranges are compacted in parallel by
+   * {@link alluxio.PropertyKey#KEY_VALUE_COMPACTION_THREADS} threads.
+   *
+   * If there are the same keys in several partitions, only one of their values is kept.
+   *
+   * @param fromUri the {@link AlluxioURI} to the store to be compacted
+   * @param toUri the {@link AlluxioURI} to the compacted store to create
+   */
+  void compactStore(AlluxioURI fromUri, AlluxioURI toUri) throws IOException, AlluxioException;
 }
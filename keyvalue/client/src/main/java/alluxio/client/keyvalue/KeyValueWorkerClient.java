@@ -20,6 +20,7 @@ import alluxio.thrift.GetNextKeysTOptions;
 import alluxio.thrift.GetSizeTOptions;
 import alluxio.thrift.GetTOptions;
 import alluxio.thrift.KeyValueWorkerClientService;
+import alluxio.thrift.MultiGetTOptions;
 import alluxio.util.network.NetworkAddressUtils;
 import alluxio.wire.WorkerNetAddress;
 
@@ -108,6 +109,24 @@ public final class KeyValueWorkerClient extends AbstractClient {
     });
   }
 
+  /**
+   * Gets the values of a batch of keys, each of them from the key-value block with the block id
+   * at the same position.
+   *
+   * @param blockIds the ids of the blocks, one for each key
+   * @param keys the keys to get the values for
+   * @return the values of the keys, an empty value if the key is not found
+   */
+  public synchronized List<ByteBuffer> multiGet(final List<Long> blockIds,
+      final List<ByteBuffer> keys) throws IOException, AlluxioException {
+    return retryRPC(new RpcCallable<List<ByteBuffer>>() {
+      @Override
+      public List<ByteBuffer> call() throws AlluxioTException, TException {
+        return mClient.multiGet(blockIds, keys, new MultiGetTOptions()).getValues();
+      }
+    });
+  }
+
   /**
    * @param blockId the id of the partition
    * @return the number of key-value pairs in the partition
@@ -0,0 +1,207 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.Constants;
+import alluxio.client.block.stream.BlockInStream;
+import alluxio.util.io.ByteIOUtils;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The footer of a key-value partition file, locating its index and its optional Bloom filter.
+ * <p>
+ * Partitions with a {@link LinearProbingIndex} and no Bloom filter end with a 4-byte pointer to the
+ * index. Other partitions end with:
+ * | bloom filter offset (int) | bloom filter length (int) | index type (int) | magic (int) |
+ * index offset (int) |
+ * <p>
+ * The magic number is negative, which tells the two formats apart, since the four bytes before
+ * the index pointer are the last payload offset of a {@link LinearProbingIndex} in the first
+ * format.
+ */
+@ThreadSafe
+final class PartitionFooter {
+  /** Magic number identifying the footer storing the index type and the Bloom filter. */
+  static final int MAGIC = 0xA1F00D01;
+  /** Size in bytes of the footer storing the index type and the Bloom filter. */
+  static final int SIZE_BYTES = 5 * Constants.BYTES_IN_INTEGER;
+  /** Size in bytes of the footer of the partitions with only a linear probing index. */
+  static final int LINEAR_PROBING_SIZE_BYTES = Constants.BYTES_IN_INTEGER;
+
+  private final IndexType mIndexType;
+  private final int mIndexOffset;
+  private final int mIndexLength;
+  private final int mBloomFilterOffset;
+  private final int mBloomFilterLength;
+
+  /**
+   * Reads the footer of a partition.
+   *
+   * @param tail a buffer whose remaining bytes are the last (at least 4) bytes of the partition,
+   *        the last {@link #SIZE_BYTES} bytes are needed to read the extended footer
+   * @param partitionLength the length of the partition in bytes
+   * @return the footer of the partition
+   */
+  static PartitionFooter read(ByteBuffer tail, long partitionLength) {
+    Preconditions.checkArgument(tail.remaining() >= LINEAR_PROBING_SIZE_BYTES,
+        "The tail of a partition must include its index offset");
+    int end = tail.limit();
+    int indexOffset = ByteIOUtils.readInt(tail, end - Constants.BYTES_IN_INTEGER);
+    if (tail.remaining() < SIZE_BYTES
+        || ByteIOUtils.readInt(tail, end - 2 * Constants.BYTES_IN_INTEGER) != MAGIC) {
+      return new PartitionFooter(IndexType.LINEAR_PROBING, indexOffset,
+          (int) (partitionLength - LINEAR_PROBING_SIZE_BYTES - indexOffset), 0, 0);
+    }
+    IndexType indexType =
+        IndexType.fromValue(ByteIOUtils.readInt(tail, end - 3 * Constants.BYTES_IN_INTEGER));
+    int bloomFilterLength = ByteIOUtils.readInt(tail, end - 4 * Constants.BYTES_IN_INTEGER);
+    int bloomFilterOffset = ByteIOUtils.readInt(tail, end - 5 * Constants.BYTES_IN_INTEGER);
+    return new PartitionFooter(indexType, indexOffset,
+        (int) (partitionLength - SIZE_BYTES - indexOffset), bloomFilterOffset, bloomFilterLength);
+  }
+
+  /**
+   * Reads the footer of a partition from its block.
+   *
+   * @param in the stream of the block of the partition
+   * @param partitionLength the length of the partition in bytes
+   * @return the footer of the partition
+   */
+  static PartitionFooter read(BlockInStream in, long partitionLength) throws IOException {
+    byte[] tail = new byte[(int) Math.min(partitionLength, SIZE_BYTES)];
+    readFully(in, partitionLength - tail.length, tail);
+    return read(ByteBuffer.wrap(tail), partitionLength);
+  }
+
+  /**
+   * Reads bytes from a block until the buffer is filled.
+   *
+   * @param in the stream of the block
+   * @param pos the position to read from
+   * @param buf the buffer to fill
+   */
+  static void readFully(BlockInStream in, long pos, byte[] buf) throws IOException {
+    int off = 0;
+    while (off < buf.length) {
+      int read = in.positionedRead(pos + off, buf, off, buf.length - off);
+      if (read == -1) {
+        throw new EOFException(
+            String.format("Unexpected end of block %d at %d", in.getId(), pos + off));
+      }
+      off += read;
+    }
+  }
+
+  /**
+   * Creates a footer.
+   *
+   * @param indexType the type of the index
+   * @param indexOffset the offset of the index in bytes
+   * @param indexLength the length of the index in bytes
+   * @param bloomFilterOffset the offset of the Bloom filter in bytes
+   * @param bloomFilterLength the length of the Bloom filter in bytes, 0 if there is no filter
+   */
+  PartitionFooter(IndexType indexType, int indexOffset, int indexLength, int bloomFilterOffset,
+      int bloomFilterLength) {
+    mIndexType = Preconditions.checkNotNull(indexType, "indexType");
+    mIndexOffset = indexOffset;
+    mIndexLength = indexLength;
+    mBloomFilterOffset = bloomFilterOffset;
+    mBloomFilterLength = bloomFilterLength;
+  }
+
+  /**
+   * Writes the footer, in the format of the partitions with only a linear probing index if
+   * possible so that they remain readable by older readers.
+   *
+   * @param out the stream to write to
+   */
+  void write(OutputStream out) throws IOException {
+    if (mIndexType != IndexType.LINEAR_PROBING || hasBloomFilter()) {
+      ByteIOUtils.writeInt(out, mBloomFilterOffset);
+      ByteIOUtils.writeInt(out, mBloomFilterLength);
+      ByteIOUtils.writeInt(out, mIndexType.getValue());
+      ByteIOUtils.writeInt(out, MAGIC);
+    }
+    ByteIOUtils.writeInt(out, mIndexOffset);
+  }
+
+  /**
+   * @return the length of the payload in bytes, which starts at the beginning of the partition
+   */
+  int getPayloadLength() {
+    // The Bloom filter, if any, is written right before the index
+    return hasBloomFilter() ? mBloomFilterOffset : mIndexOffset;
+  }
+
+  /**
+   * @return the type of the index
+   */
+  IndexType getIndexType() {
+    return mIndexType;
+  }
+
+  /**
+   * @return the offset of the index in bytes
+   */
+  int getIndexOffset() {
+    return mIndexOffset;
+  }
+
+  /**
+   * @return the length of the index in bytes
+   */
+  int getIndexLength() {
+    return mIndexLength;
+  }
+
+  /**
+   * @return whether the partition has a Bloom filter
+   */
+  boolean hasBloomFilter() {
+    return mBloomFilterLength > 0;
+  }
+
+  /**
+   * @return the offset of the Bloom filter in bytes
+   */
+  int getBloomFilterOffset() {
+    return mBloomFilterOffset;
+  }
+
+  /**
+   * @return the length of the Bloom filter in bytes
+   */
+  int getBloomFilterLength() {
+    return mBloomFilterLength;
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+        .add("indexType", mIndexType)
+        .add("indexOffset", mIndexOffset)
+        .add("indexLength", mIndexLength)
+        .add("bloomFilterOffset", mBloomFilterOffset)
+        .add("bloomFilterLength", mBloomFilterLength)
+        .toString();
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import alluxio.Constants;
+import alluxio.client.block.AlluxioBlockStore;
+import alluxio.client.block.stream.BlockInStream;
+import alluxio.client.file.options.InStreamOptions;
+import alluxio.thrift.PartitionInfo;
+
+import com.google.common.base.Preconditions;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Iterator over the key-value pairs of a partition in key order, within an optional key range.
+ * <p>
+ * Since the keys of a store are put in increasing order, the payload of each partition, see
+ * {@link BasePayloadWriter}, is sorted. This iterator streams the payload from the block of the
+ * partition sequentially instead of walking the index, and verifies that the keys are increasing.
+ */
+@NotThreadSafe
+final class PartitionPayloadIterator implements Closeable {
+  /** Size of the buffer used to stream the payload. */
+  private static final int BUFFER_SIZE_BYTES = 64 * Constants.KB;
+
+  private final long mBlockId;
+  private final BlockInStream mBlockInStream;
+  private final DataInputStream mInputStream;
+  /** The first key to iterate over (inclusive), or null to start from the first key. */
+  private final ByteBuffer mStartKey;
+  /** The key to stop at (exclusive), or null to iterate to the last key. */
+  private final ByteBuffer mEndKey;
+  /** Number of bytes of the payload which are not read yet. */
+  private long mPayloadRemaining;
+  /** The next key-value pair, or null if there is no more pair. */
+  private KeyValuePair mNext;
+  /** Whether the block is closed. */
+  private boolean mClosed;
+
+  /**
+   * Opens the block of a partition to iterate over its key-value pairs.
+   *
+   * @param blockStore the block store to read the block from
+   * @param partition the partition
+   * @param length the length of the block
+   * @param startKey the first key to iterate over (inclusive), or null for no lower bound
+   * @param endKey the key to stop at (exclusive), or null for no upper bound
+   */
+  PartitionPayloadIterator(AlluxioBlockStore blockStore, PartitionInfo partition, long length,
+      @Nullable ByteBuffer startKey, @Nullable ByteBuffer endKey) throws IOException {
+    mBlockId = partition.getBlockId();
+    mStartKey = startKey;
+    mEndKey = endKey;
+    mBlockInStream = blockStore.getInStream(mBlockId, null, InStreamOptions.defaults());
+    try {
+      mPayloadRemaining = PartitionFooter.read(mBlockInStream, length).getPayloadLength();
+      mInputStream =
+          new DataInputStream(new BufferedInputStream(mBlockInStream, BUFFER_SIZE_BYTES));
+      advance();
+    } catch (IOException | RuntimeException e) {
+      mBlockInStream.close();
+      throw e;
+    }
+  }
+
+  /**
+   * @return whether there are more key-value pairs
+   */
+  public boolean hasNext() {
+    return mNext != null;
+  }
+
+  /**
+   * @return the next key-value pair, without moving to the following one
+   */
+  public KeyValuePair peek() {
+    if (mNext == null) {
+      throw new NoSuchElementException();
+    }
+    return mNext;
+  }
+
+  /**
+   * @return the next key-value pair
+   */
+  public KeyValuePair next() throws IOException {
+    KeyValuePair next = peek();
+    advance();
+    return next;
+  }
+
+  /**
+   * Reads the next key-value pair within the key range from the payload.
+   */
+  private void advance() throws IOException {
+    ByteBuffer lastKey = mNext == null ? null : mNext.getKey();
+    mNext = null;
+    while (mPayloadRemaining > 0) {
+      // See BasePayloadWriter#insert for the layout of each pair
+      int keyLength = mInputStream.readInt();
+      int valueLength = mInputStream.readInt();
+      byte[] key = new byte[keyLength];
+      mInputStream.readFully(key);
+      mPayloadRemaining -= 2 * Constants.BYTES_IN_INTEGER + keyLength + valueLength;
+      ByteBuffer keyBuffer = ByteBuffer.wrap(key);
+      Preconditions.checkState(lastKey == null || keyBuffer.compareTo(lastKey) > 0,
+          "The keys of partition %s are not sorted", mBlockId);
+      lastKey = keyBuffer;
+      if (mEndKey != null && keyBuffer.compareTo(mEndKey) >= 0) {
+        break;
+      }
+      if (mStartKey != null && keyBuffer.compareTo(mStartKey) < 0) {
+        skipFully(valueLength);
+        continue;
+      }
+      byte[] value = new byte[valueLength];
+      mInputStream.readFully(value);
+      mNext = new KeyValuePair(keyBuffer, ByteBuffer.wrap(value));
+      return;
+    }
+    // Releases the block as soon as the iteration is done
+    close();
+  }
+
+  private void skipFully(int length) throws IOException {
+    int skipped = 0;
+    while (skipped < length) {
+      int n = mInputStream.skipBytes(length - skipped);
+      if (n <= 0) {
+        mInputStream.readByte();
+        n = 1;
+      }
+      skipped += n;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    mClosed = true;
+    mPayloadRemaining = 0;
+    mBlockInStream.close();
+  }
+}
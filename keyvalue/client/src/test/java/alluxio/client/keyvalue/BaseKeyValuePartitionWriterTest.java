@@ -15,6 +15,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
 import alluxio.Configuration;
@@ -127,6 +128,37 @@ public final class BaseKeyValuePartitionWriterTest {
     reader.close();
   }
 
+  /**
+   * Tests {@link BaseKeyValuePartitionWriter#put} and then {@link BaseKeyValuePartitionReader#get}
+   * with a cuckoo index and a Bloom filter.
+   */
+  @Test
+  public void putAndGetWithCuckooIndexAndBloomFilter() throws Exception {
+    Configuration.set(PropertyKey.KEY_VALUE_PARTITION_INDEX_TYPE, IndexType.CUCKOO.name());
+    Configuration.set(PropertyKey.KEY_VALUE_PARTITION_BLOOM_FILTER_BITS_PER_KEY, "10");
+    try {
+      mWriter = new BaseKeyValuePartitionWriter(mOutStream);
+      mWriter.put(KEY1, VALUE1);
+      mWriter.put(KEY2, VALUE2);
+      long byteCount = mWriter.byteCount();
+      mWriter.close();
+      byte[] fileData = mOutStream.toByteArray();
+      assertEquals(byteCount, fileData.length);
+      ByteBufferKeyValuePartitionReader reader =
+          new ByteBufferKeyValuePartitionReader(ByteBuffer.wrap(fileData));
+      assertTrue(reader.getIndex() instanceof CuckooIndex);
+      assertNotNull(reader.getBloomFilter());
+      assertEquals(2, reader.size());
+      assertArrayEquals(VALUE1, reader.get(KEY1));
+      assertArrayEquals(VALUE2, reader.get(KEY2));
+
+      assertNull(reader.get("NoSuchKey".getBytes()));
+      reader.close();
+    } finally {
+      ConfigurationTestUtils.resetConfiguration();
+    }
+  }
+
   /**
    * Tests {@link BaseKeyValuePartitionWriter#canPut} works.
    */
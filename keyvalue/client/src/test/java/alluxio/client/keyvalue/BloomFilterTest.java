@@ -0,0 +1,64 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unit tests of {@link BloomFilter}.
+ */
+public final class BloomFilterTest {
+  private static final int KEY_COUNT = 10000;
+
+  /**
+   * Tests that {@link BloomFilter#mightContain} returns true for all the keys put, and that the
+   * false positive rate is close to the expected one, before and after recovering the filter from
+   * a byte array.
+   */
+  @Test
+  public void mightContain() {
+    BloomFilter filter = BloomFilter.createEmptyFilter(KEY_COUNT, 10);
+    for (int i = 0; i < KEY_COUNT; i++) {
+      filter.put(BloomFilter.hash(String.format("key:%d", i).getBytes()));
+    }
+    BloomFilter loaded = BloomFilter.loadFromByteArray(ByteBuffer.wrap(filter.getBytes()));
+    assertEquals(filter.byteCount(), loaded.byteCount());
+    for (BloomFilter current : new BloomFilter[] {filter, loaded}) {
+      int falsePositives = 0;
+      for (int i = 0; i < KEY_COUNT; i++) {
+        assertTrue(current.mightContain(ByteBuffer.wrap(String.format("key:%d", i).getBytes())));
+        if (current.mightContain(ByteBuffer.wrap(String.format("absent:%d", i).getBytes()))) {
+          falsePositives++;
+        }
+      }
+      // About 1% is expected with 10 bits per key
+      assertTrue("False positives: " + falsePositives, falsePositives < KEY_COUNT * 3 / 100);
+    }
+  }
+
+  /**
+   * Tests the size of {@link BloomFilter}.
+   */
+  @Test
+  public void byteCount() {
+    BloomFilter filter = BloomFilter.createEmptyFilter(KEY_COUNT, 10);
+    assertEquals(BloomFilter.expectedByteCount(KEY_COUNT, 10), filter.byteCount());
+    assertEquals(filter.byteCount(), filter.getBytes().length);
+    // An empty partition still gets a valid filter
+    assertTrue(BloomFilter.createEmptyFilter(0, 10).byteCount() > 0);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.client.keyvalue;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import alluxio.client.ByteArrayOutStream;
+import alluxio.util.io.BufferUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Unit tests of {@link CuckooIndex}.
+ */
+public final class CuckooIndexTest {
+  private static final byte[] KEY1 = "key1".getBytes();
+  private static final byte[] KEY2 = "key2_foo".getBytes();
+  private static final byte[] VALUE1 = "value1".getBytes();
+  private static final byte[] VALUE2 = "value2_bar".getBytes();
+  private ByteArrayOutStream mOutStream;
+  private BasePayloadWriter mPayloadWriter;
+
+  @Before
+  public void before() {
+    mOutStream = new ByteArrayOutStream();
+    mPayloadWriter = new BasePayloadWriter(mOutStream);
+  }
+
+  private PayloadReader createPayloadReader() throws IOException {
+    return new BasePayloadReader(ByteBuffer.wrap(mOutStream.toByteArray()));
+  }
+
+  /**
+   * Tests {@link CuckooIndex#get} to return correct values for inserted keys, before and after
+   * recovering the index from a byte array.
+   */
+  @Test
+  public void getInsertedKeys() throws Exception {
+    int testKeys = 10000;
+    CuckooIndex index = CuckooIndex.createEmptyIndex();
+    for (int i = 0; i < testKeys; i++) {
+      assertTrue(index.put(String.format("test-key:%d", i).getBytes(),
+          String.format("test-val:%d", i).getBytes(), mPayloadWriter));
+      assertEquals(i + 1, index.keyCount());
+    }
+    mPayloadWriter.close();
+
+    PayloadReader payloadReader = createPayloadReader();
+    CuckooIndex loaded = CuckooIndex.loadFromByteArray(ByteBuffer.wrap(index.getBytes()));
+    assertEquals(testKeys, loaded.keyCount());
+    for (Index current : new Index[] {index, loaded}) {
+      for (int i = 0; i < testKeys; i++) {
+        ByteBuffer value = current.get(
+            ByteBuffer.wrap(String.format("test-key:%d", i).getBytes()), payloadReader);
+        assertEquals(ByteBuffer.wrap(String.format("test-val:%d", i).getBytes()), value);
+      }
+      assertNull(current.get(ByteBuffer.wrap("NoSuchKey".getBytes()), payloadReader));
+    }
+  }
+
+  /**
+   * Tests that {@link CuckooIndex} is sized to the number of keys, at a load factor above the
+   * target one.
+   */
+  @Test
+  public void byteCount() throws Exception {
+    int testKeys = 10000;
+    CuckooIndex index = CuckooIndex.createEmptyIndex();
+    for (int i = 0; i < testKeys; i++) {
+      index.put(String.format("test-key:%d", i).getBytes(), VALUE1, mPayloadWriter);
+    }
+    int count = index.getBytes().length;
+    assertEquals(count, index.byteCount());
+    assertTrue(count <= 5 * testKeys / CuckooIndex.LOAD_FACTOR * 1.2);
+
+    index = CuckooIndex.loadFromByteArray(ByteBuffer.wrap(index.getBytes()));
+    assertEquals(count, index.byteCount());
+  }
+
+  /**
+   * Tests {@link CuckooIndex#get} and {@link CuckooIndex#keyIterator} on an empty index.
+   */
+  @Test
+  public void emptyIndex() throws Exception {
+    CuckooIndex index = CuckooIndex.loadFromByteArray(
+        ByteBuffer.wrap(CuckooIndex.createEmptyIndex().getBytes()));
+    assertEquals(0, index.keyCount());
+    assertNull(index.get(ByteBuffer.wrap(KEY1), createPayloadReader()));
+    assertNull(index.nextKey(null, createPayloadReader()));
+    assertFalse(index.keyIterator(createPayloadReader()).hasNext());
+  }
+
+  /**
+   * Tests that {@link CuckooIndex#nextKey} and {@link CuckooIndex#keyIterator} visit each key
+   * once in the same order.
+   */
+  @Test
+  public void nextKeyAndKeyIterator() throws Exception {
+    CuckooIndex index = CuckooIndex.createEmptyIndex();
+    index.put(KEY1, VALUE1, mPayloadWriter);
+    index.put(KEY2, VALUE2, mPayloadWriter);
+    mPayloadWriter.close();
+
+    PayloadReader payloadReader = createPayloadReader();
+    Set<ByteBuffer> keys = new HashSet<>();
+    Iterator<ByteBuffer> keyIterator = index.keyIterator(payloadReader);
+    ByteBuffer key = index.nextKey(null, payloadReader);
+    while (key != null) {
+      assertTrue(keyIterator.hasNext());
+      assertArrayEquals(BufferUtils.newByteArrayFromByteBuffer(key),
+          BufferUtils.newByteArrayFromByteBuffer(keyIterator.next()));
+      keys.add(key);
+      key = index.nextKey(key, payloadReader);
+    }
+    assertFalse(keyIterator.hasNext());
+    assertEquals(2, keys.size());
+    assertTrue(keys.contains(ByteBuffer.wrap(KEY1)));
+    assertTrue(keys.contains(ByteBuffer.wrap(KEY2)));
+  }
+}
@@ -13,6 +13,11 @@ struct GetNextKeysTResponse {
   1: list<binary> keys
 }
 
+struct MultiGetTOptions {}
+struct MultiGetTResponse {
+  1: list<binary> values
+}
+
 struct GetSizeTOptions {}
 struct GetSizeTResponse {
   1: i32 size
@@ -42,6 +47,17 @@ service KeyValueWorkerClientService extends common.AlluxioService {
     )
     throws (1: exception.AlluxioTException e)
 
+  /**
+   * Looks up a batch of keys, each of them in the block with the block id at the same position.
+   * The value of a key which is not found is empty.
+   */
+  MultiGetTResponse multiGet(
+    /** the ids of the blocks being accessed, one for each key */ 1: list<i64> blockIds,
+    /** binaries of the keys */ 2: list<binary> keys,
+    /** the method options */ 3: MultiGetTOptions options,
+    )
+    throws (1: exception.AlluxioTException e)
+
   /**
    * Gets the number of key-value pairs in the partition.
    */
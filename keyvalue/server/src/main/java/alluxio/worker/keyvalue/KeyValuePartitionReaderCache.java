@@ -0,0 +1,144 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.keyvalue;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.Sessions;
+import alluxio.client.keyvalue.ByteBufferKeyValuePartitionReader;
+import alluxio.exception.BlockDoesNotExistException;
+import alluxio.exception.InvalidWorkerStateException;
+import alluxio.worker.block.AbstractBlockStoreEventListener;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.io.BlockReader;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Cache of the readers of the key-value partitions stored on this worker, keyed by block id.
+ *
+ * Each reader is backed by a memory-mapped view of the whole block, so once a partition is cached
+ * a lookup only probes its index. Key-value blocks are immutable after being committed, and the
+ * readers only use absolute reads on duplicated buffers, so a cached reader can serve concurrent
+ * lookups. The cache registers itself as a block store event listener and drops the reader of a
+ * block as soon as the block is moved or removed. Dropped or evicted readers are not closed, so
+ * that the lookups still using them complete; the mapping is released once the reader is garbage
+ * collected.
+ */
+@ThreadSafe
+final class KeyValuePartitionReaderCache extends AbstractBlockStoreEventListener {
+  private final BlockWorker mBlockWorker;
+  private final Cache<Long, ByteBufferKeyValuePartitionReader> mReaders;
+
+  /**
+   * @param blockWorker the block worker to read the partitions from
+   */
+  KeyValuePartitionReaderCache(BlockWorker blockWorker) {
+    this(blockWorker,
+        Configuration.getLong(PropertyKey.WORKER_KEY_VALUE_READER_CACHE_CAPACITY));
+  }
+
+  /**
+   * @param blockWorker the block worker to read the partitions from
+   * @param capacity the maximum number of readers to cache
+   */
+  KeyValuePartitionReaderCache(BlockWorker blockWorker, long capacity) {
+    mBlockWorker = Preconditions.checkNotNull(blockWorker, "blockWorker");
+    mReaders = CacheBuilder.newBuilder().maximumSize(capacity).build();
+  }
+
+  /**
+   * Gets the reader of a key-value partition, mapping the block if its reader is not cached.
+   *
+   * @param blockId the id of the block storing the partition
+   * @return the reader of the partition
+   * @throws BlockDoesNotExistException if the worker is not serving this block
+   */
+  ByteBufferKeyValuePartitionReader get(long blockId)
+      throws BlockDoesNotExistException, IOException {
+    ByteBufferKeyValuePartitionReader reader = mReaders.getIfPresent(blockId);
+    if (reader != null) {
+      return reader;
+    }
+    final long sessionId = Sessions.KEYVALUE_SESSION_ID;
+    final long lockId = mBlockWorker.lockBlock(sessionId, blockId);
+    try {
+      // The reader is cached while the block is locked, since moving or removing the block has
+      // to wait for the lock, the listener is always notified after the reader is cached.
+      reader = mReaders.getIfPresent(blockId);
+      if (reader == null) {
+        reader = createReader(sessionId, lockId, blockId);
+        mReaders.put(blockId, reader);
+      }
+      return reader;
+    } finally {
+      mBlockWorker.unlockBlock(lockId);
+    }
+  }
+
+  /**
+   * Drops the cached reader of a block.
+   *
+   * @param blockId the id of the block
+   */
+  void invalidate(long blockId) {
+    mReaders.invalidate(blockId);
+  }
+
+  /**
+   * @return the number of cached readers
+   */
+  long size() {
+    return mReaders.size();
+  }
+
+  private ByteBufferKeyValuePartitionReader createReader(long sessionId, long lockId,
+      long blockId) throws BlockDoesNotExistException, IOException {
+    try (BlockReader blockReader = mBlockWorker.readBlockRemote(sessionId, blockId, lockId)) {
+      ByteBuffer fileBuffer = blockReader.read(0, blockReader.getLength());
+      return new ByteBufferKeyValuePartitionReader(fileBuffer);
+    } catch (InvalidWorkerStateException e) {
+      // We shall never reach here since the key-value session owns the lock
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public void onMoveBlockByClient(long sessionId, long blockId, BlockStoreLocation oldLocation,
+      BlockStoreLocation newLocation) {
+    invalidate(blockId);
+  }
+
+  @Override
+  public void onMoveBlockByWorker(long sessionId, long blockId, BlockStoreLocation oldLocation,
+      BlockStoreLocation newLocation) {
+    invalidate(blockId);
+  }
+
+  @Override
+  public void onRemoveBlockByClient(long sessionId, long blockId) {
+    invalidate(blockId);
+  }
+
+  @Override
+  public void onRemoveBlockByWorker(long sessionId, long blockId) {
+    invalidate(blockId);
+  }
+}
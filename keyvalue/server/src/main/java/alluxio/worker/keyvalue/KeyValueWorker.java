@@ -50,7 +50,9 @@ public final class KeyValueWorker extends AbstractWorker {
     // TODO(binfan): figure out do we really need thread pool for key-value worker (and for what)
     super(Executors.newFixedThreadPool(1,
         ThreadFactoryUtils.build("keyvalue-worker-heartbeat-%d", true)));
-    mKeyValueServiceHandler = new KeyValueWorkerClientServiceHandler(blockWorker);
+    KeyValuePartitionReaderCache readerCache = new KeyValuePartitionReaderCache(blockWorker);
+    blockWorker.getBlockStore().registerBlockStoreEventListener(readerCache);
+    mKeyValueServiceHandler = new KeyValueWorkerClientServiceHandler(readerCache);
   }
 
   @Override
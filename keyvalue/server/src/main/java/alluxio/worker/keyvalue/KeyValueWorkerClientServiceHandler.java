@@ -14,13 +14,11 @@ package alluxio.worker.keyvalue;
 import alluxio.Constants;
 import alluxio.RpcUtils;
 import alluxio.RpcUtils.RpcCallableThrowsIOException;
-import alluxio.Sessions;
 import alluxio.client.keyvalue.ByteBufferKeyValuePartitionReader;
 import alluxio.client.keyvalue.Index;
 import alluxio.client.keyvalue.PayloadReader;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.BlockDoesNotExistException;
-import alluxio.exception.InvalidWorkerStateException;
 import alluxio.thrift.AlluxioTException;
 import alluxio.thrift.GetNextKeysTOptions;
 import alluxio.thrift.GetNextKeysTResponse;
@@ -31,9 +29,9 @@ import alluxio.thrift.GetSizeTResponse;
 import alluxio.thrift.GetTOptions;
 import alluxio.thrift.GetTResponse;
 import alluxio.thrift.KeyValueWorkerClientService;
+import alluxio.thrift.MultiGetTOptions;
+import alluxio.thrift.MultiGetTResponse;
 import alluxio.util.io.BufferUtils;
-import alluxio.worker.block.BlockWorker;
-import alluxio.worker.block.io.BlockReader;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
@@ -49,20 +47,19 @@ import javax.annotation.concurrent.ThreadSafe;
 /**
  * RPC service handler on worker side to read a local key-value block.
  */
-// TODO(binfan): move logic outside and make this a simple wrapper.
 @ThreadSafe
 public final class KeyValueWorkerClientServiceHandler implements KeyValueWorkerClientService.Iface {
   private static final Logger LOG =
       LoggerFactory.getLogger(KeyValueWorkerClientServiceHandler.class);
 
-  /** BlockWorker handler for access block info. */
-  private final BlockWorker mBlockWorker;
+  /** Cache of the readers of the key-value partitions stored on this worker. */
+  private final KeyValuePartitionReaderCache mReaderCache;
 
   /**
-   * @param blockWorker the {@link BlockWorker}
+   * @param readerCache the cache of the readers of the key-value partitions
    */
-  KeyValueWorkerClientServiceHandler(BlockWorker blockWorker) {
-    mBlockWorker = Preconditions.checkNotNull(blockWorker, "blockWorker");
+  KeyValueWorkerClientServiceHandler(KeyValuePartitionReaderCache readerCache) {
+    mReaderCache = Preconditions.checkNotNull(readerCache, "readerCache");
   }
 
   @Override
@@ -101,28 +98,7 @@ public final class KeyValueWorkerClientServiceHandler implements KeyValueWorkerC
    */
   private ByteBuffer getInternal(long blockId, ByteBuffer keyBuffer)
       throws BlockDoesNotExistException, IOException {
-    final long sessionId = Sessions.KEYVALUE_SESSION_ID;
-    final long lockId = mBlockWorker.lockBlock(sessionId, blockId);
-    try {
-      return getReader(sessionId, lockId, blockId).get(keyBuffer);
-    } catch (InvalidWorkerStateException e) {
-      // We shall never reach here
-      LOG.error("Reaching invalid state to get a key", e);
-    } finally {
-      mBlockWorker.unlockBlock(lockId);
-    }
-    return null;
-  }
-
-  private ByteBufferKeyValuePartitionReader getReader(long sessionId, long lockId, long blockId)
-      throws InvalidWorkerStateException, BlockDoesNotExistException, IOException {
-    BlockReader blockReader = mBlockWorker.readBlockRemote(sessionId, blockId, lockId);
-    ByteBuffer fileBuffer = blockReader.read(0, blockReader.getLength());
-    ByteBufferKeyValuePartitionReader reader = new ByteBufferKeyValuePartitionReader(fileBuffer);
-    // TODO(binfan): clean fileBuffer which is a direct byte buffer
-
-    blockReader.close();
-    return reader;
+    return mReaderCache.get(blockId).get(keyBuffer);
   }
 
   @Override
@@ -131,53 +107,50 @@ public final class KeyValueWorkerClientServiceHandler implements KeyValueWorkerC
     return RpcUtils.call(LOG, new RpcCallableThrowsIOException<GetNextKeysTResponse>() {
       @Override
       public GetNextKeysTResponse call() throws AlluxioException, IOException {
-        final long sessionId = Sessions.KEYVALUE_SESSION_ID;
-        final long lockId = mBlockWorker.lockBlock(sessionId, blockId);
-        try {
-          ByteBufferKeyValuePartitionReader reader = getReader(sessionId, lockId, blockId);
-          Index index = reader.getIndex();
-          PayloadReader payloadReader = reader.getPayloadReader();
-
-          List<ByteBuffer> ret = Lists.newArrayListWithExpectedSize(numKeys);
-          ByteBuffer currentKey = key;
-          for (int i = 0; i < numKeys; i++) {
-            ByteBuffer nextKey = index.nextKey(currentKey, payloadReader);
-            if (nextKey == null) {
-              break;
-            }
-            ret.add(copyAsNonDirectBuffer(nextKey));
-            currentKey = nextKey;
+        ByteBufferKeyValuePartitionReader reader = mReaderCache.get(blockId);
+        Index index = reader.getIndex();
+        PayloadReader payloadReader = reader.getPayloadReader();
+
+        List<ByteBuffer> ret = Lists.newArrayListWithExpectedSize(numKeys);
+        ByteBuffer currentKey = key;
+        for (int i = 0; i < numKeys; i++) {
+          ByteBuffer nextKey = index.nextKey(currentKey, payloadReader);
+          if (nextKey == null) {
+            break;
           }
-          return new GetNextKeysTResponse(ret);
-        } catch (InvalidWorkerStateException e) {
-          // We shall never reach here
-          LOG.error("Reaching invalid state to get all keys", e);
-        } finally {
-          mBlockWorker.unlockBlock(lockId);
+          ret.add(copyAsNonDirectBuffer(nextKey));
+          currentKey = nextKey;
         }
-        return new GetNextKeysTResponse();
+        return new GetNextKeysTResponse(ret);
+      }
+    });
+  }
+
+  @Override
+  public MultiGetTResponse multiGet(final List<Long> blockIds, final List<ByteBuffer> keys,
+      MultiGetTOptions options) throws AlluxioTException {
+    return RpcUtils.call(LOG, new RpcCallableThrowsIOException<MultiGetTResponse>() {
+      @Override
+      public MultiGetTResponse call() throws AlluxioException, IOException {
+        Preconditions.checkArgument(blockIds.size() == keys.size(),
+            "got %s block ids for %s keys", blockIds.size(), keys.size());
+        List<ByteBuffer> values = Lists.newArrayListWithExpectedSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+          ByteBuffer value = getInternal(blockIds.get(i), keys.get(i));
+          values.add(value == null ? ByteBuffer.allocate(0) : copyAsNonDirectBuffer(value));
+        }
+        return new MultiGetTResponse(values);
       }
     });
   }
 
-  // TODO(cc): Try to remove the duplicated try-catch logic in other methods like getNextKeys.
   @Override
   public GetSizeTResponse getSize(final long blockId, GetSizeTOptions options)
       throws AlluxioTException {
     return RpcUtils.call(LOG, new RpcCallableThrowsIOException<GetSizeTResponse>() {
       @Override
       public GetSizeTResponse call() throws AlluxioException, IOException {
-        final long sessionId = Sessions.KEYVALUE_SESSION_ID;
-        final long lockId = mBlockWorker.lockBlock(sessionId, blockId);
-        try {
-          return new GetSizeTResponse(getReader(sessionId, lockId, blockId).size());
-        } catch (InvalidWorkerStateException e) {
-          // We shall never reach here
-          LOG.error("Reaching invalid state to get size", e);
-        } finally {
-          mBlockWorker.unlockBlock(lockId);
-        }
-        return new GetSizeTResponse(0);
+        return new GetSizeTResponse(mReaderCache.get(blockId).size());
       }
     });
   }
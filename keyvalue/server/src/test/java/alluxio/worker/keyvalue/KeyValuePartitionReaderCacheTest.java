@@ -0,0 +1,135 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.worker.keyvalue;
+
+import alluxio.Sessions;
+import alluxio.client.keyvalue.ByteBufferKeyValuePartitionReader;
+import alluxio.worker.block.BlockStoreLocation;
+import alluxio.worker.block.BlockWorker;
+import alluxio.worker.block.io.BlockReader;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unit tests for {@link KeyValuePartitionReaderCache}.
+ */
+public final class KeyValuePartitionReaderCacheTest {
+  private static final long SESSION_ID = Sessions.KEYVALUE_SESSION_ID;
+  private static final long BLOCK_ID1 = 1L;
+  private static final long BLOCK_ID2 = 2L;
+  private static final long LOCK_ID = 10L;
+  private static final BlockStoreLocation MEM = BlockStoreLocation.anyDirInTier("MEM");
+  private static final BlockStoreLocation SSD = BlockStoreLocation.anyDirInTier("SSD");
+
+  private BlockWorker mBlockWorker;
+  private KeyValuePartitionReaderCache mCache;
+
+  @Before
+  public void before() throws Exception {
+    mBlockWorker = Mockito.mock(BlockWorker.class);
+    Mockito.when(mBlockWorker.lockBlock(Mockito.eq(SESSION_ID), Mockito.anyLong()))
+        .thenReturn(LOCK_ID);
+    mockPartition(BLOCK_ID1);
+    mockPartition(BLOCK_ID2);
+    mCache = new KeyValuePartitionReaderCache(mBlockWorker, 1);
+  }
+
+  /**
+   * Makes the block worker return an empty partition for a block.
+   *
+   * @param blockId the id of the block
+   */
+  private void mockPartition(long blockId) throws Exception {
+    // An empty partition with a linear probing index of a single bucket, followed by the offset
+    // of the index
+    ByteBuffer partition = ByteBuffer.allocate(13);
+    partition.putInt(0, 0);
+    partition.putInt(9, 0);
+    BlockReader blockReader = Mockito.mock(BlockReader.class);
+    Mockito.when(blockReader.getLength()).thenReturn((long) partition.capacity());
+    Mockito.when(blockReader.read(0, partition.capacity())).thenReturn(partition.duplicate());
+    Mockito.when(mBlockWorker.readBlockRemote(SESSION_ID, blockId, LOCK_ID))
+        .thenReturn(blockReader);
+  }
+
+  /**
+   * Checks that a reader can still serve lookups.
+   *
+   * @param reader a partition reader
+   */
+  private static void assertUsable(ByteBufferKeyValuePartitionReader reader) throws Exception {
+    Assert.assertNull(reader.get(ByteBuffer.wrap("key".getBytes())));
+    Assert.assertEquals(0, reader.size());
+  }
+
+  @Test
+  public void cacheReader() throws Exception {
+    ByteBufferKeyValuePartitionReader reader = mCache.get(BLOCK_ID1);
+    Assert.assertSame(reader, mCache.get(BLOCK_ID1));
+    assertUsable(reader);
+    // The block is only mapped once, and unlocked after being mapped
+    Mockito.verify(mBlockWorker).readBlockRemote(SESSION_ID, BLOCK_ID1, LOCK_ID);
+    Mockito.verify(mBlockWorker).unlockBlock(LOCK_ID);
+    Assert.assertEquals(1, mCache.size());
+  }
+
+  @Test
+  public void evictReader() throws Exception {
+    ByteBufferKeyValuePartitionReader reader1 = mCache.get(BLOCK_ID1);
+    ByteBufferKeyValuePartitionReader reader2 = mCache.get(BLOCK_ID2);
+    Assert.assertEquals(1, mCache.size());
+    // A lookup still holding the evicted reader completes
+    assertUsable(reader1);
+    assertUsable(reader2);
+    // The evicted partition is mapped again
+    Assert.assertNotSame(reader1, mCache.get(BLOCK_ID1));
+    Mockito.verify(mBlockWorker, Mockito.times(2)).readBlockRemote(SESSION_ID, BLOCK_ID1, LOCK_ID);
+  }
+
+  @Test
+  public void removeBlockInvalidatesReader() throws Exception {
+    ByteBufferKeyValuePartitionReader reader = mCache.get(BLOCK_ID1);
+    mCache.onRemoveBlockByClient(SESSION_ID, BLOCK_ID1);
+    Assert.assertEquals(0, mCache.size());
+    assertUsable(reader);
+
+    Assert.assertNotSame(reader, mCache.get(BLOCK_ID1));
+    mCache.onRemoveBlockByWorker(SESSION_ID, BLOCK_ID1);
+    Assert.assertEquals(0, mCache.size());
+    Mockito.verify(mBlockWorker, Mockito.times(2)).readBlockRemote(SESSION_ID, BLOCK_ID1, LOCK_ID);
+  }
+
+  @Test
+  public void moveBlockInvalidatesReader() throws Exception {
+    ByteBufferKeyValuePartitionReader reader = mCache.get(BLOCK_ID1);
+    mCache.onMoveBlockByClient(SESSION_ID, BLOCK_ID1, MEM, SSD);
+    Assert.assertEquals(0, mCache.size());
+    assertUsable(reader);
+
+    Assert.assertNotSame(reader, mCache.get(BLOCK_ID1));
+    mCache.onMoveBlockByWorker(SESSION_ID, BLOCK_ID1, SSD, MEM);
+    Assert.assertEquals(0, mCache.size());
+    Mockito.verify(mBlockWorker, Mockito.times(2)).readBlockRemote(SESSION_ID, BLOCK_ID1, LOCK_ID);
+  }
+
+  @Test
+  public void otherBlockEventsKeepReader() throws Exception {
+    ByteBufferKeyValuePartitionReader reader = mCache.get(BLOCK_ID1);
+    mCache.onRemoveBlockByWorker(SESSION_ID, BLOCK_ID2);
+    Assert.assertSame(reader, mCache.get(BLOCK_ID1));
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli.fs.command;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.client.file.FileSystem;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.ExceptionMessage;
+import alluxio.exception.status.InvalidArgumentException;
+import alluxio.util.CommonUtils;
+import alluxio.wire.LoadInfo;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+
+import java.io.IOException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Loads a file or directory into Alluxio with the workers reading the blocks directly from the
+ * under storage, instead of streaming the data through this client.
+ */
+@ThreadSafe
+public final class DistributedLoadCommand extends WithWildCardPathCommand {
+  private static final long PROGRESS_INTERVAL_MS = Constants.SECOND_MS;
+
+  private static final Option ASYNC_OPTION =
+      Option.builder()
+          .longOpt("async")
+          .required(false)
+          .hasArg(false)
+          .desc("start the load without waiting for it to finish.")
+          .build();
+
+  /**
+   * Constructs a new instance to load a file or directory with the Alluxio workers.
+   *
+   * @param fs the filesystem of Alluxio
+   */
+  public DistributedLoadCommand(FileSystem fs) {
+    super(fs);
+  }
+
+  @Override
+  public String getCommandName() {
+    return "distributedLoad";
+  }
+
+  @Override
+  public Options getOptions() {
+    return new Options().addOption(ASYNC_OPTION);
+  }
+
+  @Override
+  protected void runCommand(AlluxioURI path, CommandLine cl) throws AlluxioException, IOException {
+    long loadId = mFileSystem.load(path);
+    if (cl.hasOption(ASYNC_OPTION.getLongOpt())) {
+      System.out.println("Started load " + loadId + " of " + path);
+      return;
+    }
+    LoadInfo info = mFileSystem.getLoadStatus(loadId);
+    while (info.getLoadedBlocks() + info.getFailedBlocks() < info.getTotalBlocks()) {
+      System.out.println(String.format("%s: %d/%d blocks loaded", path, info.getLoadedBlocks(),
+          info.getTotalBlocks()));
+      CommonUtils.sleepMs(PROGRESS_INTERVAL_MS);
+      info = mFileSystem.getLoadStatus(loadId);
+    }
+    if (info.getFailedBlocks() > 0) {
+      throw new IOException(String.format("Failed to load %d of %d blocks of %s",
+          info.getFailedBlocks(), info.getTotalBlocks(), path));
+    }
+    System.out.println(path + " loaded");
+  }
+
+  @Override
+  public String getUsage() {
+    return "distributedLoad [--async] <path>";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Loads a file or directory into Alluxio in parallel on the Alluxio workers."
+        + " Specify --async to return once the load is started.";
+  }
+
+  @Override
+  public void validateArgs(String... args) throws InvalidArgumentException {
+    if (args.length < 1) {
+      throw new InvalidArgumentException(ExceptionMessage.INVALID_ARGS_NUM_INSUFFICIENT
+          .getMessage(getCommandName(), 1, args.length));
+    }
+  }
+}
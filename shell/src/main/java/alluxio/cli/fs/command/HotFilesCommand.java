@@ -0,0 +1,116 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli.fs.command;
+
+import alluxio.Constants;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.file.FileSystemMasterClient;
+import alluxio.exception.status.InvalidArgumentException;
+import alluxio.resource.CloseableResource;
+import alluxio.wire.HotFileInfo;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+
+import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Prints the files whose blocks were recently read the most from the Alluxio workers.
+ */
+@ThreadSafe
+public final class HotFilesCommand extends AbstractFileSystemCommand {
+
+  private static final String LIMIT = "n";
+
+  private static final Option LIMIT_OPTION = Option.builder(LIMIT).required(false)
+      .numberOfArgs(1).desc("maximum number of files to print").build();
+
+  /**
+   * @param fs the filesystem of Alluxio
+   */
+  public HotFilesCommand(FileSystem fs) {
+    super(fs);
+  }
+
+  @Override
+  public String getCommandName() {
+    return "hotFiles";
+  }
+
+  @Override
+  protected int getNumOfArgs() {
+    return 0;
+  }
+
+  @Override
+  public Options getOptions() {
+    return new Options().addOption(LIMIT_OPTION);
+  }
+
+  @Override
+  public CommandLine parseAndValidateArgs(String... args) throws InvalidArgumentException {
+    CommandLine cmd = super.parseAndValidateArgs(args);
+    if (cmd == null) {
+      return null;
+    }
+    if (cmd.hasOption(LIMIT)) {
+      try {
+        if (Integer.parseInt(cmd.getOptionValue(LIMIT)) > 0) {
+          return cmd;
+        }
+      } catch (NumberFormatException e) {
+        // Fall through to the error below
+      }
+      System.err.println("The number of files must be a positive integer");
+      return null;
+    }
+    return cmd;
+  }
+
+  @Override
+  public int run(CommandLine cl) throws IOException {
+    int limit = cl.hasOption(LIMIT) ? Integer.parseInt(cl.getOptionValue(LIMIT))
+        : Constants.DEFAULT_HOT_FILES_LIMIT;
+    List<HotFileInfo> hotFiles;
+    try (CloseableResource<FileSystemMasterClient> client =
+        FileSystemContext.INSTANCE.acquireMasterClientResource()) {
+      hotFiles = client.get().getHotFiles(limit);
+    }
+    if (hotFiles.isEmpty()) {
+      System.out.println("No file reads have been reported recently.");
+      return 0;
+    }
+    System.out.println(String.format("%-15s %s", "Access Count", "Path"));
+    for (HotFileInfo hotFile : hotFiles) {
+      System.out.println(String.format("%-15d %s", hotFile.getAccessCount(), hotFile.getPath()));
+    }
+    return 0;
+  }
+
+  @Override
+  public String getUsage() {
+    return "hotFiles [-n <num>]";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Prints the files whose blocks were recently read the most from the Alluxio workers, "
+        + "ordered by their access counts. Older reads weigh less than recent ones. Specify -n "
+        + "to change the number of files printed, " + Constants.DEFAULT_HOT_FILES_LIMIT
+        + " by default.";
+  }
+}
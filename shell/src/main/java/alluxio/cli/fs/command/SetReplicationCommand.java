@@ -0,0 +1,116 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli.fs.command;
+
+import alluxio.AlluxioURI;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.options.SetAttributeOptions;
+import alluxio.exception.AlluxioException;
+import alluxio.exception.status.InvalidArgumentException;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Option;
+import org.apache.commons.cli.Options;
+
+import java.io.IOException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Sets the minimum and maximum number of replicas of each block of a file, or of all files in a
+ * directory.
+ */
+@ThreadSafe
+public final class SetReplicationCommand extends AbstractFileSystemCommand {
+
+  private static final String MIN = "min";
+  private static final String MAX = "max";
+
+  private static final Option MIN_OPTION = Option.builder(MIN).required(false)
+      .numberOfArgs(1).desc("minimum number of replicas").build();
+  private static final Option MAX_OPTION = Option.builder(MAX).required(false)
+      .numberOfArgs(1).desc("maximum number of replicas, or -1 for no limit").build();
+
+  /**
+   * @param fs the filesystem of Alluxio
+   */
+  public SetReplicationCommand(FileSystem fs) {
+    super(fs);
+  }
+
+  @Override
+  public String getCommandName() {
+    return "setReplication";
+  }
+
+  @Override
+  protected int getNumOfArgs() {
+    return 1;
+  }
+
+  @Override
+  public Options getOptions() {
+    return new Options().addOption(MIN_OPTION).addOption(MAX_OPTION);
+  }
+
+  @Override
+  public CommandLine parseAndValidateArgs(String... args) throws InvalidArgumentException {
+    CommandLine cmd = super.parseAndValidateArgs(args);
+    if (cmd == null) {
+      return null;
+    }
+    if (!cmd.hasOption(MIN) && !cmd.hasOption(MAX)) {
+      System.err.println("At least one of -min and -max must be specified");
+      return null;
+    }
+    try {
+      if (cmd.hasOption(MIN)) {
+        Integer.parseInt(cmd.getOptionValue(MIN));
+      }
+      if (cmd.hasOption(MAX)) {
+        Integer.parseInt(cmd.getOptionValue(MAX));
+      }
+    } catch (NumberFormatException e) {
+      System.err.println("The number of replicas must be an integer");
+      return null;
+    }
+    return cmd;
+  }
+
+  @Override
+  public int run(CommandLine cl) throws AlluxioException, IOException {
+    AlluxioURI path = new AlluxioURI(cl.getArgs()[0]);
+    SetAttributeOptions options = SetAttributeOptions.defaults();
+    if (cl.hasOption(MIN)) {
+      options.setReplicationMin(Integer.parseInt(cl.getOptionValue(MIN)));
+    }
+    if (cl.hasOption(MAX)) {
+      options.setReplicationMax(Integer.parseInt(cl.getOptionValue(MAX)));
+    }
+    mFileSystem.setAttribute(path, options);
+    System.out.println("Changed the replication of " + path + " to min: "
+        + options.getReplicationMin() + ", max: " + options.getReplicationMax());
+    return 0;
+  }
+
+  @Override
+  public String getUsage() {
+    return "setReplication [-min <num>] [-max <num>] <path>";
+  }
+
+  @Override
+  public String getDescription() {
+    return "Sets the minimum and maximum number of replicas of each block of a file, or of all "
+        + "files in a directory. Blocks are copied between workers to meet the minimum, and "
+        + "extra replicas are removed to meet the maximum. A maximum of -1 means no limit.";
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli.fs.command;
+
+import alluxio.AlluxioURI;
+import alluxio.cli.fs.AbstractAlluxioShellTest;
+import alluxio.client.WriteType;
+import alluxio.client.file.FileInStream;
+import alluxio.client.file.FileSystemContext;
+import alluxio.client.file.FileSystemMasterClient;
+import alluxio.client.file.FileSystemTestUtils;
+import alluxio.resource.CloseableResource;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+import alluxio.wire.HotFileInfo;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Tests for hotFiles command.
+ */
+public final class HotFilesCommandIntegrationTest extends AbstractAlluxioShellTest {
+  @Test
+  public void hotFiles() throws Exception {
+    FileSystemTestUtils.createByteFile(mFileSystem, "/hotFile", WriteType.MUST_CACHE, 10);
+    FileSystemTestUtils.createByteFile(mFileSystem, "/coldFile", WriteType.MUST_CACHE, 10);
+    for (int i = 0; i < 3; i++) {
+      readFile("/hotFile");
+    }
+    readFile("/coldFile");
+
+    CommonUtils.waitFor("reads to be reported to the master", input -> {
+      try (CloseableResource<FileSystemMasterClient> client =
+          FileSystemContext.INSTANCE.acquireMasterClientResource()) {
+        List<HotFileInfo> hotFiles = client.get().getHotFiles(10);
+        return hotFiles.size() == 2
+            && hotFiles.get(0).getAccessCount() + hotFiles.get(1).getAccessCount() == 4;
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }, WaitForOptions.defaults().setTimeoutMs(30000));
+
+    Assert.assertEquals(0, mFsShell.run("hotFiles", "-n", "1"));
+    String output = mOutput.toString();
+    Assert.assertTrue(output, output.contains("/hotFile"));
+    Assert.assertFalse(output, output.contains("/coldFile"));
+  }
+
+  @Test
+  public void hotFilesNoReads() throws Exception {
+    Assert.assertEquals(0, mFsShell.run("hotFiles"));
+    Assert.assertTrue(mOutput.toString().contains("No file reads have been reported recently."));
+  }
+
+  @Test
+  public void hotFilesInvalidLimit() throws Exception {
+    Assert.assertEquals(-1, mFsShell.run("hotFiles", "-n", "0"));
+  }
+
+  private void readFile(String path) throws Exception {
+    try (FileInStream is = mFileSystem.openFile(new AlluxioURI(path))) {
+      IOUtils.toByteArray(is);
+    }
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.cli.fs.command;
+
+import alluxio.AlluxioURI;
+import alluxio.Constants;
+import alluxio.cli.fs.AbstractAlluxioShellTest;
+import alluxio.client.WriteType;
+import alluxio.client.file.FileSystemTestUtils;
+import alluxio.client.file.URIStatus;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for setReplication command.
+ */
+public final class SetReplicationCommandIntegrationTest extends AbstractAlluxioShellTest {
+  @Test
+  public void setReplication() throws Exception {
+    String filePath = "/testFile";
+    FileSystemTestUtils.createByteFile(mFileSystem, filePath, WriteType.MUST_CACHE, 1);
+    AlluxioURI uri = new AlluxioURI(filePath);
+    URIStatus status = mFileSystem.getStatus(uri);
+    Assert.assertEquals(0, status.getReplicationMin());
+    Assert.assertEquals(Constants.REPLICATION_MAX_INFINITY, status.getReplicationMax());
+
+    Assert.assertEquals(0, mFsShell.run("setReplication", "-min", "1", "-max", "2", filePath));
+    status = mFileSystem.getStatus(uri);
+    Assert.assertEquals(1, status.getReplicationMin());
+    Assert.assertEquals(2, status.getReplicationMax());
+
+    // Only the specified limit is changed.
+    Assert.assertEquals(0, mFsShell.run("setReplication", "-max", "-1", filePath));
+    status = mFileSystem.getStatus(uri);
+    Assert.assertEquals(1, status.getReplicationMin());
+    Assert.assertEquals(Constants.REPLICATION_MAX_INFINITY, status.getReplicationMax());
+  }
+
+  @Test
+  public void setReplicationWithoutLimits() throws Exception {
+    String filePath = "/testFile";
+    FileSystemTestUtils.createByteFile(mFileSystem, filePath, WriteType.MUST_CACHE, 1);
+    Assert.assertEquals(-1, mFsShell.run("setReplication", filePath));
+  }
+
+  @Test
+  public void setReplicationInvalid() throws Exception {
+    String filePath = "/testFile";
+    FileSystemTestUtils.createByteFile(mFileSystem, filePath, WriteType.MUST_CACHE, 1);
+    Assert.assertEquals(-1, mFsShell.run("setReplication", "-min", "2", "-max", "1", filePath));
+  }
+}
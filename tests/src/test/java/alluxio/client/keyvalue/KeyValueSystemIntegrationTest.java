@@ -14,6 +14,7 @@ package alluxio.client.keyvalue;
 import alluxio.AlluxioURI;
 import alluxio.BaseIntegrationTest;
 import alluxio.Configuration;
+import alluxio.ConfigurationRule;
 import alluxio.Constants;
 import alluxio.LocalAlluxioClusterResource;
 import alluxio.PropertyKey;
@@ -22,9 +23,11 @@ import alluxio.client.file.URIStatus;
 import alluxio.exception.AlluxioException;
 import alluxio.exception.ExceptionMessage;
 import alluxio.master.MasterClientConfig;
+import alluxio.thrift.PartitionInfo;
 import alluxio.util.io.BufferUtils;
 import alluxio.util.io.PathUtils;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -35,7 +38,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -252,6 +257,174 @@ public final class KeyValueSystemIntegrationTest extends BaseIntegrationTest {
     mReader.close();
   }
 
+  /**
+   * Tests looking up a batch of keys spread over multiple partitions, both with and without
+   * short-circuit reads of the local partitions.
+   */
+  @Test
+  public void multiGetMultiPartitions() throws Exception {
+    final int numKeys = 10;
+    final int keyLength = 4; // 4Byte key
+    final int valueLength = 500 * Constants.KB; // 500KB value
+
+    AlluxioURI storeUri = createStoreOfMultiplePartitions(numKeys, null);
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = numKeys - 1; i >= 0; i--) {
+      keys.add(ByteBuffer.wrap(BufferUtils.getIncreasingByteArray(i, keyLength)));
+    }
+    keys.add(ByteBuffer.wrap(KEY1));
+
+    for (boolean shortCircuit : new boolean[] {true, false}) {
+      try (Closeable c = new ConfigurationRule(PropertyKey.USER_SHORT_CIRCUIT_ENABLED,
+          String.valueOf(shortCircuit)).toResource()) {
+        mReader = sKeyValueSystem.openStore(storeUri);
+        List<ByteBuffer> values = mReader.multiGet(keys);
+        Assert.assertEquals(keys.size(), values.size());
+        for (int i = 0; i < numKeys; i++) {
+          Assert.assertTrue(BufferUtils.equalIncreasingByteArray(numKeys - 1 - i, valueLength,
+              BufferUtils.newByteArrayFromByteBuffer(values.get(i))));
+        }
+        Assert.assertNull(values.get(numKeys));
+        mReader.close();
+      }
+    }
+  }
+
+  /**
+   * Tests looking up keys with short-circuit reads of partitions larger than the packet size of
+   * the local reader.
+   */
+  @Test
+  public void multiGetPartitionsLargerThanPacket() throws Exception {
+    final int numKeys = 3;
+    final int keyLength = 4; // 4Byte key
+    final int valueLength = 500 * Constants.KB; // 500KB value
+
+    AlluxioURI storeUri = createStoreOfMultiplePartitions(numKeys, null);
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < numKeys; i++) {
+      keys.add(ByteBuffer.wrap(BufferUtils.getIncreasingByteArray(i, keyLength)));
+    }
+
+    try (Closeable c = new ConfigurationRule(ImmutableMap.of(
+        PropertyKey.USER_SHORT_CIRCUIT_ENABLED, "true",
+        PropertyKey.USER_LOCAL_READER_PACKET_SIZE_BYTES, String.valueOf(64 * Constants.KB)))
+        .toResource()) {
+      mReader = sKeyValueSystem.openStore(storeUri);
+      List<ByteBuffer> values = mReader.multiGet(keys);
+      for (int i = 0; i < numKeys; i++) {
+        Assert.assertTrue(BufferUtils.equalIncreasingByteArray(i, valueLength,
+            BufferUtils.newByteArrayFromByteBuffer(values.get(i))));
+      }
+      mReader.close();
+    }
+  }
+
+  /**
+   * Tests that the keys of a store of partitions with a cuckoo index and a Bloom filter are found,
+   * and that absent keys are not.
+   */
+  @Test
+  public void getWithCuckooIndexAndBloomFilter() throws Exception {
+    final int numKeys = 100;
+    final int keyLength = 4; // 4Byte key
+    final int valueLength = 100; // 100Byte value
+
+    try (Closeable c = new ConfigurationRule(ImmutableMap.of(
+        PropertyKey.KEY_VALUE_PARTITION_INDEX_TYPE, IndexType.CUCKOO.name(),
+        PropertyKey.KEY_VALUE_PARTITION_BLOOM_FILTER_BITS_PER_KEY, "10")).toResource()) {
+      mWriter = sKeyValueSystem.createStore(mStoreUri);
+      for (int i = 0; i < numKeys; i++) {
+        mWriter.put(BufferUtils.getIncreasingByteArray(i, keyLength),
+            BufferUtils.getIncreasingByteArray(i, valueLength));
+      }
+      mWriter.close();
+
+      mReader = sKeyValueSystem.openStore(mStoreUri);
+      List<ByteBuffer> absentKeys = new ArrayList<>();
+      for (int i = 0; i < numKeys; i++) {
+        byte[] key = BufferUtils.getIncreasingByteArray(i, keyLength);
+        Assert.assertTrue(BufferUtils.equalIncreasingByteArray(i, valueLength, mReader.get(key)));
+        // A longer key is ordered right after the key, within the key range of the store
+        absentKeys.add(ByteBuffer.wrap(BufferUtils.getIncreasingByteArray(i, keyLength + 1)));
+        Assert.assertNull(mReader.get(absentKeys.get(i)));
+      }
+      for (ByteBuffer value : mReader.multiGet(absentKeys)) {
+        Assert.assertNull(value);
+      }
+      mReader.close();
+    }
+  }
+
+  /**
+   * Tests that compacting a store of overlapping partitions produces a store of sorted,
+   * non-overlapping partitions holding the same key-value pairs, and that range scans over the
+   * compacted store return the keys in order.
+   */
+  @Test
+  public void compactStore() throws Exception {
+    final int numKeys = 400;
+    final int valueLength = Constants.KB; // 1KB value
+    List<KeyValuePair> pairs = new ArrayList<>();
+    AlluxioURI evenStore = new AlluxioURI(PathUtils.uniqPath());
+    AlluxioURI oddStore = new AlluxioURI(PathUtils.uniqPath());
+    AlluxioURI compactedStore = new AlluxioURI(PathUtils.uniqPath());
+
+    try (Closeable c = new ConfigurationRule(ImmutableMap.of(
+        PropertyKey.KEY_VALUE_PARTITION_SIZE_BYTES_MAX, String.valueOf(200 * Constants.KB),
+        PropertyKey.KEY_VALUE_COMPACTION_THREADS, "3")).toResource()) {
+      // Interleaved keys make the partitions of the two stores overlap once they are merged
+      for (int parity = 0; parity < 2; parity++) {
+        mWriter = sKeyValueSystem.createStore(parity == 0 ? evenStore : oddStore);
+        for (int i = parity; i < numKeys; i += 2) {
+          byte[] key = String.format("key%05d", i).getBytes();
+          byte[] value = BufferUtils.getIncreasingByteArray(i, valueLength);
+          mWriter.put(key, value);
+          pairs.add(new KeyValuePair(key, value));
+        }
+        mWriter.close();
+      }
+      sKeyValueSystem.mergeStore(oddStore, evenStore);
+
+      Configuration.set(PropertyKey.KEY_VALUE_PARTITION_SIZE_BYTES_MAX,
+          String.valueOf(512 * Constants.KB));
+      sKeyValueSystem.compactStore(evenStore, compactedStore);
+    }
+
+    List<PartitionInfo> partitions;
+    try (KeyValueMasterClient client = new KeyValueMasterClient(MasterClientConfig.defaults())) {
+      Assert.assertTrue(getPartitionNumber(compactedStore) < getPartitionNumber(evenStore));
+      partitions = client.getPartitionInfo(compactedStore);
+    }
+    for (int i = 1; i < partitions.size(); i++) {
+      Assert.assertTrue(ByteBuffer.wrap(partitions.get(i - 1).getKeyLimit())
+          .compareTo(ByteBuffer.wrap(partitions.get(i).getKeyStart())) < 0);
+    }
+
+    Collections.sort(pairs);
+    mReader = sKeyValueSystem.openStore(compactedStore);
+    Assert.assertEquals(numKeys, mReader.size());
+    List<KeyValuePair> compactedPairs = new ArrayList<>();
+    KeyValueIterator iterator = mReader.iterator();
+    while (iterator.hasNext()) {
+      compactedPairs.add(iterator.next());
+    }
+    Assert.assertEquals(pairs, compactedPairs);
+    for (KeyValuePair pair : pairs) {
+      Assert.assertEquals(pair.getValue(), ByteBuffer.wrap(mReader.get(pair.getKey().array())));
+    }
+
+    // Scans [key00100, key00300) across several partitions
+    List<KeyValuePair> rangePairs = new ArrayList<>();
+    iterator = mReader.iterator(ByteBuffer.wrap("key00100".getBytes()),
+        ByteBuffer.wrap("key00300".getBytes()));
+    while (iterator.hasNext()) {
+      rangePairs.add(iterator.next());
+    }
+    Assert.assertEquals(pairs.subList(100, 300), rangePairs);
+    mReader.close();
+  }
+
   /**
    * Tests putting a key-value pair that is larger than the max key-value partition size,
    * expecting exception thrown.
@@ -0,0 +1,95 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master;
+
+import alluxio.AlluxioURI;
+import alluxio.BaseIntegrationTest;
+import alluxio.LocalAlluxioClusterResource;
+import alluxio.PropertyKey;
+import alluxio.client.MetaMasterClient;
+import alluxio.client.RetryHandlingMetaMasterClient;
+import alluxio.client.WriteType;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.FileSystemTestUtils;
+import alluxio.client.file.URIStatus;
+import alluxio.client.file.options.CreateFileOptions;
+import alluxio.security.LoginUser;
+import alluxio.util.io.BufferUtils;
+import alluxio.wire.MasterInfo;
+import alluxio.wire.MasterInfo.MasterInfoField;
+
+import com.google.common.collect.Sets;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Integration tests for master clients sending their RPCs over multiplexed connections.
+ */
+public final class MultiplexedRpcIntegrationTest extends BaseIntegrationTest {
+  private static final int MAX_HANDLER_THREADS = 2;
+
+  @Rule
+  public LocalAlluxioClusterResource mLocalAlluxioClusterResource =
+      new LocalAlluxioClusterResource.Builder()
+          .setProperty(PropertyKey.MASTER_RPC_MULTIPLEXED_ENABLED, true)
+          .setProperty(PropertyKey.MASTER_RPC_MULTIPLEXED_PORT, 0)
+          .setProperty(PropertyKey.USER_MASTER_CLIENT_MULTIPLEXED_ENABLED, true)
+          .setProperty(PropertyKey.MASTER_WORKER_THREADS_MIN, 1)
+          .setProperty(PropertyKey.MASTER_WORKER_THREADS_MAX, MAX_HANDLER_THREADS)
+          .build();
+
+  /**
+   * Tests that files can be written and read, and are owned by the authenticated user.
+   */
+  @Test
+  public void writeAndRead() throws Exception {
+    FileSystem fs = mLocalAlluxioClusterResource.get().getClient();
+    String path = "/file";
+    FileSystemTestUtils.createByteFile(fs, path, 100,
+        CreateFileOptions.defaults().setWriteType(WriteType.MUST_CACHE));
+    URIStatus status = fs.getStatus(new AlluxioURI(path));
+    Assert.assertEquals(100, status.getLength());
+    Assert.assertEquals(LoginUser.get().getName(), status.getOwner());
+    byte[] data = new byte[100];
+    fs.openFile(new AlluxioURI(path)).read(data);
+    Assert.assertTrue(BufferUtils.equalIncreasingByteArray(100, data));
+  }
+
+  /**
+   * Tests that more clients than handler threads can be connected and served at the same time.
+   */
+  @Test
+  public void moreClientsThanHandlerThreads() throws Exception {
+    List<MetaMasterClient> clients = new ArrayList<>();
+    try {
+      for (int i = 0; i < MAX_HANDLER_THREADS * 4; i++) {
+        RetryHandlingMetaMasterClient client =
+            new RetryHandlingMetaMasterClient(MasterClientConfig.defaults());
+        clients.add(client);
+        client.connect();
+      }
+      for (MetaMasterClient client : clients) {
+        MasterInfo info = client.getInfo(Sets.newHashSet(MasterInfoField.WEB_PORT));
+        Assert.assertEquals(mLocalAlluxioClusterResource.get().getLocalAlluxioMaster()
+            .getMasterProcess().getWebAddress().getPort(), info.getWebPort());
+      }
+    } finally {
+      for (MetaMasterClient client : clients) {
+        client.close();
+      }
+    }
+  }
+}
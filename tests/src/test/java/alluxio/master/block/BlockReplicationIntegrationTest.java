@@ -0,0 +1,94 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.master.block;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import alluxio.AlluxioURI;
+import alluxio.BaseIntegrationTest;
+import alluxio.Constants;
+import alluxio.LocalAlluxioClusterResource;
+import alluxio.PropertyKey;
+import alluxio.client.WriteType;
+import alluxio.client.file.FileInStream;
+import alluxio.client.file.FileSystem;
+import alluxio.client.file.FileSystemTestUtils;
+import alluxio.client.file.URIStatus;
+import alluxio.client.file.options.SetAttributeOptions;
+import alluxio.heartbeat.HeartbeatContext;
+import alluxio.heartbeat.HeartbeatScheduler;
+import alluxio.heartbeat.ManuallyScheduleHeartbeat;
+import alluxio.util.CommonUtils;
+import alluxio.util.WaitForOptions;
+import alluxio.util.io.BufferUtils;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Integration tests for copying blocks between workers to meet the replication limits of files.
+ */
+public final class BlockReplicationIntegrationTest extends BaseIntegrationTest {
+  private static final int NUM_WORKERS = 2;
+  private static final int FILE_SIZE = 10 * Constants.KB;
+
+  @ClassRule
+  public static ManuallyScheduleHeartbeat sManuallySchedule =
+      new ManuallyScheduleHeartbeat(HeartbeatContext.MASTER_REPLICATION_CHECK);
+
+  @Rule
+  public LocalAlluxioClusterResource mResource =
+      new LocalAlluxioClusterResource.Builder()
+          .setProperty(PropertyKey.WORKER_BLOCK_HEARTBEAT_INTERVAL_MS, "100ms")
+          .setNumWorkers(NUM_WORKERS)
+          .build();
+
+  @Test
+  public void replicateAndRemove() throws Exception {
+    AlluxioURI file = new AlluxioURI("/test");
+    FileSystem fs = mResource.get().getClient();
+    FileSystemTestUtils.createByteFile(fs, file.getPath(), WriteType.MUST_CACHE, FILE_SIZE);
+    final long blockId = fs.getStatus(file).getBlockIds().get(0);
+    final BlockMaster blockMaster = mResource.get().getLocalAlluxioMaster().getMasterProcess()
+        .getMaster(BlockMaster.class);
+    assertEquals(1, blockMaster.getBlockInfo(blockId).getLocations().size());
+
+    fs.setAttribute(file, SetAttributeOptions.defaults().setReplicationMin(NUM_WORKERS));
+    URIStatus status = fs.getStatus(file);
+    assertEquals(NUM_WORKERS, status.getReplicationMin());
+    HeartbeatScheduler.execute(HeartbeatContext.MASTER_REPLICATION_CHECK);
+    waitForReplicas(blockMaster, blockId, NUM_WORKERS);
+    try (FileInStream inStream = fs.openFile(file)) {
+      assertArrayEquals(BufferUtils.getIncreasingByteArray(FILE_SIZE),
+          IOUtils.toByteArray(inStream));
+    }
+
+    fs.setAttribute(file,
+        SetAttributeOptions.defaults().setReplicationMin(0).setReplicationMax(1));
+    HeartbeatScheduler.execute(HeartbeatContext.MASTER_REPLICATION_CHECK);
+    waitForReplicas(blockMaster, blockId, 1);
+  }
+
+  private void waitForReplicas(final BlockMaster blockMaster, final long blockId,
+      final int numReplicas) {
+    CommonUtils.waitFor("block " + blockId + " to have " + numReplicas + " replicas", (input) -> {
+      try {
+        return blockMaster.getBlockInfo(blockId).getLocations().size() == numReplicas;
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    }, WaitForOptions.defaults().setTimeoutMs(30 * Constants.SECOND_MS));
+  }
+}
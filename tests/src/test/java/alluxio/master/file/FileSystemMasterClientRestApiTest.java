@@ -14,6 +14,7 @@ package alluxio.master.file;
 import alluxio.AlluxioURI;
 import alluxio.Constants;
 import alluxio.exception.FileDoesNotExistException;
+import alluxio.master.block.BlockMaster;
 import alluxio.master.file.options.CompleteFileOptions;
 import alluxio.master.file.options.CreateFileOptions;
 import alluxio.master.file.options.GetStatusOptions;
@@ -21,11 +22,14 @@ import alluxio.master.file.options.ListStatusOptions;
 import alluxio.master.file.options.MountOptions;
 import alluxio.rest.RestApiTest;
 import alluxio.rest.TestCase;
+import alluxio.util.IdUtils;
 import alluxio.wire.FileInfo;
+import alluxio.wire.HotFileInfo;
 import alluxio.wire.TtlAction;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import org.junit.Assert;
 import org.junit.Before;
@@ -159,6 +163,26 @@ public final class FileSystemMasterClientRestApiTest extends RestApiTest {
         params, HttpMethod.POST, null).run();
   }
 
+  @Test
+  public void getHotFiles() throws Exception {
+    AlluxioURI uri = new AlluxioURI("/file");
+    mFileSystemMaster.createFile(uri, CreateFileOptions.defaults());
+    long blockId = mFileSystemMaster.getNewBlockIdForFile(uri);
+    mResource.get().getLocalAlluxioMaster().getMasterProcess().getMaster(BlockMaster.class)
+        .reportBlockAccessCounts(IdUtils.INVALID_WORKER_ID, ImmutableMap.of(blockId, 3));
+
+    Map<String, String> params = new HashMap<>();
+    params.put("limit", "10");
+    String result = new TestCase(mHostname, mPort,
+        getEndpoint(FileSystemMasterClientRestServiceHandler.GET_HOT_FILES), params,
+        HttpMethod.GET, null).call();
+    List<HotFileInfo> hotFiles =
+        new ObjectMapper().readValue(result, new TypeReference<List<HotFileInfo>>() {});
+    HotFileInfo hotFile = Iterables.getOnlyElement(hotFiles);
+    Assert.assertEquals(uri.getPath(), hotFile.getPath());
+    Assert.assertEquals(3, hotFile.getAccessCount());
+  }
+
   @Test
   public void listStatus() throws Exception {
     AlluxioURI uri = new AlluxioURI("/file");
@@ -64,10 +64,25 @@ public class OSSInputStream extends MultiRangeObjectInputStream {
    */
   OSSInputStream(String bucketName, String key, OSSClient client, long position)
       throws IOException {
+    this(bucketName, key, client, position, Long.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new instance of {@link OSSInputStream}.
+   *
+   * @param bucketName the name of the bucket
+   * @param key the key of the file
+   * @param client the client for OSS
+   * @param position the position to begin reading from
+   * @param length the number of bytes expected to be read, {@link Long#MAX_VALUE} if unknown
+   */
+  OSSInputStream(String bucketName, String key, OSSClient client, long position, long length)
+      throws IOException {
     mBucketName = bucketName;
     mKey = key;
     mOssClient = client;
     mPos = position;
+    setReadLength(length);
     ObjectMetadata meta = mOssClient.getObjectMetadata(mBucketName, key);
     mContentLength = meta == null ? 0 : meta.getContentLength();
   }
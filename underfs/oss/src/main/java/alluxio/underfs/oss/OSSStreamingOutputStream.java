@@ -0,0 +1,139 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs.oss;
+
+import alluxio.underfs.MultipartUploadOutputStream;
+import alluxio.underfs.UploadBufferPool;
+import alluxio.util.io.ByteBufferInputStream;
+
+import com.aliyun.oss.ClientException;
+import com.aliyun.oss.OSSClient;
+import com.aliyun.oss.ServiceException;
+import com.aliyun.oss.model.AbortMultipartUploadRequest;
+import com.aliyun.oss.model.CompleteMultipartUploadRequest;
+import com.aliyun.oss.model.InitiateMultipartUploadRequest;
+import com.aliyun.oss.model.ObjectMetadata;
+import com.aliyun.oss.model.PartETag;
+import com.aliyun.oss.model.UploadPartRequest;
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A stream for writing a file into OSS with a multipart upload. Unlike {@link OSSOutputStream},
+ * the data is not staged on the local disk: the parts are uploaded in parallel from memory
+ * buffers as soon as they are full.
+ */
+@NotThreadSafe
+public final class OSSStreamingOutputStream extends MultipartUploadOutputStream {
+  /** Bucket name of the Alluxio OSS bucket. */
+  private final String mBucketName;
+  /** The oss client for OSS operations. */
+  private final OSSClient mOssClient;
+  /** The tags of the uploaded parts, added concurrently by the part uploads. */
+  private final List<PartETag> mTags = Collections.synchronizedList(new ArrayList<PartETag>());
+
+  /** Id of the multipart upload, set when the upload is started. */
+  private String mUploadId;
+
+  /**
+   * Creates a name instance of {@link OSSStreamingOutputStream}.
+   *
+   * @param bucketName the name of the bucket
+   * @param key the key of the file
+   * @param client the client for OSS
+   * @param bufferPool the pool to take the buffers of the parts from
+   * @param buffer the buffer of the first part, already taken from the pool
+   * @param executor the executor to upload the parts with
+   */
+  public OSSStreamingOutputStream(String bucketName, String key, OSSClient client,
+      UploadBufferPool bufferPool, ByteBuffer buffer, ExecutorService executor) {
+    super(key, bufferPool, buffer, executor);
+    Preconditions.checkArgument(bucketName != null && !bucketName.isEmpty(),
+        "Bucket name must not be null or empty.");
+    Preconditions.checkArgument(client != null, "OSSClient must not be null.");
+    mBucketName = bucketName;
+    mOssClient = client;
+  }
+
+  @Override
+  protected void initMultipartUpload() throws IOException {
+    try {
+      mUploadId = mOssClient.initiateMultipartUpload(
+          new InitiateMultipartUploadRequest(mBucketName, mKey)).getUploadId();
+    } catch (ServiceException | ClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  protected void uploadPart(ByteBuffer data, int partNumber) throws IOException {
+    UploadPartRequest request = new UploadPartRequest();
+    request.setBucketName(mBucketName);
+    request.setKey(mKey);
+    request.setUploadId(mUploadId);
+    request.setPartNumber(partNumber);
+    request.setPartSize(data.remaining());
+    request.setInputStream(new ByteBufferInputStream(data));
+    try {
+      mTags.add(mOssClient.uploadPart(request).getPartETag());
+    } catch (ServiceException | ClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  protected void completeMultipartUpload() throws IOException {
+    List<PartETag> tags = new ArrayList<>(mTags);
+    Collections.sort(tags, new Comparator<PartETag>() {
+      @Override
+      public int compare(PartETag a, PartETag b) {
+        return Integer.compare(a.getPartNumber(), b.getPartNumber());
+      }
+    });
+    try {
+      mOssClient.completeMultipartUpload(
+          new CompleteMultipartUploadRequest(mBucketName, mKey, mUploadId, tags));
+    } catch (ServiceException | ClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  protected void abortMultipartUpload() throws IOException {
+    try {
+      mOssClient.abortMultipartUpload(
+          new AbortMultipartUploadRequest(mBucketName, mKey, mUploadId));
+    } catch (ServiceException | ClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  protected void putObject(ByteBuffer data) throws IOException {
+    ObjectMetadata objMeta = new ObjectMetadata();
+    objMeta.setContentLength(data.remaining());
+    try {
+      mOssClient.putObject(mBucketName, mKey, new ByteBufferInputStream(data), objMeta);
+    } catch (ServiceException | ClientException e) {
+      throw new IOException(e);
+    }
+  }
+}
@@ -23,8 +23,11 @@ import alluxio.util.UnderFileSystemUtils;
 import alluxio.util.io.PathUtils;
 
 import com.aliyun.oss.ClientConfiguration;
+import com.aliyun.oss.ClientException;
 import com.aliyun.oss.OSSClient;
 import com.aliyun.oss.ServiceException;
+import com.aliyun.oss.model.DeleteObjectsRequest;
+import com.aliyun.oss.model.DeleteObjectsResult;
 import com.aliyun.oss.model.ListObjectsRequest;
 import com.aliyun.oss.model.OSSObjectSummary;
 import com.aliyun.oss.model.ObjectListing;
@@ -37,6 +40,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -141,6 +145,12 @@ public class OSSUnderFileSystem extends ObjectUnderFileSystem {
 
   @Override
   protected OutputStream createObject(String key) throws IOException {
+    ByteBuffer buffer = mUploadBufferPool == null ? null : mUploadBufferPool.tryAcquire();
+    if (buffer != null) {
+      return new OSSStreamingOutputStream(mBucketName, key, mClient, mUploadBufferPool, buffer,
+          mExecutorService);
+    }
+    // Stage the file on the local disk when streaming is disabled or all the buffers are in use
     return new OSSOutputStream(mBucketName, key, mClient);
   }
 
@@ -155,6 +165,21 @@ public class OSSUnderFileSystem extends ObjectUnderFileSystem {
     return true;
   }
 
+  @Override
+  protected List<String> deleteObjects(List<String> keys) throws IOException {
+    Preconditions.checkArgument(keys != null && keys.size() <= getListingChunkLengthMax());
+    try {
+      DeleteObjectsRequest request = new DeleteObjectsRequest(mBucketName);
+      request.setKeys(keys);
+      // Quiet mode only reports the failed keys, so use verbose mode to get the deleted keys
+      request.setQuiet(false);
+      DeleteObjectsResult result = mClient.deleteObjects(request);
+      return result.getDeletedObjects();
+    } catch (ServiceException | ClientException e) {
+      throw new IOException(e);
+    }
+  }
+
   @Override
   protected String getFolderSuffix() {
     return FOLDER_SUFFIX;
@@ -281,7 +306,8 @@ public class OSSUnderFileSystem extends ObjectUnderFileSystem {
   @Override
   protected InputStream openObject(String key, OpenOptions options) throws IOException {
     try {
-      return new OSSInputStream(mBucketName, key, mClient, options.getOffset());
+      return new OSSInputStream(mBucketName, key, mClient, options.getOffset(),
+          options.getLength());
     } catch (ServiceException e) {
       throw new IOException(e.getMessage());
     }
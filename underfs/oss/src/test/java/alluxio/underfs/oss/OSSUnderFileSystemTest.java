@@ -17,14 +17,19 @@ import alluxio.underfs.options.DeleteOptions;
 
 import com.aliyun.oss.OSSClient;
 import com.aliyun.oss.ServiceException;
+import com.aliyun.oss.model.DeleteObjectsRequest;
+import com.aliyun.oss.model.DeleteObjectsResult;
 import com.aliyun.oss.model.ListObjectsRequest;
+import com.google.common.collect.Lists;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Unit tests for the {@link OSSUnderFileSystem}.
@@ -88,4 +93,22 @@ public class OSSUnderFileSystemTest {
     boolean result = mOSSUnderFileSystem.renameFile(SRC, DST);
     Assert.assertFalse(result);
   }
+
+  /**
+   * Test case for {@link OSSUnderFileSystem#deleteObjects(List)}.
+   */
+  @Test
+  public void deleteObjectsInBatch() throws IOException {
+    List<String> keys = Lists.newArrayList("a", "b", "c");
+    Mockito.when(mClient.deleteObjects(Matchers.any(DeleteObjectsRequest.class)))
+        .thenReturn(new DeleteObjectsResult(Lists.newArrayList("a", "c")));
+
+    List<String> deleted = mOSSUnderFileSystem.deleteObjects(keys);
+    Assert.assertEquals(Lists.newArrayList("a", "c"), deleted);
+    ArgumentCaptor<DeleteObjectsRequest> request =
+        ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+    Mockito.verify(mClient).deleteObjects(request.capture());
+    Assert.assertEquals(keys, request.getValue().getKeys());
+    Assert.assertFalse(request.getValue().isQuiet());
+  }
 }
@@ -11,19 +11,30 @@
 
 package alluxio.underfs.s3a;
 
+import alluxio.underfs.MultiRangeObjectInputStream;
+
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
- * A wrapper around an {@link S3ObjectInputStream} which handles skips efficiently.
+ * A stream for reading an object from S3 with ranged GET requests, see
+ * {@link MultiRangeObjectInputStream}.
  */
 @NotThreadSafe
-public class S3AInputStream extends InputStream {
+public class S3AInputStream extends MultiRangeObjectInputStream {
+  /** Status code returned by S3 for a range starting past the end of the object. */
+  private static final int RANGE_NOT_SATISFIABLE = 416;
+
   /** Client for operations with s3. */
   private final AmazonS3 mClient;
   /** Name of the bucket the object resides in. */
@@ -31,14 +42,9 @@ public class S3AInputStream extends InputStream {
   /** The path of the object to read. */
   private final String mKey;
 
-  /** The backing input stream from s3. */
-  private S3ObjectInputStream mIn;
-  /** The current position of the stream. */
-  private long mPos;
-
   /**
    * Constructor for an input stream of an object in s3 using the aws-sdk implementation to read
-   * the data. The stream will be positioned at the start of the file.
+   * the data.
    *
    * @param bucketName the bucket the object resides in
    * @param key the path of the object to read
@@ -50,7 +56,7 @@ public class S3AInputStream extends InputStream {
 
   /**
    * Constructor for an input stream of an object in s3 using the aws-sdk implementation to read
-   * the data. The stream will be positioned at the specified position.
+   * the data.
    *
    * @param bucketName the bucket the object resides in
    * @param key the path of the object to read
@@ -58,84 +64,97 @@ public class S3AInputStream extends InputStream {
    * @param position the position to begin reading from
    */
   public S3AInputStream(String bucketName, String key, AmazonS3 client, long position) {
+    this(bucketName, key, client, position, Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructor for an input stream of an object in s3 using the aws-sdk implementation to read
+   * the data.
+   *
+   * @param bucketName the bucket the object resides in
+   * @param key the path of the object to read
+   * @param client the s3 client to use for operations
+   * @param position the position to begin reading from
+   * @param length the number of bytes expected to be read, {@link Long#MAX_VALUE} if unknown
+   */
+  public S3AInputStream(String bucketName, String key, AmazonS3 client, long position,
+      long length) {
     mBucketName = bucketName;
     mKey = key;
     mClient = client;
     mPos = position;
+    setReadLength(length);
   }
 
   @Override
-  public void close() {
-    closeStream();
-  }
-
-  @Override
-  public int read() throws IOException {
-    if (mIn == null) {
-      openStream();
-    }
-    int value = mIn.read();
-    if (value != -1) { // valid data read
-      mPos++;
+  protected InputStream createStream(long startPos, long endPos) throws IOException {
+    GetObjectRequest getReq = new GetObjectRequest(mBucketName, mKey);
+    getReq.setRange(startPos, endPos - 1);
+    try {
+      return new RangeInputStream(mClient.getObject(getReq).getObjectContent(),
+          endPos - startPos);
+    } catch (AmazonS3Exception e) {
+      if (e.getStatusCode() == RANGE_NOT_SATISFIABLE) {
+        // Reading an empty object, or past the end of the object
+        return new ByteArrayInputStream(new byte[0]);
+      }
+      throw new IOException(e);
+    } catch (AmazonClientException e) {
+      throw new IOException(e);
     }
-    return value;
   }
 
-  @Override
-  public int read(byte[] b) throws IOException {
-    return read(b, 0, b.length);
-  }
+  /**
+   * The content of a ranged GET. Closing it before the end of the range aborts the request
+   * rather than draining the rest of the range.
+   */
+  private static final class RangeInputStream extends FilterInputStream {
+    private final S3ObjectInputStream mIn;
+    /** Bytes of the range not read yet, an upper bound if the object ends before the range. */
+    private long mRemaining;
 
-  @Override
-  public int read(byte[] b, int offset, int length) throws IOException {
-    if (length == 0) {
-      return 0;
-    }
-    if (mIn == null) {
-      openStream();
+    RangeInputStream(S3ObjectInputStream in, long length) {
+      super(in);
+      mIn = in;
+      mRemaining = length;
     }
-    int read = mIn.read(b, offset, length);
-    if (read != -1) {
-      mPos += read;
-    }
-    return read;
-  }
 
-  @Override
-  public long skip(long n) {
-    if (n <= 0) {
-      return 0;
+    @Override
+    public int read() throws IOException {
+      int value = mIn.read();
+      if (value == -1) {
+        mRemaining = 0;
+      } else {
+        mRemaining--;
+      }
+      return value;
     }
-    closeStream();
-    mPos += n;
-    openStream();
-    return n;
-  }
 
-  /**
-   * Opens a new stream at mPos if the wrapped stream mIn is null.
-   */
-  private void openStream() {
-    if (mIn != null) { // stream is already open
-      return;
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = mIn.read(b, off, len);
+      if (read == -1) {
+        mRemaining = 0;
+      } else {
+        mRemaining -= read;
+      }
+      return read;
     }
-    GetObjectRequest getReq = new GetObjectRequest(mBucketName, mKey);
-    // If the position is 0, setting range is redundant and causes an error if the file is 0 length
-    if (mPos > 0) {
-      getReq.setRange(mPos);
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = mIn.skip(n);
+      mRemaining -= skipped;
+      return skipped;
     }
-    mIn = mClient.getObject(getReq).getObjectContent();
-  }
 
-  /**
-   * Closes the current stream.
-   */
-  // TODO(calvin): Investigate if close instead of abort will bring performance benefits.
-  private void closeStream() {
-    if (mIn == null) {
-      return;
+    @Override
+    public void close() throws IOException {
+      if (mRemaining > 0) {
+        mIn.abort();
+      } else {
+        mIn.close();
+      }
     }
-    mIn.abort();
-    mIn = null;
   }
 }
@@ -0,0 +1,160 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs.s3a;
+
+import alluxio.Configuration;
+import alluxio.PropertyKey;
+import alluxio.underfs.MultipartUploadOutputStream;
+import alluxio.underfs.UploadBufferPool;
+import alluxio.util.io.ByteBufferInputStream;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.internal.Mimetypes;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.google.common.base.Preconditions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A stream for writing a file into S3 with a multipart upload. Unlike {@link S3AOutputStream},
+ * the data is not staged on the local disk: the parts are uploaded in parallel from memory
+ * buffers as soon as they are full.
+ */
+@NotThreadSafe
+public class S3AStreamingOutputStream extends MultipartUploadOutputStream {
+  private static final boolean SSE_ENABLED =
+      Configuration.getBoolean(PropertyKey.UNDERFS_S3A_SERVER_SIDE_ENCRYPTION_ENABLED);
+
+  /** Bucket name of the Alluxio S3 bucket. */
+  private final String mBucketName;
+  /** The S3 client to upload the file with. */
+  private final AmazonS3 mClient;
+  /** The tags of the uploaded parts, added concurrently by the part uploads. */
+  private final List<PartETag> mTags = Collections.synchronizedList(new ArrayList<PartETag>());
+
+  /** Id of the multipart upload, set when the upload is started. */
+  private String mUploadId;
+
+  /**
+   * Constructs a new stream for writing a file.
+   *
+   * @param bucketName the name of the bucket
+   * @param key the key of the file
+   * @param client the S3 client to upload the file with
+   * @param bufferPool the pool to take the buffers of the parts from
+   * @param buffer the buffer of the first part, already taken from the pool
+   * @param executor the executor to upload the parts with
+   */
+  public S3AStreamingOutputStream(String bucketName, String key, AmazonS3 client,
+      UploadBufferPool bufferPool, ByteBuffer buffer, ExecutorService executor) {
+    super(key, bufferPool, buffer, executor);
+    Preconditions.checkArgument(bucketName != null && !bucketName.isEmpty(), "Bucket name must "
+        + "not be null or empty.");
+    mBucketName = bucketName;
+    mClient = Preconditions.checkNotNull(client, "client");
+  }
+
+  @Override
+  protected void initMultipartUpload() throws IOException {
+    try {
+      mUploadId = mClient.initiateMultipartUpload(
+          new InitiateMultipartUploadRequest(mBucketName, mKey, createMetadata(-1)))
+          .getUploadId();
+    } catch (AmazonClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  protected void uploadPart(ByteBuffer data, int partNumber) throws IOException {
+    UploadPartRequest request = new UploadPartRequest()
+        .withBucketName(mBucketName)
+        .withKey(mKey)
+        .withUploadId(mUploadId)
+        .withPartNumber(partNumber)
+        .withPartSize(data.remaining())
+        .withInputStream(new ByteBufferInputStream(data));
+    try {
+      mTags.add(mClient.uploadPart(request).getPartETag());
+    } catch (AmazonClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  protected void completeMultipartUpload() throws IOException {
+    List<PartETag> tags = new ArrayList<>(mTags);
+    Collections.sort(tags, new Comparator<PartETag>() {
+      @Override
+      public int compare(PartETag a, PartETag b) {
+        return Integer.compare(a.getPartNumber(), b.getPartNumber());
+      }
+    });
+    try {
+      mClient.completeMultipartUpload(
+          new CompleteMultipartUploadRequest(mBucketName, mKey, mUploadId, tags));
+    } catch (AmazonClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  protected void abortMultipartUpload() throws IOException {
+    try {
+      mClient.abortMultipartUpload(new AbortMultipartUploadRequest(mBucketName, mKey, mUploadId));
+    } catch (AmazonClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  @Override
+  protected void putObject(ByteBuffer data) throws IOException {
+    try {
+      mClient.putObject(new PutObjectRequest(mBucketName, mKey,
+          new ByteBufferInputStream(data), createMetadata(data.remaining())));
+    } catch (AmazonClientException e) {
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * @param contentLength the length of the object, or a negative value if unknown
+   * @return the metadata of the object, encoded as octet stream since no assumptions are made
+   *         about the file type
+   */
+  private ObjectMetadata createMetadata(long contentLength) {
+    ObjectMetadata meta = new ObjectMetadata();
+    if (SSE_ENABLED) {
+      meta.setSSEAlgorithm(ObjectMetadata.AES_256_SERVER_SIDE_ENCRYPTION);
+    }
+    if (contentLength >= 0) {
+      meta.setContentLength(contentLength);
+    }
+    meta.setContentEncoding(Mimetypes.MIMETYPE_OCTET_STREAM);
+    return meta;
+  }
+}
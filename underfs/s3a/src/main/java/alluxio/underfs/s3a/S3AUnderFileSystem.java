@@ -42,6 +42,7 @@ import com.amazonaws.services.s3.model.DeleteObjectsResult;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
 import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.Owner;
@@ -61,6 +62,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
@@ -291,6 +293,12 @@ public class S3AUnderFileSystem extends ObjectUnderFileSystem {
 
   @Override
   protected OutputStream createObject(String key) throws IOException {
+    ByteBuffer buffer = mUploadBufferPool == null ? null : mUploadBufferPool.tryAcquire();
+    if (buffer != null) {
+      return new S3AStreamingOutputStream(mBucketName, key, mClient, mUploadBufferPool, buffer,
+          mExecutorService);
+    }
+    // Stage the file on the local disk when streaming is disabled or all the buffers are in use
     return new S3AOutputStream(mBucketName, key, mManager);
   }
 
@@ -321,6 +329,16 @@ public class S3AUnderFileSystem extends ObjectUnderFileSystem {
         deletedObjects.add(deletedObject.getKey());
       }
       return deletedObjects;
+    } catch (MultiObjectDeleteException e) {
+      // Part of the batch failed, report only the keys which were deleted so that the caller
+      // sees the failed ones as not deleted
+      List<String> deletedObjects = new ArrayList<>();
+      for (DeleteObjectsResult.DeletedObject deletedObject : e.getDeletedObjects()) {
+        deletedObjects.add(deletedObject.getKey());
+      }
+      LOG.warn("Failed to delete {} of {} objects, first error: {}", e.getErrors().size(),
+          keys.size(), e.getErrors().isEmpty() ? "" : e.getErrors().get(0).getMessage());
+      return deletedObjects;
     } catch (AmazonClientException e) {
       throw new IOException(e);
     }
@@ -538,7 +556,8 @@ public class S3AUnderFileSystem extends ObjectUnderFileSystem {
   @Override
   protected InputStream openObject(String key, OpenOptions options) throws IOException {
     try {
-      return new S3AInputStream(mBucketName, key, mClient, options.getOffset());
+      return new S3AInputStream(mBucketName, key, mClient, options.getOffset(),
+          options.getLength());
     } catch (AmazonClientException e) {
       throw new IOException(e);
     }
@@ -0,0 +1,94 @@
+/*
+ * The Alluxio Open Foundation licenses this work under the Apache License, version 2.0
+ * (the "License"). You may not use this work except in compliance with the License, which is
+ * available at www.apache.org/licenses/LICENSE-2.0
+ *
+ * This software is distributed on an "AS IS" basis, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied, as more fully set forth in the License.
+ *
+ * See the NOTICE file distributed with this work for information regarding copyright ownership.
+ */
+
+package alluxio.underfs.s3a;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Unit tests for the {@link S3AInputStream}.
+ */
+public class S3AInputStreamTest {
+  private static final String BUCKET_NAME = "testBucket";
+  private static final String OBJECT_KEY = "testObjectKey";
+  private static final byte[] INPUT = new byte[] {1, 2, 3, 4, 5};
+
+  private AmazonS3 mClient;
+
+  @Before
+  public void before() {
+    mClient = mock(AmazonS3.class);
+    when(mClient.getObject(Mockito.any(GetObjectRequest.class))).thenAnswer(
+        new Answer<S3Object>() {
+          @Override
+          public S3Object answer(InvocationOnMock invocation) {
+            long[] range = ((GetObjectRequest) invocation.getArguments()[0]).getRange();
+            int end = (int) Math.min(range[1] + 1, INPUT.length);
+            S3Object object = new S3Object();
+            object.setObjectContent(new S3ObjectInputStream(
+                new ByteArrayInputStream(Arrays.copyOfRange(INPUT, (int) range[0], end)), null));
+            return object;
+          }
+        });
+  }
+
+  @Test
+  public void readByteArray() throws IOException {
+    try (S3AInputStream stream = new S3AInputStream(BUCKET_NAME, OBJECT_KEY, mClient)) {
+      byte[] bytes = new byte[INPUT.length];
+      assertEquals(INPUT.length, stream.read(bytes, 0, INPUT.length));
+      assertArrayEquals(INPUT, bytes);
+      assertEquals(-1, stream.read());
+    }
+  }
+
+  @Test
+  public void skip() throws IOException {
+    try (S3AInputStream stream = new S3AInputStream(BUCKET_NAME, OBJECT_KEY, mClient)) {
+      assertEquals(1, stream.read());
+      assertEquals(2, stream.skip(2));
+      assertEquals(4, stream.read());
+      assertEquals(5, stream.read());
+    }
+  }
+
+  /**
+   * Tests that a stream opened with a read length only requests that range from S3.
+   */
+  @Test
+  public void rangedRead() throws IOException {
+    try (S3AInputStream stream = new S3AInputStream(BUCKET_NAME, OBJECT_KEY, mClient, 1, 2)) {
+      assertEquals(2, stream.read());
+      assertEquals(3, stream.read());
+    }
+    ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+    Mockito.verify(mClient).getObject(captor.capture());
+    assertArrayEquals(new long[] {1, 2}, captor.getValue().getRange());
+  }
+}
@@ -15,8 +15,10 @@ import alluxio.AlluxioURI;
 import alluxio.ConfigurationRule;
 import alluxio.PropertyKey;
 import alluxio.underfs.ObjectUnderFileSystem;
+import alluxio.underfs.UfsStatus;
 import alluxio.underfs.UnderFileSystemConfiguration;
 import alluxio.underfs.options.DeleteOptions;
+import alluxio.underfs.options.ListOptions;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
@@ -26,8 +28,12 @@ import com.amazonaws.internal.StaticCredentialsProvider;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.AccessControlList;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.Owner;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -38,8 +44,13 @@ import org.mockito.Mockito;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Unit tests for the {@link S3AUnderFileSystem}.
@@ -157,4 +168,73 @@ public class S3AUnderFileSystemTest {
     Assert.assertEquals(DEFAULT_OWNER, permissions.getOwner());
     Assert.assertEquals(DEFAULT_MODE, permissions.getMode());
   }
+
+  /**
+   * Tests that a parallel recursive listing descends into all the pseudo-directories.
+   */
+  @Test
+  public void listRecursiveInParallel() throws IOException {
+    Map<String, String> conf = new HashMap<>();
+    conf.put(PropertyKey.UNDERFS_OBJECT_STORE_LIST_PARALLEL_ENABLED.toString(), "true");
+    mS3UnderFileSystem = new S3AUnderFileSystem(new AlluxioURI(""), mClient, BUCKET_NAME,
+        mManager, UnderFileSystemConfiguration.defaults().setUserSpecifiedConf(conf));
+    Mockito.when(mClient.getS3AccountOwner()).thenReturn(new Owner("0", "owner"));
+    Mockito.when(mClient.getBucketAcl(Matchers.anyString())).thenReturn(new AccessControlList());
+    final Map<String, ListObjectsV2Result> listings = new HashMap<>();
+    listings.put("dir/", listing(new String[] {"dir/f"}, new String[] {"dir/a/", "dir/b/"}));
+    listings.put("dir/a/", listing(new String[] {"dir/a/1"}, new String[] {"dir/a/c/"}));
+    listings.put("dir/a/c/", listing(new String[] {"dir/a/c/2"}, new String[0]));
+    listings.put("dir/b/", listing(new String[] {"dir/b/3"}, new String[0]));
+    Mockito.when(mClient.listObjectsV2(Matchers.any(ListObjectsV2Request.class)))
+        .thenAnswer(invocation -> {
+          ListObjectsV2Request request = (ListObjectsV2Request) invocation.getArguments()[0];
+          Assert.assertEquals("/", request.getDelimiter());
+          return listings.get(request.getPrefix());
+        });
+
+    UfsStatus[] statuses = mS3UnderFileSystem.listStatus("s3a://" + BUCKET_NAME + "/dir",
+        ListOptions.defaults().setRecursive(true));
+    Set<String> names = new HashSet<>();
+    for (UfsStatus status : statuses) {
+      names.add(status.getName() + (status.isDirectory() ? "/" : ""));
+    }
+    Assert.assertEquals(
+        new HashSet<>(Arrays.asList("f", "a/", "a/1", "a/c/", "a/c/2", "b/", "b/3")), names);
+  }
+
+  private static ListObjectsV2Result listing(String[] keys, String[] commonPrefixes) {
+    ListObjectsV2Result result = new ListObjectsV2Result();
+    for (String key : keys) {
+      S3ObjectSummary summary = new S3ObjectSummary();
+      summary.setKey(key);
+      summary.setLastModified(new Date());
+      result.getObjectSummaries().add(summary);
+    }
+    result.setCommonPrefixes(Arrays.asList(commonPrefixes));
+    return result;
+  }
+
+  /**
+   * Tests that files are staged on the local disk while all the streaming upload buffers are held
+   * by open streams, rather than blocking the creation of the file.
+   */
+  @Test
+  public void createObjectWithExhaustedUploadBuffers() throws Exception {
+    Map<String, String> conf = new HashMap<>();
+    conf.put(PropertyKey.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_ENABLED.toString(), "true");
+    conf.put(PropertyKey.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_PART_SIZE.toString(), "1KB");
+    conf.put(PropertyKey.UNDERFS_OBJECT_STORE_STREAMING_UPLOAD_MEMORY_MAX.toString(), "1KB");
+    S3AUnderFileSystem ufs = new S3AUnderFileSystem(new AlluxioURI(""), mClient, BUCKET_NAME,
+        mManager, UnderFileSystemConfiguration.defaults().setUserSpecifiedConf(conf));
+    Mockito.when(mManager.upload(Matchers.any(PutObjectRequest.class)))
+        .thenReturn(Mockito.mock(Upload.class));
+
+    OutputStream streaming = ufs.createObject(SRC);
+    Assert.assertTrue(streaming instanceof S3AStreamingOutputStream);
+    OutputStream staged = ufs.createObject(DST);
+    Assert.assertTrue(staged instanceof S3AOutputStream);
+    staged.close();
+    streaming.close();
+    Assert.assertTrue(ufs.createObject(DST) instanceof S3AStreamingOutputStream);
+  }
 }
@@ -57,10 +57,25 @@ public class SwiftInputStream extends MultiRangeObjectInputStream {
    * @param position the position to begin reading from
    */
   public SwiftInputStream(Account account, String container, String object, long position) {
+    this(account, container, object, position, Long.MAX_VALUE);
+  }
+
+  /**
+   * Constructor for an input stream to an object in a Swift API based store.
+   *
+   * @param account JOSS account with authentication credentials
+   * @param container the name of container where the object resides
+   * @param object path of the object in the container
+   * @param position the position to begin reading from
+   * @param length the number of bytes expected to be read, {@link Long#MAX_VALUE} if unknown
+   */
+  public SwiftInputStream(Account account, String container, String object, long position,
+      long length) {
     mAccount = account;
     mContainerName = container;
     mObjectPath = object;
     mPos = position;
+    setReadLength(length);
   }
 
   @Override
@@ -364,6 +364,7 @@ public class SwiftUnderFileSystem extends ObjectUnderFileSystem {
 
   @Override
   protected InputStream openObject(String key, OpenOptions options) throws IOException {
-    return new SwiftInputStream(mAccount, mContainerName, key, options.getOffset());
+    return new SwiftInputStream(mAccount, mContainerName, key, options.getOffset(),
+        options.getLength());
   }
 }